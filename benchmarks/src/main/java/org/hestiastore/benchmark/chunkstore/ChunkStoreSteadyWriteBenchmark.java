@@ -98,7 +98,7 @@ public class ChunkStoreSteadyWriteBenchmark {
      * @return start position of written chunk
      */
     @Benchmark
-    public int writeChunkSteadyState() {
+    public long writeChunkSteadyState() {
         return writer.writeSequence(payload, VERSION).getValue();
     }
 
@@ -101,7 +101,7 @@ public class ChunkStoreWriteBenchmark {
      * @return start position of written chunk
      */
     @Benchmark
-    public int writeChunkTxPerInvocation() {
+    public long writeChunkTxPerInvocation() {
         return writer.writeSequence(payload, VERSION).getValue();
     }
 }
@@ -9,6 +9,7 @@ import org.hestiastore.index.datatype.TypeDescriptorLong;
 import org.hestiastore.index.datatype.TypeDescriptorString;
 import org.hestiastore.index.directory.Directory;
 import org.hestiastore.index.directory.FsDirectory;
+import org.hestiastore.index.directory.FsNioDirectory;
 import org.hestiastore.index.unsorteddatafile.UnsortedDataFile;
 import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Param;
@@ -26,6 +27,14 @@ public abstract class AbstractDiskIoBenchmark {
     @Param({ "1024", "4096", "32768" })
     protected int diskIoBufferSizeBytes;
 
+    /**
+     * Filesystem directory implementation under test: {@code fs} uses
+     * buffered java.io streams, {@code nio} uses file channels with pooled
+     * direct buffers and {@code nio-heap} the same with pooled heap buffers.
+     */
+    @Param({ "fs", "nio", "nio-heap" })
+    protected String directoryType;
+
     protected Directory directory;
     protected UnsortedDataFile<String, Long> testFile;
 
@@ -34,7 +43,7 @@ public abstract class AbstractDiskIoBenchmark {
     @Setup(Level.Trial)
     public final void setUpBenchmark() throws IOException {
         tempDir = BenchmarkFileSupport.createTempDir(tempDirPrefix());
-        directory = new FsDirectory(tempDir);
+        directory = createDirectory(tempDir);
         testFile = buildDataFile(fileName(), diskIoBufferSizeBytes);
         prepareBenchmarkData();
     }
@@ -51,6 +60,16 @@ public abstract class AbstractDiskIoBenchmark {
 
     protected abstract String tempDirPrefix();
 
+    private Directory createDirectory(final File dir) {
+        return switch (directoryType) {
+        case "fs" -> new FsDirectory(dir);
+        case "nio" -> new FsNioDirectory(dir, true);
+        case "nio-heap" -> new FsNioDirectory(dir, false);
+        default -> throw new IllegalArgumentException(
+                "Unknown directoryType: " + directoryType);
+        };
+    }
+
     protected abstract String fileName();
 
     protected void prepareBenchmarkData() {
@@ -51,7 +51,11 @@ class BenchmarkProfileContractTest {
             "diskio-sequential-write-32k",
             "diskio-sequential-read-1k",
             "diskio-sequential-read-4k",
-            "diskio-sequential-read-32k");
+            "diskio-sequential-read-32k",
+            "diskio-nio-sequential-write-4k",
+            "diskio-nio-sequential-write-32k",
+            "diskio-nio-sequential-read-4k",
+            "diskio-nio-sequential-read-32k");
 
     @Test
     void allBenchmarkProfilesUseUniqueLabelsAndResolvableBenchmarkClasses()
@@ -199,22 +203,44 @@ class BenchmarkProfileContractTest {
 
         assertEntry(byLabel.get("diskio-sequential-write-1k"),
                 "org.hestiastore.benchmark.diskio.write.sequential.SequentialFileWritingBenchmark",
-                Map.of("diskIoBufferSizeBytes", "1024"));
+                Map.of("diskIoBufferSizeBytes", "1024",
+                        "directoryType", "fs"));
         assertEntry(byLabel.get("diskio-sequential-write-4k"),
                 "org.hestiastore.benchmark.diskio.write.sequential.SequentialFileWritingBenchmark",
-                Map.of("diskIoBufferSizeBytes", "4096"));
+                Map.of("diskIoBufferSizeBytes", "4096",
+                        "directoryType", "fs"));
         assertEntry(byLabel.get("diskio-sequential-write-32k"),
                 "org.hestiastore.benchmark.diskio.write.sequential.SequentialFileWritingBenchmark",
-                Map.of("diskIoBufferSizeBytes", "32768"));
+                Map.of("diskIoBufferSizeBytes", "32768",
+                        "directoryType", "fs"));
         assertEntry(byLabel.get("diskio-sequential-read-1k"),
                 "org.hestiastore.benchmark.diskio.read.sequential.SequentialFileReadingBenchmark",
-                Map.of("diskIoBufferSizeBytes", "1024"));
+                Map.of("diskIoBufferSizeBytes", "1024",
+                        "directoryType", "fs"));
         assertEntry(byLabel.get("diskio-sequential-read-4k"),
                 "org.hestiastore.benchmark.diskio.read.sequential.SequentialFileReadingBenchmark",
-                Map.of("diskIoBufferSizeBytes", "4096"));
+                Map.of("diskIoBufferSizeBytes", "4096",
+                        "directoryType", "fs"));
         assertEntry(byLabel.get("diskio-sequential-read-32k"),
                 "org.hestiastore.benchmark.diskio.read.sequential.SequentialFileReadingBenchmark",
-                Map.of("diskIoBufferSizeBytes", "32768"));
+                Map.of("diskIoBufferSizeBytes", "32768",
+                        "directoryType", "fs"));
+        assertEntry(byLabel.get("diskio-nio-sequential-write-4k"),
+                "org.hestiastore.benchmark.diskio.write.sequential.SequentialFileWritingBenchmark",
+                Map.of("diskIoBufferSizeBytes", "4096",
+                        "directoryType", "nio"));
+        assertEntry(byLabel.get("diskio-nio-sequential-write-32k"),
+                "org.hestiastore.benchmark.diskio.write.sequential.SequentialFileWritingBenchmark",
+                Map.of("diskIoBufferSizeBytes", "32768",
+                        "directoryType", "nio"));
+        assertEntry(byLabel.get("diskio-nio-sequential-read-4k"),
+                "org.hestiastore.benchmark.diskio.read.sequential.SequentialFileReadingBenchmark",
+                Map.of("diskIoBufferSizeBytes", "4096",
+                        "directoryType", "nio"));
+        assertEntry(byLabel.get("diskio-nio-sequential-read-32k"),
+                "org.hestiastore.benchmark.diskio.read.sequential.SequentialFileReadingBenchmark",
+                Map.of("diskIoBufferSizeBytes", "32768",
+                        "directoryType", "nio"));
     }
 
     private void assertEntry(final BenchmarkEntry entry, final String include,
@@ -1,19 +1,62 @@
 package org.hestiastore.index.bloomfilter;
 
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 
 import org.hestiastore.index.Vldtn;
 
+/**
+ * Fixed size array of bits backed either by a heap byte array or by a
+ * read-only buffer, typically a memory-mapped file.
+ */
 public class BitArray {
 
     private final byte[] byteArray;
 
+    /**
+     * Read-only backing used instead of {@link #byteArray}, {@code null} for
+     * heap arrays.
+     */
+    private final ByteBuffer buffer;
+
+    private final int length;
+
     public BitArray(final int length) {
-        byteArray = new byte[length];
+        this(new byte[length]);
     }
 
     public BitArray(final byte[] data) {
         byteArray = Vldtn.requireNonNull(data, "data");
+        buffer = null;
+        length = data.length;
+    }
+
+    private BitArray(final ByteBuffer buffer) {
+        this.byteArray = null;
+        this.buffer = buffer;
+        this.length = buffer.capacity();
+    }
+
+    /**
+     * Creates a read-only bit array over the remaining bytes of the buffer.
+     * The buffer content is not copied, so a memory-mapped buffer keeps the
+     * bits off heap.
+     *
+     * @param buffer buffer with the bits, position and limit select the bytes
+     * @return read-only bit array
+     */
+    public static BitArray readOnly(final ByteBuffer buffer) {
+        return new BitArray(Vldtn.requireNonNull(buffer, "buffer").slice()
+                .asReadOnlyBuffer());
+    }
+
+    /**
+     * Returns whether the bits are backed by a read-only buffer.
+     *
+     * @return true for arrays created by {@link #readOnly(ByteBuffer)}
+     */
+    public boolean isReadOnly() {
+        return buffer != null;
     }
 
     /**
@@ -24,9 +67,10 @@ public class BitArray {
      * @throws IndexOutOfBoundsException if the index is out of bounds
      */
     public boolean setBit(final int index) {
-        if (index < 0 || index >= byteArray.length * 8) {
+        if (index < 0 || index >= length * 8) {
             throw new IndexOutOfBoundsException("Invalid index");
         }
+        requireWritable();
 
         int byteIndex = index / 8;
         int bitIndex = index % 8;
@@ -43,25 +87,89 @@ public class BitArray {
 
     }
 
+    /**
+     * Sets the bit at the specified long index to 1. Long indexes address
+     * arrays larger than {@code Integer.MAX_VALUE} bits.
+     *
+     * @param index the index of the bit to set
+     * @return true if the bit was changed, false if it was already set
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    public boolean setBit(final long index) {
+        if (index < 0 || index >= bitLength()) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+        requireWritable();
+        final int byteIndex = (int) (index >>> 3);
+        final int mask = 1 << (int) (index & 7);
+        final int oldValue = byteArray[byteIndex] & 0xff;
+        if ((oldValue & mask) != 0) {
+            return false;
+        }
+        byteArray[byteIndex] = (byte) (oldValue | mask);
+        return true;
+    }
+
+    /**
+     * Returns the bit at the specified long index.
+     *
+     * @param index the index of the bit
+     * @return true when the bit is set
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    public boolean get(final long index) {
+        if (index < 0 || index >= bitLength()) {
+            throw new IndexOutOfBoundsException("Invalid index");
+        }
+        return (byteAt((int) (index >>> 3)) & (1 << (int) (index & 7))) != 0;
+    }
+
+    /**
+     * Returns the number of bits without int overflow.
+     *
+     * @return bit count
+     */
+    public long bitLength() {
+        return (long) length * 8;
+    }
+
+    /**
+     * Returns the backing heap array.
+     *
+     * @return bits as bytes
+     * @throws UnsupportedOperationException when the array is read-only
+     */
     public byte[] getByteArray() {
+        requireWritable();
         return byteArray;
     }
 
     public boolean get(final int index) {
-        if (index < 0 || index >= byteArray.length * 8) {
+        if (index < 0 || index >= length * 8) {
             throw new IndexOutOfBoundsException("Invalid index");
         }
 
         int byteIndex = index / 8;
         int bitIndex = index % 8;
 
-        int b = byteArray[byteIndex] & 0xff; // Convert byte to unsigned int
+        int b = byteAt(byteIndex) & 0xff; // Convert byte to unsigned int
 
         return (b & (1 << bitIndex)) != 0;
     }
 
     public int bitSize() {
-        return byteArray.length * 8;
+        return length * 8;
+    }
+
+    private byte byteAt(final int byteIndex) {
+        return byteArray == null ? buffer.get(byteIndex) : byteArray[byteIndex];
+    }
+
+    private void requireWritable() {
+        if (byteArray == null) {
+            throw new UnsupportedOperationException(
+                    "Bit array backed by a read-only buffer can't be changed.");
+        }
     }
 
     @Override
@@ -71,11 +179,26 @@ public class BitArray {
         if (!(other instanceof BitArray))
             return false;
         BitArray that = (BitArray) other;
-        return Arrays.equals(byteArray, that.byteArray);
+        if (byteArray != null && that.byteArray != null) {
+            return Arrays.equals(byteArray, that.byteArray);
+        }
+        return asBuffer().equals(that.asBuffer());
     }
 
     @Override
     public int hashCode() {
-        return Arrays.hashCode(byteArray);
+        return byteArray == null ? Arrays.hashCode(toBytes())
+                : Arrays.hashCode(byteArray);
+    }
+
+    private ByteBuffer asBuffer() {
+        return byteArray == null ? buffer.duplicate().clear()
+                : ByteBuffer.wrap(byteArray);
+    }
+
+    private byte[] toBytes() {
+        final byte[] bytes = new byte[length];
+        buffer.duplicate().clear().get(bytes);
+        return bytes;
     }
 }
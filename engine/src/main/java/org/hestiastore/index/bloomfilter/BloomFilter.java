@@ -55,6 +55,15 @@ public interface BloomFilter<K> extends CloseableResource {
      */
     long getIndexSizeInBytes();
 
+    /**
+     * Tell whether newly written filters are sized by their key count.
+     *
+     * @return true when written filters are auto-sized
+     */
+    default boolean isAutoSized() {
+        return false;
+    }
+
     /**
      * Replace the internal hash state after write operations complete.
      *
@@ -58,6 +58,11 @@ public class BloomFilterBuilder<K> {
     private double probabilityOfFalsePositive = DEFAULT_PROBABILITY_OF_FALSE_POSITIVE;
     private String relatedObjectName;
     private int diskIoBufferSize = DEFAULT_DISK_IO_BUFFER_SIZE;
+    private boolean blocked = false;
+
+    private boolean memoryMapped = false;
+
+    private boolean autoSized = false;
 
     BloomFilterBuilder() {
 
@@ -192,6 +197,47 @@ public class BloomFilterBuilder<K> {
         return this;
     }
 
+    /**
+     * Selects the cache-line blocked layout for newly written filters. Every
+     * probe of a key falls into one 64-byte block, so a negative lookup costs
+     * a single cache miss. Existing files are read in the layout they were
+     * written with.
+     *
+     * @param blocked true to write blocked filters
+     * @return this builder
+     */
+    public BloomFilterBuilder<K> withBlocked(final boolean blocked) {
+        this.blocked = blocked;
+        return this;
+    }
+
+    /**
+     * Maps the filter file read-only instead of loading the bits into the
+     * heap. Opening a filter no longer reads the whole file and the bits
+     * don't count against the heap. Directories that can't map files fall
+     * back to loading.
+     *
+     * @param memoryMapped true to map filter files
+     * @return this builder
+     */
+    public BloomFilterBuilder<K> withMemoryMapped(final boolean memoryMapped) {
+        this.memoryMapped = memoryMapped;
+        return this;
+    }
+
+    /**
+     * Sizes every newly written filter for the exact number of keys written
+     * and the configured probability of false positives. The index size and
+     * hash function count then describe only the already stored file.
+     *
+     * @param autoSized true to size new filters by their key count
+     * @return this builder
+     */
+    public BloomFilterBuilder<K> withAutoSized(final boolean autoSized) {
+        this.autoSized = autoSized;
+        return this;
+    }
+
     /**
      * Builds the bloom filter instance.
      *
@@ -215,6 +261,10 @@ public class BloomFilterBuilder<K> {
             throw new IllegalStateException(
                     "Probability of false positive must be less than one or equal to one.");
         }
+        if (autoSized && probabilityOfFalsePositive >= 1) {
+            throw new IllegalStateException(
+                    "Probability of false positive must be less than one for auto-sized filters.");
+        }
         if (indexSizeInBytes == UNSET_INDEX_SIZE_IN_BYTES) {
             indexSizeInBytes = -(int) (numberOfKeys
                     * Math.log(probabilityOfFalsePositive)
@@ -230,7 +280,11 @@ public class BloomFilterBuilder<K> {
         }
         return new BloomFilterImpl<>(directoryFacade, bloomFilterFileName,
                 numberOfHashFunctions, indexSizeInBytes, convertorToBytes,
-                relatedObjectName, diskIoBufferSize);
+                relatedObjectName, diskIoBufferSize,
+                blocked ? BloomFilterFormat.BLOCKED
+                        : BloomFilterFormat.STANDARD,
+                memoryMapped, autoSized && indexSizeInBytes > 0,
+                probabilityOfFalsePositive);
     }
 
 }
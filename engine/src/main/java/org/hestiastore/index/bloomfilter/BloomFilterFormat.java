@@ -0,0 +1,160 @@
+package org.hestiastore.index.bloomfilter;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * On-disk layouts of a Bloom filter file.
+ * <p>
+ * A {@link #STANDARD} file holds only the bit array. A {@link #BLOCKED} file
+ * holds the bit array followed by an 8-byte trailer: a 7-byte magic and one
+ * format byte. Standard files end exactly after the bit array, so the trailer
+ * can be detected without ambiguity and existing files keep working.
+ * <p>
+ * Auto-sized filters are self-describing: the bit array is followed by the
+ * index size and the hash function count as two big-endian ints and by the
+ * trailer with the sized flag set in the format byte. Such files are read
+ * from their end, whatever size the reader is configured with.
+ */
+enum BloomFilterFormat {
+
+    /**
+     * Probes spread over the whole bit array, positions from two 32-bit
+     * MurmurHash3 values.
+     */
+    STANDARD,
+
+    /**
+     * All probes of a key fall into one 64-byte block, positions from one
+     * 64-bit MurmurHash3 value.
+     */
+    BLOCKED;
+
+    static final int TRAILER_BYTES = 8;
+
+    /**
+     * Index size and hash function count stored before the trailer of a
+     * self-describing file.
+     */
+    static final int PARAMETERS_BYTES = 8;
+
+    private static final byte STANDARD_FORMAT_BYTE = 0;
+
+    private static final byte BLOCKED_FORMAT_BYTE = 1;
+
+    private static final byte SIZED_FLAG = 2;
+
+    private static final byte[] MAGIC = { 'H', 'S', 'B', 'L', 'O', 'O', 'M' };
+
+    /**
+     * Returns the trailer appended after the bit array.
+     *
+     * @return trailer bytes, empty for {@link #STANDARD}
+     */
+    byte[] trailer() {
+        if (this == STANDARD) {
+            return new byte[0];
+        }
+        final byte[] trailer = Arrays.copyOf(MAGIC, TRAILER_BYTES);
+        trailer[TRAILER_BYTES - 1] = BLOCKED_FORMAT_BYTE;
+        return trailer;
+    }
+
+    /**
+     * Returns the parameters and trailer of a self-describing file.
+     *
+     * @param indexSizeInBytes      size of the bit array
+     * @param numberOfHashFunctions hash function count
+     * @return bytes appended after the bit array
+     */
+    byte[] sizedTrailer(final int indexSizeInBytes,
+            final int numberOfHashFunctions) {
+        return ByteBuffer.allocate(PARAMETERS_BYTES + TRAILER_BYTES)
+                .putInt(indexSizeInBytes).putInt(numberOfHashFunctions)
+                .put(MAGIC).put((byte) (formatByte() | SIZED_FLAG)).array();
+    }
+
+    /**
+     * Detects a self-describing file by its last bytes.
+     *
+     * @param file whole file content, limit at the end of file
+     * @return format of a self-describing file, empty otherwise
+     */
+    static Optional<BloomFilterFormat> fromSizedTrailer(
+            final ByteBuffer file) {
+        final int fileSize = file.limit();
+        if (fileSize < PARAMETERS_BYTES + TRAILER_BYTES) {
+            return Optional.empty();
+        }
+        final int trailerStart = fileSize - TRAILER_BYTES;
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (file.get(trailerStart + i) != MAGIC[i]) {
+                return Optional.empty();
+            }
+        }
+        final byte formatByte = file.get(fileSize - 1);
+        for (final BloomFilterFormat format : values()) {
+            if (formatByte == (format.formatByte() | SIZED_FLAG)) {
+                return Optional.of(format);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Reads the index size stored in a self-describing file.
+     *
+     * @param file whole file content, limit at the end of file
+     * @return size of the bit array in bytes
+     */
+    static int readIndexSizeInBytes(final ByteBuffer file) {
+        return readParameter(file, 0);
+    }
+
+    /**
+     * Reads the hash function count stored in a self-describing file.
+     *
+     * @param file whole file content, limit at the end of file
+     * @return hash function count
+     */
+    static int readNumberOfHashFunctions(final ByteBuffer file) {
+        return readParameter(file, Integer.BYTES);
+    }
+
+    private static int readParameter(final ByteBuffer file,
+            final int offset) {
+        return file.duplicate().order(ByteOrder.BIG_ENDIAN).getInt(
+                file.limit() - TRAILER_BYTES - PARAMETERS_BYTES + offset);
+    }
+
+    private byte formatByte() {
+        return this == BLOCKED ? BLOCKED_FORMAT_BYTE : STANDARD_FORMAT_BYTE;
+    }
+
+    /**
+     * Resolves the format from the bytes read after the bit array.
+     *
+     * @param trailer   buffer with the bytes following the bit array
+     * @param readBytes number of bytes read into the buffer, {@code -1} or
+     *                  {@code 0} at end of file
+     * @param fileName  file name used in error messages
+     * @return detected format
+     */
+    static BloomFilterFormat fromTrailer(final byte[] trailer,
+            final int readBytes, final String fileName) {
+        if (readBytes <= 0) {
+            return STANDARD;
+        }
+        if (readBytes == TRAILER_BYTES
+                && Arrays.equals(MAGIC, 0, MAGIC.length, trailer, 0,
+                        MAGIC.length)
+                && trailer[TRAILER_BYTES - 1] == BLOCKED_FORMAT_BYTE) {
+            return BLOCKED;
+        }
+        throw new IllegalStateException(String.format(
+                "Bloom filter file '%s' has an unknown format trailer.",
+                fileName));
+    }
+}
@@ -1,5 +1,9 @@
 package org.hestiastore.index.bloomfilter;
 
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Optional;
+
 import org.hestiastore.index.AbstractCloseableResource;
 import org.hestiastore.index.Vldtn;
 import org.hestiastore.index.datatype.EncodedBytes;
@@ -29,6 +33,14 @@ final class BloomFilterImpl<K> extends AbstractCloseableResource
 
     private final int indexSizeInBytes;
 
+    private final BloomFilterFormat writeFormat;
+
+    private final boolean memoryMapped;
+
+    private final boolean autoSized;
+
+    private final double probabilityOfFalsePositive;
+
     private Hash hash;
 
     private final int diskIoBufferSize;
@@ -41,6 +53,48 @@ final class BloomFilterImpl<K> extends AbstractCloseableResource
             final int numberOfHashFunctions, final int indexSizeInBytes,
             final TypeEncoder<K> convertorToBytes,
             final String relatedObjectName, final int diskIoBufferSize) {
+        this(directoryFacade, bloomFilterFileName, numberOfHashFunctions,
+                indexSizeInBytes, convertorToBytes, relatedObjectName,
+                diskIoBufferSize, BloomFilterFormat.STANDARD);
+    }
+
+    BloomFilterImpl(final Directory directoryFacade,
+            final String bloomFilterFileName,
+            final int numberOfHashFunctions, final int indexSizeInBytes,
+            final TypeEncoder<K> convertorToBytes,
+            final String relatedObjectName, final int diskIoBufferSize,
+            final BloomFilterFormat writeFormat) {
+        this(directoryFacade, bloomFilterFileName, numberOfHashFunctions,
+                indexSizeInBytes, convertorToBytes, relatedObjectName,
+                diskIoBufferSize, writeFormat, false);
+    }
+
+    BloomFilterImpl(final Directory directoryFacade,
+            final String bloomFilterFileName,
+            final int numberOfHashFunctions, final int indexSizeInBytes,
+            final TypeEncoder<K> convertorToBytes,
+            final String relatedObjectName, final int diskIoBufferSize,
+            final BloomFilterFormat writeFormat, final boolean memoryMapped) {
+        this(directoryFacade, bloomFilterFileName, numberOfHashFunctions,
+                indexSizeInBytes, convertorToBytes, relatedObjectName,
+                diskIoBufferSize, writeFormat, memoryMapped, false,
+                BloomFilterBuilder.DEFAULT_PROBABILITY_OF_FALSE_POSITIVE);
+    }
+
+    /**
+     * Creates a filter. The size and hash function count describe stored
+     * files without parameters of their own; an auto-sized filter writes new
+     * self-describing files sized for their key count and the target
+     * probability instead.
+     */
+    BloomFilterImpl(final Directory directoryFacade,
+            final String bloomFilterFileName,
+            final int numberOfHashFunctions, final int indexSizeInBytes,
+            final TypeEncoder<K> convertorToBytes,
+            final String relatedObjectName, final int diskIoBufferSize,
+            final BloomFilterFormat writeFormat, final boolean memoryMapped,
+            final boolean autoSized,
+            final double probabilityOfFalsePositive) {
         this.directoryFacade = Vldtn.requireNonNull(directoryFacade,
                 "directoryFacade");
         this.bloomFilterFileName = Vldtn.requireNonNull(bloomFilterFileName,
@@ -52,6 +106,10 @@ final class BloomFilterImpl<K> extends AbstractCloseableResource
         this.numberOfHashFunctions = numberOfHashFunctions;
         this.bloomFilterStats = new BloomFilterStats();
         this.diskIoBufferSize = diskIoBufferSize;
+        this.writeFormat = Vldtn.requireNonNull(writeFormat, "writeFormat");
+        this.memoryMapped = memoryMapped;
+        this.autoSized = autoSized;
+        this.probabilityOfFalsePositive = probabilityOfFalsePositive;
         Vldtn.requireGreaterThanZero(numberOfHashFunctions,
                 "numberOfHashFunctions");
         hash = loadHashIfPresent();
@@ -61,13 +119,20 @@ final class BloomFilterImpl<K> extends AbstractCloseableResource
     public BloomFilterWriterTx<K> openWriteTx() {
         return new BloomFilterWriterTx<>(directoryFacade, bloomFilterFileName,
                 convertorToBytes, numberOfHashFunctions, indexSizeInBytes,
-                diskIoBufferSize, this);
+                diskIoBufferSize, writeFormat, autoSized,
+                probabilityOfFalsePositive, this);
     }
 
     @Override
     public void setNewHash(final Hash newHash) {
         Vldtn.requireNonNull(newHash, "newHash");
-        this.hash = newHash;
+        // Swap the freshly written heap copy for a mapping of the committed
+        // file, so the heap doesn't keep the bits of every written filter.
+        this.hash = mapHashIfEnabled().orElse(newHash);
+    }
+
+    boolean isMemoryMapped() {
+        return hash != null && hash.isReadOnly();
     }
 
     private boolean isExists() {
@@ -78,17 +143,8 @@ final class BloomFilterImpl<K> extends AbstractCloseableResource
         if (!isExists() || indexSizeInBytes <= 0) {
             return null;
         }
-        try (FileReader reader = directoryFacade.getFileReader(
-                bloomFilterFileName, diskIoBufferSize)) {
-            final byte[] data = new byte[indexSizeInBytes];
-            final int readed = reader.read(data);
-            if (indexSizeInBytes != readed) {
-                throw new IllegalStateException(String.format(
-                        "Bloom filter data from file '%s' wasn't loaded,"
-                                + " index expected size is '%s' but '%s' was loaded",
-                        bloomFilterFileName, indexSizeInBytes, readed));
-            }
-            return new Hash(new BitArray(data), numberOfHashFunctions);
+        try {
+            return mapHashIfEnabled().orElseGet(this::readHash);
         } catch (final RuntimeException e) {
             if (!isExists()) {
                 return null;
@@ -97,6 +153,97 @@ final class BloomFilterImpl<K> extends AbstractCloseableResource
         }
     }
 
+    private Optional<Hash> mapHashIfEnabled() {
+        if (!memoryMapped) {
+            return Optional.empty();
+        }
+        return directoryFacade.mapReadOnly(bloomFilterFileName)
+                .map(this::mapHash);
+    }
+
+    private Hash mapHash(final ByteBuffer file) {
+        final FileLayout layout = readLayout(file);
+        final ByteBuffer bits = file.duplicate();
+        bits.position(0).limit(layout.indexSizeInBytes());
+        return new Hash(BitArray.readOnly(bits),
+                layout.numberOfHashFunctions(), layout.format());
+    }
+
+    private Hash readHash() {
+        final byte[] file = readFile();
+        final FileLayout layout = readLayout(ByteBuffer.wrap(file));
+        return new Hash(
+                new BitArray(Arrays.copyOf(file, layout.indexSizeInBytes())),
+                layout.numberOfHashFunctions(), layout.format());
+    }
+
+    private byte[] readFile() {
+        try (FileReader reader = directoryFacade.getFileReader(
+                bloomFilterFileName, diskIoBufferSize)) {
+            byte[] data = new byte[Math.max(indexSizeInBytes, 0)
+                    + BloomFilterFormat.PARAMETERS_BYTES
+                    + BloomFilterFormat.TRAILER_BYTES];
+            int length = 0;
+            while (true) {
+                if (length == data.length) {
+                    data = Arrays.copyOf(data, data.length * 2);
+                }
+                final int read = reader.read(data, length,
+                        data.length - length);
+                if (read <= 0) {
+                    return Arrays.copyOf(data, length);
+                }
+                length += read;
+            }
+        }
+    }
+
+    /**
+     * Resolves the layout of the whole file. Self-describing files carry
+     * their own parameters, older files use the configured ones.
+     */
+    private FileLayout readLayout(final ByteBuffer file) {
+        final int fileSize = file.limit();
+        final Optional<BloomFilterFormat> sizedFormat = BloomFilterFormat
+                .fromSizedTrailer(file);
+        if (sizedFormat.isPresent()) {
+            final int sizeInBytes = BloomFilterFormat
+                    .readIndexSizeInBytes(file);
+            final int hashFunctions = BloomFilterFormat
+                    .readNumberOfHashFunctions(file);
+            if (sizeInBytes != fileSize - BloomFilterFormat.PARAMETERS_BYTES
+                    - BloomFilterFormat.TRAILER_BYTES || hashFunctions <= 0) {
+                throw new IllegalStateException(String.format(
+                        "Bloom filter file '%s' has invalid parameters, "
+                                + "index size '%s' and '%s' hash functions"
+                                + " in a file of '%s' bytes",
+                        bloomFilterFileName, sizeInBytes, hashFunctions,
+                        fileSize));
+            }
+            return new FileLayout(sizedFormat.get(), sizeInBytes,
+                    hashFunctions);
+        }
+        if (fileSize < indexSizeInBytes) {
+            throw newIncompleteFileException(indexSizeInBytes, fileSize);
+        }
+        // Files written before the blocked layout end after the bit array.
+        final byte[] trailer = new byte[BloomFilterFormat.TRAILER_BYTES];
+        final int trailerBytes = Math.min(fileSize - indexSizeInBytes,
+                BloomFilterFormat.TRAILER_BYTES);
+        file.get(indexSizeInBytes, trailer, 0, trailerBytes);
+        return new FileLayout(BloomFilterFormat.fromTrailer(trailer,
+                trailerBytes, bloomFilterFileName), indexSizeInBytes,
+                numberOfHashFunctions);
+    }
+
+    private IllegalStateException newIncompleteFileException(
+            final int expectedBytes, final int loadedBytes) {
+        return new IllegalStateException(String.format(
+                "Bloom filter data from file '%s' wasn't loaded,"
+                        + " index expected size is '%s' but '%s' was loaded",
+                bloomFilterFileName, expectedBytes, loadedBytes));
+    }
+
     @Override
     public boolean isNotStored(final K key) {
         if (hash == null) {
@@ -134,16 +281,28 @@ final class BloomFilterImpl<K> extends AbstractCloseableResource
 
     @Override
     public long getNumberOfHashFunctions() {
-        return numberOfHashFunctions;
+        final Hash current = hash;
+        return current == null ? numberOfHashFunctions
+                : current.getNumberOfHashFunctions();
     }
 
     @Override
     public long getIndexSizeInBytes() {
-        return indexSizeInBytes;
+        final Hash current = hash;
+        return current == null ? indexSizeInBytes : current.getSizeInBytes();
+    }
+
+    @Override
+    public boolean isAutoSized() {
+        return autoSized;
     }
 
     @Override
     protected void doClose() {
         // no-op
     }
+
+    private record FileLayout(BloomFilterFormat format, int indexSizeInBytes,
+            int numberOfHashFunctions) {
+    }
 }
@@ -0,0 +1,152 @@
+package org.hestiastore.index.bloomfilter;
+
+import java.util.Arrays;
+
+import org.hestiastore.index.Vldtn;
+import org.hestiastore.index.datatype.EncodedBytes;
+import org.hestiastore.index.datatype.TypeEncoder;
+
+/**
+ * Bloom filter kept only in memory, for small key sets that are not worth a
+ * file of their own.
+ * <p>
+ * The builder keeps one 64-bit fingerprint per added key and sizes the filter
+ * for the exact key count when it is built. The filter uses the blocked
+ * layout, so a lookup touches one cache line.
+ *
+ * @param <K> key type
+ */
+public final class BloomFilterInMemory<K> {
+
+    private static final int INITIAL_BUFFER_SIZE = 64;
+
+    private final TypeEncoder<K> convertorToBytes;
+
+    private final Hash hash;
+
+    private final ThreadLocal<byte[]> reusableBytesBuffer = ThreadLocal
+            .withInitial(() -> new byte[INITIAL_BUFFER_SIZE]);
+
+    private BloomFilterInMemory(final TypeEncoder<K> convertorToBytes,
+            final Hash hash) {
+        this.convertorToBytes = convertorToBytes;
+        this.hash = hash;
+    }
+
+    /**
+     * Creates a builder collecting keys for a new filter.
+     *
+     * @param <K>                        key type
+     * @param convertorToBytes           key encoder
+     * @param probabilityOfFalsePositive target probability in range (0,1)
+     * @return filter builder
+     */
+    public static <K> Builder<K> builder(final TypeEncoder<K> convertorToBytes,
+            final double probabilityOfFalsePositive) {
+        return new Builder<>(convertorToBytes, probabilityOfFalsePositive);
+    }
+
+    /**
+     * Returns whether the key is surely not stored.
+     *
+     * @param key required key
+     * @return true when the key was never added
+     */
+    public boolean isNotStored(final K key) {
+        Vldtn.requireNonNull(key, "key");
+        final byte[] reusableBuffer = reusableBytesBuffer.get();
+        final EncodedBytes encoded = convertorToBytes.encode(key,
+                reusableBuffer);
+        final int bytesLength = Vldtn.requireGreaterThanZero(
+                encoded.getLength(), "bytesLength");
+        final byte[] encodedBytes = encoded.getBytes();
+        if (encodedBytes != reusableBuffer) {
+            reusableBytesBuffer.set(encodedBytes);
+        }
+        return hash.isNotStored(encodedBytes, bytesLength);
+    }
+
+    /**
+     * Returns the size of the bit array.
+     *
+     * @return size in bytes
+     */
+    public long getIndexSizeInBytes() {
+        return hash.getSizeInBytes();
+    }
+
+    /**
+     * Collects key fingerprints and builds a filter sized for them.
+     *
+     * @param <K> key type
+     */
+    public static final class Builder<K> {
+
+        private static final int INITIAL_FINGERPRINT_CAPACITY = 64;
+
+        private final TypeEncoder<K> convertorToBytes;
+
+        private final double probabilityOfFalsePositive;
+
+        private long[] fingerprints = new long[INITIAL_FINGERPRINT_CAPACITY];
+
+        private int fingerprintCount;
+
+        private byte[] encodedKeyBuffer = new byte[0];
+
+        private Builder(final TypeEncoder<K> convertorToBytes,
+                final double probabilityOfFalsePositive) {
+            this.convertorToBytes = Vldtn.requireNonNull(convertorToBytes,
+                    "convertorToBytes");
+            if (probabilityOfFalsePositive <= 0
+                    || probabilityOfFalsePositive >= 1) {
+                throw new IllegalArgumentException(String.format(
+                        "Probability of false positive '%s' must be in range (0,1)",
+                        probabilityOfFalsePositive));
+            }
+            this.probabilityOfFalsePositive = probabilityOfFalsePositive;
+        }
+
+        /**
+         * Adds a key.
+         *
+         * @param key required key
+         * @return this builder
+         */
+        public Builder<K> add(final K key) {
+            Vldtn.requireNonNull(key, "key");
+            final EncodedBytes encoded = convertorToBytes.encode(key,
+                    encodedKeyBuffer);
+            final int encodedLength = Vldtn.requireGreaterThanZero(
+                    encoded.getLength(), "encodedLength");
+            encodedKeyBuffer = encoded.getBytes();
+            if (fingerprintCount == fingerprints.length) {
+                fingerprints = Arrays.copyOf(fingerprints,
+                        fingerprints.length * 2);
+            }
+            fingerprints[fingerprintCount++] = Hash.fingerprint(
+                    BloomFilterFormat.BLOCKED, encodedKeyBuffer,
+                    encodedLength);
+            return this;
+        }
+
+        /**
+         * Builds the filter for the added keys.
+         *
+         * @return in-memory filter
+         */
+        public BloomFilterInMemory<K> build() {
+            final int indexSizeInBytes = BloomFilterSizing.indexSizeInBytes(
+                    fingerprintCount, probabilityOfFalsePositive,
+                    BloomFilterFormat.BLOCKED);
+            final Hash hash = new Hash(new BitArray(indexSizeInBytes),
+                    BloomFilterSizing.numberOfHashFunctions(fingerprintCount,
+                            indexSizeInBytes),
+                    BloomFilterFormat.BLOCKED);
+            for (int i = 0; i < fingerprintCount; i++) {
+                hash.storeFingerprint(fingerprints[i]);
+            }
+            return new BloomFilterInMemory<>(convertorToBytes, hash);
+        }
+    }
+}
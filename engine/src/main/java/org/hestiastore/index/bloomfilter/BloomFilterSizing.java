@@ -0,0 +1,70 @@
+package org.hestiastore.index.bloomfilter;
+
+/**
+ * Sizes a Bloom filter from the number of stored keys and the target
+ * false-positive probability.
+ * <p>
+ * For {@code n} keys and probability {@code p} the optimal filter has
+ * {@code m = -n ln(p) / ln(2)^2} bits and {@code k = m / n ln(2)} hash
+ * functions. Blocked filters are rounded up to whole 64-byte blocks.
+ */
+final class BloomFilterSizing {
+
+    private static final double LN2 = Math.log(2);
+
+    private static final int BLOCK_BYTES = Hash.BLOCK_BITS / 8;
+
+    /**
+     * Largest bit array a Java byte array can hold.
+     */
+    private static final long MAX_INDEX_SIZE_IN_BYTES = Integer.MAX_VALUE - 8L;
+
+    private BloomFilterSizing() {
+    }
+
+    /**
+     * Computes the bit array size for the key count.
+     *
+     * @param numberOfKeys               number of keys stored in the filter
+     * @param probabilityOfFalsePositive target probability in range (0,1)
+     * @param format                     layout of the written filter
+     * @return size in bytes, at least one byte
+     * @throws IllegalStateException when the filter doesn't fit a byte array
+     */
+    static int indexSizeInBytes(final long numberOfKeys,
+            final double probabilityOfFalsePositive,
+            final BloomFilterFormat format) {
+        if (numberOfKeys <= 0) {
+            return 1;
+        }
+        final double bits = -numberOfKeys * Math.log(probabilityOfFalsePositive)
+                / (LN2 * LN2);
+        long bytes = Math.max(1L, (long) Math.ceil(bits / 8));
+        if (format == BloomFilterFormat.BLOCKED && bytes > BLOCK_BYTES) {
+            bytes = (bytes + BLOCK_BYTES - 1) / BLOCK_BYTES * BLOCK_BYTES;
+        }
+        if (bytes > MAX_INDEX_SIZE_IN_BYTES) {
+            throw new IllegalStateException(String.format(
+                    "Bloom filter for '%s' keys needs '%s' bytes, "
+                            + "more than the supported maximum '%s'",
+                    numberOfKeys, bytes, MAX_INDEX_SIZE_IN_BYTES));
+        }
+        return (int) bytes;
+    }
+
+    /**
+     * Computes the optimal number of hash functions for the filter size.
+     *
+     * @param numberOfKeys     number of keys stored in the filter
+     * @param indexSizeInBytes size of the bit array in bytes
+     * @return hash function count, at least one
+     */
+    static int numberOfHashFunctions(final long numberOfKeys,
+            final int indexSizeInBytes) {
+        if (numberOfKeys <= 0) {
+            return 1;
+        }
+        return (int) Math.max(1L, Math.round(
+                indexSizeInBytes * 8D / numberOfKeys * LN2));
+    }
+}
@@ -1,5 +1,7 @@
 package org.hestiastore.index.bloomfilter;
 
+import java.util.Arrays;
+
 import org.hestiastore.index.AbstractCloseableResource;
 import org.hestiastore.index.Vldtn;
 import org.hestiastore.index.datatype.EncodedBytes;
@@ -8,11 +10,36 @@ import org.hestiastore.index.directory.Directory;
 import org.hestiastore.index.directory.Directory.Access;
 import org.hestiastore.index.directory.FileWriter;
 
+/**
+ * Writes keys into a new Bloom filter file.
+ * <p>
+ * A writer either stores keys into a hash of fixed size, or, when auto-sized,
+ * keeps one 64-bit fingerprint per key and sizes the filter for the exact key
+ * count when it is closed. An auto-sized file records its size and hash
+ * function count, so it is readable without knowing how it was sized.
+ *
+ * @param <K> key type
+ */
 public class BloomFilterWriter<K> extends AbstractCloseableResource {
 
+    private static final int INITIAL_FINGERPRINT_CAPACITY = 1024;
+
     private final TypeEncoder<K> convertorToBytes;
 
-    private final Hash hash;
+    /**
+     * Target hash, {@code null} until an auto-sized writer is closed.
+     */
+    private Hash hash;
+
+    private final BloomFilterFormat format;
+
+    private final double probabilityOfFalsePositive;
+
+    private final boolean autoSized;
+
+    private long[] fingerprints;
+
+    private int fingerprintCount;
 
     private final Directory directoryFacade;
     private final String fileName;
@@ -25,6 +52,42 @@ public class BloomFilterWriter<K> extends AbstractCloseableResource {
         this.convertorToBytes = Vldtn.requireNonNull(convertorToBytes,
                 "convertorToBytes");
         this.hash = Vldtn.requireNonNull(newHash, "newHash");
+        this.format = newHash.getFormat();
+        this.probabilityOfFalsePositive = 0;
+        this.autoSized = false;
+        this.directoryFacade = Vldtn.requireNonNull(directoryFacade,
+                "directoryFacade");
+        this.fileName = Vldtn.requireNonNull(fileName, "fileName");
+        this.diskIoBufferSize = diskIoBufferSize;
+    }
+
+    /**
+     * Creates an auto-sized writer.
+     *
+     * @param convertorToBytes           key encoder
+     * @param format                     layout of the written filter
+     * @param probabilityOfFalsePositive target false-positive probability
+     * @param directoryFacade            target directory
+     * @param fileName                   target file name
+     * @param diskIoBufferSize           write buffer size
+     */
+    BloomFilterWriter(final TypeEncoder<K> convertorToBytes,
+            final BloomFilterFormat format,
+            final double probabilityOfFalsePositive,
+            final Directory directoryFacade, final String fileName,
+            final int diskIoBufferSize) {
+        this.convertorToBytes = Vldtn.requireNonNull(convertorToBytes,
+                "convertorToBytes");
+        this.format = Vldtn.requireNonNull(format, "format");
+        if (probabilityOfFalsePositive <= 0
+                || probabilityOfFalsePositive >= 1) {
+            throw new IllegalArgumentException(String.format(
+                    "Probability of false positive '%s' must be in range (0,1)",
+                    probabilityOfFalsePositive));
+        }
+        this.probabilityOfFalsePositive = probabilityOfFalsePositive;
+        this.autoSized = true;
+        this.fingerprints = new long[INITIAL_FINGERPRINT_CAPACITY];
         this.directoryFacade = Vldtn.requireNonNull(directoryFacade,
                 "directoryFacade");
         this.fileName = Vldtn.requireNonNull(fileName, "fileName");
@@ -35,6 +98,13 @@ public class BloomFilterWriter<K> extends AbstractCloseableResource {
         return hash;
     }
 
+    /**
+     * Writes a key.
+     *
+     * @param key required key
+     * @return true when the filter changed; auto-sized writers always return
+     *         true because bits are set only on close
+     */
     public boolean write(final K key) {
         Vldtn.requireNonNull(key, "key");
         final EncodedBytes encoded = convertorToBytes.encode(key,
@@ -42,14 +112,52 @@ public class BloomFilterWriter<K> extends AbstractCloseableResource {
         final int encodedLength = Vldtn.requireGreaterThanZero(
                 encoded.getLength(), "encodedLength");
         encodedKeyBuffer = encoded.getBytes();
+        if (hash == null) {
+            addFingerprint(
+                    Hash.fingerprint(format, encodedKeyBuffer, encodedLength));
+            return true;
+        }
         return hash.store(encodedKeyBuffer, encodedLength);
     }
 
+    private void addFingerprint(final long fingerprint) {
+        if (fingerprintCount == fingerprints.length) {
+            fingerprints = Arrays.copyOf(fingerprints,
+                    Math.max(fingerprints.length * 2, fingerprintCount + 1));
+        }
+        fingerprints[fingerprintCount++] = fingerprint;
+    }
+
+    private Hash buildSizedHash() {
+        final int indexSizeInBytes = BloomFilterSizing.indexSizeInBytes(
+                fingerprintCount, probabilityOfFalsePositive, format);
+        final Hash sized = new Hash(new BitArray(indexSizeInBytes),
+                BloomFilterSizing.numberOfHashFunctions(fingerprintCount,
+                        indexSizeInBytes),
+                format);
+        for (int i = 0; i < fingerprintCount; i++) {
+            sized.storeFingerprint(fingerprints[i]);
+        }
+        fingerprints = null;
+        return sized;
+    }
+
     @Override
     protected void doClose() {
+        if (hash == null) {
+            hash = buildSizedHash();
+        }
         try (FileWriter writer = directoryFacade.getFileWriter(fileName,
                 Access.OVERWRITE, diskIoBufferSize)) {
             writer.write(hash.getData());
+            final byte[] trailer = autoSized
+                    ? hash.getFormat().sizedTrailer(
+                            (int) hash.getSizeInBytes(),
+                            hash.getNumberOfHashFunctions())
+                    : hash.getFormat().trailer();
+            if (trailer.length > 0) {
+                writer.write(trailer);
+            }
         }
     }
 
@@ -19,6 +19,9 @@ public final class BloomFilterWriterTx<K>
     private final int numberOfHashFunctions;
     private final int indexSizeInBytes;
     private final int diskIoBufferSize;
+    private final BloomFilterFormat format;
+    private final boolean autoSized;
+    private final double probabilityOfFalsePositive;
     private final BloomFilter<K> bloomFilter;
 
     BloomFilterWriterTx(final Directory directoryFacade,
@@ -26,6 +29,34 @@ public final class BloomFilterWriterTx<K>
             final TypeEncoder<K> convertorToBytes,
             final int numberOfHashFunctions, final int indexSizeInBytes,
             final int diskIoBufferSize, final BloomFilter<K> bloomFilter) {
+        this(directoryFacade, bloomFilterFileName, convertorToBytes,
+                numberOfHashFunctions, indexSizeInBytes, diskIoBufferSize,
+                BloomFilterFormat.STANDARD, bloomFilter);
+    }
+
+    BloomFilterWriterTx(final Directory directoryFacade,
+            final String bloomFilterFileName,
+            final TypeEncoder<K> convertorToBytes,
+            final int numberOfHashFunctions, final int indexSizeInBytes,
+            final int diskIoBufferSize, final BloomFilterFormat format,
+            final BloomFilter<K> bloomFilter) {
+        this(directoryFacade, bloomFilterFileName, convertorToBytes,
+                numberOfHashFunctions, indexSizeInBytes, diskIoBufferSize,
+                format, false, 0, bloomFilter);
+    }
+
+    /**
+     * Creates a transaction. An auto-sized transaction ignores the given size
+     * and hash function count and sizes the filter for the number of keys
+     * written.
+     */
+    BloomFilterWriterTx(final Directory directoryFacade,
+            final String bloomFilterFileName,
+            final TypeEncoder<K> convertorToBytes,
+            final int numberOfHashFunctions, final int indexSizeInBytes,
+            final int diskIoBufferSize, final BloomFilterFormat format,
+            final boolean autoSized, final double probabilityOfFalsePositive,
+            final BloomFilter<K> bloomFilter) {
         this.directoryFacade = Vldtn.requireNonNull(directoryFacade,
                 "directoryFacade");
         this.bloomFilterFileName = Vldtn.requireNonNull(bloomFilterFileName,
@@ -35,13 +66,21 @@ public final class BloomFilterWriterTx<K>
         this.numberOfHashFunctions = numberOfHashFunctions;
         this.indexSizeInBytes = indexSizeInBytes;
         this.diskIoBufferSize = diskIoBufferSize;
+        this.format = Vldtn.requireNonNull(format, "format");
+        this.autoSized = autoSized;
+        this.probabilityOfFalsePositive = probabilityOfFalsePositive;
         this.bloomFilter = Vldtn.requireNonNull(bloomFilter, "bloomFilter");
     }
 
     @Override
     protected BloomFilterWriter<K> doOpen() {
+        if (autoSized) {
+            return new BloomFilterWriter<>(convertorToBytes, format,
+                    probabilityOfFalsePositive, directoryFacade,
+                    getTempFileName(), diskIoBufferSize);
+        }
         final Hash hash = new Hash(new BitArray(indexSizeInBytes),
-                numberOfHashFunctions);
+                numberOfHashFunctions, format);
         return new BloomFilterWriter<>(convertorToBytes, hash, directoryFacade,
                 getTempFileName(), diskIoBufferSize);
     }
@@ -4,27 +4,62 @@ import org.apache.commons.codec.digest.MurmurHash3;
 import org.hestiastore.index.Vldtn;
 
 /**
- * Implementation was taken from <a href=
+ * Bloom filter hashing over a {@link BitArray}.
+ * <p>
+ * The standard layout follows the implementation taken from <a href=
  * "https://github.com/apache/spark/blob/93251ed77ea1c5d037c64d2292b8760b03c8e181/common/sketch/src/main/java/org/apache/spark/util/sketch/BloomFilterImpl.java">
  * https://github.com/apache/spark/blob/93251ed77ea1c5d037c64d2292b8760b03c8e181/common/sketch/src/main/java/org/apache/spark/util/sketch/BloomFilterImpl.java
- * </a>
+ * </a>: probes are spread over the whole array from two 32-bit MurmurHash3
+ * values.
+ * <p>
+ * The blocked layout derives all probes from one 64-bit MurmurHash3 value.
+ * The upper 32 bits select one 64-byte block (one cache line) and the lower
+ * 32 bits place the probes inside that block, so a lookup touches a single
+ * cache line and bit positions are addressed with {@code long} arithmetic.
+ * <p>
+ * Both layouts place a key from one 64-bit fingerprint, see
+ * {@link #fingerprint(BloomFilterFormat, byte[], int)}. Writers that size the
+ * filter after all keys are known keep fingerprints instead of keys.
  * 
  * @author honza
  *
  */
 public final class Hash {
 
+    /**
+     * Bits in one blocked-layout block, one 64-byte cache line.
+     */
+    static final int BLOCK_BITS = 512;
+
     private final BitArray bitArray;
 
     private final int numHashFunctions;
 
+    private final BloomFilterFormat format;
+
     Hash(final BitArray bits, final int numHashFunctions) {
+        this(bits, numHashFunctions, BloomFilterFormat.STANDARD);
+    }
+
+    Hash(final BitArray bits, final int numHashFunctions,
+            final BloomFilterFormat format) {
         this.bitArray = Vldtn.requireNonNull(bits, "bits");
         if (numHashFunctions <= 0) {
             throw new IllegalArgumentException(String.format(
                     "Number of hash function cant be '%s'", numHashFunctions));
         }
         this.numHashFunctions = numHashFunctions;
+        this.format = Vldtn.requireNonNull(format, "format");
+    }
+
+    /**
+     * Returns whether the bits are backed by a read-only buffer such as a
+     * memory-mapped file.
+     *
+     * @return true when the hash can't store new keys
+     */
+    boolean isReadOnly() {
+        return bitArray.isReadOnly();
     }
 
     public boolean store(final byte[] data) {
@@ -33,13 +68,49 @@ public final class Hash {
 
     public boolean store(final byte[] data, final int length) {
         validateData(data, length);
-        final long bitSize = bitArray.bitSize();
+        return storeFingerprint(fingerprint(format, data, length));
+    }
+
+    /**
+     * Computes the 64-bit value the layout derives all probe positions from.
+     * The standard layout packs its two 32-bit hashes, the blocked layout uses
+     * one 64-bit hash.
+     *
+     * @param format layout the key is placed by
+     * @param data   encoded key
+     * @param length number of bytes of the key
+     * @return key fingerprint
+     */
+    static long fingerprint(final BloomFilterFormat format, final byte[] data,
+            final int length) {
+        validateData(data, length);
+        if (format == BloomFilterFormat.BLOCKED) {
+            return MurmurHash3.hash128x64(data, 0, length, 0)[0];
+        }
+        final int h1 = MurmurHash3.hash32x86(data, 0, length, 0);
+        final int h2 = MurmurHash3.hash32x86(data, 0, length, h1);
+        return ((long) h1 << 32) | (h2 & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Stores a key given by its fingerprint.
+     *
+     * @param fingerprint value from
+     *                    {@link #fingerprint(BloomFilterFormat, byte[], int)}
+     *                    computed for this hash format
+     * @return true when at least one bit changed
+     */
+    boolean storeFingerprint(final long fingerprint) {
+        final long bitSize = bitArray.bitLength();
         if (bitSize == 0) {
             return true;
         }
+        if (format == BloomFilterFormat.BLOCKED) {
+            return storeBlocked(fingerprint, bitSize);
+        }
 
-        int h1 = MurmurHash3.hash32x86(data, 0, length, 0);
-        int h2 = MurmurHash3.hash32x86(data, 0, length, h1);
+        final int h1 = (int) (fingerprint >>> 32);
+        final int h2 = (int) fingerprint;
 
         boolean bitsChanged = false;
         for (int i = 1; i <= numHashFunctions; i++) {
@@ -76,14 +147,18 @@ public final class Hash {
 
     public boolean isProbablyStored(final byte[] data, final int length) {
         validateData(data, length);
-        long bitSize = bitArray.bitSize();
+        long bitSize = bitArray.bitLength();
         if (bitSize == 0) {
             // if there are no bits set, then the data is not stored
             return true;
         }
+        final long fingerprint = fingerprint(format, data, length);
+        if (format == BloomFilterFormat.BLOCKED) {
+            return isProbablyStoredBlocked(fingerprint, bitSize);
+        }
 
-        int h1 = MurmurHash3.hash32x86(data, 0, length, 0);
-        int h2 = MurmurHash3.hash32x86(data, 0, length, h1);
+        final int h1 = (int) (fingerprint >>> 32);
+        final int h2 = (int) fingerprint;
 
         for (int i = 1; i <= numHashFunctions; i++) {
             int combinedHash = h1 + (i * h2);
@@ -110,6 +185,64 @@ public final class Hash {
         return bitArray.getByteArray();
     }
 
+    BloomFilterFormat getFormat() {
+        return format;
+    }
+
+    int getNumberOfHashFunctions() {
+        return numHashFunctions;
+    }
+
+    /**
+     * Returns the size of the bit array in bytes.
+     *
+     * @return bytes of the bit array
+     */
+    long getSizeInBytes() {
+        return bitArray.bitLength() / 8;
+    }
+
+    private boolean storeBlocked(final long hash64, final long bitSize) {
+        final int blockBits = blockBits(bitSize);
+        final long blockStart = blockStart(hash64, bitSize, blockBits);
+        final int first = (int) hash64 & 0xFFFF;
+        final int step = ((int) hash64 >>> 16) | 1;
+        boolean bitsChanged = false;
+        for (int i = 0; i < numHashFunctions; i++) {
+            bitsChanged |= bitArray
+                    .setBit(blockStart + (first + i * step) % blockBits);
+        }
+        return bitsChanged;
+    }
+
+    private boolean isProbablyStoredBlocked(final long hash64,
+            final long bitSize) {
+        final int blockBits = blockBits(bitSize);
+        final long blockStart = blockStart(hash64, bitSize, blockBits);
+        final int first = (int) hash64 & 0xFFFF;
+        final int step = ((int) hash64 >>> 16) | 1;
+        for (int i = 0; i < numHashFunctions; i++) {
+            if (!bitArray.get(blockStart + (first + i * step) % blockBits)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Filters smaller than one block use the whole array as a single block.
+     */
+    private static int blockBits(final long bitSize) {
+        return (int) Math.min(BLOCK_BITS, bitSize);
+    }
+
+    private static long blockStart(final long hash64, final long bitSize,
+            final int blockBits) {
+        final long blockCount = bitSize / blockBits;
+        // Multiply-shift maps the upper 32 bits onto [0, blockCount).
+        return ((hash64 >>> 32) * blockCount >>> 32) * blockBits;
+    }
+
     private static int validateAndGetLength(final byte[] data) {
         if (data == null) {
             throw new NullPointerException("No data");
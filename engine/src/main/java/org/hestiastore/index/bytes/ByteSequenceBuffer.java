@@ -0,0 +1,108 @@
+package org.hestiastore.index.bytes;
+
+import java.nio.ByteBuffer;
+
+import org.hestiastore.index.Vldtn;
+
+/**
+ * Read-only {@link ByteSequence} view over a {@link ByteBuffer}, typically a
+ * region of a memory-mapped file. Reads and slices use absolute buffer access
+ * and never copy; only {@link #toByteArray()} materializes the bytes.
+ * <p>
+ * The view keeps the buffer reachable, so a mapped region stays valid for as
+ * long as any sequence over it is in use.
+ */
+public final class ByteSequenceBuffer extends ByteSequenceCaching {
+
+    private final ByteBuffer buffer;
+
+    ByteSequenceBuffer(final ByteBuffer buffer) {
+        this.buffer = Vldtn.requireNonNull(buffer, "buffer").slice()
+                .asReadOnlyBuffer();
+    }
+
+    /**
+     * Returns a read-only buffer over the sequence content positioned at
+     * {@code 0}.
+     *
+     * @return read-only buffer sharing the content
+     */
+    public ByteBuffer asReadOnlyBuffer() {
+        return buffer.duplicate();
+    }
+
+    @Override
+    public int length() {
+        return buffer.limit();
+    }
+
+    @Override
+    public byte getByte(final int index) {
+        if (index < 0 || index >= buffer.limit()) {
+            throw new IllegalArgumentException(String.format(
+                    "Property 'index' must be between 0 and %d (inclusive). Got: %d",
+                    Math.max(buffer.limit() - 1, 0), index));
+        }
+        return buffer.get(index);
+    }
+
+    @Override
+    public ByteSequence slice(final int fromInclusive,
+            final int toExclusive) {
+        if (fromInclusive < 0) {
+            throw new IllegalArgumentException(
+                    "Property 'fromInclusive' must not be negative.");
+        }
+        if (toExclusive < fromInclusive) {
+            throw new IllegalArgumentException(
+                    "Property 'toExclusive' must not be smaller than 'fromInclusive'.");
+        }
+        if (toExclusive > buffer.limit()) {
+            throw new IllegalArgumentException(String.format(
+                    "Slice range [%d, %d) exceeds sequence length %d",
+                    fromInclusive, toExclusive, buffer.limit()));
+        }
+        final int newLength = toExclusive - fromInclusive;
+        if (newLength == 0) {
+            return EMPTY;
+        }
+        if (fromInclusive == 0 && toExclusive == buffer.limit()) {
+            return this;
+        }
+        return new ByteSequenceBuffer(buffer.slice(fromInclusive, newLength));
+    }
+
+    @Override
+    protected byte[] computeByteArray() {
+        final byte[] bytes = new byte[buffer.limit()];
+        buffer.get(0, bytes);
+        return bytes;
+    }
+
+    void copyTo(final int sourceOffset, final byte[] target,
+            final int targetOffset, final int length) {
+        buffer.get(sourceOffset, target, targetOffset, length);
+    }
+
+    @Override
+    public int hashCode() {
+        return ByteSequences.contentHashCode(this);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof ByteSequence)) {
+            return false;
+        }
+        return ByteSequences.contentEquals(this, (ByteSequence) obj);
+    }
+
+    @Override
+    public String toString() {
+        return "ByteSequenceBuffer{" + "length=" + buffer.limit() + ", direct="
+                + buffer.isDirect() + '}';
+    }
+}
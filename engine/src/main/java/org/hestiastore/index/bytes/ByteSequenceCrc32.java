@@ -64,6 +64,10 @@ public final class ByteSequenceCrc32 implements Checksum {
             delegate.update(mutable.array(), 0, length);
             return;
         }
+        if (sequence instanceof ByteSequenceBuffer buffer) {
+            delegate.update(buffer.asReadOnlyBuffer());
+            return;
+        }
         for (int i = 0; i < length; i++) {
             delegate.update(sequence.getByte(i));
         }
@@ -1,8 +1,10 @@
 package org.hestiastore.index.bytes;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.hestiastore.index.Vldtn;
 
@@ -59,6 +61,21 @@ public final class ByteSequences {
         return new ByteSequenceSlice(validated, fromInclusive, length);
     }
 
+    /**
+     * Creates a zero-copy read-only view over the remaining bytes of
+     * {@code buffer}. The buffer position and limit are not changed.
+     *
+     * @param buffer backing buffer, for example a memory-mapped file region
+     * @return {@link ByteSequence} representing the remaining bytes
+     */
+    public static ByteSequence viewOf(final ByteBuffer buffer) {
+        final ByteBuffer validated = Vldtn.requireNonNull(buffer, "buffer");
+        if (!validated.hasRemaining()) {
+            return ByteSequence.EMPTY;
+        }
+        return new ByteSequenceBuffer(validated);
+    }
+
     /**
      * Creates an immutable copy of the provided array.
      *
@@ -250,6 +267,11 @@ public final class ByteSequences {
                     validatedTarget, targetOffset, length);
             return;
         }
+        if (validatedSource instanceof ByteSequenceBuffer byteSequenceBuffer) {
+            byteSequenceBuffer.copyTo(sourceOffset,
+                    validatedTarget, targetOffset, length);
+            return;
+        }
         if (validatedSource instanceof MutableBytes mutableBytes) {
             mutableBytes.copyTo(sourceOffset, validatedTarget, targetOffset,
                     length);
@@ -261,6 +283,57 @@ public final class ByteSequences {
         }
     }
 
+    /**
+     * Passes the content of {@code sequence} to {@code consumer} as
+     * consecutive buffers, in order and without copying where the sequence is
+     * backed by arrays or buffers. Concatenated sequences produce one buffer
+     * per part, which lets writers issue a single gathering write.
+     * <p>
+     * Array-backed buffers share the sequence storage, consumers must only
+     * read them.
+     *
+     * @param sequence source sequence
+     * @param consumer receives buffers positioned at the first byte
+     */
+    public static void forEachBuffer(final ByteSequence sequence,
+            final Consumer<ByteBuffer> consumer) {
+        final ByteSequence validated = Vldtn.requireNonNull(sequence,
+                SEQUENCE_PROPERTY);
+        Vldtn.requireNonNull(consumer, "consumer");
+        forEachBufferInternal(validated, consumer);
+    }
+
+    private static void forEachBufferInternal(final ByteSequence sequence,
+            final Consumer<ByteBuffer> consumer) {
+        final int length = sequence.length();
+        if (length == 0) {
+            return;
+        }
+        if (sequence instanceof ConcatenatedByteSequence concatenated) {
+            forEachBufferInternal(concatenated.firstPart(), consumer);
+            forEachBufferInternal(concatenated.secondPart(), consumer);
+            return;
+        }
+        if (sequence instanceof ByteSequenceView view) {
+            consumer.accept(ByteBuffer.wrap(view.rawArray()));
+            return;
+        }
+        if (sequence instanceof ByteSequenceSlice slice) {
+            consumer.accept(ByteBuffer.wrap(slice.backingArray(),
+                    slice.backingOffset(), length));
+            return;
+        }
+        if (sequence instanceof MutableBytes mutable) {
+            consumer.accept(ByteBuffer.wrap(mutable.array(), 0, length));
+            return;
+        }
+        if (sequence instanceof ByteSequenceBuffer buffer) {
+            consumer.accept(buffer.asReadOnlyBuffer());
+            return;
+        }
+        consumer.accept(ByteBuffer.wrap(sequence.toByteArray(), 0, length));
+    }
+
     private static void validateCopyRange(final int offset, final int len,
             final int capacity, final String propertyName) {
         if (offset < 0) {
@@ -6,7 +6,11 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NoSuchElementException;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 
@@ -19,6 +23,10 @@ import org.hestiastore.index.Vldtn;
  * 
  * This cache doesn't support eviction. When is full that all data are evicted
  * at once.
+ * 
+ * A sorted cache keeps its keys ordered by the key comparator. Lookups and
+ * writes cost O(log n) instead of O(1), in exchange sorted views and iterators
+ * don't have to sort a snapshot.
  */
 public class UniqueCache<K, V> {
 
@@ -27,6 +35,7 @@ public class UniqueCache<K, V> {
     private final Comparator<K> keyComparator;
     private final AtomicInteger size = new AtomicInteger();
     private final boolean threadSafe;
+    private final boolean sorted;
 
     /**
      * Create builder for unique cache.
@@ -51,12 +60,24 @@ public class UniqueCache<K, V> {
 
     protected UniqueCache(final Comparator<K> keyComparator,
             final int initialCapacity, final boolean threadSafe) {
+        this(keyComparator, initialCapacity, threadSafe, false);
+    }
+
+    protected UniqueCache(final Comparator<K> keyComparator,
+            final int initialCapacity, final boolean threadSafe,
+            final boolean sorted) {
         this.keyComparator = Vldtn.requireNonNull(keyComparator,
                 "keyComparator");
-        this.map = threadSafe
-                ? new ConcurrentHashMap<>(initialCapacity)
-                : new HashMap<>(initialCapacity, 0.75F);
+        if (sorted) {
+            this.map = threadSafe ? new ConcurrentSkipListMap<>(keyComparator)
+                    : new TreeMap<>(keyComparator);
+        } else {
+            this.map = threadSafe
+                    ? new ConcurrentHashMap<>(initialCapacity)
+                    : new HashMap<>(initialCapacity, 0.75F);
+        }
         this.threadSafe = threadSafe;
+        this.sorted = sorted;
     }
 
     Comparator<K> getKeyComparator() {
@@ -135,7 +156,7 @@ public class UniqueCache<K, V> {
      */
     public List<Entry<K, V>> getAsSortedList() {
         final List<Entry<K, V>> out = snapshotEntries();
-        if (out.size() < 2) {
+        if (sorted || out.size() < 2) {
             return out;
         }
         out.sort(Comparator.comparing(Entry::getKey, keyComparator));
@@ -157,12 +178,69 @@ public class UniqueCache<K, V> {
      * @return iterator over keys sorted by the configured comparator
      */
     public Iterator<K> getSortedKeyIterator() {
+        if (sorted) {
+            return snapshotKeys(false).iterator();
+        }
+        return sortedKeyIterator(keyComparator);
+    }
+
+    /**
+     * Returns an iterator over a snapshot of keys in descending order.
+     *
+     * @return iterator over keys sorted by the reversed comparator
+     */
+    public Iterator<K> getDescendingSortedKeyIterator() {
+        if (sorted) {
+            return snapshotKeys(true).iterator();
+        }
+        return sortedKeyIterator(keyComparator.reversed());
+    }
+
+    /**
+     * Returns an iterator over the entries in key order. A sorted cache is
+     * iterated directly, without copying, so the iterator is weakly consistent
+     * with concurrent writes. Other caches iterate a sorted snapshot.
+     *
+     * @return iterator over entries sorted by the configured comparator
+     */
+    public Iterator<Entry<K, V>> getSortedEntryIterator() {
+        if (!sorted) {
+            return getAsSortedList().iterator();
+        }
+        final Iterator<Map.Entry<K, V>> entries = map.entrySet().iterator();
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return entries.hasNext();
+            }
+
+            @Override
+            public Entry<K, V> next() {
+                if (!entries.hasNext()) {
+                    throw new NoSuchElementException("No next element.");
+                }
+                final Map.Entry<K, V> entry = entries.next();
+                return new Entry<>(entry.getKey(), entry.getValue());
+            }
+        };
+    }
+
+    private List<K> snapshotKeys(final boolean descending) {
+        if (map.isEmpty()) {
+            return List.of();
+        }
+        final NavigableMap<K, V> navigableMap = (NavigableMap<K, V>) map;
+        return new ArrayList<>(descending ? navigableMap.descendingKeySet()
+                : navigableMap.keySet());
+    }
+
+    private Iterator<K> sortedKeyIterator(final Comparator<K> order) {
         if (map.isEmpty()) {
             return List.<K>of().iterator();
         }
         final List<K> keys = new ArrayList<>(map.keySet());
         if (keys.size() > 1) {
-            keys.sort(keyComparator);
+            keys.sort(order);
         }
         return keys.iterator();
     }
@@ -212,4 +290,13 @@ public class UniqueCache<K, V> {
     boolean isThreadSafe() {
         return threadSafe;
     }
+
+    /**
+     * Returns whether keys are kept in comparator order.
+     *
+     * @return true for a sorted cache
+     */
+    public boolean isSorted() {
+        return sorted;
+    }
 }
@@ -25,6 +25,7 @@ public class UniqueCacheBuilder<K, V> {
      */
     private int initialCapacity = 0;
     private boolean threadSafe = false;
+    private boolean sorted = false;
 
     protected UniqueCacheBuilder() {
 
@@ -69,10 +70,22 @@ public class UniqueCacheBuilder<K, V> {
         return this;
     }
 
+    /**
+     * Configure whether the built cache keeps its keys sorted. The initial
+     * capacity hint is ignored by sorted caches.
+     *
+     * @param sorted true to build a sorted cache
+     * @return this builder
+     */
+    public UniqueCacheBuilder<K, V> withSorted(final boolean sorted) {
+        this.sorted = sorted;
+        return this;
+    }
+
     public UniqueCache<K, V> build() {
         Vldtn.requireNonNull(sdf, "sdf");
         UniqueCache<K, V> out = new UniqueCache<>(keyComparator,
-                initialCapacity, threadSafe);
+                initialCapacity, threadSafe, sorted);
         try (EntryIterator<K, V> iterator = sdf.openIterator()) {
             if (!iterator.hasNext()) {
                 throw new IllegalArgumentException(
@@ -87,7 +100,8 @@ public class UniqueCacheBuilder<K, V> {
     }
 
     public UniqueCache<K, V> buildEmpty() {
-        return new UniqueCache<>(keyComparator, initialCapacity, threadSafe);
+        return new UniqueCache<>(keyComparator, initialCapacity, threadSafe,
+                sorted);
     }
 
 }
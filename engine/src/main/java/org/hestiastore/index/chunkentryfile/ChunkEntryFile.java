@@ -3,6 +3,7 @@ package org.hestiastore.index.chunkentryfile;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.function.ObjLongConsumer;
 
 import org.hestiastore.index.Entry;
 import org.hestiastore.index.EntryIteratorWithCurrent;
@@ -28,11 +29,33 @@ public class ChunkEntryFile<K, V> {
     private final TypeDescriptor<V> valueTypeDescriptor;
     private final ChunkStoreFile chunkStoreFile;
     private final DataBlockSize dataBlockSize;
+    private final int restartInterval;
 
     public ChunkEntryFile(final ChunkStoreFile chunkStoreFile,
             final TypeDescriptor<K> keyTypeDescriptor,
             final TypeDescriptor<V> valueTypeDescriptor,
             final DataBlockSize dataBlockSize) {
+        this(chunkStoreFile, keyTypeDescriptor, valueTypeDescriptor,
+                dataBlockSize, SingleChunkEntryWriterImpl.NO_RESTART_POINTS);
+    }
+
+    /**
+     * Creates a chunk entry file that writes chunks with restart points.
+     * Readers detect the payload layout per chunk, so files written with a
+     * different restart interval stay readable.
+     *
+     * @param chunkStoreFile      required chunk store file
+     * @param keyTypeDescriptor   required key type descriptor
+     * @param valueTypeDescriptor required value type descriptor
+     * @param dataBlockSize       required data block size
+     * @param restartInterval     number of entries between restart points in
+     *                            written chunks, {@code 0} keeps the legacy
+     *                            layout
+     */
+    public ChunkEntryFile(final ChunkStoreFile chunkStoreFile,
+            final TypeDescriptor<K> keyTypeDescriptor,
+            final TypeDescriptor<V> valueTypeDescriptor,
+            final DataBlockSize dataBlockSize, final int restartInterval) {
         this.chunkStoreFile = Vldtn.requireNonNull(chunkStoreFile,
                 "chunkStoreFile");
         this.keyTypeDescriptor = Vldtn.requireNonNull(keyTypeDescriptor,
@@ -41,18 +64,20 @@ public class ChunkEntryFile<K, V> {
                 "valueTypeDescriptor");
         this.dataBlockSize = Vldtn.requireNonNull(dataBlockSize,
                 "dataBlockSize");
+        this.restartInterval = Vldtn.requireGreaterThanOrEqualToZero(
+                restartInterval, "restartInterval");
     }
 
     public ChunkEntryFileWriterTx<K, V> openWriterTx() {
         return new ChunkEntryFileWriterTx<>(chunkStoreFile.openWriteTx(),
-                keyTypeDescriptor, valueTypeDescriptor);
+                keyTypeDescriptor, valueTypeDescriptor, restartInterval);
     }
 
     public EntryIteratorWithCurrent<K, V> openIteratorAtPosition(
             final long position) {
         return ChunkEntryFileIterator.fromPayloads(
                 chunkStoreFile.openReader(
-                        CellPosition.of(dataBlockSize, (int) position)),
+                        CellPosition.of(dataBlockSize, position)),
                 payload -> new SingleChunkEntryIterator<>(payload, keyTypeDescriptor,
                         valueTypeDescriptor));
     }
@@ -61,7 +86,7 @@ public class ChunkEntryFile<K, V> {
             final long position, final FileReaderSeekable seekableReader) {
         return ChunkEntryFileIterator.fromPayloads(
                 chunkStoreFile.openReader(
-                        CellPosition.of(dataBlockSize, (int) position),
+                        CellPosition.of(dataBlockSize, position),
                         seekableReader),
                 payload -> new SingleChunkEntryIterator<>(payload, keyTypeDescriptor,
                         valueTypeDescriptor));
@@ -79,7 +104,9 @@ public class ChunkEntryFile<K, V> {
      *
      * <p>
      * This method is optimized for point lookups and avoids the close cascade of
-     * iterator wrappers. The lifecycle of {@code seekableReader} is owned by the
+     * iterator wrappers. Chunks written with restart points are entered at the
+     * closest restart point found by binary search, so at most one restart
+     * interval of entries is decoded per chunk. The lifecycle of {@code seekableReader} is owned by the
      * caller.
      * </p>
      *
@@ -105,7 +132,7 @@ public class ChunkEntryFile<K, V> {
 
         final Reader<ByteSequence> payloadReader = chunkStoreFile
                 .openPayloadReader(
-                        CellPosition.of(dataBlockSize, (int) resolvedPosition),
+                        CellPosition.of(dataBlockSize, resolvedPosition),
                         resolvedSeekableReader);
         int scannedEntries = 0;
 
@@ -114,7 +141,21 @@ public class ChunkEntryFile<K, V> {
             if (payload == null) {
                 return null;
             }
-            final MemFileReader payloadReaderCursor = new MemFileReader(payload);
+            final ChunkEntryPayload chunkPayload = ChunkEntryPayload
+                    .of(payload);
+            final MemFileReader payloadReaderCursor = new MemFileReader(
+                    chunkPayload.getEntries());
+            if (chunkPayload.hasRestartPoints()) {
+                // Start decoding at the closest restart point instead of at the
+                // first entry of the chunk.
+                final int restartOffset = chunkPayload.findRestartOffset(
+                        resolvedKey, keyTypeDescriptor.getTypeDecoder(),
+                        resolvedKeyComparator);
+                if (restartOffset < 0) {
+                    return null;
+                }
+                payloadReaderCursor.skip(restartOffset);
+            }
             final DiffKeyReader<K> keyReader = new DiffKeyReader<>(
                     keyTypeDescriptor.getTypeDecoder());
             final TypeReader<V> valueReader = valueTypeDescriptor
@@ -146,7 +187,8 @@ public class ChunkEntryFile<K, V> {
      * This method decodes the same persisted chunk entries as
      * {@link #searchAtPosition(Object, long, int, Comparator, FileReaderSeekable)}
      * but materializes the page so repeated lookups can avoid chunk-store reads,
-     * decompression, and key/value decoding.
+     * decompression, and key/value decoding. The page weight is estimated from
+     * the decoded payload sizes.
      * </p>
      *
      * @param position start position in cells
@@ -165,32 +207,101 @@ public class ChunkEntryFile<K, V> {
 
         final Reader<ByteSequence> payloadReader = chunkStoreFile
                 .openPayloadReader(
-                        CellPosition.of(dataBlockSize, (int) resolvedPosition),
+                        CellPosition.of(dataBlockSize, resolvedPosition),
                         resolvedSeekableReader);
         final List<Entry<K, V>> entries = new ArrayList<>(resolvedMaxEntries);
         int scannedEntries = 0;
+        long encodedBytes = 0L;
 
         while (scannedEntries < resolvedMaxEntries) {
             final ByteSequence payload = payloadReader.read();
             if (payload == null) {
-                return ParsedChunkPage.of(entries);
+                return ParsedChunkPage.of(entries, encodedBytes);
             }
-            final MemFileReader payloadReaderCursor = new MemFileReader(payload);
-            final DiffKeyReader<K> keyReader = new DiffKeyReader<>(
-                    keyTypeDescriptor.getTypeDecoder());
-            final TypeReader<V> valueReader = valueTypeDescriptor
-                    .getTypeReader();
-            while (scannedEntries < resolvedMaxEntries) {
-                final K currentKey = keyReader.read(payloadReaderCursor);
-                if (currentKey == null) {
-                    break;
-                }
-                final V currentValue = valueReader.read(payloadReaderCursor);
-                entries.add(Entry.of(currentKey, currentValue));
-                scannedEntries++;
+            encodedBytes += payload.length();
+            scannedEntries += readEntries(payload, keyTypeDescriptor,
+                    valueTypeDescriptor, entries,
+                    resolvedMaxEntries - scannedEntries);
+        }
+        return ParsedChunkPage.of(entries, encodedBytes);
+    }
+
+    /**
+     * Reads the whole file chunk by chunk and passes the entries of each chunk
+     * with the position the chunk starts at. The positions can be used with
+     * {@link #searchAtPosition(Object, long, int, Comparator, FileReaderSeekable)}
+     * to build a sparse index of a file written without one.
+     *
+     * @param consumer required receiver of chunk entries and positions
+     */
+    public void forEachChunk(
+            final ObjLongConsumer<List<Entry<K, V>>> consumer) {
+        Vldtn.requireNonNull(consumer, "consumer");
+        chunkStoreFile.forEachPayload((payload, position) -> {
+            final List<Entry<K, V>> entries = new ArrayList<>();
+            readEntries(payload, keyTypeDescriptor, valueTypeDescriptor,
+                    entries, Integer.MAX_VALUE);
+            consumer.accept(entries, position);
+        });
+    }
+
+    /**
+     * Decodes the entries of one chunk payload.
+     *
+     * @param <K>                 key type
+     * @param <V>                 value type
+     * @param payload             chunk payload
+     * @param keyTypeDescriptor   key type descriptor
+     * @param valueTypeDescriptor value type descriptor
+     * @param entries             list the decoded entries are appended to
+     * @param maxEntries          maximum number of entries to decode
+     * @return number of decoded entries
+     */
+    static <K, V> int readEntries(final ByteSequence payload,
+            final TypeDescriptor<K> keyTypeDescriptor,
+            final TypeDescriptor<V> valueTypeDescriptor,
+            final List<Entry<K, V>> entries, final int maxEntries) {
+        final MemFileReader payloadReaderCursor = new MemFileReader(
+                ChunkEntryPayload.of(payload).getEntries());
+        final DiffKeyReader<K> keyReader = new DiffKeyReader<>(
+                keyTypeDescriptor.getTypeDecoder());
+        final TypeReader<V> valueReader = valueTypeDescriptor.getTypeReader();
+        int readEntries = 0;
+        while (readEntries < maxEntries) {
+            final K currentKey = keyReader.read(payloadReaderCursor);
+            if (currentKey == null) {
+                break;
             }
+            final V currentValue = valueReader.read(payloadReaderCursor);
+            entries.add(Entry.of(currentKey, currentValue));
+            readEntries++;
         }
-        return ParsedChunkPage.of(entries);
+        return readEntries;
+    }
+
+    /**
+     * Loads a page starting at a specific on-disk position into compact
+     * storage.
+     *
+     * <p>
+     * The page decodes the same entries as
+     * {@link #loadParsedPageAtPosition(long, int, FileReaderSeekable)} but
+     * keeps them encoded in one byte array with a key offset table. Lookups
+     * decode only the keys they compare and the matched value, trading some
+     * CPU per hit for a much smaller and GC-friendlier cached page.
+     * </p>
+     *
+     * @param position start position in cells
+     * @param maxEntries maximum number of entries to parse
+     * @param seekableReader externally managed seekable reader
+     * @return compact parsed chunk page
+     */
+    public ParsedChunkPage<K, V> loadCompactPageAtPosition(final long position,
+            final int maxEntries, final FileReaderSeekable seekableReader) {
+        final ParsedChunkPage<K, V> page = loadParsedPageAtPosition(position,
+                maxEntries, seekableReader);
+        return ParsedChunkPage.backedBy(CompactChunkPageEntries.of(
+                page.entries(), keyTypeDescriptor, valueTypeDescriptor));
     }
 
 }
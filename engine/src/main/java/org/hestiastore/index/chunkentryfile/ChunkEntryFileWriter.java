@@ -1,5 +1,8 @@
 package org.hestiastore.index.chunkentryfile;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.hestiastore.index.AbstractCloseableResource;
 import org.hestiastore.index.Entry;
 import org.hestiastore.index.EntryWriter;
@@ -7,6 +10,7 @@ import org.hestiastore.index.Vldtn;
 import org.hestiastore.index.bytes.ByteSequence;
 import org.hestiastore.index.chunkstore.CellPosition;
 import org.hestiastore.index.chunkstore.ChunkStoreWriter;
+import org.hestiastore.index.chunkstorecache.ParsedChunkPage;
 import org.hestiastore.index.datatype.TypeDescriptor;
 
 /**
@@ -22,8 +26,10 @@ public class ChunkEntryFileWriter<K, V> extends AbstractCloseableResource
     private final TypeDescriptor<K> keyTypeDescriptor;
     private final TypeDescriptor<V> valueTypeDescriptor;
     private final ChunkStoreWriter chunkStoreWriter;
+    private final int restartInterval;
 
     private SingleChunkEntryWriter<K, V> chunkEntryWriter;
+    private ByteSequence lastChunkPayload;
 
     /**
      * Constructs a new ChunkEntryFileWriter.
@@ -36,12 +42,32 @@ public class ChunkEntryFileWriter<K, V> extends AbstractCloseableResource
     ChunkEntryFileWriter(final ChunkStoreWriter chunkStoreWriter,
             final TypeDescriptor<K> keyTypeDescriptor,
             final TypeDescriptor<V> valueTypeDescriptor) {
+        this(chunkStoreWriter, keyTypeDescriptor, valueTypeDescriptor,
+                SingleChunkEntryWriterImpl.NO_RESTART_POINTS);
+    }
+
+    /**
+     * Constructs a new ChunkEntryFileWriter.
+     *
+     * @param chunkStoreWriter    required chunk store writer to write chunks
+     *                            to.
+     * @param keyTypeDescriptor   required type descriptor for keys.
+     * @param valueTypeDescriptor required type descriptor for values.
+     * @param restartInterval     number of entries between restart points, 0
+     *                            keeps the legacy chunk layout.
+     */
+    ChunkEntryFileWriter(final ChunkStoreWriter chunkStoreWriter,
+            final TypeDescriptor<K> keyTypeDescriptor,
+            final TypeDescriptor<V> valueTypeDescriptor,
+            final int restartInterval) {
         this.chunkStoreWriter = Vldtn.requireNonNull(chunkStoreWriter,
                 "chunkStoreWriter");
         this.keyTypeDescriptor = Vldtn.requireNonNull(keyTypeDescriptor,
                 "keyTypeDescriptor");
         this.valueTypeDescriptor = Vldtn.requireNonNull(valueTypeDescriptor,
                 "valueTypeDescriptor");
+        this.restartInterval = Vldtn.requireGreaterThanOrEqualToZero(
+                restartInterval, "restartInterval");
         openNewChunkEntryWriter();
     }
 
@@ -59,16 +85,40 @@ public class ChunkEntryFileWriter<K, V> extends AbstractCloseableResource
         final ByteSequence payload = chunkEntryWriter.closeSequence();
         chunkEntryWriter = null; // reset for next write
         openNewChunkEntryWriter();
+        lastChunkPayload = payload;
         return chunkStoreWriter.writeSequence(payload, 1);
     }
 
+    /**
+     * Decodes the chunk written by the last {@link #flush()} into a parsed
+     * page. The page is equal to the one a chunk cache loader reads back from
+     * the returned position, so it can be cached without reading the file.
+     *
+     * @param compact whether to build compact encoded page storage
+     * @return parsed page of the last flushed chunk
+     * @throws IllegalStateException when no chunk was flushed yet
+     */
+    public ParsedChunkPage<K, V> getLastChunkPage(final boolean compact) {
+        if (lastChunkPayload == null) {
+            throw new IllegalStateException("No chunk has been flushed yet.");
+        }
+        final List<Entry<K, V>> entries = new ArrayList<>();
+        ChunkEntryFile.readEntries(lastChunkPayload, keyTypeDescriptor,
+                valueTypeDescriptor, entries, Integer.MAX_VALUE);
+        if (compact) {
+            return ParsedChunkPage.backedBy(CompactChunkPageEntries
+                    .of(entries, keyTypeDescriptor, valueTypeDescriptor));
+        }
+        return ParsedChunkPage.of(entries, lastChunkPayload.length());
+    }
+
     private void openNewChunkEntryWriter() {
         if (this.chunkEntryWriter != null) {
             throw new IllegalStateException(
                     "ChunkEntryWriter is already set, cannot open new one.");
         }
         this.chunkEntryWriter = new SingleChunkEntryWriterImpl<>(
-                keyTypeDescriptor, valueTypeDescriptor);
+                keyTypeDescriptor, valueTypeDescriptor, restartInterval);
     }
 
     @Override
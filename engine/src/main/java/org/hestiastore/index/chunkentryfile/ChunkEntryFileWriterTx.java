@@ -16,6 +16,7 @@ public class ChunkEntryFileWriterTx<K, V> implements Commitable {
     private final TypeDescriptor<K> keyTypeDescriptor;
     private final TypeDescriptor<V> valueTypeDescriptor;
     private final ChunkStoreWriterTx chunkStoreWriterTx;
+    private final int restartInterval;
 
     /**
      * Constructs a new {@code ChunkEntryFileWriterTx}.
@@ -27,12 +28,32 @@ public class ChunkEntryFileWriterTx<K, V> implements Commitable {
     public ChunkEntryFileWriterTx(final ChunkStoreWriterTx chunkStoreWriterTx,
             final TypeDescriptor<K> keyTypeDescriptor,
             final TypeDescriptor<V> valueTypeDescriptor) {
+        this(chunkStoreWriterTx, keyTypeDescriptor, valueTypeDescriptor,
+                SingleChunkEntryWriterImpl.NO_RESTART_POINTS);
+    }
+
+    /**
+     * Constructs a new {@code ChunkEntryFileWriterTx}.
+     *
+     * @param chunkStoreWriterTx  required chunk store writer transaction
+     * @param keyTypeDescriptor   required type descriptor for keys
+     * @param valueTypeDescriptor required type descriptor for values
+     * @param restartInterval     number of entries between restart points in
+     *                            written chunks, {@code 0} keeps the legacy
+     *                            layout
+     */
+    public ChunkEntryFileWriterTx(final ChunkStoreWriterTx chunkStoreWriterTx,
+            final TypeDescriptor<K> keyTypeDescriptor,
+            final TypeDescriptor<V> valueTypeDescriptor,
+            final int restartInterval) {
         this.chunkStoreWriterTx = Vldtn.requireNonNull(chunkStoreWriterTx,
                 "chunkStoreWriterTx");
         this.keyTypeDescriptor = Vldtn.requireNonNull(keyTypeDescriptor,
                 "keyTypeDescriptor");
         this.valueTypeDescriptor = Vldtn.requireNonNull(valueTypeDescriptor,
                 "valueTypeDescriptor");
+        this.restartInterval = Vldtn.requireGreaterThanOrEqualToZero(
+                restartInterval, "restartInterval");
     }
 
     /**
@@ -42,7 +63,7 @@ public class ChunkEntryFileWriterTx<K, V> implements Commitable {
      */
     public ChunkEntryFileWriter<K, V> openWriter() {
         return new ChunkEntryFileWriter<>(chunkStoreWriterTx.open(),
-                keyTypeDescriptor, valueTypeDescriptor);
+                keyTypeDescriptor, valueTypeDescriptor, restartInterval);
     }
 
     @Override
@@ -0,0 +1,212 @@
+package org.hestiastore.index.chunkentryfile;
+
+import java.util.Comparator;
+
+import org.hestiastore.index.IndexException;
+import org.hestiastore.index.Vldtn;
+import org.hestiastore.index.bytes.ByteSequence;
+import org.hestiastore.index.datatype.TypeDecoder;
+import org.hestiastore.index.directory.MemFileReader;
+import org.hestiastore.index.sorteddatafile.DiffKeyReader;
+
+/**
+ * Layout of one chunk-entry payload.
+ * <p>
+ * The legacy payload is a plain sequence of diff-key encoded entries. Its
+ * first byte is always {@code 0}, because the first key of a chunk never
+ * shares a prefix.
+ * <p>
+ * A payload with restart points starts with {@link #RESTART_POINTS_FORMAT}
+ * instead. The entry section follows, where every N-th key is written in
+ * full. The payload ends with a trailer holding the offset of each restart
+ * entry (relative to the entry section) and the number of restart points, all
+ * as big-endian 4-byte integers:
+ *
+ * <pre>
+ * [format][entries...][offset 0]...[offset n-1][n]
+ * </pre>
+ *
+ * A point lookup binary-searches the full keys at the restart points and
+ * decodes entries only from the closest restart point.
+ */
+final class ChunkEntryPayload {
+
+    /**
+     * First payload byte marking the restart-point format.
+     */
+    static final byte RESTART_POINTS_FORMAT = (byte) 0xA1;
+
+    static final int INT_BYTES = 4;
+
+    private static final int DIFF_KEY_HEADER_BYTES = 2;
+
+    private static final int[] NO_RESTART_POINTS = new int[0];
+
+    private final ByteSequence entries;
+    private final int[] restartOffsets;
+
+    private ChunkEntryPayload(final ByteSequence entries,
+            final int[] restartOffsets) {
+        this.entries = entries;
+        this.restartOffsets = restartOffsets;
+    }
+
+    /**
+     * Parses the payload layout. Legacy payloads are returned unchanged with no
+     * restart points.
+     *
+     * @param payload required chunk payload
+     * @return parsed payload layout
+     */
+    static ChunkEntryPayload of(final ByteSequence payload) {
+        final ByteSequence validated = Vldtn.requireNonNull(payload,
+                "payload");
+        if (validated.isEmpty()
+                || validated.getByte(0) != RESTART_POINTS_FORMAT) {
+            return new ChunkEntryPayload(validated, NO_RESTART_POINTS);
+        }
+        final int length = validated.length();
+        if (length < 1 + INT_BYTES) {
+            throw new IndexException(String.format(
+                    "Chunk payload with restart points is too short: '%s' bytes",
+                    length));
+        }
+        final int count = readInt(validated, length - INT_BYTES);
+        final int entriesEnd = length - INT_BYTES - count * INT_BYTES;
+        if (count < 0 || entriesEnd < 1) {
+            throw new IndexException(String.format(
+                    "Invalid restart point count '%s' in chunk payload of '%s' bytes",
+                    count, length));
+        }
+        final int[] offsets = new int[count];
+        for (int i = 0; i < count; i++) {
+            offsets[i] = readInt(validated, entriesEnd + i * INT_BYTES);
+        }
+        return new ChunkEntryPayload(validated.slice(1, entriesEnd), offsets);
+    }
+
+    /**
+     * Returns the diff-key encoded entry section.
+     *
+     * @return entry bytes without format marker and trailer
+     */
+    ByteSequence getEntries() {
+        return entries;
+    }
+
+    /**
+     * Returns whether the payload carries restart points.
+     *
+     * @return true for the restart-point format
+     */
+    boolean hasRestartPoints() {
+        return restartOffsets.length > 0;
+    }
+
+    /**
+     * Returns the number of restart points in the payload.
+     *
+     * @return restart point count, {@code 0} for legacy payloads
+     */
+    int getRestartPointCount() {
+        return restartOffsets.length;
+    }
+
+    /**
+     * Finds the offset of the last restart entry whose key is less than or
+     * equal to the searched key. Sequential decoding from that offset reaches
+     * the key, if present, within one restart interval.
+     *
+     * @param <K>           key type
+     * @param key           searched key
+     * @param keyDecoder    key decoder
+     * @param keyComparator key comparator
+     * @return entry offset, or {@code -1} when the key sorts before the first
+     *         entry of the payload
+     */
+    <K> int findRestartOffset(final K key, final TypeDecoder<K> keyDecoder,
+            final Comparator<K> keyComparator) {
+        final int index = searchRestartPoints(key, keyDecoder, keyComparator);
+        if (index >= 0) {
+            return restartOffsets[index];
+        }
+        final int preceding = -index - 2;
+        return preceding < 0 ? -1 : restartOffsets[preceding];
+    }
+
+    /**
+     * Finds the offset of the restart entry whose key equals the searched
+     * key. With a restart interval of one every entry is a restart point, so
+     * this is an exact lookup over the whole payload.
+     *
+     * @param <K>           key type
+     * @param key           searched key
+     * @param keyDecoder    key decoder
+     * @param keyComparator key comparator
+     * @return entry offset, or {@code -1} when no restart entry has the key
+     */
+    <K> int findExactRestartOffset(final K key,
+            final TypeDecoder<K> keyDecoder,
+            final Comparator<K> keyComparator) {
+        final int index = searchRestartPoints(key, keyDecoder, keyComparator);
+        return index < 0 ? -1 : restartOffsets[index];
+    }
+
+    /**
+     * Returns the offset of the value that follows the restart entry key at
+     * the given offset. Restart entry keys share no prefix, so their 2-byte
+     * diff-key header is followed by the full key.
+     *
+     * @param restartOffset offset of a restart entry
+     * @return offset of the entry value
+     */
+    int valueOffsetAt(final int restartOffset) {
+        final int keyLength = Byte
+                .toUnsignedInt(entries.getByte(restartOffset + 1));
+        return restartOffset + DIFF_KEY_HEADER_BYTES + keyLength;
+    }
+
+    /**
+     * Binary search over restart keys with the contract of
+     * {@link java.util.Arrays#binarySearch(int[], int)}.
+     */
+    private <K> int searchRestartPoints(final K key,
+            final TypeDecoder<K> keyDecoder,
+            final Comparator<K> keyComparator) {
+        int low = 0;
+        int high = restartOffsets.length - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final K restartKey = readKeyAt(restartOffsets[mid], keyDecoder);
+            final int cmp = keyComparator.compare(restartKey, key);
+            if (cmp == 0) {
+                return mid;
+            }
+            if (cmp < 0) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private <K> K readKeyAt(final int offset, final TypeDecoder<K> keyDecoder) {
+        final MemFileReader reader = new MemFileReader(entries);
+        reader.skip(offset);
+        final K key = new DiffKeyReader<>(keyDecoder).read(reader);
+        if (key == null) {
+            throw new IndexException(String.format(
+                    "Restart point offset '%s' is outside of chunk entries",
+                    offset));
+        }
+        return key;
+    }
+
+    private static int readInt(final ByteSequence bytes, final int index) {
+        return (bytes.getByte(index) & 0xFF) << 24
+                | (bytes.getByte(index + 1) & 0xFF) << 16
+                | (bytes.getByte(index + 2) & 0xFF) << 8
+                | bytes.getByte(index + 3) & 0xFF;
+    }
+}
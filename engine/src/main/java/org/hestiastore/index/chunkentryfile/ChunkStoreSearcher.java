@@ -44,7 +44,7 @@ public class ChunkStoreSearcher<K, V> {
     public EntryIterator<K, V> openIteratorAtPosition(final long position) {
         return ChunkEntryFileIterator.fromPayloads(
                 chunkStoreFile.openReader(
-                        CellPosition.of(dataBlockSize, (int) position)),
+                        CellPosition.of(dataBlockSize, position)),
                 payload -> new SingleChunkEntryIterator<>(payload, keyTypeDescriptor,
                         valueTypeDescriptor));
     }
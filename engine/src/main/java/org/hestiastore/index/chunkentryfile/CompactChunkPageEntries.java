@@ -0,0 +1,102 @@
+package org.hestiastore.index.chunkentryfile;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.hestiastore.index.Entry;
+import org.hestiastore.index.Vldtn;
+import org.hestiastore.index.bytes.ByteSequence;
+import org.hestiastore.index.bytes.ByteSequences;
+import org.hestiastore.index.chunkstorecache.ChunkPageEntries;
+import org.hestiastore.index.chunkstorecache.ParsedChunkPage;
+import org.hestiastore.index.datatype.TypeDescriptor;
+import org.hestiastore.index.directory.MemFileReader;
+
+/**
+ * Compact chunk page storage that keeps the page as one encoded payload.
+ * <p>
+ * The entries are re-encoded in the restart-point layout of
+ * {@link ChunkEntryPayload} with a restart point at every entry, so every key
+ * is stored in full next to its offset. The page then costs one byte array and
+ * one offset array instead of an entry, key and value object per entry. A
+ * lookup binary-searches the keys and decodes only the matched value.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+final class CompactChunkPageEntries<K, V> implements ChunkPageEntries<K, V> {
+
+    private static final int EVERY_ENTRY = 1;
+
+    private final ByteSequence payload;
+    private final ChunkEntryPayload layout;
+    private final TypeDescriptor<K> keyTypeDescriptor;
+    private final TypeDescriptor<V> valueTypeDescriptor;
+
+    private CompactChunkPageEntries(final ByteSequence payload,
+            final TypeDescriptor<K> keyTypeDescriptor,
+            final TypeDescriptor<V> valueTypeDescriptor) {
+        this.payload = payload;
+        this.layout = ChunkEntryPayload.of(payload);
+        this.keyTypeDescriptor = keyTypeDescriptor;
+        this.valueTypeDescriptor = valueTypeDescriptor;
+    }
+
+    /**
+     * Encodes sorted entries into a compact page.
+     *
+     * @param <K>                 key type
+     * @param <V>                 value type
+     * @param entries             sorted entries
+     * @param keyTypeDescriptor   key type descriptor
+     * @param valueTypeDescriptor value type descriptor
+     * @return compact page storage
+     */
+    static <K, V> CompactChunkPageEntries<K, V> of(
+            final List<Entry<K, V>> entries,
+            final TypeDescriptor<K> keyTypeDescriptor,
+            final TypeDescriptor<V> valueTypeDescriptor) {
+        Vldtn.requireNonNull(entries, "entries");
+        final SingleChunkEntryWriterImpl<K, V> writer = new SingleChunkEntryWriterImpl<>(
+                keyTypeDescriptor, valueTypeDescriptor, EVERY_ENTRY);
+        entries.forEach(writer::put);
+        // Flatten the appended parts into a single array.
+        return new CompactChunkPageEntries<>(
+                ByteSequences.copyOf(writer.closeSequence()),
+                keyTypeDescriptor, valueTypeDescriptor);
+    }
+
+    @Override
+    public V find(final K key, final Comparator<K> comparator) {
+        final int offset = layout.findExactRestartOffset(key,
+                keyTypeDescriptor.getTypeDecoder(), comparator);
+        if (offset < 0) {
+            return null;
+        }
+        final MemFileReader reader = new MemFileReader(layout.getEntries());
+        reader.skip(layout.valueOffsetAt(offset));
+        return valueTypeDescriptor.getTypeReader().read(reader);
+    }
+
+    @Override
+    public List<Entry<K, V>> entries() {
+        final List<Entry<K, V>> out = new ArrayList<>(size());
+        try (SingleChunkEntryIterator<K, V> iterator = new SingleChunkEntryIterator<>(
+                payload, keyTypeDescriptor, valueTypeDescriptor)) {
+            iterator.forEachRemaining(out::add);
+        }
+        return out;
+    }
+
+    @Override
+    public int size() {
+        return layout.getRestartPointCount();
+    }
+
+    @Override
+    public long weightBytes() {
+        return ParsedChunkPage.PAGE_OVERHEAD_BYTES + payload.length()
+                + (long) size() * ChunkEntryPayload.INT_BYTES;
+    }
+}
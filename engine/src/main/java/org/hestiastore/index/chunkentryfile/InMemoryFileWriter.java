@@ -16,6 +16,7 @@ class InMemoryFileWriter extends AbstractCloseableResource
 
     private final BytesAppender appender;
     private boolean closed = false;
+    private int writtenBytes = 0;
 
     InMemoryFileWriter(final BytesAppender appender) {
         this.appender = Vldtn.requireNonNull(appender, "appender");
@@ -25,6 +26,7 @@ class InMemoryFileWriter extends AbstractCloseableResource
     public void write(final byte b) {
         ensureOpen();
         appender.append(ONE_BYTE_SEQUENCES[b & 0xFF]);
+        writtenBytes++;
     }
 
     @Override
@@ -49,6 +51,28 @@ class InMemoryFileWriter extends AbstractCloseableResource
         }
         appender.append(ByteSequences
                 .copyOf(ByteSequences.viewOf(validated, from, from + len)));
+        writtenBytes += len;
+    }
+
+    @Override
+    public void write(final ByteSequence sequence) {
+        final ByteSequence validated = Vldtn.requireNonNull(sequence,
+                "sequence");
+        ensureOpen();
+        if (validated.isEmpty()) {
+            return;
+        }
+        appender.append(ByteSequences.copyOf(validated));
+        writtenBytes += validated.length();
+    }
+
+    /**
+     * Returns the number of bytes written so far.
+     *
+     * @return written byte count
+     */
+    int getWrittenBytes() {
+        return writtenBytes;
     }
 
     @Override
@@ -14,7 +14,8 @@ import org.hestiastore.index.sorteddatafile.DiffKeyReader;
 import org.hestiastore.index.unsorteddatafile.DataFileIterator;
 
 /**
- * It allows to iterate over all entries stored in one chunk.
+ * It allows to iterate over all entries stored in one chunk. Both the legacy
+ * payload layout and the restart-point layout are supported.
  */
 public class SingleChunkEntryIterator<K, V>
         extends AbstractCloseableResource implements EntryIteratorWithCurrent<K, V> {
@@ -52,7 +53,8 @@ public class SingleChunkEntryIterator<K, V>
 
         // Fast path: iterate directly over chunk payload bytes without
         // constructing a Directory + SortedDataFile stack.
-        final MemFileReader reader = new MemFileReader(validatedPayload);
+        final MemFileReader reader = new MemFileReader(
+                ChunkEntryPayload.of(validatedPayload).getEntries());
         final DiffKeyReader<K> keyReader = new DiffKeyReader<>(
                 keyTypeDescriptor.getTypeDecoder());
         this.iterator = new DataFileIterator<>(keyReader,
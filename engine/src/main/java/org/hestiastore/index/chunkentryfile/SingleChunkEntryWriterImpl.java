@@ -1,5 +1,8 @@
 package org.hestiastore.index.chunkentryfile;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.hestiastore.index.Entry;
 import org.hestiastore.index.Vldtn;
 import org.hestiastore.index.bytes.ByteSequence;
@@ -11,31 +14,62 @@ import org.hestiastore.index.sorteddatafile.DiffKeyWriter;
 /**
  * Simplest Chunk writer that writes all data into memmory and than create from
  * it Chunk payload.
+ * <p>
+ * With a positive restart interval the payload uses the restart-point layout
+ * described in {@link ChunkEntryPayload}.
  */
 public class SingleChunkEntryWriterImpl<K, V>
         implements SingleChunkEntryWriter<K, V> {
 
+    /**
+     * Restart interval that keeps the legacy payload layout.
+     */
+    public static final int NO_RESTART_POINTS = 0;
+
     private final BytesAppender appender = new BytesAppender();
     private final InMemoryFileWriter fileWriter = new InMemoryFileWriter(
             appender);
     private final TypeWriter<V> valueWriter;
     private final DiffKeyWriter<K> diffKeyWriter;
+    private final int restartInterval;
+    private final List<Integer> restartOffsets = new ArrayList<>();
+    private int entryCount = 0;
     private boolean closed = false;
 
     /**
      * Creates a new chunk writer.
-     * 
+     *
      * @param keyTypeDescriptor   required key type descriptor
      * @param valueTypeDescriptor required value type descriptor
      */
     public SingleChunkEntryWriterImpl(final TypeDescriptor<K> keyTypeDescriptor,
             final TypeDescriptor<V> valueTypeDescriptor) {
+        this(keyTypeDescriptor, valueTypeDescriptor, NO_RESTART_POINTS);
+    }
+
+    /**
+     * Creates a new chunk writer.
+     *
+     * @param keyTypeDescriptor   required key type descriptor
+     * @param valueTypeDescriptor required value type descriptor
+     * @param restartInterval     number of entries between restart points, or
+     *                            {@link #NO_RESTART_POINTS} for the legacy
+     *                            layout
+     */
+    public SingleChunkEntryWriterImpl(final TypeDescriptor<K> keyTypeDescriptor,
+            final TypeDescriptor<V> valueTypeDescriptor,
+            final int restartInterval) {
         Vldtn.requireNonNull(keyTypeDescriptor, "keyTypeDescriptor");
         Vldtn.requireNonNull(valueTypeDescriptor, "valueTypeDescriptor");
+        this.restartInterval = Vldtn.requireGreaterThanOrEqualToZero(
+                restartInterval, "restartInterval");
         this.valueWriter = valueTypeDescriptor.getTypeWriter();
         this.diffKeyWriter = new DiffKeyWriter<>(
                 keyTypeDescriptor.getTypeEncoder(),
                 keyTypeDescriptor.getComparator());
+        if (hasRestartPoints()) {
+            fileWriter.write(ChunkEntryPayload.RESTART_POINTS_FORMAT);
+        }
     }
 
     @Override
@@ -44,18 +78,51 @@ public class SingleChunkEntryWriterImpl<K, V>
         if (closed) {
             throw new IllegalStateException("Chunk writer already closed");
         }
+        if (hasRestartPoints() && entryCount % restartInterval == 0) {
+            // Offsets are relative to the entry section after the format byte.
+            restartOffsets.add(fileWriter.getWrittenBytes() - 1);
+            diffKeyWriter.restart();
+        }
         // Write diff-encoded key directly into the chunk payload writer.
         diffKeyWriter.writeTo(fileWriter, entry.getKey());
         // Write value payload via type writer
         valueWriter.write(fileWriter, entry.getValue());
+        entryCount++;
     }
 
     @Override
     public ByteSequence closeSequence() {
         if (!closed) {
             closed = true;
+            if (hasRestartPoints()) {
+                writeRestartPointsTrailer();
+            }
         }
         return appender.getBytes();
     }
 
+    private boolean hasRestartPoints() {
+        return restartInterval > NO_RESTART_POINTS;
+    }
+
+    private void writeRestartPointsTrailer() {
+        final byte[] trailer = new byte[(restartOffsets.size() + 1)
+                * ChunkEntryPayload.INT_BYTES];
+        int index = 0;
+        for (final Integer offset : restartOffsets) {
+            index = writeInt(trailer, index, offset);
+        }
+        writeInt(trailer, index, restartOffsets.size());
+        fileWriter.write(trailer);
+    }
+
+    private static int writeInt(final byte[] target, final int index,
+            final int value) {
+        target[index] = (byte) (value >>> 24);
+        target[index + 1] = (byte) (value >>> 16);
+        target[index + 2] = (byte) (value >>> 8);
+        target[index + 3] = (byte) value;
+        return index + ChunkEntryPayload.INT_BYTES;
+    }
+
 }
@@ -17,7 +17,7 @@ public class CellPosition {
 
     private final DataBlockSize dataBlockSize;
 
-    private final int position;
+    private final long position;
 
     /**
      * Create position within chunk store.
@@ -27,12 +27,12 @@ public class CellPosition {
      * @return Position within chunk store.
      */
     public static CellPosition of(final DataBlockSize dataBlockSize,
-            final int position) {
+            final long position) {
         return new CellPosition(dataBlockSize, position);
     }
 
     private CellPosition(final DataBlockSize dataBlockSize,
-            final int position) {
+            final long position) {
         if (position < 0) {
             throw new IllegalArgumentException("Position must be non-negative");
         }
@@ -46,7 +46,7 @@ public class CellPosition {
      * 
      * @return Position in bytes.
      */
-    public int getValue() {
+    public long getValue() {
         return position;
     }
 
@@ -65,7 +65,7 @@ public class CellPosition {
      * @return Position of the start of data block containing this position.
      */
     public DataBlockPosition getDataBlockStartPosition() {
-        final int blockIndex = position / dataBlockSize.getPayloadSize();
+        final long blockIndex = position / dataBlockSize.getPayloadSize();
         return DataBlockPosition
                 .of(blockIndex * dataBlockSize.getDataBlockSize());
     }
@@ -76,7 +76,8 @@ public class CellPosition {
      * @return Number of free bytes in current data block.
      */
     public int getFreeBytesInCurrentDataBlock() {
-        return getDataBlockPayloadSize() - position % getDataBlockPayloadSize();
+        return getDataBlockPayloadSize()
+                - (int) (position % getDataBlockPayloadSize());
     }
 
     @Override
@@ -99,7 +100,7 @@ public class CellPosition {
 
     @Override
     public int hashCode() {
-        return Integer.hashCode(position);
+        return Long.hashCode(position);
     }
 
     @Override
@@ -134,7 +135,7 @@ public class CellPosition {
     }
 
     private int getStartingByteInBlockOfCell() {
-        return position % getDataBlockPayloadSize();
+        return (int) (position % getDataBlockPayloadSize());
     }
 
     /**
@@ -0,0 +1,115 @@
+package org.hestiastore.index.chunkstore;
+
+import java.util.Arrays;
+import java.util.zip.Adler32;
+
+import org.hestiastore.index.Vldtn;
+
+/**
+ * Immutable preset dictionary shared by every chunk of one compressed file.
+ * <p>
+ * The dictionary is identified by the Adler-32 checksum of its bytes, which is
+ * the id zlib streams record in their header. An empty dictionary means the
+ * chunks were compressed without one.
+ */
+public final class ChunkCompressionDictionary {
+
+    private static final ChunkCompressionDictionary EMPTY = new ChunkCompressionDictionary(
+            new byte[0]);
+
+    private final byte[] bytes;
+    private final int id;
+
+    private ChunkCompressionDictionary(final byte[] bytes) {
+        this.bytes = bytes;
+        final Adler32 adler = new Adler32();
+        adler.update(bytes, 0, bytes.length);
+        this.id = (int) adler.getValue();
+    }
+
+    /**
+     * Creates a dictionary from a copy of the given bytes.
+     *
+     * @param bytes required dictionary content
+     * @return dictionary, or {@link #empty()} for an empty array
+     */
+    public static ChunkCompressionDictionary of(final byte[] bytes) {
+        final byte[] requiredBytes = Vldtn.requireNonNull(bytes, "bytes");
+        if (requiredBytes.length == 0) {
+            return EMPTY;
+        }
+        return new ChunkCompressionDictionary(
+                Arrays.copyOf(requiredBytes, requiredBytes.length));
+    }
+
+    /**
+     * Returns the dictionary used when none was trained.
+     *
+     * @return empty dictionary
+     */
+    public static ChunkCompressionDictionary empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns whether the dictionary has no content.
+     *
+     * @return {@code true} when empty
+     */
+    public boolean isEmpty() {
+        return bytes.length == 0;
+    }
+
+    /**
+     * Returns the dictionary length in bytes.
+     *
+     * @return dictionary length
+     */
+    public int length() {
+        return bytes.length;
+    }
+
+    /**
+     * Returns the Adler-32 id of the dictionary content.
+     *
+     * @return dictionary id
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Returns a copy of the dictionary content.
+     *
+     * @return dictionary bytes
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(bytes, bytes.length);
+    }
+
+    byte[] bytes() {
+        return bytes;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof ChunkCompressionDictionary other)) {
+            return false;
+        }
+        return id == other.id && Arrays.equals(bytes, other.bytes);
+    }
+
+    @Override
+    public int hashCode() {
+        return id;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ChunkCompressionDictionary[length=%d, id=%08x]",
+                bytes.length, id);
+    }
+}
@@ -0,0 +1,116 @@
+package org.hestiastore.index.chunkstore;
+
+import java.util.Arrays;
+
+import org.hestiastore.index.IndexException;
+import org.hestiastore.index.bytes.ByteSequence;
+import org.hestiastore.index.bytes.ByteSequences;
+
+/**
+ * Per-thread scratch buffers shared by the compression filters.
+ * <p>
+ * Compressed payloads produced by the built-in codecs start with a 4-byte
+ * big-endian uncompressed length, so decoders can allocate the result exactly
+ * once. Everything else a codec needs while working on a chunk (input copy,
+ * output staging, match tables) is taken from the calling thread's scratch
+ * and grows to the largest chunk that thread has seen.
+ */
+final class ChunkCompressionScratch {
+
+    static final int LENGTH_PREFIX_BYTES = 4;
+
+    private static final ThreadLocal<ChunkCompressionScratch> SCRATCH = ThreadLocal
+            .withInitial(ChunkCompressionScratch::new);
+
+    private byte[] input = new byte[0];
+    private byte[] output = new byte[0];
+    private int[] table = new int[0];
+
+    private ChunkCompressionScratch() {
+    }
+
+    /**
+     * Returns scratch buffers owned by the calling thread.
+     *
+     * @return thread-local scratch
+     */
+    static ChunkCompressionScratch current() {
+        return SCRATCH.get();
+    }
+
+    /**
+     * Copies the whole sequence into the input buffer.
+     *
+     * @param sequence bytes to copy
+     * @return input buffer holding the sequence at offset 0
+     */
+    byte[] copyInput(final ByteSequence sequence) {
+        final int length = sequence.length();
+        if (input.length < length) {
+            input = new byte[length];
+        }
+        ByteSequences.copy(sequence, 0, input, 0, length);
+        return input;
+    }
+
+    /**
+     * Returns an output buffer of at least the requested capacity.
+     *
+     * @param minCapacity required capacity
+     * @return output buffer
+     */
+    byte[] output(final int minCapacity) {
+        if (output.length < minCapacity) {
+            output = new byte[minCapacity];
+        }
+        return output;
+    }
+
+    /**
+     * Doubles the output buffer keeping its content.
+     *
+     * @return larger output buffer
+     */
+    byte[] growOutput() {
+        output = Arrays.copyOf(output, Math.max(64, output.length * 2));
+        return output;
+    }
+
+    /**
+     * Returns an int table of exactly the requested size.
+     *
+     * @param size table size
+     * @return table with unspecified content
+     */
+    int[] table(final int size) {
+        if (table.length != size) {
+            table = new int[size];
+        }
+        return table;
+    }
+
+    static void writeLength(final byte[] target, final int length) {
+        target[0] = (byte) (length >>> 24);
+        target[1] = (byte) (length >>> 16);
+        target[2] = (byte) (length >>> 8);
+        target[3] = (byte) length;
+    }
+
+    static int readLength(final byte[] source, final int sourceLength,
+            final String codecName) {
+        if (sourceLength < LENGTH_PREFIX_BYTES) {
+            throw new IndexException(String.format(
+                    "%s chunk payload is too short: %d bytes", codecName,
+                    sourceLength));
+        }
+        final int length = (source[0] & 0xFF) << 24
+                | (source[1] & 0xFF) << 16 | (source[2] & 0xFF) << 8
+                | (source[3] & 0xFF);
+        if (length < 0) {
+            throw new IndexException(String.format(
+                    "%s chunk payload declares invalid length %d", codecName,
+                    length));
+        }
+        return length;
+    }
+}
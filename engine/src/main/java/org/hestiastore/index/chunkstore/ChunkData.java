@@ -119,7 +119,7 @@ public class ChunkData {
                 chunkHeader.getVersion(), payload));
     }
 
-    private static int convertLengthToWholeCells(final int length) {
+    static int convertLengthToWholeCells(final int length) {
         int out = length / CellPosition.CELL_SIZE;
         if (length % CellPosition.CELL_SIZE != 0) {
             out++;
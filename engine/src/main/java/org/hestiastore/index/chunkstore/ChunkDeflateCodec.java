@@ -0,0 +1,157 @@
+package org.hestiastore.index.chunkstore;
+
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.hestiastore.index.IndexException;
+import org.hestiastore.index.bytes.ByteSequence;
+
+/**
+ * Deflate payload codec shared by the plain and dictionary deflate filters.
+ * <p>
+ * Without a dictionary the payload is a raw deflate stream. With a dictionary
+ * the stream carries the zlib wrapper, so its header records the Adler-32 id
+ * of the dictionary it was compressed with and a reader holding a different
+ * dictionary fails instead of decoding garbage. Both forms are preceded by
+ * the 4-byte uncompressed length. Deflaters and inflaters are reused per
+ * thread.
+ */
+final class ChunkDeflateCodec {
+
+    private static final int LEVEL_SLOTS = Deflater.BEST_COMPRESSION
+            - Deflater.DEFAULT_COMPRESSION + 1;
+
+    private static final ThreadLocal<Deflater[]> DEFLATERS = ThreadLocal
+            .withInitial(() -> new Deflater[LEVEL_SLOTS * 2]);
+
+    private static final ThreadLocal<Inflater> RAW_INFLATERS = ThreadLocal
+            .withInitial(() -> new Inflater(true));
+
+    private static final ThreadLocal<Inflater> WRAPPED_INFLATERS = ThreadLocal
+            .withInitial(() -> new Inflater(false));
+
+    private ChunkDeflateCodec() {
+    }
+
+    /**
+     * Compresses the payload.
+     *
+     * @param payload    uncompressed payload
+     * @param level      deflate level
+     * @param dictionary preset dictionary, or {@code null} for a raw stream
+     * @return length-prefixed compressed payload
+     */
+    static byte[] compress(final ByteSequence payload, final int level,
+            final ChunkCompressionDictionary dictionary) {
+        final ChunkCompressionScratch scratch = ChunkCompressionScratch
+                .current();
+        final int length = payload.length();
+        final byte[] source = scratch.copyInput(payload);
+        final Deflater deflater = deflater(level, dictionary != null);
+        try {
+            if (dictionary != null && !dictionary.isEmpty()) {
+                final byte[] dictionaryBytes = dictionary.bytes();
+                deflater.setDictionary(dictionaryBytes, 0,
+                        dictionaryBytes.length);
+            }
+            deflater.setInput(source, 0, length);
+            deflater.finish();
+            byte[] output = scratch.output(
+                    ChunkCompressionScratch.LENGTH_PREFIX_BYTES + length / 2
+                            + 64);
+            int written = ChunkCompressionScratch.LENGTH_PREFIX_BYTES;
+            while (!deflater.finished()) {
+                if (written == output.length) {
+                    output = scratch.growOutput();
+                }
+                written += deflater.deflate(output, written,
+                        output.length - written);
+            }
+            ChunkCompressionScratch.writeLength(output, length);
+            return Arrays.copyOf(output, written);
+        } finally {
+            deflater.reset();
+        }
+    }
+
+    /**
+     * Decompresses a payload produced by
+     * {@link #compress(ByteSequence, int, ChunkCompressionDictionary)}.
+     *
+     * @param payload    length-prefixed compressed payload
+     * @param dictionary dictionary the payload was compressed with, or
+     *                   {@code null} for a raw stream
+     * @param codecName  codec name used in error messages
+     * @return uncompressed payload
+     */
+    static byte[] decompress(final ByteSequence payload,
+            final ChunkCompressionDictionary dictionary,
+            final String codecName) {
+        final int payloadLength = payload.length();
+        final byte[] source = ChunkCompressionScratch.current()
+                .copyInput(payload);
+        final int length = ChunkCompressionScratch.readLength(source,
+                payloadLength, codecName);
+        final byte[] output = new byte[length];
+        final Inflater inflater = dictionary == null ? RAW_INFLATERS.get()
+                : WRAPPED_INFLATERS.get();
+        try {
+            inflater.setInput(source,
+                    ChunkCompressionScratch.LENGTH_PREFIX_BYTES,
+                    payloadLength
+                            - ChunkCompressionScratch.LENGTH_PREFIX_BYTES);
+            int read = 0;
+            while (read < length) {
+                final int inflated = inflater.inflate(output, read,
+                        length - read);
+                if (inflated == 0 && inflater.needsDictionary()
+                        && dictionary != null) {
+                    applyDictionary(inflater, dictionary, codecName);
+                    continue;
+                }
+                if (inflated == 0 && (inflater.needsInput()
+                        || inflater.finished()
+                        || inflater.needsDictionary())) {
+                    throw new IndexException(String.format(
+                            "%s chunk payload ended after %d of %d bytes",
+                            codecName, read, length));
+                }
+                read += inflated;
+            }
+            return output;
+        } catch (DataFormatException ex) {
+            throw new IndexException("Unable to decompress chunk payload", ex);
+        } finally {
+            inflater.reset();
+        }
+    }
+
+    private static void applyDictionary(final Inflater inflater,
+            final ChunkCompressionDictionary dictionary,
+            final String codecName) {
+        if (dictionary.isEmpty() || inflater.getAdler() != dictionary.getId()) {
+            throw new IndexException(String.format(
+                    "%s chunk payload requires dictionary %08x but %s",
+                    codecName, inflater.getAdler(),
+                    dictionary.isEmpty() ? "no dictionary is available"
+                            : String.format("dictionary %08x is available",
+                                    dictionary.getId())));
+        }
+        final byte[] dictionaryBytes = dictionary.bytes();
+        inflater.setDictionary(dictionaryBytes, 0, dictionaryBytes.length);
+    }
+
+    private static Deflater deflater(final int level, final boolean wrapped) {
+        final Deflater[] deflaters = DEFLATERS.get();
+        final int slot = level - Deflater.DEFAULT_COMPRESSION
+                + (wrapped ? LEVEL_SLOTS : 0);
+        Deflater deflater = deflaters[slot];
+        if (deflater == null) {
+            deflater = new Deflater(level, !wrapped);
+            deflaters[slot] = deflater;
+        }
+        return deflater;
+    }
+}
@@ -0,0 +1,249 @@
+package org.hestiastore.index.chunkstore;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import org.hestiastore.index.Vldtn;
+import org.hestiastore.index.bytes.ByteSequence;
+
+/**
+ * Trains a {@link ChunkCompressionDictionary} from sample chunk payloads.
+ * <p>
+ * The trainer follows the COVER approach: every 8-byte substring (d-mer) is
+ * scored by the number of samples it occurs in, the samples are split into
+ * one epoch per wanted dictionary segment, and each epoch contributes the
+ * 64-byte window whose distinct d-mers score highest. D-mers of a chosen
+ * window stop counting, so later windows cover content the dictionary does
+ * not have yet. Windows are concatenated from the lowest to the highest score
+ * because deflate reaches the end of the dictionary with the shortest
+ * distances. Content seen in a single sample only is never selected, and
+ * neither is a window sharing too few d-mers to be more than hash collisions.
+ * <p>
+ * Instances are not thread-safe.
+ */
+public final class ChunkDictionaryTrainer {
+
+    /**
+     * Dictionary size used when none is configured.
+     */
+    public static final int DEFAULT_DICTIONARY_SIZE = 16 * 1024;
+
+    static final int SEGMENT_LENGTH = 64;
+    static final int DMER_LENGTH = 8;
+
+    private static final int MIN_SAMPLES = 2;
+    private static final int MIN_OCCURRENCES = 2;
+    private static final int HASH_LOG = 16;
+    private static final int WINDOW_DMERS = SEGMENT_LENGTH - DMER_LENGTH + 1;
+    /**
+     * A window must share at least a quarter of its d-mers with other samples,
+     * otherwise the hits are likely hash collisions.
+     */
+    private static final int MIN_SEGMENT_SCORE = MIN_OCCURRENCES
+            * WINDOW_DMERS / 4;
+    private static final int NO_DMER = -1;
+
+    private final int dictionarySize;
+    private final List<byte[]> samples = new ArrayList<>();
+    private long sampleBytes;
+
+    /**
+     * Creates a trainer producing dictionaries of at most
+     * {@link #DEFAULT_DICTIONARY_SIZE} bytes.
+     */
+    public ChunkDictionaryTrainer() {
+        this(DEFAULT_DICTIONARY_SIZE);
+    }
+
+    /**
+     * Creates a trainer producing dictionaries of at most the given size.
+     *
+     * @param dictionarySize maximum dictionary size in bytes
+     */
+    public ChunkDictionaryTrainer(final int dictionarySize) {
+        this.dictionarySize = Vldtn.requireGreaterThanZero(dictionarySize,
+                "dictionarySize");
+    }
+
+    /**
+     * Adds one sample, typically an uncompressed chunk payload.
+     *
+     * @param sample required sample bytes
+     * @return this trainer
+     */
+    public ChunkDictionaryTrainer addSample(final ByteSequence sample) {
+        final byte[] bytes = Vldtn.requireNonNull(sample, "sample")
+                .toByteArray();
+        if (bytes.length > 0) {
+            samples.add(bytes);
+            sampleBytes += bytes.length;
+        }
+        return this;
+    }
+
+    /**
+     * Returns the number of non-empty samples added so far.
+     *
+     * @return sample count
+     */
+    public int getSampleCount() {
+        return samples.size();
+    }
+
+    /**
+     * Returns the total length of the samples added so far.
+     *
+     * @return sample bytes
+     */
+    public long getSampleBytes() {
+        return sampleBytes;
+    }
+
+    /**
+     * Builds a dictionary from the samples added so far.
+     *
+     * @return trained dictionary, empty when the samples share no content
+     */
+    public ChunkCompressionDictionary train() {
+        if (samples.size() < MIN_SAMPLES) {
+            return ChunkCompressionDictionary.empty();
+        }
+        final byte[] data = new byte[Math.toIntExact(sampleBytes)];
+        final int[] dmers = new int[data.length];
+        final int[] frequencies = new int[1 << HASH_LOG];
+        countDmers(data, dmers, frequencies);
+
+        final List<int[]> segments = selectSegments(data.length, dmers,
+                frequencies);
+        segments.sort(Comparator.comparingInt(segment -> segment[1]));
+        final byte[] dictionary = new byte[Math.min(dictionarySize,
+                segments.size() * SEGMENT_LENGTH)];
+        int position = dictionary.length;
+        for (int i = segments.size() - 1; i >= 0 && position > 0; i--) {
+            final int start = segments.get(i)[0];
+            final int length = Math.min(SEGMENT_LENGTH, position);
+            position -= length;
+            System.arraycopy(data, start + SEGMENT_LENGTH - length,
+                    dictionary, position, length);
+        }
+        return ChunkCompressionDictionary
+                .of(Arrays.copyOfRange(dictionary, position,
+                        dictionary.length));
+    }
+
+    /**
+     * Concatenates the samples into {@code data}, stores the d-mer hash
+     * starting at each position into {@code dmers} ({@link #NO_DMER} where
+     * the d-mer would cross a sample boundary) and counts in how many samples
+     * each hash occurs.
+     */
+    private void countDmers(final byte[] data, final int[] dmers,
+            final int[] frequencies) {
+        final int[] lastSample = new int[frequencies.length];
+        int offset = 0;
+        for (int sampleIndex = 0; sampleIndex < samples.size(); sampleIndex++) {
+            final byte[] sample = samples.get(sampleIndex);
+            System.arraycopy(sample, 0, data, offset, sample.length);
+            for (int i = 0; i < sample.length; i++) {
+                if (i + DMER_LENGTH > sample.length) {
+                    dmers[offset + i] = NO_DMER;
+                    continue;
+                }
+                final int hash = hash(sample, i);
+                dmers[offset + i] = hash;
+                if (lastSample[hash] != sampleIndex + 1) {
+                    lastSample[hash] = sampleIndex + 1;
+                    frequencies[hash]++;
+                }
+            }
+            offset += sample.length;
+        }
+        for (int i = 0; i < frequencies.length; i++) {
+            if (frequencies[i] < MIN_OCCURRENCES) {
+                frequencies[i] = 0;
+            }
+        }
+    }
+
+    /**
+     * Picks the best window of every epoch.
+     *
+     * @return list of {start, score} pairs
+     */
+    private List<int[]> selectSegments(final int dataLength, final int[] dmers,
+            final int[] frequencies) {
+        final List<int[]> segments = new ArrayList<>();
+        if (dataLength < SEGMENT_LENGTH) {
+            return segments;
+        }
+        final int segmentsWanted = Math.max(1,
+                dictionarySize / SEGMENT_LENGTH);
+        final int epochLength = Math.max(SEGMENT_LENGTH,
+                dataLength / segmentsWanted);
+        final int[] windowCounts = new int[frequencies.length];
+        for (int epochStart = 0; epochStart + SEGMENT_LENGTH <= dataLength
+                && segments.size() < segmentsWanted;
+                epochStart += epochLength) {
+            final int lastStart = Math.min(epochStart + epochLength,
+                    dataLength - SEGMENT_LENGTH + 1) - 1;
+            int score = 0;
+            int bestScore = MIN_SEGMENT_SCORE - 1;
+            int bestStart = -1;
+            for (int i = epochStart; i < epochStart + WINDOW_DMERS; i++) {
+                score += addDmer(dmers[i], windowCounts, frequencies);
+            }
+            if (score > bestScore) {
+                bestScore = score;
+                bestStart = epochStart;
+            }
+            for (int start = epochStart + 1; start <= lastStart; start++) {
+                score -= removeDmer(dmers[start - 1], windowCounts,
+                        frequencies);
+                score += addDmer(dmers[start + WINDOW_DMERS - 1], windowCounts,
+                        frequencies);
+                if (score > bestScore) {
+                    bestScore = score;
+                    bestStart = start;
+                }
+            }
+            for (int i = lastStart; i < lastStart + WINDOW_DMERS; i++) {
+                removeDmer(dmers[i], windowCounts, frequencies);
+            }
+            if (bestStart >= 0) {
+                segments.add(new int[] { bestStart, bestScore });
+                for (int i = bestStart; i < bestStart + WINDOW_DMERS; i++) {
+                    if (dmers[i] != NO_DMER) {
+                        frequencies[dmers[i]] = 0;
+                    }
+                }
+            }
+        }
+        return segments;
+    }
+
+    private static int addDmer(final int dmer, final int[] windowCounts,
+            final int[] frequencies) {
+        if (dmer == NO_DMER) {
+            return 0;
+        }
+        return windowCounts[dmer]++ == 0 ? frequencies[dmer] : 0;
+    }
+
+    private static int removeDmer(final int dmer, final int[] windowCounts,
+            final int[] frequencies) {
+        if (dmer == NO_DMER) {
+            return 0;
+        }
+        return --windowCounts[dmer] == 0 ? frequencies[dmer] : 0;
+    }
+
+    private static int hash(final byte[] bytes, final int offset) {
+        long value = 0;
+        for (int i = 0; i < DMER_LENGTH; i++) {
+            value = value << 8 | (bytes[offset + i] & 0xFFL);
+        }
+        return (int) ((value * 0x9E3779B97F4A7C15L) >>> (64 - HASH_LOG));
+    }
+}
@@ -10,6 +10,9 @@ public interface ChunkFilter {
     int BIT_POSITION_SNAPPY_COMPRESSION = 3;
     int BIT_POSITION_XOR_ENCRYPT = 4;
     int BIT_POSITION_AES_GCM_ENCRYPT = 5;
+    int BIT_POSITION_DEFLATE_COMPRESSION = 6;
+    int BIT_POSITION_LZ4_COMPRESSION = 7;
+    int BIT_POSITION_DEFLATE_DICTIONARY_COMPRESSION = 8;
 
     /**
      * Apply the filter to the input chunk data.
@@ -0,0 +1,67 @@
+package org.hestiastore.index.chunkstore;
+
+import java.util.zip.Deflater;
+
+import org.hestiastore.index.Vldtn;
+import org.hestiastore.index.bytes.ByteSequence;
+import org.hestiastore.index.bytes.ByteSequences;
+
+/**
+ * Compresses the chunk payload with the JDK {@link Deflater} and marks the
+ * chunk as deflate compressed.
+ * <p>
+ * The payload is stored as a 4-byte uncompressed length followed by a raw
+ * deflate stream. Deflaters and staging buffers are reused per thread, so a
+ * chunk costs one exact-size allocation for the result.
+ */
+public class ChunkFilterDeflateCompress implements ChunkFilter {
+
+    static final long FLAG_COMPRESSED = 1L << BIT_POSITION_DEFLATE_COMPRESSION;
+
+    /**
+     * Compression level used when none is configured.
+     */
+    public static final int DEFAULT_LEVEL = Deflater.DEFAULT_COMPRESSION;
+
+    private final int level;
+
+    /**
+     * Creates a filter using {@link #DEFAULT_LEVEL}.
+     */
+    public ChunkFilterDeflateCompress() {
+        this(DEFAULT_LEVEL);
+    }
+
+    /**
+     * Creates a filter using the given compression level.
+     *
+     * @param level {@link Deflater#DEFAULT_COMPRESSION} or a level from
+     *              {@link Deflater#NO_COMPRESSION} to
+     *              {@link Deflater#BEST_COMPRESSION}
+     */
+    public ChunkFilterDeflateCompress(final int level) {
+        this.level = Vldtn.requireBetween(level, Deflater.DEFAULT_COMPRESSION,
+                Deflater.BEST_COMPRESSION, "level");
+    }
+
+    /**
+     * Returns the configured compression level.
+     *
+     * @return compression level
+     */
+    public int getLevel() {
+        return level;
+    }
+
+    @Override
+    public ChunkData apply(final ChunkData input) {
+        final ByteSequence payload = input.getPayloadSequence();
+        final byte[] compressed = compressPayload(payload);
+        return input.withPayloadSequence(ByteSequences.wrap(compressed))
+                .withFlags(input.getFlags() | FLAG_COMPRESSED);
+    }
+
+    byte[] compressPayload(final ByteSequence payload) {
+        return ChunkDeflateCodec.compress(payload, level, null);
+    }
+}
@@ -0,0 +1,31 @@
+package org.hestiastore.index.chunkstore;
+
+import org.hestiastore.index.bytes.ByteSequence;
+import org.hestiastore.index.bytes.ByteSequences;
+
+/**
+ * Decompresses payload previously compressed by
+ * {@link ChunkFilterDeflateCompress}.
+ */
+public class ChunkFilterDeflateDecompress implements ChunkFilter {
+
+    private static final String CODEC_NAME = "Deflate";
+
+    @Override
+    public ChunkData apply(final ChunkData input) {
+        if ((input.getFlags()
+                & ChunkFilterDeflateCompress.FLAG_COMPRESSED) == 0) {
+            throw new IllegalStateException(
+                    "Chunk payload is not marked as Deflate compressed.");
+        }
+        final byte[] decompressed = decompressPayload(
+                input.getPayloadSequence());
+        return input.withPayloadSequence(ByteSequences.wrap(decompressed))
+                .withFlags(input.getFlags()
+                        & ~ChunkFilterDeflateCompress.FLAG_COMPRESSED);
+    }
+
+    byte[] decompressPayload(final ByteSequence payload) {
+        return ChunkDeflateCodec.decompress(payload, null, CODEC_NAME);
+    }
+}
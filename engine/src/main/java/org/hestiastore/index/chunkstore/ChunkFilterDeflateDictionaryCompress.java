@@ -0,0 +1,97 @@
+package org.hestiastore.index.chunkstore;
+
+import java.util.zip.Deflater;
+
+import org.hestiastore.index.Vldtn;
+import org.hestiastore.index.bytes.ByteSequence;
+import org.hestiastore.index.bytes.ByteSequences;
+
+/**
+ * Compresses the chunk payload with the JDK {@link Deflater} primed with a
+ * preset dictionary and marks the chunk as dictionary deflate compressed.
+ * <p>
+ * Small chunks compress poorly on their own because the compressor has no
+ * history to match against. The dictionary supplies that history: segment
+ * writers train it from sample chunks of the version being written and bind
+ * it through {@link #withDictionary(ChunkCompressionDictionary)}. The payload
+ * is a 4-byte uncompressed length followed by a zlib stream whose header
+ * carries the dictionary id. An unbound filter compresses without a
+ * dictionary.
+ */
+public class ChunkFilterDeflateDictionaryCompress
+        implements ChunkFilterDictionaryAware {
+
+    static final long FLAG_COMPRESSED = 1L
+            << BIT_POSITION_DEFLATE_DICTIONARY_COMPRESSION;
+
+    private final int level;
+    private final ChunkCompressionDictionary dictionary;
+
+    /**
+     * Creates an unbound filter using
+     * {@link ChunkFilterDeflateCompress#DEFAULT_LEVEL}.
+     */
+    public ChunkFilterDeflateDictionaryCompress() {
+        this(ChunkFilterDeflateCompress.DEFAULT_LEVEL);
+    }
+
+    /**
+     * Creates an unbound filter using the given compression level.
+     *
+     * @param level {@link Deflater#DEFAULT_COMPRESSION} or a level from
+     *              {@link Deflater#NO_COMPRESSION} to
+     *              {@link Deflater#BEST_COMPRESSION}
+     */
+    public ChunkFilterDeflateDictionaryCompress(final int level) {
+        this(level, ChunkCompressionDictionary.empty());
+    }
+
+    /**
+     * Creates a filter using the given compression level and dictionary.
+     *
+     * @param level      compression level
+     * @param dictionary required dictionary, possibly empty
+     */
+    public ChunkFilterDeflateDictionaryCompress(final int level,
+            final ChunkCompressionDictionary dictionary) {
+        this.level = Vldtn.requireBetween(level, Deflater.DEFAULT_COMPRESSION,
+                Deflater.BEST_COMPRESSION, "level");
+        this.dictionary = Vldtn.requireNonNull(dictionary, "dictionary");
+    }
+
+    /**
+     * Returns the configured compression level.
+     *
+     * @return compression level
+     */
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * Returns the bound dictionary.
+     *
+     * @return dictionary, empty when unbound
+     */
+    public ChunkCompressionDictionary getDictionary() {
+        return dictionary;
+    }
+
+    @Override
+    public ChunkFilter withDictionary(
+            final ChunkCompressionDictionary dictionary) {
+        return new ChunkFilterDeflateDictionaryCompress(level, dictionary);
+    }
+
+    @Override
+    public ChunkData apply(final ChunkData input) {
+        final byte[] compressed = compressPayload(
+                input.getPayloadSequence());
+        return input.withPayloadSequence(ByteSequences.wrap(compressed))
+                .withFlags(input.getFlags() | FLAG_COMPRESSED);
+    }
+
+    byte[] compressPayload(final ByteSequence payload) {
+        return ChunkDeflateCodec.compress(payload, level, dictionary);
+    }
+}
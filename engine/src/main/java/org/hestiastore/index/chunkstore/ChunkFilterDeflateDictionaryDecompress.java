@@ -0,0 +1,66 @@
+package org.hestiastore.index.chunkstore;
+
+import org.hestiastore.index.Vldtn;
+import org.hestiastore.index.bytes.ByteSequences;
+
+/**
+ * Decompresses payload previously compressed by
+ * {@link ChunkFilterDeflateDictionaryCompress}.
+ * <p>
+ * The filter must be bound to the dictionary the chunk was written with. A
+ * chunk that names a different dictionary is reported as
+ * {@link org.hestiastore.index.IndexException}.
+ */
+public class ChunkFilterDeflateDictionaryDecompress
+        implements ChunkFilterDictionaryAware {
+
+    private static final String CODEC_NAME = "Deflate dictionary";
+
+    private final ChunkCompressionDictionary dictionary;
+
+    /**
+     * Creates an unbound filter.
+     */
+    public ChunkFilterDeflateDictionaryDecompress() {
+        this(ChunkCompressionDictionary.empty());
+    }
+
+    /**
+     * Creates a filter bound to the given dictionary.
+     *
+     * @param dictionary required dictionary, possibly empty
+     */
+    public ChunkFilterDeflateDictionaryDecompress(
+            final ChunkCompressionDictionary dictionary) {
+        this.dictionary = Vldtn.requireNonNull(dictionary, "dictionary");
+    }
+
+    /**
+     * Returns the bound dictionary.
+     *
+     * @return dictionary, empty when unbound
+     */
+    public ChunkCompressionDictionary getDictionary() {
+        return dictionary;
+    }
+
+    @Override
+    public ChunkFilter withDictionary(
+            final ChunkCompressionDictionary dictionary) {
+        return new ChunkFilterDeflateDictionaryDecompress(dictionary);
+    }
+
+    @Override
+    public ChunkData apply(final ChunkData input) {
+        if ((input.getFlags()
+                & ChunkFilterDeflateDictionaryCompress.FLAG_COMPRESSED) == 0) {
+            throw new IllegalStateException(
+                    "Chunk payload is not marked as Deflate dictionary compressed.");
+        }
+        final byte[] decompressed = ChunkDeflateCodec.decompress(
+                input.getPayloadSequence(), dictionary, CODEC_NAME);
+        return input.withPayloadSequence(ByteSequences.wrap(decompressed))
+                .withFlags(input.getFlags()
+                        & ~ChunkFilterDeflateDictionaryCompress.FLAG_COMPRESSED);
+    }
+}
@@ -0,0 +1,19 @@
+package org.hestiastore.index.chunkstore;
+
+/**
+ * Chunk filter whose output depends on a per-file compression dictionary.
+ * <p>
+ * The owner of the file binds the dictionary when it opens a reader or writer
+ * through {@link ChunkFilterSuppliers#withDictionary}. Unbound filters work
+ * without a dictionary.
+ */
+public interface ChunkFilterDictionaryAware extends ChunkFilter {
+
+    /**
+     * Returns a filter of the same configuration using the given dictionary.
+     *
+     * @param dictionary required dictionary, possibly empty
+     * @return filter bound to the dictionary
+     */
+    ChunkFilter withDictionary(ChunkCompressionDictionary dictionary);
+}
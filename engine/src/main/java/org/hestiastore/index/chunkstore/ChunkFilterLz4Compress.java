@@ -0,0 +1,41 @@
+package org.hestiastore.index.chunkstore;
+
+import java.util.Arrays;
+
+import org.hestiastore.index.bytes.ByteSequence;
+import org.hestiastore.index.bytes.ByteSequences;
+
+/**
+ * Compresses the chunk payload into an LZ4 block and marks the chunk as LZ4
+ * compressed.
+ * <p>
+ * The payload is stored as a 4-byte uncompressed length followed by the
+ * block. LZ4 favours speed over ratio: decompression is a sequence of array
+ * copies, which makes it a good fit for frequently read indexes.
+ */
+public class ChunkFilterLz4Compress implements ChunkFilter {
+
+    static final long FLAG_COMPRESSED = 1L << BIT_POSITION_LZ4_COMPRESSION;
+
+    @Override
+    public ChunkData apply(final ChunkData input) {
+        final byte[] compressed = compressPayload(input.getPayloadSequence());
+        return input.withPayloadSequence(ByteSequences.wrap(compressed))
+                .withFlags(input.getFlags() | FLAG_COMPRESSED);
+    }
+
+    byte[] compressPayload(final ByteSequence payload) {
+        final ChunkCompressionScratch scratch = ChunkCompressionScratch
+                .current();
+        final int length = payload.length();
+        final byte[] source = scratch.copyInput(payload);
+        final byte[] output = scratch
+                .output(ChunkCompressionScratch.LENGTH_PREFIX_BYTES
+                        + ChunkLz4Codec.maxCompressedLength(length));
+        ChunkCompressionScratch.writeLength(output, length);
+        final int written = ChunkLz4Codec.compress(source, length, output,
+                ChunkCompressionScratch.LENGTH_PREFIX_BYTES,
+                scratch.table(ChunkLz4Codec.HASH_TABLE_SIZE));
+        return Arrays.copyOf(output, written);
+    }
+}
@@ -0,0 +1,37 @@
+package org.hestiastore.index.chunkstore;
+
+import org.hestiastore.index.bytes.ByteSequence;
+import org.hestiastore.index.bytes.ByteSequences;
+
+/**
+ * Decompresses payload previously compressed by {@link ChunkFilterLz4Compress}.
+ */
+public class ChunkFilterLz4Decompress implements ChunkFilter {
+
+    private static final String CODEC_NAME = "LZ4";
+
+    @Override
+    public ChunkData apply(final ChunkData input) {
+        if ((input.getFlags() & ChunkFilterLz4Compress.FLAG_COMPRESSED) == 0) {
+            throw new IllegalStateException(
+                    "Chunk payload is not marked as LZ4 compressed.");
+        }
+        final byte[] decompressed = decompressPayload(
+                input.getPayloadSequence());
+        return input.withPayloadSequence(ByteSequences.wrap(decompressed))
+                .withFlags(input.getFlags()
+                        & ~ChunkFilterLz4Compress.FLAG_COMPRESSED);
+    }
+
+    byte[] decompressPayload(final ByteSequence payload) {
+        final int payloadLength = payload.length();
+        final byte[] source = ChunkCompressionScratch.current()
+                .copyInput(payload);
+        final byte[] output = new byte[ChunkCompressionScratch
+                .readLength(source, payloadLength, CODEC_NAME)];
+        ChunkLz4Codec.decompress(source,
+                ChunkCompressionScratch.LENGTH_PREFIX_BYTES, payloadLength,
+                output);
+        return output;
+    }
+}
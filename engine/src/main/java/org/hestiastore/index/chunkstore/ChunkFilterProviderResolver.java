@@ -10,10 +10,14 @@ public interface ChunkFilterProviderResolver {
     String PROVIDER_ID_CRC32 = "crc32";
     String PROVIDER_ID_MAGIC_NUMBER = "magic-number";
     String PROVIDER_ID_SNAPPY = "snappy";
+    String PROVIDER_ID_DEFLATE = "deflate";
+    String PROVIDER_ID_LZ4 = "lz4";
+    String PROVIDER_ID_DEFLATE_DICTIONARY = "deflate-dictionary";
     String PROVIDER_ID_XOR = "xor";
     String PROVIDER_ID_DO_NOTHING = "do-nothing";
     String PROVIDER_ID_JAVA_CLASS = "java-class";
     String PARAM_CLASS_NAME = "className";
+    String PARAM_LEVEL = "level";
 
     /**
      * Resolves an encoding supplier for a persisted filter spec.
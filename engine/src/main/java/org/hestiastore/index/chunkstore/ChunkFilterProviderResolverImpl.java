@@ -117,6 +117,13 @@ public final class ChunkFilterProviderResolverImpl
                     PROVIDER_ID_SNAPPY,
                     ChunkFilterSnappyCompress::new,
                     ChunkFilterSnappyDecompress::new));
+            putProvider(providers, new DeflateChunkFilterProvider());
+            putProvider(providers,
+                    DeflateChunkFilterProvider.deflateDictionary());
+            putProvider(providers, new FixedPairChunkFilterProvider(
+                    PROVIDER_ID_LZ4,
+                    ChunkFilterLz4Compress::new,
+                    ChunkFilterLz4Decompress::new));
             putProvider(providers, new FixedPairChunkFilterProvider(
                     PROVIDER_ID_XOR,
                     ChunkFilterXorEncrypt::new, ChunkFilterXorDecrypt::new));
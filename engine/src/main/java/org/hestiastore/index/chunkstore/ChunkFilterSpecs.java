@@ -1,5 +1,7 @@
 package org.hestiastore.index.chunkstore;
 
+import java.util.zip.Deflater;
+
 import org.hestiastore.index.Vldtn;
 
 /**
@@ -48,6 +50,77 @@ public final class ChunkFilterSpecs {
                 .ofProvider(ChunkFilterProviderResolver.PROVIDER_ID_SNAPPY);
     }
 
+    /**
+     * Returns built-in deflate spec using the default compression level.
+     *
+     * @return deflate spec
+     */
+    public static ChunkFilterSpec deflate() {
+        return ChunkFilterSpec
+                .ofProvider(ChunkFilterProviderResolver.PROVIDER_ID_DEFLATE);
+    }
+
+    /**
+     * Returns built-in deflate spec with an explicit compression level.
+     *
+     * @param level {@link Deflater#DEFAULT_COMPRESSION} or a
+     *              level from 0 (store) to 9 (best compression)
+     * @return deflate spec
+     */
+    public static ChunkFilterSpec deflate(final int level) {
+        final int requiredLevel = Vldtn.requireBetween(level,
+                Deflater.DEFAULT_COMPRESSION,
+                Deflater.BEST_COMPRESSION,
+                ChunkFilterProviderResolver.PARAM_LEVEL);
+        if (requiredLevel == ChunkFilterDeflateCompress.DEFAULT_LEVEL) {
+            return deflate();
+        }
+        return deflate().withParameter(ChunkFilterProviderResolver.PARAM_LEVEL,
+                Integer.toString(requiredLevel));
+    }
+
+    /**
+     * Returns built-in dictionary deflate spec using the default compression
+     * level.
+     *
+     * @return dictionary deflate spec
+     */
+    public static ChunkFilterSpec deflateDictionary() {
+        return ChunkFilterSpec.ofProvider(
+                ChunkFilterProviderResolver.PROVIDER_ID_DEFLATE_DICTIONARY);
+    }
+
+    /**
+     * Returns built-in dictionary deflate spec with an explicit compression
+     * level.
+     *
+     * @param level {@link Deflater#DEFAULT_COMPRESSION} or a
+     *              level from 0 (store) to 9 (best compression)
+     * @return dictionary deflate spec
+     */
+    public static ChunkFilterSpec deflateDictionary(final int level) {
+        final int requiredLevel = Vldtn.requireBetween(level,
+                Deflater.DEFAULT_COMPRESSION,
+                Deflater.BEST_COMPRESSION,
+                ChunkFilterProviderResolver.PARAM_LEVEL);
+        if (requiredLevel == ChunkFilterDeflateCompress.DEFAULT_LEVEL) {
+            return deflateDictionary();
+        }
+        return deflateDictionary().withParameter(
+                ChunkFilterProviderResolver.PARAM_LEVEL,
+                Integer.toString(requiredLevel));
+    }
+
+    /**
+     * Returns built-in LZ4 spec.
+     *
+     * @return LZ4 spec
+     */
+    public static ChunkFilterSpec lz4() {
+        return ChunkFilterSpec
+                .ofProvider(ChunkFilterProviderResolver.PROVIDER_ID_LZ4);
+    }
+
     /**
      * Returns built-in XOR spec.
      *
@@ -158,6 +231,15 @@ public final class ChunkFilterSpecs {
         if (ChunkFilterSnappyCompress.class.equals(requiredClass)) {
             return snappy();
         }
+        if (ChunkFilterDeflateCompress.class.equals(requiredClass)) {
+            return deflate();
+        }
+        if (ChunkFilterDeflateDictionaryCompress.class.equals(requiredClass)) {
+            return deflateDictionary();
+        }
+        if (ChunkFilterLz4Compress.class.equals(requiredClass)) {
+            return lz4();
+        }
         if (ChunkFilterXorEncrypt.class.equals(requiredClass)) {
             return xor();
         }
@@ -186,6 +268,16 @@ public final class ChunkFilterSpecs {
         if (ChunkFilterSnappyDecompress.class.equals(requiredClass)) {
             return snappy();
         }
+        if (ChunkFilterDeflateDecompress.class.equals(requiredClass)) {
+            return deflate();
+        }
+        if (ChunkFilterDeflateDictionaryDecompress.class
+                .equals(requiredClass)) {
+            return deflateDictionary();
+        }
+        if (ChunkFilterLz4Decompress.class.equals(requiredClass)) {
+            return lz4();
+        }
         if (ChunkFilterXorDecrypt.class.equals(requiredClass)) {
             return xor();
         }
@@ -202,6 +294,16 @@ public final class ChunkFilterSpecs {
     public static ChunkFilterSpec forEncodingFilter(final ChunkFilter filter) {
         final ChunkFilter requiredFilter = Vldtn.requireNonNull(filter,
                 "filter");
+        if (requiredFilter.getClass().equals(ChunkFilterDeflateCompress.class)) {
+            return deflate(
+                    ((ChunkFilterDeflateCompress) requiredFilter).getLevel());
+        }
+        if (requiredFilter.getClass()
+                .equals(ChunkFilterDeflateDictionaryCompress.class)) {
+            return deflateDictionary(
+                    ((ChunkFilterDeflateDictionaryCompress) requiredFilter)
+                            .getLevel());
+        }
         return forEncodingFilter(requiredFilter.getClass());
     }
 
@@ -238,6 +340,22 @@ public final class ChunkFilterSpecs {
                         .equals(className)) {
             return snappy();
         }
+        if (ChunkFilterDeflateCompress.class.getName().equals(className)
+                || ChunkFilterDeflateDecompress.class.getName()
+                        .equals(className)) {
+            return deflate();
+        }
+        if (ChunkFilterDeflateDictionaryCompress.class.getName()
+                .equals(className)
+                || ChunkFilterDeflateDictionaryDecompress.class.getName()
+                        .equals(className)) {
+            return deflateDictionary();
+        }
+        if (ChunkFilterLz4Compress.class.getName().equals(className)
+                || ChunkFilterLz4Decompress.class.getName()
+                        .equals(className)) {
+            return lz4();
+        }
         if (ChunkFilterXorEncrypt.class.getName().equals(className)
                 || ChunkFilterXorDecrypt.class.getName().equals(className)) {
             return xor();
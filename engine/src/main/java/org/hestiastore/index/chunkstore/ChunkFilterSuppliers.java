@@ -38,6 +38,39 @@ public final class ChunkFilterSuppliers {
         return List.copyOf(Vldtn.requireNonNull(suppliers, "suppliers"));
     }
 
+    /**
+     * Binds dictionary-aware filters produced by the suppliers to a
+     * dictionary. The dictionary supplier is called once per materialized
+     * filter, so it can resolve the dictionary lazily; other filters pass
+     * through unchanged.
+     *
+     * @param suppliers  required suppliers
+     * @param dictionary required dictionary supplier
+     * @return immutable list of suppliers
+     */
+    public static List<Supplier<? extends ChunkFilter>> withDictionary(
+            final List<? extends Supplier<? extends ChunkFilter>> suppliers,
+            final Supplier<ChunkCompressionDictionary> dictionary) {
+        Vldtn.requireNonNull(dictionary, "dictionary");
+        return copySuppliers(suppliers).stream()
+                .<Supplier<? extends ChunkFilter>>map(
+                        supplier -> () -> bind(supplier.get(), dictionary))
+                .toList();
+    }
+
+    /**
+     * Returns whether any filter produced by the suppliers depends on a
+     * compression dictionary.
+     *
+     * @param suppliers required suppliers
+     * @return {@code true} when a dictionary-aware filter is present
+     */
+    public static boolean usesDictionary(
+            final List<? extends Supplier<? extends ChunkFilter>> suppliers) {
+        return materialize(suppliers).stream()
+                .anyMatch(ChunkFilterDictionaryAware.class::isInstance);
+    }
+
     /**
      * Creates a fresh filter list from the provided suppliers.
      *
@@ -49,4 +82,13 @@ public final class ChunkFilterSuppliers {
         return copySuppliers(suppliers).stream()
                 .map(supplier -> (ChunkFilter) supplier.get()).toList();
     }
+
+    private static ChunkFilter bind(final ChunkFilter filter,
+            final Supplier<ChunkCompressionDictionary> dictionary) {
+        if (filter instanceof ChunkFilterDictionaryAware aware) {
+            return aware.withDictionary(
+                    Vldtn.requireNonNull(dictionary.get(), "dictionary"));
+        }
+        return filter;
+    }
 }
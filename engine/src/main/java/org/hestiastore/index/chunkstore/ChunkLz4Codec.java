@@ -0,0 +1,260 @@
+package org.hestiastore.index.chunkstore;
+
+import java.util.Arrays;
+
+import org.hestiastore.index.IndexException;
+
+/**
+ * Pure Java implementation of the LZ4 block format.
+ * <p>
+ * The compressor is the single-pass greedy variant with a 4K-entry hash table
+ * and accelerating skip over incompressible input. Output is a standard LZ4
+ * block, so any LZ4 block decoder can read it given the uncompressed length.
+ * The decompressor validates every offset and length against the buffers and
+ * reports malformed input as {@link IndexException}.
+ */
+final class ChunkLz4Codec {
+
+    private static final int HASH_LOG = 12;
+
+    static final int HASH_TABLE_SIZE = 1 << HASH_LOG;
+
+    private static final int MIN_MATCH = 4;
+    private static final int LAST_LITERALS = 5;
+    private static final int MF_LIMIT = 12;
+    private static final int MAX_OFFSET = 0xFFFF;
+    private static final int SKIP_STRENGTH = 6;
+    private static final int HASH_SHIFT = 32 - HASH_LOG;
+    private static final int RUN_MASK = 0x0F;
+
+    private ChunkLz4Codec() {
+    }
+
+    /**
+     * Returns the largest block the compressor can produce for the given
+     * input length.
+     *
+     * @param length uncompressed length
+     * @return worst-case compressed length
+     */
+    static int maxCompressedLength(final int length) {
+        return length + length / 255 + 16;
+    }
+
+    /**
+     * Compresses {@code source[0, length)} into {@code target} starting at
+     * {@code targetOffset}.
+     *
+     * @param source       uncompressed bytes
+     * @param length       number of bytes to compress
+     * @param target       buffer with at least
+     *                     {@link #maxCompressedLength(int)} bytes free
+     * @param targetOffset first byte to write
+     * @param hashTable    table with {@link #HASH_TABLE_SIZE} entries
+     * @return offset after the last written byte
+     */
+    static int compress(final byte[] source, final int length,
+            final byte[] target, final int targetOffset,
+            final int[] hashTable) {
+        int out = targetOffset;
+        int anchor = 0;
+        if (length >= MF_LIMIT + 1) {
+            Arrays.fill(hashTable, -1);
+            final int matchFindLimit = length - MF_LIMIT;
+            final int matchLimit = length - LAST_LITERALS;
+            int position = 1;
+            hashTable[hash(readInt(source, 0))] = 0;
+            while (true) {
+                int forward = position;
+                int attempts = 1 << SKIP_STRENGTH;
+                int reference;
+                do {
+                    position = forward;
+                    forward += attempts++ >>> SKIP_STRENGTH;
+                    if (forward > matchFindLimit) {
+                        return writeLastLiterals(source, anchor, length,
+                                target, out);
+                    }
+                    final int slot = hash(readInt(source, position));
+                    reference = hashTable[slot];
+                    hashTable[slot] = position;
+                } while (reference < 0 || position - reference > MAX_OFFSET
+                        || readInt(source, reference) != readInt(source,
+                                position));
+
+                while (position > anchor && reference > 0
+                        && source[position - 1] == source[reference - 1]) {
+                    position--;
+                    reference--;
+                }
+
+                int matchEnd = position + MIN_MATCH;
+                int referenceEnd = reference + MIN_MATCH;
+                while (matchEnd < matchLimit
+                        && source[matchEnd] == source[referenceEnd]) {
+                    matchEnd++;
+                    referenceEnd++;
+                }
+
+                out = writeSequence(source, anchor, position - anchor,
+                        position - reference,
+                        matchEnd - position - MIN_MATCH, target, out);
+                position = matchEnd;
+                anchor = position;
+                if (position > matchFindLimit) {
+                    break;
+                }
+                hashTable[hash(readInt(source, position - 2))] = position - 2;
+            }
+        }
+        return writeLastLiterals(source, anchor, length, target, out);
+    }
+
+    /**
+     * Decompresses an LZ4 block into {@code target}, which must be exactly the
+     * uncompressed length.
+     *
+     * @param source       compressed bytes
+     * @param sourceOffset first byte of the block
+     * @param sourceEnd    offset after the last byte of the block
+     * @param target       output buffer sized to the uncompressed length
+     */
+    static void decompress(final byte[] source, final int sourceOffset,
+            final int sourceEnd, final byte[] target) {
+        int in = sourceOffset;
+        int out = 0;
+        while (true) {
+            if (in >= sourceEnd) {
+                throw corrupted(in);
+            }
+            final int token = source[in++] & 0xFF;
+            int literalLength = token >>> 4;
+            if (literalLength == RUN_MASK) {
+                int extra;
+                do {
+                    if (in >= sourceEnd) {
+                        throw corrupted(in);
+                    }
+                    extra = source[in++] & 0xFF;
+                    literalLength += extra;
+                } while (extra == 0xFF);
+            }
+            if (literalLength > sourceEnd - in
+                    || literalLength > target.length - out) {
+                throw corrupted(in);
+            }
+            System.arraycopy(source, in, target, out, literalLength);
+            in += literalLength;
+            out += literalLength;
+            if (in == sourceEnd) {
+                break;
+            }
+
+            if (sourceEnd - in < 2) {
+                throw corrupted(in);
+            }
+            final int offset = (source[in] & 0xFF)
+                    | (source[in + 1] & 0xFF) << 8;
+            in += 2;
+            if (offset == 0 || offset > out) {
+                throw corrupted(in);
+            }
+            int matchLength = token & RUN_MASK;
+            if (matchLength == RUN_MASK) {
+                int extra;
+                do {
+                    if (in >= sourceEnd) {
+                        throw corrupted(in);
+                    }
+                    extra = source[in++] & 0xFF;
+                    matchLength += extra;
+                } while (extra == 0xFF);
+            }
+            matchLength += MIN_MATCH;
+            if (matchLength > target.length - out) {
+                throw corrupted(in);
+            }
+            final int reference = out - offset;
+            if (offset >= matchLength) {
+                System.arraycopy(target, reference, target, out, matchLength);
+            } else {
+                for (int i = 0; i < matchLength; i++) {
+                    target[out + i] = target[reference + i];
+                }
+            }
+            out += matchLength;
+        }
+        if (out != target.length) {
+            throw new IndexException(String.format(
+                    "LZ4 chunk payload decoded to %d bytes, expected %d", out,
+                    target.length));
+        }
+    }
+
+    private static int writeSequence(final byte[] source,
+            final int literalStart, final int literalLength, final int offset,
+            final int matchLength, final byte[] target, final int targetOffset) {
+        int out = targetOffset;
+        final int tokenPosition = out++;
+        int token;
+        if (literalLength >= RUN_MASK) {
+            token = RUN_MASK << 4;
+            out = writeLength(literalLength - RUN_MASK, target, out);
+        } else {
+            token = literalLength << 4;
+        }
+        System.arraycopy(source, literalStart, target, out, literalLength);
+        out += literalLength;
+        target[out++] = (byte) offset;
+        target[out++] = (byte) (offset >>> 8);
+        if (matchLength >= RUN_MASK) {
+            token |= RUN_MASK;
+            out = writeLength(matchLength - RUN_MASK, target, out);
+        } else {
+            token |= matchLength;
+        }
+        target[tokenPosition] = (byte) token;
+        return out;
+    }
+
+    private static int writeLastLiterals(final byte[] source, final int anchor,
+            final int length, final byte[] target, final int targetOffset) {
+        int out = targetOffset;
+        final int literalLength = length - anchor;
+        if (literalLength >= RUN_MASK) {
+            target[out++] = (byte) (RUN_MASK << 4);
+            out = writeLength(literalLength - RUN_MASK, target, out);
+        } else {
+            target[out++] = (byte) (literalLength << 4);
+        }
+        System.arraycopy(source, anchor, target, out, literalLength);
+        return out + literalLength;
+    }
+
+    private static int writeLength(final int length, final byte[] target,
+            final int targetOffset) {
+        int out = targetOffset;
+        int remaining = length;
+        while (remaining >= 0xFF) {
+            target[out++] = (byte) 0xFF;
+            remaining -= 0xFF;
+        }
+        target[out++] = (byte) remaining;
+        return out;
+    }
+
+    private static int readInt(final byte[] source, final int offset) {
+        return (source[offset] & 0xFF) | (source[offset + 1] & 0xFF) << 8
+                | (source[offset + 2] & 0xFF) << 16
+                | (source[offset + 3] & 0xFF) << 24;
+    }
+
+    private static int hash(final int value) {
+        return (value * -1640531535) >>> HASH_SHIFT;
+    }
+
+    private static IndexException corrupted(final int position) {
+        return new IndexException(String.format(
+                "Corrupted LZ4 chunk payload at byte %d", position));
+    }
+}
@@ -2,6 +2,7 @@ package org.hestiastore.index.chunkstore;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.ObjLongConsumer;
 import java.util.function.Supplier;
 
 import org.hestiastore.index.Vldtn;
@@ -161,6 +162,37 @@ public class ChunkStoreFile {
         };
     }
 
+    /**
+     * Reads every chunk from the beginning of the file and passes its decoded
+     * payload with the position the chunk starts at. Chunks are stored
+     * back-to-back, so the next position follows from the header size and the
+     * encoded payload length padded to whole cells.
+     *
+     * @param consumer required receiver of payloads and their positions
+     */
+    public void forEachPayload(final ObjLongConsumer<ByteSequence> consumer) {
+        Vldtn.requireNonNull(consumer, "consumer");
+        final CellPosition firstPosition = getFirstChunkStorePosition();
+        final ChunkProcessor decodingProcessor = new ChunkProcessor(
+                decodingChunkFilters.materialize());
+        try (DataBlockByteReader dataBlockByteReader = new DataBlockByteReaderImpl(
+                dataBlockFile.openReader(
+                        firstPosition.getDataBlockStartPosition(), null),
+                dataBlockSize, firstPosition.getCellIndex())) {
+            long position = firstPosition.getValue();
+            Optional<ChunkData> chunkData = ChunkData.read(dataBlockByteReader);
+            while (chunkData.isPresent()) {
+                final int encodedLength = chunkData.get().getPayloadSequence()
+                        .length();
+                consumer.accept(decodingProcessor.process(chunkData.get())
+                        .getPayloadSequence(), position);
+                position += ChunkHeader.HEADER_SIZE
+                        + ChunkData.convertLengthToWholeCells(encodedLength);
+                chunkData = ChunkData.read(dataBlockByteReader);
+            }
+        }
+    }
+
     /**
      * Opens a writer transaction for writing chunks to the chunk store file.
      *
@@ -0,0 +1,105 @@
+package org.hestiastore.index.chunkstore;
+
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.zip.Deflater;
+
+import org.hestiastore.index.Vldtn;
+
+/**
+ * Provider for the built-in deflate filter pairs.
+ *
+ * <p>
+ * The optional {@code level} parameter selects the compression level of the
+ * encoding side. Decoding does not depend on the level, so readers ignore it.
+ * The same parsing serves the plain {@code deflate} and the
+ * {@code deflate-dictionary} providers.
+ * </p>
+ */
+final class DeflateChunkFilterProvider implements ChunkFilterProvider {
+
+    private final String providerId;
+    private final IntFunction<? extends ChunkFilter> encodingFactory;
+    private final Supplier<? extends ChunkFilter> decodingFactory;
+
+    /**
+     * Creates the plain {@code deflate} provider.
+     */
+    DeflateChunkFilterProvider() {
+        this(ChunkFilterProviderResolver.PROVIDER_ID_DEFLATE,
+                ChunkFilterDeflateCompress::new,
+                ChunkFilterDeflateDecompress::new);
+    }
+
+    private DeflateChunkFilterProvider(final String providerId,
+            final IntFunction<? extends ChunkFilter> encodingFactory,
+            final Supplier<? extends ChunkFilter> decodingFactory) {
+        this.providerId = Vldtn.requireNotBlank(providerId, "providerId");
+        this.encodingFactory = Vldtn.requireNonNull(encodingFactory,
+                "encodingFactory");
+        this.decodingFactory = Vldtn.requireNonNull(decodingFactory,
+                "decodingFactory");
+    }
+
+    /**
+     * Creates the {@code deflate-dictionary} provider. Its filters start
+     * unbound; the file owner binds the dictionary.
+     *
+     * @return dictionary deflate provider
+     */
+    static DeflateChunkFilterProvider deflateDictionary() {
+        return new DeflateChunkFilterProvider(
+                ChunkFilterProviderResolver.PROVIDER_ID_DEFLATE_DICTIONARY,
+                ChunkFilterDeflateDictionaryCompress::new,
+                ChunkFilterDeflateDictionaryDecompress::new);
+    }
+
+    @Override
+    public String getProviderId() {
+        return providerId;
+    }
+
+    @Override
+    public Supplier<? extends ChunkFilter> createEncodingSupplier(
+            final ChunkFilterSpec spec) {
+        requireMatchingProvider(spec);
+        final int level = parseLevel(spec);
+        return () -> encodingFactory.apply(level);
+    }
+
+    @Override
+    public Supplier<? extends ChunkFilter> createDecodingSupplier(
+            final ChunkFilterSpec spec) {
+        requireMatchingProvider(spec);
+        return decodingFactory;
+    }
+
+    private int parseLevel(final ChunkFilterSpec spec) {
+        final String value = spec
+                .getParameter(ChunkFilterProviderResolver.PARAM_LEVEL);
+        if (value == null) {
+            return ChunkFilterDeflateCompress.DEFAULT_LEVEL;
+        }
+        final int level;
+        try {
+            level = Integer.parseInt(value.trim());
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException(String.format(
+                    "Invalid deflate level '%s' for provider '%s'", value,
+                    getProviderId()), ex);
+        }
+        return Vldtn.requireBetween(level, Deflater.DEFAULT_COMPRESSION,
+                Deflater.BEST_COMPRESSION,
+                ChunkFilterProviderResolver.PARAM_LEVEL);
+    }
+
+    private void requireMatchingProvider(final ChunkFilterSpec spec) {
+        final ChunkFilterSpec requiredSpec = Vldtn.requireNonNull(spec, "spec");
+        final String providerId = getProviderId();
+        if (!providerId.equals(requiredSpec.getProviderId())) {
+            throw new IllegalArgumentException(String.format(
+                    "Chunk filter spec provider '%s' does not match '%s'",
+                    requiredSpec.getProviderId(), providerId));
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package org.hestiastore.index.chunkstorecache;
+
+import java.util.Comparator;
+import java.util.List;
+
+import org.hestiastore.index.Entry;
+
+/**
+ * Storage of the sorted entries behind one {@link ParsedChunkPage}.
+ * <p>
+ * The default storage keeps decoded entry objects. A compact storage can keep
+ * encoded bytes instead and decode only what a lookup touches.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+public interface ChunkPageEntries<K, V> {
+
+    /**
+     * Finds the value stored for a key.
+     *
+     * @param key lookup key
+     * @param comparator key comparator
+     * @return value when found, otherwise {@code null}
+     */
+    V find(K key, Comparator<K> comparator);
+
+    /**
+     * Returns all entries in key order.
+     *
+     * @return sorted entries
+     */
+    List<Entry<K, V>> entries();
+
+    /**
+     * Returns the number of stored entries.
+     *
+     * @return entry count
+     */
+    int size();
+
+    /**
+     * Returns the estimated heap weight of the stored entries.
+     *
+     * @return estimated weight in bytes
+     */
+    long weightBytes();
+}
@@ -1,6 +1,7 @@
 package org.hestiastore.index.chunkstorecache;
 
 import java.util.Comparator;
+import java.util.List;
 
 /**
  * Index-scoped cache for parsed persisted chunk pages.
@@ -41,6 +42,56 @@ public interface ChunkStoreCache<K, V> {
                 lookupKey, comparator, loader);
     }
 
+    /**
+     * Returns a parsed page through the cache, loading it on a miss. Used by
+     * multi-key lookups that resolve several keys from one page.
+     *
+     * @param cacheKey page cache key
+     * @param loader page loader used on misses
+     * @return parsed page
+     */
+    ParsedChunkPage<K, V> getPage(ChunkStoreCacheKey cacheKey,
+            ChunkPageLoader<K, V> loader);
+
+    /**
+     * Returns a parsed page through the cache, loading it on a miss.
+     *
+     * @param ownerId segment owner id
+     * @param activeVersion active segment version
+     * @param chunkPosition chunk start position
+     * @param loader page loader used on misses
+     * @return parsed page
+     */
+    default ParsedChunkPage<K, V> getPage(final String ownerId,
+            final long activeVersion, final long chunkPosition,
+            final ChunkPageLoader<K, V> loader) {
+        return getPage(
+                ChunkStoreCacheKey.of(ownerId, activeVersion, chunkPosition),
+                loader);
+    }
+
+    /**
+     * Returns the pages currently cached for one version of a segment, in no
+     * particular order. The call doesn't count as a hit and doesn't touch the
+     * pages.
+     *
+     * @param ownerId segment owner id
+     * @param activeVersion segment version
+     * @return cached pages of the version
+     */
+    List<ParsedChunkPage<K, V>> getCachedPages(String ownerId,
+            long activeVersion);
+
+    /**
+     * Caches a page that was built without a loader, for example while
+     * compaction writes a new index file. A page cached under the same key is
+     * replaced.
+     *
+     * @param cacheKey page cache key
+     * @param page parsed page
+     */
+    void putPage(ChunkStoreCacheKey cacheKey, ParsedChunkPage<K, V> page);
+
     /**
      * Updates the page limit.
      *
@@ -48,6 +99,14 @@ public interface ChunkStoreCache<K, V> {
      */
     void updateLimit(int pageLimit);
 
+    /**
+     * Updates the limit on the summed estimated page weight.
+     *
+     * @param byteLimit maximum cached weight in bytes, or {@code 0} to bound
+     *                  the cache by page count only
+     */
+    void updateByteLimit(long byteLimit);
+
     /**
      * Invalidates all pages owned by a segment.
      *
@@ -55,6 +114,14 @@ public interface ChunkStoreCache<K, V> {
      */
     void invalidateOwner(String ownerId);
 
+    /**
+     * Invalidates pages owned by a segment except those of one version.
+     *
+     * @param ownerId segment owner id
+     * @param activeVersion version whose pages are kept
+     */
+    void invalidateOwnerExceptVersion(String ownerId, long activeVersion);
+
     /**
      * Clears all cached pages.
      */
@@ -67,6 +134,22 @@ public interface ChunkStoreCache<K, V> {
      */
     ChunkStoreCacheStats stats();
 
+    /**
+     * Returns whether pages should be loaded into compact encoded storage
+     * before they are cached.
+     *
+     * @return true when cached pages use compact storage
+     */
+    boolean isCompactPages();
+
+    /**
+     * Returns whether compaction should cache the chunks of the rewritten
+     * index file that replace pages cached before it.
+     *
+     * @return true when compaction keeps the cache warm
+     */
+    boolean isWarmOnCompaction();
+
     /**
      * Returns whether cache storage is enabled.
      *
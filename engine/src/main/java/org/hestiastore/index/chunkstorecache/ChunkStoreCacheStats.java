@@ -15,12 +15,24 @@ public final class ChunkStoreCacheStats {
     private final long loadCount;
     private final long evictionCount;
     private final long invalidationCount;
+    private final long byteLimit;
+    private final long weightBytes;
 
     @SuppressWarnings("java:S107")
     public ChunkStoreCacheStats(final int pageLimit, final int pageCount,
             final long entryCount, final long hitCount, final long missCount,
             final long loadCount, final long evictionCount,
             final long invalidationCount) {
+        this(pageLimit, pageCount, entryCount, hitCount, missCount, loadCount,
+                evictionCount, invalidationCount, 0L, 0L);
+    }
+
+    @SuppressWarnings("java:S107")
+    public ChunkStoreCacheStats(final int pageLimit, final int pageCount,
+            final long entryCount, final long hitCount, final long missCount,
+            final long loadCount, final long evictionCount,
+            final long invalidationCount, final long byteLimit,
+            final long weightBytes) {
         this.pageLimit = Vldtn.requireGreaterThanOrEqualToZero(pageLimit,
                 "pageLimit");
         this.pageCount = Vldtn.requireGreaterThanOrEqualToZero(pageCount,
@@ -37,6 +49,10 @@ public final class ChunkStoreCacheStats {
                 evictionCount, "evictionCount");
         this.invalidationCount = Vldtn.requireGreaterThanOrEqualToZero(
                 invalidationCount, "invalidationCount");
+        this.byteLimit = Vldtn.requireGreaterThanOrEqualToZero(byteLimit,
+                "byteLimit");
+        this.weightBytes = Vldtn.requireGreaterThanOrEqualToZero(weightBytes,
+                "weightBytes");
     }
 
     public int pageLimit() {
@@ -70,4 +86,22 @@ public final class ChunkStoreCacheStats {
     public long invalidationCount() {
         return invalidationCount;
     }
+
+    /**
+     * Returns the configured weight limit.
+     *
+     * @return max cached weight in bytes, {@code 0} when unbounded by weight
+     */
+    public long byteLimit() {
+        return byteLimit;
+    }
+
+    /**
+     * Returns the summed estimated weight of all cached pages.
+     *
+     * @return cached weight in bytes
+     */
+    public long weightBytes() {
+        return weightBytes;
+    }
 }
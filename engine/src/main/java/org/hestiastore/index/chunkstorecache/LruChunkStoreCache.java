@@ -1,31 +1,66 @@
 package org.hestiastore.index.chunkstorecache;
 
-import java.util.Iterator;
-import java.util.LinkedHashMap;
-import java.util.Map;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.hestiastore.index.Vldtn;
 
 /**
- * Page-count bounded LRU implementation of {@link ChunkStoreCache}.
+ * Page-count and weight bounded, approximately LRU implementation of
+ * {@link ChunkStoreCache}.
+ * <p>
+ * Pages live in a {@link ConcurrentHashMap}, so cache hits take no lock. A hit
+ * only sets the page reference bit. Recency is approximated with the CLOCK
+ * algorithm: when the page limit or the byte limit is exceeded, pages are
+ * taken from the front of the insertion ring, referenced pages get a second
+ * chance at its end and the first unreferenced page is evicted.
+ * <p>
+ * The byte limit bounds the summed {@link ParsedChunkPage#weightBytes()} of
+ * cached pages. A page heavier than the whole limit is returned to the caller
+ * but not retained.
+ * <p>
+ * Concurrent misses on the same key share one in-flight load, so a chunk is
+ * read and parsed once no matter how many readers ask for it.
+ * <p>
+ * With compact pages enabled, loaders keep each page encoded in a single byte
+ * array (see {@link ChunkPageEntries}) instead of decoded entry objects.
+ * <p>
+ * With warm-on-compaction enabled, segment compaction reads the cached pages
+ * of the old version and puts the matching chunks of the new index file in
+ * with {@link #putPage(ChunkStoreCacheKey, ParsedChunkPage)}.
  *
  * @param <K> key type
  * @param <V> value type
  */
 public final class LruChunkStoreCache<K, V> implements ChunkStoreCache<K, V> {
 
-    private final Object monitor = new Object();
-    private final LinkedHashMap<ChunkStoreCacheKey, ParsedChunkPage<K, V>> pages =
-            new LinkedHashMap<>(16, 0.75F, true);
-    private final AtomicLong hitCount = new AtomicLong();
-    private final AtomicLong missCount = new AtomicLong();
+    private final ConcurrentHashMap<ChunkStoreCacheKey, CachedPage<K, V>> pages =
+            new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<ChunkStoreCacheKey, CompletableFuture<ParsedChunkPage<K, V>>> inFlightLoads =
+            new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<CachedPage<K, V>> clock =
+            new ConcurrentLinkedQueue<>();
+    private final Object evictionMonitor = new Object();
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
     private final AtomicLong loadCount = new AtomicLong();
     private final AtomicLong evictionCount = new AtomicLong();
     private final AtomicLong invalidationCount = new AtomicLong();
+    private final AtomicLong entryCount = new AtomicLong();
+    private final AtomicLong weightBytes = new AtomicLong();
+    private final boolean compactPages;
+    private final boolean warmOnCompaction;
     private volatile int pageLimit;
-    private long entryCount;
+    private volatile long byteLimit;
 
     /**
      * Creates a cache with the supplied page limit.
@@ -33,44 +68,96 @@ public final class LruChunkStoreCache<K, V> implements ChunkStoreCache<K, V> {
      * @param pageLimit maximum cached page count, or {@code 0} to disable
      */
     public LruChunkStoreCache(final int pageLimit) {
+        this(pageLimit, 0L, false, false);
+    }
+
+    /**
+     * Creates a cache with the supplied limits, page storage and compaction
+     * behaviour.
+     *
+     * @param pageLimit        maximum cached page count, or {@code 0} to
+     *                         disable
+     * @param byteLimit        maximum cached weight in bytes, or {@code 0} to
+     *                         bound the cache by page count only
+     * @param compactPages     whether loaders should build compact encoded
+     *                         pages
+     * @param warmOnCompaction whether compaction should re-cache the chunks
+     *                         replacing cached pages
+     */
+    public LruChunkStoreCache(final int pageLimit, final long byteLimit,
+            final boolean compactPages, final boolean warmOnCompaction) {
+        this.compactPages = compactPages;
+        this.warmOnCompaction = warmOnCompaction;
         this.pageLimit = Vldtn.requireGreaterThanOrEqualToZero(pageLimit,
                 "pageLimit");
+        this.byteLimit = Vldtn.requireGreaterThanOrEqualToZero(byteLimit,
+                "byteLimit");
     }
 
     @Override
     public V find(final ChunkStoreCacheKey cacheKey, final K lookupKey,
             final Comparator<K> comparator,
             final ChunkPageLoader<K, V> loader) {
-        final ChunkStoreCacheKey resolvedKey = Vldtn.requireNonNull(cacheKey,
-                "cacheKey");
         final K resolvedLookupKey = Vldtn.requireNonNull(lookupKey,
                 "lookupKey");
         final Comparator<K> resolvedComparator = Vldtn
                 .requireNonNull(comparator, "comparator");
+        return getPage(cacheKey, loader).find(resolvedLookupKey,
+                resolvedComparator);
+    }
+
+    @Override
+    public ParsedChunkPage<K, V> getPage(final ChunkStoreCacheKey cacheKey,
+            final ChunkPageLoader<K, V> loader) {
+        final ChunkStoreCacheKey resolvedKey = Vldtn.requireNonNull(cacheKey,
+                "cacheKey");
         final ChunkPageLoader<K, V> resolvedLoader = Vldtn
                 .requireNonNull(loader, "loader");
         if (!isEnabled()) {
-            return resolvedLoader.load().find(resolvedLookupKey,
-                    resolvedComparator);
+            return resolvedLoader.load();
         }
-        final ParsedChunkPage<K, V> cachedPage = getCachedPage(resolvedKey);
+        final CachedPage<K, V> cachedPage = pages.get(resolvedKey);
         if (cachedPage != null) {
-            hitCount.incrementAndGet();
-            return cachedPage.find(resolvedLookupKey, resolvedComparator);
+            hitCount.increment();
+            return cachedPage.touch();
         }
-        missCount.incrementAndGet();
-        final ParsedChunkPage<K, V> loadedPage = Vldtn.requireNonNull(
-                resolvedLoader.load(), "loadedPage");
-        loadCount.incrementAndGet();
-        putCachedPage(resolvedKey, loadedPage);
-        return loadedPage.find(resolvedLookupKey, resolvedComparator);
+        missCount.increment();
+        return loadOnce(resolvedKey, resolvedLoader);
+    }
+
+    @Override
+    public List<ParsedChunkPage<K, V>> getCachedPages(final String ownerId,
+            final long activeVersion) {
+        final String resolvedOwnerId = Vldtn.requireNotBlank(ownerId,
+                "ownerId");
+        final List<ParsedChunkPage<K, V>> ownerPages = new ArrayList<>();
+        for (final CachedPage<K, V> page : pages.values()) {
+            if (page.key.activeVersion() == activeVersion
+                    && resolvedOwnerId.equals(page.key.ownerId())) {
+                ownerPages.add(page.page);
+            }
+        }
+        return ownerPages;
+    }
+
+    @Override
+    public void putPage(final ChunkStoreCacheKey cacheKey,
+            final ParsedChunkPage<K, V> page) {
+        final ChunkStoreCacheKey resolvedKey = Vldtn.requireNonNull(cacheKey,
+                "cacheKey");
+        final ParsedChunkPage<K, V> resolvedPage = Vldtn.requireNonNull(page,
+                "page");
+        if (!isEnabled()) {
+            return;
+        }
+        putCachedPage(new CachedPage<>(resolvedKey, resolvedPage));
     }
 
     @Override
     public void updateLimit(final int limit) {
         final int resolvedLimit = Vldtn.requireGreaterThanOrEqualToZero(limit,
                 "pageLimit");
-        synchronized (monitor) {
+        synchronized (evictionMonitor) {
             pageLimit = resolvedLimit;
             if (resolvedLimit == 0) {
                 clearLocked();
@@ -80,43 +167,56 @@ public final class LruChunkStoreCache<K, V> implements ChunkStoreCache<K, V> {
         }
     }
 
+    @Override
+    public void updateByteLimit(final long limit) {
+        final long resolvedLimit = Vldtn
+                .requireGreaterThanOrEqualToZero(limit, "byteLimit");
+        synchronized (evictionMonitor) {
+            byteLimit = resolvedLimit;
+            evictToLimit();
+        }
+    }
+
     @Override
     public void invalidateOwner(final String ownerId) {
         final String resolvedOwnerId = Vldtn.requireNotBlank(ownerId,
                 "ownerId");
-        synchronized (monitor) {
-            int removed = 0;
-            final Iterator<Map.Entry<ChunkStoreCacheKey, ParsedChunkPage<K, V>>> iterator =
-                    pages.entrySet().iterator();
-            while (iterator.hasNext()) {
-                final Map.Entry<ChunkStoreCacheKey, ParsedChunkPage<K, V>> entry =
-                        iterator.next();
-                if (resolvedOwnerId.equals(entry.getKey().ownerId())) {
-                    entryCount -= entry.getValue().size();
-                    iterator.remove();
-                    removed++;
-                }
-            }
-            if (removed > 0) {
-                invalidationCount.addAndGet(removed);
-            }
-        }
+        invalidate(key -> resolvedOwnerId.equals(key.ownerId()));
+    }
+
+    @Override
+    public void invalidateOwnerExceptVersion(final String ownerId,
+            final long activeVersion) {
+        final String resolvedOwnerId = Vldtn.requireNotBlank(ownerId,
+                "ownerId");
+        invalidate(key -> key.activeVersion() != activeVersion
+                && resolvedOwnerId.equals(key.ownerId()));
     }
 
     @Override
     public void clear() {
-        synchronized (monitor) {
+        synchronized (evictionMonitor) {
             clearLocked();
         }
     }
 
     @Override
     public ChunkStoreCacheStats stats() {
-        synchronized (monitor) {
-            return new ChunkStoreCacheStats(pageLimit, pages.size(), entryCount,
-                    hitCount.get(), missCount.get(), loadCount.get(),
-                    evictionCount.get(), invalidationCount.get());
-        }
+        return new ChunkStoreCacheStats(pageLimit, pages.size(),
+                Math.max(0L, entryCount.get()), hitCount.sum(),
+                missCount.sum(), loadCount.get(), evictionCount.get(),
+                invalidationCount.get(), byteLimit,
+                Math.max(0L, weightBytes.get()));
+    }
+
+    @Override
+    public boolean isCompactPages() {
+        return compactPages;
+    }
+
+    @Override
+    public boolean isWarmOnCompaction() {
+        return warmOnCompaction;
     }
 
     @Override
@@ -124,49 +224,169 @@ public final class LruChunkStoreCache<K, V> implements ChunkStoreCache<K, V> {
         return pageLimit > 0;
     }
 
-    private ParsedChunkPage<K, V> getCachedPage(
-            final ChunkStoreCacheKey cacheKey) {
-        synchronized (monitor) {
-            return pages.get(cacheKey);
+    private void invalidate(final Predicate<ChunkStoreCacheKey> filter) {
+        synchronized (evictionMonitor) {
+            int removed = 0;
+            for (final Map.Entry<ChunkStoreCacheKey, CachedPage<K, V>> entry : pages
+                    .entrySet()) {
+                if (filter.test(entry.getKey())
+                        && removePage(entry.getValue())) {
+                    removed++;
+                }
+            }
+            clock.removeIf(page -> filter.test(page.key));
+            if (removed > 0) {
+                invalidationCount.addAndGet(removed);
+            }
         }
     }
 
-    private void putCachedPage(final ChunkStoreCacheKey cacheKey,
-            final ParsedChunkPage<K, V> page) {
-        synchronized (monitor) {
-            if (!isEnabled()) {
+    private ParsedChunkPage<K, V> loadOnce(final ChunkStoreCacheKey cacheKey,
+            final ChunkPageLoader<K, V> loader) {
+        final CompletableFuture<ParsedChunkPage<K, V>> load =
+                new CompletableFuture<>();
+        final CompletableFuture<ParsedChunkPage<K, V>> running = inFlightLoads
+                .putIfAbsent(cacheKey, load);
+        if (running != null) {
+            return awaitLoad(running);
+        }
+        try {
+            // The page could have been published after the first probe.
+            final CachedPage<K, V> cachedPage = pages.get(cacheKey);
+            final ParsedChunkPage<K, V> page = cachedPage != null
+                    ? cachedPage.page
+                    : loadAndCache(cacheKey, loader);
+            load.complete(page);
+            return page;
+        } catch (final RuntimeException | Error e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightLoads.remove(cacheKey, load);
+        }
+    }
+
+    private ParsedChunkPage<K, V> loadAndCache(
+            final ChunkStoreCacheKey cacheKey,
+            final ChunkPageLoader<K, V> loader) {
+        final ParsedChunkPage<K, V> loadedPage = Vldtn
+                .requireNonNull(loader.load(), "loadedPage");
+        loadCount.incrementAndGet();
+        putCachedPage(new CachedPage<>(cacheKey, loadedPage));
+        return loadedPage;
+    }
+
+    private ParsedChunkPage<K, V> awaitLoad(
+            final CompletableFuture<ParsedChunkPage<K, V>> running) {
+        try {
+            return running.join();
+        } catch (final CompletionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private void putCachedPage(final CachedPage<K, V> page) {
+        synchronized (evictionMonitor) {
+            if (!isEnabled() || isHeavierThanByteLimit(page)) {
                 return;
             }
-            final ParsedChunkPage<K, V> previous = pages.put(cacheKey, page);
+            final CachedPage<K, V> previous = pages.put(page.key, page);
             if (previous != null) {
-                entryCount -= previous.size();
+                entryCount.addAndGet(-previous.page.size());
+                weightBytes.addAndGet(-previous.page.weightBytes());
             }
-            entryCount += page.size();
+            entryCount.addAndGet(page.page.size());
+            weightBytes.addAndGet(page.page.weightBytes());
+            clock.offer(page);
             evictToLimit();
         }
     }
 
     private void evictToLimit() {
-        while (pages.size() > pageLimit) {
-            final Iterator<Map.Entry<ChunkStoreCacheKey, ParsedChunkPage<K, V>>> iterator =
-                    pages.entrySet().iterator();
-            if (!iterator.hasNext()) {
+        while (isOverLimit()) {
+            final CachedPage<K, V> candidate = clock.poll();
+            if (candidate == null) {
                 return;
             }
-            final Map.Entry<ChunkStoreCacheKey, ParsedChunkPage<K, V>> eldest =
-                    iterator.next();
-            entryCount -= eldest.getValue().size();
-            iterator.remove();
-            evictionCount.incrementAndGet();
+            if (pages.get(candidate.key) != candidate) {
+                // Replaced or invalidated page, nothing to evict.
+                continue;
+            }
+            if (candidate.referenced) {
+                candidate.referenced = false;
+                clock.offer(candidate);
+                continue;
+            }
+            if (removePage(candidate)) {
+                evictionCount.incrementAndGet();
+            }
+        }
+    }
+
+    private boolean isHeavierThanByteLimit(final CachedPage<K, V> page) {
+        final long resolvedByteLimit = byteLimit;
+        return resolvedByteLimit > 0
+                && page.page.weightBytes() > resolvedByteLimit;
+    }
+
+    private boolean isOverLimit() {
+        if (pages.size() > pageLimit) {
+            return true;
+        }
+        final long resolvedByteLimit = byteLimit;
+        return resolvedByteLimit > 0 && weightBytes.get() > resolvedByteLimit;
+    }
+
+    private boolean removePage(final CachedPage<K, V> page) {
+        if (pages.remove(page.key, page)) {
+            entryCount.addAndGet(-page.page.size());
+            weightBytes.addAndGet(-page.page.weightBytes());
+            return true;
         }
+        return false;
     }
 
     private void clearLocked() {
-        final int removed = pages.size();
-        pages.clear();
-        entryCount = 0L;
+        int removed = 0;
+        for (final CachedPage<K, V> page : pages.values()) {
+            if (removePage(page)) {
+                removed++;
+            }
+        }
+        clock.clear();
         if (removed > 0) {
             invalidationCount.addAndGet(removed);
         }
     }
+
+    /**
+     * Cached page with its CLOCK reference bit.
+     */
+    private static final class CachedPage<K, V> {
+
+        private final ChunkStoreCacheKey key;
+        private final ParsedChunkPage<K, V> page;
+        private volatile boolean referenced;
+
+        private CachedPage(final ChunkStoreCacheKey key,
+                final ParsedChunkPage<K, V> page) {
+            this.key = key;
+            this.page = page;
+        }
+
+        private ParsedChunkPage<K, V> touch() {
+            // Skip the write when already set to keep hot pages read-only.
+            if (!referenced) {
+                referenced = true;
+            }
+            return page;
+        }
+    }
 }
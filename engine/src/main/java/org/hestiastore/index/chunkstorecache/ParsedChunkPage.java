@@ -8,19 +8,40 @@ import org.hestiastore.index.Vldtn;
 
 /**
  * Immutable parsed representation of one persisted chunk page.
+ * <p>
+ * Each page carries an estimated heap weight in bytes. Pages loaded from disk
+ * are weighted by their measured encoded payload size plus a fixed per-entry
+ * object overhead, so the cache can be bounded by memory rather than by page
+ * count.
+ * <p>
+ * Entries are held by a {@link ChunkPageEntries} storage. Pages created from
+ * an entry list keep decoded objects; pages created with
+ * {@link #backedBy(ChunkPageEntries)} use the supplied storage, for example a
+ * compact encoded one.
  *
  * @param <K> key type
  * @param <V> value type
  */
 public final class ParsedChunkPage<K, V> {
 
-    private static final ParsedChunkPage<?, ?> EMPTY =
-            new ParsedChunkPage<>(List.of());
+    /**
+     * Estimated fixed heap overhead of one page object and its entry list.
+     */
+    public static final int PAGE_OVERHEAD_BYTES = 64;
+
+    /**
+     * Estimated heap overhead of one materialized entry: the entry object,
+     * key and value object headers and the list slot.
+     */
+    public static final int ENTRY_OVERHEAD_BYTES = 96;
+
+    private static final ParsedChunkPage<?, ?> EMPTY = new ParsedChunkPage<>(
+            new EntryListStorage<>(List.of(), 0L));
 
-    private final List<Entry<K, V>> entries;
+    private final ChunkPageEntries<K, V> storage;
 
-    private ParsedChunkPage(final List<Entry<K, V>> entries) {
-        this.entries = List.copyOf(entries);
+    private ParsedChunkPage(final ChunkPageEntries<K, V> storage) {
+        this.storage = storage;
     }
 
     /**
@@ -33,13 +54,62 @@ public final class ParsedChunkPage<K, V> {
      */
     public static <K, V> ParsedChunkPage<K, V> of(
             final List<Entry<K, V>> entries) {
+        return of(entries, 0L);
+    }
+
+    /**
+     * Creates a parsed page from sorted entries decoded from a payload of the
+     * given encoded size.
+     *
+     * @param entries sorted key/value entries
+     * @param encodedBytes encoded size of the entries on disk
+     * @param <K> key type
+     * @param <V> value type
+     * @return parsed page
+     */
+    public static <K, V> ParsedChunkPage<K, V> of(
+            final List<Entry<K, V>> entries, final long encodedBytes) {
         final List<Entry<K, V>> validatedEntries = Vldtn.requireNonNull(
                 entries, "entries");
+        Vldtn.requireGreaterThanOrEqualToZero(encodedBytes, "encodedBytes");
         validatedEntries.forEach(ParsedChunkPage::validateEntry);
         if (validatedEntries.isEmpty()) {
             return empty();
         }
-        return new ParsedChunkPage<>(validatedEntries);
+        return new ParsedChunkPage<>(new EntryListStorage<>(
+                List.copyOf(validatedEntries),
+                estimateWeightBytes(validatedEntries.size(), encodedBytes)));
+    }
+
+    /**
+     * Creates a parsed page backed by the supplied entry storage.
+     *
+     * @param storage sorted entry storage
+     * @param <K> key type
+     * @param <V> value type
+     * @return parsed page
+     */
+    public static <K, V> ParsedChunkPage<K, V> backedBy(
+            final ChunkPageEntries<K, V> storage) {
+        final ChunkPageEntries<K, V> validatedStorage = Vldtn
+                .requireNonNull(storage, "storage");
+        if (validatedStorage.size() == 0) {
+            return empty();
+        }
+        return new ParsedChunkPage<>(validatedStorage);
+    }
+
+    /**
+     * Estimates the heap weight of a page.
+     *
+     * @param entryCount number of materialized entries
+     * @param encodedBytes encoded size of the entries on disk
+     * @return estimated page weight in bytes
+     */
+    static long estimateWeightBytes(final int entryCount,
+            final long encodedBytes) {
+        return PAGE_OVERHEAD_BYTES + encodedBytes
+                + (long) entryCount * ENTRY_OVERHEAD_BYTES;
     }
 
     /**
@@ -65,41 +135,91 @@ public final class ParsedChunkPage<K, V> {
         final K resolvedKey = Vldtn.requireNonNull(key, "key");
         final Comparator<K> resolvedComparator = Vldtn.requireNonNull(
                 comparator, "comparator");
-        if (entries.isEmpty()) {
+        if (isEmpty()) {
             return null;
         }
-        int low = 0;
-        int high = entries.size() - 1;
-        while (low <= high) {
-            final int mid = low + ((high - low) / 2);
-            final Entry<K, V> entry = entries.get(mid);
-            final int cmp = resolvedComparator.compare(entry.getKey(),
-                    resolvedKey);
-            if (cmp < 0) {
-                low = mid + 1;
-            } else if (cmp > 0) {
-                high = mid - 1;
-            } else {
-                return entry.getValue();
-            }
-        }
-        return null;
+        return storage.find(resolvedKey, resolvedComparator);
     }
 
     public int size() {
-        return entries.size();
+        return storage.size();
     }
 
     public boolean isEmpty() {
-        return entries.isEmpty();
+        return storage.size() == 0;
     }
 
+    /**
+     * Returns all page entries in key order. Compact storages decode the
+     * entries on every call.
+     *
+     * @return sorted entries
+     */
     public List<Entry<K, V>> entries() {
-        return entries;
+        return storage.entries();
+    }
+
+    /**
+     * Returns the estimated heap weight of this page.
+     *
+     * @return estimated weight in bytes, {@code 0} for the empty page
+     */
+    public long weightBytes() {
+        return storage.weightBytes();
     }
 
     private static <K, V> void validateEntry(final Entry<K, V> entry) {
         Vldtn.requireNonNull(entry, "entry");
         Vldtn.requireNonNull(entry.getKey(), "entry.key");
     }
+
+    /**
+     * Storage keeping decoded entry objects.
+     */
+    private static final class EntryListStorage<K, V>
+            implements ChunkPageEntries<K, V> {
+
+        private final List<Entry<K, V>> entries;
+        private final long weightBytes;
+
+        private EntryListStorage(final List<Entry<K, V>> entries,
+                final long weightBytes) {
+            this.entries = entries;
+            this.weightBytes = weightBytes;
+        }
+
+        @Override
+        public V find(final K key, final Comparator<K> comparator) {
+            int low = 0;
+            int high = entries.size() - 1;
+            while (low <= high) {
+                final int mid = low + ((high - low) / 2);
+                final Entry<K, V> entry = entries.get(mid);
+                final int cmp = comparator.compare(entry.getKey(), key);
+                if (cmp < 0) {
+                    low = mid + 1;
+                } else if (cmp > 0) {
+                    high = mid - 1;
+                } else {
+                    return entry.getValue();
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public List<Entry<K, V>> entries() {
+            return entries;
+        }
+
+        @Override
+        public int size() {
+            return entries.size();
+        }
+
+        @Override
+        public long weightBytes() {
+            return weightBytes;
+        }
+    }
 }
@@ -5,7 +5,7 @@ package org.hestiastore.index.datablockfile;
  */
 public class DataBlockPosition {
 
-    private final int position;
+    private final long position;
 
     /**
      * Create data block position.
@@ -13,11 +13,11 @@ public class DataBlockPosition {
      * @param position data block position in bytes
      * @return data block position
      */
-    public static DataBlockPosition of(final int position) {
+    public static DataBlockPosition of(final long position) {
         return new DataBlockPosition(position);
     }
 
-    private DataBlockPosition(final int position) {
+    private DataBlockPosition(final long position) {
         if (position < 0) {
             throw new IllegalArgumentException("Position must be non-negative");
         }
@@ -29,7 +29,7 @@ public class DataBlockPosition {
      * 
      * @return data block position in bytes
      */
-    public int getValue() {
+    public long getValue() {
         return position;
     }
 
@@ -53,7 +53,7 @@ public class DataBlockPosition {
 
     @Override
     public int hashCode() {
-        return Integer.hashCode(position);
+        return Long.hashCode(position);
     }
 
     @Override
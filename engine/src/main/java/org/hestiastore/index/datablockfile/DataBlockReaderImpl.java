@@ -5,7 +5,6 @@ import org.hestiastore.index.IndexException;
 import org.hestiastore.index.Vldtn;
 import org.hestiastore.index.bytes.ByteSequence;
 import org.hestiastore.index.bytes.ByteSequenceCrc32;
-import org.hestiastore.index.bytes.ByteSequences;
 import org.hestiastore.index.directory.FileReaderSeekable;
 
 /**
@@ -14,12 +13,10 @@ import org.hestiastore.index.directory.FileReaderSeekable;
 public class DataBlockReaderImpl extends AbstractCloseableResource
         implements DataBlockReader {
 
-    private static final byte[] EOF = new byte[0];
-
     private final FileReaderSeekable fileReader;
     private final DataBlockSize blockSize;
     private final boolean closeReaderOnClose;
-    private int position;
+    private long position;
 
     DataBlockReaderImpl(final FileReaderSeekable fileReader,
             final DataBlockPosition blockPosition,
@@ -41,12 +38,12 @@ public class DataBlockReaderImpl extends AbstractCloseableResource
 
     @Override
     public DataBlock read() {
-        final byte[] buffer = readFullBlockData();
-        if (buffer.length == 0) {
+        final ByteSequence blockData = readFullBlockData();
+        if (blockData.isEmpty()) {
             return null;
         }
         final DataBlockPosition blockPosition = DataBlockPosition.of(position);
-        final DataBlock dataBlock = DataBlock.ofSequence(ByteSequences.wrap(buffer),
+        final DataBlock dataBlock = DataBlock.ofSequence(blockData,
                 blockPosition);
         position += blockSize.getDataBlockSize();
         return dataBlock;
@@ -54,40 +51,34 @@ public class DataBlockReaderImpl extends AbstractCloseableResource
 
     @Override
     public ByteSequence readPayloadSequence() {
-        final byte[] buffer = readFullBlockData();
-        if (buffer.length == 0) {
+        final ByteSequence blockData = readFullBlockData();
+        if (blockData.isEmpty()) {
             return null;
         }
-        validateBlockData(buffer);
+        validateBlockData(blockData);
         position += blockSize.getDataBlockSize();
-        return ByteSequences.viewOf(buffer, DataBlockHeader.HEADER_SIZE,
-                buffer.length);
+        return blockData.slice(DataBlockHeader.HEADER_SIZE,
+                blockData.length());
     }
 
-    private byte[] readFullBlockData() {
+    /**
+     * Reads the whole block. Memory-mapped readers return a view of the
+     * mapping, other readers a freshly filled array.
+     *
+     * @return block bytes, empty when the end of file was reached before the
+     *         block
+     */
+    private ByteSequence readFullBlockData() {
         final int blockDataSize = blockSize.getDataBlockSize();
-        final byte[] buffer = new byte[blockDataSize];
-        int offset = 0;
-        while (offset < blockDataSize) {
-            final int bytesRead = fileReader.read(buffer, offset,
-                    blockDataSize - offset);
-            if (bytesRead < 0) {
-                if (offset == 0) {
-                    return EOF; // End of file reached before reading block.
-                }
-                throw new IndexException("Unable to read full block");
-            }
-            if (bytesRead == 0) {
-                throw new IndexException("Unable to read full block");
-            }
-            offset += bytesRead;
+        final ByteSequence blockData = fileReader.readSequence(blockDataSize);
+        if (!blockData.isEmpty() && blockData.length() < blockDataSize) {
+            throw new IndexException("Unable to read full block");
         }
-        return buffer;
+        return blockData;
     }
 
-    private void validateBlockData(final byte[] blockData) {
-        final DataBlockHeader header = DataBlockHeader
-                .ofSequence(ByteSequences.wrap(blockData));
+    private void validateBlockData(final ByteSequence blockData) {
+        final DataBlockHeader header = DataBlockHeader.ofSequence(blockData);
         if (header.getMagicNumber() != DataBlockHeader.MAGIC_NUMBER) {
             throw new IllegalArgumentException(
                     "Invalid magic number in data block header");
@@ -98,10 +89,10 @@ public class DataBlockReaderImpl extends AbstractCloseableResource
         }
     }
 
-    private long calculatePayloadCrc(final byte[] blockData) {
+    private long calculatePayloadCrc(final ByteSequence blockData) {
         final ByteSequenceCrc32 crc = new ByteSequenceCrc32();
-        crc.update(ByteSequences.viewOf(blockData, DataBlockHeader.HEADER_SIZE,
-                blockData.length));
+        crc.update(blockData.slice(DataBlockHeader.HEADER_SIZE,
+                blockData.length()));
         return crc.getValue();
     }
 
@@ -5,6 +5,7 @@ import org.hestiastore.index.Vldtn;
 import org.hestiastore.index.bytes.ByteSequence;
 import org.hestiastore.index.bytes.ByteSequenceCrc32;
 import org.hestiastore.index.bytes.ByteSequences;
+import org.hestiastore.index.bytes.ConcatenatedByteSequence;
 import org.hestiastore.index.directory.FileWriter;
 
 /**
@@ -16,13 +17,13 @@ public class DataBlockWriterImpl extends AbstractCloseableResource
     private final FileWriter fileWriter;
 
     private final DataBlockSize blockSize;
-    private final byte[] blockDataBuffer;
+    private final byte[] headerBuffer;
 
     public DataBlockWriterImpl(final FileWriter fileWriter,
             final DataBlockSize blockSize) {
         this.fileWriter = Vldtn.requireNonNull(fileWriter, "fileWriter");
         this.blockSize = Vldtn.requireNonNull(blockSize, "blockSize");
-        this.blockDataBuffer = new byte[blockSize.getDataBlockSize()];
+        this.headerBuffer = new byte[DataBlockHeader.HEADER_SIZE];
     }
 
     @Override
@@ -41,18 +42,12 @@ public class DataBlockWriterImpl extends AbstractCloseableResource
                     "Payload size '%d' does not match expected payload size '%d'",
                     actualPayloadSize, requiredPayloadSize));
         }
-        writeIntoSharedBuffer(payload, calculateCrc(payload));
-        fileWriter.write(blockDataBuffer);
-    }
-
-    private void writeIntoSharedBuffer(final ByteSequence payload,
-            final long crc) {
-        writeLong(blockDataBuffer, 0, DataBlockHeader.MAGIC_NUMBER);
-        writeLong(blockDataBuffer, 8, crc);
-        // Copy payload data after the fixed-size header.
-        ByteSequences.copy(payload, 0, blockDataBuffer,
-                DataBlockHeader.HEADER_SIZE,
-                payload.length());
+        writeLong(headerBuffer, 0, DataBlockHeader.MAGIC_NUMBER);
+        writeLong(headerBuffer, 8, calculateCrc(payload));
+        // Header and payload go to the writer as one sequence, without
+        // copying the payload into an intermediate block array.
+        fileWriter.write(ConcatenatedByteSequence
+                .of(ByteSequences.wrap(headerBuffer), payload));
     }
 
     private static long calculateCrc(final ByteSequence payload) {
@@ -1,7 +1,11 @@
 package org.hestiastore.index.directory;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
 import java.util.stream.Stream;
 
@@ -59,6 +63,26 @@ public abstract class AbstractDirectory implements Directory {
         return directory.toPath().resolve(fileName).toFile();
     }
 
+    /**
+     * Maps the whole file read-only. The channel is closed right away, the
+     * mapping stays valid until the buffer is garbage collected.
+     *
+     * @param fileName required file name
+     * @return read-only mapped buffer
+     * @throws IndexException when the file is missing or cannot be mapped
+     */
+    protected ByteBuffer mapFileReadOnly(final String fileName) {
+        final File file = getFile(fileName);
+        assureThatFileExists(file);
+        try (FileChannel channel = FileChannel.open(file.toPath(),
+                StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0,
+                    channel.size());
+        } catch (IOException e) {
+            throw new IndexException(e.getMessage(), e);
+        }
+    }
+
     @Override
     public boolean deleteFile(final String fileName) {
         return getFile(fileName).delete();
@@ -0,0 +1,90 @@
+package org.hestiastore.index.directory;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hestiastore.index.Vldtn;
+
+/**
+ * Pool of I/O buffers shared by the readers and writers of one directory
+ * tree.
+ * <p>
+ * Buffers are pooled per capacity, so streams opened with the configured
+ * disk I/O buffer size reuse each other's buffers instead of allocating a new
+ * one per file. At most {@link #MAX_POOLED_BUFFERS_PER_CAPACITY} idle buffers
+ * are kept per capacity, more are left to the garbage collector.
+ */
+final class ByteBufferPool {
+
+    static final int MAX_POOLED_BUFFERS_PER_CAPACITY = 64;
+
+    private final boolean direct;
+    private final ConcurrentHashMap<Integer, ArrayBlockingQueue<ByteBuffer>> idleBuffers = new ConcurrentHashMap<>();
+
+    /**
+     * Creates an empty pool.
+     *
+     * @param direct true to allocate direct buffers, false for heap buffers
+     */
+    ByteBufferPool(final boolean direct) {
+        this.direct = direct;
+    }
+
+    /**
+     * Returns a cleared buffer with the requested capacity.
+     *
+     * @param capacity required capacity in bytes
+     * @return pooled or newly allocated buffer
+     */
+    ByteBuffer acquire(final int capacity) {
+        Vldtn.requireGreaterThanZero(capacity, "capacity");
+        final ArrayBlockingQueue<ByteBuffer> idle = idleBuffers
+                .get(Integer.valueOf(capacity));
+        final ByteBuffer pooled = idle == null ? null : idle.poll();
+        if (pooled != null) {
+            pooled.clear();
+            return pooled;
+        }
+        return direct ? ByteBuffer.allocateDirect(capacity)
+                : ByteBuffer.allocate(capacity);
+    }
+
+    /**
+     * Returns a buffer to the pool. The caller must not use it afterwards.
+     *
+     * @param buffer buffer obtained from {@link #acquire(int)}
+     */
+    void release(final ByteBuffer buffer) {
+        Vldtn.requireNonNull(buffer, "buffer");
+        if (buffer.isDirect() != direct) {
+            return;
+        }
+        idleBuffers
+                .computeIfAbsent(Integer.valueOf(buffer.capacity()),
+                        capacity -> new ArrayBlockingQueue<>(
+                                MAX_POOLED_BUFFERS_PER_CAPACITY))
+                .offer(buffer);
+    }
+
+    /**
+     * Returns whether the pool allocates direct buffers.
+     *
+     * @return true for direct buffers
+     */
+    boolean isDirect() {
+        return direct;
+    }
+
+    /**
+     * Returns the number of idle buffers with the given capacity.
+     *
+     * @param capacity buffer capacity
+     * @return idle buffer count
+     */
+    int idleCount(final int capacity) {
+        final ArrayBlockingQueue<ByteBuffer> idle = idleBuffers
+                .get(Integer.valueOf(capacity));
+        return idle == null ? 0 : idle.size();
+    }
+}
@@ -1,5 +1,7 @@
 package org.hestiastore.index.directory;
 
+import java.nio.ByteBuffer;
+import java.util.Optional;
 import java.util.stream.Stream;
 
 import org.hestiastore.index.Vldtn;
@@ -59,6 +61,20 @@ public interface Directory {
 
     boolean isFileExists(final String fileName);
 
+    /**
+     * Maps the whole file read-only into memory when the implementation
+     * supports it. The mapping stays readable after the file is replaced or
+     * deleted and is released once the returned buffer is garbage collected.
+     *
+     * @param fileName required file name
+     * @return read-only buffer over the file content, or empty when this
+     *         directory doesn't support mapping
+     */
+    default Optional<ByteBuffer> mapReadOnly(final String fileName) {
+        Vldtn.requireNonNull(fileName, "fileName");
+        return Optional.empty();
+    }
+
     FileWriter getFileWriter(String fileName, Access access);
 
     FileWriter getFileWriter(String fileName, Access access, int bufferSize);
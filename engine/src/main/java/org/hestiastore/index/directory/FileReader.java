@@ -1,5 +1,7 @@
 package org.hestiastore.index.directory;
 
+import java.nio.ByteBuffer;
+
 import org.hestiastore.index.CloseableResource;
 import org.hestiastore.index.Vldtn;
 
@@ -61,6 +63,41 @@ public interface FileReader extends CloseableResource {
         return readBytes;
     }
 
+    /**
+     * Reads up to {@code destination.remaining()} bytes into
+     * {@code destination} and advances its position by the number of read
+     * bytes.
+     * <p>
+     * The default implementation reads directly into the backing array of
+     * heap buffers and through a temporary array otherwise.
+     *
+     * @param destination required destination buffer
+     * @return number of read bytes or {@code -1} when end of file was reached
+     *         before reading any byte
+     */
+    default int read(final ByteBuffer destination) {
+        final ByteBuffer validated = Vldtn.requireNonNull(destination,
+                "destination");
+        final int length = validated.remaining();
+        if (length == 0) {
+            return 0;
+        }
+        if (validated.hasArray()) {
+            final int read = read(validated.array(),
+                    validated.arrayOffset() + validated.position(), length);
+            if (read > 0) {
+                validated.position(validated.position() + read);
+            }
+            return read;
+        }
+        final byte[] bytes = new byte[length];
+        final int read = read(bytes, 0, length);
+        if (read > 0) {
+            validated.put(bytes, 0, read);
+        }
+        return read;
+    }
+
     /**
      * Skip n bytes to specific position in file.
      *
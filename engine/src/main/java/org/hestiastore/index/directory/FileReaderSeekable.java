@@ -1,5 +1,10 @@
 package org.hestiastore.index.directory;
 
+import java.nio.ByteBuffer;
+
+import org.hestiastore.index.bytes.ByteSequence;
+import org.hestiastore.index.bytes.ByteSequences;
+
 public interface FileReaderSeekable extends FileReader {
 
     /**
@@ -11,4 +16,41 @@ public interface FileReaderSeekable extends FileReader {
      */
     void seek(long position);
 
+    /**
+     * Reads bytes starting at the given absolute file position into the
+     * remaining space of {@code destination}. The reader's own position is
+     * not changed. Fewer bytes than remaining are read only when the end of
+     * file is reached.
+     *
+     * @param position    zero-based offset inside the file
+     * @param destination buffer receiving the bytes, its position is advanced
+     * @return number of read bytes or {@code -1} when {@code position} is at
+     *         or behind the end of file
+     */
+    int read(long position, ByteBuffer destination);
+
+    /**
+     * Reads up to {@code length} bytes from the current position and moves
+     * the position behind them. Fewer bytes are returned only when the end of
+     * file is reached.
+     * <p>
+     * The default implementation copies the bytes into a new array.
+     * Memory-mapped readers return a view of the mapping without copying.
+     *
+     * @param length required maximum number of bytes to read
+     * @return read bytes, empty when the end of file was already reached
+     */
+    default ByteSequence readSequence(final int length) {
+        final byte[] bytes = new byte[length];
+        int readBytes = 0;
+        while (readBytes < length) {
+            final int read = read(bytes, readBytes, length - readBytes);
+            if (read <= 0) {
+                break;
+            }
+            readBytes += read;
+        }
+        return ByteSequences.viewOf(bytes, 0, readBytes);
+    }
+
 }
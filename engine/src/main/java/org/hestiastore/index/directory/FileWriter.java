@@ -1,9 +1,12 @@
 package org.hestiastore.index.directory;
 
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 
 import org.hestiastore.index.CloseableResource;
 import org.hestiastore.index.Vldtn;
+import org.hestiastore.index.bytes.ByteSequence;
+import org.hestiastore.index.bytes.ByteSequences;
 
 /**
  * Generic byte sink used by serializers.
@@ -52,4 +55,42 @@ public interface FileWriter extends CloseableResource {
         }
         write(Arrays.copyOfRange(validated, from, from + len));
     }
+
+    /**
+     * Writes the remaining bytes of {@code source} and moves its position to
+     * the limit.
+     * <p>
+     * The default implementation writes the backing array range of heap
+     * buffers and copies other buffers once.
+     *
+     * @param source bytes to write
+     */
+    default void write(final ByteBuffer source) {
+        final ByteBuffer validated = Vldtn.requireNonNull(source, "source");
+        final int length = validated.remaining();
+        if (length == 0) {
+            return;
+        }
+        if (validated.hasArray()) {
+            write(validated.array(),
+                    validated.arrayOffset() + validated.position(), length);
+            validated.position(validated.limit());
+            return;
+        }
+        final byte[] bytes = new byte[length];
+        validated.get(bytes);
+        write(bytes);
+    }
+
+    /**
+     * Writes the whole sequence. Sequences concatenated from several parts
+     * are written part by part without joining them first, so writers that
+     * support gathering writes can send all parts in one call.
+     *
+     * @param sequence bytes to write
+     */
+    default void write(final ByteSequence sequence) {
+        ByteSequences.forEachBuffer(
+                Vldtn.requireNonNull(sequence, "sequence"), this::write);
+    }
 }
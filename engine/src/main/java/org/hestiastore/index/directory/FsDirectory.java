@@ -1,6 +1,8 @@
 package org.hestiastore.index.directory;
 
 import java.io.File;
+import java.nio.ByteBuffer;
+import java.util.Optional;
 
 import org.hestiastore.index.IndexException;
 import org.hestiastore.index.Vldtn;
@@ -10,8 +12,16 @@ public final class FsDirectory extends AbstractDirectory {
     private static final String DIRECTORY_NAME_ARG = "directoryName";
     private static final String ERROR_REQUIRED_DIRECTORY_IS_FILE = "There is required directory but '%s' is file.";
 
+    private final ByteBufferPool bufferPool;
+
     public FsDirectory(final File directory) {
+        this(directory, new ByteBufferPool(false));
+    }
+
+    private FsDirectory(final File directory,
+            final ByteBufferPool bufferPool) {
         super(directory);
+        this.bufferPool = bufferPool;
     }
 
     @Override
@@ -20,6 +30,11 @@ public final class FsDirectory extends AbstractDirectory {
         return file.exists();
     }
 
+    @Override
+    public Optional<ByteBuffer> mapReadOnly(final String fileName) {
+        return Optional.of(mapFileReadOnly(fileName));
+    }
+
     @Override
     public FileReader getFileReader(final String fileName) {
         return getFileReader(fileName, DEFAULT_BUFFER_SIZE);
@@ -69,7 +84,7 @@ public final class FsDirectory extends AbstractDirectory {
                     "Unable to create directory '%s'.",
                     subdirectory.getAbsolutePath()));
         }
-        return new FsDirectory(subdirectory);
+        return new FsDirectory(subdirectory, bufferPool);
     }
 
     @Override
@@ -130,13 +145,14 @@ public final class FsDirectory extends AbstractDirectory {
 
     @Override
     public FileReaderSeekable getFileReaderSeekable(final String fileName) {
-        return new FsFileReaderSeekable(getFile(fileName));
+        return new FsFileReaderSeekable(getFile(fileName), bufferPool);
     }
 
     @Override
     public FileReaderSeekableSupplier getFileReaderSeekableSupplier(
             final String fileName) {
-        return new FsSharedFileReaderSeekableSupplier(getFile(fileName));
+        return new FsSharedFileReaderSeekableSupplier(getFile(fileName),
+                bufferPool);
     }
 
 }
@@ -8,17 +8,27 @@ import java.nio.file.StandardOpenOption;
 
 import org.hestiastore.index.AbstractCloseableResource;
 import org.hestiastore.index.IndexException;
+import org.hestiastore.index.Vldtn;
 
 /**
  * {@link FileReaderSeekable} implementation backed by a {@link FileChannel}.
  * The reader exposes byte-wise and bulk read operations, supports seeking /
  * skipping, and closes the channel when the resource is released.
+ * <p>
+ * Reads use positional channel reads through a buffer taken from a
+ * {@link ByteBufferPool}, so the reader keeps its own position and several
+ * readers may share one channel. Bulk reads of at least the buffer size
+ * bypass the buffer.
  */
 public final class FsFileReaderSeekable extends AbstractCloseableResource
         implements FileReaderSeekable {
 
     private final FileChannel channel;
-    private final ByteBuffer singleByteBuffer = ByteBuffer.allocate(1);
+    private final boolean ownsChannel;
+    private final ByteBufferPool bufferPool;
+    private final ByteBuffer buffer;
+    private long bufferStart;
+    private long position;
 
     /**
      * Opens the given file for read-only, seekable access.
@@ -27,32 +37,56 @@ public final class FsFileReaderSeekable extends AbstractCloseableResource
      * @throws IndexException when the file channel cannot be opened
      */
     FsFileReaderSeekable(final File file) {
-        try {
-            channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
-        } catch (IOException e) {
-            throw new IndexException(e.getMessage(), e);
-        }
+        this(file, new ByteBufferPool(false));
+    }
+
+    /**
+     * Opens the given file for read-only, seekable access with a buffer from
+     * the given pool.
+     *
+     * @param file       file to read from
+     * @param bufferPool pool providing the read buffer
+     * @throws IndexException when the file channel cannot be opened
+     */
+    FsFileReaderSeekable(final File file, final ByteBufferPool bufferPool) {
+        this(openChannel(file), true, AbstractDirectory.DEFAULT_BUFFER_SIZE,
+                bufferPool);
+    }
+
+    /**
+     * Creates a reader over an already opened channel.
+     *
+     * @param channel     channel to read from
+     * @param ownsChannel true when closing the reader closes the channel
+     * @param bufferSize  read buffer size in bytes
+     * @param bufferPool  pool providing the read buffer
+     */
+    FsFileReaderSeekable(final FileChannel channel, final boolean ownsChannel,
+            final int bufferSize, final ByteBufferPool bufferPool) {
+        this.channel = Vldtn.requireNonNull(channel, "channel");
+        this.ownsChannel = ownsChannel;
+        Vldtn.requireGreaterThanZero(bufferSize, "bufferSize");
+        this.bufferPool = Vldtn.requireNonNull(bufferPool, "bufferPool");
+        this.buffer = bufferPool.acquire(bufferSize);
+        this.buffer.limit(0);
+        this.bufferStart = 0L;
+        this.position = 0L;
     }
 
     /**
-     * Reads a single unsigned byte from the current channel position.
+     * Reads a single unsigned byte from the current position.
      *
      * @return byte value (0-255) or {@code -1} when end of stream is reached
      * @throws IndexException when the underlying channel read fails
      */
     @Override
     public int read() {
-        try {
-            singleByteBuffer.clear();
-            final int read = channel.read(singleByteBuffer);
-            if (read == -1) {
-                return -1;
-            }
-            singleByteBuffer.flip();
-            return singleByteBuffer.get() & 0xFF;
-        } catch (IOException e) {
-            throw new IndexException(e.getMessage(), e);
+        if (!isBuffered(position) && fillBuffer() == -1) {
+            return -1;
         }
+        final int value = buffer.get((int) (position - bufferStart)) & 0xFF;
+        position++;
+        return value;
     }
 
     /**
@@ -69,12 +103,86 @@ public final class FsFileReaderSeekable extends AbstractCloseableResource
 
     @Override
     public int read(final byte[] bytes, final int offset, final int length) {
-        try {
-            final ByteBuffer buffer = ByteBuffer.wrap(bytes, offset, length);
-            return channel.read(buffer);
-        } catch (IOException e) {
-            throw new IndexException(e.getMessage(), e);
+        if (length == 0) {
+            return 0;
         }
+        int readBytes = 0;
+        while (readBytes < length) {
+            final int missing = length - readBytes;
+            if (isBuffered(position)) {
+                final int index = (int) (position - bufferStart);
+                final int chunk = Math.min(buffer.limit() - index, missing);
+                buffer.get(index, bytes, offset + readBytes, chunk);
+                readBytes += chunk;
+                position += chunk;
+                continue;
+            }
+            if (missing < buffer.capacity()) {
+                if (fillBuffer() == -1) {
+                    return readBytes == 0 ? -1 : readBytes;
+                }
+                continue;
+            }
+            final int read = readDirect(bytes, offset + readBytes, missing);
+            if (read == -1) {
+                return readBytes == 0 ? -1 : readBytes;
+            }
+            readBytes += read;
+        }
+        return readBytes;
+    }
+
+    @Override
+    public int read(final ByteBuffer destination) {
+        final ByteBuffer validated = Vldtn.requireNonNull(destination,
+                "destination");
+        if (!validated.hasRemaining()) {
+            return 0;
+        }
+        int readBytes = 0;
+        while (validated.hasRemaining()) {
+            if (isBuffered(position)) {
+                final int index = (int) (position - bufferStart);
+                final int chunk = Math.min(buffer.limit() - index,
+                        validated.remaining());
+                validated.put(buffer.slice(index, chunk));
+                readBytes += chunk;
+                position += chunk;
+                continue;
+            }
+            if (validated.remaining() < buffer.capacity()) {
+                if (fillBuffer() == -1) {
+                    return readBytes == 0 ? -1 : readBytes;
+                }
+                continue;
+            }
+            final int read = readFromChannel(validated, position);
+            if (read == -1) {
+                return readBytes == 0 ? -1 : readBytes;
+            }
+            readBytes += read;
+            position += read;
+        }
+        return readBytes;
+    }
+
+    @Override
+    public int read(final long filePosition, final ByteBuffer destination) {
+        final ByteBuffer validated = Vldtn.requireNonNull(destination,
+                "destination");
+        if (!validated.hasRemaining()) {
+            return 0;
+        }
+        int readBytes = 0;
+        while (validated.hasRemaining()) {
+            final int read = readFromChannel(validated,
+                    filePosition + readBytes);
+            if (read == -1) {
+                return readBytes == 0 ? -1 : readBytes;
+            }
+            readBytes += read;
+        }
+        return readBytes;
     }
 
     /**
@@ -87,15 +195,14 @@ public final class FsFileReaderSeekable extends AbstractCloseableResource
     @Override
     public void skip(final long bytesToSkip) {
         try {
-            final long currentPosition = channel.position();
-            final long targetPosition = currentPosition + bytesToSkip;
+            final long targetPosition = position + bytesToSkip;
             if (targetPosition > channel.size()) {
                 throw new IndexException(String.format(
                         "In file should be '%s' bytes skipped but "
                                 + "actually was skipped '%s' bytes.",
-                        bytesToSkip, channel.size() - currentPosition));
+                        bytesToSkip, channel.size() - position));
             }
-            channel.position(targetPosition);
+            position = targetPosition;
         } catch (IOException e) {
             throw new IndexException(e.getMessage(), e);
         }
@@ -104,9 +211,13 @@ public final class FsFileReaderSeekable extends AbstractCloseableResource
     @Override
     protected void doClose() {
         try {
-            channel.close();
+            if (ownsChannel) {
+                channel.close();
+            }
         } catch (IOException e) {
             throw new IndexException(e.getMessage(), e);
+        } finally {
+            bufferPool.release(buffer);
         }
     }
 
@@ -114,12 +225,51 @@ public final class FsFileReaderSeekable extends AbstractCloseableResource
      * Moves the current position to the given absolute offset.
      *
      * @param position zero-based offset inside the file
-     * @throws IndexException when positioning fails
      */
     @Override
     public void seek(final long position) {
+        this.position = position;
+    }
+
+    private boolean isBuffered(final long filePosition) {
+        return filePosition >= bufferStart
+                && filePosition < bufferStart + buffer.limit();
+    }
+
+    private int fillBuffer() {
+        buffer.clear();
+        final int read = readFromChannel(buffer, position);
+        buffer.flip();
+        bufferStart = position;
+        return read;
+    }
+
+    private int readDirect(final byte[] bytes, final int offset,
+            final int length) {
+        final int read = readFromChannel(ByteBuffer.wrap(bytes, offset, length),
+                position);
+        if (read > 0) {
+            position += read;
+        }
+        return read;
+    }
+
+    private int readFromChannel(final ByteBuffer destination,
+            final long filePosition) {
+        try {
+            int read = channel.read(destination, filePosition);
+            while (read == 0 && destination.hasRemaining()) {
+                read = channel.read(destination, filePosition);
+            }
+            return read;
+        } catch (IOException e) {
+            throw new IndexException(e.getMessage(), e);
+        }
+    }
+
+    private static FileChannel openChannel(final File file) {
         try {
-            channel.position(position);
+            return FileChannel.open(file.toPath(), StandardOpenOption.READ);
         } catch (IOException e) {
             throw new IndexException(e.getMessage(), e);
         }
@@ -0,0 +1,180 @@
+package org.hestiastore.index.directory;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.util.Optional;
+
+import org.hestiastore.index.IndexException;
+import org.hestiastore.index.Vldtn;
+
+/**
+ * Filesystem directory that serves seekable reads from memory-mapped files.
+ * <p>
+ * Seekable readers and reader suppliers map the whole file read-only, so
+ * chunk loads from immutable index, scarce index and bloom filter files are
+ * served by the page cache without a system call per read, and data blocks
+ * are returned as views of the mapping. Files are never unmapped explicitly:
+ * closing a supplier, for example when a segment version is retired, drops
+ * the reference and the mapping is released once no reader or sequence uses
+ * it. Files larger than 2 GiB fall back to channel reads. Streaming readers
+ * and writers are the buffered streams used by {@link FsDirectory}.
+ */
+public final class FsMmapDirectory extends AbstractDirectory {
+
+    private static final String DIRECTORY_NAME_ARG = "directoryName";
+    private static final String ERROR_REQUIRED_DIRECTORY_IS_FILE = "There is required directory but '%s' is file.";
+
+    private final ByteBufferPool bufferPool;
+
+    public FsMmapDirectory(final File directory) {
+        this(directory, new ByteBufferPool(false));
+    }
+
+    private FsMmapDirectory(final File directory,
+            final ByteBufferPool bufferPool) {
+        super(directory);
+        this.bufferPool = bufferPool;
+    }
+
+    @Override
+    public boolean isFileExists(final String fileName) {
+        final File file = getFile(fileName);
+        return file.exists();
+    }
+
+    @Override
+    public Optional<ByteBuffer> mapReadOnly(final String fileName) {
+        return Optional.of(mapFileReadOnly(fileName));
+    }
+
+    @Override
+    public FileReader getFileReader(final String fileName) {
+        return getFileReader(fileName, DEFAULT_BUFFER_SIZE);
+    }
+
+    @Override
+    public FileReader getFileReader(final String fileName,
+            final int bufferSize) {
+        final File file = getFile(fileName);
+        assureThatFileExists(file);
+        return new FsFileReaderStream(file, bufferSize);
+    }
+
+    @Override
+    public FileWriter getFileWriter(final String fileName,
+            final Access access) {
+        Vldtn.requireNonNull(fileName, "fileName");
+        return new FsFileWriterStream(getFile(fileName),
+                Vldtn.requireNonNull(access, "access"), DEFAULT_BUFFER_SIZE);
+    }
+
+    @Override
+    public FileWriter getFileWriter(final String fileName, final Access access,
+            final int bufferSize) {
+        Vldtn.requireNonNull(fileName, "fileName");
+        return new FsFileWriterStream(getFile(fileName),
+                Vldtn.requireNonNull(access, "access"), bufferSize);
+    }
+
+    @Override
+    public FileLock getLock(String fileName) {
+        return new FsFileLock(this, fileName);
+    }
+
+    @Override
+    public Directory openSubDirectory(final String directoryName) {
+        Vldtn.requireNonNull(directoryName, DIRECTORY_NAME_ARG);
+        final File subdirectory = getFile(directoryName);
+        if (subdirectory.exists()) {
+            if (subdirectory.isFile()) {
+                throw new IndexException(String.format(
+                        ERROR_REQUIRED_DIRECTORY_IS_FILE,
+                        subdirectory.getAbsolutePath()));
+            }
+        } else if (!subdirectory.mkdirs()) {
+            throw new IndexException(String.format(
+                    "Unable to create directory '%s'.",
+                    subdirectory.getAbsolutePath()));
+        }
+        return new FsMmapDirectory(subdirectory, bufferPool);
+    }
+
+    @Override
+    public boolean mkdir(final String directoryName) {
+        Vldtn.requireNonNull(directoryName, DIRECTORY_NAME_ARG);
+        final File subdirectory = getFile(directoryName);
+        if (subdirectory.exists()) {
+            if (subdirectory.isFile()) {
+                throw new IndexException(String.format(
+                        ERROR_REQUIRED_DIRECTORY_IS_FILE,
+                        subdirectory.getAbsolutePath()));
+            }
+            return false;
+        }
+        if (!subdirectory.mkdirs()) {
+            throw new IndexException(String.format(
+                    "Unable to create directory '%s'.",
+                    subdirectory.getAbsolutePath()));
+        }
+        return true;
+    }
+
+    @Override
+    public boolean rmdir(final String directoryName) {
+        Vldtn.requireNonNull(directoryName, DIRECTORY_NAME_ARG);
+        final File subdirectory = getFile(directoryName);
+        if (!subdirectory.exists()) {
+            return false;
+        }
+        if (subdirectory.isFile()) {
+            throw new IndexException(String.format(
+                    ERROR_REQUIRED_DIRECTORY_IS_FILE,
+                    subdirectory.getAbsolutePath()));
+        }
+        final String[] entries = subdirectory.list();
+        if (entries == null) {
+            throw new IndexException(String.format(
+                    "Unable to list directory '%s'.",
+                    subdirectory.getAbsolutePath()));
+        }
+        if (entries.length > 0) {
+            throw new IndexException(String.format(
+                    "Directory '%s' is not empty.",
+                    subdirectory.getAbsolutePath()));
+        }
+        if (!subdirectory.delete()) {
+            throw new IndexException(String.format(
+                    "Unable to remove directory '%s'.",
+                    subdirectory.getAbsolutePath()));
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "FsMmapDirectory{directory=" + getDirectory().getPath() + "}";
+    }
+
+    @Override
+    public FileReaderSeekable getFileReaderSeekable(final String fileName) {
+        if (!isMappable(fileName)) {
+            return new FsFileReaderSeekable(getFile(fileName), bufferPool);
+        }
+        return new FsMmapFileReaderSeekable(mapFileReadOnly(fileName));
+    }
+
+    @Override
+    public FileReaderSeekableSupplier getFileReaderSeekableSupplier(
+            final String fileName) {
+        if (!isMappable(fileName)) {
+            return new FsSharedFileReaderSeekableSupplier(getFile(fileName),
+                    bufferPool);
+        }
+        return new FsMmapFileReaderSeekableSupplier(mapFileReadOnly(fileName));
+    }
+
+    private boolean isMappable(final String fileName) {
+        return getFile(fileName).length() <= Integer.MAX_VALUE;
+    }
+
+}
@@ -0,0 +1,127 @@
+package org.hestiastore.index.directory;
+
+import java.nio.ByteBuffer;
+
+import org.hestiastore.index.AbstractCloseableResource;
+import org.hestiastore.index.IndexException;
+import org.hestiastore.index.Vldtn;
+import org.hestiastore.index.bytes.ByteSequence;
+import org.hestiastore.index.bytes.ByteSequences;
+
+/**
+ * {@link FileReaderSeekable} over a memory-mapped file. Reads are served from
+ * the page cache without system calls and {@link #readSequence(int)} returns
+ * views of the mapping instead of copies.
+ * <p>
+ * The reader never unmaps the file. The mapping is released by the garbage
+ * collector once neither the reader, its supplier nor any returned sequence
+ * references it, so a sequence stays valid after the reader is closed.
+ */
+public final class FsMmapFileReaderSeekable extends AbstractCloseableResource
+        implements FileReaderSeekable {
+
+    private final ByteBuffer mapped;
+    private long position;
+
+    /**
+     * Creates a reader over the given mapping.
+     *
+     * @param mapped mapped file content, shared with other readers
+     */
+    FsMmapFileReaderSeekable(final ByteBuffer mapped) {
+        this.mapped = Vldtn.requireNonNull(mapped, "mapped");
+        this.position = 0L;
+    }
+
+    @Override
+    public int read() {
+        if (position >= mapped.limit()) {
+            return -1;
+        }
+        return mapped.get((int) position++) & 0xFF;
+    }
+
+    @Override
+    public int read(final byte[] bytes) {
+        return read(bytes, 0, bytes.length);
+    }
+
+    @Override
+    public int read(final byte[] bytes, final int offset, final int length) {
+        if (length == 0) {
+            return 0;
+        }
+        final int available = available();
+        if (available == 0) {
+            return -1;
+        }
+        final int readBytes = Math.min(length, available);
+        mapped.get((int) position, bytes, offset, readBytes);
+        position += readBytes;
+        return readBytes;
+    }
+
+    @Override
+    public int read(final ByteBuffer destination) {
+        final int read = read(position, destination);
+        if (read > 0) {
+            position += read;
+        }
+        return read;
+    }
+
+    @Override
+    public int read(final long filePosition, final ByteBuffer destination) {
+        final ByteBuffer validated = Vldtn.requireNonNull(destination,
+                "destination");
+        if (!validated.hasRemaining()) {
+            return 0;
+        }
+        if (filePosition >= mapped.limit()) {
+            return -1;
+        }
+        final int readBytes = (int) Math.min(validated.remaining(),
+                mapped.limit() - filePosition);
+        validated.put(mapped.slice((int) filePosition, readBytes));
+        return readBytes;
+    }
+
+    @Override
+    public ByteSequence readSequence(final int length) {
+        final int readBytes = Math.min(length, available());
+        if (readBytes <= 0) {
+            return ByteSequence.EMPTY;
+        }
+        final ByteSequence sequence = ByteSequences
+                .viewOf(mapped.slice((int) position, readBytes));
+        position += readBytes;
+        return sequence;
+    }
+
+    @Override
+    public void skip(final long bytesToSkip) {
+        final long targetPosition = position + bytesToSkip;
+        if (targetPosition > mapped.limit()) {
+            throw new IndexException(String.format(
+                    "In file should be '%s' bytes skipped but "
+                            + "actually was skipped '%s' bytes.",
+                    bytesToSkip, mapped.limit() - position));
+        }
+        position = targetPosition;
+    }
+
+    @Override
+    public void seek(final long position) {
+        this.position = position;
+    }
+
+    @Override
+    protected void doClose() {
+        // no-op: the mapping is released by the garbage collector
+    }
+
+    private int available() {
+        return (int) Math.max(0L, mapped.limit() - position);
+    }
+
+}
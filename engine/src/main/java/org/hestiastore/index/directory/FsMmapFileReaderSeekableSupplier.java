@@ -0,0 +1,40 @@
+package org.hestiastore.index.directory;
+
+import java.nio.ByteBuffer;
+
+import org.hestiastore.index.AbstractCloseableResource;
+import org.hestiastore.index.Vldtn;
+
+/**
+ * Seekable-reader supplier that maps a file once and hands out cursors over
+ * the shared mapping.
+ * <p>
+ * Closing the supplier drops its reference to the mapping instead of
+ * unmapping it explicitly. Cursors and sequences obtained earlier keep the
+ * mapping reachable and stay valid, the operating system mapping is released
+ * when the last of them is garbage collected.
+ */
+final class FsMmapFileReaderSeekableSupplier extends AbstractCloseableResource
+        implements FileReaderSeekableSupplier {
+
+    private volatile ByteBuffer mapped;
+
+    FsMmapFileReaderSeekableSupplier(final ByteBuffer mapped) {
+        this.mapped = Vldtn.requireNonNull(mapped, "mapped");
+    }
+
+    @Override
+    public FileReaderSeekable get() {
+        final ByteBuffer current = mapped;
+        if (current == null || wasClosed()) {
+            throw new IllegalStateException(
+                    getClass().getSimpleName() + " already closed");
+        }
+        return new FsMmapFileReaderSeekable(current);
+    }
+
+    @Override
+    protected void doClose() {
+        mapped = null;
+    }
+}
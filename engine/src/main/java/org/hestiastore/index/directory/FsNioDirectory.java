@@ -1,17 +1,46 @@
 package org.hestiastore.index.directory;
 
 import java.io.File;
+import java.nio.ByteBuffer;
+import java.util.Optional;
 
 import org.hestiastore.index.IndexException;
 import org.hestiastore.index.Vldtn;
 
+/**
+ * Filesystem directory that reads and writes files through
+ * {@link java.nio.channels.FileChannel}.
+ * <p>
+ * Streams honour the requested buffer size and take their buffers from a pool
+ * shared by the whole directory tree, so opening a file does not allocate a
+ * new buffer once the pool is warm. Buffers are direct by default, which lets
+ * the channel transfer data without an extra copy.
+ */
 public final class FsNioDirectory extends AbstractDirectory {
 
     private static final String DIRECTORY_NAME_ARG = "directoryName";
     private static final String ERROR_REQUIRED_DIRECTORY_IS_FILE = "There is required directory but '%s' is file.";
 
+    private final ByteBufferPool bufferPool;
+
     public FsNioDirectory(final File directory) {
+        this(directory, true);
+    }
+
+    /**
+     * Creates a directory over the given filesystem path.
+     *
+     * @param directory     filesystem directory
+     * @param directBuffers true to pool direct buffers, false for heap buffers
+     */
+    public FsNioDirectory(final File directory, final boolean directBuffers) {
+        this(directory, new ByteBufferPool(directBuffers));
+    }
+
+    private FsNioDirectory(final File directory,
+            final ByteBufferPool bufferPool) {
         super(directory);
+        this.bufferPool = Vldtn.requireNonNull(bufferPool, "bufferPool");
     }
 
     @Override
@@ -20,6 +49,11 @@ public final class FsNioDirectory extends AbstractDirectory {
         return file.exists();
     }
 
+    @Override
+    public Optional<ByteBuffer> mapReadOnly(final String fileName) {
+        return Optional.of(mapFileReadOnly(fileName));
+    }
+
     @Override
     public FileReader getFileReader(final String fileName) {
         return getFileReader(fileName, DEFAULT_BUFFER_SIZE);
@@ -30,15 +64,13 @@ public final class FsNioDirectory extends AbstractDirectory {
             final int bufferSize) {
         final File file = getFile(fileName);
         assureThatFileExists(file);
-        return new FsNioFileReaderStream(file);
+        return new FsNioFileReaderStream(file, bufferSize, bufferPool);
     }
 
     @Override
     public FileWriter getFileWriter(final String fileName,
             final Access access) {
-        Vldtn.requireNonNull(fileName, "fileName");
-        return new FsNioFileWriterStream(getFile(fileName),
-                Vldtn.requireNonNull(access, "access"));
+        return getFileWriter(fileName, access, DEFAULT_BUFFER_SIZE);
     }
 
     @Override
@@ -46,7 +78,8 @@ public final class FsNioDirectory extends AbstractDirectory {
             final int bufferSize) {
         Vldtn.requireNonNull(fileName, "fileName");
         return new FsNioFileWriterStream(getFile(fileName),
-                Vldtn.requireNonNull(access, "access"));
+                Vldtn.requireNonNull(access, "access"), bufferSize,
+                bufferPool);
     }
 
     @Override
@@ -69,7 +102,7 @@ public final class FsNioDirectory extends AbstractDirectory {
                     "Unable to create directory '%s'.",
                     subdirectory.getAbsolutePath()));
         }
-        return new FsNioDirectory(subdirectory);
+        return new FsNioDirectory(subdirectory, bufferPool);
     }
 
     @Override
@@ -130,13 +163,14 @@ public final class FsNioDirectory extends AbstractDirectory {
 
     @Override
     public FileReaderSeekable getFileReaderSeekable(final String fileName) {
-        return new FsFileReaderSeekable(getFile(fileName));
+        return new FsFileReaderSeekable(getFile(fileName), bufferPool);
     }
 
     @Override
     public FileReaderSeekableSupplier getFileReaderSeekableSupplier(
             final String fileName) {
-        return new FsSharedFileReaderSeekableSupplier(getFile(fileName));
+        return new FsSharedFileReaderSeekableSupplier(getFile(fileName),
+                bufferPool);
     }
 
 }
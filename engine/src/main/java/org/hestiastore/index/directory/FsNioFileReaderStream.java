@@ -8,36 +8,47 @@ import java.nio.file.StandardOpenOption;
 
 import org.hestiastore.index.AbstractCloseableResource;
 import org.hestiastore.index.IndexException;
+import org.hestiastore.index.Vldtn;
 
 /**
  * Same as FsFileReaderStream but uses java.nio.
+ * <p>
+ * Reads go through a buffer of the requested size taken from the directory's
+ * {@link ByteBufferPool}, so byte-wise readers issue one channel read per
+ * buffer instead of one per byte. Reads larger than the buffer bypass it.
  */
 public final class FsNioFileReaderStream extends AbstractCloseableResource
         implements FileReader {
 
+    private static final int DEFAULT_BUFFER_SIZE = 1024 * 4;
+
     private final FileChannel channel;
+    private final ByteBufferPool bufferPool;
+    private final ByteBuffer buffer;
 
     public FsNioFileReaderStream(final File file) {
+        this(file, DEFAULT_BUFFER_SIZE, new ByteBufferPool(false));
+    }
+
+    FsNioFileReaderStream(final File file, final int bufferSize,
+            final ByteBufferPool bufferPool) {
+        Vldtn.requireGreaterThanZero(bufferSize, "bufferSize");
+        this.bufferPool = Vldtn.requireNonNull(bufferPool, "bufferPool");
         try {
             channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
         } catch (IOException e) {
             throw new IndexException(e.getMessage(), e);
         }
+        buffer = bufferPool.acquire(bufferSize);
+        buffer.limit(0);
     }
 
     @Override
     public int read() {
-        ByteBuffer oneByte = ByteBuffer.allocate(1);
-        try {
-            int readBytes = channel.read(oneByte);
-            if (readBytes == -1) {
-                return -1;
-            }
-            oneByte.flip();
-            return oneByte.get() & 0xFF;
-        } catch (IOException e) {
-            throw new IndexException(e.getMessage(), e);
+        if (!buffer.hasRemaining() && fillBuffer() == -1) {
+            return -1;
         }
+        return buffer.get() & 0xFF;
     }
 
     @Override
@@ -47,22 +58,81 @@ public final class FsNioFileReaderStream extends AbstractCloseableResource
 
     @Override
     public int read(final byte[] bytes, final int offset, final int length) {
-        ByteBuffer buffer = ByteBuffer.wrap(bytes, offset, length);
-        try {
-            return channel.read(buffer);
-        } catch (IOException e) {
-            throw new IndexException(e.getMessage(), e);
+        if (length == 0) {
+            return 0;
+        }
+        int readBytes = 0;
+        while (readBytes < length) {
+            if (buffer.hasRemaining()) {
+                final int chunk = Math.min(buffer.remaining(),
+                        length - readBytes);
+                buffer.get(bytes, offset + readBytes, chunk);
+                readBytes += chunk;
+                continue;
+            }
+            final int missing = length - readBytes;
+            if (missing < buffer.capacity()) {
+                if (fillBuffer() == -1) {
+                    return readBytes == 0 ? -1 : readBytes;
+                }
+                continue;
+            }
+            final int read = readFromChannel(
+                    ByteBuffer.wrap(bytes, offset + readBytes, missing));
+            if (read == -1) {
+                return readBytes == 0 ? -1 : readBytes;
+            }
+            readBytes += read;
+        }
+        return readBytes;
+    }
+
+    @Override
+    public int read(final ByteBuffer destination) {
+        final ByteBuffer validated = Vldtn.requireNonNull(destination,
+                "destination");
+        if (!validated.hasRemaining()) {
+            return 0;
+        }
+        int readBytes = 0;
+        while (validated.hasRemaining()) {
+            if (buffer.hasRemaining()) {
+                final int chunk = Math.min(buffer.remaining(),
+                        validated.remaining());
+                validated.put(buffer.slice(buffer.position(), chunk));
+                buffer.position(buffer.position() + chunk);
+                readBytes += chunk;
+                continue;
+            }
+            if (validated.remaining() < buffer.capacity()) {
+                if (fillBuffer() == -1) {
+                    return readBytes == 0 ? -1 : readBytes;
+                }
+                continue;
+            }
+            final int read = readFromChannel(validated);
+            if (read == -1) {
+                return readBytes == 0 ? -1 : readBytes;
+            }
+            readBytes += read;
         }
+        return readBytes;
     }
 
     @Override
     public void skip(final long bytesToSkip) {
+        final int buffered = buffer.remaining();
+        if (bytesToSkip <= buffered) {
+            buffer.position(buffer.position() + (int) bytesToSkip);
+            return;
+        }
         try {
             long currentPos = channel.position();
-            channel.position(currentPos + bytesToSkip);
+            channel.position(currentPos + bytesToSkip - buffered);
         } catch (IOException e) {
             throw new IndexException(e.getMessage(), e);
         }
+        buffer.limit(0);
     }
 
     @Override
@@ -71,6 +141,27 @@ public final class FsNioFileReaderStream extends AbstractCloseableResource
             channel.close();
         } catch (IOException e) {
             throw new IndexException(e.getMessage(), e);
+        } finally {
+            bufferPool.release(buffer);
+        }
+    }
+
+    private int fillBuffer() {
+        buffer.clear();
+        final int read = readFromChannel(buffer);
+        buffer.flip();
+        return read;
+    }
+
+    private int readFromChannel(final ByteBuffer destination) {
+        try {
+            int read = channel.read(destination);
+            while (read == 0 && destination.hasRemaining()) {
+                read = channel.read(destination);
+            }
+            return read;
+        } catch (IOException e) {
+            throw new IndexException(e.getMessage(), e);
         }
     }
 
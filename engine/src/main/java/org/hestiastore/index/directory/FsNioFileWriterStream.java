@@ -5,17 +5,41 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.hestiastore.index.AbstractCloseableResource;
 import org.hestiastore.index.IndexException;
+import org.hestiastore.index.Vldtn;
+import org.hestiastore.index.bytes.ByteSequence;
+import org.hestiastore.index.bytes.ByteSequences;
 import org.hestiastore.index.directory.Directory.Access;
 
+/**
+ * Writes a file through a {@link FileChannel}.
+ * <p>
+ * Small writes are collected in a buffer of the requested size taken from the
+ * directory's {@link ByteBufferPool} and reach the channel when the buffer is
+ * full, on {@link #flush()}, and on close. Writes larger than the buffer go to
+ * the channel directly, large multi-part sequences in one gathering write.
+ */
 public final class FsNioFileWriterStream extends AbstractCloseableResource
         implements FileWriter {
 
+    private static final int DEFAULT_BUFFER_SIZE = 1024 * 4;
+
     private final FileChannel channel;
+    private final ByteBufferPool bufferPool;
+    private final ByteBuffer buffer;
 
     public FsNioFileWriterStream(final File file, final Access access) {
+        this(file, access, DEFAULT_BUFFER_SIZE, new ByteBufferPool(false));
+    }
+
+    FsNioFileWriterStream(final File file, final Access access,
+            final int bufferSize, final ByteBufferPool bufferPool) {
+        Vldtn.requireGreaterThanZero(bufferSize, "bufferSize");
+        this.bufferPool = Vldtn.requireNonNull(bufferPool, "bufferPool");
         try {
             if (access == Access.OVERWRITE) {
                 channel = FileChannel.open(file.toPath(),
@@ -37,11 +61,15 @@ public final class FsNioFileWriterStream extends AbstractCloseableResource
             throw new IndexException("Error opening file channel for writing",
                     e);
         }
+        buffer = bufferPool.acquire(bufferSize);
     }
 
     @Override
     public void write(final byte b) {
-        write(new byte[] { b }, 0, 1);
+        if (!buffer.hasRemaining()) {
+            writeBuffer();
+        }
+        buffer.put(b);
     }
 
     @Override
@@ -51,15 +79,53 @@ public final class FsNioFileWriterStream extends AbstractCloseableResource
 
     @Override
     public void write(final byte[] data, final int offset, final int length) {
-        final ByteBuffer buffer = ByteBuffer.wrap(data, offset, length);
-        try {
-            channel.write(buffer);
-        } catch (IOException e) {
-            throw new IndexException("Error writing to file channel", e);
+        if (length <= buffer.remaining()) {
+            buffer.put(data, offset, length);
+            return;
+        }
+        writeBuffer();
+        if (length < buffer.capacity()) {
+            buffer.put(data, offset, length);
+            return;
+        }
+        writeFully(ByteBuffer.wrap(data, offset, length));
+    }
+
+    @Override
+    public void write(final ByteBuffer source) {
+        final ByteBuffer validated = Vldtn.requireNonNull(source, "source");
+        final int length = validated.remaining();
+        if (length <= buffer.remaining()) {
+            buffer.put(validated);
+            return;
+        }
+        writeBuffer();
+        if (length < buffer.capacity()) {
+            buffer.put(validated);
+            return;
+        }
+        writeFully(validated);
+    }
+
+    @Override
+    public void write(final ByteSequence sequence) {
+        final ByteSequence validated = Vldtn.requireNonNull(sequence,
+                "sequence");
+        if (validated.length() < buffer.capacity()) {
+            ByteSequences.forEachBuffer(validated, this::write);
+            return;
         }
+        final List<ByteBuffer> parts = new ArrayList<>();
+        ByteSequences.forEachBuffer(validated, parts::add);
+        writeBuffer();
+        writeFully(parts.toArray(ByteBuffer[]::new), validated.length());
     }
 
+    /**
+     * Writes buffered bytes and forces them to the storage device.
+     */
     public void flush() {
+        writeBuffer();
         try {
             channel.force(true);
         } catch (IOException e) {
@@ -70,9 +136,42 @@ public final class FsNioFileWriterStream extends AbstractCloseableResource
     @Override
     protected void doClose() {
         try {
+            writeBuffer();
             channel.close();
         } catch (IOException e) {
             throw new IndexException("Error closing file channel", e);
+        } finally {
+            bufferPool.release(buffer);
+        }
+    }
+
+    private void writeBuffer() {
+        if (buffer.position() == 0) {
+            return;
+        }
+        buffer.flip();
+        writeFully(buffer);
+        buffer.clear();
+    }
+
+    private void writeFully(final ByteBuffer[] sources, final long length) {
+        try {
+            long written = 0;
+            while (written < length) {
+                written += channel.write(sources);
+            }
+        } catch (IOException e) {
+            throw new IndexException("Error writing to file channel", e);
+        }
+    }
+
+    private void writeFully(final ByteBuffer source) {
+        try {
+            while (source.hasRemaining()) {
+                channel.write(source);
+            }
+        } catch (IOException e) {
+            throw new IndexException("Error writing to file channel", e);
         }
     }
 }
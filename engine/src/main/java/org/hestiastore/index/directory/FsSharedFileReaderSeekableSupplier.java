@@ -2,7 +2,6 @@ package org.hestiastore.index.directory;
 
 import java.io.File;
 import java.io.IOException;
-import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.file.StandardOpenOption;
 
@@ -12,15 +11,23 @@ import org.hestiastore.index.Vldtn;
 
 /**
  * Filesystem seekable-reader supplier that keeps one shared channel open and
- * creates lightweight positioned cursors for each request.
+ * creates lightweight positioned cursors for each request. Cursors take their
+ * read buffers from the directory's {@link ByteBufferPool}.
  */
 final class FsSharedFileReaderSeekableSupplier extends AbstractCloseableResource
         implements FileReaderSeekableSupplier {
 
     private final FileChannel channel;
+    private final ByteBufferPool bufferPool;
 
     FsSharedFileReaderSeekableSupplier(final File file) {
+        this(file, new ByteBufferPool(false));
+    }
+
+    FsSharedFileReaderSeekableSupplier(final File file,
+            final ByteBufferPool bufferPool) {
         Vldtn.requireNonNull(file, "file");
+        this.bufferPool = Vldtn.requireNonNull(bufferPool, "bufferPool");
         try {
             this.channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
         } catch (final IOException e) {
@@ -28,13 +35,18 @@ final class FsSharedFileReaderSeekableSupplier extends AbstractCloseableResource
         }
     }
 
+    /**
+     * Returns a cursor with its own position over the shared channel. Closing
+     * the cursor returns its buffer to the pool and keeps the channel open.
+     */
     @Override
     public FileReaderSeekable get() {
         if (wasClosed()) {
             throw new IllegalStateException(
                     getClass().getSimpleName() + " already closed");
         }
-        return new PositionedCursor(channel);
+        return new FsFileReaderSeekable(channel, false,
+                AbstractDirectory.DEFAULT_BUFFER_SIZE, bufferPool);
     }
 
     @Override
@@ -45,82 +57,4 @@ final class FsSharedFileReaderSeekableSupplier extends AbstractCloseableResource
             throw new IndexException(e.getMessage(), e);
         }
     }
-
-    /**
-     * Per-request cursor that maintains independent position while sharing the
-     * underlying channel.
-     */
-    private static final class PositionedCursor extends AbstractCloseableResource
-            implements FileReaderSeekable {
-
-        private final FileChannel channel;
-        private final ByteBuffer singleByteBuffer = ByteBuffer.allocate(1);
-        private long position;
-
-        private PositionedCursor(final FileChannel channel) {
-            this.channel = Vldtn.requireNonNull(channel, "channel");
-            this.position = 0L;
-        }
-
-        @Override
-        public int read() {
-            try {
-                singleByteBuffer.clear();
-                final int read = channel.read(singleByteBuffer, position);
-                if (read == -1) {
-                    return -1;
-                }
-                position += read;
-                singleByteBuffer.flip();
-                return singleByteBuffer.get() & 0xFF;
-            } catch (final IOException e) {
-                throw new IndexException(e.getMessage(), e);
-            }
-        }
-
-        @Override
-        public int read(final byte[] bytes) {
-            return read(bytes, 0, bytes.length);
-        }
-
-        @Override
-        public int read(final byte[] bytes, final int offset, final int length) {
-            try {
-                final ByteBuffer buffer = ByteBuffer.wrap(bytes, offset, length);
-                final int read = channel.read(buffer, position);
-                if (read > 0) {
-                    position += read;
-                }
-                return read;
-            } catch (final IOException e) {
-                throw new IndexException(e.getMessage(), e);
-            }
-        }
-
-        @Override
-        public void skip(final long bytesToSkip) {
-            try {
-                final long targetPosition = position + bytesToSkip;
-                if (targetPosition > channel.size()) {
-                    throw new IndexException(String.format(
-                            "In file should be '%s' bytes skipped but "
-                                    + "actually was skipped '%s' bytes.",
-                            bytesToSkip, channel.size() - position));
-                }
-                this.position = targetPosition;
-            } catch (final IOException e) {
-                throw new IndexException(e.getMessage(), e);
-            }
-        }
-
-        @Override
-        public void seek(final long position) {
-            this.position = position;
-        }
-
-        @Override
-        protected void doClose() {
-            // no-op: parent supplier owns the shared channel
-        }
-    }
 }
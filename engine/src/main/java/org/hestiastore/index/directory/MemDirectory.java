@@ -1,9 +1,11 @@
 package org.hestiastore.index.directory;
 
 import java.io.FileNotFoundException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.stream.Stream;
@@ -261,6 +263,25 @@ public class MemDirectory implements Directory {
         }
     }
 
+    /**
+     * Returns a read-only view of the in-memory file content. Later writes
+     * replace the stored array, so the view keeps the content it was taken
+     * from, just like a mapping of a replaced file.
+     */
+    @Override
+    public Optional<ByteBuffer> mapReadOnly(final String fileName) {
+        readLock.lock();
+        try {
+            final byte[] bytes = data.get(fileName);
+            if (bytes == null) {
+                throw createMissingFileException(fileName);
+            }
+            return Optional.of(ByteBuffer.wrap(bytes).asReadOnlyBuffer());
+        } finally {
+            readLock.unlock();
+        }
+    }
+
     @Override
     public FileLock getLock(final String fileName) {
         return new MemFileLock(this, fileName);
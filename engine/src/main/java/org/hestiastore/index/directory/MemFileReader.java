@@ -1,5 +1,7 @@
 package org.hestiastore.index.directory;
 
+import java.nio.ByteBuffer;
+
 import org.hestiastore.index.AbstractCloseableResource;
 import org.hestiastore.index.Vldtn;
 import org.hestiastore.index.bytes.ByteSequence;
@@ -72,6 +74,48 @@ public class MemFileReader extends AbstractCloseableResource
         }
     }
 
+    @Override
+    public int read(final ByteBuffer destination) {
+        final int read = copyTo(position, destination);
+        if (read > 0) {
+            position += read;
+        }
+        return read;
+    }
+
+    /**
+     * Copies bytes from the given position into {@code destination} without
+     * moving the reader position.
+     *
+     * @param fromPosition source position
+     * @param destination  destination buffer, its position is advanced
+     * @return number of copied bytes or {@code -1} when {@code fromPosition}
+     *         is at or behind the end of data
+     */
+    protected int copyTo(final long fromPosition,
+            final ByteBuffer destination) {
+        final ByteBuffer validated = Vldtn.requireNonNull(destination,
+                "destination");
+        if (!validated.hasRemaining()) {
+            return 0;
+        }
+        if (fromPosition >= data.length()) {
+            return -1;
+        }
+        final int from = (int) fromPosition;
+        final int length = Math.min(validated.remaining(),
+                data.length() - from);
+        if (validated.hasArray()) {
+            ByteSequences.copy(data, from, validated.array(),
+                    validated.arrayOffset() + validated.position(), length);
+            validated.position(validated.position() + length);
+        } else {
+            validated.put(data.slice(from, from + length).toByteArray(), 0,
+                    length);
+        }
+        return length;
+    }
+
     protected int getDataLength() {
         return data.length();
     }
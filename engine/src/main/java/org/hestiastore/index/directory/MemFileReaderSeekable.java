@@ -1,5 +1,7 @@
 package org.hestiastore.index.directory;
 
+import java.nio.ByteBuffer;
+
 public class MemFileReaderSeekable extends MemFileReader
         implements FileReaderSeekable {
 
@@ -20,4 +22,13 @@ public class MemFileReaderSeekable extends MemFileReader
         setPosition(position);
     }
 
+    @Override
+    public int read(final long position, final ByteBuffer destination) {
+        if (position < 0) {
+            throw new IllegalArgumentException(
+                    String.format("Read position '%s' is invalid", position));
+        }
+        return copyTo(position, destination);
+    }
+
 }
@@ -50,6 +50,8 @@ public final class IndexPropertiesSchema {
         public static final String NUMBER_OF_KEYS_IN_SCARCE_INDEX = "numberOfKeysInScarceIndex";
         public static final String NUMBER_OF_SEGMENT_CACHE_DELTA_FILES = "numberOfSegmentDeltaFiles";
         public static final String SEGMENT_VERSION = "segmentVersion";
+        public static final String BLOOM_FILTER_INDEX_SIZE_IN_BYTES = "bloomFilterIndexSizeInBytes";
+        public static final String BLOOM_FILTER_NUMBER_OF_HASH_FUNCTIONS = "bloomFilterNumberOfHashFunctions";
 
         private SegmentKeys() {
         }
@@ -72,8 +74,11 @@ public final class IndexPropertiesSchema {
         public static final String PROP_INDEX_BUFFERED_WRITE_KEY_LIMIT = "indexBufferedWriteKeyLimit";
         public static final String PROP_MAX_NUMBER_OF_KEYS_IN_SEGMENT_CHUNK = "maxNumberOfKeysInSegmentChunk";
         public static final String PROP_MAX_NUMBER_OF_DELTA_CACHE_FILES = "maxNumberOfDeltaCacheFiles";
+        public static final String PROP_CHUNK_RESTART_INTERVAL = "chunkRestartInterval";
+        public static final String PROP_DELTA_CACHE_ON_DISK = "deltaCacheOnDisk";
         public static final String PROP_MAX_NUMBER_OF_KEYS_IN_SEGMENT = "maxNumberOfKeysInSegment";
         public static final String PROP_SEGMENT_SPLIT_KEY_THRESHOLD = "segmentSplitKeyThreshold";
+        public static final String PROP_SEGMENT_MERGE_KEY_THRESHOLD = "segmentMergeKeyThreshold";
         public static final String PROP_MAX_NUMBER_OF_SEGMENTS_IN_CACHE = "maxNumberOfSegmentsInCache";
         public static final String PROP_NUMBER_OF_INDEX_MAINTENANCE_THREADS = "numberOfIndexMaintenanceThreads";
         public static final String PROP_NUMBER_OF_REGISTRY_LIFECYCLE_THREADS = "numberOfRegistryLifecycleThreads";
@@ -83,10 +88,16 @@ public final class IndexPropertiesSchema {
         public static final String PROP_BLOOM_FILTER_NUMBER_OF_HASH_FUNCTIONS = "bloomFilterNumberOfHashFunctions";
         public static final String PROP_BLOOM_FILTER_INDEX_SIZE_IN_BYTES = "bloomFilterIndexSizeInBytes";
         public static final String PROP_BLOOM_FILTER_PROBABILITY_OF_FALSE_POSITIVE = "bloomFilterProbabilityOfFalsePositive";
+        public static final String PROP_BLOOM_FILTER_BLOCKED = "bloomFilterBlocked";
+        public static final String PROP_BLOOM_FILTER_MEMORY_MAPPED = "bloomFilterMemoryMapped";
+        public static final String PROP_BLOOM_FILTER_AUTO_SIZED = "bloomFilterAutoSized";
         public static final String PROP_DISK_IO_BUFFER_SIZE_IN_BYTES = "diskIoBufferSizeInBytes";
         public static final String PROP_ENCODING_CHUNK_FILTERS = "encodingChunkFilters";
         public static final String PROP_DECODING_CHUNK_FILTERS = "decodingChunkFilters";
         public static final String PROP_CHUNK_STORE_CACHE_PAGE_LIMIT = "chunkStoreCache.pageLimit";
+        public static final String PROP_CHUNK_STORE_CACHE_BYTE_LIMIT = "chunkStoreCache.byteLimit";
+        public static final String PROP_CHUNK_STORE_CACHE_COMPACT_PAGES = "chunkStoreCache.compactPages";
+        public static final String PROP_CHUNK_STORE_CACHE_WARM_ON_COMPACTION = "chunkStoreCache.warmOnCompaction";
         public static final String PROP_WAL_ENABLED = "wal.enabled";
         public static final String PROP_WAL_DURABILITY_MODE = "wal.durabilityMode";
         public static final String PROP_WAL_SEGMENT_SIZE_BYTES = "wal.segmentSizeBytes";
@@ -309,6 +320,11 @@ public final class IndexPropertiesSchema {
         defaults.put(SegmentKeys.NUMBER_OF_SEGMENT_CACHE_DELTA_FILES,
                 view -> "0");
         defaults.put(SegmentKeys.SEGMENT_VERSION, view -> "0");
+        // -1 marks segments whose filter was sized by the index configuration.
+        defaults.put(SegmentKeys.BLOOM_FILTER_INDEX_SIZE_IN_BYTES,
+                view -> "-1");
+        defaults.put(SegmentKeys.BLOOM_FILTER_NUMBER_OF_HASH_FUNCTIONS,
+                view -> "-1");
         return new IndexPropertiesSchema("segment-properties",
                 CURRENT_SEGMENT_SCHEMA_VERSION, defaults.keySet(), defaults);
     }
@@ -372,9 +388,19 @@ public final class IndexPropertiesSchema {
                 IndexConfigurationKeys.PROP_MAX_NUMBER_OF_DELTA_CACHE_FILES,
                 view -> String.valueOf(
                         IndexConfigurationDefaults.DEFAULT_DELTA_CACHE_FILE_LIMIT));
+        defaults.put(IndexConfigurationKeys.PROP_CHUNK_RESTART_INTERVAL,
+                view -> String.valueOf(
+                        IndexConfigurationDefaults.DEFAULT_CHUNK_RESTART_INTERVAL));
+        defaults.put(IndexConfigurationKeys.PROP_DELTA_CACHE_ON_DISK,
+                view -> String.valueOf(
+                        IndexConfigurationDefaults.DEFAULT_DELTA_CACHE_ON_DISK));
         defaults.put(
                 IndexConfigurationKeys.PROP_SEGMENT_SPLIT_KEY_THRESHOLD,
                 IndexPropertiesSchema::defaultSegmentSplitKeyThreshold);
+        defaults.put(
+                IndexConfigurationKeys.PROP_SEGMENT_MERGE_KEY_THRESHOLD,
+                view -> String.valueOf(
+                        IndexConfigurationDefaults.DEFAULT_SEGMENT_MERGE_KEY_THRESHOLD));
         defaults.put(
                 IndexConfigurationKeys.PROP_MAX_NUMBER_OF_SEGMENTS_IN_CACHE,
                 view -> String.valueOf(
@@ -413,6 +439,15 @@ public final class IndexPropertiesSchema {
                 IndexConfigurationKeys.PROP_BLOOM_FILTER_PROBABILITY_OF_FALSE_POSITIVE,
                 view -> String.valueOf(
                         BloomFilterBuilder.DEFAULT_PROBABILITY_OF_FALSE_POSITIVE));
+        defaults.put(IndexConfigurationKeys.PROP_BLOOM_FILTER_BLOCKED,
+                view -> String.valueOf(
+                        IndexConfigurationDefaults.DEFAULT_BLOOM_FILTER_BLOCKED));
+        defaults.put(IndexConfigurationKeys.PROP_BLOOM_FILTER_MEMORY_MAPPED,
+                view -> String.valueOf(
+                        IndexConfigurationDefaults.DEFAULT_BLOOM_FILTER_MEMORY_MAPPED));
+        defaults.put(IndexConfigurationKeys.PROP_BLOOM_FILTER_AUTO_SIZED,
+                view -> String.valueOf(
+                        IndexConfigurationDefaults.DEFAULT_BLOOM_FILTER_AUTO_SIZED));
         defaults.put(
                 IndexConfigurationKeys.PROP_DISK_IO_BUFFER_SIZE_IN_BYTES,
                 view -> String.valueOf(
@@ -432,6 +467,15 @@ public final class IndexPropertiesSchema {
         defaults.put(IndexConfigurationKeys.PROP_CHUNK_STORE_CACHE_PAGE_LIMIT,
                 view -> String.valueOf(
                         IndexConfigurationDefaults.DEFAULT_CHUNK_STORE_CACHE_PAGE_LIMIT));
+        defaults.put(IndexConfigurationKeys.PROP_CHUNK_STORE_CACHE_BYTE_LIMIT,
+                view -> String.valueOf(
+                        IndexConfigurationDefaults.DEFAULT_CHUNK_STORE_CACHE_BYTE_LIMIT));
+        defaults.put(IndexConfigurationKeys.PROP_CHUNK_STORE_CACHE_COMPACT_PAGES,
+                view -> String.valueOf(
+                        IndexConfigurationDefaults.DEFAULT_CHUNK_STORE_CACHE_COMPACT_PAGES));
+        defaults.put(IndexConfigurationKeys.PROP_CHUNK_STORE_CACHE_WARM_ON_COMPACTION,
+                view -> String.valueOf(
+                        IndexConfigurationDefaults.DEFAULT_CHUNK_STORE_CACHE_WARM_ON_COMPACTION));
     }
 
     private static void addWalDefaults(
@@ -11,6 +11,7 @@ public final class ScarceIndexBuilder<K> {
     private TypeDescriptor<K> keyTypeDescriptor;
     private Directory directoryFacade;
     private String fileName;
+    private String legacyFileName;
     private int diskIoBufferSize = DEFAULT_DISK_IO_BUFFER_SIZE;
 
     ScarceIndexBuilder() {
@@ -36,6 +37,21 @@ public final class ScarceIndexBuilder<K> {
         return this;
     }
 
+    /**
+     * Sets the file written before positions were stored as {@code long}
+     * values. It is read when the file from {@link #withFileName(String)}
+     * doesn't exist.
+     *
+     * @param legacyFileName legacy file name
+     * @return this builder
+     */
+    public ScarceIndexBuilder<K> withLegacyFileName(
+            final String legacyFileName) {
+        this.legacyFileName = Vldtn.requireNonNull(legacyFileName,
+                "legacyFileName");
+        return this;
+    }
+
     public ScarceIndexBuilder<K> withDiskIoBufferSize(
             final int diskIoBufferSize) {
         this.diskIoBufferSize = diskIoBufferSize;
@@ -44,7 +60,7 @@ public final class ScarceIndexBuilder<K> {
 
     public ScarceSegmentIndex<K> build() {
         return new ScarceSegmentIndex<K>(directoryFacade, fileName,
-                keyTypeDescriptor, diskIoBufferSize);
+                legacyFileName, keyTypeDescriptor, diskIoBufferSize);
     }
 
 }
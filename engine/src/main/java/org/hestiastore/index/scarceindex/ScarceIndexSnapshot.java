@@ -1,9 +1,10 @@
 package org.hestiastore.index.scarceindex;
 
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
-import java.util.function.BiConsumer;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.hestiastore.index.Entry;
@@ -13,72 +14,141 @@ import org.hestiastore.index.Vldtn;
  * Immutable view of the scarce index cache content. Provides convenience
  * accessors that are useful for validation and testing without exposing the
  * underlying mutable cache state.
+ * <p>
+ * Keys and chunk positions are held in two parallel arrays, so a point lookup
+ * is a binary search over flat arrays that neither boxes positions nor
+ * allocates entries.
  */
 final class ScarceIndexSnapshot<K> {
 
     private final Comparator<K> comparator;
-    private final Entry<K, Integer>[] entries;
+    private final Object[] keys;
+    private final long[] positions;
 
     ScarceIndexSnapshot(final Comparator<K> comparator,
-            final List<Entry<K, Integer>> entries) {
+            final List<Entry<K, Long>> entries) {
         this.comparator = Vldtn.requireNonNull(comparator, "comparator");
-        final List<Entry<K, Integer>> copiedEntries = List
-                .copyOf(Vldtn.requireNonNull(entries, "entries"));
-        @SuppressWarnings("unchecked")
-        final Entry<K, Integer>[] array = copiedEntries.toArray(new Entry[0]);
-        this.entries = array;
+        final List<Entry<K, Long>> validatedEntries = Vldtn
+                .requireNonNull(entries, "entries");
+        this.keys = new Object[validatedEntries.size()];
+        this.positions = new long[validatedEntries.size()];
+        for (int i = 0; i < keys.length; i++) {
+            final Entry<K, Long> entry = validatedEntries.get(i);
+            keys[i] = entry.getKey();
+            positions[i] = entry.getValue();
+        }
+    }
+
+    /**
+     * Creates a snapshot that takes ownership of the arrays.
+     *
+     * @param comparator key comparator
+     * @param keys       keys in file order
+     * @param positions  chunk positions aligned with {@code keys}
+     */
+    ScarceIndexSnapshot(final Comparator<K> comparator, final Object[] keys,
+            final long[] positions) {
+        this.comparator = Vldtn.requireNonNull(comparator, "comparator");
+        this.keys = Vldtn.requireNonNull(keys, "keys");
+        this.positions = Vldtn.requireNonNull(positions, "positions");
+        if (keys.length != positions.length) {
+            throw new IllegalArgumentException(String.format(
+                    "Keys count '%s' doesn't match positions count '%s'",
+                    keys.length, positions.length));
+        }
     }
 
     int getKeyCount() {
-        return entries.length;
+        return keys.length;
     }
 
     K getMinKey() {
-        if (entries.length == 0) {
+        if (keys.length == 0) {
             return null;
         }
-        return entries[0].getKey();
+        return getKey(0);
     }
 
     K getMaxKey() {
-        if (entries.length == 0) {
+        if (keys.length == 0) {
             return null;
         }
-        return entries[entries.length - 1].getKey();
+        return getKey(keys.length - 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    K getKey(final int index) {
+        return (K) keys[index];
     }
 
-    Stream<Entry<K, Integer>> getSegments() {
-        return Arrays.stream(entries);
+    long getPosition(final int index) {
+        return positions[index];
     }
 
-    Integer findSegmentId(final K key) {
+    Stream<Entry<K, Long>> getSegments() {
+        return IntStream.range(0, keys.length).mapToObj(this::entryAt);
+    }
+
+    /**
+     * Finds the position of the chunk that can hold the key.
+     *
+     * @param key required key
+     * @return chunk position or {@link ScarceSegmentIndex#NOT_FOUND} when the
+     *         key is above the last key
+     */
+    long findPosition(final K key) {
         Vldtn.requireNonNull(key, "key");
-        if (entries.length == 0) {
-            return null;
+        if (keys.length == 0) {
+            return ScarceSegmentIndex.NOT_FOUND;
         }
-        if (comparator.compare(key, entries[entries.length - 1].getKey()) > 0) {
-            return null;
+        final int index = firstIndexAtOrAbove(key);
+        if (index == keys.length) {
+            return ScarceSegmentIndex.NOT_FOUND;
         }
+        return positions[index];
+    }
+
+    List<Entry<K, Long>> findChunks(final K fromInclusive,
+            final K toExclusive) {
+        if (keys.length == 0) {
+            return List.of();
+        }
+        final int first = fromInclusive == null ? 0
+                : firstIndexAtOrAbove(fromInclusive);
+        if (first == keys.length) {
+            return List.of();
+        }
+        int last = toExclusive == null ? keys.length - 1
+                : firstIndexAtOrAbove(toExclusive);
+        if (last == keys.length) {
+            last = keys.length - 1;
+        }
+        if (last < first) {
+            return List.of();
+        }
+        final List<Entry<K, Long>> chunks = new ArrayList<>(last - first + 1);
+        for (int i = first; i <= last; i++) {
+            chunks.add(entryAt(i));
+        }
+        return Collections.unmodifiableList(chunks);
+    }
+
+    private Entry<K, Long> entryAt(final int index) {
+        return Entry.of(getKey(index), positions[index]);
+    }
+
+    private int firstIndexAtOrAbove(final K key) {
         int left = 0;
-        int right = entries.length - 1;
+        int right = keys.length;
         while (left < right) {
             final int middle = left + ((right - left) >>> 1);
-            if (comparator.compare(key, entries[middle].getKey()) <= 0) {
+            if (comparator.compare(key, getKey(middle)) <= 0) {
                 right = middle;
             } else {
                 left = middle + 1;
             }
         }
-        return entries[left].getValue();
-    }
-
-    void forEachAdjacentPair(
-            final BiConsumer<Entry<K, Integer>, Entry<K, Integer>> consumer) {
-        final BiConsumer<Entry<K, Integer>, Entry<K, Integer>> validatedConsumer = Vldtn
-                .requireNonNull(consumer, "consumer");
-        for (int i = 1; i < entries.length; i++) {
-            validatedConsumer.accept(entries[i - 1], entries[i]);
-        }
+        return left;
     }
 
 }
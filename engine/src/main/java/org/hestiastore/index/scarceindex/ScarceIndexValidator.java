@@ -22,24 +22,28 @@ final class ScarceIndexValidator<K> {
         Vldtn.requireNonNull(snapshot, "snapshot");
         Vldtn.requireNonNull(errorConsumer, "errorConsumer");
 
-        final boolean[] valid = { true };
-        snapshot.forEachAdjacentPair((previous, current) -> {
-            if (comparator.compare(previous.getKey(), current.getKey()) >= 0) {
-                valid[0] = false;
+        boolean valid = true;
+        for (int i = 1; i < snapshot.getKeyCount(); i++) {
+            final K previousKey = snapshot.getKey(i - 1);
+            final K currentKey = snapshot.getKey(i);
+            if (comparator.compare(previousKey, currentKey) >= 0) {
+                valid = false;
                 errorConsumer.accept(String.format(
                         "Scarce index is not correctle ordered key '%s' is before  "
                                 + "key '%s' but first key is higher or equals then second one.",
-                        previous.getKey(), current.getKey()));
+                        previousKey, currentKey));
             }
-            if (previous.getValue() >= current.getValue()) {
-                valid[0] = false;
+            final long previousPosition = snapshot.getPosition(i - 1);
+            final long currentPosition = snapshot.getPosition(i);
+            if (previousPosition >= currentPosition) {
+                valid = false;
                 errorConsumer.accept(String.format(
                         "key '%s' and key '%s' should have correct order of values '%s' and '%s'.",
-                        previous.getKey(), current.getKey(),
-                        previous.getValue(), current.getValue()));
+                        previousKey, currentKey, previousPosition,
+                        currentPosition));
             }
-        });
-        return valid[0];
+        }
+        return valid;
     }
 
 }
@@ -8,26 +8,27 @@ import org.hestiastore.index.WriteTransaction;
 import org.hestiastore.index.sorteddatafile.SortedDataFileWriterTx;
 
 public class ScarceIndexWriterTx<K>
-        extends GuardedWriteTransaction<EntryWriter<K, Integer>>
-        implements WriteTransaction<K, Integer> {
+        extends GuardedWriteTransaction<EntryWriter<K, Long>>
+        implements WriteTransaction<K, Long> {
 
     private final ScarceSegmentIndex<K> scarceIndex;
-    private final SortedDataFileWriterTx<K, Integer> writerTx;
+    private final SortedDataFileWriterTx<K, Long> writerTx;
 
     ScarceIndexWriterTx(final ScarceSegmentIndex<K> scarceIndex,
-            final SortedDataFileWriterTx<K, Integer> writerTx) {
+            final SortedDataFileWriterTx<K, Long> writerTx) {
         this.scarceIndex = Vldtn.requireNonNull(scarceIndex, "scarceIndex");
         this.writerTx = Vldtn.requireNonNull(writerTx, "writerTx");
     }
 
     @Override
-    protected EntryWriter<K, Integer> doOpen() {
+    protected EntryWriter<K, Long> doOpen() {
         return new GuardedEntryWriter<>(writerTx.open());
     }
 
     @Override
-    protected void doCommit(final EntryWriter<K, Integer> writer) {
+    protected void doCommit(final EntryWriter<K, Long> writer) {
         writerTx.commit();
+        scarceIndex.deleteLegacyFile();
         scarceIndex.loadCache();
     }
 }
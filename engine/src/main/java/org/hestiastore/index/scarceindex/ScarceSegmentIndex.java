@@ -1,14 +1,16 @@
 package org.hestiastore.index.scarceindex;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
+import java.util.function.ToLongFunction;
 
 import org.hestiastore.index.Entry;
 import org.hestiastore.index.EntryIterator;
 import org.hestiastore.index.Vldtn;
 import org.hestiastore.index.datatype.TypeDescriptor;
 import org.hestiastore.index.datatype.TypeDescriptorInteger;
+import org.hestiastore.index.datatype.TypeDescriptorLong;
 import org.hestiastore.index.directory.Directory;
 import org.hestiastore.index.sorteddatafile.SortedDataFile;
 import org.slf4j.Logger;
@@ -35,11 +37,24 @@ import org.slf4j.LoggerFactory;
  * one key value entry when main index contains just one key value entry. In all
  * other cases scarce index contain more than one key value entries.
  * 
+ * Positions are written as {@code long} values, so the main index file isn't
+ * limited to 2 GB. Files written before that stored {@code int} positions
+ * under a legacy file name; they are still read when no new file exists and
+ * are removed when the scarce index is rewritten.
  */
 public class ScarceSegmentIndex<K> {
 
+    /**
+     * Position returned when no chunk can hold the key.
+     */
+    public static final long NOT_FOUND = -1L;
+
+    private static final int INITIAL_CAPACITY = 64;
+
     private static final TypeDescriptorInteger typeDescriptorInteger = new TypeDescriptorInteger();
 
+    private static final TypeDescriptorLong typeDescriptorLong = new TypeDescriptorLong();
+
     private static final Logger LOGGER = LoggerFactory
             .getLogger(ScarceSegmentIndex.class);
 
@@ -49,7 +64,11 @@ public class ScarceSegmentIndex<K> {
 
     private final String fileName;
 
-    private final SortedDataFile<K, Integer> sortedDataFile;
+    private final String legacyFileName;
+
+    private final SortedDataFile<K, Long> sortedDataFile;
+
+    private final SortedDataFile<K, Integer> legacySortedDataFile;
 
     private final ScarceIndexValidator<K> validator;
     private ScarceIndexSnapshot<K> snapshot;
@@ -59,45 +78,86 @@ public class ScarceSegmentIndex<K> {
     }
 
     ScarceSegmentIndex(final Directory directoryFacade,
-            final String fileName,
+            final String fileName, final String legacyFileName,
             final TypeDescriptor<K> keyTypeDescriptor,
             final int diskIoBufferSize) {
         this.directoryFacade = Vldtn.requireNonNull(directoryFacade,
                 "directoryFacade");
         this.fileName = Vldtn.requireNonNull(fileName, "fileName");
+        this.legacyFileName = legacyFileName;
         Vldtn.requireNonNull(keyTypeDescriptor, "keyTypeDescriptor");
         this.keyComparator = Vldtn.requireNonNull(
                 keyTypeDescriptor.getComparator(),
                 "keyTypeDescriptor.getComparator()");
-        this.sortedDataFile = SortedDataFile.<K, Integer>builder() //
+        this.sortedDataFile = SortedDataFile.<K, Long>builder() //
                 .withDirectory(directoryFacade) //
                 .withFileName(fileName)//
                 .withKeyTypeDescriptor(keyTypeDescriptor) //
-                .withValueTypeDescriptor(typeDescriptorInteger)
+                .withValueTypeDescriptor(typeDescriptorLong)
                 .withDiskIoBufferSize(diskIoBufferSize) //
                 .build();
+        this.legacySortedDataFile = legacyFileName == null ? null
+                : SortedDataFile.<K, Integer>builder() //
+                        .withDirectory(directoryFacade) //
+                        .withFileName(legacyFileName)//
+                        .withKeyTypeDescriptor(keyTypeDescriptor) //
+                        .withValueTypeDescriptor(typeDescriptorInteger)
+                        .withDiskIoBufferSize(diskIoBufferSize) //
+                        .build();
         this.validator = new ScarceIndexValidator<>(keyComparator);
         this.snapshot = new ScarceIndexSnapshot<>(keyComparator, List.of());
         loadCache();
     }
 
-    private List<Entry<K, Integer>> loadCacheEntries() {
-        final List<Entry<K, Integer>> entries = new ArrayList<>();
+    private ScarceIndexSnapshot<K> readSnapshot() {
         if (directoryFacade.isFileExists(fileName)) {
-            try (EntryIterator<K, Integer> entryIterator = sortedDataFile
-                    .openIterator()) {
-                while (entryIterator.hasNext()) {
-                    final Entry<K, Integer> entry = entryIterator.next();
-                    entries.add(entry);
+            return readSnapshot(sortedDataFile, Long::longValue);
+        }
+        if (isLegacyFileExists()) {
+            return readSnapshot(legacySortedDataFile, Integer::longValue);
+        }
+        return new ScarceIndexSnapshot<>(keyComparator, List.of());
+    }
+
+    private <V> ScarceIndexSnapshot<K> readSnapshot(
+            final SortedDataFile<K, V> file,
+            final ToLongFunction<V> positionReader) {
+        Object[] keys = new Object[INITIAL_CAPACITY];
+        long[] positions = new long[INITIAL_CAPACITY];
+        int count = 0;
+        try (EntryIterator<K, V> entryIterator = file.openIterator()) {
+            while (entryIterator.hasNext()) {
+                final Entry<K, V> entry = entryIterator.next();
+                if (count == keys.length) {
+                    keys = Arrays.copyOf(keys, count * 2);
+                    positions = Arrays.copyOf(positions, count * 2);
                 }
+                keys[count] = entry.getKey();
+                positions[count] = positionReader
+                        .applyAsLong(entry.getValue());
+                count++;
             }
         }
-        return entries;
+        return new ScarceIndexSnapshot<>(keyComparator,
+                Arrays.copyOf(keys, count), Arrays.copyOf(positions, count));
+    }
+
+    private boolean isLegacyFileExists() {
+        return legacyFileName != null
+                && directoryFacade.isFileExists(legacyFileName);
+    }
+
+    /**
+     * Removes the legacy file once the file with long positions replaced it.
+     */
+    void deleteLegacyFile() {
+        if (isLegacyFileExists()) {
+            directoryFacade.deleteFile(legacyFileName);
+        }
     }
 
     public void loadCache() {
-        final ScarceIndexSnapshot<K> newSnapshot = new ScarceIndexSnapshot<>(
-                keyComparator, loadCacheEntries());
+        final ScarceIndexSnapshot<K> newSnapshot = readSnapshot();
         final boolean valid = validator.validate(newSnapshot,
                 message -> LOGGER.error(message));
         if (!valid) {
@@ -119,8 +179,29 @@ public class ScarceSegmentIndex<K> {
         return snapshot.getKeyCount();
     }
 
-    public Integer get(final K key) {
-        return snapshot.findSegmentId(key);
+    /**
+     * Returns the position of the main index chunk that can hold the key.
+     *
+     * @param key required key
+     * @return chunk position or {@link #NOT_FOUND} when the key is above the
+     *         highest indexed key
+     */
+    public long findPosition(final K key) {
+        return snapshot.findPosition(key);
+    }
+
+    /**
+     * Returns the chunks of the main index file that can hold keys from
+     * {@code [fromInclusive, toExclusive)}, in ascending key order. Each entry
+     * pairs the last key stored in a chunk with the chunk position.
+     *
+     * @param fromInclusive lower bound, or {@code null} for no lower bound
+     * @param toExclusive   upper bound, or {@code null} for no upper bound
+     * @return chunk entries overlapping the key range
+     */
+    public List<Entry<K, Long>> getChunks(final K fromInclusive,
+            final K toExclusive) {
+        return snapshot.findChunks(fromInclusive, toExclusive);
     }
 
     public ScarceIndexWriterTx<K> openWriterTx() {
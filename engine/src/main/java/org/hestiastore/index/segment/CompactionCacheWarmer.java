@@ -0,0 +1,150 @@
+package org.hestiastore.index.segment;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.hestiastore.index.Entry;
+import org.hestiastore.index.Vldtn;
+import org.hestiastore.index.chunkentryfile.ChunkEntryFileWriter;
+import org.hestiastore.index.chunkstorecache.ChunkStoreCache;
+import org.hestiastore.index.chunkstorecache.ChunkStoreCacheKey;
+import org.hestiastore.index.chunkstorecache.ParsedChunkPage;
+
+/**
+ * Keeps the chunk cache of a segment warm across compaction.
+ * <p>
+ * Before compaction starts, the key ranges of the pages cached for the active
+ * version are captured. While the compacted index file is written, every chunk
+ * whose keys overlap a captured range is put into the cache under the new
+ * version and its new position. After the version switch reads of previously
+ * hot keys hit the cache instead of going to disk.
+ * <p>
+ * Chunks are written in key order, so overlap is found with one forward pass
+ * over the ranges sorted by their first key.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+final class CompactionCacheWarmer<K, V> {
+
+    private final ChunkStoreCache<K, V> chunkStoreCache;
+    private final String ownerId;
+    private final long targetVersion;
+    private final Comparator<K> keyComparator;
+    private final List<Entry<K, K>> hotKeyRanges;
+    private int rangeIndex;
+    private long warmedPageCount;
+
+    private CompactionCacheWarmer(final ChunkStoreCache<K, V> chunkStoreCache,
+            final String ownerId, final long targetVersion,
+            final Comparator<K> keyComparator,
+            final List<Entry<K, K>> hotKeyRanges) {
+        this.chunkStoreCache = chunkStoreCache;
+        this.ownerId = ownerId;
+        this.targetVersion = targetVersion;
+        this.keyComparator = keyComparator;
+        this.hotKeyRanges = hotKeyRanges;
+    }
+
+    /**
+     * Returns a warmer that caches nothing.
+     *
+     * @param <K> key type
+     * @param <V> value type
+     * @return inactive warmer
+     */
+    static <K, V> CompactionCacheWarmer<K, V> disabled() {
+        return new CompactionCacheWarmer<>(null, null, -1L, null, List.of());
+    }
+
+    /**
+     * Captures the key ranges of the pages cached for a segment version.
+     * Returns an inactive warmer when the cache is disabled, doesn't warm on
+     * compaction or holds no page of the segment.
+     *
+     * @param <K>             key type
+     * @param <V>             value type
+     * @param chunkStoreCache index chunk cache
+     * @param ownerId         segment owner id
+     * @param activeVersion   version whose cached pages are captured
+     * @param targetVersion   version written by the compaction
+     * @param keyComparator   key comparator
+     * @return warmer for the compaction
+     */
+    static <K, V> CompactionCacheWarmer<K, V> capture(
+            final ChunkStoreCache<K, V> chunkStoreCache, final String ownerId,
+            final long activeVersion, final long targetVersion,
+            final Comparator<K> keyComparator) {
+        Vldtn.requireNonNull(chunkStoreCache, "chunkStoreCache");
+        Vldtn.requireNotBlank(ownerId, "ownerId");
+        Vldtn.requireNonNull(keyComparator, "keyComparator");
+        if (!chunkStoreCache.isEnabled()
+                || !chunkStoreCache.isWarmOnCompaction()
+                || activeVersion < 0) {
+            return disabled();
+        }
+        final List<Entry<K, K>> ranges = new ArrayList<>();
+        for (final ParsedChunkPage<K, V> page : chunkStoreCache
+                .getCachedPages(ownerId, activeVersion)) {
+            if (page.isEmpty()) {
+                continue;
+            }
+            final List<Entry<K, V>> entries = page.entries();
+            ranges.add(Entry.of(entries.get(0).getKey(),
+                    entries.get(entries.size() - 1).getKey()));
+        }
+        if (ranges.isEmpty()) {
+            return disabled();
+        }
+        ranges.sort((left, right) -> keyComparator.compare(left.getKey(),
+                right.getKey()));
+        return new CompactionCacheWarmer<>(chunkStoreCache, ownerId,
+                targetVersion, keyComparator, ranges);
+    }
+
+    /**
+     * Returns whether any chunk can be cached.
+     *
+     * @return true when pages were cached before the compaction
+     */
+    boolean isActive() {
+        return !hotKeyRanges.isEmpty();
+    }
+
+    /**
+     * Caches the chunk just flushed by the writer when its keys overlap a
+     * captured range.
+     *
+     * @param firstKey    first key of the chunk
+     * @param lastKey     last key of the chunk
+     * @param position    chunk position in the new index file
+     * @param indexWriter writer that flushed the chunk
+     */
+    void onChunkWritten(final K firstKey, final K lastKey,
+            final long position, final ChunkEntryFileWriter<K, V> indexWriter) {
+        while (rangeIndex < hotKeyRanges.size() && keyComparator
+                .compare(hotKeyRanges.get(rangeIndex).getValue(),
+                        firstKey) < 0) {
+            rangeIndex++;
+        }
+        if (rangeIndex == hotKeyRanges.size() || keyComparator
+                .compare(hotKeyRanges.get(rangeIndex).getKey(), lastKey) > 0) {
+            return;
+        }
+        chunkStoreCache.putPage(
+                ChunkStoreCacheKey.of(ownerId, targetVersion, position),
+                indexWriter.getLastChunkPage(
+                        chunkStoreCache.isCompactPages()));
+        warmedPageCount++;
+    }
+
+    /**
+     * Returns the number of pages put into the cache.
+     *
+     * @return warmed page count
+     */
+    long getWarmedPageCount() {
+        return warmedPageCount;
+    }
+}
@@ -0,0 +1,87 @@
+package org.hestiastore.index.segment;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.LongFunction;
+
+import org.hestiastore.index.AbstractCloseableResource;
+import org.hestiastore.index.Entry;
+import org.hestiastore.index.EntryIterator;
+import org.hestiastore.index.Vldtn;
+import org.hestiastore.index.chunkstorecache.ParsedChunkPage;
+
+/**
+ * Iterates the main index file of one segment in descending key order.
+ * <p>
+ * Diff-key encoded chunks can only be decoded front to back, so the iterator
+ * walks the chunk positions listed by the scarce index from the last chunk to
+ * the first, decodes one chunk page at a time and returns its entries in
+ * reverse. Memory use is bounded by one chunk regardless of segment size.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+final class DescendingIndexIterator<K, V> extends AbstractCloseableResource
+        implements EntryIterator<K, V> {
+
+    private final List<Entry<K, Long>> chunks;
+    private final LongFunction<ParsedChunkPage<K, V>> pageLoader;
+    private final Comparator<K> keyComparator;
+    private int nextChunkIndex;
+    private List<Entry<K, V>> pageEntries = List.of();
+    private int entryIndex = -1;
+
+    /**
+     * Creates a descending iterator over the given chunks.
+     *
+     * @param chunks        scarce index entries (last key in chunk, chunk
+     *                      position) in ascending key order
+     * @param pageLoader    loads the parsed page starting at a chunk position
+     * @param keyComparator ascending key comparator
+     */
+    DescendingIndexIterator(final List<Entry<K, Long>> chunks,
+            final LongFunction<ParsedChunkPage<K, V>> pageLoader,
+            final Comparator<K> keyComparator) {
+        this.chunks = Vldtn.requireNonNull(chunks, "chunks");
+        this.pageLoader = Vldtn.requireNonNull(pageLoader, "pageLoader");
+        this.keyComparator = Vldtn.requireNonNull(keyComparator,
+                "keyComparator");
+        this.nextChunkIndex = chunks.size() - 1;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (entryIndex < 0 && nextChunkIndex >= 0) {
+            loadChunk(chunks.get(nextChunkIndex--));
+        }
+        return entryIndex >= 0;
+    }
+
+    @Override
+    public Entry<K, V> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("There no next element.");
+        }
+        return pageEntries.get(entryIndex--);
+    }
+
+    private void loadChunk(final Entry<K, Long> chunk) {
+        pageEntries = pageLoader.apply(chunk.getValue()).entries();
+        int lastIndex = pageEntries.size() - 1;
+        // A page load may read past the chunk end; those keys belong to the
+        // following chunk, which was already returned.
+        while (lastIndex >= 0 && keyComparator
+                .compare(pageEntries.get(lastIndex).getKey(), chunk.getKey()) > 0) {
+            lastIndex--;
+        }
+        entryIndex = lastIndex;
+    }
+
+    @Override
+    protected void doClose() {
+        pageEntries = List.of();
+        entryIndex = -1;
+        nextChunkIndex = -1;
+    }
+}
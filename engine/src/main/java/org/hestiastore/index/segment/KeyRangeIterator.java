@@ -0,0 +1,134 @@
+package org.hestiastore.index.segment;
+
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+
+import org.hestiastore.index.AbstractCloseableResource;
+import org.hestiastore.index.Entry;
+import org.hestiastore.index.EntryIterator;
+import org.hestiastore.index.Vldtn;
+
+/**
+ * Restricts a key-ordered iterator to the half-open key range
+ * {@code [fromInclusive, toExclusive)}. Entries before the range are skipped
+ * and iteration ends at the first key that leaves it, so the underlying
+ * iterator is never read past the range. Works for ascending and descending
+ * delegates.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+final class KeyRangeIterator<K, V> extends AbstractCloseableResource
+        implements EntryIterator<K, V> {
+
+    private final EntryIterator<K, V> delegate;
+    private final Comparator<K> keyComparator;
+    private final K fromInclusive;
+    private final K toExclusive;
+    private final boolean descending;
+    private boolean rangeReached;
+    private Entry<K, V> nextEntry;
+    private boolean exhausted;
+
+    /**
+     * Creates a range-restricted iterator over an ascending delegate.
+     *
+     * @param delegate      ascending iterator to read from
+     * @param keyComparator key comparator matching the delegate order
+     * @param fromInclusive lower bound, or {@code null} for no lower bound
+     * @param toExclusive   upper bound, or {@code null} for no upper bound
+     */
+    KeyRangeIterator(final EntryIterator<K, V> delegate,
+            final Comparator<K> keyComparator, final K fromInclusive,
+            final K toExclusive) {
+        this(delegate, keyComparator, fromInclusive, toExclusive, false);
+    }
+
+    /**
+     * Creates a range-restricted iterator.
+     *
+     * @param delegate      key-ordered iterator to read from
+     * @param keyComparator ascending key comparator
+     * @param fromInclusive lower bound, or {@code null} for no lower bound
+     * @param toExclusive   upper bound, or {@code null} for no upper bound
+     * @param descending    true when the delegate returns keys in descending
+     *                      order
+     */
+    KeyRangeIterator(final EntryIterator<K, V> delegate,
+            final Comparator<K> keyComparator, final K fromInclusive,
+            final K toExclusive, final boolean descending) {
+        this.delegate = Vldtn.requireNonNull(delegate, "delegate");
+        this.keyComparator = Vldtn.requireNonNull(keyComparator,
+                "keyComparator");
+        this.fromInclusive = fromInclusive;
+        this.toExclusive = toExclusive;
+        this.descending = descending;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (nextEntry == null && !exhausted) {
+            nextEntry = fetchNext();
+        }
+        return nextEntry != null;
+    }
+
+    @Override
+    public Entry<K, V> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("There no next element.");
+        }
+        final Entry<K, V> out = nextEntry;
+        nextEntry = null;
+        return out;
+    }
+
+    private Entry<K, V> fetchNext() {
+        while (delegate.hasNext()) {
+            final Entry<K, V> entry = delegate.next();
+            if (!rangeReached) {
+                if (isBeforeRange(entry.getKey())) {
+                    continue;
+                }
+                // Keys are ordered, the start bound never needs checking again.
+                rangeReached = true;
+            }
+            if (isPastRange(entry.getKey())) {
+                break;
+            }
+            return entry;
+        }
+        exhausted = true;
+        return null;
+    }
+
+    private boolean isBeforeRange(final K key) {
+        if (descending) {
+            return isAtOrAboveUpperBound(key);
+        }
+        return isBelowLowerBound(key);
+    }
+
+    private boolean isPastRange(final K key) {
+        if (descending) {
+            return isBelowLowerBound(key);
+        }
+        return isAtOrAboveUpperBound(key);
+    }
+
+    private boolean isBelowLowerBound(final K key) {
+        return fromInclusive != null
+                && keyComparator.compare(key, fromInclusive) < 0;
+    }
+
+    private boolean isAtOrAboveUpperBound(final K key) {
+        return toExclusive != null
+                && keyComparator.compare(key, toExclusive) >= 0;
+    }
+
+    @Override
+    protected void doClose() {
+        nextEntry = null;
+        delegate.close();
+    }
+}
@@ -63,12 +63,30 @@ class MergeDeltaCacheWithIndexIterator<K, V>
             final TypeDescriptor<K> keyTypeDescriptor,
             final TypeDescriptor<V> valueTypeDescriptor,
             final Iterator<Entry<K, V>> sortedDeltaCacheIterator) {
+        this(mainIterator,
+                Vldtn.requireNonNull(keyTypeDescriptor, "keyTypeDescriptor")
+                        .getComparator(),
+                valueTypeDescriptor, sortedDeltaCacheIterator);
+    }
+
+    /**
+     * Creates a merged iterator over two sources ordered by the given key
+     * order. Passing a reversed comparator merges descending sources.
+     *
+     * @param mainIterator iterator over the index file in {@code keyOrder}
+     * @param keyOrder key order shared by both sources
+     * @param valueTypeDescriptor value type descriptor (for tombstones)
+     * @param sortedDeltaCacheIterator iterator over delta cache entries in
+     *        {@code keyOrder}
+     */
+    MergeDeltaCacheWithIndexIterator(final EntryIterator<K, V> mainIterator,
+            final Comparator<K> keyOrder,
+            final TypeDescriptor<V> valueTypeDescriptor,
+            final Iterator<Entry<K, V>> sortedDeltaCacheIterator) {
         this.mainIterator = Vldtn.requireNonNull(mainIterator, "mainIterator");
         this.valueTypeDescriptor = Vldtn.requireNonNull(valueTypeDescriptor,
                 "valueTypeDescriptor");
-        this.keyComparator = Vldtn
-                .requireNonNull(keyTypeDescriptor, "keyTypeDescriptor")
-                .getComparator();
+        this.keyComparator = Vldtn.requireNonNull(keyOrder, "keyOrder");
         this.deltaCacheIterator = Vldtn.requireNonNull(sortedDeltaCacheIterator,
                 "sortedDeltaCacheIterator");
         this.mainCurrent = readNextPairFromMain();
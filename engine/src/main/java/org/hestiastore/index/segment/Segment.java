@@ -1,5 +1,8 @@
 package org.hestiastore.index.segment;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.hestiastore.index.EntryIterator;
 import org.hestiastore.index.OperationResult;
 import org.hestiastore.index.OperationStatus;
@@ -146,6 +149,36 @@ public interface Segment<K, V> {
     OperationResult<EntryIterator<K, V>> openIterator(
             SegmentIteratorIsolation isolation);
 
+    /**
+     * Opens a read iterator over the half-open key range
+     * {@code [fromInclusive, toExclusive)} with the requested isolation level.
+     * Implementations seek to the first chunk that can hold
+     * {@code fromInclusive} instead of reading the segment from its start.
+     *
+     * @param fromInclusive lower bound, or {@code null} for no lower bound
+     * @param toExclusive   upper bound, or {@code null} for no upper bound
+     * @param isolation     iterator isolation level (non-null)
+     * @return result with iterator over key/value entries in key order
+     */
+    OperationResult<EntryIterator<K, V>> openIterator(K fromInclusive,
+            K toExclusive, SegmentIteratorIsolation isolation);
+
+    /**
+     * Opens a read iterator over the half-open key range
+     * {@code [fromInclusive, toExclusive)} that returns entries in descending
+     * key order. Isolation semantics match
+     * {@link #openIterator(SegmentIteratorIsolation)}.
+     *
+     * @param fromInclusive lower bound, or {@code null} for no lower bound
+     * @param toExclusive   upper bound, or {@code null} for no upper bound
+     * @param isolation     iterator isolation level (non-null)
+     * @return result with iterator over key/value entries in descending key
+     *         order
+     */
+    OperationResult<EntryIterator<K, V>> openDescendingIterator(
+            K fromInclusive, K toExclusive,
+            SegmentIteratorIsolation isolation);
+
     /**
      * Writes directly into the in-memory segment cache without persisting to
      * disk. This is intended for specialized use cases.
@@ -266,6 +299,26 @@ public interface Segment<K, V> {
      */
     OperationResult<V> get(K key);
 
+    /**
+     * Performs point lookups of many keys in this segment. Implementations may
+     * share Bloom filter probes and chunk reads between keys.
+     *
+     * @param keys distinct keys in ascending order (non-null)
+     * @return values aligned with {@code keys}, {@code null} where a key is
+     *         not present
+     */
+    default OperationResult<List<V>> getAll(final List<K> keys) {
+        final List<V> values = new ArrayList<>(keys.size());
+        for (final K key : keys) {
+            final OperationResult<V> result = get(key);
+            if (!result.isOk()) {
+                return OperationResult.fromStatus(result.getStatus());
+            }
+            values.add(result.getValue());
+        }
+        return OperationResult.ok(values);
+    }
+
     /**
      * Returns this segment's identity.
      *
@@ -59,12 +59,18 @@ final class SegmentBuildContext<K, V> {
                         builder.getMaxNumberOfKeysInSegmentChunk())
                 .withMaxNumberOfDeltaCacheFiles(
                         builder.getMaxNumberOfDeltaCacheFiles())
+                .withChunkRestartInterval(builder.getChunkRestartInterval())
+                .withDeltaCacheOnDisk(builder.isDeltaCacheOnDisk())
                 .withBloomFilterNumberOfHashFunctions(
                         builder.getBloomFilterNumberOfHashFunctions())
                 .withBloomFilterIndexSizeInBytes(
                         builder.getBloomFilterIndexSizeInBytes())
                 .withBloomFilterProbabilityOfFalsePositive(
                         builder.getBloomFilterProbabilityOfFalsePositive())
+                .withBloomFilterBlocked(builder.isBloomFilterBlocked())
+                .withBloomFilterMemoryMapped(
+                        builder.isBloomFilterMemoryMapped())
+                .withBloomFilterAutoSized(builder.isBloomFilterAutoSized())
                 .withDiskIoBufferSize(builder.getDiskIoBufferSize())
                 .withEncodingChunkFilterSuppliers(
                         builder.getEncodingChunkFilterSuppliers())
@@ -85,7 +91,9 @@ final class SegmentBuildContext<K, V> {
                 activeVersion, keyTypeDescriptor, valueTypeDescriptor,
                 segmentConf.getDiskIoBufferSize(),
                 segmentConf.getEncodingChunkFilterSuppliers(),
-                segmentConf.getDecodingChunkFilterSuppliers());
+                segmentConf.getDecodingChunkFilterSuppliers())
+                .withChunkRestartInterval(
+                        segmentConf.getChunkRestartInterval());
 
         segmentPropertiesManager = propertiesManager;
         initializeDirectoryMetadata(segmentPropertiesManager, activeVersion);
@@ -100,20 +108,29 @@ final class SegmentBuildContext<K, V> {
     }
 
     /**
-     * Creates a segment cache preloaded with delta cache entries.
+     * Creates a segment cache preloaded with delta cache entries. When delta
+     * cache files are searched on disk nothing is preloaded.
      *
      * @return initialized segment cache
      */
     SegmentCache<K, V> createSegmentCache() {
+        final SegmentDeltaCacheFiles<K, V> deltaCacheFiles = segmentConf
+                .isDeltaCacheOnDisk()
+                        ? new SegmentDeltaCacheFiles<>(segmentFiles,
+                                segmentPropertiesManager, segmentConf)
+                        : null;
         final SegmentCache<K, V> segmentCache = new SegmentCache<>(
                 segmentFiles.getKeyTypeDescriptor().getComparator(),
                 segmentFiles.getValueTypeDescriptor(), null,
                 segmentConf.getMaxNumberOfKeysInSegmentWriteCache(),
                 segmentConf
                         .getMaxNumberOfKeysInSegmentWriteCacheDuringMaintenance(),
-                segmentConf.getMaxNumberOfKeysInSegmentCache());
-        new SegmentDeltaCacheLoader<>(segmentFiles, segmentPropertiesManager)
-                .loadInto(segmentCache);
+                segmentConf.getMaxNumberOfKeysInSegmentCache(),
+                deltaCacheFiles);
+        if (deltaCacheFiles == null) {
+            new SegmentDeltaCacheLoader<>(segmentFiles,
+                    segmentPropertiesManager).loadInto(segmentCache);
+        }
         return segmentCache;
     }
 
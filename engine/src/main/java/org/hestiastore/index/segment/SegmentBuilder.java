@@ -37,9 +37,14 @@ public final class SegmentBuilder<K, V> {
     private boolean maxNumberOfKeysInSegmentWriteCacheDuringMaintenanceSet;
     private int maxNumberOfKeysInSegmentChunk = DEFAULT_MAX_NUMBER_OF_KEYS_IN_SEGMENT_CHUNK;
     private int maxNumberOfDeltaCacheFiles = DEFAULT_MAX_NUMBER_OF_DELTA_CACHE_FILES;
+    private int chunkRestartInterval = 0;
+    private boolean deltaCacheOnDisk = false;
     private int bloomFilterNumberOfHashFunctions = SegmentConf.UNSET_BLOOM_FILTER_NUMBER_OF_HASH_FUNCTIONS;
     private int bloomFilterIndexSizeInBytes = SegmentConf.UNSET_BLOOM_FILTER_INDEX_SIZE_IN_BYTES;
     private double bloomFilterProbabilityOfFalsePositive = SegmentConf.UNSET_BLOOM_FILTER_PROBABILITY;
+    private boolean bloomFilterBlocked = false;
+    private boolean bloomFilterMemoryMapped = false;
+    private boolean bloomFilterAutoSized = false;
     private int diskIoBufferSize = DEFAULT_INDEX_BUFEER_SIZE_IN_BYTES;
     private final List<Supplier<? extends ChunkFilter>> encodingChunkFilters = new ArrayList<>();
     private final List<Supplier<? extends ChunkFilter>> decodingChunkFilters = new ArrayList<>();
@@ -177,6 +182,35 @@ public final class SegmentBuilder<K, V> {
         return this;
     }
 
+    /**
+     * Sets the number of entries between restart points inside written chunks.
+     * A restart point stores a full key, so a point lookup can binary-search
+     * restart points and decode at most this many entries of a chunk. Zero
+     * keeps the legacy chunk layout without restart points.
+     *
+     * @param chunkRestartInterval zero or positive restart interval
+     * @return this builder for chaining
+     */
+    public SegmentBuilder<K, V> withChunkRestartInterval(
+            final int chunkRestartInterval) {
+        this.chunkRestartInterval = Vldtn.requireGreaterThanOrEqualToZero(
+                chunkRestartInterval, "chunkRestartInterval");
+        return this;
+    }
+
+    /**
+     * Searches delta cache files on disk instead of loading them into the
+     * segment cache when the segment opens.
+     *
+     * @param deltaCacheOnDisk true to look up delta cache files on disk
+     * @return this builder for chaining
+     */
+    public SegmentBuilder<K, V> withDeltaCacheOnDisk(
+            final boolean deltaCacheOnDisk) {
+        this.deltaCacheOnDisk = deltaCacheOnDisk;
+        return this;
+    }
+
     /**
      * Sets the maximum number of delta cache files allowed per segment.
      *
@@ -228,6 +262,43 @@ public final class SegmentBuilder<K, V> {
         return this;
     }
 
+    /**
+     * Selects the cache-line blocked layout for newly written Bloom filters.
+     *
+     * @param bloomFilterBlocked true to write blocked Bloom filters
+     * @return this builder for chaining
+     */
+    public SegmentBuilder<K, V> withBloomFilterBlocked(
+            final boolean bloomFilterBlocked) {
+        this.bloomFilterBlocked = bloomFilterBlocked;
+        return this;
+    }
+
+    /**
+     * Maps Bloom filter files read-only instead of loading them into the heap.
+     *
+     * @param bloomFilterMemoryMapped true to memory-map Bloom filter files
+     * @return this builder for chaining
+     */
+    public SegmentBuilder<K, V> withBloomFilterMemoryMapped(
+            final boolean bloomFilterMemoryMapped) {
+        this.bloomFilterMemoryMapped = bloomFilterMemoryMapped;
+        return this;
+    }
+
+    /**
+     * Sizes every newly written Bloom filter for the number of keys written
+     * and the target false-positive probability.
+     *
+     * @param bloomFilterAutoSized true to size Bloom filters per segment
+     * @return this builder for chaining
+     */
+    public SegmentBuilder<K, V> withBloomFilterAutoSized(
+            final boolean bloomFilterAutoSized) {
+        this.bloomFilterAutoSized = bloomFilterAutoSized;
+        return this;
+    }
+
     /**
      * Provide an executor used for maintenance operations (flush/compact).
      *
@@ -493,6 +564,8 @@ public final class SegmentBuilder<K, V> {
         final Directory directory = segmentFiles.getDirectory();
         if (directory.isFileExists(segmentFiles.getIndexFileName())
                 || directory.isFileExists(segmentFiles.getScarceFileName())
+                || directory.isFileExists(
+                        segmentFiles.getLegacyScarceFileName())
                 || directory.isFileExists(segmentFiles.getBloomFilterFileName())) {
             return false;
         }
@@ -555,6 +628,14 @@ public final class SegmentBuilder<K, V> {
         return maxNumberOfKeysInSegmentChunk;
     }
 
+    int getChunkRestartInterval() {
+        return chunkRestartInterval;
+    }
+
+    boolean isDeltaCacheOnDisk() {
+        return deltaCacheOnDisk;
+    }
+
     int getMaxNumberOfDeltaCacheFiles() {
         return maxNumberOfDeltaCacheFiles;
     }
@@ -571,6 +652,18 @@ public final class SegmentBuilder<K, V> {
         return bloomFilterProbabilityOfFalsePositive;
     }
 
+    boolean isBloomFilterBlocked() {
+        return bloomFilterBlocked;
+    }
+
+    boolean isBloomFilterMemoryMapped() {
+        return bloomFilterMemoryMapped;
+    }
+
+    boolean isBloomFilterAutoSized() {
+        return bloomFilterAutoSized;
+    }
+
     int getDiskIoBufferSize() {
         return diskIoBufferSize;
     }
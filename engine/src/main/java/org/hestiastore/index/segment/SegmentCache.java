@@ -1,5 +1,6 @@
 package org.hestiastore.index.segment;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
@@ -16,6 +17,10 @@ import org.hestiastore.index.datatype.TypeDescriptor;
 /**
  * Combines an in-memory write cache with an existing delta cache and exposes a
  * merged view for lookups and iteration.
+ * <p>
+ * When created with {@link SegmentDeltaCacheFiles} the delta cache stays on
+ * disk. Lookups fall back to the delta files and merged views stream the
+ * sorted delta files next to the caches.
  *
  * @param <K> key type
  * @param <V> value type
@@ -24,6 +29,7 @@ final class SegmentCache<K, V> {
 
     private static final String ENTRY_ARG = "entry";
     private final UniqueCache<K, V> deltaCache;
+    private final SegmentDeltaCacheFiles<K, V> deltaCacheFiles;
     private volatile UniqueCache<K, V> writeCache;
     private volatile UniqueCache<K, V> frozenWriteCache;
     private final Comparator<K> keyComparator;
@@ -52,6 +58,33 @@ final class SegmentCache<K, V> {
             final int maxNumberOfKeysInSegmentWriteCache,
             final int maxNumberOfKeysInSegmentWriteCacheDuringMaintenance,
             final int maxNumberOfKeysInSegmentCache) {
+        this(keyComparator, valueTypeDescriptor, deltaEntries,
+                maxNumberOfKeysInSegmentWriteCache,
+                maxNumberOfKeysInSegmentWriteCacheDuringMaintenance,
+                maxNumberOfKeysInSegmentCache, null);
+    }
+
+    /**
+     * Creates a segment cache that optionally keeps the delta cache on disk.
+     *
+     * @param keyComparator comparator for ordering keys
+     * @param valueTypeDescriptor descriptor for values (tombstone handling)
+     * @param deltaEntries initial delta-cache entries, may be null
+     * @param maxNumberOfKeysInSegmentWriteCache max write-cache size
+     * @param maxNumberOfKeysInSegmentWriteCacheDuringMaintenance write-cache size
+     *        allowed during maintenance
+     * @param maxNumberOfKeysInSegmentCache max delta-cache size hint
+     * @param deltaCacheFiles on-disk delta files, null keeps delta entries in
+     *        memory
+     */
+    SegmentCache(final Comparator<K> keyComparator,
+            final TypeDescriptor<V> valueTypeDescriptor,
+            final List<Entry<K, V>> deltaEntries,
+            final int maxNumberOfKeysInSegmentWriteCache,
+            final int maxNumberOfKeysInSegmentWriteCacheDuringMaintenance,
+            final int maxNumberOfKeysInSegmentCache,
+            final SegmentDeltaCacheFiles<K, V> deltaCacheFiles) {
+        this.deltaCacheFiles = deltaCacheFiles;
         this.keyComparator = Vldtn.requireNonNull(keyComparator,
                 "keyComparator");
         this.valueTypeDescriptor = Vldtn.requireNonNull(valueTypeDescriptor,
@@ -141,7 +174,11 @@ final class SegmentCache<K, V> {
                 return fromFrozen;
             }
         }
-        return deltaCache.get(key);
+        final V fromDelta = deltaCache.get(key);
+        if (fromDelta != null || deltaCacheFiles == null) {
+            return fromDelta;
+        }
+        return deltaCacheFiles.get(key);
     }
 
     /**
@@ -152,16 +189,18 @@ final class SegmentCache<K, V> {
     public int size() {
         final UniqueCache<K, V> write = writeCache;
         final UniqueCache<K, V> frozen = frozenWriteCache;
-        if (write.isEmpty() && isNullOrEmpty(frozen)) {
-            return deltaCache.size();
-        }
-        if (deltaCache.isEmpty() && isNullOrEmpty(frozen)) {
-            return write.size();
-        }
-        if (deltaCache.isEmpty() && write.isEmpty() && frozen != null) {
-            return frozen.size();
+        if (!hasDeltaFiles()) {
+            if (write.isEmpty() && isNullOrEmpty(frozen)) {
+                return deltaCache.size();
+            }
+            if (deltaCache.isEmpty() && isNullOrEmpty(frozen)) {
+                return write.size();
+            }
+            if (deltaCache.isEmpty() && write.isEmpty() && frozen != null) {
+                return frozen.size();
+            }
         }
-        return buildMergedCache(write, frozen).size();
+        return countMergedKeys(openCursors(frozen, write, false));
     }
 
     /**
@@ -186,6 +225,9 @@ final class SegmentCache<K, V> {
      */
     public void evictAll() {
         deltaCache.clear();
+        if (deltaCacheFiles != null) {
+            deltaCacheFiles.clear();
+        }
         final UniqueCache<K, V> write = writeCache;
         write.clear();
         final UniqueCache<K, V> frozen = frozenWriteCache;
@@ -202,6 +244,9 @@ final class SegmentCache<K, V> {
      */
     void clearDeltaCachePreservingWriteCache() {
         deltaCache.clear();
+        if (deltaCacheFiles != null) {
+            deltaCacheFiles.clear();
+        }
         final UniqueCache<K, V> frozen = frozenWriteCache;
         if (frozen != null) {
             final int frozenSize = frozen.size();
@@ -219,10 +264,13 @@ final class SegmentCache<K, V> {
     public List<Entry<K, V>> getAsSortedList() {
         final UniqueCache<K, V> write = writeCache;
         final UniqueCache<K, V> frozen = frozenWriteCache;
-        if (write.isEmpty() && deltaCache.isEmpty() && isNullOrEmpty(frozen)) {
+        if (write.isEmpty() && deltaCache.isEmpty() && isNullOrEmpty(frozen)
+                && !hasDeltaFiles()) {
             return List.of();
         }
-        return buildMergedCache(write, frozen).getAsSortedList();
+        final List<Entry<K, V>> out = new ArrayList<>();
+        iteratorForCaches(frozen, write, false).forEachRemaining(out::add);
+        return out;
     }
 
     /**
@@ -231,7 +279,16 @@ final class SegmentCache<K, V> {
      * @return iterator over delta + frozen + write caches
      */
     Iterator<Entry<K, V>> mergedIterator() {
-        return iteratorForCaches(deltaCache, frozenWriteCache, writeCache);
+        return iteratorForCaches(frozenWriteCache, writeCache, false);
+    }
+
+    /**
+     * Returns an iterator over the merged cache view in descending key order.
+     *
+     * @return descending iterator over delta + frozen + write caches
+     */
+    Iterator<Entry<K, V>> mergedDescendingIterator() {
+        return iteratorForCaches(frozenWriteCache, writeCache, true);
     }
 
     /**
@@ -240,11 +297,13 @@ final class SegmentCache<K, V> {
      * @return iterator over delta + frozen caches
      */
     Iterator<Entry<K, V>> compactionSnapshotIterator() {
-        return iteratorForCaches(deltaCache, frozenWriteCache, null);
+        return iteratorForCaches(frozenWriteCache, null, false);
     }
 
     /**
-     * Returns a sorted iterator over the frozen write cache.
+     * Returns a sorted iterator over the frozen write cache. Write caches are
+     * sorted and a frozen one no longer takes writes, so the entries are
+     * streamed in key order without a snapshot.
      *
      * @return iterator over frozen write cache entries
      */
@@ -253,26 +312,7 @@ final class SegmentCache<K, V> {
         if (isNullOrEmpty(frozen)) {
             return List.<Entry<K, V>>of().iterator();
         }
-        final Iterator<K> keys = frozen.getSortedKeyIterator();
-        return new Iterator<>() {
-            @Override
-            public boolean hasNext() {
-                return keys.hasNext();
-            }
-
-            @Override
-            public Entry<K, V> next() {
-                if (!keys.hasNext()) {
-                    throw new NoSuchElementException("No next element.");
-                }
-                final K key = keys.next();
-                final V value = frozen.get(key);
-                if (value == null) {
-                    return next();
-                }
-                return Entry.of(key, value);
-            }
-        };
+        return frozen.getSortedEntryIterator();
     }
 
     /**
@@ -305,7 +345,8 @@ final class SegmentCache<K, V> {
 
     /**
      * Merges the frozen write cache into the delta cache and clears the
-     * snapshot.
+     * snapshot. With on-disk delta files the snapshot was already written to a
+     * new delta file, which is registered before the snapshot is dropped.
      */
     void mergeFrozenWriteCacheToDeltaCache() {
         final UniqueCache<K, V> frozen = frozenWriteCache;
@@ -315,12 +356,35 @@ final class SegmentCache<K, V> {
             return;
         }
         final int frozenSize = frozen.size();
-        frozen.forEachEntry((key, value) -> deltaCache.put(Entry.of(key, value)));
+        if (deltaCacheFiles == null) {
+            frozen.forEachEntry(
+                    (key, value) -> deltaCache.put(Entry.of(key, value)));
+        } else {
+            deltaCacheFiles.refresh();
+        }
         frozen.clear();
         frozenWriteCache = null;
         releaseWriteSlots(frozenSize);
     }
 
+    /**
+     * Returns the on-disk delta files.
+     *
+     * @return delta files, null when the delta cache is kept in memory
+     */
+    SegmentDeltaCacheFiles<K, V> getDeltaCacheFiles() {
+        return deltaCacheFiles;
+    }
+
+    /**
+     * Releases the readers held by the on-disk delta files.
+     */
+    void closeDeltaCacheFiles() {
+        if (deltaCacheFiles != null) {
+            deltaCacheFiles.closeReaders();
+        }
+    }
+
     /**
      * Returns the number of unique keys in the write cache only.
      *
@@ -337,7 +401,10 @@ final class SegmentCache<K, V> {
      */
     int getNumbberOfKeysInCache() {
         final UniqueCache<K, V> frozen = frozenWriteCache;
-        return deltaCache.size() + writeCache.size() + sizeOf(frozen);
+        final int deltaFileKeys = deltaCacheFiles == null ? 0
+                : deltaCacheFiles.getNumberOfKeys();
+        return deltaCache.size() + deltaFileKeys + writeCache.size()
+                + sizeOf(frozen);
     }
 
     /**
@@ -445,20 +512,25 @@ final class SegmentCache<K, V> {
     }
 
     /**
-     * Builds a merged cache view (delta + frozen + write).
+     * Counts the unique keys of the merged view by walking the sorted keys of
+     * the sources side by side.
      *
-     * @return merged cache instance
+     * @param cursors merge sources
+     * @return number of unique keys
      */
-    private UniqueCache<K, V> buildMergedCache(final UniqueCache<K, V> write,
-            final UniqueCache<K, V> frozen) {
-        final UniqueCache<K, V> merged = UniqueCache.<K, V>builder()
-                .withKeyComparator(keyComparator).buildEmpty();
-        addAll(merged, deltaCache.getAsList());
-        if (!isNullOrEmpty(frozen)) {
-            addAll(merged, frozen.getAsList());
+    private int countMergedKeys(final List<SourceCursor<K, V>> cursors) {
+        int count = 0;
+        K minKey = minKey(keyComparator, cursors);
+        while (minKey != null) {
+            consumeIfEquals(cursors, minKey);
+            count++;
+            minKey = minKey(keyComparator, cursors);
         }
-        addAll(merged, write.getAsList());
-        return merged;
+        return count;
+    }
+
+    private boolean hasDeltaFiles() {
+        return deltaCacheFiles != null && !deltaCacheFiles.isEmpty();
     }
 
     private boolean isNullOrEmpty(final UniqueCache<K, V> cache) {
@@ -469,19 +541,39 @@ final class SegmentCache<K, V> {
         return cache == null ? 0 : cache.size();
     }
 
+    /**
+     * Opens the merge sources from the highest priority one: write cache,
+     * frozen write cache, in-memory delta cache and the delta files from the
+     * newest one.
+     *
+     * @param frozen     frozen write cache, may be null
+     * @param write      write cache, may be null
+     * @param descending true for descending key order
+     * @return merge sources in priority order
+     */
+    private List<SourceCursor<K, V>> openCursors(
+            final UniqueCache<K, V> frozen, final UniqueCache<K, V> write,
+            final boolean descending) {
+        final List<SourceCursor<K, V>> cursors = new ArrayList<>();
+        cursors.add(SourceCursor.ofCache(write, descending));
+        cursors.add(SourceCursor.ofCache(frozen, descending));
+        cursors.add(SourceCursor.ofCache(deltaCache, descending));
+        if (hasDeltaFiles()) {
+            for (final Iterator<Entry<K, V>> entries : deltaCacheFiles
+                    .openIterators(descending)) {
+                cursors.add(SourceCursor.ofEntries(entries));
+            }
+        }
+        return cursors;
+    }
+
     private Iterator<Entry<K, V>> iteratorForCaches(
-            final UniqueCache<K, V> delta,
-            final UniqueCache<K, V> frozen,
-            final UniqueCache<K, V> write) {
-        final SourceCursor<K> deltaCursor = new SourceCursor<>(
-                delta == null ? List.<K>of().iterator()
-                        : delta.getSortedKeyIterator());
-        final SourceCursor<K> frozenCursor = new SourceCursor<>(
-                frozen == null ? List.<K>of().iterator()
-                        : frozen.getSortedKeyIterator());
-        final SourceCursor<K> writeCursor = new SourceCursor<>(
-                write == null ? List.<K>of().iterator()
-                        : write.getSortedKeyIterator());
+            final UniqueCache<K, V> frozen, final UniqueCache<K, V> write,
+            final boolean descending) {
+        final Comparator<K> order = descending ? keyComparator.reversed()
+                : keyComparator;
+        final List<SourceCursor<K, V>> cursors = openCursors(frozen, write,
+                descending);
         return new Iterator<>() {
             private Entry<K, V> next = advance();
 
@@ -501,71 +593,87 @@ final class SegmentCache<K, V> {
             }
 
             private Entry<K, V> advance() {
-                while (deltaCursor.hasCurrent() || frozenCursor.hasCurrent()
-                        || writeCursor.hasCurrent()) {
-                    final K minKey = minKey(deltaCursor.current(),
-                            frozenCursor.current(), writeCursor.current());
-                    if (minKey == null) {
-                        return null;
-                    }
-                    consumeIfEquals(deltaCursor, minKey);
-                    consumeIfEquals(frozenCursor, minKey);
-                    consumeIfEquals(writeCursor, minKey);
-
-                    final V value = resolveValue(minKey, write, frozen, delta);
+                K minKey = minKey(order, cursors);
+                while (minKey != null) {
+                    final V value = resolveValue(minKey, cursors);
+                    consumeIfEquals(cursors, minKey);
                     if (value != null) {
                         return Entry.of(minKey, value);
                     }
+                    minKey = minKey(order, cursors);
                 }
                 return null;
             }
         };
     }
 
-    private void consumeIfEquals(final SourceCursor<K> cursor, final K key) {
-        if (cursor.hasCurrent() && keyComparator.compare(cursor.current(), key) == 0) {
-            cursor.advance();
+    private void consumeIfEquals(final List<SourceCursor<K, V>> cursors,
+            final K key) {
+        for (final SourceCursor<K, V> cursor : cursors) {
+            if (cursor.hasCurrent()
+                    && keyComparator.compare(cursor.current(), key) == 0) {
+                cursor.advance();
+            }
         }
     }
 
-    private K minKey(final K a, final K b, final K c) {
-        K min = a;
-        if (b != null && (min == null || keyComparator.compare(b, min) < 0)) {
-            min = b;
-        }
-        if (c != null && (min == null || keyComparator.compare(c, min) < 0)) {
-            min = c;
+    private K minKey(final Comparator<K> order,
+            final List<SourceCursor<K, V>> cursors) {
+        K min = null;
+        for (final SourceCursor<K, V> cursor : cursors) {
+            final K key = cursor.current();
+            if (key != null && (min == null || order.compare(key, min) < 0)) {
+                min = key;
+            }
         }
         return min;
     }
 
-    private V resolveValue(final K key, final UniqueCache<K, V> write,
-            final UniqueCache<K, V> frozen, final UniqueCache<K, V> delta) {
-        if (write != null) {
-            final V value = write.get(key);
-            if (value != null) {
-                return value;
-            }
-        }
-        if (frozen != null) {
-            final V value = frozen.get(key);
+    private V resolveValue(final K key,
+            final List<SourceCursor<K, V>> cursors) {
+        for (final SourceCursor<K, V> cursor : cursors) {
+            final V value = cursor.valueOf(key, keyComparator);
             if (value != null) {
                 return value;
             }
         }
-        if (delta != null) {
-            return delta.get(key);
-        }
         return null;
     }
 
-    private static final class SourceCursor<K> {
-        private final Iterator<K> iterator;
+    /**
+     * One sorted source of the merged view. Cache sources iterate keys and
+     * answer values from the cache, so updates made while iterating are
+     * visible. Delta file sources carry the value of their current entry.
+     */
+    private static final class SourceCursor<K, V> {
+        private final UniqueCache<K, V> cache;
+        private final Iterator<K> keys;
+        private final Iterator<Entry<K, V>> entries;
         private K current;
+        private V currentValue;
+
+        private SourceCursor(final UniqueCache<K, V> cache,
+                final Iterator<K> keys, final Iterator<Entry<K, V>> entries) {
+            this.cache = cache;
+            this.keys = keys;
+            this.entries = entries;
+            advance();
+        }
 
-        private SourceCursor(final Iterator<K> iterator) {
-            this.iterator = iterator;
-            this.current = iterator.hasNext() ? iterator.next() : null;
+        private static <K, V> SourceCursor<K, V> ofCache(
+                final UniqueCache<K, V> cache, final boolean descending) {
+            if (cache == null) {
+                return new SourceCursor<>(null, List.<K>of().iterator(), null);
+            }
+            return new SourceCursor<>(cache,
+                    descending ? cache.getDescendingSortedKeyIterator()
+                            : cache.getSortedKeyIterator(),
+                    null);
+        }
+
+        private static <K, V> SourceCursor<K, V> ofEntries(
+                final Iterator<Entry<K, V>> entries) {
+            return new SourceCursor<>(null, null, entries);
         }
 
         private boolean hasCurrent() {
@@ -576,25 +684,43 @@ final class SegmentCache<K, V> {
             return current;
         }
 
+        private V valueOf(final K key, final Comparator<K> keyComparator) {
+            if (cache != null) {
+                return cache.get(key);
+            }
+            if (current != null && keyComparator.compare(current, key) == 0) {
+                return currentValue;
+            }
+            return null;
+        }
+
         private void advance() {
-            current = iterator.hasNext() ? iterator.next() : null;
+            if (keys != null) {
+                current = keys.hasNext() ? keys.next() : null;
+                return;
+            }
+            if (entries.hasNext()) {
+                final Entry<K, V> entry = entries.next();
+                current = entry.getKey();
+                currentValue = entry.getValue();
+            } else {
+                current = null;
+                currentValue = null;
+            }
         }
     }
 
     /**
-     * Builds a new write cache with the configured capacity hint.
+     * Builds a new write cache. Write caches keep keys sorted, so flushes and
+     * merged iterators read them in key order without sorting.
      *
      * @return empty write cache
      */
     private UniqueCache<K, V> buildWriteCache() {
-        final int capacityHint = Math.min(
-                Math.max(1,
-                        maxNumberOfKeysInSegmentWriteCacheDuringMaintenance.get()),
-                MAX_INITIAL_CAPACITY);
         return UniqueCache.<K, V>builder()//
                 .withKeyComparator(keyComparator)//
-                .withInitialCapacity(capacityHint)//
                 .withThreadSafe(true)//
+                .withSorted(true)//
                 .buildEmpty();
     }
 
@@ -624,23 +750,4 @@ final class SegmentCache<K, V> {
         signalCapacityAvailable();
     }
 
-    /**
-     * Adds all non-null entries into the target cache.
-     *
-     * @param target cache to populate
-     * @param entries entries to add (may be null)
-     */
-    private void addAll(final UniqueCache<K, V> target,
-            final List<Entry<K, V>> entries) {
-        Vldtn.requireNonNull(target, "target");
-        if (entries == null || entries.isEmpty()) {
-            return;
-        }
-        for (final Entry<K, V> entry : entries) {
-            if (entry == null) {
-                continue;
-            }
-            target.put(entry);
-        }
-    }
 }
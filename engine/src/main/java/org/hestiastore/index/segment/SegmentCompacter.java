@@ -38,10 +38,13 @@ final class SegmentCompacter<K, V> {
     CompactionPlan<K, V> prepareCompactionPlan(
             final SegmentCore<K, V> segment) {
         Vldtn.requireNonNull(segment, SEGMENT_ARG);
-        prepareCompaction(segment);
         final long currentVersion = Math.max(0,
                 segment.getSegmentFiles().getActiveVersion());
         final long nextVersion = currentVersion + 1;
+        // Capture before preparing, preparing drops the segment's pages.
+        final CompactionCacheWarmer<K, V> cacheWarmer = segment
+                .captureCacheWarmer(nextVersion);
+        prepareCompaction(segment);
         if (logger.isDebugEnabled()) {
             final SegmentDirectoryLayout layout = new SegmentDirectoryLayout(
                     segment.getId());
@@ -53,7 +56,7 @@ final class SegmentCompacter<K, V> {
                     layout.getDeltaCachePrefix(nextVersion));
         }
         return new CompactionPlan<>(segment, currentVersion,
-                nextVersion);
+                nextVersion, cacheWarmer);
     }
 
     /**
@@ -98,8 +101,9 @@ final class SegmentCompacter<K, V> {
         finalizeVersionSwitch(plan);
         if (logger.isDebugEnabled()) {
             logger.debug(
-                    "Compaction write committed: segment='{}' persistedVersion='{}'",
-                    plan.segment.getId(), plan.nextVersion);
+                    "Compaction write committed: segment='{}' persistedVersion='{}' warmedCachePages='{}'",
+                    plan.segment.getId(), plan.nextVersion,
+                    plan.cacheWarmer.getWarmedPageCount());
         }
     }
 
@@ -134,7 +138,8 @@ final class SegmentCompacter<K, V> {
         final SegmentFullWriterTx<K, V> writerTx = new SegmentFullWriterTx<>(
                 preparedFiles, propertiesManager,
                 segment.getSegmentConf().getMaxNumberOfKeysInChunk(),
-                preparedResources, segment.getDeltaCacheController());
+                preparedResources, segment.getDeltaCacheController(),
+                plan.cacheWarmer);
         if (logger.isDebugEnabled()) {
             logger.debug(
                     "Compaction target prepared: segment='{}' nextVersion='{}' targetIndexFile='{}' targetScarceFile='{}' targetBloomFile='{}'",
@@ -194,7 +199,9 @@ final class SegmentCompacter<K, V> {
         }
         deleteFile(directory, layout.getIndexFileName(version));
         deleteFile(directory, layout.getScarceFileName(version));
+        deleteFile(directory, layout.getLegacyScarceFileName(version));
         deleteFile(directory, layout.getBloomFilterFileName(version));
+        deleteFile(directory, layout.getCompressionDictionaryFileName(version));
         final String deltaPrefix = layout.getDeltaCachePrefix(version);
         try (Stream<String> files = directory.getFileNames()) {
             files.filter(name -> name.startsWith(deltaPrefix))
@@ -220,14 +227,17 @@ final class SegmentCompacter<K, V> {
         private final SegmentCore<K, V> segment;
         private final long previousVersion;
         private final long nextVersion;
+        private final CompactionCacheWarmer<K, V> cacheWarmer;
         private SegmentFullWriterTx<K, V> writerTx;
 
         private CompactionPlan(final SegmentCore<K, V> segment,
                 final long previousVersion,
-                final long nextVersion) {
+                final long nextVersion,
+                final CompactionCacheWarmer<K, V> cacheWarmer) {
             this.segment = segment;
             this.previousVersion = previousVersion;
             this.nextVersion = nextVersion;
+            this.cacheWarmer = cacheWarmer;
         }
     }
 }
@@ -34,9 +34,14 @@ public class SegmentConf {
     private final int maxNumberOfKeysInSegmentCache;
     private final int maxNumberOfKeysInChunk;
     private final int maxNumberOfDeltaCacheFiles;
+    private final int chunkRestartInterval;
+    private final boolean deltaCacheOnDisk;
     private final int bloomFilterNumberOfHashFunctions;
     private final int bloomFilterIndexSizeInBytes;
     private final double bloomFilterProbabilityOfFalsePositive;
+    private final boolean bloomFilterBlocked;
+    private final boolean bloomFilterMemoryMapped;
+    private final boolean bloomFilterAutoSized;
     private final int diskIoBufferSize;
     private final List<Supplier<? extends ChunkFilter>> encodingChunkFilters;
     private final List<Supplier<? extends ChunkFilter>> decodingChunkFilters;
@@ -56,9 +61,14 @@ public class SegmentConf {
         maxNumberOfDeltaCacheFiles = requireSet(
                 builder.maxNumberOfDeltaCacheFiles,
                 "maxNumberOfDeltaCacheFiles");
+        chunkRestartInterval = builder.chunkRestartInterval;
+        deltaCacheOnDisk = builder.deltaCacheOnDisk;
         bloomFilterNumberOfHashFunctions = builder.bloomFilterNumberOfHashFunctions;
         bloomFilterIndexSizeInBytes = builder.bloomFilterIndexSizeInBytes;
         bloomFilterProbabilityOfFalsePositive = builder.bloomFilterProbabilityOfFalsePositive;
+        bloomFilterBlocked = builder.bloomFilterBlocked;
+        bloomFilterMemoryMapped = builder.bloomFilterMemoryMapped;
+        bloomFilterAutoSized = builder.bloomFilterAutoSized;
         diskIoBufferSize = requireSet(builder.diskIoBufferSize,
                 "diskIoBufferSize");
         encodingChunkFilters = List.copyOf(Objects.requireNonNull(
@@ -146,6 +156,24 @@ public class SegmentConf {
         return maxNumberOfDeltaCacheFiles;
     }
 
+    /**
+     * Returns the number of entries between restart points in written chunks.
+     *
+     * @return restart interval, {@code 0} when chunks have no restart points
+     */
+    int getChunkRestartInterval() {
+        return chunkRestartInterval;
+    }
+
+    /**
+     * Returns whether delta cache files are searched on disk.
+     *
+     * @return true when delta cache files are not loaded into memory
+     */
+    boolean isDeltaCacheOnDisk() {
+        return deltaCacheOnDisk;
+    }
+
     /**
      * Returns the Bloom filter hash function count.
      *
@@ -176,6 +204,33 @@ public class SegmentConf {
         return bloomFilterProbabilityOfFalsePositive;
     }
 
+    /**
+     * Returns whether new Bloom filters use the cache-line blocked layout.
+     *
+     * @return true for blocked Bloom filters
+     */
+    public boolean isBloomFilterBlocked() {
+        return bloomFilterBlocked;
+    }
+
+    /**
+     * Returns whether Bloom filter files are memory-mapped.
+     *
+     * @return true for memory-mapped Bloom filters
+     */
+    public boolean isBloomFilterMemoryMapped() {
+        return bloomFilterMemoryMapped;
+    }
+
+    /**
+     * Returns whether new Bloom filters are sized by their key count.
+     *
+     * @return true for auto-sized Bloom filters
+     */
+    public boolean isBloomFilterAutoSized() {
+        return bloomFilterAutoSized;
+    }
+
     /**
      * Returns the disk I/O buffer size in bytes.
      *
@@ -251,9 +306,14 @@ public class SegmentConf {
         private Integer maxNumberOfKeysInSegmentCache;
         private Integer maxNumberOfKeysInChunk;
         private Integer maxNumberOfDeltaCacheFiles;
+        private int chunkRestartInterval = 0;
+        private boolean deltaCacheOnDisk = false;
         private int bloomFilterNumberOfHashFunctions = UNSET_BLOOM_FILTER_NUMBER_OF_HASH_FUNCTIONS;
         private int bloomFilterIndexSizeInBytes = UNSET_BLOOM_FILTER_INDEX_SIZE_IN_BYTES;
         private double bloomFilterProbabilityOfFalsePositive = UNSET_BLOOM_FILTER_PROBABILITY;
+        private boolean bloomFilterBlocked = false;
+        private boolean bloomFilterMemoryMapped = false;
+        private boolean bloomFilterAutoSized = false;
         private Integer diskIoBufferSize;
         private List<Supplier<? extends ChunkFilter>> encodingChunkFilters;
         private List<Supplier<? extends ChunkFilter>> decodingChunkFilters;
@@ -268,9 +328,14 @@ public class SegmentConf {
             maxNumberOfKeysInSegmentCache = segmentConf.maxNumberOfKeysInSegmentCache;
             maxNumberOfKeysInChunk = segmentConf.maxNumberOfKeysInChunk;
             maxNumberOfDeltaCacheFiles = segmentConf.maxNumberOfDeltaCacheFiles;
+            chunkRestartInterval = segmentConf.chunkRestartInterval;
+            deltaCacheOnDisk = segmentConf.deltaCacheOnDisk;
             bloomFilterNumberOfHashFunctions = segmentConf.bloomFilterNumberOfHashFunctions;
             bloomFilterIndexSizeInBytes = segmentConf.bloomFilterIndexSizeInBytes;
             bloomFilterProbabilityOfFalsePositive = segmentConf.bloomFilterProbabilityOfFalsePositive;
+            bloomFilterBlocked = segmentConf.bloomFilterBlocked;
+            bloomFilterMemoryMapped = segmentConf.bloomFilterMemoryMapped;
+            bloomFilterAutoSized = segmentConf.bloomFilterAutoSized;
             diskIoBufferSize = segmentConf.diskIoBufferSize;
             encodingChunkFilters = segmentConf.encodingChunkFilters;
             decodingChunkFilters = segmentConf.decodingChunkFilters;
@@ -303,6 +368,29 @@ public class SegmentConf {
             return this;
         }
 
+        /**
+         * Sets the number of entries between restart points in written
+         * chunks.
+         *
+         * @param value restart interval, {@code 0} disables restart points
+         * @return this builder
+         */
+        public Builder withChunkRestartInterval(final int value) {
+            chunkRestartInterval = value;
+            return this;
+        }
+
+        /**
+         * Selects whether delta cache files are searched on disk.
+         *
+         * @param value true to keep delta cache files out of memory
+         * @return this builder
+         */
+        public Builder withDeltaCacheOnDisk(final boolean value) {
+            deltaCacheOnDisk = value;
+            return this;
+        }
+
         public Builder withBloomFilterNumberOfHashFunctions(
                 final int value) {
             bloomFilterNumberOfHashFunctions = value;
@@ -320,6 +408,39 @@ public class SegmentConf {
             return this;
         }
 
+        /**
+         * Selects the cache-line blocked layout for new Bloom filters.
+         *
+         * @param value true for blocked Bloom filters
+         * @return this builder
+         */
+        public Builder withBloomFilterBlocked(final boolean value) {
+            bloomFilterBlocked = value;
+            return this;
+        }
+
+        /**
+         * Selects whether Bloom filter files are memory-mapped.
+         *
+         * @param value true to memory-map Bloom filters
+         * @return this builder
+         */
+        public Builder withBloomFilterMemoryMapped(final boolean value) {
+            bloomFilterMemoryMapped = value;
+            return this;
+        }
+
+        /**
+         * Selects whether new Bloom filters are sized by their key count.
+         *
+         * @param value true for auto-sized Bloom filters
+         * @return this builder
+         */
+        public Builder withBloomFilterAutoSized(final boolean value) {
+            bloomFilterAutoSized = value;
+            return this;
+        }
+
         /**
          * Sets disk I/O buffer size in bytes.
          *
@@ -94,6 +94,33 @@ final class SegmentCore<K, V> {
         return readPath.openIterator(isolation);
     }
 
+    /**
+     * Opens a read iterator restricted to a key range.
+     *
+     * @param fromInclusive lower bound, or {@code null} for no lower bound
+     * @param toExclusive   upper bound, or {@code null} for no upper bound
+     * @param isolation     iterator isolation mode
+     * @return entry iterator
+     */
+    EntryIterator<K, V> openIterator(final K fromInclusive,
+            final K toExclusive, final SegmentIteratorIsolation isolation) {
+        return readPath.openIterator(fromInclusive, toExclusive, isolation);
+    }
+
+    /**
+     * Opens a descending read iterator restricted to a key range.
+     *
+     * @param fromInclusive lower bound, or {@code null} for no lower bound
+     * @param toExclusive   upper bound, or {@code null} for no upper bound
+     * @param isolation     iterator isolation mode
+     * @return entry iterator in descending key order
+     */
+    EntryIterator<K, V> openDescendingIterator(final K fromInclusive,
+            final K toExclusive, final SegmentIteratorIsolation isolation) {
+        return readPath.openDescendingIterator(fromInclusive, toExclusive,
+                isolation);
+    }
+
     /**
      * Opens an iterator over the index and stable compaction snapshot.
      *
@@ -221,6 +248,16 @@ final class SegmentCore<K, V> {
         return readPath.getBloomFilterFalsePositiveCount();
     }
 
+    int getBloomFilterIndexSizeInBytes() {
+        return Math.max(0,
+                segmentPropertiesManager.getBloomFilterIndexSizeInBytes());
+    }
+
+    int getBloomFilterNumberOfHashFunctions() {
+        return Math.max(0, segmentPropertiesManager
+                .getBloomFilterNumberOfHashFunctions());
+    }
+
     /**
      * Returns the value for the given key, considering cache and disk.
      *
@@ -231,6 +268,16 @@ final class SegmentCore<K, V> {
         return readPath.get(key);
     }
 
+    /**
+     * Returns values for many keys, considering cache and disk.
+     *
+     * @param keys distinct keys in ascending order
+     * @return values aligned with {@code keys}
+     */
+    List<V> getAll(final List<K> keys) {
+        return readPath.getAll(keys);
+    }
+
     /**
      * Returns the segment identifier.
      *
@@ -265,7 +312,17 @@ final class SegmentCore<K, V> {
 
     void switchActiveVersion(final long version) {
         segmentFiles.switchActiveVersion(version);
-        readPath.resetSegmentIndexSearcher();
+        readPath.resetSegmentIndexSearcher(version);
+    }
+
+    /**
+     * Captures the cached pages of the active version for compaction.
+     *
+     * @param targetVersion version written by the compaction
+     * @return cache warmer, inactive when nothing should be cached
+     */
+    CompactionCacheWarmer<K, V> captureCacheWarmer(final long targetVersion) {
+        return readPath.captureCacheWarmer(targetVersion);
     }
 
     /**
@@ -312,6 +369,7 @@ final class SegmentCore<K, V> {
      */
     void close() {
         readPath.close();
+        segmentCache.closeDeltaCacheFiles();
         logger.debug("Closing segment '{}'", segmentFiles.getId());
     }
 }
@@ -17,6 +17,7 @@ public final class SegmentDataSupplier<K, V> {
 
     private final SegmentFiles<K, V> segmentFiles;
     private final SegmentConf segmentConf;
+
     /**
      * Creates a supplier for segment-related data structures.
      *
@@ -47,7 +48,12 @@ public final class SegmentDataSupplier<K, V> {
                 .withNumberOfHashFunctions(
                         segmentConf.getBloomFilterNumberOfHashFunctions())
                 .withProbabilityOfFalsePositive(
-                        segmentConf.getBloomFilterProbabilityOfFalsePositive());
+                        segmentConf.getBloomFilterProbabilityOfFalsePositive())
+                .withBlocked(segmentConf.isBloomFilterBlocked())
+                .withMemoryMapped(segmentConf.isBloomFilterMemoryMapped())
+                // A disabled filter stays disabled.
+                .withAutoSized(segmentConf.isBloomFilterAutoSized()
+                        && segmentConf.getBloomFilterIndexSizeInBytes() > 0);
         return builder.build();
     }
 
@@ -60,6 +66,7 @@ public final class SegmentDataSupplier<K, V> {
         return ScarceSegmentIndex.<K>builder()//
                 .withDirectory(segmentFiles.getDirectory())//
                 .withFileName(segmentFiles.getScarceFileName())//
+                .withLegacyFileName(segmentFiles.getLegacyScarceFileName())//
                 .withKeyTypeDescriptor(segmentFiles.getKeyTypeDescriptor())//
                 .withDiskIoBufferSize(segmentConf.getDiskIoBufferSize())//
                 .build();
@@ -70,7 +70,9 @@ final class SegmentDeltaCacheController<K, V> {
     public SegmentDeltaCacheWriter<K, V> openWriter() {
         return new SegmentDeltaCacheWriter<>(segmentFiles,
                 segmentPropertiesManager,
-                maxNumberOfKeysInSegmentWriteCache, maxNumberOfKeysInChunk);
+                maxNumberOfKeysInSegmentWriteCache, maxNumberOfKeysInChunk,
+                segmentCache == null ? null
+                        : segmentCache.getDeltaCacheFiles());
     }
 
     /**
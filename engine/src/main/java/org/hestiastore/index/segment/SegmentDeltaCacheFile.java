@@ -0,0 +1,419 @@
+package org.hestiastore.index.segment;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.hestiastore.index.Entry;
+import org.hestiastore.index.Vldtn;
+import org.hestiastore.index.bloomfilter.BloomFilterInMemory;
+import org.hestiastore.index.chunkentryfile.ChunkEntryFile;
+import org.hestiastore.index.datatype.TypeDescriptor;
+import org.hestiastore.index.datatype.TypeEncoder;
+import org.hestiastore.index.directory.Directory;
+import org.hestiastore.index.directory.FileReaderSeekable;
+import org.hestiastore.index.directory.FileReaderSeekableSupplier;
+
+/**
+ * One delta cache file searched on disk instead of being loaded into the
+ * segment cache.
+ * <p>
+ * Delta files are written sorted and chunked, so a Bloom filter of the file's
+ * keys and the first key of every chunk are enough to find a key. Files
+ * written by this segment get both from the writer. Files found when the
+ * segment is opened build them by one read of the file the first time they
+ * are searched. Either way they stay in memory, the entries themselves don't.
+ * <p>
+ * Reads share one {@link FileReaderSeekableSupplier} per file, opened on the
+ * first read. Every read counts itself as a user of the supplier, so
+ * {@link #retire()} closes it only after the reads in progress finish.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+final class SegmentDeltaCacheFile<K, V> {
+
+    private final String fileName;
+    private final ChunkEntryFile<K, V> chunkEntryFile;
+    private final Directory directory;
+    private final TypeDescriptor<K> keyTypeDescriptor;
+    private final double probabilityOfFalsePositive;
+    private volatile Lookup<K> lookup;
+    private final Object readerLock = new Object();
+    private FileReaderSeekableSupplier readerSupplier;
+    private int readersInUse;
+    private boolean retired;
+
+    /**
+     * Creates a handle for a delta cache file.
+     *
+     * @param fileName                   delta cache file name
+     * @param chunkEntryFile             chunk access to the file
+     * @param directory                  directory holding the file
+     * @param keyTypeDescriptor          key type descriptor
+     * @param probabilityOfFalsePositive target probability of the file's
+     *                                   Bloom filter
+     * @param lookup                     lookup built while the file was
+     *                                   written, null builds it on the first
+     *                                   read
+     */
+    SegmentDeltaCacheFile(final String fileName,
+            final ChunkEntryFile<K, V> chunkEntryFile,
+            final Directory directory,
+            final TypeDescriptor<K> keyTypeDescriptor,
+            final double probabilityOfFalsePositive, final Lookup<K> lookup) {
+        this.fileName = Vldtn.requireNotBlank(fileName, "fileName");
+        this.chunkEntryFile = Vldtn.requireNonNull(chunkEntryFile,
+                "chunkEntryFile");
+        this.directory = Vldtn.requireNonNull(directory, "directory");
+        this.keyTypeDescriptor = Vldtn.requireNonNull(keyTypeDescriptor,
+                "keyTypeDescriptor");
+        this.probabilityOfFalsePositive = probabilityOfFalsePositive;
+        this.lookup = lookup;
+    }
+
+    /**
+     * Returns the delta cache file name.
+     *
+     * @return file name
+     */
+    String getFileName() {
+        return fileName;
+    }
+
+    /**
+     * Searches the file for a key.
+     *
+     * @param key required key
+     * @return stored value, possibly a tombstone, or {@code null} when the
+     *         file doesn't hold the key or was retired
+     */
+    V get(final K key) {
+        Vldtn.requireNonNull(key, "key");
+        final FileReaderSeekableSupplier supplier = acquireReaderSupplier();
+        if (supplier == null) {
+            return null;
+        }
+        try {
+            final Lookup<K> resolvedLookup = getLookup();
+            if (resolvedLookup.bloomFilter.isNotStored(key)) {
+                return null;
+            }
+            final Comparator<K> keyComparator = keyTypeDescriptor
+                    .getComparator();
+            final int chunk = resolvedLookup.findChunk(key, keyComparator);
+            if (chunk < 0) {
+                return null;
+            }
+            try (FileReaderSeekable seekableReader = supplier.get()) {
+                return chunkEntryFile.searchAtPosition(key,
+                        resolvedLookup.chunkPositions[chunk],
+                        resolvedLookup.chunkEntryCounts[chunk], keyComparator,
+                        seekableReader);
+            }
+        } finally {
+            releaseReaderSupplier();
+        }
+    }
+
+    /**
+     * Opens an iterator over all entries of the file. Entries are read one
+     * chunk at a time. The iterator ends early when the file is retired.
+     *
+     * @param descending true for descending key order
+     * @return entry iterator
+     */
+    Iterator<Entry<K, V>> openIterator(final boolean descending) {
+        return new ChunkIterator(descending);
+    }
+
+    /**
+     * Returns whether the lookup structures are available.
+     *
+     * @return true when the file was written by this segment or searched
+     */
+    boolean isLoaded() {
+        return lookup != null;
+    }
+
+    /**
+     * Retires the file once it is no longer listed or is going to be deleted.
+     * A retired file reads as empty, like a cleared in-memory delta cache, and
+     * never opens a reader again. The shared reader is closed when the last
+     * read in progress finishes.
+     */
+    void retire() {
+        synchronized (readerLock) {
+            retired = true;
+            if (readersInUse == 0) {
+                closeReaderSupplier();
+            }
+        }
+    }
+
+    /**
+     * Returns the shared reader supplier and counts the caller as its user.
+     *
+     * @return reader supplier, or {@code null} when the file was retired
+     */
+    private FileReaderSeekableSupplier acquireReaderSupplier() {
+        synchronized (readerLock) {
+            if (retired) {
+                return null;
+            }
+            if (readerSupplier == null) {
+                readerSupplier = directory
+                        .getFileReaderSeekableSupplier(fileName);
+            }
+            readersInUse++;
+            return readerSupplier;
+        }
+    }
+
+    private void releaseReaderSupplier() {
+        synchronized (readerLock) {
+            readersInUse--;
+            if (retired && readersInUse == 0) {
+                closeReaderSupplier();
+            }
+        }
+    }
+
+    private void closeReaderSupplier() {
+        if (readerSupplier != null) {
+            readerSupplier.close();
+            readerSupplier = null;
+        }
+    }
+
+    private Lookup<K> getLookup() {
+        Lookup<K> current = lookup;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            current = lookup;
+            if (current == null) {
+                current = buildLookup();
+                lookup = current;
+            }
+            return current;
+        }
+    }
+
+    private Lookup<K> buildLookup() {
+        final Lookup.Builder<K> builder = Lookup.builder(
+                keyTypeDescriptor.getTypeEncoder(), probabilityOfFalsePositive);
+        chunkEntryFile.forEachChunk((entries, position) -> {
+            for (final Entry<K, V> entry : entries) {
+                builder.addKey(entry.getKey());
+            }
+            builder.endChunk(position);
+        });
+        return builder.build();
+    }
+
+    /**
+     * Iterates the chunks of the file in either direction, keeping only the
+     * current chunk in memory.
+     */
+    private final class ChunkIterator implements Iterator<Entry<K, V>> {
+
+        private final boolean descending;
+        private int nextChunk = -1;
+        private boolean started;
+        private boolean finished;
+        private List<Entry<K, V>> entries = List.of();
+        private int entryIndex;
+
+        private ChunkIterator(final boolean descending) {
+            this.descending = descending;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (entryIndex >= entries.size()) {
+                if (finished) {
+                    return false;
+                }
+                final List<Entry<K, V>> chunkEntries = readNextChunk();
+                if (chunkEntries == null) {
+                    finished = true;
+                    return false;
+                }
+                entries = chunkEntries;
+                entryIndex = 0;
+            }
+            return true;
+        }
+
+        @Override
+        public Entry<K, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("No next element.");
+            }
+            final int index = descending ? entries.size() - 1 - entryIndex
+                    : entryIndex;
+            entryIndex++;
+            return entries.get(index);
+        }
+
+        /**
+         * Reads the next chunk.
+         *
+         * @return chunk entries, or {@code null} past the last chunk or when
+         *         the file was retired
+         */
+        private List<Entry<K, V>> readNextChunk() {
+            final FileReaderSeekableSupplier supplier = acquireReaderSupplier();
+            if (supplier == null) {
+                return null;
+            }
+            try {
+                final Lookup<K> resolvedLookup = getLookup();
+                final int chunks = resolvedLookup.chunkPositions.length;
+                if (!started) {
+                    nextChunk = descending ? chunks - 1 : 0;
+                    started = true;
+                }
+                if (nextChunk < 0 || nextChunk >= chunks) {
+                    return null;
+                }
+                final int chunk = nextChunk;
+                nextChunk += descending ? -1 : 1;
+                try (FileReaderSeekable seekableReader = supplier.get()) {
+                    return chunkEntryFile.loadParsedPageAtPosition(
+                            resolvedLookup.chunkPositions[chunk],
+                            resolvedLookup.chunkEntryCounts[chunk],
+                            seekableReader).entries();
+                }
+            } finally {
+                releaseReaderSupplier();
+            }
+        }
+    }
+
+    /**
+     * In-memory lookup structures of one file.
+     *
+     * @param <K> key type
+     */
+    static final class Lookup<K> {
+
+        private final BloomFilterInMemory<K> bloomFilter;
+        private final List<K> chunkFirstKeys;
+        private final long[] chunkPositions;
+        private final int[] chunkEntryCounts;
+
+        private Lookup(final BloomFilterInMemory<K> bloomFilter,
+                final List<K> chunkFirstKeys, final long[] chunkPositions,
+                final int[] chunkEntryCounts) {
+            this.bloomFilter = bloomFilter;
+            this.chunkFirstKeys = List.copyOf(chunkFirstKeys);
+            this.chunkPositions = chunkPositions;
+            this.chunkEntryCounts = chunkEntryCounts;
+        }
+
+        /**
+         * Creates a builder fed with the keys of a file in write order.
+         *
+         * @param <K>                        key type
+         * @param keyEncoder                 key encoder for the Bloom filter
+         * @param probabilityOfFalsePositive target probability of the Bloom
+         *                                   filter
+         * @return lookup builder
+         */
+        static <K> Builder<K> builder(final TypeEncoder<K> keyEncoder,
+                final double probabilityOfFalsePositive) {
+            return new Builder<>(keyEncoder, probabilityOfFalsePositive);
+        }
+
+        /**
+         * Finds the chunk whose first key is the greatest one not above the
+         * key.
+         *
+         * @return chunk index, or {@code -1} when the key precedes the file
+         */
+        private int findChunk(final K key, final Comparator<K> keyComparator) {
+            int low = 0;
+            int high = chunkFirstKeys.size() - 1;
+            int found = -1;
+            while (low <= high) {
+                final int mid = (low + high) >>> 1;
+                if (keyComparator.compare(chunkFirstKeys.get(mid), key) <= 0) {
+                    found = mid;
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return found;
+        }
+
+        /**
+         * Collects the keys of a file chunk by chunk.
+         *
+         * @param <K> key type
+         */
+        static final class Builder<K> {
+
+            private final BloomFilterInMemory.Builder<K> bloomFilter;
+            private final List<K> chunkFirstKeys = new ArrayList<>();
+            private final List<Long> chunkPositions = new ArrayList<>();
+            private final List<Integer> chunkEntryCounts = new ArrayList<>();
+            private K firstKeyInChunk;
+            private int keysInChunk;
+
+            private Builder(final TypeEncoder<K> keyEncoder,
+                    final double probabilityOfFalsePositive) {
+                this.bloomFilter = BloomFilterInMemory.builder(keyEncoder,
+                        probabilityOfFalsePositive);
+            }
+
+            /**
+             * Adds the next key of the current chunk.
+             *
+             * @param key required key
+             */
+            void addKey(final K key) {
+                Vldtn.requireNonNull(key, "key");
+                if (keysInChunk == 0) {
+                    firstKeyInChunk = key;
+                }
+                bloomFilter.add(key);
+                keysInChunk++;
+            }
+
+            /**
+             * Closes the current chunk. Empty chunks are skipped.
+             *
+             * @param position position the chunk starts at
+             */
+            void endChunk(final long position) {
+                if (keysInChunk == 0) {
+                    return;
+                }
+                chunkFirstKeys.add(firstKeyInChunk);
+                chunkPositions.add(position);
+                chunkEntryCounts.add(keysInChunk);
+                firstKeyInChunk = null;
+                keysInChunk = 0;
+            }
+
+            /**
+             * Builds the lookup from the closed chunks.
+             *
+             * @return lookup
+             */
+            Lookup<K> build() {
+                return new Lookup<>(bloomFilter.build(), chunkFirstKeys,
+                        chunkPositions.stream().mapToLong(Long::longValue)
+                                .toArray(),
+                        chunkEntryCounts.stream().mapToInt(Integer::intValue)
+                                .toArray());
+            }
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package org.hestiastore.index.segment;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.hestiastore.index.Entry;
+import org.hestiastore.index.Vldtn;
+import org.hestiastore.index.bloomfilter.BloomFilterBuilder;
+
+/**
+ * Delta cache files of a segment searched on disk.
+ * <p>
+ * Replaces loading every delta file into the segment cache when
+ * {@link SegmentConf#isDeltaCacheOnDisk()} is set. Point lookups ask the files
+ * from the newest to the oldest one and stop at the first hit, so a newer
+ * value or tombstone hides older ones the same way the in-memory delta cache
+ * does. Iteration opens one sorted iterator per file and merges them, so only
+ * the current chunk of every file is in memory.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+final class SegmentDeltaCacheFiles<K, V> {
+
+    private final SegmentFiles<K, V> segmentFiles;
+    private final SegmentPropertiesManager segmentPropertiesManager;
+    private final double probabilityOfFalsePositive;
+    private final Map<String, SegmentDeltaCacheFile.Lookup<K>> writtenLookups = new HashMap<>();
+    private volatile List<SegmentDeltaCacheFile<K, V>> files = List.of();
+
+    /**
+     * Creates the delta files view and registers the files listed in the
+     * segment properties.
+     *
+     * @param segmentFiles             segment file access wrapper
+     * @param segmentPropertiesManager properties manager for delta file names
+     * @param segmentConf              segment configuration
+     */
+    SegmentDeltaCacheFiles(final SegmentFiles<K, V> segmentFiles,
+            final SegmentPropertiesManager segmentPropertiesManager,
+            final SegmentConf segmentConf) {
+        this.segmentFiles = Vldtn.requireNonNull(segmentFiles, "segmentFiles");
+        this.segmentPropertiesManager = Vldtn.requireNonNull(
+                segmentPropertiesManager, "segmentPropertiesManager");
+        Vldtn.requireNonNull(segmentConf, "segmentConf");
+        this.probabilityOfFalsePositive = segmentConf
+                .hasBloomFilterProbabilityOfFalsePositive()
+                        ? segmentConf.getBloomFilterProbabilityOfFalsePositive()
+                        : BloomFilterBuilder.DEFAULT_PROBABILITY_OF_FALSE_POSITIVE;
+        refresh();
+    }
+
+    /**
+     * Creates a lookup builder for a delta file being written.
+     *
+     * @return lookup builder
+     */
+    SegmentDeltaCacheFile.Lookup.Builder<K> newLookupBuilder() {
+        return SegmentDeltaCacheFile.Lookup.builder(
+                segmentFiles.getKeyTypeDescriptor().getTypeEncoder(),
+                probabilityOfFalsePositive);
+    }
+
+    /**
+     * Hands over the lookup of a freshly written delta file, so the next
+     * {@link #refresh()} registers the file without reading it back.
+     *
+     * @param fileName written delta file name
+     * @param lookup   lookup built while writing
+     */
+    synchronized void addWrittenFile(final String fileName,
+            final SegmentDeltaCacheFile.Lookup<K> lookup) {
+        writtenLookups.put(Vldtn.requireNotBlank(fileName, "fileName"),
+                Vldtn.requireNonNull(lookup, "lookup"));
+    }
+
+    /**
+     * Re-reads the delta file names from the segment properties. Files that
+     * are already known keep their lookup structures, files no longer listed
+     * are retired.
+     */
+    synchronized void refresh() {
+        final Map<String, SegmentDeltaCacheFile<K, V>> known = new HashMap<>();
+        files.forEach(file -> known.put(file.getFileName(), file));
+        final List<SegmentDeltaCacheFile<K, V>> refreshed = new ArrayList<>();
+        for (final String fileName : segmentPropertiesManager
+                .getCacheDeltaFileNames()) {
+            final SegmentDeltaCacheFile<K, V> file = known.remove(fileName);
+            refreshed.add(file == null ? openFile(fileName) : file);
+        }
+        files = List.copyOf(refreshed);
+        writtenLookups.clear();
+        known.values().forEach(SegmentDeltaCacheFile::retire);
+    }
+
+    /**
+     * Forgets and retires all delta files. Called before the files are
+     * deleted.
+     */
+    synchronized void clear() {
+        final List<SegmentDeltaCacheFile<K, V>> previous = files;
+        files = List.of();
+        writtenLookups.clear();
+        previous.forEach(SegmentDeltaCacheFile::retire);
+    }
+
+    /**
+     * Releases the readers of all delta files when the segment closes. Reads
+     * in progress finish first, later reads find no delta entries.
+     */
+    void closeReaders() {
+        files.forEach(SegmentDeltaCacheFile::retire);
+    }
+
+    /**
+     * Returns whether no delta file is registered.
+     *
+     * @return true without delta files
+     */
+    boolean isEmpty() {
+        return files.isEmpty();
+    }
+
+    /**
+     * Returns the number of keys written to the delta files, as recorded in
+     * the segment properties. Keys updated in several files are counted once
+     * per file.
+     *
+     * @return number of delta keys
+     */
+    int getNumberOfKeys() {
+        if (files.isEmpty()) {
+            return 0;
+        }
+        return (int) Math.min(Integer.MAX_VALUE,
+                segmentPropertiesManager.getNumberOfKeysInDeltaCache());
+    }
+
+    /**
+     * Searches the delta files from the newest one.
+     *
+     * @param key required key
+     * @return newest stored value, possibly a tombstone, or {@code null}
+     */
+    V get(final K key) {
+        Vldtn.requireNonNull(key, "key");
+        final List<SegmentDeltaCacheFile<K, V>> current = files;
+        for (int i = current.size() - 1; i >= 0; i--) {
+            final V value = current.get(i).get(key);
+            if (value != null) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Opens one sorted iterator per delta file, the newest file first.
+     *
+     * @param descending true for descending key order
+     * @return iterators ordered from the newest to the oldest file
+     */
+    List<Iterator<Entry<K, V>>> openIterators(final boolean descending) {
+        final List<SegmentDeltaCacheFile<K, V>> current = files;
+        final List<Iterator<Entry<K, V>>> iterators = new ArrayList<>(
+                current.size());
+        for (int i = current.size() - 1; i >= 0; i--) {
+            iterators.add(current.get(i).openIterator(descending));
+        }
+        return iterators;
+    }
+
+    private SegmentDeltaCacheFile<K, V> openFile(final String fileName) {
+        return new SegmentDeltaCacheFile<>(fileName,
+                segmentFiles.getDeltaCacheChunkEntryFile(fileName),
+                segmentFiles.getDirectory(),
+                segmentFiles.getKeyTypeDescriptor(),
+                probabilityOfFalsePositive, writtenLookups.get(fileName));
+    }
+}
@@ -7,6 +7,7 @@ import org.hestiastore.index.Vldtn;
 import org.hestiastore.index.cache.UniqueCache;
 import org.hestiastore.index.chunkentryfile.ChunkEntryFileWriter;
 import org.hestiastore.index.chunkentryfile.ChunkEntryFileWriterTx;
+import org.hestiastore.index.chunkstore.CellPosition;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -33,6 +34,7 @@ final class SegmentDeltaCacheWriter<K, V> extends AbstractCloseableResource
     private final SegmentPropertiesManager segmentPropertiesManager;
     private final SegmentFiles<K, V> segmentFiles;
     private final int maxNumberOfKeysInChunk;
+    private final SegmentDeltaCacheFiles<K, V> deltaCacheFiles;
 
     /**
      * How many keys was added to delta cache.
@@ -61,6 +63,35 @@ final class SegmentDeltaCacheWriter<K, V> extends AbstractCloseableResource
             final SegmentPropertiesManager segmentPropertiesManager,
             final int maxNumberOfKeysInSegmentWriteCache,
             final int maxNumberOfKeysInChunk) {
+        this(segmentFiles, segmentPropertiesManager,
+                maxNumberOfKeysInSegmentWriteCache, maxNumberOfKeysInChunk,
+                null);
+    }
+
+    /**
+     * Creates a writer that also builds the lookup of the written file for
+     * on-disk delta files, so they don't read the file back.
+     *
+     * @param segmentFiles                       required segment files accessor
+     * @param segmentPropertiesManager           required properties manager for
+     *                                           stats and file names
+     * @param maxNumberOfKeysInSegmentWriteCache expected upper bound of keys
+     *                                           collected in this delta file;
+     *                                           must be greater than 0
+     * @param maxNumberOfKeysInChunk             number of entries stored in a
+     *                                           single chunk; must be greater
+     *                                           than 0
+     * @param deltaCacheFiles                    on-disk delta files receiving
+     *                                           the lookup, may be null
+     * @throws IllegalArgumentException when any argument is invalid or the
+     *                                  provided max is not greater than 0
+     */
+    SegmentDeltaCacheWriter(final SegmentFiles<K, V> segmentFiles,
+            final SegmentPropertiesManager segmentPropertiesManager,
+            final int maxNumberOfKeysInSegmentWriteCache,
+            final int maxNumberOfKeysInChunk,
+            final SegmentDeltaCacheFiles<K, V> deltaCacheFiles) {
+        this.deltaCacheFiles = deltaCacheFiles;
         this.segmentPropertiesManager = Vldtn.requireNonNull(
                 segmentPropertiesManager, "segmentPropertiesManager");
         this.segmentFiles = Vldtn.requireNonNull(segmentFiles, "segmentFiles");
@@ -109,21 +140,30 @@ final class SegmentDeltaCacheWriter<K, V> extends AbstractCloseableResource
         }
         final ChunkEntryFileWriterTx<K, V> writerTx = segmentFiles
                 .getDeltaCacheChunkEntryFile(deltaFileName).openWriterTx();
+        final SegmentDeltaCacheFile.Lookup.Builder<K> lookup = deltaCacheFiles == null
+                ? null
+                : deltaCacheFiles.newLookupBuilder();
         try (ChunkEntryFileWriter<K, V> writer = writerTx.openWriter()) {
             int entriesInChunk = 0;
             for (final Entry<K, V> entry : uniqueCache.getAsSortedList()) {
                 writer.write(entry);
+                if (lookup != null) {
+                    lookup.addKey(entry.getKey());
+                }
                 entriesInChunk++;
                 if (entriesInChunk >= maxNumberOfKeysInChunk) {
-                    writer.flush();
+                    endChunk(writer.flush(), lookup);
                     entriesInChunk = 0;
                 }
             }
             if (entriesInChunk > 0) {
-                writer.flush();
+                endChunk(writer.flush(), lookup);
             }
         }
         writerTx.commit();
+        if (lookup != null) {
+            deltaCacheFiles.addWrittenFile(deltaFileName, lookup.build());
+        }
         // Update segment metadata in one transaction.
         final int nextDeltaFileCount = previousDeltaFileCount + 1;
         final long nextDeltaCacheKeys = segmentPropertiesManager
@@ -141,6 +181,13 @@ final class SegmentDeltaCacheWriter<K, V> extends AbstractCloseableResource
         uniqueCache.clear();
     }
 
+    private void endChunk(final CellPosition position,
+            final SegmentDeltaCacheFile.Lookup.Builder<K> lookup) {
+        if (lookup != null) {
+            lookup.endChunk(position.getValue());
+        }
+    }
+
     /**
      * Adds an entry to the buffered delta cache and the in-memory cache view.
      *
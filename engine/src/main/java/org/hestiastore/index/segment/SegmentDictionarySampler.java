@@ -0,0 +1,115 @@
+package org.hestiastore.index.segment;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hestiastore.index.Entry;
+import org.hestiastore.index.Vldtn;
+import org.hestiastore.index.chunkentryfile.SingleChunkEntryWriterImpl;
+import org.hestiastore.index.chunkstore.ChunkCompressionDictionary;
+import org.hestiastore.index.chunkstore.ChunkDictionaryTrainer;
+import org.hestiastore.index.datatype.TypeDescriptor;
+
+/**
+ * Collects the leading entries of a full segment write and turns them into
+ * sample chunk payloads for dictionary training.
+ *
+ * <p>
+ * Entries are grouped into chunks of the same size the index writer uses, so
+ * the samples look exactly like the payloads the compression filter will
+ * see. Sampling stops after {@link #MAX_SAMPLE_CHUNKS} chunks or
+ * {@link #MAX_SAMPLE_BYTES} bytes, which bounds both the buffered entries and
+ * the training time.
+ * </p>
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+final class SegmentDictionarySampler<K, V> {
+
+    static final int MAX_SAMPLE_CHUNKS = 64;
+    static final int MAX_SAMPLE_BYTES = 256 * 1024;
+
+    private final TypeDescriptor<K> keyTypeDescriptor;
+    private final TypeDescriptor<V> valueTypeDescriptor;
+    private final int keysPerChunk;
+    private final ChunkDictionaryTrainer trainer = new ChunkDictionaryTrainer();
+    private final List<Entry<K, V>> entries = new ArrayList<>();
+    private SingleChunkEntryWriterImpl<K, V> chunkWriter;
+    private int chunkEntries;
+
+    /**
+     * Creates a sampler.
+     *
+     * @param keyTypeDescriptor   key type descriptor
+     * @param valueTypeDescriptor value type descriptor
+     * @param keysPerChunk        number of entries in one index chunk
+     */
+    SegmentDictionarySampler(final TypeDescriptor<K> keyTypeDescriptor,
+            final TypeDescriptor<V> valueTypeDescriptor,
+            final int keysPerChunk) {
+        this.keyTypeDescriptor = Vldtn.requireNonNull(keyTypeDescriptor,
+                "keyTypeDescriptor");
+        this.valueTypeDescriptor = Vldtn.requireNonNull(valueTypeDescriptor,
+                "valueTypeDescriptor");
+        this.keysPerChunk = Vldtn.requireGreaterThanZero(keysPerChunk,
+                "keysPerChunk");
+    }
+
+    /**
+     * Buffers an entry and adds it to the current sample chunk.
+     *
+     * @param entry entry to sample
+     */
+    void add(final Entry<K, V> entry) {
+        entries.add(Vldtn.requireNonNull(entry, "entry"));
+        if (chunkWriter == null) {
+            chunkWriter = new SingleChunkEntryWriterImpl<>(keyTypeDescriptor,
+                    valueTypeDescriptor);
+        }
+        chunkWriter.put(entry);
+        chunkEntries++;
+        if (chunkEntries == keysPerChunk) {
+            closeChunk();
+        }
+    }
+
+    /**
+     * Returns whether enough samples were collected.
+     *
+     * @return {@code true} when sampling should stop
+     */
+    boolean isComplete() {
+        return trainer.getSampleCount() >= MAX_SAMPLE_CHUNKS
+                || trainer.getSampleBytes() >= MAX_SAMPLE_BYTES;
+    }
+
+    /**
+     * Trains the dictionary from the collected samples, including a trailing
+     * partial chunk.
+     *
+     * @return trained dictionary, empty when there is too little data
+     */
+    ChunkCompressionDictionary train() {
+        closeChunk();
+        return trainer.train();
+    }
+
+    /**
+     * Returns the buffered entries in the order they were added.
+     *
+     * @return buffered entries
+     */
+    List<Entry<K, V>> getEntries() {
+        return entries;
+    }
+
+    private void closeChunk() {
+        if (chunkWriter == null) {
+            return;
+        }
+        trainer.addSample(chunkWriter.closeSequence());
+        chunkWriter = null;
+        chunkEntries = 0;
+    }
+}
@@ -10,8 +10,10 @@ import org.hestiastore.index.Vldtn;
 public final class SegmentDirectoryLayout {
 
     private static final String INDEX_FILE_NAME_SUFFIX = "-index.sst";
-    private static final String SCARCE_FILE_NAME_SUFFIX = "-scarce.sst";
+    private static final String SCARCE_FILE_NAME_SUFFIX = "-scarce64.sst";
+    private static final String LEGACY_SCARCE_FILE_NAME_SUFFIX = "-scarce.sst";
     private static final String BLOOM_FILTER_FILE_NAME_SUFFIX = "-bloom-filter.bin";
+    private static final String COMPRESSION_DICTIONARY_FILE_NAME_SUFFIX = "-dictionary.bin";
     private static final String MANIFEST_FILE_NAME = "manifest.txt";
     private static final String LOCK_FILE_NAME_EXTENSION = ".lock";
     private static final String ACTIVE_POINTER_FILE_NAME_EXTENSION = ".active";
@@ -79,6 +81,17 @@ public final class SegmentDirectoryLayout {
         return buildVersionedName(version, SCARCE_FILE_NAME_SUFFIX);
     }
 
+    /**
+     * Returns the name of the scarce index file written with {@code int}
+     * positions before they were widened to {@code long}.
+     *
+     * @param version active version encoded as zero-padded decimal
+     * @return legacy scarce index file name
+     */
+    public String getLegacyScarceFileName(final long version) {
+        return buildVersionedName(version, LEGACY_SCARCE_FILE_NAME_SUFFIX);
+    }
+
     /**
      * Returns the bloom filter file name.
      *
@@ -98,6 +111,17 @@ public final class SegmentDirectoryLayout {
         return buildVersionedName(version, BLOOM_FILTER_FILE_NAME_SUFFIX);
     }
 
+    /**
+     * Returns the compression dictionary file name for the given version.
+     *
+     * @param version active version encoded as zero-padded decimal
+     * @return compression dictionary file name
+     */
+    public String getCompressionDictionaryFileName(final long version) {
+        return buildVersionedName(version,
+                COMPRESSION_DICTIONARY_FILE_NAME_SUFFIX);
+    }
+
     /**
      * Returns the properties file name.
      *
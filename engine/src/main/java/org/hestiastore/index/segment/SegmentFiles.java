@@ -1,29 +1,42 @@
 package org.hestiastore.index.segment;
 
+import java.io.ByteArrayOutputStream;
 import java.util.List;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import org.hestiastore.index.Vldtn;
 import org.hestiastore.index.chunkentryfile.ChunkEntryFile;
+import org.hestiastore.index.chunkstore.ChunkCompressionDictionary;
 import org.hestiastore.index.chunkstore.ChunkFilter;
 import org.hestiastore.index.chunkstore.ChunkFilterChainFactory;
+import org.hestiastore.index.chunkstore.ChunkFilterSuppliers;
 import org.hestiastore.index.chunkstore.ChunkStoreFile;
 import org.hestiastore.index.datablockfile.DataBlockSize;
 import org.hestiastore.index.datatype.TypeDescriptor;
 import org.hestiastore.index.directory.Directory;
+import org.hestiastore.index.directory.FileReader;
+import org.hestiastore.index.directory.FileWriter;
 import org.hestiastore.index.scarceindex.ScarceSegmentIndex;
 import org.hestiastore.index.sorteddatafile.SortedDataFile;
 
 /**
  * Accessor and factory for all files that belong to a single segment (delta
- * cache files, index, scarce index, bloom filter, properties).
+ * cache files, index, scarce index, bloom filter, compression dictionary,
+ * properties).
  *
  * <p>
  * Provides file names, typed file handles and common configuration used across
  * these files.
  * </p>
  *
+ * <p>
+ * When the chunk filters include a dictionary-aware filter, every index
+ * version has its own compression dictionary, trained while the version is
+ * written. Index handles bind that dictionary to their filters; delta cache
+ * files are short-lived and stay unbound.
+ * </p>
+ *
  * @param <K> key type stored in the segment
  * @param <V> value type stored in the segment
  */
@@ -31,6 +44,8 @@ import org.hestiastore.index.sorteddatafile.SortedDataFile;
 public final class SegmentFiles<K, V> {
 
     static final String CACHE_FILE_NAME_EXTENSION = ".cache";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final int DICTIONARY_READ_BUFFER_SIZE = 4 * 1024;
     private static final String ENCODING_CHUNK_FILTERS_ARG =
             "encodingChunkFilters";
     private static final String DECODING_CHUNK_FILTERS_ARG =
@@ -45,6 +60,9 @@ public final class SegmentFiles<K, V> {
     private final int diskIoBufferSize;
     private final ChunkFilterChainFactory encodingChunkFilters;
     private final ChunkFilterChainFactory decodingChunkFilters;
+    private final int chunkRestartInterval;
+    private volatile Boolean compressionDictionaryUsed;
+    private volatile LoadedDictionary loadedDictionary;
 
     /**
      * Create accessor for segment files stored in a single segment directory.
@@ -181,6 +199,20 @@ public final class SegmentFiles<K, V> {
             final int diskIoBufferSize,
             final ChunkFilterChainFactory encodingChunkFilters,
             final ChunkFilterChainFactory decodingChunkFilters) {
+        this(directoryFacade, layout, activeVersion, keyTypeDescriptor,
+                valueTypeDescriptor, diskIoBufferSize, encodingChunkFilters,
+                decodingChunkFilters, 0);
+    }
+
+    private SegmentFiles(final Directory directoryFacade,
+            final SegmentDirectoryLayout layout,
+            final long activeVersion,
+            final TypeDescriptor<K> keyTypeDescriptor,
+            final TypeDescriptor<V> valueTypeDescriptor,
+            final int diskIoBufferSize,
+            final ChunkFilterChainFactory encodingChunkFilters,
+            final ChunkFilterChainFactory decodingChunkFilters,
+            final int chunkRestartInterval) {
         this.directoryFacade = Vldtn.requireNonNull(directoryFacade,
                 "directoryFacade");
         this.activeVersion = activeVersion;
@@ -195,6 +227,8 @@ public final class SegmentFiles<K, V> {
                 ENCODING_CHUNK_FILTERS_ARG);
         this.decodingChunkFilters = Vldtn.requireNonNull(decodingChunkFilters,
                 DECODING_CHUNK_FILTERS_ARG);
+        this.chunkRestartInterval = Vldtn.requireGreaterThanOrEqualToZero(
+                chunkRestartInterval, "chunkRestartInterval");
     }
 
     /**
@@ -206,6 +240,15 @@ public final class SegmentFiles<K, V> {
         return layout.getScarceFileName(activeVersion);
     }
 
+    /**
+     * File name of the scarce index written with {@code int} positions.
+     *
+     * @return legacy scarce index file name
+     */
+    String getLegacyScarceFileName() {
+        return layout.getLegacyScarceFileName(activeVersion);
+    }
+
     /**
      * File name for the Bloom filter file.
      *
@@ -224,6 +267,15 @@ public final class SegmentFiles<K, V> {
         return layout.getIndexFileName(activeVersion);
     }
 
+    /**
+     * File name for the compression dictionary of the active version.
+     *
+     * @return compression dictionary file name
+     */
+    String getCompressionDictionaryFileName() {
+        return layout.getCompressionDictionaryFileName(activeVersion);
+    }
+
     /**
      * File name for the segment properties file.
      *
@@ -258,7 +310,8 @@ public final class SegmentFiles<K, V> {
                 decodingChunkFilters.getSuppliers());
         return new ChunkEntryFile<>(chunkStoreFile, keyTypeDescriptor,
                 valueTypeDescriptor,
-                DataBlockSize.ofDataBlockSize(diskIoBufferSize));
+                DataBlockSize.ofDataBlockSize(diskIoBufferSize),
+                chunkRestartInterval);
     }
 
     /**
@@ -270,6 +323,7 @@ public final class SegmentFiles<K, V> {
         return ScarceSegmentIndex.<K>builder()//
                 .withDirectory(directoryFacade)//
                 .withFileName(getScarceFileName())//
+                .withLegacyFileName(getLegacyScarceFileName())//
                 .withKeyTypeDescriptor(getKeyTypeDescriptor())//
                 .withDiskIoBufferSize(diskIoBufferSize) //
                 .build();
@@ -281,14 +335,130 @@ public final class SegmentFiles<K, V> {
      * @return chunk-entry file for the index
      */
     ChunkEntryFile<K, V> getIndexFile() {
+        if (!isCompressionDictionaryUsed()) {
+            return openIndexFile(encodingChunkFilters.getSuppliers(),
+                    decodingChunkFilters.getSuppliers());
+        }
+        final long version = activeVersion;
+        final Supplier<ChunkCompressionDictionary> dictionary = () ->
+                readCompressionDictionary(version);
+        return openIndexFile(
+                ChunkFilterSuppliers.withDictionary(
+                        encodingChunkFilters.getSuppliers(), dictionary),
+                ChunkFilterSuppliers.withDictionary(
+                        decodingChunkFilters.getSuppliers(), dictionary));
+    }
+
+    /**
+     * Open a handle for the main segment index file bound to an explicit
+     * compression dictionary. Used while a version is written, before its
+     * dictionary file exists.
+     *
+     * @param dictionary required dictionary, possibly empty
+     * @return chunk-entry file for the index
+     */
+    ChunkEntryFile<K, V> getIndexFile(
+            final ChunkCompressionDictionary dictionary) {
+        Vldtn.requireNonNull(dictionary, "dictionary");
+        return openIndexFile(
+                ChunkFilterSuppliers.withDictionary(
+                        encodingChunkFilters.getSuppliers(), () -> dictionary),
+                ChunkFilterSuppliers.withDictionary(
+                        decodingChunkFilters.getSuppliers(),
+                        () -> dictionary));
+    }
+
+    private ChunkEntryFile<K, V> openIndexFile(
+            final List<Supplier<? extends ChunkFilter>> encodingSuppliers,
+            final List<Supplier<? extends ChunkFilter>> decodingSuppliers) {
         final ChunkStoreFile chunkStoreFile = ChunkStoreFile.fromSuppliers(
                 directoryFacade, getIndexFileName(),
                 DataBlockSize.ofDataBlockSize(diskIoBufferSize),
-                encodingChunkFilters.getSuppliers(),
-                decodingChunkFilters.getSuppliers());
+                encodingSuppliers, decodingSuppliers);
         return new ChunkEntryFile<>(chunkStoreFile, keyTypeDescriptor,
                 valueTypeDescriptor,
-                DataBlockSize.ofDataBlockSize(diskIoBufferSize));
+                DataBlockSize.ofDataBlockSize(diskIoBufferSize),
+                chunkRestartInterval);
+    }
+
+    /**
+     * Returns whether the configured chunk filters need a per-version
+     * compression dictionary.
+     *
+     * @return {@code true} when a dictionary-aware filter is configured
+     */
+    boolean isCompressionDictionaryUsed() {
+        Boolean used = compressionDictionaryUsed;
+        if (used == null) {
+            used = ChunkFilterSuppliers
+                    .usesDictionary(encodingChunkFilters.getSuppliers())
+                    || ChunkFilterSuppliers.usesDictionary(
+                            decodingChunkFilters.getSuppliers());
+            compressionDictionaryUsed = used;
+        }
+        return used;
+    }
+
+    /**
+     * Reads the compression dictionary of the active version. The result is
+     * cached until the active version changes.
+     *
+     * @return dictionary, empty when the version has none
+     */
+    ChunkCompressionDictionary readCompressionDictionary() {
+        return readCompressionDictionary(activeVersion);
+    }
+
+    private ChunkCompressionDictionary readCompressionDictionary(
+            final long version) {
+        final LoadedDictionary loaded = loadedDictionary;
+        if (loaded != null && loaded.version == version) {
+            return loaded.dictionary;
+        }
+        final String fileName = layout
+                .getCompressionDictionaryFileName(version);
+        ChunkCompressionDictionary dictionary = ChunkCompressionDictionary
+                .empty();
+        if (directoryFacade.isFileExists(fileName)) {
+            final ByteArrayOutputStream content = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[DICTIONARY_READ_BUFFER_SIZE];
+            try (FileReader reader = directoryFacade.getFileReader(fileName)) {
+                int read = reader.read(buffer);
+                while (read >= 0) {
+                    content.write(buffer, 0, read);
+                    read = reader.read(buffer);
+                }
+            }
+            dictionary = ChunkCompressionDictionary.of(content.toByteArray());
+        }
+        loadedDictionary = new LoadedDictionary(version, dictionary);
+        return dictionary;
+    }
+
+    /**
+     * Stores the compression dictionary of the active version. The file is
+     * written under a temporary name and renamed, so readers never see a
+     * partial dictionary. An empty dictionary removes any stale file.
+     *
+     * @param dictionary required dictionary
+     */
+    void writeCompressionDictionary(
+            final ChunkCompressionDictionary dictionary) {
+        Vldtn.requireNonNull(dictionary, "dictionary");
+        final long version = activeVersion;
+        final String fileName = layout
+                .getCompressionDictionaryFileName(version);
+        if (dictionary.isEmpty()) {
+            optionallyDeleteFile(fileName);
+        } else {
+            final String tempFileName = fileName + TEMP_FILE_SUFFIX;
+            try (FileWriter writer = directoryFacade
+                    .getFileWriter(tempFileName)) {
+                writer.write(dictionary.toByteArray());
+            }
+            directoryFacade.renameFile(tempFileName, fileName);
+        }
+        loadedDictionary = new LoadedDictionary(version, dictionary);
     }
 
     /**
@@ -328,7 +498,22 @@ public final class SegmentFiles<K, V> {
     SegmentFiles<K, V> copyWithVersion(final long version) {
         return new SegmentFiles<>(directoryFacade, layout, version,
                 keyTypeDescriptor, valueTypeDescriptor, diskIoBufferSize,
-                encodingChunkFilters, decodingChunkFilters);
+                encodingChunkFilters, decodingChunkFilters,
+                chunkRestartInterval);
+    }
+
+    /**
+     * Creates a copy of this accessor that writes index and delta cache chunks
+     * with restart points.
+     *
+     * @param restartInterval number of entries between restart points,
+     *                        {@code 0} keeps the legacy chunk layout
+     * @return copied accessor using the requested restart interval
+     */
+    SegmentFiles<K, V> withChunkRestartInterval(final int restartInterval) {
+        return new SegmentFiles<>(directoryFacade, layout, activeVersion,
+                keyTypeDescriptor, valueTypeDescriptor, diskIoBufferSize,
+                encodingChunkFilters, decodingChunkFilters, restartInterval);
     }
 
     /**
@@ -458,5 +643,15 @@ public final class SegmentFiles<K, V> {
                 || fileName.startsWith("v");
     }
 
+    private static final class LoadedDictionary {
+
+        private final long version;
+        private final ChunkCompressionDictionary dictionary;
 
+        private LoadedDictionary(final long version,
+                final ChunkCompressionDictionary dictionary) {
+            this.version = version;
+            this.dictionary = dictionary;
+        }
+    }
 }
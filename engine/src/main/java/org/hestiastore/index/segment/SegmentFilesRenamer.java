@@ -16,8 +16,8 @@ public class SegmentFilesRenamer {
 
     /**
      * Renames all files from the 'from' SegmentFiles to the 'to' SegmentFiles.
-     * This includes index, scarce index, bloom filter, properties, and delta
-     * cache files.
+     * This includes index, scarce index, bloom filter, compression
+     * dictionary, properties, and delta cache files.
      *
      * @param from           the source SegmentFiles
      * @param to             the target SegmentFiles
@@ -40,9 +40,13 @@ public class SegmentFilesRenamer {
             dirFacade.renameFile(fileName, targetFileName);
         });
         dirFacade.renameFile(from.getIndexFileName(), to.getIndexFileName());
-        dirFacade.renameFile(from.getScarceFileName(), to.getScarceFileName());
+        renameScarceFiles(dirFacade, from, to);
         dirFacade.renameFile(from.getBloomFilterFileName(),
                 to.getBloomFilterFileName());
+        if (dirFacade.isFileExists(from.getCompressionDictionaryFileName())) {
+            dirFacade.renameFile(from.getCompressionDictionaryFileName(),
+                    to.getCompressionDictionaryFileName());
+        }
         if (logger.isDebugEnabled()) {
             logger.debug(
                     "Segment properties rename: from='{}' to='{}' thread='{}'",
@@ -53,6 +57,24 @@ public class SegmentFilesRenamer {
                 to.getPropertiesFilename());
     }
 
+    /**
+     * Renames the scarce index file. Segments not rewritten since positions
+     * were widened still hold the legacy file, which keeps its legacy name.
+     */
+    private void renameScarceFiles(final Directory dirFacade,
+            final SegmentFiles<?, ?> from, final SegmentFiles<?, ?> to) {
+        final boolean legacyExists = dirFacade
+                .isFileExists(from.getLegacyScarceFileName());
+        if (legacyExists) {
+            dirFacade.renameFile(from.getLegacyScarceFileName(),
+                    to.getLegacyScarceFileName());
+        }
+        if (!legacyExists || dirFacade.isFileExists(from.getScarceFileName())) {
+            dirFacade.renameFile(from.getScarceFileName(),
+                    to.getScarceFileName());
+        }
+    }
+
     /**
      * Rewrites a delta file name from the source prefix to the target prefix
      * when the source prefix is present.
@@ -1,6 +1,7 @@
 package org.hestiastore.index.segment;
 
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 
 import org.hestiastore.index.AbstractCloseableResource;
 import org.hestiastore.index.Entry;
@@ -10,6 +11,7 @@ import org.hestiastore.index.bloomfilter.BloomFilterWriter;
 import org.hestiastore.index.bloomfilter.BloomFilterWriterTx;
 import org.hestiastore.index.chunkentryfile.ChunkEntryFileWriter;
 import org.hestiastore.index.chunkstore.CellPosition;
+import org.hestiastore.index.chunkstore.ChunkCompressionDictionary;
 
 /**
  * Allows to rewrite whole segment context including:
@@ -20,6 +22,12 @@ import org.hestiastore.index.chunkstore.CellPosition;
  * <li>clean cache</li>
  * <ul>
  * .
+ * <p>
+ * When the chunk filters compress with a per-version dictionary, the leading
+ * entries are buffered until enough sample chunks were seen, the dictionary is
+ * trained from them and only then the index writer is opened and the buffered
+ * entries are written.
+ * </p>
  * 
  * @param <K> key type
  * @param <V> value type
@@ -31,11 +39,17 @@ class SegmentFullWriter<K, V> extends AbstractCloseableResource
 
     private final AtomicLong scarceIndexKeyCounter = new AtomicLong(0L);
     private final AtomicLong keyCounter = new AtomicLong(0L);
-    private final EntryWriter<K, Integer> scarceWriter;
-    private final ChunkEntryFileWriter<K, V> indexWriter;
+    private final EntryWriter<K, Long> scarceWriter;
+    private ChunkEntryFileWriter<K, V> indexWriter;
+    private SegmentDictionarySampler<K, V> dictionarySampler;
+    private final Function<ChunkCompressionDictionary, ChunkEntryFileWriter<K, V>> indexWriterFactory;
+    private ChunkCompressionDictionary compressionDictionary = ChunkCompressionDictionary
+            .empty();
     private final BloomFilterWriterTx<K> bloomFilterWriterTx;
     private final BloomFilterWriter<K> bloomFilterWriter;
+    private final CompactionCacheWarmer<K, V> cacheWarmer;
     private Entry<K, V> lastPair = null;
+    private K chunkFirstKey = null;
 
     /**
      * Creates a writer that rebuilds the full segment content.
@@ -48,12 +62,71 @@ class SegmentFullWriter<K, V> extends AbstractCloseableResource
     SegmentFullWriter(final int maxNumberOfKeysInIndexPage,
             final SegmentResources<K> segmentCacheDataProvider,
             final ChunkEntryFileWriter<K, V> chunkPairFileWriter,
-            final EntryWriter<K, Integer> scarceWriter) {
+            final EntryWriter<K, Long> scarceWriter) {
+        this(maxNumberOfKeysInIndexPage, segmentCacheDataProvider,
+                chunkPairFileWriter, scarceWriter,
+                CompactionCacheWarmer.disabled());
+    }
+
+    /**
+     * Creates a writer that rebuilds the full segment content and caches the
+     * written chunks that replace hot pages.
+     *
+     * @param maxNumberOfKeysInIndexPage keys per index page for scarce index
+     * @param segmentCacheDataProvider provider for Bloom filter writer
+     * @param chunkPairFileWriter writer for the main index file
+     * @param scarceWriter writer for the scarce index
+     * @param cacheWarmer chunk cache warmer
+     */
+    SegmentFullWriter(final int maxNumberOfKeysInIndexPage,
+            final SegmentResources<K> segmentCacheDataProvider,
+            final ChunkEntryFileWriter<K, V> chunkPairFileWriter,
+            final EntryWriter<K, Long> scarceWriter,
+            final CompactionCacheWarmer<K, V> cacheWarmer) {
+        this(maxNumberOfKeysInIndexPage, segmentCacheDataProvider,
+                Vldtn.requireNonNull(chunkPairFileWriter, "indexWriter"),
+                null, null, scarceWriter, cacheWarmer);
+    }
+
+    /**
+     * Creates a writer that trains a compression dictionary from the leading
+     * entries before opening the main index writer.
+     *
+     * @param maxNumberOfKeysInIndexPage keys per index page for scarce index
+     * @param segmentCacheDataProvider provider for Bloom filter writer
+     * @param dictionarySampler sampler collecting the training chunks
+     * @param indexWriterFactory opens the index writer bound to the trained
+     *                           dictionary
+     * @param scarceWriter writer for the scarce index
+     * @param cacheWarmer chunk cache warmer
+     */
+    SegmentFullWriter(final int maxNumberOfKeysInIndexPage,
+            final SegmentResources<K> segmentCacheDataProvider,
+            final SegmentDictionarySampler<K, V> dictionarySampler,
+            final Function<ChunkCompressionDictionary, ChunkEntryFileWriter<K, V>> indexWriterFactory,
+            final EntryWriter<K, Long> scarceWriter,
+            final CompactionCacheWarmer<K, V> cacheWarmer) {
+        this(maxNumberOfKeysInIndexPage, segmentCacheDataProvider, null,
+                Vldtn.requireNonNull(dictionarySampler, "dictionarySampler"),
+                Vldtn.requireNonNull(indexWriterFactory,
+                        "indexWriterFactory"),
+                scarceWriter, cacheWarmer);
+    }
+
+    private SegmentFullWriter(final int maxNumberOfKeysInIndexPage,
+            final SegmentResources<K> segmentCacheDataProvider,
+            final ChunkEntryFileWriter<K, V> chunkPairFileWriter,
+            final SegmentDictionarySampler<K, V> dictionarySampler,
+            final Function<ChunkCompressionDictionary, ChunkEntryFileWriter<K, V>> indexWriterFactory,
+            final EntryWriter<K, Long> scarceWriter,
+            final CompactionCacheWarmer<K, V> cacheWarmer) {
+        this.cacheWarmer = Vldtn.requireNonNull(cacheWarmer, "cacheWarmer");
         this.maxNumberOfKeysInIndexPage = Vldtn.requireNonNull(
                 maxNumberOfKeysInIndexPage, "maxNumberOfKeysInIndexPage");
         this.scarceWriter = Vldtn.requireNonNull(scarceWriter, "scarceWriter");
-        this.indexWriter = Vldtn.requireNonNull(chunkPairFileWriter,
-                "indexWriter");
+        this.indexWriter = chunkPairFileWriter;
+        this.dictionarySampler = dictionarySampler;
+        this.indexWriterFactory = indexWriterFactory;
         Vldtn.requireNonNull(segmentCacheDataProvider,
                 "segmentCacheDataProvider");
         bloomFilterWriterTx = segmentCacheDataProvider.getBloomFilter()
@@ -73,7 +146,35 @@ class SegmentFullWriter<K, V> extends AbstractCloseableResource
 
         bloomFilterWriter.write(entry.getKey());
 
+        if (dictionarySampler != null) {
+            dictionarySampler.add(entry);
+            if (dictionarySampler.isComplete()) {
+                openTrainedIndexWriter();
+            }
+            return;
+        }
+        writeIndexEntry(entry);
+    }
+
+    /**
+     * Trains the dictionary from the sampled entries, opens the index writer
+     * with it and writes the buffered entries.
+     */
+    private void openTrainedIndexWriter() {
+        final SegmentDictionarySampler<K, V> sampler = dictionarySampler;
+        dictionarySampler = null;
+        compressionDictionary = sampler.train();
+        indexWriter = Vldtn.requireNonNull(
+                indexWriterFactory.apply(compressionDictionary),
+                "indexWriter");
+        sampler.getEntries().forEach(this::writeIndexEntry);
+    }
+
+    private void writeIndexEntry(final Entry<K, V> entry) {
         lastPair = entry;
+        if (chunkFirstKey == null) {
+            chunkFirstKey = entry.getKey();
+        }
 
         final long i = keyCounter.getAndIncrement() + 1;
         indexWriter.write(entry);
@@ -95,7 +196,12 @@ class SegmentFullWriter<K, V> extends AbstractCloseableResource
         final CellPosition position = indexWriter.flush();
         scarceWriter.write(Entry.of(lastPair.getKey(), position.getValue()));
         scarceIndexKeyCounter.incrementAndGet();
+        if (cacheWarmer.isActive()) {
+            cacheWarmer.onChunkWritten(chunkFirstKey, lastPair.getKey(),
+                    position.getValue(), indexWriter);
+        }
         lastPair = null;
+        chunkFirstKey = null;
     }
 
     /**
@@ -103,6 +209,9 @@ class SegmentFullWriter<K, V> extends AbstractCloseableResource
      */
     @Override
     protected void doClose() {
+        if (dictionarySampler != null) {
+            openTrainedIndexWriter();
+        }
         flush();
         // close all resources
         scarceWriter.close();
@@ -117,6 +226,15 @@ class SegmentFullWriter<K, V> extends AbstractCloseableResource
         bloomFilterWriterTx.commit();
     }
 
+    /**
+     * Returns the dictionary the index chunks were compressed with.
+     *
+     * @return trained dictionary, empty when no dictionary was trained
+     */
+    ChunkCompressionDictionary getCompressionDictionary() {
+        return compressionDictionary;
+    }
+
     /**
      * Returns the number of keys written to the main index.
      *
@@ -4,12 +4,21 @@ import org.hestiastore.index.EntryWriter;
 import org.hestiastore.index.GuardedWriteTransaction;
 import org.hestiastore.index.Vldtn;
 import org.hestiastore.index.WriteTransaction;
+import org.hestiastore.index.bloomfilter.BloomFilter;
+import org.hestiastore.index.chunkentryfile.ChunkEntryFileWriter;
 import org.hestiastore.index.chunkentryfile.ChunkEntryFileWriterTx;
+import org.hestiastore.index.chunkstore.ChunkCompressionDictionary;
 import org.hestiastore.index.scarceindex.ScarceIndexWriterTx;
 
 /**
  * Transaction that rebuilds the full segment index and metadata.
  *
+ * <p>
+ * When the chunk filters use a compression dictionary, the index writer is
+ * opened only after the dictionary was trained from the leading entries, and
+ * the dictionary file is committed before the index it belongs to.
+ * </p>
+ *
  * @param <K> key type
  * @param <V> value type
  */
@@ -17,12 +26,14 @@ public class SegmentFullWriterTx<K, V>
         extends GuardedWriteTransaction<EntryWriter<K, V>>
         implements WriteTransaction<K, V> {
 
+    private final SegmentFiles<K, V> segmentFiles;
     private final SegmentPropertiesManager segmentPropertiesManager;
     private final int maxNumberOfKeysInIndexPage;
     private final SegmentResources<K> segmentDataProvider;
     private final SegmentDeltaCacheController<K, V> deltaCacheController;
-    private final ChunkEntryFileWriterTx<K, V> chunkPairFileWriterTx;
+    private ChunkEntryFileWriterTx<K, V> chunkPairFileWriterTx;
     private final ScarceIndexWriterTx<K> scarceIndexWriterTx;
+    private final CompactionCacheWarmer<K, V> cacheWarmer;
     private SegmentFullWriter<K, V> segmentFullWriter;
 
     /**
@@ -39,6 +50,30 @@ public class SegmentFullWriterTx<K, V>
             final int maxNumberOfKeysInIndexPage,
             final SegmentResources<K> dataProvider,
             final SegmentDeltaCacheController<K, V> deltaCacheController) {
+        this(segmentFiles, propertiesManager, maxNumberOfKeysInIndexPage,
+                dataProvider, deltaCacheController,
+                CompactionCacheWarmer.disabled());
+    }
+
+    /**
+     * Creates a full writer transaction that also caches the written chunks
+     * replacing hot pages.
+     *
+     * @param segmentFiles segment file access wrapper
+     * @param propertiesManager properties manager for stats updates
+     * @param maxNumberOfKeysInIndexPage keys per index page
+     * @param dataProvider segment resources provider
+     * @param deltaCacheController delta cache controller
+     * @param cacheWarmer chunk cache warmer
+     */
+    SegmentFullWriterTx(final SegmentFiles<K, V> segmentFiles,
+            final SegmentPropertiesManager propertiesManager,
+            final int maxNumberOfKeysInIndexPage,
+            final SegmentResources<K> dataProvider,
+            final SegmentDeltaCacheController<K, V> deltaCacheController,
+            final CompactionCacheWarmer<K, V> cacheWarmer) {
+        this.segmentFiles = Vldtn.requireNonNull(segmentFiles, "segmentFiles");
+        this.cacheWarmer = Vldtn.requireNonNull(cacheWarmer, "cacheWarmer");
         this.segmentPropertiesManager = Vldtn.requireNonNull(propertiesManager,
                 "segmentPropertiesManager");
         this.maxNumberOfKeysInIndexPage = maxNumberOfKeysInIndexPage;
@@ -46,7 +81,10 @@ public class SegmentFullWriterTx<K, V>
                 "segmentCacheDataProvider");
         this.deltaCacheController = Vldtn.requireNonNull(deltaCacheController,
                 "deltaCacheController");
-        this.chunkPairFileWriterTx = segmentFiles.getIndexFile().openWriterTx();
+        if (!segmentFiles.isCompressionDictionaryUsed()) {
+            this.chunkPairFileWriterTx = segmentFiles.getIndexFile()
+                    .openWriterTx();
+        }
         this.scarceIndexWriterTx = segmentFiles.getScarceIndex().openWriterTx();
     }
 
@@ -57,13 +95,31 @@ public class SegmentFullWriterTx<K, V>
      */
     @Override
     protected EntryWriter<K, V> doOpen() {
-        final EntryWriter<K, Integer> scarceWriter = scarceIndexWriterTx.open();
-        segmentFullWriter = new SegmentFullWriter<>(maxNumberOfKeysInIndexPage,
-                segmentDataProvider, chunkPairFileWriterTx.openWriter(),
-                scarceWriter);
+        final EntryWriter<K, Long> scarceWriter = scarceIndexWriterTx.open();
+        if (segmentFiles.isCompressionDictionaryUsed()) {
+            segmentFullWriter = new SegmentFullWriter<>(
+                    maxNumberOfKeysInIndexPage, segmentDataProvider,
+                    new SegmentDictionarySampler<>(
+                            segmentFiles.getKeyTypeDescriptor(),
+                            segmentFiles.getValueTypeDescriptor(),
+                            maxNumberOfKeysInIndexPage),
+                    this::openIndexWriter, scarceWriter, cacheWarmer);
+        } else {
+            segmentFullWriter = new SegmentFullWriter<>(
+                    maxNumberOfKeysInIndexPage, segmentDataProvider,
+                    chunkPairFileWriterTx.openWriter(), scarceWriter,
+                    cacheWarmer);
+        }
         return segmentFullWriter;
     }
 
+    private ChunkEntryFileWriter<K, V> openIndexWriter(
+            final ChunkCompressionDictionary dictionary) {
+        chunkPairFileWriterTx = segmentFiles.getIndexFile(dictionary)
+                .openWriterTx();
+        return chunkPairFileWriterTx.openWriter();
+    }
+
     /**
      * Commits the rebuilt segment files and updates metadata.
      *
@@ -72,12 +128,29 @@ public class SegmentFullWriterTx<K, V>
     @Override
     protected void doCommit(final EntryWriter<K, V> writer) {
         scarceIndexWriterTx.commit();
+        if (segmentFiles.isCompressionDictionaryUsed()) {
+            segmentFiles.writeCompressionDictionary(
+                    segmentFullWriter.getCompressionDictionary());
+        }
         chunkPairFileWriterTx.commit();
         segmentFullWriter.commitBloomFilter();
+        // Read before clearing, clearing drops the cached filter instance.
+        final BloomFilter<K> bloomFilter = segmentDataProvider.getBloomFilter();
         deltaCacheController.clearPreservingWriteCache();
 
-        segmentPropertiesManager.startTx().setKeyCounters(0,
-                segmentFullWriter.getNumberKeys(),
-                segmentFullWriter.getNumberKeysInScarceIndex()).commit();
+        final SegmentPropertiesManagerTx propertiesTx = segmentPropertiesManager
+                .startTx().setKeyCounters(0, segmentFullWriter.getNumberKeys(),
+                        segmentFullWriter.getNumberKeysInScarceIndex());
+        // Recorded for monitoring only. An auto-sized filter file carries its
+        // own parameters, so readers of the still active version are not
+        // affected by this commit.
+        if (bloomFilter.isAutoSized()) {
+            propertiesTx.setBloomFilterParameters(
+                    (int) bloomFilter.getIndexSizeInBytes(),
+                    (int) bloomFilter.getNumberOfHashFunctions());
+        } else {
+            propertiesTx.clearBloomFilterParameters();
+        }
+        propertiesTx.commit();
     }
 }
@@ -1,7 +1,9 @@
 package org.hestiastore.index.segment;
 
+import java.util.List;
 import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
 
 import org.hestiastore.index.EntryIterator;
 import org.hestiastore.index.OperationResult;
@@ -96,7 +98,9 @@ class SegmentImpl<K, V> implements Segment<K, V> {
                 core.getBloomFilterRequestCount(),
                 core.getBloomFilterRefusedCount(),
                 core.getBloomFilterPositiveCount(),
-                core.getBloomFilterFalsePositiveCount());
+                core.getBloomFilterFalsePositiveCount(),
+                core.getBloomFilterIndexSizeInBytes(),
+                core.getBloomFilterNumberOfHashFunctions());
     }
 
     /**
@@ -140,14 +144,44 @@ class SegmentImpl<K, V> implements Segment<K, V> {
     public OperationResult<EntryIterator<K, V>> openIterator(
             final SegmentIteratorIsolation isolation) {
         Vldtn.requireNonNull(isolation, "isolation");
+        return openIterator(isolation,
+                () -> core.openIterator(isolation));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public OperationResult<EntryIterator<K, V>> openIterator(
+            final K fromInclusive, final K toExclusive,
+            final SegmentIteratorIsolation isolation) {
+        Vldtn.requireNonNull(isolation, "isolation");
+        return openIterator(isolation, () -> core.openIterator(fromInclusive,
+                toExclusive, isolation));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public OperationResult<EntryIterator<K, V>> openDescendingIterator(
+            final K fromInclusive, final K toExclusive,
+            final SegmentIteratorIsolation isolation) {
+        Vldtn.requireNonNull(isolation, "isolation");
+        return openIterator(isolation, () -> core.openDescendingIterator(
+                fromInclusive, toExclusive, isolation));
+    }
+
+    private OperationResult<EntryIterator<K, V>> openIterator(
+            final SegmentIteratorIsolation isolation,
+            final Supplier<EntryIterator<K, V>> iteratorOpener) {
         if (isolation == SegmentIteratorIsolation.FULL_ISOLATION) {
             if (!gate.tryEnterFreezeAndDrain()) {
                 return resultForState(gate.getState());
             }
             try {
                 core.invalidateIterators();
-                final EntryIterator<K, V> iterator = core
-                        .openIterator(isolation);
+                final EntryIterator<K, V> iterator = iteratorOpener.get();
                 return OperationResult.ok(
                         new ExclusiveAccessIterator<>(iterator, gate));
             } catch (final RuntimeException e) {
@@ -159,7 +193,7 @@ class SegmentImpl<K, V> implements Segment<K, V> {
             return resultForState(gate.getState());
         }
         try {
-            return OperationResult.ok(core.openIterator(isolation));
+            return OperationResult.ok(iteratorOpener.get());
         } catch (final RuntimeException e) {
             failUnlessClosed();
             return OperationResult.error();
@@ -475,6 +509,22 @@ class SegmentImpl<K, V> implements Segment<K, V> {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public OperationResult<List<V>> getAll(final List<K> keys) {
+        Vldtn.requireNonNull(keys, "keys");
+        if (!gate.tryEnterRead()) {
+            return resultForState(gate.getState());
+        }
+        try {
+            return OperationResult.ok(core.getAll(keys));
+        } finally {
+            gate.exitRead();
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
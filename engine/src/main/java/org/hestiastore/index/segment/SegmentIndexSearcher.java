@@ -1,6 +1,8 @@
 package org.hestiastore.index.segment;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
 import java.util.function.LongSupplier;
 
 import org.hestiastore.index.AbstractCloseableResource;
@@ -112,7 +114,7 @@ class SegmentIndexSearcher<K, V> extends AbstractCloseableResource {
             return chunkStoreCache.find(ownerId,
                     activeVersionSupplier.getAsLong(), startPosition, key,
                     keyTypeComparator,
-                    () -> loadParsedPage(startPosition));
+                    () -> loadCachedPage(startPosition));
         }
         try (FileReaderSeekable seekableReader = seekableReaderSupplier
                 .get()) {
@@ -122,6 +124,56 @@ class SegmentIndexSearcher<K, V> extends AbstractCloseableResource {
         }
     }
 
+    /**
+     * Searches for several keys that the scarce index mapped to the same
+     * chunk. The chunk is read and decoded once and every key is resolved
+     * from the parsed page.
+     *
+     * @param keys          target keys in ascending order
+     * @param startPosition byte offset provided by the scarce index
+     * @return values aligned with {@code keys}, {@code null} when absent
+     */
+    public List<V> searchAll(final List<K> keys, final long startPosition) {
+        if (keys.size() == 1) {
+            final List<V> single = new ArrayList<>(1);
+            single.add(search(keys.get(0), startPosition));
+            return single;
+        }
+        final ParsedChunkPage<K, V> page = getPage(startPosition);
+        final List<V> values = new ArrayList<>(keys.size());
+        for (final K key : keys) {
+            values.add(page.find(key, keyTypeComparator));
+        }
+        return values;
+    }
+
+    /**
+     * Returns the parsed chunk page starting at the given position, served
+     * from the chunk cache when it is enabled.
+     *
+     * @param startPosition byte offset provided by the scarce index
+     * @return parsed chunk page
+     */
+    public ParsedChunkPage<K, V> getPage(final long startPosition) {
+        if (chunkStoreCache.isEnabled()) {
+            return chunkStoreCache.getPage(ownerId,
+                    activeVersionSupplier.getAsLong(), startPosition,
+                    () -> loadCachedPage(startPosition));
+        }
+        return loadParsedPage(startPosition);
+    }
+
+    private ParsedChunkPage<K, V> loadCachedPage(final long startPosition) {
+        if (!chunkStoreCache.isCompactPages()) {
+            return loadParsedPage(startPosition);
+        }
+        try (FileReaderSeekable seekableReader = seekableReaderSupplier
+                .get()) {
+            return chunkPairFile.loadCompactPageAtPosition(startPosition,
+                    maxNumberOfKeysInIndexPage, seekableReader);
+        }
+    }
+
     private ParsedChunkPage<K, V> loadParsedPage(final long startPosition) {
         try (FileReaderSeekable seekableReader = seekableReaderSupplier
                 .get()) {
@@ -28,6 +28,8 @@ public class SegmentPropertiesManager {
     private static final String NUMBER_OF_KEYS_IN_MAIN_INDEX = IndexPropertiesSchema.SegmentKeys.NUMBER_OF_KEYS_IN_MAIN_INDEX;
     private static final String NUMBER_OF_KEYS_IN_SCARCE_INDEX = IndexPropertiesSchema.SegmentKeys.NUMBER_OF_KEYS_IN_SCARCE_INDEX;
     private static final String NUMBER_OF_SEGMENT_CACHE_DELTA_FILES = IndexPropertiesSchema.SegmentKeys.NUMBER_OF_SEGMENT_CACHE_DELTA_FILES;
+    private static final String BLOOM_FILTER_INDEX_SIZE_IN_BYTES = IndexPropertiesSchema.SegmentKeys.BLOOM_FILTER_INDEX_SIZE_IN_BYTES;
+    private static final String BLOOM_FILTER_NUMBER_OF_HASH_FUNCTIONS = IndexPropertiesSchema.SegmentKeys.BLOOM_FILTER_NUMBER_OF_HASH_FUNCTIONS;
     private static final String SEGMENT_VERSION = IndexPropertiesSchema.SegmentKeys.SEGMENT_VERSION;
     private static final String INDEX_NAME_MDC_KEY = "index.name";
     private final SegmentId id;
@@ -112,6 +114,28 @@ public class SegmentPropertiesManager {
         return propertyStore.snapshot().getLong(SEGMENT_VERSION);
     }
 
+    /**
+     * Returns the Bloom filter size recorded for the segment.
+     *
+     * @return size in bytes, meaningful only when
+     *         {@link #getBloomFilterNumberOfHashFunctions()} is positive
+     */
+    public int getBloomFilterIndexSizeInBytes() {
+        return propertyStore.snapshot()
+                .getInt(BLOOM_FILTER_INDEX_SIZE_IN_BYTES);
+    }
+
+    /**
+     * Returns the Bloom filter hash function count recorded for the segment.
+     *
+     * @return hash function count, zero or negative when the filter
+     *         parameters were not recorded
+     */
+    public int getBloomFilterNumberOfHashFunctions() {
+        return propertyStore.snapshot()
+                .getInt(BLOOM_FILTER_NUMBER_OF_HASH_FUNCTIONS);
+    }
+
     /**
      * Starts a staged metadata transaction for this segment.
      *
@@ -19,6 +19,8 @@ public class SegmentPropertiesManagerTx implements Commitable {
     private static final String NUMBER_OF_KEYS_IN_SCARCE_INDEX = IndexPropertiesSchema.SegmentKeys.NUMBER_OF_KEYS_IN_SCARCE_INDEX;
     private static final String NUMBER_OF_SEGMENT_CACHE_DELTA_FILES = IndexPropertiesSchema.SegmentKeys.NUMBER_OF_SEGMENT_CACHE_DELTA_FILES;
     private static final String SEGMENT_VERSION = IndexPropertiesSchema.SegmentKeys.SEGMENT_VERSION;
+    private static final String BLOOM_FILTER_INDEX_SIZE_IN_BYTES = IndexPropertiesSchema.SegmentKeys.BLOOM_FILTER_INDEX_SIZE_IN_BYTES;
+    private static final String BLOOM_FILTER_NUMBER_OF_HASH_FUNCTIONS = IndexPropertiesSchema.SegmentKeys.BLOOM_FILTER_NUMBER_OF_HASH_FUNCTIONS;
 
     private final SegmentPropertiesManager manager;
     private final List<Consumer<PropertyWriter>> stagedMutations = new ArrayList<>();
@@ -72,6 +74,32 @@ public class SegmentPropertiesManagerTx implements Commitable {
         return this;
     }
 
+    /**
+     * Records the parameters the segment Bloom filter file was written with.
+     *
+     * @param indexSizeInBytes      size of the filter bit array
+     * @param numberOfHashFunctions hash function count
+     * @return this transaction
+     */
+    public SegmentPropertiesManagerTx setBloomFilterParameters(
+            final int indexSizeInBytes, final int numberOfHashFunctions) {
+        stageMutation(writer -> {
+            writer.setInt(BLOOM_FILTER_INDEX_SIZE_IN_BYTES, indexSizeInBytes);
+            writer.setInt(BLOOM_FILTER_NUMBER_OF_HASH_FUNCTIONS,
+                    numberOfHashFunctions);
+        });
+        return this;
+    }
+
+    /**
+     * Removes recorded Bloom filter parameters, so the configured ones apply.
+     *
+     * @return this transaction
+     */
+    public SegmentPropertiesManagerTx clearBloomFilterParameters() {
+        return setBloomFilterParameters(-1, -1);
+    }
+
     @Override
     public void commit() {
         ensureNotCommitted();
@@ -1,5 +1,9 @@
 package org.hestiastore.index.segment;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.hestiastore.index.EntryIterator;
@@ -8,6 +12,7 @@ import org.hestiastore.index.OptimisticLock;
 import org.hestiastore.index.Vldtn;
 import org.hestiastore.index.chunkstorecache.ChunkStoreCache;
 import org.hestiastore.index.chunkstorecache.LruChunkStoreCache;
+import org.hestiastore.index.scarceindex.ScarceSegmentIndex;
 
 /**
  * Encapsulates segment read operations and read-time state.
@@ -86,11 +91,82 @@ final class SegmentReadPath<K, V> {
      */
     EntryIterator<K, V> openIterator(final SegmentIteratorIsolation isolation) {
         Vldtn.requireNonNull(isolation, "isolation");
-        final EntryIterator<K, V> mergedEntryIterator = new MergeDeltaCacheWithIndexIterator<>(
+        return wrapWithLock(new MergeDeltaCacheWithIndexIterator<>(
                 segmentFiles.getIndexFile().openIterator(),
                 segmentFiles.getKeyTypeDescriptor(),
                 segmentFiles.getValueTypeDescriptor(),
+                segmentCache.mergedIterator()), isolation);
+    }
+
+    /**
+     * Opens an iterator over the merged index + delta cache view restricted
+     * to {@code [fromInclusive, toExclusive)}. The on-disk index is not read
+     * from its beginning: the scarce index locates the first chunk that can
+     * hold {@code fromInclusive} and reading stops at {@code toExclusive}.
+     *
+     * @param fromInclusive lower bound, or {@code null} for no lower bound
+     * @param toExclusive   upper bound, or {@code null} for no upper bound
+     * @param isolation     iterator isolation mode
+     * @return iterator over current entries inside the key range
+     */
+    EntryIterator<K, V> openIterator(final K fromInclusive,
+            final K toExclusive, final SegmentIteratorIsolation isolation) {
+        Vldtn.requireNonNull(isolation, "isolation");
+        final EntryIterator<K, V> mergedEntryIterator = new MergeDeltaCacheWithIndexIterator<>(
+                openIndexIteratorFrom(fromInclusive),
+                segmentFiles.getKeyTypeDescriptor(),
+                segmentFiles.getValueTypeDescriptor(),
                 segmentCache.mergedIterator());
+        return wrapWithLock(new KeyRangeIterator<>(mergedEntryIterator,
+                segmentFiles.getKeyTypeDescriptor().getComparator(),
+                fromInclusive, toExclusive), isolation);
+    }
+
+    /**
+     * Opens an iterator over the merged index + delta cache view restricted
+     * to {@code [fromInclusive, toExclusive)} that returns entries in
+     * descending key order. Only index chunks overlapping the range are
+     * decoded, starting with the chunk that holds {@code toExclusive}.
+     *
+     * @param fromInclusive lower bound, or {@code null} for no lower bound
+     * @param toExclusive   upper bound, or {@code null} for no upper bound
+     * @param isolation     iterator isolation mode
+     * @return descending iterator over current entries inside the key range
+     */
+    EntryIterator<K, V> openDescendingIterator(final K fromInclusive,
+            final K toExclusive, final SegmentIteratorIsolation isolation) {
+        Vldtn.requireNonNull(isolation, "isolation");
+        final Comparator<K> keyComparator = segmentFiles.getKeyTypeDescriptor()
+                .getComparator();
+        final SegmentIndexSearcher<K, V> indexSearcher = getSegmentIndexSearcher();
+        final EntryIterator<K, V> indexIterator = new DescendingIndexIterator<>(
+                segmentResources.getScarceIndex().getChunks(fromInclusive,
+                        toExclusive),
+                indexSearcher::getPage, keyComparator);
+        final EntryIterator<K, V> mergedEntryIterator = new MergeDeltaCacheWithIndexIterator<>(
+                indexIterator, keyComparator.reversed(),
+                segmentFiles.getValueTypeDescriptor(),
+                segmentCache.mergedDescendingIterator());
+        return wrapWithLock(new KeyRangeIterator<>(mergedEntryIterator,
+                keyComparator, fromInclusive, toExclusive, true), isolation);
+    }
+
+    private EntryIterator<K, V> openIndexIteratorFrom(final K fromInclusive) {
+        if (fromInclusive == null) {
+            return segmentFiles.getIndexFile().openIterator();
+        }
+        final long position = segmentResources.getScarceIndex()
+                .findPosition(fromInclusive);
+        if (position == ScarceSegmentIndex.NOT_FOUND) {
+            // Every key stored in the index file is below the lower bound.
+            return EntryIterator.make(Collections.emptyIterator());
+        }
+        return segmentFiles.getIndexFile().openIteratorAtPosition(position);
+    }
+
+    private EntryIterator<K, V> wrapWithLock(
+            final EntryIterator<K, V> mergedEntryIterator,
+            final SegmentIteratorIsolation isolation) {
         if (isolation == SegmentIteratorIsolation.FULL_ISOLATION) {
             return mergedEntryIterator;
         }
@@ -117,6 +193,44 @@ final class SegmentReadPath<K, V> {
                 getSegmentIndexSearcher());
     }
 
+    /**
+     * Retrieves values for many keys. Keys answered by the in-memory cache are
+     * resolved directly; the remaining keys go through one batched disk
+     * search.
+     *
+     * @param keys distinct keys in ascending order
+     * @return values aligned with {@code keys}, {@code null} when absent or
+     *         tombstoned
+     */
+    List<V> getAll(final List<K> keys) {
+        final List<V> values = new ArrayList<>(keys.size());
+        final List<Integer> missIndexes = new ArrayList<>();
+        final List<K> missKeys = new ArrayList<>();
+        for (int i = 0; i < keys.size(); i++) {
+            final K key = keys.get(i);
+            final V cached = segmentCache.get(key);
+            if (cached == null) {
+                values.add(null);
+                missIndexes.add(i);
+                missKeys.add(key);
+            } else if (segmentFiles.getValueTypeDescriptor()
+                    .isTombstone(cached)) {
+                values.add(null);
+            } else {
+                values.add(cached);
+            }
+        }
+        if (missKeys.isEmpty()) {
+            return values;
+        }
+        final List<V> found = segmentSearcher.getAll(missKeys,
+                segmentResources, getSegmentIndexSearcher());
+        for (int i = 0; i < missIndexes.size(); i++) {
+            values.set(missIndexes.get(i), found.get(i));
+        }
+        return values;
+    }
+
     /**
      * Returns (and caches) the index searcher for point lookups.
      *
@@ -146,6 +260,39 @@ final class SegmentReadPath<K, V> {
      */
     void resetSegmentIndexSearcher() {
         chunkStoreCache.invalidateOwner(cacheOwnerId());
+        closeSegmentIndexSearcher();
+    }
+
+    /**
+     * Closes the index searcher after the active version was switched. Cached
+     * pages of other versions are dropped, pages of the active version were
+     * put by compaction from the new index file and stay. The Bloom filter
+     * and scarce index are dropped too, a read during compaction may have
+     * loaded them from the previous version.
+     *
+     * @param activeVersion new active version
+     */
+    void resetSegmentIndexSearcher(final long activeVersion) {
+        chunkStoreCache.invalidateOwnerExceptVersion(cacheOwnerId(),
+                activeVersion);
+        closeSegmentIndexSearcher();
+        segmentResources.invalidate();
+    }
+
+    /**
+     * Captures the segment's cached pages so compaction can re-cache them in
+     * the version it writes.
+     *
+     * @param targetVersion version written by the compaction
+     * @return cache warmer, inactive when nothing should be cached
+     */
+    CompactionCacheWarmer<K, V> captureCacheWarmer(final long targetVersion) {
+        return CompactionCacheWarmer.capture(chunkStoreCache, cacheOwnerId(),
+                segmentFiles.getActiveVersion(), targetVersion,
+                segmentFiles.getKeyTypeDescriptor().getComparator());
+    }
+
+    private void closeSegmentIndexSearcher() {
         final SegmentIndexSearcher<K, V> current = segmentIndexSearcher
                 .getAndSet(null);
         if (current != null) {
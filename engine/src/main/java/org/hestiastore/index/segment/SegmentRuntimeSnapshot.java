@@ -22,9 +22,12 @@ public final class SegmentRuntimeSnapshot {
     private final long bloomFilterRefusedCount;
     private final long bloomFilterPositiveCount;
     private final long bloomFilterFalsePositiveCount;
+    private final int bloomFilterIndexSizeInBytes;
+    private final int bloomFilterNumberOfHashFunctions;
 
     /**
-     * Creates validated runtime metrics snapshot.
+     * Creates validated runtime metrics snapshot without recorded Bloom filter
+     * sizing.
      *
      * @param segmentId segment identifier
      * @param state segment state
@@ -52,6 +55,49 @@ public final class SegmentRuntimeSnapshot {
             final long bloomFilterRefusedCount,
             final long bloomFilterPositiveCount,
             final long bloomFilterFalsePositiveCount) {
+        this(segmentId, state, numberOfKeysInDeltaCache,
+                numberOfKeysInSegment, numberOfKeysInScarceIndex,
+                numberOfKeysInSegmentCache, numberOfKeysInWriteCache,
+                numberOfDeltaCacheFiles, numberOfCompacts, numberOfFlushes,
+                bloomFilterRequestCount, bloomFilterRefusedCount,
+                bloomFilterPositiveCount, bloomFilterFalsePositiveCount, 0, 0);
+    }
+
+    /**
+     * Creates validated runtime metrics snapshot.
+     *
+     * @param segmentId segment identifier
+     * @param state segment state
+     * @param numberOfKeysInDeltaCache number of keys in delta cache
+     * @param numberOfKeysInSegment number of keys in segment index
+     * @param numberOfKeysInScarceIndex number of keys in scarce index
+     * @param numberOfKeysInSegmentCache number of keys in in-memory segment cache
+     * @param numberOfKeysInWriteCache number of keys in write cache
+     * @param numberOfDeltaCacheFiles number of delta cache files
+     * @param numberOfCompacts number of compact executions/requests
+     * @param numberOfFlushes number of flush executions/requests
+     * @param bloomFilterRequestCount bloom request count
+     * @param bloomFilterRefusedCount bloom refused count
+     * @param bloomFilterPositiveCount bloom positive count
+     * @param bloomFilterFalsePositiveCount bloom false-positive count
+     * @param bloomFilterIndexSizeInBytes recorded Bloom filter size in bytes,
+     *        0 when the segment has no recorded sizing
+     * @param bloomFilterNumberOfHashFunctions recorded Bloom filter hash
+     *        function count, 0 when the segment has no recorded sizing
+     */
+    public SegmentRuntimeSnapshot(final SegmentId segmentId,
+            final SegmentState state, final long numberOfKeysInDeltaCache,
+            final long numberOfKeysInSegment,
+            final long numberOfKeysInScarceIndex,
+            final long numberOfKeysInSegmentCache,
+            final int numberOfKeysInWriteCache,
+            final int numberOfDeltaCacheFiles, final long numberOfCompacts,
+            final long numberOfFlushes, final long bloomFilterRequestCount,
+            final long bloomFilterRefusedCount,
+            final long bloomFilterPositiveCount,
+            final long bloomFilterFalsePositiveCount,
+            final int bloomFilterIndexSizeInBytes,
+            final int bloomFilterNumberOfHashFunctions) {
         this.segmentId = Vldtn.requireNonNull(segmentId, "segmentId");
         this.state = Vldtn.requireNonNull(state, "state");
         requireNotNegative(numberOfKeysInDeltaCache,
@@ -73,6 +119,10 @@ public final class SegmentRuntimeSnapshot {
                 "bloomFilterPositiveCount");
         requireNotNegative(bloomFilterFalsePositiveCount,
                 "bloomFilterFalsePositiveCount");
+        requireNotNegative(bloomFilterIndexSizeInBytes,
+                "bloomFilterIndexSizeInBytes");
+        requireNotNegative(bloomFilterNumberOfHashFunctions,
+                "bloomFilterNumberOfHashFunctions");
         this.numberOfKeysInDeltaCache = numberOfKeysInDeltaCache;
         this.numberOfKeysInSegment = numberOfKeysInSegment;
         this.numberOfKeysInScarceIndex = numberOfKeysInScarceIndex;
@@ -85,6 +135,8 @@ public final class SegmentRuntimeSnapshot {
         this.bloomFilterRefusedCount = bloomFilterRefusedCount;
         this.bloomFilterPositiveCount = bloomFilterPositiveCount;
         this.bloomFilterFalsePositiveCount = bloomFilterFalsePositiveCount;
+        this.bloomFilterIndexSizeInBytes = bloomFilterIndexSizeInBytes;
+        this.bloomFilterNumberOfHashFunctions = bloomFilterNumberOfHashFunctions;
     }
 
     private static void requireNotNegative(final long value,
@@ -153,4 +205,27 @@ public final class SegmentRuntimeSnapshot {
     public long getBloomFilterFalsePositiveCount() {
         return bloomFilterFalsePositiveCount;
     }
+
+    public int getBloomFilterIndexSizeInBytes() {
+        return bloomFilterIndexSizeInBytes;
+    }
+
+    public int getBloomFilterNumberOfHashFunctions() {
+        return bloomFilterNumberOfHashFunctions;
+    }
+
+    /**
+     * Returns the observed Bloom filter false-positive rate: false positives
+     * divided by all lookups of keys the segment does not hold.
+     *
+     * @return observed rate in range [0,1], 0 before any such lookup
+     */
+    public double getBloomFilterObservedFalsePositiveRate() {
+        final long absentKeyLookups = bloomFilterRefusedCount
+                + bloomFilterFalsePositiveCount;
+        if (absentKeyLookups == 0L) {
+            return 0D;
+        }
+        return bloomFilterFalsePositiveCount / (double) absentKeyLookups;
+    }
 }
@@ -1,9 +1,14 @@
 package org.hestiastore.index.segment;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 import org.hestiastore.index.AbstractCloseableResource;
 import org.hestiastore.index.Filter;
+import org.hestiastore.index.Vldtn;
+import org.hestiastore.index.bloomfilter.BloomFilter;
+import org.hestiastore.index.scarceindex.ScarceSegmentIndex;
 
 /**
  * Uses Bloom filter and index lookups for cache-miss reads.
@@ -47,6 +52,66 @@ class SegmentSearcher<K, V> extends AbstractCloseableResource {
         return result.getValue();
     }
 
+    /**
+     * Resolves many keys with the same steps as {@link #get}, but batched:
+     * the Bloom filter is probed for every key first and the surviving keys
+     * that the scarce index maps to the same chunk are resolved from a single
+     * chunk read.
+     *
+     * @param keys distinct lookup keys in ascending order
+     * @param segmentDataProvider segment resource provider
+     * @param segmentIndexSearcher index searcher for point lookups
+     * @return values aligned with {@code keys}, {@code null} when absent
+     */
+    public List<V> getAll(final List<K> keys,
+            final SegmentResources<K> segmentDataProvider,
+            final SegmentIndexSearcher<K, V> segmentIndexSearcher) {
+        final BloomFilter<K> bloomFilter = Vldtn.requireNonNull(
+                segmentDataProvider.getBloomFilter(), "bloomFilter");
+        final ScarceSegmentIndex<K> scarceIndex = Vldtn.requireNonNull(
+                segmentDataProvider.getScarceIndex(), "scarceIndex");
+        final List<V> values = new ArrayList<>(keys.size());
+        final List<Integer> candidateIndexes = new ArrayList<>();
+        final List<Long> candidatePositions = new ArrayList<>();
+        for (int i = 0; i < keys.size(); i++) {
+            values.add(null);
+            final K key = keys.get(i);
+            if (bloomFilter.isNotStored(key)) {
+                continue;
+            }
+            final long position = scarceIndex.findPosition(key);
+            if (position != ScarceSegmentIndex.NOT_FOUND) {
+                candidateIndexes.add(i);
+                candidatePositions.add(position);
+            }
+        }
+        int from = 0;
+        while (from < candidateIndexes.size()) {
+            final Long position = candidatePositions.get(from);
+            int to = from + 1;
+            while (to < candidateIndexes.size()
+                    && Objects.equals(position, candidatePositions.get(to))) {
+                to++;
+            }
+            final List<K> chunkKeys = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                chunkKeys.add(keys.get(candidateIndexes.get(i)));
+            }
+            final List<V> found = segmentIndexSearcher.searchAll(chunkKeys,
+                    position);
+            for (int i = from; i < to; i++) {
+                final V value = found.get(i - from);
+                if (value == null) {
+                    bloomFilter.incrementFalsePositive();
+                } else {
+                    values.set(candidateIndexes.get(i), value);
+                }
+            }
+            from = to;
+        }
+        return values;
+    }
+
     /**
      * Releases resources held by the searcher. This implementation is a no-op.
      */
@@ -79,10 +79,10 @@ final class SegmentSearcherContext<K, V> {
     /**
      * Looks up the position in the scarce index for the current key.
      *
-     * @return position or null when absent
+     * @return position or {@link ScarceSegmentIndex#NOT_FOUND} when absent
      */
-    Integer getPositionFromScarceIndex() {
-        return getScarceIndex().get(key);
+    long getPositionFromScarceIndex() {
+        return getScarceIndex().findPosition(key);
     }
 
     /**
@@ -100,7 +100,7 @@ final class SegmentSearcherContext<K, V> {
      * @param position starting byte position
      * @return value if found, otherwise null
      */
-    V searchInIndex(final int position) {
+    V searchInIndex(final long position) {
         return getSegmentIndexSearcher().search(key, position);
     }
 
@@ -2,6 +2,7 @@ package org.hestiastore.index.segment;
 
 import org.hestiastore.index.Filter;
 import org.hestiastore.index.Vldtn;
+import org.hestiastore.index.scarceindex.ScarceSegmentIndex;
 
 /**
  * Final step: locate position via scarce index and read from index file.
@@ -27,8 +28,8 @@ final class SegmentSearcherStepIndexFile<K, V>
             final SegmentSearcherResult<V> result) {
         Vldtn.requireNonNull(ctx, "ctx");
         Vldtn.requireNonNull(result, "result");
-        final Integer position = ctx.getPositionFromScarceIndex();
-        if (position == null) {
+        final long position = ctx.getPositionFromScarceIndex();
+        if (position == ScarceSegmentIndex.NOT_FOUND) {
             result.setValue(null);
             return false;
         }
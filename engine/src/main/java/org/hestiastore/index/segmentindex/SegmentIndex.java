@@ -1,5 +1,7 @@
 package org.hestiastore.index.segmentindex;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.OptionalLong;
@@ -313,6 +315,27 @@ public interface SegmentIndex<K, V> extends CloseableResource {
         put(entry.getKey(), entry.getValue());
     }
 
+    /**
+     * Inserts or updates many entries as one batch.
+     *
+     * <p>
+     * Implementations may sort the batch by key, log it with one WAL
+     * durability wait and write each target segment once, which is much
+     * cheaper than calling {@link #put(Object, Object)} per entry. When a key
+     * occurs more than once, the last occurrence wins. The batch is not atomic:
+     * a failure may leave a prefix of the routed writes applied.
+     * </p>
+     *
+     * @param entries entries to write (keys and values must not be null and
+     *                values must not be tombstone values)
+     */
+    default void putAll(final Collection<Entry<K, V>> entries) {
+        Vldtn.requireNonNull(entries, "entries");
+        for (final Entry<K, V> entry : entries) {
+            put(entry);
+        }
+    }
+
     /**
      * Performs a point lookup for the given key.
      *
@@ -321,6 +344,28 @@ public interface SegmentIndex<K, V> extends CloseableResource {
      */
     V get(K key);
 
+    /**
+     * Performs point lookups for many keys.
+     *
+     * <p>
+     * Implementations may route all keys once, group them by segment and
+     * resolve keys that share an on-disk chunk from a single chunk read, which
+     * is much cheaper than calling {@link #get(Object)} per key.
+     * </p>
+     *
+     * @param keys keys to search for (must not be null)
+     * @return values in the iteration order of {@code keys}, with {@code null}
+     *         where no entry exists
+     */
+    default List<V> getAll(final Collection<K> keys) {
+        Vldtn.requireNonNull(keys, "keys");
+        final List<V> values = new ArrayList<>(keys.size());
+        for (final K key : keys) {
+            values.add(get(key));
+        }
+        return values;
+    }
+
     /**
      * Deletes (tombstones) the provided key.
      *
@@ -328,6 +373,19 @@ public interface SegmentIndex<K, V> extends CloseableResource {
      */
     void delete(K key);
 
+    /**
+     * Deletes (tombstones) many keys as one batch. Same batching and
+     * atomicity rules as {@link #putAll(Collection)} apply.
+     *
+     * @param keys keys to remove from the index
+     */
+    default void deleteAll(final Collection<K> keys) {
+        Vldtn.requireNonNull(keys, "keys");
+        for (final K key : keys) {
+            delete(key);
+        }
+    }
+
     /**
      * Went through all records. In fact read all index data. Doesn't use
      * indexes and caches in segments.
@@ -388,6 +446,84 @@ public interface SegmentIndex<K, V> extends CloseableResource {
         return getStream(SegmentWindow.unbounded(), isolation);
     }
 
+    /**
+     * Streams entries with keys in the half-open range
+     * {@code [fromInclusive, toExclusive)} in ascending key order. Only
+     * segments whose routes overlap the range are read, each of them starts
+     * at the chunk holding {@code fromInclusive}, and reading stops as soon
+     * as {@code toExclusive} is reached.
+     *
+     * The returned stream should be closed after use.
+     *
+     * @param fromInclusive lower bound, or {@code null} to start at the
+     *                      first key
+     * @param toExclusive   upper bound, or {@code null} to read up to the
+     *                      last key
+     * @return sequential stream of entries inside the key range
+     */
+    default Stream<Entry<K, V>> getStream(final K fromInclusive,
+            final K toExclusive) {
+        return getStream(fromInclusive, toExclusive,
+                SegmentIteratorIsolation.FAIL_FAST);
+    }
+
+    /**
+     * Streams entries with keys in {@code [fromInclusive, toExclusive)}
+     * using the requested iterator isolation level.
+     *
+     * @param fromInclusive lower bound, or {@code null} to start at the
+     *                      first key
+     * @param toExclusive   upper bound, or {@code null} to read up to the
+     *                      last key
+     * @param isolation     iterator isolation mode to use
+     * @return sequential stream of entries inside the key range
+     */
+    Stream<Entry<K, V>> getStream(K fromInclusive, K toExclusive,
+            SegmentIteratorIsolation isolation);
+
+    /**
+     * Streams all entries in descending key order. Segments are visited from
+     * the highest route to the lowest and chunks are decoded one at a time,
+     * so reading the largest keys does not require a forward scan.
+     *
+     * The returned stream should be closed after use.
+     *
+     * @return sequential stream of all entries in descending key order
+     */
+    default Stream<Entry<K, V>> getDescendingStream() {
+        return getDescendingStream(null, null);
+    }
+
+    /**
+     * Streams entries with keys in {@code [fromInclusive, toExclusive)} in
+     * descending key order, starting just below {@code toExclusive}.
+     *
+     * @param fromInclusive lower bound, or {@code null} to read down to the
+     *                      first key
+     * @param toExclusive   upper bound, or {@code null} to start at the last
+     *                      key
+     * @return sequential stream of entries in descending key order
+     */
+    default Stream<Entry<K, V>> getDescendingStream(final K fromInclusive,
+            final K toExclusive) {
+        return getDescendingStream(fromInclusive, toExclusive,
+                SegmentIteratorIsolation.FAIL_FAST);
+    }
+
+    /**
+     * Streams entries with keys in {@code [fromInclusive, toExclusive)} in
+     * descending key order using the requested iterator isolation level.
+     *
+     * @param fromInclusive lower bound, or {@code null} to read down to the
+     *                      first key
+     * @param toExclusive   upper bound, or {@code null} to start at the last
+     *                      key
+     * @param isolation     iterator isolation mode to use
+     * @return sequential stream of entries in descending key order
+     */
+    Stream<Entry<K, V>> getDescendingStream(K fromInclusive, K toExclusive,
+            SegmentIteratorIsolation isolation);
+
     /**
      * Closes the index and releases owned resources.
      * Other threads may observe {@link SegmentIndexState#CLOSING} while close
@@ -8,13 +8,41 @@ public final class IndexBloomFilterConfiguration {
     private final Integer hashFunctions;
     private final Integer indexSizeBytes;
     private final Double falsePositiveProbability;
+    private final Boolean blocked;
+    private final Boolean memoryMapped;
+    private final Boolean autoSized;
 
     public IndexBloomFilterConfiguration(final Integer hashFunctions,
             final Integer indexSizeBytes,
             final Double falsePositiveProbability) {
+        this(hashFunctions, indexSizeBytes, falsePositiveProbability, null);
+    }
+
+    public IndexBloomFilterConfiguration(final Integer hashFunctions,
+            final Integer indexSizeBytes,
+            final Double falsePositiveProbability, final Boolean blocked) {
+        this(hashFunctions, indexSizeBytes, falsePositiveProbability, blocked,
+                null);
+    }
+
+    public IndexBloomFilterConfiguration(final Integer hashFunctions,
+            final Integer indexSizeBytes,
+            final Double falsePositiveProbability, final Boolean blocked,
+            final Boolean memoryMapped) {
+        this(hashFunctions, indexSizeBytes, falsePositiveProbability, blocked,
+                memoryMapped, null);
+    }
+
+    public IndexBloomFilterConfiguration(final Integer hashFunctions,
+            final Integer indexSizeBytes,
+            final Double falsePositiveProbability, final Boolean blocked,
+            final Boolean memoryMapped, final Boolean autoSized) {
         this.hashFunctions = hashFunctions;
         this.indexSizeBytes = indexSizeBytes;
         this.falsePositiveProbability = falsePositiveProbability;
+        this.blocked = blocked;
+        this.memoryMapped = memoryMapped;
+        this.autoSized = autoSized;
     }
 
     public Integer hashFunctions() {
@@ -28,4 +56,16 @@ public final class IndexBloomFilterConfiguration {
     public Double falsePositiveProbability() {
         return falsePositiveProbability;
     }
+
+    public Boolean blocked() {
+        return blocked;
+    }
+
+    public Boolean memoryMapped() {
+        return memoryMapped;
+    }
+
+    public Boolean autoSized() {
+        return autoSized;
+    }
 }
@@ -11,6 +11,9 @@ public final class IndexBloomFilterConfigurationBuilder<K, V> {
     private Integer hashFunctions;
     private Integer indexSizeBytes;
     private Double falsePositiveProbability;
+    private Boolean blocked;
+    private Boolean memoryMapped;
+    private Boolean autoSized;
 
     IndexBloomFilterConfigurationBuilder() {
     }
@@ -51,6 +54,55 @@ public final class IndexBloomFilterConfigurationBuilder<K, V> {
         return this;
     }
 
+    /**
+     * Selects the cache-line blocked layout for newly written Bloom filters.
+     * All probes of a key fall into one 64-byte block, so a negative lookup
+     * costs one cache miss instead of one per hash function, at a slightly
+     * higher false-positive rate for the same size. Existing filter files are
+     * read in the layout they were written with.
+     *
+     * @param value true to write blocked filters
+     * @return this section builder
+     */
+    public IndexBloomFilterConfigurationBuilder<K, V> blocked(
+            final Boolean value) {
+        this.blocked = value;
+        return this;
+    }
+
+    /**
+     * Maps Bloom filter files read-only instead of loading them into the heap.
+     * Opening a segment no longer reads the whole filter, and the bits of all
+     * open segments stay in the page cache rather than on the heap. Mappings
+     * are released when the filter is garbage collected.
+     *
+     * @param value true to memory-map filter files
+     * @return this section builder
+     */
+    public IndexBloomFilterConfigurationBuilder<K, V> memoryMapped(
+            final Boolean value) {
+        this.memoryMapped = value;
+        return this;
+    }
+
+    /**
+     * Sizes each segment's Bloom filter for the exact number of keys written
+     * when its files are rewritten and the configured false-positive probability.
+     * Small segments stop wasting memory and large ones keep their target
+     * rate. The chosen size and hash function count are recorded in the
+     * segment properties; {@link #indexSizeBytes(Integer)} and
+     * {@link #hashFunctions(Integer)} then apply only to filters written
+     * without auto-sizing.
+     *
+     * @param value true to size filters per segment
+     * @return this section builder
+     */
+    public IndexBloomFilterConfigurationBuilder<K, V> autoSized(
+            final Boolean value) {
+        this.autoSized = value;
+        return this;
+    }
+
     /**
      * Disables Bloom filter index allocation.
      *
@@ -63,6 +115,6 @@ public final class IndexBloomFilterConfigurationBuilder<K, V> {
 
     IndexBloomFilterConfiguration build() {
         return new IndexBloomFilterConfiguration(hashFunctions, indexSizeBytes,
-                falsePositiveProbability);
+                falsePositiveProbability, blocked, memoryMapped, autoSized);
     }
 }
@@ -8,11 +8,25 @@ import org.hestiastore.index.Vldtn;
 public final class IndexChunkStoreCacheConfiguration {
 
     private final Integer pageLimit;
+    private final Long byteLimit;
+    private final Boolean compactPages;
+    private final Boolean warmOnCompaction;
 
     public IndexChunkStoreCacheConfiguration(final Integer pageLimit) {
+        this(pageLimit, null, null, null);
+    }
+
+    public IndexChunkStoreCacheConfiguration(final Integer pageLimit,
+            final Long byteLimit, final Boolean compactPages,
+            final Boolean warmOnCompaction) {
         this.pageLimit = pageLimit == null ? null
                 : Vldtn.requireGreaterThanOrEqualToZero(pageLimit,
                         "pageLimit");
+        this.byteLimit = byteLimit == null ? null
+                : Vldtn.requireGreaterThanOrEqualToZero(byteLimit,
+                        "byteLimit");
+        this.compactPages = compactPages;
+        this.warmOnCompaction = warmOnCompaction;
     }
 
     /**
@@ -23,4 +37,33 @@ public final class IndexChunkStoreCacheConfiguration {
     public Integer pageLimit() {
         return pageLimit;
     }
+
+    /**
+     * Returns the max summed estimated page weight in bytes, or {@code 0} to
+     * bound the cache by page count only.
+     *
+     * @return nullable requested byte limit
+     */
+    public Long byteLimit() {
+        return byteLimit;
+    }
+
+    /**
+     * Returns whether cached pages are kept in compact encoded storage.
+     *
+     * @return nullable requested compact page flag
+     */
+    public Boolean compactPages() {
+        return compactPages;
+    }
+
+    /**
+     * Returns whether compaction re-caches the pages that were cached before
+     * it, at their positions in the rewritten index file.
+     *
+     * @return nullable requested warm-on-compaction flag
+     */
+    public Boolean warmOnCompaction() {
+        return warmOnCompaction;
+    }
 }
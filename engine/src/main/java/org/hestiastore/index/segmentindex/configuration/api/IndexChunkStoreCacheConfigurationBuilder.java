@@ -9,6 +9,9 @@ package org.hestiastore.index.segmentindex.configuration.api;
 public final class IndexChunkStoreCacheConfigurationBuilder<K, V> {
 
     private Integer pageLimit;
+    private Long byteLimit;
+    private Boolean compactPages;
+    private Boolean warmOnCompaction;
 
     IndexChunkStoreCacheConfigurationBuilder() {
     }
@@ -25,7 +28,50 @@ public final class IndexChunkStoreCacheConfigurationBuilder<K, V> {
         return this;
     }
 
+    /**
+     * Sets the max summed estimated page weight in bytes, or {@code 0} to
+     * bound the cache by page count only.
+     *
+     * @param value max cached bytes
+     * @return this section builder
+     */
+    public IndexChunkStoreCacheConfigurationBuilder<K, V> byteLimit(
+            final Long value) {
+        this.byteLimit = value;
+        return this;
+    }
+
+    /**
+     * Sets whether cached pages are kept encoded in one byte array with a key
+     * offset table instead of decoded entry objects. Compact pages use much
+     * less heap and decode the matched value on every hit.
+     *
+     * @param value true to cache compact pages
+     * @return this section builder
+     */
+    public IndexChunkStoreCacheConfigurationBuilder<K, V> compactPages(
+            final Boolean value) {
+        this.compactPages = value;
+        return this;
+    }
+
+    /**
+     * Sets whether compaction keeps the segment's cached pages warm. Chunks
+     * of the rewritten index file that cover keys of pages cached before the
+     * compaction are put into the cache while the file is written, so reads
+     * don't go cold after the version switch.
+     *
+     * @param value true to warm the cache during compaction
+     * @return this section builder
+     */
+    public IndexChunkStoreCacheConfigurationBuilder<K, V> warmOnCompaction(
+            final Boolean value) {
+        this.warmOnCompaction = value;
+        return this;
+    }
+
     IndexChunkStoreCacheConfiguration build() {
-        return new IndexChunkStoreCacheConfiguration(pageLimit);
+        return new IndexChunkStoreCacheConfiguration(pageLimit, byteLimit,
+                compactPages, warmOnCompaction);
     }
 }
@@ -11,15 +11,24 @@ import org.hestiastore.index.chunkstore.ChunkFilterSpecs;
 public interface IndexConfigurationDefaults {
     int DEFAULT_SEGMENT_MAX_KEYS = 10_000_000;
     int DEFAULT_SEGMENT_SPLIT_KEY_THRESHOLD = 10_000_000;
+    int DEFAULT_SEGMENT_MERGE_KEY_THRESHOLD = 0;
     int DEFAULT_SEGMENT_CACHE_KEY_LIMIT = 10_000;
     int DEFAULT_SEGMENT_CHUNK_KEY_LIMIT = 1_000;
     int DEFAULT_CACHED_SEGMENT_LIMIT = 10;
     int DEFAULT_DELTA_CACHE_FILE_LIMIT = 10;
     int DEFAULT_CHUNK_STORE_CACHE_PAGE_LIMIT = 128;
+    long DEFAULT_CHUNK_STORE_CACHE_BYTE_LIMIT = 0L;
+    boolean DEFAULT_CHUNK_STORE_CACHE_COMPACT_PAGES = false;
+    boolean DEFAULT_CHUNK_STORE_CACHE_WARM_ON_COMPACTION = false;
+    int DEFAULT_CHUNK_RESTART_INTERVAL = 0;
+    boolean DEFAULT_DELTA_CACHE_ON_DISK = false;
 
     int DEFAULT_BLOOM_FILTER_HASH_FUNCTIONS = 3;
     int DEFAULT_BLOOM_FILTER_INDEX_SIZE_BYTES = 5_000_000;
     double DEFAULT_BLOOM_FILTER_FALSE_POSITIVE_PROBABILITY = 0.01;
+    boolean DEFAULT_BLOOM_FILTER_BLOCKED = false;
+    boolean DEFAULT_BLOOM_FILTER_MEMORY_MAPPED = false;
+    boolean DEFAULT_BLOOM_FILTER_AUTO_SIZED = false;
 
     int DEFAULT_DISK_IO_BUFFER_SIZE_BYTES = 1024 * 8;
     int DEFAULT_INDEX_MAINTENANCE_THREADS = 10;
@@ -37,7 +46,8 @@ public interface IndexConfigurationDefaults {
         return new IndexSegmentConfiguration(DEFAULT_SEGMENT_MAX_KEYS,
                 DEFAULT_SEGMENT_CHUNK_KEY_LIMIT,
                 DEFAULT_SEGMENT_CACHE_KEY_LIMIT, DEFAULT_CACHED_SEGMENT_LIMIT,
-                DEFAULT_DELTA_CACHE_FILE_LIMIT);
+                DEFAULT_DELTA_CACHE_FILE_LIMIT,
+                DEFAULT_CHUNK_RESTART_INTERVAL, DEFAULT_DELTA_CACHE_ON_DISK);
     }
 
     /**
@@ -58,7 +68,8 @@ public interface IndexConfigurationDefaults {
                         * segment.cachedSegmentLimit().intValue());
         return new IndexWritePathConfiguration(segmentWriteCacheKeyLimit,
                 maintenanceWriteCacheKeyLimit, indexBufferedWriteKeyLimit,
-                DEFAULT_SEGMENT_SPLIT_KEY_THRESHOLD);
+                DEFAULT_SEGMENT_SPLIT_KEY_THRESHOLD,
+                DEFAULT_SEGMENT_MERGE_KEY_THRESHOLD);
     }
 
     /**
@@ -80,7 +91,10 @@ public interface IndexConfigurationDefaults {
      */
     default IndexChunkStoreCacheConfiguration chunkStoreCache() {
         return new IndexChunkStoreCacheConfiguration(
-                DEFAULT_CHUNK_STORE_CACHE_PAGE_LIMIT);
+                DEFAULT_CHUNK_STORE_CACHE_PAGE_LIMIT,
+                DEFAULT_CHUNK_STORE_CACHE_BYTE_LIMIT,
+                DEFAULT_CHUNK_STORE_CACHE_COMPACT_PAGES,
+                DEFAULT_CHUNK_STORE_CACHE_WARM_ON_COMPACTION);
     }
 
     /**
@@ -92,7 +106,10 @@ public interface IndexConfigurationDefaults {
         return new IndexBloomFilterConfiguration(
                 DEFAULT_BLOOM_FILTER_HASH_FUNCTIONS,
                 DEFAULT_BLOOM_FILTER_INDEX_SIZE_BYTES,
-                DEFAULT_BLOOM_FILTER_FALSE_POSITIVE_PROBABILITY);
+                DEFAULT_BLOOM_FILTER_FALSE_POSITIVE_PROBABILITY,
+                DEFAULT_BLOOM_FILTER_BLOCKED,
+                DEFAULT_BLOOM_FILTER_MEMORY_MAPPED,
+                DEFAULT_BLOOM_FILTER_AUTO_SIZED);
     }
 
     /**
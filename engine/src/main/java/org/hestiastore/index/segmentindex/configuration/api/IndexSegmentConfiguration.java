@@ -10,16 +10,39 @@ public final class IndexSegmentConfiguration {
     private final Integer cacheKeyLimit;
     private final Integer cachedSegmentLimit;
     private final Integer deltaCacheFileLimit;
+    private final Integer chunkRestartInterval;
+    private final Boolean deltaCacheOnDisk;
 
     public IndexSegmentConfiguration(final Integer maxKeys,
             final Integer chunkKeyLimit, final Integer cacheKeyLimit,
             final Integer cachedSegmentLimit,
             final Integer deltaCacheFileLimit) {
+        this(maxKeys, chunkKeyLimit, cacheKeyLimit, cachedSegmentLimit,
+                deltaCacheFileLimit, null);
+    }
+
+    public IndexSegmentConfiguration(final Integer maxKeys,
+            final Integer chunkKeyLimit, final Integer cacheKeyLimit,
+            final Integer cachedSegmentLimit,
+            final Integer deltaCacheFileLimit,
+            final Integer chunkRestartInterval) {
+        this(maxKeys, chunkKeyLimit, cacheKeyLimit, cachedSegmentLimit,
+                deltaCacheFileLimit, chunkRestartInterval, null);
+    }
+
+    public IndexSegmentConfiguration(final Integer maxKeys,
+            final Integer chunkKeyLimit, final Integer cacheKeyLimit,
+            final Integer cachedSegmentLimit,
+            final Integer deltaCacheFileLimit,
+            final Integer chunkRestartInterval,
+            final Boolean deltaCacheOnDisk) {
         this.maxKeys = maxKeys;
         this.chunkKeyLimit = chunkKeyLimit;
         this.cacheKeyLimit = cacheKeyLimit;
         this.cachedSegmentLimit = cachedSegmentLimit;
         this.deltaCacheFileLimit = deltaCacheFileLimit;
+        this.chunkRestartInterval = chunkRestartInterval;
+        this.deltaCacheOnDisk = deltaCacheOnDisk;
     }
 
     public Integer maxKeys() {
@@ -41,4 +64,12 @@ public final class IndexSegmentConfiguration {
     public Integer deltaCacheFileLimit() {
         return deltaCacheFileLimit;
     }
+
+    public Integer chunkRestartInterval() {
+        return chunkRestartInterval;
+    }
+
+    public Boolean deltaCacheOnDisk() {
+        return deltaCacheOnDisk;
+    }
 }
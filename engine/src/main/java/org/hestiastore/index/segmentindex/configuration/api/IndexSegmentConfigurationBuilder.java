@@ -13,6 +13,8 @@ public final class IndexSegmentConfigurationBuilder<K, V> {
     private Integer cacheKeyLimit;
     private Integer cachedSegmentLimit;
     private Integer deltaCacheFileLimit;
+    private Integer chunkRestartInterval;
+    private Boolean deltaCacheOnDisk;
 
     IndexSegmentConfigurationBuilder() {
     }
@@ -77,8 +79,38 @@ public final class IndexSegmentConfigurationBuilder<K, V> {
         return this;
     }
 
+    /**
+     * Sets the number of entries between restart points inside on-disk
+     * chunks. Each restart point stores a full key, so an uncached point
+     * lookup binary-searches restart points and decodes at most this many
+     * entries. Zero keeps chunks without restart points.
+     *
+     * @param value chunk restart interval
+     * @return this section builder
+     */
+    public IndexSegmentConfigurationBuilder<K, V> chunkRestartInterval(
+            final Integer value) {
+        this.chunkRestartInterval = value;
+        return this;
+    }
+
+    /**
+     * Sets whether delta cache files are searched on disk instead of being
+     * loaded into memory when a segment opens. Each file then keeps only a
+     * Bloom filter and the first key of every chunk in memory.
+     *
+     * @param value true to look up delta cache files on disk
+     * @return this section builder
+     */
+    public IndexSegmentConfigurationBuilder<K, V> deltaCacheOnDisk(
+            final Boolean value) {
+        this.deltaCacheOnDisk = value;
+        return this;
+    }
+
     IndexSegmentConfiguration build() {
         return new IndexSegmentConfiguration(maxKeys, chunkKeyLimit,
-                cacheKeyLimit, cachedSegmentLimit, deltaCacheFileLimit);
+                cacheKeyLimit, cachedSegmentLimit, deltaCacheFileLimit,
+                chunkRestartInterval, deltaCacheOnDisk);
     }
 }
@@ -9,6 +9,7 @@ public final class IndexWritePathConfiguration {
     private final Integer segmentWriteCacheKeyLimitDuringMaintenance;
     private final Integer indexBufferedWriteKeyLimit;
     private final Integer segmentSplitKeyThreshold;
+    private final Integer segmentMergeKeyThreshold;
 
     /**
      * Creates immutable write-path configuration.
@@ -24,6 +25,28 @@ public final class IndexWritePathConfiguration {
             final Integer segmentWriteCacheKeyLimitDuringMaintenance,
             final Integer indexBufferedWriteKeyLimit,
             final Integer segmentSplitKeyThreshold) {
+        this(segmentWriteCacheKeyLimit,
+                segmentWriteCacheKeyLimitDuringMaintenance,
+                indexBufferedWriteKeyLimit, segmentSplitKeyThreshold, null);
+    }
+
+    /**
+     * Creates immutable write-path configuration.
+     *
+     * @param segmentWriteCacheKeyLimit max keys accepted into one segment write
+     *        cache
+     * @param segmentWriteCacheKeyLimitDuringMaintenance max buffered keys
+     *        allowed while maintenance is running
+     * @param indexBufferedWriteKeyLimit max buffered keys across the full index
+     * @param segmentSplitKeyThreshold split threshold per routed segment
+     * @param segmentMergeKeyThreshold combined key count below which two
+     *        adjacent routed segments are merged, {@code 0} disables merging
+     */
+    public IndexWritePathConfiguration(final Integer segmentWriteCacheKeyLimit,
+            final Integer segmentWriteCacheKeyLimitDuringMaintenance,
+            final Integer indexBufferedWriteKeyLimit,
+            final Integer segmentSplitKeyThreshold,
+            final Integer segmentMergeKeyThreshold) {
         requirePositiveIfPresent(segmentWriteCacheKeyLimit,
                 "segmentWriteCacheKeyLimit");
         requirePositiveIfPresent(segmentWriteCacheKeyLimitDuringMaintenance,
@@ -32,6 +55,11 @@ public final class IndexWritePathConfiguration {
                 "indexBufferedWriteKeyLimit");
         requirePositiveIfPresent(segmentSplitKeyThreshold,
                 "segmentSplitKeyThreshold");
+        if (segmentMergeKeyThreshold != null
+                && segmentMergeKeyThreshold.intValue() < 0) {
+            throw new IllegalArgumentException(
+                    "segmentMergeKeyThreshold must be >= 0");
+        }
         if (segmentWriteCacheKeyLimit != null
                 && segmentWriteCacheKeyLimitDuringMaintenance != null
                 && segmentWriteCacheKeyLimitDuringMaintenance.intValue() <= segmentWriteCacheKeyLimit
@@ -50,6 +78,7 @@ public final class IndexWritePathConfiguration {
         this.segmentWriteCacheKeyLimitDuringMaintenance = segmentWriteCacheKeyLimitDuringMaintenance;
         this.indexBufferedWriteKeyLimit = indexBufferedWriteKeyLimit;
         this.segmentSplitKeyThreshold = segmentSplitKeyThreshold;
+        this.segmentMergeKeyThreshold = segmentMergeKeyThreshold;
     }
 
     public Integer segmentWriteCacheKeyLimit() {
@@ -68,6 +97,10 @@ public final class IndexWritePathConfiguration {
         return segmentSplitKeyThreshold;
     }
 
+    public Integer segmentMergeKeyThreshold() {
+        return segmentMergeKeyThreshold;
+    }
+
     private static void requirePositiveIfPresent(final Integer value,
             final String name) {
         if (value != null && value.intValue() < 1) {
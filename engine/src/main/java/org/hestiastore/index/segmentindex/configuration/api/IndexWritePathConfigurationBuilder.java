@@ -12,6 +12,7 @@ public final class IndexWritePathConfigurationBuilder<K, V> {
     private Integer maintenanceWriteCacheKeyLimit;
     private Integer indexBufferedWriteKeyLimit;
     private Integer segmentSplitKeyThreshold;
+    private Integer segmentMergeKeyThreshold;
 
     IndexWritePathConfigurationBuilder() {
     }
@@ -64,10 +65,23 @@ public final class IndexWritePathConfigurationBuilder<K, V> {
         return this;
     }
 
+    /**
+     * Sets the combined key count below which two adjacent routed segments
+     * are merged into one. {@code 0} disables merging.
+     *
+     * @param value segment merge threshold
+     * @return this section builder
+     */
+    public IndexWritePathConfigurationBuilder<K, V> segmentMergeKeyThreshold(
+            final Integer value) {
+        this.segmentMergeKeyThreshold = value;
+        return this;
+    }
+
     IndexWritePathConfiguration build() {
         return new IndexWritePathConfiguration(segmentWriteCacheKeyLimit,
                 maintenanceWriteCacheKeyLimit, indexBufferedWriteKeyLimit,
-                segmentSplitKeyThreshold);
+                segmentSplitKeyThreshold, segmentMergeKeyThreshold);
     }
 
 }
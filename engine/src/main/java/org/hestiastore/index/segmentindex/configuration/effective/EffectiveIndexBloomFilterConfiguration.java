@@ -10,9 +10,33 @@ public final class EffectiveIndexBloomFilterConfiguration {
     private final int hashFunctions;
     private final int indexSizeBytes;
     private final double falsePositiveProbability;
+    private final boolean blocked;
+    private final boolean memoryMapped;
+    private final boolean autoSized;
 
     public EffectiveIndexBloomFilterConfiguration(final int hashFunctions,
             final int indexSizeBytes, final double falsePositiveProbability) {
+        this(hashFunctions, indexSizeBytes, falsePositiveProbability, false);
+    }
+
+    public EffectiveIndexBloomFilterConfiguration(final int hashFunctions,
+            final int indexSizeBytes, final double falsePositiveProbability,
+            final boolean blocked) {
+        this(hashFunctions, indexSizeBytes, falsePositiveProbability, blocked,
+                false);
+    }
+
+    public EffectiveIndexBloomFilterConfiguration(final int hashFunctions,
+            final int indexSizeBytes, final double falsePositiveProbability,
+            final boolean blocked, final boolean memoryMapped) {
+        this(hashFunctions, indexSizeBytes, falsePositiveProbability, blocked,
+                memoryMapped, false);
+    }
+
+    public EffectiveIndexBloomFilterConfiguration(final int hashFunctions,
+            final int indexSizeBytes, final double falsePositiveProbability,
+            final boolean blocked, final boolean memoryMapped,
+            final boolean autoSized) {
         this.hashFunctions = Vldtn.requireGreaterThanZero(hashFunctions,
                 "hashFunctions");
         this.indexSizeBytes = Vldtn.requireGreaterThanOrEqualToZero(
@@ -21,6 +45,9 @@ public final class EffectiveIndexBloomFilterConfiguration {
                 && falsePositiveProbability < 1.0d,
                 "falsePositiveProbability must be greater than 0 and less than 1");
         this.falsePositiveProbability = falsePositiveProbability;
+        this.blocked = blocked;
+        this.memoryMapped = memoryMapped;
+        this.autoSized = autoSized;
     }
 
     public int hashFunctions() {
@@ -34,4 +61,16 @@ public final class EffectiveIndexBloomFilterConfiguration {
     public double falsePositiveProbability() {
         return falsePositiveProbability;
     }
+
+    public boolean blocked() {
+        return blocked;
+    }
+
+    public boolean memoryMapped() {
+        return memoryMapped;
+    }
+
+    public boolean autoSized() {
+        return autoSized;
+    }
 }
@@ -8,13 +8,38 @@ import org.hestiastore.index.Vldtn;
 public final class EffectiveIndexChunkStoreCacheConfiguration {
 
     private final int pageLimit;
+    private final long byteLimit;
+    private final boolean compactPages;
+    private final boolean warmOnCompaction;
 
     public EffectiveIndexChunkStoreCacheConfiguration(final int pageLimit) {
+        this(pageLimit, 0L, false, false);
+    }
+
+    public EffectiveIndexChunkStoreCacheConfiguration(final int pageLimit,
+            final long byteLimit, final boolean compactPages,
+            final boolean warmOnCompaction) {
         this.pageLimit = Vldtn.requireGreaterThanOrEqualToZero(pageLimit,
                 "pageLimit");
+        this.byteLimit = Vldtn.requireGreaterThanOrEqualToZero(byteLimit,
+                "byteLimit");
+        this.compactPages = compactPages;
+        this.warmOnCompaction = warmOnCompaction;
     }
 
     public int pageLimit() {
         return pageLimit;
     }
+
+    public long byteLimit() {
+        return byteLimit;
+    }
+
+    public boolean compactPages() {
+        return compactPages;
+    }
+
+    public boolean warmOnCompaction() {
+        return warmOnCompaction;
+    }
 }
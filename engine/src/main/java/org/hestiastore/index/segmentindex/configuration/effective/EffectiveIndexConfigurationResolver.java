@@ -83,7 +83,7 @@ public final class EffectiveIndexConfigurationResolver {
                 mergeIdentity(validatedStored, validatedRequest),
                 mergeSegment(validatedStored, validatedRequest),
                 mergeWritePath(validatedStored, validatedRequest),
-                mergeBloomFilter(validatedStored),
+                mergeBloomFilter(validatedStored, validatedRequest),
                 mergeMaintenance(validatedStored, validatedRequest),
                 mergeIo(validatedStored, validatedRequest),
                 mergeLogging(validatedStored, validatedRequest),
@@ -127,16 +127,36 @@ public final class EffectiveIndexConfigurationResolver {
                 Math.min(defaultSegment.chunkKeyLimit(), maxKeys));
         final int chunkStoreCachePageLimit = intOr(request.chunkStoreCache()
                 .pageLimit(), defaults.chunkStoreCache().pageLimit());
+        final long chunkStoreCacheByteLimit = longOr(request.chunkStoreCache()
+                .byteLimit(), longOr(defaults.chunkStoreCache().byteLimit(),
+                        IndexConfigurationDefaults.DEFAULT_CHUNK_STORE_CACHE_BYTE_LIMIT));
+        final boolean chunkStoreCacheCompactPages = booleanOr(
+                request.chunkStoreCache().compactPages(),
+                booleanOr(defaults.chunkStoreCache().compactPages(),
+                        IndexConfigurationDefaults.DEFAULT_CHUNK_STORE_CACHE_COMPACT_PAGES));
+        final boolean chunkStoreCacheWarmOnCompaction = booleanOr(
+                request.chunkStoreCache().warmOnCompaction(),
+                booleanOr(defaults.chunkStoreCache().warmOnCompaction(),
+                        IndexConfigurationDefaults.DEFAULT_CHUNK_STORE_CACHE_WARM_ON_COMPACTION));
         return new EffectiveIndexConfiguration<>(
                 effectiveIdentity(request),
                 new EffectiveIndexSegmentConfiguration(maxKeys,
                         chunkKeyLimit, segmentCacheKeyLimit,
                         cachedSegmentLimit, intOr(
                                 request.segment().deltaCacheFileLimit(),
-                                defaultSegment.deltaCacheFileLimit())),
+                                defaultSegment.deltaCacheFileLimit()),
+                        intOr(request.segment().chunkRestartInterval(),
+                                intOr(defaultSegment.chunkRestartInterval(),
+                                        IndexConfigurationDefaults.DEFAULT_CHUNK_RESTART_INTERVAL)),
+                        booleanOr(request.segment().deltaCacheOnDisk(),
+                                booleanOr(defaultSegment.deltaCacheOnDisk(),
+                                        IndexConfigurationDefaults.DEFAULT_DELTA_CACHE_ON_DISK))),
                 new EffectiveIndexWritePathConfiguration(
                         segmentWriteCacheKeyLimit, maintenanceWriteCacheKeyLimit,
-                        indexBufferedWriteKeyLimit, segmentSplitKeyThreshold),
+                        indexBufferedWriteKeyLimit, segmentSplitKeyThreshold,
+                        intOr(request.writePath().segmentMergeKeyThreshold(),
+                                intOr(defaultWritePath.segmentMergeKeyThreshold(),
+                                        IndexConfigurationDefaults.DEFAULT_SEGMENT_MERGE_KEY_THRESHOLD))),
                 effectiveBloomFilter(request, defaults),
                 effectiveMaintenance(request, defaults),
                 new EffectiveIndexIoConfiguration(
@@ -148,7 +168,9 @@ public final class EffectiveIndexConfigurationResolver {
                 IndexWalConfiguration.orEmpty(request.wal()),
                 effectiveFilters(request, defaults, chunkFilterProviderResolver),
                 new EffectiveIndexChunkStoreCacheConfiguration(
-                        chunkStoreCachePageLimit));
+                        chunkStoreCachePageLimit, chunkStoreCacheByteLimit,
+                        chunkStoreCacheCompactPages,
+                        chunkStoreCacheWarmOnCompaction));
     }
 
     private static <K, V> EffectiveIndexIdentityConfiguration<K, V> effectiveIdentity(
@@ -179,7 +201,16 @@ public final class EffectiveIndexConfigurationResolver {
                 intOr(bloomFilter.indexSizeBytes(),
                         defaultBloomFilter.indexSizeBytes()),
                 doubleOr(bloomFilter.falsePositiveProbability(),
-                        defaultBloomFilter.falsePositiveProbability()));
+                        defaultBloomFilter.falsePositiveProbability()),
+                booleanOr(bloomFilter.blocked(),
+                        booleanOr(defaultBloomFilter.blocked(),
+                                IndexConfigurationDefaults.DEFAULT_BLOOM_FILTER_BLOCKED)),
+                booleanOr(bloomFilter.memoryMapped(),
+                        booleanOr(defaultBloomFilter.memoryMapped(),
+                                IndexConfigurationDefaults.DEFAULT_BLOOM_FILTER_MEMORY_MAPPED)),
+                booleanOr(bloomFilter.autoSized(),
+                        booleanOr(defaultBloomFilter.autoSized(),
+                                IndexConfigurationDefaults.DEFAULT_BLOOM_FILTER_AUTO_SIZED)));
     }
 
     private static <K, V> EffectiveIndexMaintenanceConfiguration effectiveMaintenance(
@@ -241,7 +272,11 @@ public final class EffectiveIndexConfigurationResolver {
                         stored.segment().cacheKeyLimit()),
                 stored.segment().cachedSegmentLimit(),
                 intOr(request.segment().deltaCacheFileLimit(),
-                        stored.segment().deltaCacheFileLimit()));
+                        stored.segment().deltaCacheFileLimit()),
+                intOr(request.segment().chunkRestartInterval(),
+                        stored.segment().chunkRestartInterval()),
+                booleanOr(request.segment().deltaCacheOnDisk(),
+                        stored.segment().deltaCacheOnDisk()));
     }
 
     private static <K, V> EffectiveIndexWritePathConfiguration mergeWritePath(
@@ -255,12 +290,28 @@ public final class EffectiveIndexConfigurationResolver {
                         stored.writePath()
                                 .segmentWriteCacheKeyLimitDuringMaintenance()),
                 stored.writePath().indexBufferedWriteKeyLimit(),
-                stored.writePath().segmentSplitKeyThreshold());
+                stored.writePath().segmentSplitKeyThreshold(),
+                intOr(request.writePath().segmentMergeKeyThreshold(),
+                        stored.writePath().segmentMergeKeyThreshold()));
     }
 
     private static <K, V> EffectiveIndexBloomFilterConfiguration mergeBloomFilter(
-            final EffectiveIndexConfiguration<K, V> stored) {
-        return stored.bloomFilter();
+            final EffectiveIndexConfiguration<K, V> stored,
+            final IndexConfiguration<K, V> request) {
+        // The layout is recorded in each filter file, auto-sized parameters in
+        // the segment properties, and mapping only changes how a file is read,
+        // so all of them may change.
+        final EffectiveIndexBloomFilterConfiguration bloomFilter = stored
+                .bloomFilter();
+        return new EffectiveIndexBloomFilterConfiguration(
+                bloomFilter.hashFunctions(), bloomFilter.indexSizeBytes(),
+                bloomFilter.falsePositiveProbability(),
+                booleanOr(request.bloomFilter().blocked(),
+                        bloomFilter.blocked()),
+                booleanOr(request.bloomFilter().memoryMapped(),
+                        bloomFilter.memoryMapped()),
+                booleanOr(request.bloomFilter().autoSized(),
+                        bloomFilter.autoSized()));
     }
 
     private static <K, V> EffectiveIndexMaintenanceConfiguration mergeMaintenance(
@@ -311,7 +362,13 @@ public final class EffectiveIndexConfigurationResolver {
                 request.chunkStoreCache();
         return new EffectiveIndexChunkStoreCacheConfiguration(
                 intOr(requestedCache.pageLimit(),
-                        stored.chunkStoreCache().pageLimit()));
+                        stored.chunkStoreCache().pageLimit()),
+                longOr(requestedCache.byteLimit(),
+                        stored.chunkStoreCache().byteLimit()),
+                booleanOr(requestedCache.compactPages(),
+                        stored.chunkStoreCache().compactPages()),
+                booleanOr(requestedCache.warmOnCompaction(),
+                        stored.chunkStoreCache().warmOnCompaction()));
     }
 
     private static <K, V> void validateRequiredDatatypesAndIndexName(
@@ -439,6 +496,10 @@ public final class EffectiveIndexConfigurationResolver {
         return value == null ? fallback : value.intValue();
     }
 
+    private static long longOr(final Long value, final long fallback) {
+        return value == null ? fallback : value.longValue();
+    }
+
     private static boolean booleanOr(final Boolean value,
             final Boolean fallback) {
         return booleanOr(value, Vldtn.requireNonNull(fallback, FALLBACK_ARG)
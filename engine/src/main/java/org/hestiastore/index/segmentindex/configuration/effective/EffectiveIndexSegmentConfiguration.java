@@ -12,10 +12,28 @@ public final class EffectiveIndexSegmentConfiguration {
     private final int cacheKeyLimit;
     private final int cachedSegmentLimit;
     private final int deltaCacheFileLimit;
+    private final int chunkRestartInterval;
+    private final boolean deltaCacheOnDisk;
 
     public EffectiveIndexSegmentConfiguration(final int maxKeys,
             final int chunkKeyLimit, final int cacheKeyLimit,
             final int cachedSegmentLimit, final int deltaCacheFileLimit) {
+        this(maxKeys, chunkKeyLimit, cacheKeyLimit, cachedSegmentLimit,
+                deltaCacheFileLimit, 0);
+    }
+
+    public EffectiveIndexSegmentConfiguration(final int maxKeys,
+            final int chunkKeyLimit, final int cacheKeyLimit,
+            final int cachedSegmentLimit, final int deltaCacheFileLimit,
+            final int chunkRestartInterval) {
+        this(maxKeys, chunkKeyLimit, cacheKeyLimit, cachedSegmentLimit,
+                deltaCacheFileLimit, chunkRestartInterval, false);
+    }
+
+    public EffectiveIndexSegmentConfiguration(final int maxKeys,
+            final int chunkKeyLimit, final int cacheKeyLimit,
+            final int cachedSegmentLimit, final int deltaCacheFileLimit,
+            final int chunkRestartInterval, final boolean deltaCacheOnDisk) {
         this.maxKeys = Vldtn.requireGreaterThanZero(maxKeys, "maxKeys");
         this.chunkKeyLimit = Vldtn.requireGreaterThanZero(chunkKeyLimit,
                 "chunkKeyLimit");
@@ -25,6 +43,9 @@ public final class EffectiveIndexSegmentConfiguration {
                 cachedSegmentLimit, "cachedSegmentLimit");
         this.deltaCacheFileLimit = Vldtn.requireGreaterThanZero(
                 deltaCacheFileLimit, "deltaCacheFileLimit");
+        this.chunkRestartInterval = Vldtn.requireGreaterThanOrEqualToZero(
+                chunkRestartInterval, "chunkRestartInterval");
+        this.deltaCacheOnDisk = deltaCacheOnDisk;
     }
 
     public int maxKeys() {
@@ -46,4 +67,12 @@ public final class EffectiveIndexSegmentConfiguration {
     public int deltaCacheFileLimit() {
         return deltaCacheFileLimit;
     }
+
+    public int chunkRestartInterval() {
+        return chunkRestartInterval;
+    }
+
+    public boolean deltaCacheOnDisk() {
+        return deltaCacheOnDisk;
+    }
 }
@@ -1,6 +1,7 @@
 package org.hestiastore.index.segmentindex.configuration.effective;
 
 import org.hestiastore.index.Vldtn;
+import org.hestiastore.index.segmentindex.configuration.api.IndexConfigurationDefaults;
 
 /**
  * Resolved direct-to-segment write-path settings.
@@ -11,12 +12,25 @@ public final class EffectiveIndexWritePathConfiguration {
     private final int segmentWriteCacheKeyLimitDuringMaintenance;
     private final int indexBufferedWriteKeyLimit;
     private final int segmentSplitKeyThreshold;
+    private final int segmentMergeKeyThreshold;
 
     public EffectiveIndexWritePathConfiguration(
             final int segmentWriteCacheKeyLimit,
             final int segmentWriteCacheKeyLimitDuringMaintenance,
             final int indexBufferedWriteKeyLimit,
             final int segmentSplitKeyThreshold) {
+        this(segmentWriteCacheKeyLimit,
+                segmentWriteCacheKeyLimitDuringMaintenance,
+                indexBufferedWriteKeyLimit, segmentSplitKeyThreshold,
+                IndexConfigurationDefaults.DEFAULT_SEGMENT_MERGE_KEY_THRESHOLD);
+    }
+
+    public EffectiveIndexWritePathConfiguration(
+            final int segmentWriteCacheKeyLimit,
+            final int segmentWriteCacheKeyLimitDuringMaintenance,
+            final int indexBufferedWriteKeyLimit,
+            final int segmentSplitKeyThreshold,
+            final int segmentMergeKeyThreshold) {
         this.segmentWriteCacheKeyLimit = Vldtn.requireGreaterThanZero(
                 segmentWriteCacheKeyLimit, "segmentWriteCacheKeyLimit");
         this.segmentWriteCacheKeyLimitDuringMaintenance = Vldtn
@@ -27,6 +41,8 @@ public final class EffectiveIndexWritePathConfiguration {
                 indexBufferedWriteKeyLimit, "indexBufferedWriteKeyLimit");
         this.segmentSplitKeyThreshold = Vldtn.requireGreaterThanZero(
                 segmentSplitKeyThreshold, "segmentSplitKeyThreshold");
+        this.segmentMergeKeyThreshold = Vldtn.requireGreaterThanOrEqualToZero(
+                segmentMergeKeyThreshold, "segmentMergeKeyThreshold");
         Vldtn.requireTrue(segmentWriteCacheKeyLimitDuringMaintenance
                 > segmentWriteCacheKeyLimit,
                 "segmentWriteCacheKeyLimitDuringMaintenance must be greater than segmentWriteCacheKeyLimit");
@@ -50,4 +66,14 @@ public final class EffectiveIndexWritePathConfiguration {
     public int segmentSplitKeyThreshold() {
         return segmentSplitKeyThreshold;
     }
+
+    /**
+     * Returns the combined key count below which two adjacent routed segments
+     * are merged.
+     *
+     * @return merge threshold, {@code 0} when merging is disabled
+     */
+    public int segmentMergeKeyThreshold() {
+        return segmentMergeKeyThreshold;
+    }
 }
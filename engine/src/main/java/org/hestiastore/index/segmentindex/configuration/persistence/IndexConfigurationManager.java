@@ -92,14 +92,20 @@ public class IndexConfigurationManager<K, V> {
                 configuration.segment().cacheKeyLimit(),
                 configuration.segment().cachedSegmentLimit(),
                 configuration.segment().deltaCacheFileLimit(),
+                configuration.segment().chunkRestartInterval(),
+                configuration.segment().deltaCacheOnDisk(),
                 configuration.writePath().segmentWriteCacheKeyLimit(),
                 configuration.writePath()
                         .segmentWriteCacheKeyLimitDuringMaintenance(),
                 configuration.writePath().indexBufferedWriteKeyLimit(),
                 configuration.writePath().segmentSplitKeyThreshold(),
+                configuration.writePath().segmentMergeKeyThreshold(),
                 configuration.bloomFilter().hashFunctions(),
                 configuration.bloomFilter().indexSizeBytes(),
                 configuration.bloomFilter().falsePositiveProbability(),
+                configuration.bloomFilter().blocked(),
+                configuration.bloomFilter().memoryMapped(),
+                configuration.bloomFilter().autoSized(),
                 configuration.maintenance().indexThreads(),
                 configuration.maintenance().registryLifecycleThreads(),
                 configuration.maintenance().busyBackoffMillis(),
@@ -108,6 +114,9 @@ public class IndexConfigurationManager<K, V> {
                 configuration.io().diskBufferSizeBytes(),
                 configuration.logging().contextEnabled(),
                 configuration.chunkStoreCache().pageLimit(),
+                configuration.chunkStoreCache().byteLimit(),
+                configuration.chunkStoreCache().compactPages(),
+                configuration.chunkStoreCache().warmOnCompaction(),
                 configuration.wal(),
                 configuration.filters().encodingChunkFilterSpecs(),
                 configuration.filters().decodingChunkFilterSpecs());
@@ -52,8 +52,11 @@ public class IndexConfigurationStore<K, V> {
     private static final String PROP_INDEX_BUFFERED_WRITE_KEY_LIMIT = IndexPropertiesSchema.IndexConfigurationKeys.PROP_INDEX_BUFFERED_WRITE_KEY_LIMIT;
     private static final String PROP_MAX_NUMBER_OF_KEYS_IN_SEGMENT_CHUNK = IndexPropertiesSchema.IndexConfigurationKeys.PROP_MAX_NUMBER_OF_KEYS_IN_SEGMENT_CHUNK;
     private static final String PROP_MAX_NUMBER_OF_DELTA_CACHE_FILES = IndexPropertiesSchema.IndexConfigurationKeys.PROP_MAX_NUMBER_OF_DELTA_CACHE_FILES;
+    private static final String PROP_CHUNK_RESTART_INTERVAL = IndexPropertiesSchema.IndexConfigurationKeys.PROP_CHUNK_RESTART_INTERVAL;
+    private static final String PROP_DELTA_CACHE_ON_DISK = IndexPropertiesSchema.IndexConfigurationKeys.PROP_DELTA_CACHE_ON_DISK;
     private static final String PROP_MAX_NUMBER_OF_KEYS_IN_SEGMENT = IndexPropertiesSchema.IndexConfigurationKeys.PROP_MAX_NUMBER_OF_KEYS_IN_SEGMENT;
     private static final String PROP_SEGMENT_SPLIT_KEY_THRESHOLD = IndexPropertiesSchema.IndexConfigurationKeys.PROP_SEGMENT_SPLIT_KEY_THRESHOLD;
+    private static final String PROP_SEGMENT_MERGE_KEY_THRESHOLD = IndexPropertiesSchema.IndexConfigurationKeys.PROP_SEGMENT_MERGE_KEY_THRESHOLD;
     private static final String PROP_MAX_NUMBER_OF_SEGMENTS_IN_CACHE = IndexPropertiesSchema.IndexConfigurationKeys.PROP_MAX_NUMBER_OF_SEGMENTS_IN_CACHE;
     private static final String PROP_NUMBER_OF_INDEX_MAINTENANCE_THREADS = IndexPropertiesSchema.IndexConfigurationKeys.PROP_NUMBER_OF_INDEX_MAINTENANCE_THREADS;
     private static final String PROP_NUMBER_OF_REGISTRY_LIFECYCLE_THREADS = IndexPropertiesSchema.IndexConfigurationKeys.PROP_NUMBER_OF_REGISTRY_LIFECYCLE_THREADS;
@@ -63,10 +66,16 @@ public class IndexConfigurationStore<K, V> {
     private static final String PROP_BLOOM_FILTER_NUMBER_OF_HASH_FUNCTIONS = IndexPropertiesSchema.IndexConfigurationKeys.PROP_BLOOM_FILTER_NUMBER_OF_HASH_FUNCTIONS;
     private static final String PROP_BLOOM_FILTER_INDEX_SIZE_IN_BYTES = IndexPropertiesSchema.IndexConfigurationKeys.PROP_BLOOM_FILTER_INDEX_SIZE_IN_BYTES;
     private static final String PROP_BLOOM_FILTER_PROBABILITY_OF_FALSE_POSITIVE = IndexPropertiesSchema.IndexConfigurationKeys.PROP_BLOOM_FILTER_PROBABILITY_OF_FALSE_POSITIVE;
+    private static final String PROP_BLOOM_FILTER_BLOCKED = IndexPropertiesSchema.IndexConfigurationKeys.PROP_BLOOM_FILTER_BLOCKED;
+    private static final String PROP_BLOOM_FILTER_MEMORY_MAPPED = IndexPropertiesSchema.IndexConfigurationKeys.PROP_BLOOM_FILTER_MEMORY_MAPPED;
+    private static final String PROP_BLOOM_FILTER_AUTO_SIZED = IndexPropertiesSchema.IndexConfigurationKeys.PROP_BLOOM_FILTER_AUTO_SIZED;
     private static final String PROP_DISK_IO_BUFFER_SIZE_IN_BYTES = IndexPropertiesSchema.IndexConfigurationKeys.PROP_DISK_IO_BUFFER_SIZE_IN_BYTES;
     private static final String PROP_ENCODING_CHUNK_FILTERS = IndexPropertiesSchema.IndexConfigurationKeys.PROP_ENCODING_CHUNK_FILTERS;
     private static final String PROP_DECODING_CHUNK_FILTERS = IndexPropertiesSchema.IndexConfigurationKeys.PROP_DECODING_CHUNK_FILTERS;
     private static final String PROP_CHUNK_STORE_CACHE_PAGE_LIMIT = IndexPropertiesSchema.IndexConfigurationKeys.PROP_CHUNK_STORE_CACHE_PAGE_LIMIT;
+    private static final String PROP_CHUNK_STORE_CACHE_BYTE_LIMIT = IndexPropertiesSchema.IndexConfigurationKeys.PROP_CHUNK_STORE_CACHE_BYTE_LIMIT;
+    private static final String PROP_CHUNK_STORE_CACHE_COMPACT_PAGES = IndexPropertiesSchema.IndexConfigurationKeys.PROP_CHUNK_STORE_CACHE_COMPACT_PAGES;
+    private static final String PROP_CHUNK_STORE_CACHE_WARM_ON_COMPACTION = IndexPropertiesSchema.IndexConfigurationKeys.PROP_CHUNK_STORE_CACHE_WARM_ON_COMPACTION;
     private static final String PROP_WAL_ENABLED = IndexPropertiesSchema.IndexConfigurationKeys.PROP_WAL_ENABLED;
     private static final String PROP_WAL_DURABILITY_MODE = IndexPropertiesSchema.IndexConfigurationKeys.PROP_WAL_DURABILITY_MODE;
     private static final String PROP_WAL_SEGMENT_SIZE_BYTES = IndexPropertiesSchema.IndexConfigurationKeys.PROP_WAL_SEGMENT_SIZE_BYTES;
@@ -132,9 +141,18 @@ public class IndexConfigurationStore<K, V> {
         final int maxNumberOfDeltaCacheFiles = getOrDefault(propsView,
                 PROP_MAX_NUMBER_OF_DELTA_CACHE_FILES,
                 IndexConfigurationDefaults.DEFAULT_DELTA_CACHE_FILE_LIMIT);
+        final int chunkRestartInterval = getOrDefault(propsView,
+                PROP_CHUNK_RESTART_INTERVAL,
+                IndexConfigurationDefaults.DEFAULT_CHUNK_RESTART_INTERVAL);
+        final boolean deltaCacheOnDisk = getOrDefaultBoolean(propsView,
+                PROP_DELTA_CACHE_ON_DISK,
+                IndexConfigurationDefaults.DEFAULT_DELTA_CACHE_ON_DISK);
         final int segmentSplitKeyThreshold = getOrDefault(propsView,
                 PROP_SEGMENT_SPLIT_KEY_THRESHOLD,
                 IndexConfigurationDefaults.DEFAULT_SEGMENT_SPLIT_KEY_THRESHOLD);
+        final int segmentMergeKeyThreshold = getOrDefault(propsView,
+                PROP_SEGMENT_MERGE_KEY_THRESHOLD,
+                IndexConfigurationDefaults.DEFAULT_SEGMENT_MERGE_KEY_THRESHOLD);
         final int maxNumberOfKeysInSegment = getOrDefault(propsView,
                 PROP_MAX_NUMBER_OF_KEYS_IN_SEGMENT,
                 segmentSplitKeyThreshold);
@@ -168,18 +186,28 @@ public class IndexConfigurationStore<K, V> {
                                 PROP_MAX_NUMBER_OF_KEYS_IN_SEGMENT_CHUNK),
                         (int) maxNumberOfKeysInSegmentCache,
                         propsView.getInt(PROP_MAX_NUMBER_OF_SEGMENTS_IN_CACHE),
-                        maxNumberOfDeltaCacheFiles),
+                        maxNumberOfDeltaCacheFiles, chunkRestartInterval,
+                        deltaCacheOnDisk),
                 new EffectiveIndexWritePathConfiguration(
                         (int) segmentWriteCacheKeyLimit,
                         (int) segmentWriteCacheKeyLimitDuringMaintenance,
                         (int) indexBufferedWriteKeyLimit,
-                        segmentSplitKeyThreshold),
+                        segmentSplitKeyThreshold, segmentMergeKeyThreshold),
                 new EffectiveIndexBloomFilterConfiguration(
                         propsView.getInt(
                                 PROP_BLOOM_FILTER_NUMBER_OF_HASH_FUNCTIONS),
                         propsView.getInt(
                                 PROP_BLOOM_FILTER_INDEX_SIZE_IN_BYTES),
-                        falsePositiveProbability),
+                        falsePositiveProbability,
+                        getOrDefaultBoolean(propsView,
+                                PROP_BLOOM_FILTER_BLOCKED,
+                                IndexConfigurationDefaults.DEFAULT_BLOOM_FILTER_BLOCKED),
+                        getOrDefaultBoolean(propsView,
+                                PROP_BLOOM_FILTER_MEMORY_MAPPED,
+                                IndexConfigurationDefaults.DEFAULT_BLOOM_FILTER_MEMORY_MAPPED),
+                        getOrDefaultBoolean(propsView,
+                                PROP_BLOOM_FILTER_AUTO_SIZED,
+                                IndexConfigurationDefaults.DEFAULT_BLOOM_FILTER_AUTO_SIZED)),
                 new EffectiveIndexMaintenanceConfiguration(
                         getOrDefault(propsView,
                                 PROP_NUMBER_OF_INDEX_MAINTENANCE_THREADS,
@@ -203,7 +231,16 @@ public class IndexConfigurationStore<K, V> {
                         decodingSpecs, chunkFilterProviderResolver),
                 new EffectiveIndexChunkStoreCacheConfiguration(
                         propsView.getInt(
-                                PROP_CHUNK_STORE_CACHE_PAGE_LIMIT)));
+                                PROP_CHUNK_STORE_CACHE_PAGE_LIMIT),
+                        getOrDefaultLong(propsView,
+                                PROP_CHUNK_STORE_CACHE_BYTE_LIMIT,
+                                IndexConfigurationDefaults.DEFAULT_CHUNK_STORE_CACHE_BYTE_LIMIT),
+                        getOrDefaultBoolean(propsView,
+                                PROP_CHUNK_STORE_CACHE_COMPACT_PAGES,
+                                IndexConfigurationDefaults.DEFAULT_CHUNK_STORE_CACHE_COMPACT_PAGES),
+                        getOrDefaultBoolean(propsView,
+                                PROP_CHUNK_STORE_CACHE_WARM_ON_COMPACTION,
+                                IndexConfigurationDefaults.DEFAULT_CHUNK_STORE_CACHE_WARM_ON_COMPACTION)));
     }
 
     /**
@@ -240,6 +277,8 @@ public class IndexConfigurationStore<K, V> {
                 segment.maxKeys());
         writer.setInt(PROP_SEGMENT_SPLIT_KEY_THRESHOLD,
                 writePath.segmentSplitKeyThreshold());
+        writer.setInt(PROP_SEGMENT_MERGE_KEY_THRESHOLD,
+                writePath.segmentMergeKeyThreshold());
         writer.setInt(PROP_DISK_IO_BUFFER_SIZE_IN_BYTES,
                 indexConfiguration.io().diskBufferSizeBytes());
 
@@ -256,6 +295,9 @@ public class IndexConfigurationStore<K, V> {
                 segment.chunkKeyLimit());
         writer.setInt(PROP_MAX_NUMBER_OF_DELTA_CACHE_FILES,
                 segment.deltaCacheFileLimit());
+        writer.setInt(PROP_CHUNK_RESTART_INTERVAL,
+                segment.chunkRestartInterval());
+        writer.setBoolean(PROP_DELTA_CACHE_ON_DISK, segment.deltaCacheOnDisk());
         final int indexMaintenanceThreads = maintenance.indexThreads();
         writer.setInt(PROP_NUMBER_OF_INDEX_MAINTENANCE_THREADS,
                 indexMaintenanceThreads);
@@ -275,6 +317,11 @@ public class IndexConfigurationStore<K, V> {
                 bloomFilter.indexSizeBytes());
         writer.setDouble(PROP_BLOOM_FILTER_PROBABILITY_OF_FALSE_POSITIVE,
                 bloomFilter.falsePositiveProbability());
+        writer.setBoolean(PROP_BLOOM_FILTER_BLOCKED, bloomFilter.blocked());
+        writer.setBoolean(PROP_BLOOM_FILTER_MEMORY_MAPPED,
+                bloomFilter.memoryMapped());
+        writer.setBoolean(PROP_BLOOM_FILTER_AUTO_SIZED,
+                bloomFilter.autoSized());
         writer.setString(PROP_ENCODING_CHUNK_FILTERS,
                 ChunkFilterSpecCodec
                         .serialize(filters.encodingChunkFilterSpecs()));
@@ -284,6 +331,12 @@ public class IndexConfigurationStore<K, V> {
                         .serialize(filters.decodingChunkFilterSpecs()));
         writer.setInt(PROP_CHUNK_STORE_CACHE_PAGE_LIMIT,
                 indexConfiguration.chunkStoreCache().pageLimit());
+        writer.setLong(PROP_CHUNK_STORE_CACHE_BYTE_LIMIT,
+                indexConfiguration.chunkStoreCache().byteLimit());
+        writer.setBoolean(PROP_CHUNK_STORE_CACHE_COMPACT_PAGES,
+                indexConfiguration.chunkStoreCache().compactPages());
+        writer.setBoolean(PROP_CHUNK_STORE_CACHE_WARM_ON_COMPACTION,
+                indexConfiguration.chunkStoreCache().warmOnCompaction());
         final IndexWalConfiguration wal =
                 IndexWalConfiguration.orEmpty(
                         indexConfiguration.wal());
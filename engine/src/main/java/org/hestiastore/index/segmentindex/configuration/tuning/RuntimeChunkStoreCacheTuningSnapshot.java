@@ -8,13 +8,25 @@ import org.hestiastore.index.Vldtn;
 public final class RuntimeChunkStoreCacheTuningSnapshot {
 
     private final int pageLimit;
+    private final long byteLimit;
 
     RuntimeChunkStoreCacheTuningSnapshot(final int pageLimit) {
+        this(pageLimit, 0);
+    }
+
+    RuntimeChunkStoreCacheTuningSnapshot(final int pageLimit,
+            final long byteLimit) {
         this.pageLimit = Vldtn.requireGreaterThanOrEqualToZero(pageLimit,
                 "pageLimit");
+        this.byteLimit = Vldtn.requireGreaterThanOrEqualToZero(byteLimit,
+                "byteLimit");
     }
 
     public int pageLimit() {
         return pageLimit;
     }
+
+    public long byteLimit() {
+        return byteLimit;
+    }
 }
@@ -55,5 +55,7 @@ public final class RuntimeSegmentLimitApplier<K, V> {
             segment.getRuntime().updateRuntimeLimits(limits);
         }
         chunkStoreCache.updateLimit(effective.chunkStoreCache().pageLimit());
+        chunkStoreCache
+                .updateByteLimit(effective.chunkStoreCache().byteLimit());
     }
 }
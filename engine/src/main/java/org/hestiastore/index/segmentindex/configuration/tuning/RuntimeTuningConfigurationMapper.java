@@ -27,16 +27,22 @@ public final class RuntimeTuningConfigurationMapper {
                         tuning.writePath()
                                 .segmentWriteCacheKeyLimitDuringMaintenance(),
                         tuning.writePath().indexBufferedWriteKeyLimit(),
-                        tuning.writePath().segmentSplitKeyThreshold());
+                        tuning.writePath().segmentSplitKeyThreshold(),
+                        base.writePath().segmentMergeKeyThreshold());
         final EffectiveIndexSegmentConfiguration segment =
                 new EffectiveIndexSegmentConfiguration(base.segment().maxKeys(),
                         base.segment().chunkKeyLimit(),
                         tuning.segment().cacheKeyLimit(),
                         tuning.segment().cachedSegmentLimit(),
-                        base.segment().deltaCacheFileLimit());
+                        base.segment().deltaCacheFileLimit(),
+                        base.segment().chunkRestartInterval(),
+                        base.segment().deltaCacheOnDisk());
         final EffectiveIndexChunkStoreCacheConfiguration chunkCache =
                 new EffectiveIndexChunkStoreCacheConfiguration(
-                        tuning.chunkStoreCache().pageLimit());
+                        tuning.chunkStoreCache().pageLimit(),
+                        tuning.chunkStoreCache().byteLimit(),
+                        base.chunkStoreCache().compactPages(),
+                        base.chunkStoreCache().warmOnCompaction());
         return new EffectiveIndexConfiguration<>(base.identity(), segment,
                 writePath, base.bloomFilter(), base.maintenance(), base.io(),
                 base.logging(), base.wal(), base.filters(), chunkCache);
@@ -18,7 +18,9 @@ public enum RuntimeTuningKey {
     /** Split threshold for a single routed segment. */
     SEGMENT_SPLIT_KEY_THRESHOLD("writePath.segmentSplitKeyThreshold"),
     /** Parsed persisted chunk page cache capacity. */
-    CHUNK_STORE_CACHE_PAGE_LIMIT("chunkStoreCache.pageLimit");
+    CHUNK_STORE_CACHE_PAGE_LIMIT("chunkStoreCache.pageLimit"),
+    /** Parsed persisted chunk page cache weight limit in bytes. */
+    CHUNK_STORE_CACHE_BYTE_LIMIT("chunkStoreCache.byteLimit");
 
     private final String path;
 
@@ -66,6 +66,8 @@ final class RuntimeTuningPatchApplier<K, V> {
                 RuntimeTuningKey.SEGMENT_SPLIT_KEY_THRESHOLD);
         addChange(changes, before, after,
                 RuntimeTuningKey.CHUNK_STORE_CACHE_PAGE_LIMIT);
+        addChange(changes, before, after,
+                RuntimeTuningKey.CHUNK_STORE_CACHE_BYTE_LIMIT);
         return List.copyOf(changes);
     }
 
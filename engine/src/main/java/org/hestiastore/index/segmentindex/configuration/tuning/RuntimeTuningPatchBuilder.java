@@ -104,6 +104,19 @@ public final class RuntimeTuningPatchBuilder {
         return this;
     }
 
+    /**
+     * Sets the parsed chunk-store cache byte limit.
+     *
+     * @param value byte limit, or {@code 0} to bound by page count only
+     * @return this builder
+     */
+    public RuntimeTuningPatchBuilder chunkStoreCacheByteLimit(
+            final long value) {
+        values.put(RuntimeTuningKey.CHUNK_STORE_CACHE_BYTE_LIMIT,
+                RuntimeTuningValue.ofLong(value));
+        return this;
+    }
+
     /**
      * Sets the expected runtime tuning revision.
      *
@@ -54,12 +54,20 @@ final class RuntimeTuningPatchValidator {
                 .values().entrySet()) {
             final RuntimeTuningKey key = entry.getKey();
             final RuntimeTuningValue value = entry.getValue();
-            final int intValue = value.asInt();
+            if (key == RuntimeTuningKey.CHUNK_STORE_CACHE_BYTE_LIMIT) {
+                normalizeChunkStoreCacheLimit(issues, normalized, key, value);
+                continue;
+            }
+            if (!value.fitsInt()) {
+                issues.add(new RuntimeTuningValidationIssue(key,
+                        "value must be <= " + Integer.MAX_VALUE));
+                continue;
+            }
             if (key == RuntimeTuningKey.CHUNK_STORE_CACHE_PAGE_LIMIT) {
-                normalizeChunkStoreCachePageLimit(issues, normalized, key,
-                        value, intValue);
+                normalizeChunkStoreCacheLimit(issues, normalized, key, value);
                 continue;
             }
+            final int intValue = value.asInt();
             if (intValue < MIN_GENERAL_VALUE) {
                 issues.add(new RuntimeTuningValidationIssue(key,
                         "value must be >= 1"));
@@ -75,12 +83,11 @@ final class RuntimeTuningPatchValidator {
         }
     }
 
-    private void normalizeChunkStoreCachePageLimit(
+    private void normalizeChunkStoreCacheLimit(
             final List<RuntimeTuningValidationIssue> issues,
             final EnumMap<RuntimeTuningKey, RuntimeTuningValue> normalized,
-            final RuntimeTuningKey key, final RuntimeTuningValue value,
-            final int intValue) {
-        if (intValue < 0) {
+            final RuntimeTuningKey key, final RuntimeTuningValue value) {
+        if (value.asLong() < 0) {
             issues.add(new RuntimeTuningValidationIssue(key,
                     "value must be >= 0"));
             return;
@@ -67,9 +67,13 @@ public final class RuntimeTuningSnapshot {
                         value(input,
                                 RuntimeTuningKey.SEGMENT_SPLIT_KEY_THRESHOLD)
                                 .asInt()),
-                new RuntimeChunkStoreCacheTuningSnapshot(value(input,
-                        RuntimeTuningKey.CHUNK_STORE_CACHE_PAGE_LIMIT)
-                        .asInt()));
+                new RuntimeChunkStoreCacheTuningSnapshot(
+                        value(input,
+                                RuntimeTuningKey.CHUNK_STORE_CACHE_PAGE_LIMIT)
+                                .asInt(),
+                        value(input,
+                                RuntimeTuningKey.CHUNK_STORE_CACHE_BYTE_LIMIT)
+                                .asLong()));
     }
 
     public String indexName() {
@@ -113,6 +117,8 @@ public final class RuntimeTuningSnapshot {
                     .ofInt(writePath.segmentSplitKeyThreshold());
             case CHUNK_STORE_CACHE_PAGE_LIMIT -> RuntimeTuningValue
                     .ofInt(chunkStoreCache.pageLimit());
+            case CHUNK_STORE_CACHE_BYTE_LIMIT -> RuntimeTuningValue
+                    .ofLong(chunkStoreCache.byteLimit());
         };
     }
 
@@ -55,6 +55,9 @@ public final class RuntimeTuningState {
         baselineValues.put(RuntimeTuningKey.CHUNK_STORE_CACHE_PAGE_LIMIT,
                 RuntimeTuningValue
                         .ofInt(tuning.chunkStoreCache().pageLimit()));
+        baselineValues.put(RuntimeTuningKey.CHUNK_STORE_CACHE_BYTE_LIMIT,
+                RuntimeTuningValue
+                        .ofLong(tuning.chunkStoreCache().byteLimit()));
         return new RuntimeTuningState(configuration.identity().name(),
                 baselineValues);
     }
@@ -175,6 +178,16 @@ public final class RuntimeTuningState {
                 .asInt();
     }
 
+    /**
+     * Returns the effective chunk store cache byte limit.
+     *
+     * @return effective chunk store cache byte limit
+     */
+    public long chunkStoreCacheByteLimit() {
+        return effectiveValue(RuntimeTuningKey.CHUNK_STORE_CACHE_BYTE_LIMIT)
+                .asLong();
+    }
+
     long revision() {
         return revision.get();
     }
@@ -1,13 +1,14 @@
 package org.hestiastore.index.segmentindex.configuration.tuning;
 
 /**
- * Integer value used by runtime tuning patches and change reports.
+ * Numeric value used by runtime tuning patches and change reports. Key
+ * limits are integers, byte limits are longs.
  */
 public final class RuntimeTuningValue {
 
-    private final int value;
+    private final long value;
 
-    private RuntimeTuningValue(final int value) {
+    private RuntimeTuningValue(final long value) {
         this.value = value;
     }
 
@@ -21,15 +22,48 @@ public final class RuntimeTuningValue {
         return new RuntimeTuningValue(value);
     }
 
+    /**
+     * Creates a long tuning value.
+     *
+     * @param value long value
+     * @return runtime tuning value
+     */
+    public static RuntimeTuningValue ofLong(final long value) {
+        return new RuntimeTuningValue(value);
+    }
+
     /**
      * Returns this value as an integer.
      *
      * @return integer value
+     * @throws IllegalStateException when the value doesn't fit an integer
      */
     public int asInt() {
+        if (!fitsInt()) {
+            throw new IllegalStateException(String.format(
+                    "Value '%s' doesn't fit an integer", value));
+        }
+        return (int) value;
+    }
+
+    /**
+     * Returns this value as a long.
+     *
+     * @return long value
+     */
+    public long asLong() {
         return value;
     }
 
+    /**
+     * Returns whether this value fits an integer.
+     *
+     * @return true for values in the integer range
+     */
+    public boolean fitsInt() {
+        return value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE;
+    }
+
     @Override
     public boolean equals(final Object other) {
         if (this == other) {
@@ -44,11 +78,11 @@ public final class RuntimeTuningValue {
 
     @Override
     public int hashCode() {
-        return Integer.hashCode(value);
+        return Long.hashCode(value);
     }
 
     @Override
     public String toString() {
-        return Integer.toString(value);
+        return Long.toString(value);
     }
 }
@@ -28,6 +28,14 @@ public final class IndexOperationStatsRecorder {
         putCount.increment();
     }
 
+    public void recordPutRequests(final int count) {
+        putCount.add(count);
+    }
+
+    public void recordDeleteRequests(final int count) {
+        deleteCount.add(count);
+    }
+
     public void recordGetRequest() {
         getCount.increment();
     }
@@ -36,6 +44,10 @@ public final class IndexOperationStatsRecorder {
         deleteCount.increment();
     }
 
+    public void recordGetRequests(final int count) {
+        getCount.add(count);
+    }
+
     public void recordReadLatencyNanos(final long nanos) {
         readLatency.recordNanos(nanos);
     }
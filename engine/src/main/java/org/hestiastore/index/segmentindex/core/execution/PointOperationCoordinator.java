@@ -1,5 +1,15 @@
 package org.hestiastore.index.segmentindex.core.execution;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import org.hestiastore.index.Entry;
 import org.hestiastore.index.Vldtn;
 import org.hestiastore.index.datatype.TypeDescriptor;
 import org.hestiastore.index.segmentindex.core.routing.MappedSegmentLease;
@@ -18,17 +28,20 @@ public final class PointOperationCoordinator<K, V> {
     private final IndexOperationStatsRecorder statsRecorder;
     private final MappedSegmentLeaseService<K, V> segmentLeaseService;
     private final StorageCoordinator<K, V> storageService;
+    private final Comparator<K> keyComparator;
     private final TypeDescriptor<V> valueTypeDescriptor;
 
     /**
      * Creates an operation coordinator from initialized runtime services.
      *
+     * @param keyTypeDescriptor key descriptor used to order batch writes
      * @param valueTypeDescriptor value descriptor used for tombstones
      * @param statsRecorder operation metrics recorder
      * @param segmentLeaseService segment lease service
      * @param storageService storage and WAL service
      */
     public PointOperationCoordinator(
+            final TypeDescriptor<K> keyTypeDescriptor,
             final TypeDescriptor<V> valueTypeDescriptor,
             final IndexOperationStatsRecorder statsRecorder,
             final MappedSegmentLeaseService<K, V> segmentLeaseService,
@@ -39,6 +52,10 @@ public final class PointOperationCoordinator<K, V> {
                 "segmentLeaseService");
         this.storageService = Vldtn.requireNonNull(storageService,
                 "storageService");
+        this.keyComparator = Vldtn.requireNonNull(
+                Vldtn.requireNonNull(keyTypeDescriptor, "keyTypeDescriptor")
+                        .getComparator(),
+                "keyTypeDescriptor.getComparator()");
         this.valueTypeDescriptor = Vldtn.requireNonNull(valueTypeDescriptor,
                 "valueTypeDescriptor");
     }
@@ -77,6 +94,34 @@ public final class PointOperationCoordinator<K, V> {
         return result;
     }
 
+    /**
+     * Reads the values currently stored for many keys. Keys are routed once,
+     * grouped by segment and resolved with one segment lease and one batched
+     * segment lookup per group.
+     *
+     * @param keys keys to read
+     * @return values in the iteration order of {@code keys}, {@code null}
+     *         where a key is absent
+     */
+    public List<V> getAll(final Collection<K> keys) {
+        final long startedNanos = startReadOperation();
+        final List<K> requested = new ArrayList<>(
+                Vldtn.requireNonNull(keys, "keys").size());
+        for (final K key : keys) {
+            requested.add(requireKey(key));
+        }
+        statsRecorder.recordGetRequests(requested.size());
+        final List<K> sortedKeys = sortDistinct(requested);
+        final List<V> sortedValues = readBatchFromSegments(sortedKeys);
+        final List<V> result = new ArrayList<>(requested.size());
+        for (final K key : requested) {
+            result.add(sortedValues.get(Collections.binarySearch(sortedKeys,
+                    key, keyComparator)));
+        }
+        recordReadLatency(startedNanos);
+        return result;
+    }
+
     /**
      * Deletes a key by writing its tombstone value.
      *
@@ -92,6 +137,50 @@ public final class PointOperationCoordinator<K, V> {
         recordWriteLatency(startedNanos);
     }
 
+    /**
+     * Stores many entries as one batch. The batch is sorted by key, logged as
+     * one WAL batch with a single durability wait and written with one segment
+     * lease per target segment. When a key occurs more than once, the last
+     * occurrence wins.
+     *
+     * @param entries entries to store
+     */
+    public void putAll(final Collection<Entry<K, V>> entries) {
+        final long startedNanos = startWriteOperation();
+        final List<Entry<K, V>> batch = new ArrayList<>(
+                Vldtn.requireNonNull(entries, "entries").size());
+        for (final Entry<K, V> entry : entries) {
+            final Entry<K, V> nonNullEntry = Vldtn.requireNonNull(entry,
+                    "entry");
+            final V nonNullValue = requireValue(nonNullEntry.getValue());
+            rejectTombstoneValue(nonNullValue);
+            batch.add(Entry.of(requireKey(nonNullEntry.getKey()),
+                    nonNullValue));
+        }
+        statsRecorder.recordPutRequests(batch.size());
+        writeBatch(batch);
+        recordWriteLatency(startedNanos);
+    }
+
+    /**
+     * Deletes many keys as one batch by writing their tombstone values. The
+     * batch shares one WAL durability wait and one segment lease per target
+     * segment.
+     *
+     * @param keys keys to delete
+     */
+    public void deleteAll(final Collection<K> keys) {
+        final long startedNanos = startWriteOperation();
+        final List<Entry<K, V>> batch = new ArrayList<>(
+                Vldtn.requireNonNull(keys, "keys").size());
+        for (final K key : keys) {
+            batch.add(Entry.of(requireKey(key), null));
+        }
+        statsRecorder.recordDeleteRequests(batch.size());
+        writeBatch(batch);
+        recordWriteLatency(startedNanos);
+    }
+
     /**
      * Replays one WAL record into the segment layer.
      *
@@ -106,6 +195,78 @@ public final class PointOperationCoordinator<K, V> {
         storageService.recordAppliedWalLsn(nonNullReplayRecord.getLsn());
     }
 
+    /**
+     * Replays WAL records, given in LSN order, into the segment layer.
+     *
+     * <p>
+     * Only the newest record of each key is written. Keys are grouped by the
+     * segment the route map currently sends them to, and the groups are
+     * written concurrently on the replay executor.
+     * </p>
+     *
+     * @param replayRecords  WAL records in LSN order
+     * @param replayExecutor executor writing the segment groups
+     */
+    public void replayWalRecords(
+            final List<WalRuntime.ReplayRecord<K, V>> replayRecords,
+            final Executor replayExecutor) {
+        Vldtn.requireNonNull(replayRecords, "replayRecords");
+        Vldtn.requireNonNull(replayExecutor, "replayExecutor");
+        if (replayRecords.isEmpty()) {
+            return;
+        }
+        final List<Entry<K, V>> batch = new ArrayList<>(replayRecords.size());
+        long maxLsn = 0L;
+        for (final WalRuntime.ReplayRecord<K, V> replayRecord : replayRecords) {
+            Vldtn.requireNonNull(replayRecord, "replayRecord");
+            batch.add(Entry.of(replayRecord.getKey(),
+                    replayValue(replayRecord)));
+            maxLsn = Math.max(maxLsn, replayRecord.getLsn());
+        }
+        final List<Entry<K, V>> sorted = sortAndDeduplicate(batch);
+        final List<K> keys = keysOf(sorted);
+        final List<CompletableFuture<Void>> partitions = new ArrayList<>();
+        int from = segmentLeaseService.currentRoutedRunEnd(keys, 0);
+        if (from == sorted.size()) {
+            writeSortedRun(sorted, keys, 0, from);
+        } else {
+            partitions.add(submitSortedRun(sorted, keys, 0, from,
+                    replayExecutor));
+            while (from < sorted.size()) {
+                final int to = segmentLeaseService.currentRoutedRunEnd(keys,
+                        from);
+                partitions.add(submitSortedRun(sorted, keys, from, to,
+                        replayExecutor));
+                from = to;
+            }
+            awaitPartitions(partitions);
+        }
+        storageService.recordAppliedWalLsn(maxLsn);
+    }
+
+    /**
+     * Returns the WAL replay callback that replays recovery batches through
+     * {@link #replayWalRecords(List, Executor)}.
+     *
+     * @return WAL replay consumer
+     */
+    public WalRuntime.ReplayConsumer<K, V> walReplayConsumer() {
+        return new WalRuntime.ReplayConsumer<>() {
+            @Override
+            public void accept(
+                    final WalRuntime.ReplayRecord<K, V> replayRecord) {
+                replayWalRecord(replayRecord);
+            }
+
+            @Override
+            public void acceptBatch(
+                    final List<WalRuntime.ReplayRecord<K, V>> replayRecords,
+                    final Executor replayExecutor) {
+                replayWalRecords(replayRecords, replayExecutor);
+            }
+        };
+    }
+
     private V readFromSegment(final K key) {
         final MappedSegmentLease<K, V> lease = segmentLeaseService.acquireForRead(
                 key);
@@ -117,6 +278,43 @@ public final class PointOperationCoordinator<K, V> {
         }
     }
 
+    private List<V> readBatchFromSegments(final List<K> sortedKeys) {
+        final List<V> values = new ArrayList<>(sortedKeys.size());
+        int from = 0;
+        while (from < sortedKeys.size()) {
+            final MappedSegmentLease<K, V> lease = segmentLeaseService
+                    .acquireForRead(sortedKeys.get(from));
+            if (lease == null) {
+                // No routes at all, so none of the remaining keys exist.
+                while (values.size() < sortedKeys.size()) {
+                    values.add(null);
+                }
+                return values;
+            }
+            try (MappedSegmentLease<K, V> activeLease = lease) {
+                final int to = segmentLeaseService.routedRunEnd(activeLease,
+                        sortedKeys, from);
+                values.addAll(activeLease.segment()
+                        .getAll(sortedKeys.subList(from, to)));
+                from = to;
+            }
+        }
+        return values;
+    }
+
+    private List<K> sortDistinct(final List<K> keys) {
+        final List<K> sorted = new ArrayList<>(keys);
+        sorted.sort(keyComparator);
+        final List<K> out = new ArrayList<>(sorted.size());
+        for (final K key : sorted) {
+            if (out.isEmpty() || keyComparator
+                    .compare(out.get(out.size() - 1), key) != 0) {
+                out.add(key);
+            }
+        }
+        return out;
+    }
+
     private void writeToSegment(final K key, final V value) {
         try (MappedSegmentLease<K, V> lease = segmentLeaseService
                 .acquireForWrite(key)) {
@@ -124,6 +322,92 @@ public final class PointOperationCoordinator<K, V> {
         }
     }
 
+    /**
+     * Writes a validated batch where {@code null} values mark deletes.
+     */
+    private void writeBatch(final List<Entry<K, V>> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        final List<Entry<K, V>> sorted = sortAndDeduplicate(batch);
+        final long walLsn = storageService.appendWalBatch(sorted);
+        writeSortedRun(sorted, keysOf(sorted), 0, sorted.size());
+        storageService.recordAppliedWalLsn(walLsn);
+    }
+
+    /**
+     * Writes {@code sorted[from, to)} with one segment lease per routed run.
+     */
+    private void writeSortedRun(final List<Entry<K, V>> sorted,
+            final List<K> keys, final int fromIndex, final int toIndex) {
+        int from = fromIndex;
+        while (from < toIndex) {
+            try (MappedSegmentLease<K, V> lease = segmentLeaseService
+                    .acquireForWrite(keys.get(from))) {
+                final int to = Math.min(toIndex,
+                        segmentLeaseService.routedRunEnd(lease, keys, from));
+                for (int i = from; i < to; i++) {
+                    final Entry<K, V> entry = sorted.get(i);
+                    lease.segment().put(entry.getKey(),
+                            segmentValue(entry.getValue()));
+                }
+                from = to;
+            }
+        }
+    }
+
+    private CompletableFuture<Void> submitSortedRun(
+            final List<Entry<K, V>> sorted, final List<K> keys,
+            final int fromIndex, final int toIndex, final Executor executor) {
+        return CompletableFuture.runAsync(
+                () -> writeSortedRun(sorted, keys, fromIndex, toIndex),
+                executor);
+    }
+
+    private void awaitPartitions(
+            final List<CompletableFuture<Void>> partitions) {
+        try {
+            CompletableFuture
+                    .allOf(partitions.toArray(CompletableFuture[]::new))
+                    .join();
+        } catch (final CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw ex;
+        }
+    }
+
+    private List<K> keysOf(final List<Entry<K, V>> sorted) {
+        final List<K> keys = new ArrayList<>(sorted.size());
+        for (final Entry<K, V> entry : sorted) {
+            keys.add(entry.getKey());
+        }
+        return keys;
+    }
+
+    private List<Entry<K, V>> sortAndDeduplicate(
+            final List<Entry<K, V>> batch) {
+        // List.sort is stable, so the last occurrence of a key stays last.
+        batch.sort((left, right) -> keyComparator.compare(left.getKey(),
+                right.getKey()));
+        final List<Entry<K, V>> out = new ArrayList<>(batch.size());
+        for (final Entry<K, V> entry : batch) {
+            final int last = out.size() - 1;
+            if (last >= 0 && keyComparator.compare(out.get(last).getKey(),
+                    entry.getKey()) == 0) {
+                out.set(last, entry);
+            } else {
+                out.add(entry);
+            }
+        }
+        return out;
+    }
+
+    private V segmentValue(final V value) {
+        return value == null ? tombstoneValue() : value;
+    }
+
     private long startWriteOperation() {
         return System.nanoTime();
     }
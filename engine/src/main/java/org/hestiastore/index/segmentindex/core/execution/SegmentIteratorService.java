@@ -1,5 +1,7 @@
 package org.hestiastore.index.segmentindex.core.execution;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -126,6 +128,65 @@ public final class SegmentIteratorService<K, V> {
                 nonNullWindow), nonNullIsolation);
     }
 
+    /**
+     * Opens an iterator over entries with keys in
+     * {@code [fromInclusive, toExclusive)}. Only segments whose routes overlap
+     * the range are opened, and each of them seeks to the lower bound.
+     *
+     * @param fromInclusive lower bound, or {@code null} for no lower bound
+     * @param toExclusive   upper bound, or {@code null} for no upper bound
+     * @param isolation     iterator isolation mode
+     * @return entry iterator over the key range
+     */
+    public EntryIterator<K, V> openRangeIterator(final K fromInclusive,
+            final K toExclusive, final SegmentIteratorIsolation isolation) {
+        return openRangeIterator(fromInclusive, toExclusive, isolation, false);
+    }
+
+    /**
+     * Opens an iterator over entries with keys in
+     * {@code [fromInclusive, toExclusive)} that returns them in descending
+     * key order. Overlapping segments are visited from the highest route to
+     * the lowest.
+     *
+     * @param fromInclusive lower bound, or {@code null} for no lower bound
+     * @param toExclusive   upper bound, or {@code null} for no upper bound
+     * @param isolation     iterator isolation mode
+     * @return descending entry iterator over the key range
+     */
+    public EntryIterator<K, V> openDescendingRangeIterator(
+            final K fromInclusive, final K toExclusive,
+            final SegmentIteratorIsolation isolation) {
+        return openRangeIterator(fromInclusive, toExclusive, isolation, true);
+    }
+
+    private EntryIterator<K, V> openRangeIterator(final K fromInclusive,
+            final K toExclusive, final SegmentIteratorIsolation isolation,
+            final boolean descending) {
+        final SegmentIteratorIsolation nonNullIsolation = Vldtn.requireNonNull(
+                isolation, "isolation");
+        final long startNanos = retryPolicy.startNanos();
+        while (true) {
+            final RouteWindowSnapshot snapshot = segmentLeaseService
+                    .snapshotSegmentIds(fromInclusive, toExclusive);
+            final List<SegmentId> segmentIds = new ArrayList<>(
+                    snapshot.segmentIds());
+            if (descending) {
+                Collections.reverse(segmentIds);
+            }
+            final EntryIterator<K, V> iterator = new StableSegmentsIterator<>(
+                    segmentIds, segmentLeaseService, nonNullIsolation,
+                    fromInclusive, toExclusive, descending);
+            if (nonNullIsolation != SegmentIteratorIsolation.FULL_ISOLATION
+                    || segmentLeaseService.isCurrent(snapshot)) {
+                return iterator;
+            }
+            iterator.close();
+            retryPolicy.backoffOrThrow(startNanos,
+                    OPERATION_OPEN_FULL_ISOLATION_ITERATOR, null);
+        }
+    }
+
     private EntryIterator<K, V> openStableIteratorWithRouteSnapshot(
             final SegmentWindow resolvedWindows,
             final SegmentIteratorIsolation isolation) {
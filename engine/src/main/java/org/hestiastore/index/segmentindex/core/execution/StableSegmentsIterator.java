@@ -42,6 +42,9 @@ class StableSegmentsIterator<K, V> extends AbstractCloseableResource
     private final SegmentIteratorIsolation isolation;
     private final BusyRetryPolicy retryPolicy;
     private final List<SegmentId> ids;
+    private final K fromInclusive;
+    private final K toExclusive;
+    private final boolean descending;
     private Entry<K, V> nextEntry = null;
     private EntryIterator<K, V> currentIterator = null;
 
@@ -55,7 +58,47 @@ class StableSegmentsIterator<K, V> extends AbstractCloseableResource
     StableSegmentsIterator(final List<SegmentId> ids,
             final MappedSegmentLeaseService<K, V> segmentLeaseService,
             final SegmentIteratorIsolation isolation) {
+        this(ids, segmentLeaseService, isolation, null, null);
+    }
+
+    /**
+     * Creates an iterator that reads only keys from
+     * {@code [fromInclusive, toExclusive)} from every segment.
+     *
+     * @param ids                 segment ids in key order
+     * @param segmentLeaseService route and segment lease service
+     * @param isolation           iterator isolation mode
+     * @param fromInclusive       lower bound, or {@code null} for none
+     * @param toExclusive         upper bound, or {@code null} for none
+     */
+    StableSegmentsIterator(final List<SegmentId> ids,
+            final MappedSegmentLeaseService<K, V> segmentLeaseService,
+            final SegmentIteratorIsolation isolation, final K fromInclusive,
+            final K toExclusive) {
+        this(ids, segmentLeaseService, isolation, fromInclusive, toExclusive,
+                false);
+    }
+
+    /**
+     * Creates an iterator over keys from {@code [fromInclusive, toExclusive)}
+     * in the requested direction. For descending iteration {@code ids} must
+     * already be ordered from the highest route to the lowest.
+     *
+     * @param ids                 segment ids in iteration order
+     * @param segmentLeaseService route and segment lease service
+     * @param isolation           iterator isolation mode
+     * @param fromInclusive       lower bound, or {@code null} for none
+     * @param toExclusive         upper bound, or {@code null} for none
+     * @param descending          true to return keys in descending order
+     */
+    StableSegmentsIterator(final List<SegmentId> ids,
+            final MappedSegmentLeaseService<K, V> segmentLeaseService,
+            final SegmentIteratorIsolation isolation, final K fromInclusive,
+            final K toExclusive, final boolean descending) {
         this.ids = Vldtn.requireNonNull(ids, "ids");
+        this.fromInclusive = fromInclusive;
+        this.toExclusive = toExclusive;
+        this.descending = descending;
         this.segmentLeaseService = Vldtn.requireNonNull(segmentLeaseService,
                 "segmentLeaseService");
         this.isolation = Vldtn.requireNonNull(isolation, "isolation");
@@ -141,16 +184,41 @@ class StableSegmentsIterator<K, V> extends AbstractCloseableResource
         if (isolation == SegmentIteratorIsolation.FAIL_FAST) {
             return awaitOpenFailFastIterator(segmentHandle, segmentId);
         }
+        if (descending) {
+            return segmentHandle.openDescendingIterator(fromInclusive,
+                    toExclusive, isolation);
+        }
+        if (isKeyRangeBounded()) {
+            return segmentHandle.openIterator(fromInclusive, toExclusive,
+                    isolation);
+        }
         return segmentHandle.openIterator(isolation);
     }
 
+    private boolean isKeyRangeBounded() {
+        return fromInclusive != null || toExclusive != null;
+    }
+
+    private OperationResult<EntryIterator<K, V>> tryOpenIterator(
+            final BlockingSegment<K, V> segmentHandle) {
+        if (descending) {
+            return segmentHandle.tryOpenDescendingIterator(fromInclusive,
+                    toExclusive, isolation);
+        }
+        if (isKeyRangeBounded()) {
+            return segmentHandle.tryOpenIterator(fromInclusive, toExclusive,
+                    isolation);
+        }
+        return segmentHandle.tryOpenIterator(isolation);
+    }
+
     private EntryIterator<K, V> awaitOpenFailFastIterator(
             final BlockingSegment<K, V> segmentHandle,
             final SegmentId segmentId) {
         final long startNanos = retryPolicy.startNanos();
         for (int attempt = 0; attempt < 2; attempt++) {
-            final OperationResult<EntryIterator<K, V>> result = segmentHandle
-                    .tryOpenIterator(isolation);
+            final OperationResult<EntryIterator<K, V>> result = tryOpenIterator(
+                    segmentHandle);
             if (result.getStatus() == OperationStatus.OK
                     && result.getValue() != null) {
                 return result.getValue();
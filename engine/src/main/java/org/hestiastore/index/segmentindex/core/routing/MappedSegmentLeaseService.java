@@ -1,6 +1,7 @@
 package org.hestiastore.index.segmentindex.core.routing;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 
@@ -103,6 +104,64 @@ public final class MappedSegmentLeaseService<K, V> {
         return loadSegmentLease(acquireWriteRouteLease(nonNullKey));
     }
 
+    /**
+     * Returns the exclusive end of the run of sorted keys, starting at
+     * {@code fromIndex}, that route to the leased segment.
+     *
+     * <p>
+     * Segment routes cover contiguous key ranges and a held lease keeps the
+     * leased route from being split, so the run found here stays valid for as
+     * long as the lease is open. The key at {@code fromIndex} is expected to
+     * be the key the lease was acquired for.
+     * </p>
+     *
+     * @param lease      acquired segment lease
+     * @param sortedKeys keys sorted by the key comparator
+     * @param fromIndex  index of the first key in the run
+     * @return index of the first key routed elsewhere, or the list size
+     */
+    public int routedRunEnd(final MappedSegmentLease<K, V> lease,
+            final List<K> sortedKeys, final int fromIndex) {
+        final SegmentId segmentId = Vldtn.requireNonNull(lease, "lease")
+                .segmentId();
+        Vldtn.requireNonNull(sortedKeys, "sortedKeys");
+        final RouteMapSnapshot<K> snapshot = keyToSegmentMap.snapshot();
+        int index = fromIndex + 1;
+        while (index < sortedKeys.size() && segmentId
+                .equals(snapshot.findSegmentIdForKey(sortedKeys.get(index)))) {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * Returns the exclusive end of the run of sorted keys, starting at
+     * {@code fromIndex}, that the current route map sends to one segment.
+     *
+     * <p>
+     * No lease is held, so a split may move the boundary right after the
+     * call. Callers use the run only to partition work and still write it
+     * through {@link #acquireForWrite(Object)}.
+     * </p>
+     *
+     * @param sortedKeys keys sorted by the key comparator
+     * @param fromIndex  index of the first key in the run
+     * @return index of the first key routed elsewhere, or the list size
+     */
+    public int currentRoutedRunEnd(final List<K> sortedKeys,
+            final int fromIndex) {
+        Vldtn.requireNonNull(sortedKeys, "sortedKeys");
+        final RouteMapSnapshot<K> snapshot = keyToSegmentMap.snapshot();
+        final SegmentId segmentId = snapshot
+                .findSegmentIdForKey(sortedKeys.get(fromIndex));
+        int index = fromIndex + 1;
+        while (index < sortedKeys.size() && Objects.equals(segmentId,
+                snapshot.findSegmentIdForKey(sortedKeys.get(index)))) {
+            index++;
+        }
+        return index;
+    }
+
     /**
      * Waits until currently acquired segment leases are returned.
      */
@@ -137,6 +196,22 @@ public final class MappedSegmentLeaseService<K, V> {
                 snapshot.version());
     }
 
+    /**
+     * Returns a versioned snapshot of routed segment ids overlapping the
+     * half-open key range {@code [fromInclusive, toExclusive)}.
+     *
+     * @param fromInclusive lower bound, or {@code null} for no lower bound
+     * @param toExclusive   upper bound, or {@code null} for no upper bound
+     * @return versioned snapshot of overlapping segment ids
+     */
+    public RouteWindowSnapshot snapshotSegmentIds(final K fromInclusive,
+            final K toExclusive) {
+        final RouteMapSnapshot<K> snapshot = keyToSegmentMap.snapshot();
+        return new RouteWindowSnapshot(
+                snapshot.getSegmentIds(fromInclusive, toExclusive),
+                snapshot.version());
+    }
+
     /**
      * Returns whether the versioned segment-window snapshot is still current.
      *
@@ -269,6 +344,52 @@ public final class MappedSegmentLeaseService<K, V> {
         return loadSplitLease(nonNullSegmentId, drain);
     }
 
+    /**
+     * Attempts to acquire an exclusive merge lease for two mapped segment ids.
+     * Both routes are drained; adjacency is checked when the merged route is
+     * published.
+     *
+     * @param lowerSegmentId lower segment id to drain and merge
+     * @param upperSegmentId upper segment id to drain and merge
+     * @return merge lease when both route drains and segments are immediately
+     *         available
+     */
+    public Optional<RouteMergeLease<K, V>> tryAcquireForMerge(
+            final SegmentId lowerSegmentId, final SegmentId upperSegmentId) {
+        final SegmentId nonNullLowerSegmentId = Vldtn
+                .requireNonNull(lowerSegmentId, "lowerSegmentId");
+        final SegmentId nonNullUpperSegmentId = Vldtn
+                .requireNonNull(upperSegmentId, "upperSegmentId");
+        final Optional<RouteDrain> lowerDrainResult = segmentTopology
+                .tryBeginDrain(nonNullLowerSegmentId);
+        if (lowerDrainResult.isEmpty()) {
+            return Optional.empty();
+        }
+        final RouteDrain lowerDrain = lowerDrainResult.get();
+        final Optional<RouteDrain> upperDrainResult;
+        try {
+            upperDrainResult = segmentTopology
+                    .tryBeginDrain(nonNullUpperSegmentId);
+        } catch (final RuntimeException e) {
+            lowerDrain.abort();
+            throw e;
+        }
+        if (upperDrainResult.isEmpty()) {
+            lowerDrain.abort();
+            return Optional.empty();
+        }
+        final RouteDrain upperDrain = upperDrainResult.get();
+        try {
+            lowerDrain.awaitDrained();
+            upperDrain.awaitDrained();
+        } catch (final RuntimeException e) {
+            abortDrains(lowerDrain, upperDrain);
+            throw e;
+        }
+        return loadMergeLease(nonNullLowerSegmentId, lowerDrain,
+                nonNullUpperSegmentId, upperDrain);
+    }
+
     private MappedSegmentLease<K, V> loadSegmentLease(final RouteLease lease) {
         try {
             return new MappedSegmentLease<>(lease,
@@ -330,6 +451,62 @@ public final class MappedSegmentLeaseService<K, V> {
         }
     }
 
+    private Optional<RouteMergeLease<K, V>> loadMergeLease(
+            final SegmentId lowerSegmentId, final RouteDrain lowerDrain,
+            final SegmentId upperSegmentId, final RouteDrain upperDrain) {
+        if (!isCurrentlyMapped(lowerSegmentId)
+                || !isCurrentlyMapped(upperSegmentId)) {
+            finishUnavailableMergeDrains(lowerSegmentId, lowerDrain,
+                    upperSegmentId, upperDrain);
+            return Optional.empty();
+        }
+        try {
+            final Optional<BlockingSegment<K, V>> lowerSegment = segmentRegistry
+                    .tryGetSegment(lowerSegmentId);
+            final Optional<BlockingSegment<K, V>> upperSegment = lowerSegment
+                    .isEmpty() ? Optional.empty()
+                            : segmentRegistry.tryGetSegment(upperSegmentId);
+            if (lowerSegment.isEmpty() || upperSegment.isEmpty()) {
+                finishUnavailableMergeDrains(lowerSegmentId, lowerDrain,
+                        upperSegmentId, upperDrain);
+                return Optional.empty();
+            }
+            return Optional.of(new RouteMergeLease<>(lowerDrain, upperDrain,
+                    keyToSegmentMap, segmentTopology, lowerSegment.get(),
+                    upperSegment.get()));
+        } catch (final IndexException e) {
+            finishUnavailableMergeDrains(lowerSegmentId, lowerDrain,
+                    upperSegmentId, upperDrain);
+            if (!isCurrentlyMapped(lowerSegmentId)
+                    || !isCurrentlyMapped(upperSegmentId)) {
+                return Optional.empty();
+            }
+            throw e;
+        } catch (final RuntimeException e) {
+            abortDrains(lowerDrain, upperDrain);
+            throw e;
+        }
+    }
+
+    private void finishUnavailableMergeDrains(final SegmentId lowerSegmentId,
+            final RouteDrain lowerDrain, final SegmentId upperSegmentId,
+            final RouteDrain upperDrain) {
+        try {
+            finishUnavailableSplitDrain(lowerSegmentId, lowerDrain);
+        } finally {
+            finishUnavailableSplitDrain(upperSegmentId, upperDrain);
+        }
+    }
+
+    private void abortDrains(final RouteDrain lowerDrain,
+            final RouteDrain upperDrain) {
+        try {
+            lowerDrain.abort();
+        } finally {
+            upperDrain.abort();
+        }
+    }
+
     private void finishUnavailableSplitDrain(final SegmentId segmentId,
             final RouteDrain drain) {
         if (isCurrentlyMapped(segmentId)) {
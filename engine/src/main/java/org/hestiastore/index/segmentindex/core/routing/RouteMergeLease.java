@@ -0,0 +1,126 @@
+package org.hestiastore.index.segmentindex.core.routing;
+
+import org.hestiastore.index.Vldtn;
+import org.hestiastore.index.segment.SegmentId;
+import org.hestiastore.index.segmentindex.core.routing.RouteTopology.RouteDrain;
+import org.hestiastore.index.segmentindex.routemap.SegmentRouteMap;
+import org.hestiastore.index.segmentregistry.BlockingSegment;
+
+/**
+ * Scoped exclusive lease for merge work against two drained, adjacent segment
+ * routes.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+public final class RouteMergeLease<K, V> implements AutoCloseable {
+
+    private final RouteDrain lowerDrain;
+    private final RouteDrain upperDrain;
+    private final SegmentRouteMap<K> keyToSegmentMap;
+    private final RouteTopology<K> segmentTopology;
+    private final BlockingSegment<K, V> lowerSegment;
+    private final BlockingSegment<K, V> upperSegment;
+    private boolean finished;
+
+    RouteMergeLease(final RouteDrain lowerDrain, final RouteDrain upperDrain,
+            final SegmentRouteMap<K> keyToSegmentMap,
+            final RouteTopology<K> segmentTopology,
+            final BlockingSegment<K, V> lowerSegment,
+            final BlockingSegment<K, V> upperSegment) {
+        this.lowerDrain = Vldtn.requireNonNull(lowerDrain, "lowerDrain");
+        this.upperDrain = Vldtn.requireNonNull(upperDrain, "upperDrain");
+        this.keyToSegmentMap = Vldtn.requireNonNull(keyToSegmentMap,
+                "keyToSegmentMap");
+        this.segmentTopology = Vldtn.requireNonNull(segmentTopology,
+                "segmentTopology");
+        this.lowerSegment = Vldtn.requireNonNull(lowerSegment,
+                "lowerSegment");
+        this.upperSegment = Vldtn.requireNonNull(upperSegment,
+                "upperSegment");
+    }
+
+    /**
+     * Returns the drained lower segment id.
+     *
+     * @return lower segment id
+     */
+    public SegmentId lowerSegmentId() {
+        return lowerSegment.getId();
+    }
+
+    /**
+     * Returns the drained upper segment id.
+     *
+     * @return upper segment id
+     */
+    public SegmentId upperSegmentId() {
+        return upperSegment.getId();
+    }
+
+    /**
+     * Returns the loaded lower blocking segment.
+     *
+     * @return lower blocking segment
+     */
+    public BlockingSegment<K, V> lowerSegment() {
+        return lowerSegment;
+    }
+
+    /**
+     * Returns the loaded upper blocking segment.
+     *
+     * @return upper blocking segment
+     */
+    public BlockingSegment<K, V> upperSegment() {
+        return upperSegment;
+    }
+
+    /**
+     * Completes both drains after the merged route was published.
+     */
+    public void completeAfterPublish() {
+        if (finished) {
+            return;
+        }
+        RuntimeException reconcileFailure = null;
+        try {
+            segmentTopology.reconcile(keyToSegmentMap.snapshot());
+        } catch (final RuntimeException e) {
+            reconcileFailure = e;
+        } finally {
+            lowerDrain.complete();
+            upperDrain.complete();
+            finished = true;
+        }
+        if (reconcileFailure != null) {
+            throw reconcileFailure;
+        }
+    }
+
+    /**
+     * Aborts both drains and returns the routes to active state.
+     */
+    public void abort() {
+        if (finished) {
+            return;
+        }
+        try {
+            lowerDrain.abort();
+        } finally {
+            try {
+                upperDrain.abort();
+            } finally {
+                finished = true;
+            }
+        }
+    }
+
+    /**
+     * Aborts the drains when the lease is closed before successful publish.
+     */
+    @Override
+    public void close() {
+        abort();
+    }
+}
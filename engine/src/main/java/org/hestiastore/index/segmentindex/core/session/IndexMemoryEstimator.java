@@ -21,7 +21,8 @@ final class IndexMemoryEstimator {
     static final int PAGE_OVERHEAD_BYTES = 64;
     static final int TREE_MAP_ENTRY_OVERHEAD_BYTES = 56;
     static final int SEGMENT_ID_ESTIMATE_BYTES = 16;
-    static final int SCARCE_INDEX_POSITION_BYTES = 4;
+    static final int SCARCE_INDEX_POSITION_BYTES = 8;
+    static final int SCARCE_INDEX_ENTRY_OVERHEAD_BYTES = 24;
     static final int FIXED_SEGMENT_RUNTIME_OVERHEAD_BYTES = 16 * 1024;
     static final int TEMPORARY_MEMORY_MARGIN_PERCENT = 25;
 
@@ -137,11 +138,12 @@ final class IndexMemoryEstimator {
         appendLine(out, "chunk-store cache", chunkStoreCache,
                 "needs key and value descriptor estimates",
                 String.format(Locale.ROOT,
-                        "inputs: %d pages, %d chunk keys, page overhead %s, entry %s",
+                        "inputs: %d pages, %d chunk keys, page overhead %s, entry %s%s",
                         resolved.chunkStoreCache().pageLimit(),
                         resolved.segment().chunkKeyLimit(),
                         formatBytes(PAGE_OVERHEAD_BYTES),
-                        estimateText(entryEstimate)));
+                        estimateText(entryEstimate),
+                        byteLimitText(resolved.chunkStoreCache().byteLimit())));
 
         appendLine(out, "route map", routeMap,
                 "needs key descriptor estimate",
@@ -310,7 +312,7 @@ final class IndexMemoryEstimator {
         }
         return OptionalLong.of(add(
                 add(keyEstimate.getAsInt(), SCARCE_INDEX_POSITION_BYTES),
-                ENTRY_OVERHEAD_BYTES));
+                SCARCE_INDEX_ENTRY_OVERHEAD_BYTES));
     }
 
     private static OptionalLong estimateLoadedSegmentCaches(
@@ -350,8 +352,16 @@ final class IndexMemoryEstimator {
         final long pageBytes = add(PAGE_OVERHEAD_BYTES,
                 multiply(resolved.segment().chunkKeyLimit(),
                         entryEstimate.getAsLong()));
-        return OptionalLong.of(multiply(resolved.chunkStoreCache().pageLimit(),
-                pageBytes));
+        final long pageLimitBytes = multiply(
+                resolved.chunkStoreCache().pageLimit(), pageBytes);
+        final long byteLimit = resolved.chunkStoreCache().byteLimit();
+        return OptionalLong.of(byteLimit > 0
+                ? Math.min(pageLimitBytes, byteLimit)
+                : pageLimitBytes);
+    }
+
+    private static String byteLimitText(final long byteLimit) {
+        return byteLimit > 0 ? ", byte limit " + formatBytes(byteLimit) : "";
     }
 
     private static OptionalLong estimateRouteMap(final int routeCount,
@@ -382,7 +392,7 @@ final class IndexMemoryEstimator {
                 resolved.segment().chunkKeyLimit());
         final long scarceEntryBytes = add(
                 add(keyEstimate.getAsInt(), SCARCE_INDEX_POSITION_BYTES),
-                ENTRY_OVERHEAD_BYTES);
+                SCARCE_INDEX_ENTRY_OVERHEAD_BYTES);
         return OptionalLong.of(multiply(
                 multiply(resolved.segment().cachedSegmentLimit(),
                         scarceKeysPerSegment),
@@ -251,7 +251,10 @@ public final class SegmentIndexBootstrapOperation<K, V> {
     private void createChunkStoreCache(
             final BootstrapState<K, V> state) {
         state.setChunkStoreCache(new LruChunkStoreCache<>(
-                state.getConfiguration().chunkStoreCache().pageLimit()));
+                state.getConfiguration().chunkStoreCache().pageLimit(),
+                state.getConfiguration().chunkStoreCache().byteLimit(),
+                state.getConfiguration().chunkStoreCache().compactPages(),
+                state.getConfiguration().chunkStoreCache().warmOnCompaction()));
     }
 
     private void openSegmentRegistry(
@@ -433,6 +436,7 @@ public final class SegmentIndexBootstrapOperation<K, V> {
             final BootstrapState<K, V> state,
             final SegmentIndexRuntimeResources<K, V> sessionResources) {
         state.setRuntimeOperationAccess(new PointOperationCoordinator<>(
+                state.getKeyTypeDescriptor(),
                 state.getValueTypeDescriptor(),
                 sessionResources.operationStatsRecorder(),
                 state.getRuntimeSegmentLeaseService(),
@@ -468,7 +472,7 @@ public final class SegmentIndexBootstrapOperation<K, V> {
 
         LOGGER.debug("Opening index '{}'.", indexName);
         state.getStorageService().recoverFromWal(
-                state.getRuntimeOperationAccess()::replayWalRecord);
+                state.getRuntimeOperationAccess().walReplayConsumer());
         state.getStorageService().cleanupOrphanedSegmentDirectories();
         sessionResources.markReady();
         if (sessionResources.wasStaleLockRecovered()) {
@@ -1,5 +1,7 @@
 package org.hestiastore.index.segmentindex.core.session;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.stream.Stream;
 
 import org.hestiastore.index.AbstractCloseableResource;
@@ -60,6 +62,13 @@ final class SegmentIndexMdcLoggingAdapter<K, V>
         }
     }
 
+    @Override
+    public void putAll(final Collection<Entry<K, V>> entries) {
+        try (IndexMdcScope ignored = openScope()) {
+            delegate.putAll(entries);
+        }
+    }
+
     @Override
     public V get(final K key) {
         try (IndexMdcScope ignored = openScope()) {
@@ -67,6 +76,13 @@ final class SegmentIndexMdcLoggingAdapter<K, V>
         }
     }
 
+    @Override
+    public List<V> getAll(final Collection<K> keys) {
+        try (IndexMdcScope ignored = openScope()) {
+            return delegate.getAll(keys);
+        }
+    }
+
     @Override
     public void delete(final K key) {
         try (IndexMdcScope ignored = openScope()) {
@@ -74,6 +90,13 @@ final class SegmentIndexMdcLoggingAdapter<K, V>
         }
     }
 
+    @Override
+    public void deleteAll(final Collection<K> keys) {
+        try (IndexMdcScope ignored = openScope()) {
+            delegate.deleteAll(keys);
+        }
+    }
+
     @Override
     public Stream<Entry<K, V>> getStream(final SegmentWindow segmentWindows) {
         try (IndexMdcScope ignored = openScope()) {
@@ -104,6 +127,46 @@ final class SegmentIndexMdcLoggingAdapter<K, V>
         }
     }
 
+    @Override
+    public Stream<Entry<K, V>> getStream(final K fromInclusive,
+            final K toExclusive) {
+        try (IndexMdcScope ignored = openScope()) {
+            return delegate.getStream(fromInclusive, toExclusive);
+        }
+    }
+
+    @Override
+    public Stream<Entry<K, V>> getStream(final K fromInclusive,
+            final K toExclusive, final SegmentIteratorIsolation isolation) {
+        try (IndexMdcScope ignored = openScope()) {
+            return delegate.getStream(fromInclusive, toExclusive, isolation);
+        }
+    }
+
+    @Override
+    public Stream<Entry<K, V>> getDescendingStream() {
+        try (IndexMdcScope ignored = openScope()) {
+            return delegate.getDescendingStream();
+        }
+    }
+
+    @Override
+    public Stream<Entry<K, V>> getDescendingStream(final K fromInclusive,
+            final K toExclusive) {
+        try (IndexMdcScope ignored = openScope()) {
+            return delegate.getDescendingStream(fromInclusive, toExclusive);
+        }
+    }
+
+    @Override
+    public Stream<Entry<K, V>> getDescendingStream(final K fromInclusive,
+            final K toExclusive, final SegmentIteratorIsolation isolation) {
+        try (IndexMdcScope ignored = openScope()) {
+            return delegate.getDescendingStream(fromInclusive, toExclusive,
+                    isolation);
+        }
+    }
+
     @Override
     public RuntimeTuning runtimeTuning() {
         return runtimeConfiguration;
@@ -1,6 +1,8 @@
 package org.hestiastore.index.segmentindex.core.session;
 
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Spliterator;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
@@ -111,6 +113,17 @@ class SegmentIndexSession<K, V> extends AbstractCloseableResource
         }
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public void putAll(final Collection<Entry<K, V>> entries) {
+        beginOperationalOperation();
+        try {
+            operationAccess.putAll(entries);
+        } finally {
+            operationGate.endOperation();
+        }
+    }
+
     /**
      * Opens an iterator for one segment with fail-fast isolation.
      *
@@ -171,11 +184,57 @@ class SegmentIndexSession<K, V> extends AbstractCloseableResource
                 .onClose(iterator::close);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public Stream<Entry<K, V>> getStream(final K fromInclusive,
+            final K toExclusive, final SegmentIteratorIsolation isolation) {
+        final EntryIterator<K, V> iterator = openRangeIterator(fromInclusive,
+                toExclusive, isolation, false);
+        return StreamSupport.stream(newEntryIteratorSpliterator(iterator), false)
+                .onClose(iterator::close);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Stream<Entry<K, V>> getDescendingStream(final K fromInclusive,
+            final K toExclusive, final SegmentIteratorIsolation isolation) {
+        final EntryIterator<K, V> iterator = openRangeIterator(fromInclusive,
+                toExclusive, isolation, true);
+        return StreamSupport.stream(newEntryIteratorSpliterator(iterator,
+                new EntryComparator<>(
+                        keyTypeDescriptor.getComparator().reversed())),
+                false).onClose(iterator::close);
+    }
+
+    private EntryIterator<K, V> openRangeIterator(final K fromInclusive,
+            final K toExclusive, final SegmentIteratorIsolation isolation,
+            final boolean descending) {
+        beginOperationalOperation();
+        try {
+            if (descending) {
+                return decorateIterator(
+                        streamingService.openDescendingRangeIterator(
+                                fromInclusive, toExclusive,
+                                requireIsolation(isolation)));
+            }
+            return decorateIterator(streamingService.openRangeIterator(
+                    fromInclusive, toExclusive, requireIsolation(isolation)));
+        } finally {
+            operationGate.endOperation();
+        }
+    }
+
     private Spliterator<Entry<K, V>> newEntryIteratorSpliterator(
             final EntryIterator<K, V> iterator) {
+        return newEntryIteratorSpliterator(iterator,
+                new EntryComparator<>(keyTypeDescriptor.getComparator()));
+    }
+
+    private Spliterator<Entry<K, V>> newEntryIteratorSpliterator(
+            final EntryIterator<K, V> iterator,
+            final Comparator<? super Entry<K, V>> comparator) {
         final EntryIterator<K, V> validatedIterator = Vldtn
                 .requireNonNull(iterator, "iterator");
-        final Comparator<? super Entry<K, V>> comparator = new EntryComparator<>(keyTypeDescriptor.getComparator());
         return new Spliterator<>() {
 
             @Override
@@ -232,6 +291,17 @@ class SegmentIndexSession<K, V> extends AbstractCloseableResource
         }
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public List<V> getAll(final Collection<K> keys) {
+        beginOperationalOperation();
+        try {
+            return operationAccess.getAll(keys);
+        } finally {
+            operationGate.endOperation();
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public void delete(final K key) {
@@ -243,6 +313,17 @@ class SegmentIndexSession<K, V> extends AbstractCloseableResource
         }
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public void deleteAll(final Collection<K> keys) {
+        beginOperationalOperation();
+        try {
+            operationAccess.deleteAll(keys);
+        } finally {
+            operationGate.endOperation();
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     protected void doClose() {
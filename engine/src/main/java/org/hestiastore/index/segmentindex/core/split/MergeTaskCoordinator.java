@@ -0,0 +1,250 @@
+package org.hestiastore.index.segmentindex.core.split;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.hestiastore.index.IndexException;
+import org.hestiastore.index.Vldtn;
+import org.hestiastore.index.segment.SegmentId;
+import org.hestiastore.index.segment.SegmentState;
+import org.hestiastore.index.segmentindex.core.SegmentIndexRuntimeState;
+import org.hestiastore.index.segmentindex.core.routing.MappedSegmentLeaseService;
+import org.hestiastore.index.segmentindex.core.routing.RouteMergeLease;
+import org.hestiastore.index.segmentindex.routemap.RouteMergePlan;
+import org.hestiastore.index.segmentregistry.BlockingSegment;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Schedules merges of adjacent underfilled segments and admits their route
+ * publish.
+ * <p>
+ * A merge drains both routes, materializes one segment from their snapshots
+ * and replaces both routes in one route-map update, the same way a split
+ * replaces one route with two.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+final class MergeTaskCoordinator<K, V> {
+
+    private static final Logger LOGGER = LoggerFactory
+            .getLogger(MergeTaskCoordinator.class);
+
+    private final MappedSegmentLeaseService<K, V> segmentLeaseService;
+    private final RouteMergeMaterializer<K, V> routeMergeMaterializer;
+    private final RouteMergePublisher<K, V> routeMergePublisher;
+    private final Executor mergeExecutor;
+    private final SegmentIndexRuntimeState runtimeState;
+    private final Object mergeMonitor = new Object();
+    private final Set<SegmentId> scheduledMerges = ConcurrentHashMap
+            .newKeySet();
+    private final AtomicReference<RuntimeException> mergeFailure = new AtomicReference<>();
+    private int mergeInFlightCount;
+
+    MergeTaskCoordinator(
+            final MappedSegmentLeaseService<K, V> segmentLeaseService,
+            final RouteMergeMaterializer<K, V> routeMergeMaterializer,
+            final RouteMergePublisher<K, V> routeMergePublisher,
+            final Executor mergeExecutor,
+            final SegmentIndexRuntimeState runtimeState) {
+        this.segmentLeaseService = Vldtn.requireNonNull(segmentLeaseService,
+                "segmentLeaseService");
+        this.routeMergeMaterializer = Vldtn.requireNonNull(
+                routeMergeMaterializer, "routeMergeMaterializer");
+        this.routeMergePublisher = Vldtn.requireNonNull(routeMergePublisher,
+                "routeMergePublisher");
+        this.mergeExecutor = Vldtn.requireNonNull(mergeExecutor,
+                "mergeExecutor");
+        this.runtimeState = Vldtn.requireNonNull(runtimeState, "runtimeState");
+    }
+
+    /**
+     * Schedules a merge of two adjacent segments unless one of them already
+     * takes part in a scheduled merge.
+     *
+     * @param candidate adjacent segments selected by the merge policy
+     * @return true when the merge was scheduled
+     */
+    boolean scheduleMerge(final SegmentMergePolicy.Candidate candidate) {
+        Vldtn.requireNonNull(candidate, "candidate");
+        if (Boolean.getBoolean("hestiastore.disableMerges")
+                || !tryMarkMergeScheduled(candidate)) {
+            return false;
+        }
+        try {
+            mergeExecutor.execute(() -> executeMerge(candidate));
+        } catch (final RuntimeException e) {
+            unmarkMergeScheduled(candidate);
+            markMergeFinished();
+            throw e;
+        }
+        return true;
+    }
+
+    void awaitMergesIdle(final long timeoutMillis) {
+        final RuntimeException failure = mergeFailure.get();
+        if (failure != null) {
+            throw failure;
+        }
+        if (timeoutMillis <= 0L) {
+            return;
+        }
+        final long deadline = System.nanoTime()
+                + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        synchronized (mergeMonitor) {
+            while (mergeInFlightCount > 0) {
+                final RuntimeException currentFailure = mergeFailure.get();
+                if (currentFailure != null) {
+                    throw currentFailure;
+                }
+                final long remainingNanos = deadline - System.nanoTime();
+                if (remainingNanos <= 0L) {
+                    throw new IndexException(String.format(
+                            "Merge completion timed out after %d ms.",
+                            timeoutMillis));
+                }
+                try {
+                    TimeUnit.NANOSECONDS.timedWait(mergeMonitor,
+                            remainingNanos);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IndexException(
+                            "Interrupted while waiting for merge completion.",
+                            e);
+                }
+            }
+        }
+        final RuntimeException completionFailure = mergeFailure.get();
+        if (completionFailure != null) {
+            throw completionFailure;
+        }
+    }
+
+    int mergeInFlightCount() {
+        synchronized (mergeMonitor) {
+            return mergeInFlightCount;
+        }
+    }
+
+    boolean isMergeBlocked(final SegmentId segmentId) {
+        return segmentId != null && scheduledMerges.contains(segmentId);
+    }
+
+    private void executeMerge(final SegmentMergePolicy.Candidate candidate) {
+        final long startNanos = System.nanoTime();
+        boolean mergeApplied = false;
+        RuntimeException failure = null;
+        try {
+            mergeApplied = tryApplyPreparedMerge(candidate);
+        } catch (final RuntimeException e) {
+            failure = e;
+            mergeFailure.compareAndSet(null, e);
+            runtimeState.markRuntimeFailure(e);
+        } finally {
+            unmarkMergeScheduled(candidate);
+            markMergeFinished();
+        }
+        final long durationMillis = TimeUnit.NANOSECONDS
+                .toMillis(Math.max(0L, System.nanoTime() - startNanos));
+        if (failure == null) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(
+                        "Route merge finished: lowerSegment='{}' upperSegment='{}' observedKeyCount='{}' outcome='{}' durationMillis='{}'",
+                        candidate.lowerSegmentId(),
+                        candidate.upperSegmentId(),
+                        candidate.combinedKeyCount(),
+                        mergeApplied ? "published" : "not-published",
+                        durationMillis);
+            }
+        } else {
+            LOGGER.warn(
+                    "Route merge failed: lowerSegment='{}' upperSegment='{}' observedKeyCount='{}' durationMillis='{}'",
+                    candidate.lowerSegmentId(), candidate.upperSegmentId(),
+                    candidate.combinedKeyCount(), durationMillis, failure);
+        }
+    }
+
+    private boolean tryApplyPreparedMerge(
+            final SegmentMergePolicy.Candidate candidate) {
+        final Optional<RouteMergeLease<K, V>> mergeLease = segmentLeaseService
+                .tryAcquireForMerge(candidate.lowerSegmentId(),
+                        candidate.upperSegmentId());
+        if (mergeLease.isEmpty()) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(
+                        "Route merge skipped because route drains could not be acquired: lowerSegment='{}' upperSegment='{}'",
+                        candidate.lowerSegmentId(),
+                        candidate.upperSegmentId());
+            }
+            return false;
+        }
+        try (RouteMergeLease<K, V> lease = mergeLease.get()) {
+            if (isClosedCandidate(lease.lowerSegment())
+                    || isClosedCandidate(lease.upperSegment())) {
+                return false;
+            }
+            final Optional<RouteMergePlan<K>> routeMerge = routeMergeMaterializer
+                    .prepare(lease.lowerSegment().getSegment(),
+                            lease.upperSegment().getSegment());
+            if (routeMerge.isEmpty()) {
+                return false;
+            }
+            return publishMerge(routeMerge.get(), lease);
+        }
+    }
+
+    private boolean publishMerge(final RouteMergePlan<K> routeMerge,
+            final RouteMergeLease<K, V> mergeLease) {
+        boolean published = false;
+        try {
+            published = routeMergePublisher.applyPreparedMerge(routeMerge);
+            return published;
+        } finally {
+            if (published) {
+                mergeLease.completeAfterPublish();
+            } else {
+                mergeLease.abort();
+            }
+        }
+    }
+
+    private boolean isClosedCandidate(
+            final BlockingSegment<K, V> segmentHandle) {
+        return segmentHandle.getRuntime().getState() == SegmentState.CLOSED;
+    }
+
+    private boolean tryMarkMergeScheduled(
+            final SegmentMergePolicy.Candidate candidate) {
+        if (!scheduledMerges.add(candidate.lowerSegmentId())) {
+            return false;
+        }
+        if (!scheduledMerges.add(candidate.upperSegmentId())) {
+            scheduledMerges.remove(candidate.lowerSegmentId());
+            return false;
+        }
+        synchronized (mergeMonitor) {
+            mergeInFlightCount++;
+        }
+        return true;
+    }
+
+    private void unmarkMergeScheduled(
+            final SegmentMergePolicy.Candidate candidate) {
+        scheduledMerges.remove(candidate.lowerSegmentId());
+        scheduledMerges.remove(candidate.upperSegmentId());
+    }
+
+    private void markMergeFinished() {
+        synchronized (mergeMonitor) {
+            if (mergeInFlightCount > 0) {
+                mergeInFlightCount--;
+            }
+            mergeMonitor.notifyAll();
+        }
+    }
+}
@@ -11,11 +11,13 @@ import org.hestiastore.index.WriteTransaction;
 import org.hestiastore.index.directory.Directory;
 import org.hestiastore.index.segment.Segment;
 import org.hestiastore.index.segment.SegmentId;
+import org.hestiastore.index.segmentindex.routemap.RouteMergePlan;
 import org.hestiastore.index.segmentindex.routemap.RouteSplitPlan;
 import org.hestiastore.index.segmentregistry.SegmentRegistry;
 
 /**
- * Default implementation of offline segment materialization for route splits.
+ * Default implementation of offline segment materialization for route splits
+ * and merges.
  *
  * @param <K> key type
  * @param <V> value type
@@ -126,6 +128,57 @@ final class PreparedSegmentMaterializer<K, V> {
         }
     }
 
+    /**
+     * Materializes a prepared merge of two adjacent segments.
+     * <p>
+     * Every key of the lower segment sorts before every key of the upper one,
+     * so writing the lower snapshot followed by the upper snapshot produces
+     * one sorted segment in a single pass over each.
+     *
+     * @param lowerSegment  lower segment being merged
+     * @param upperSegment  upper segment being merged
+     * @param lowerIterator isolated lower snapshot iterator
+     * @param upperIterator isolated upper snapshot iterator
+     * @return merge plan for the committed segment
+     */
+    RouteMergePlan<K> materializeRouteMerge(final Segment<K, V> lowerSegment,
+            final Segment<K, V> upperSegment,
+            final EntryIterator<K, V> lowerIterator,
+            final EntryIterator<K, V> upperIterator) {
+        Vldtn.requireNonNull(lowerSegment, "lowerSegment");
+        Vldtn.requireNonNull(upperSegment, "upperSegment");
+        Vldtn.requireNonNull(lowerIterator, "lowerIterator");
+        Vldtn.requireNonNull(upperIterator, "upperIterator");
+        SegmentId mergedSegmentId = null;
+        EntryWriter<K, V> mergedWriter = null;
+        boolean materializationCompleted = false;
+        try {
+            mergedSegmentId = nextPreparedSegmentId();
+            final WriteTransaction<K, V> mergedWriterTx = openPreparedWriterTx(
+                    mergedSegmentId);
+            mergedWriter = openPreparedWriter(mergedSegmentId, mergedWriterTx);
+            writeAll(mergedWriter, lowerIterator);
+            writeAll(mergedWriter, upperIterator);
+            commitPreparedSegment(mergedWriterTx, mergedWriter);
+            materializationCompleted = true;
+            return new RouteMergePlan<>(lowerSegment.getId(),
+                    upperSegment.getId(), mergedSegmentId);
+        } finally {
+            if (materializationCompleted) {
+                closePreparedWriter(mergedWriter);
+            } else {
+                discardPreparedSegment(mergedSegmentId, mergedWriter);
+            }
+        }
+    }
+
+    private void writeAll(final EntryWriter<K, V> writer,
+            final EntryIterator<K, V> iterator) {
+        while (iterator.hasNext()) {
+            writeEntry(writer, iterator.next());
+        }
+    }
+
     private long requireAtLeastOne(final long value,
             final String propertyName) {
         if (value < 1L) {
@@ -0,0 +1,103 @@
+package org.hestiastore.index.segmentindex.core.split;
+
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+import org.hestiastore.index.BusyRetryPolicy;
+import org.hestiastore.index.EntryIterator;
+import org.hestiastore.index.Vldtn;
+import org.hestiastore.index.segment.Segment;
+import org.hestiastore.index.segment.SegmentIteratorIsolation;
+import org.hestiastore.index.segmentindex.routemap.RouteMergePlan;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Prepares route merges by materializing one segment from stable snapshots of
+ * two adjacent segments.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+final class RouteMergeMaterializer<K, V> {
+
+    private static final String MATERIALIZATION_STEP = "merged segment materialization";
+    private static final Logger LOGGER = LoggerFactory
+            .getLogger(RouteMergeMaterializer.class);
+
+    private final PreparedSegmentMaterializer<K, V> materializationService;
+    private final BusyRetryPolicy retryPolicy;
+
+    RouteMergeMaterializer(
+            final PreparedSegmentMaterializer<K, V> materializationService,
+            final BusyRetryPolicy retryPolicy) {
+        this.materializationService = Vldtn.requireNonNull(
+                materializationService, "materializationService");
+        this.retryPolicy = Vldtn.requireNonNull(retryPolicy, "retryPolicy");
+    }
+
+    /**
+     * Opens isolated snapshots of both segments and materializes the merged
+     * segment.
+     *
+     * @param lowerSegment lower segment
+     * @param upperSegment upper segment routed directly after the lower one
+     * @return merge plan, or empty when a segment closed or its snapshot was
+     *         invalidated
+     */
+    Optional<RouteMergePlan<K>> prepare(final Segment<K, V> lowerSegment,
+            final Segment<K, V> upperSegment) {
+        final Segment<K, V> nonNullLowerSegment = Vldtn
+                .requireNonNull(lowerSegment, "lowerSegment");
+        final Segment<K, V> nonNullUpperSegment = Vldtn
+                .requireNonNull(upperSegment, "upperSegment");
+        try (EntryIterator<K, V> lowerIterator = openSnapshot(
+                nonNullLowerSegment)) {
+            if (lowerIterator == null) {
+                logMaterializationAbortedBecauseSegmentClosed(
+                        nonNullLowerSegment);
+                return Optional.empty();
+            }
+            try (EntryIterator<K, V> upperIterator = openSnapshot(
+                    nonNullUpperSegment)) {
+                if (upperIterator == null) {
+                    logMaterializationAbortedBecauseSegmentClosed(
+                            nonNullUpperSegment);
+                    return Optional.empty();
+                }
+                return Optional.of(materializationService.materializeRouteMerge(
+                        nonNullLowerSegment, nonNullUpperSegment,
+                        lowerIterator, upperIterator));
+            }
+        } catch (final NoSuchElementException e) {
+            logMaterializationAbortedBecauseIteratorInvalidated(
+                    nonNullLowerSegment, nonNullUpperSegment);
+            return Optional.empty();
+        }
+    }
+
+    private EntryIterator<K, V> openSnapshot(final Segment<K, V> segment) {
+        return SegmentSnapshotIterators.openWithRetry(segment,
+                SegmentIteratorIsolation.FULL_ISOLATION, retryPolicy,
+                MATERIALIZATION_STEP);
+    }
+
+    private void logMaterializationAbortedBecauseSegmentClosed(
+            final Segment<K, V> segment) {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(
+                    "Route merge aborted because segment closed before merged segment materialization completed: segment='{}'",
+                    segment.getId());
+        }
+    }
+
+    private void logMaterializationAbortedBecauseIteratorInvalidated(
+            final Segment<K, V> lowerSegment,
+            final Segment<K, V> upperSegment) {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(
+                    "Route merge aborted because a segment iterator was invalidated during merged segment materialization: lowerSegment='{}' upperSegment='{}'",
+                    lowerSegment.getId(), upperSegment.getId());
+        }
+    }
+}
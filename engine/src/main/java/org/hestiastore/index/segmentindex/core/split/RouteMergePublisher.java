@@ -0,0 +1,91 @@
+package org.hestiastore.index.segmentindex.core.split;
+
+import org.hestiastore.index.IndexException;
+import org.hestiastore.index.Vldtn;
+import org.hestiastore.index.segment.SegmentId;
+import org.hestiastore.index.segmentindex.routemap.RouteMergePlan;
+import org.hestiastore.index.segmentindex.routemap.SegmentRouteMap;
+import org.hestiastore.index.segmentregistry.SegmentRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Owns route-map publish and cleanup for an already materialized merge plan.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+final class RouteMergePublisher<K, V> {
+
+    private static final Logger LOGGER = LoggerFactory
+            .getLogger(RouteMergePublisher.class);
+    private static final String ROUTE_MERGE_ARG = "routeMerge";
+
+    private final SegmentRouteMap<K> keyToSegmentMap;
+    private final SegmentRegistry<K, V> segmentRegistry;
+    private final PreparedSegmentMaterializer<K, V> materializationService;
+
+    RouteMergePublisher(final SegmentRouteMap<K> keyToSegmentMap,
+            final SegmentRegistry<K, V> segmentRegistry,
+            final PreparedSegmentMaterializer<K, V> materializationService) {
+        this.keyToSegmentMap = Vldtn.requireNonNull(keyToSegmentMap,
+                "keyToSegmentMap");
+        this.segmentRegistry = Vldtn.requireNonNull(segmentRegistry,
+                "segmentRegistry");
+        this.materializationService = Vldtn.requireNonNull(
+                materializationService, "materializationService");
+    }
+
+    boolean applyPreparedMerge(final RouteMergePlan<K> routeMerge) {
+        Vldtn.requireNonNull(routeMerge, ROUTE_MERGE_ARG);
+        final boolean published;
+        try {
+            published = keyToSegmentMap.tryReplaceRoutesWithMerge(routeMerge);
+        } catch (final RuntimeException e) {
+            try {
+                materializationService.deletePreparedSegment(
+                        routeMerge.getMergedSegmentId());
+            } catch (final RuntimeException cleanupFailure) {
+                e.addSuppressed(cleanupFailure);
+            }
+            throw e;
+        }
+        if (!published) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(
+                        "Route merge publish returned false: lowerSegmentId='{}' upperSegmentId='{}' mergedSegmentId='{}'",
+                        routeMerge.getLowerSegmentId(),
+                        routeMerge.getUpperSegmentId(),
+                        routeMerge.getMergedSegmentId());
+            }
+            materializationService
+                    .deletePreparedSegment(routeMerge.getMergedSegmentId());
+            return false;
+        }
+        completePreparedMerge(routeMerge);
+        return true;
+    }
+
+    private void completePreparedMerge(final RouteMergePlan<K> routeMerge) {
+        keyToSegmentMap.flushIfDirty();
+        deleteRetiredSegment(routeMerge.getLowerSegmentId());
+        deleteRetiredSegment(routeMerge.getUpperSegmentId());
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(
+                    "Route merge applied: lowerSegmentId='{}' upperSegmentId='{}' mergedSegmentId='{}'",
+                    routeMerge.getLowerSegmentId(),
+                    routeMerge.getUpperSegmentId(),
+                    routeMerge.getMergedSegmentId());
+        }
+    }
+
+    private void deleteRetiredSegment(final SegmentId segmentId) {
+        try {
+            segmentRegistry.deleteRetiredSegment(segmentId);
+        } catch (final IndexException e) {
+            LOGGER.warn(
+                    "Retired segment '{}' could not be deleted after merge publish: {}",
+                    segmentId, e.getMessage());
+        }
+    }
+}
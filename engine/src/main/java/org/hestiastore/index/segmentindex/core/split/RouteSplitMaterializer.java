@@ -4,9 +4,6 @@ import java.util.NoSuchElementException;
 
 import org.hestiastore.index.BusyRetryPolicy;
 import org.hestiastore.index.EntryIterator;
-import org.hestiastore.index.IndexException;
-import org.hestiastore.index.OperationResult;
-import org.hestiastore.index.OperationStatus;
 import org.hestiastore.index.Vldtn;
 import org.hestiastore.index.segment.Segment;
 import org.hestiastore.index.segment.SegmentIteratorIsolation;
@@ -69,8 +66,10 @@ final class RouteSplitMaterializer<K, V> {
 
     private RouteSplitPreparation<K> materializeChildSegments(
             final Segment<K, V> parentSegment, final long targetLowerCount) {
-        try (EntryIterator<K, V> iterator = openIteratorWithRetry(parentSegment,
-                SegmentIteratorIsolation.FULL_ISOLATION)) {
+        try (EntryIterator<K, V> iterator = SegmentSnapshotIterators
+                .openWithRetry(parentSegment,
+                        SegmentIteratorIsolation.FULL_ISOLATION, retryPolicy,
+                        "child materialization")) {
             if (iterator == null) {
                 logMaterializationAbortedBecauseParentClosed(parentSegment);
                 return RouteSplitPreparation.skipped();
@@ -90,31 +89,6 @@ final class RouteSplitMaterializer<K, V> {
         }
     }
 
-    private EntryIterator<K, V> openIteratorWithRetry(
-            final Segment<K, V> segment,
-            final SegmentIteratorIsolation isolation) {
-        final long startNanos = retryPolicy.startNanos();
-        while (true) {
-            final OperationResult<EntryIterator<K, V>> result = segment
-                    .openIterator(isolation);
-            if (result.getStatus() == OperationStatus.OK
-                    && result.getValue() != null) {
-                return result.getValue();
-            }
-            if (result.getStatus() == OperationStatus.BUSY) {
-                retryPolicy.backoffOrThrow(startNanos, "openIterator",
-                        segment.getId());
-                continue;
-            }
-            if (result.getStatus() == OperationStatus.CLOSED) {
-                return null;
-            }
-            throw new IndexException(String.format(
-                    "Segment '%s' failed to open iterator for child materialization: %s",
-                    segment.getId(), result.getStatus()));
-        }
-    }
-
     private void logMaterializationAbortedBecauseParentClosed(
             final Segment<K, V> parentSegment) {
         if (LOGGER.isDebugEnabled()) {
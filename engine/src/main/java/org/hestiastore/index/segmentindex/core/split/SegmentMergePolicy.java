@@ -0,0 +1,99 @@
+package org.hestiastore.index.segmentindex.core.split;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+import org.hestiastore.index.Vldtn;
+import org.hestiastore.index.segment.SegmentId;
+
+/**
+ * Picks pairs of adjacent routed segments whose combined key count is below
+ * the merge threshold.
+ * <p>
+ * Routes are scanned in key order and paired greedily, so each segment takes
+ * part in at most one merge per scan. Segments whose key count is unknown,
+ * for example because they are not loaded, are never paired.
+ */
+final class SegmentMergePolicy {
+
+    /**
+     * Key count reported for segments that must not be merged.
+     */
+    static final long UNKNOWN_KEY_COUNT = -1L;
+
+    private SegmentMergePolicy() {
+    }
+
+    /**
+     * Selects adjacent segment pairs to merge.
+     *
+     * @param routedSegmentIds segment ids in route order
+     * @param keyCounts        key count per segment, or
+     *                         {@link #UNKNOWN_KEY_COUNT}
+     * @param mergeThreshold   exclusive upper bound of the combined key count
+     * @return non-overlapping merge candidates in route order
+     */
+    static List<Candidate> selectCandidates(
+            final List<SegmentId> routedSegmentIds,
+            final ToLongFunction<SegmentId> keyCounts,
+            final long mergeThreshold) {
+        Vldtn.requireNonNull(routedSegmentIds, "routedSegmentIds");
+        Vldtn.requireNonNull(keyCounts, "keyCounts");
+        final List<Candidate> candidates = new ArrayList<>();
+        if (mergeThreshold < 1L || routedSegmentIds.size() < 2) {
+            return candidates;
+        }
+        long lowerCount = keyCounts.applyAsLong(routedSegmentIds.get(0));
+        int index = 0;
+        while (index + 1 < routedSegmentIds.size()) {
+            final SegmentId upperSegmentId = routedSegmentIds.get(index + 1);
+            final long upperCount = keyCounts.applyAsLong(upperSegmentId);
+            if (lowerCount != UNKNOWN_KEY_COUNT
+                    && upperCount != UNKNOWN_KEY_COUNT
+                    && lowerCount + upperCount < mergeThreshold) {
+                candidates.add(new Candidate(routedSegmentIds.get(index),
+                        upperSegmentId, lowerCount + upperCount));
+                index += 2;
+                lowerCount = index < routedSegmentIds.size()
+                        ? keyCounts.applyAsLong(routedSegmentIds.get(index))
+                        : UNKNOWN_KEY_COUNT;
+                continue;
+            }
+            lowerCount = upperCount;
+            index++;
+        }
+        return candidates;
+    }
+
+    /**
+     * Two adjacent segments selected for merge.
+     */
+    static final class Candidate {
+
+        private final SegmentId lowerSegmentId;
+        private final SegmentId upperSegmentId;
+        private final long combinedKeyCount;
+
+        Candidate(final SegmentId lowerSegmentId,
+                final SegmentId upperSegmentId, final long combinedKeyCount) {
+            this.lowerSegmentId = Vldtn.requireNonNull(lowerSegmentId,
+                    "lowerSegmentId");
+            this.upperSegmentId = Vldtn.requireNonNull(upperSegmentId,
+                    "upperSegmentId");
+            this.combinedKeyCount = combinedKeyCount;
+        }
+
+        SegmentId lowerSegmentId() {
+            return lowerSegmentId;
+        }
+
+        SegmentId upperSegmentId() {
+            return upperSegmentId;
+        }
+
+        long combinedKeyCount() {
+            return combinedKeyCount;
+        }
+    }
+}
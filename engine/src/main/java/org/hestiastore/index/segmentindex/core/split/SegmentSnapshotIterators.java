@@ -0,0 +1,59 @@
+package org.hestiastore.index.segmentindex.core.split;
+
+import org.hestiastore.index.BusyRetryPolicy;
+import org.hestiastore.index.EntryIterator;
+import org.hestiastore.index.IndexException;
+import org.hestiastore.index.OperationResult;
+import org.hestiastore.index.OperationStatus;
+import org.hestiastore.index.Vldtn;
+import org.hestiastore.index.segment.Segment;
+import org.hestiastore.index.segment.SegmentIteratorIsolation;
+
+/**
+ * Opens isolated segment snapshots for route split and merge
+ * materialization.
+ */
+final class SegmentSnapshotIterators {
+
+    private SegmentSnapshotIterators() {
+    }
+
+    /**
+     * Opens a segment iterator, retrying while the segment is busy.
+     *
+     * @param <K>         key type
+     * @param <V>         value type
+     * @param segment     segment to iterate
+     * @param isolation   iterator isolation mode
+     * @param retryPolicy busy retry policy
+     * @param purpose     materialization step reported on failure
+     * @return entry iterator, or {@code null} when the segment is closed
+     */
+    static <K, V> EntryIterator<K, V> openWithRetry(
+            final Segment<K, V> segment,
+            final SegmentIteratorIsolation isolation,
+            final BusyRetryPolicy retryPolicy, final String purpose) {
+        Vldtn.requireNonNull(segment, "segment");
+        Vldtn.requireNonNull(retryPolicy, "retryPolicy");
+        final long startNanos = retryPolicy.startNanos();
+        while (true) {
+            final OperationResult<EntryIterator<K, V>> result = segment
+                    .openIterator(isolation);
+            if (result.getStatus() == OperationStatus.OK
+                    && result.getValue() != null) {
+                return result.getValue();
+            }
+            if (result.getStatus() == OperationStatus.BUSY) {
+                retryPolicy.backoffOrThrow(startNanos, "openIterator",
+                        segment.getId());
+                continue;
+            }
+            if (result.getStatus() == OperationStatus.CLOSED) {
+                return null;
+            }
+            throw new IndexException(String.format(
+                    "Segment '%s' failed to open iterator for %s: %s",
+                    segment.getId(), purpose, result.getStatus()));
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package org.hestiastore.index.segmentindex.core.split;
 
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -21,7 +22,8 @@ import org.hestiastore.index.segmentregistry.BlockingSegment;
 
 /**
  * Owns periodic full split scans, candidate deduplication, and policy workers
- * inside the managed split runtime.
+ * inside the managed split runtime. Full scans also pick adjacent underfilled
+ * segments for merge.
  *
  * @param <K> key type
  * @param <V> value type
@@ -38,6 +40,7 @@ final class SplitPolicyScheduler<K, V> {
     private final SegmentRouteMap<K> keyToSegmentMap;
     private final MappedSegmentLeaseService<K, V> segmentLeaseService;
     private final SplitTaskCoordinator<K, V> splitExecutionCoordinator;
+    private final MergeTaskCoordinator<K, V> mergeExecutionCoordinator;
     private final SegmentIndexRuntimeState runtimeState;
     private final SplitWorkerState policyState;
     private final SplitCandidateQueue candidateRegistry;
@@ -50,6 +53,7 @@ final class SplitPolicyScheduler<K, V> {
             final SegmentRouteMap<K> keyToSegmentMap,
             final MappedSegmentLeaseService<K, V> segmentLeaseService,
             final SplitTaskCoordinator<K, V> splitExecutionCoordinator,
+            final MergeTaskCoordinator<K, V> mergeExecutionCoordinator,
             final Executor workerExecutor,
             final ScheduledExecutorService splitPolicyScheduler,
             final SegmentIndexRuntimeState runtimeState,
@@ -65,6 +69,8 @@ final class SplitPolicyScheduler<K, V> {
                 "segmentLeaseService");
         this.splitExecutionCoordinator = Vldtn.requireNonNull(
                 splitExecutionCoordinator, "splitExecutionCoordinator");
+        this.mergeExecutionCoordinator = Vldtn.requireNonNull(
+                mergeExecutionCoordinator, "mergeExecutionCoordinator");
         this.runtimeState = Vldtn.requireNonNull(runtimeState, "runtimeState");
         this.policyState = Vldtn.requireNonNull(policyState, "policyState");
         this.candidateRegistry = Vldtn.requireNonNull(candidateRegistry,
@@ -145,6 +151,7 @@ final class SplitPolicyScheduler<K, V> {
         while (isPolicyEnabled()) {
             if (policyState.consumeFullScanRequested()) {
                 enqueueCurrentSplitCandidates();
+                scheduleMergeCandidates();
             }
             final Optional<SegmentId> nextCandidate = waitForNextCandidate();
             if (nextCandidate.isEmpty()) {
@@ -183,7 +190,8 @@ final class SplitPolicyScheduler<K, V> {
             if (!isPolicyEnabled()) {
                 return;
             }
-            if (splitExecutionCoordinator.splitInFlightCount() == 0) {
+            if (splitExecutionCoordinator.splitInFlightCount() == 0
+                    && mergeExecutionCoordinator.mergeInFlightCount() == 0) {
                 requestFullSplitScanWork();
             }
         } catch (final RuntimeException e) {
@@ -210,6 +218,9 @@ final class SplitPolicyScheduler<K, V> {
             }
             splitExecutionCoordinator.awaitSplitsIdle(Math.max(1L,
                     TimeUnit.NANOSECONDS.toMillis(remainingNanos)));
+            mergeExecutionCoordinator.awaitMergesIdle(Math.max(1L,
+                    TimeUnit.NANOSECONDS.toMillis(
+                            deadline - System.nanoTime())));
             if (isSettled()) {
                 return;
             }
@@ -229,12 +240,14 @@ final class SplitPolicyScheduler<K, V> {
             policyState.clearPendingWork();
             candidateRegistry.clear();
             return !policyState.isWorkerActive()
-                    && splitExecutionCoordinator.splitInFlightCount() == 0;
+                    && splitExecutionCoordinator.splitInFlightCount() == 0
+                    && mergeExecutionCoordinator.mergeInFlightCount() == 0;
         }
         return !policyState.isFullScanRequested()
                 && !policyState.isWorkerActive()
                 && !candidateRegistry.hasPendingCandidates()
-                && splitExecutionCoordinator.splitInFlightCount() == 0;
+                && splitExecutionCoordinator.splitInFlightCount() == 0
+                && mergeExecutionCoordinator.mergeInFlightCount() == 0;
     }
 
     private boolean isPolicyEnabled() {
@@ -259,6 +272,44 @@ final class SplitPolicyScheduler<K, V> {
                         threshold));
     }
 
+    private void scheduleMergeCandidates() {
+        final long threshold = mergeThreshold();
+        if (threshold < 1L) {
+            return;
+        }
+        final Set<SegmentId> loadedSegmentIds = Set
+                .copyOf(segmentLeaseService.getLoadedMappedSegmentIds());
+        SegmentMergePolicy.selectCandidates(keyToSegmentMap.getSegmentIds(),
+                segmentId -> mergeKeyCount(segmentId, loadedSegmentIds),
+                threshold).forEach(mergeExecutionCoordinator::scheduleMerge);
+    }
+
+    /**
+     * Merged segments must stay below the split threshold, otherwise the next
+     * scan would split them again.
+     */
+    private long mergeThreshold() {
+        return Math.min(conf.writePath().segmentMergeKeyThreshold(),
+                splitThreshold());
+    }
+
+    private long mergeKeyCount(final SegmentId segmentId,
+            final Set<SegmentId> loadedSegmentIds) {
+        if (!loadedSegmentIds.contains(segmentId)
+                || splitExecutionCoordinator.isSplitBlocked(segmentId)
+                || mergeExecutionCoordinator.isMergeBlocked(segmentId)) {
+            return SegmentMergePolicy.UNKNOWN_KEY_COUNT;
+        }
+        final Optional<MappedSegmentLease<K, V>> leaseResult = tryAcquireOpenMappedSegment(
+                segmentId);
+        if (leaseResult.isEmpty()) {
+            return SegmentMergePolicy.UNKNOWN_KEY_COUNT;
+        }
+        try (MappedSegmentLease<K, V> lease = leaseResult.get()) {
+            return observedKeyCount(lease.segment());
+        }
+    }
+
     private Optional<SegmentId> waitForNextCandidate() {
         final int threshold = splitThreshold();
         if (threshold < 1) {
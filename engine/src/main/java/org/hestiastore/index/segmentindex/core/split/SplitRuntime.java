@@ -17,8 +17,8 @@ import org.hestiastore.index.segmentindex.routemap.SegmentRouteMap;
 import org.hestiastore.index.segmentregistry.SegmentRegistry;
 
 /**
- * Aggregates split execution and policy scheduling inside one managed runtime
- * boundary.
+ * Aggregates split and merge execution and policy scheduling inside one
+ * managed runtime boundary.
  *
  * @param <K> key type
  * @param <V> value type
@@ -112,12 +112,20 @@ public final class SplitRuntime<K, V>
                         Vldtn.requireNonNull(splitExecutor, "splitExecutor"),
                         validatedRuntimeState, validatedStatsRecorder,
                         System::nanoTime);
+        final MergeTaskCoordinator<M, N> mergeCoordinator =
+                new MergeTaskCoordinator<>(validatedSegmentLeaseService,
+                        new RouteMergeMaterializer<>(materializationService,
+                                retryPolicy),
+                        new RouteMergePublisher<>(validatedKeyToSegmentMap,
+                                validatedSegmentRegistry,
+                                materializationService),
+                        splitExecutor, validatedRuntimeState);
         final SplitPolicyScheduler<M, N> splitPolicyCoordinator =
                 new SplitPolicyScheduler<>(validatedConf,
                         Vldtn.requireNonNull(runtimeTuningState,
                                 "runtimeTuningState"),
                         validatedKeyToSegmentMap, validatedSegmentLeaseService,
-                        splitCoordinator,
+                        splitCoordinator, mergeCoordinator,
                         Vldtn.requireNonNull(workerExecutor, "workerExecutor"),
                         Vldtn.requireNonNull(splitPolicyScheduler,
                                 "splitPolicyScheduler"),
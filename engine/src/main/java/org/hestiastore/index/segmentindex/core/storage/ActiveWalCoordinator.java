@@ -1,8 +1,10 @@
 package org.hestiastore.index.segmentindex.core.storage;
 
+import java.util.List;
 import java.util.concurrent.atomic.AtomicLong;
 
 import org.hestiastore.index.BusyRetryPolicy;
+import org.hestiastore.index.Entry;
 import org.hestiastore.index.Vldtn;
 import org.hestiastore.index.segmentindex.SegmentIndexState;
 import org.hestiastore.index.segmentindex.configuration.effective.EffectiveIndexConfiguration;
@@ -84,6 +86,16 @@ final class ActiveWalCoordinator<K, V>
         }
     }
 
+    @Override
+    public long appendBatch(final List<Entry<K, V>> entries) {
+        try {
+            retentionPressureCoordinator.enforceIfNeeded();
+            return walRuntime.appendBatch(entries);
+        } catch (final RuntimeException failure) {
+            throw propagateWalFailure(failure);
+        }
+    }
+
     @Override
     public void recordAppliedLsn(final long walLsn) {
         if (walLsn > 0L) {
@@ -1,5 +1,8 @@
 package org.hestiastore.index.segmentindex.core.storage;
 
+import java.util.List;
+
+import org.hestiastore.index.Entry;
 import org.hestiastore.index.segmentindex.wal.WalRuntime;
 
 /**
@@ -29,6 +32,11 @@ final class NoopWalCoordinator<K, V>
         return 0L;
     }
 
+    @Override
+    public long appendBatch(final List<Entry<K, V>> entries) {
+        return 0L;
+    }
+
     @Override
     public void recordAppliedLsn(final long walLsn) {
     }
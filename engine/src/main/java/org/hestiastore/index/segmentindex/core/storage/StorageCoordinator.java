@@ -1,8 +1,10 @@
 package org.hestiastore.index.segmentindex.core.storage;
 
+import java.util.List;
 import java.util.concurrent.atomic.AtomicLong;
 
 import org.hestiastore.index.BusyRetryPolicy;
+import org.hestiastore.index.Entry;
 import org.hestiastore.index.Vldtn;
 import org.hestiastore.index.directory.Directory;
 import org.hestiastore.index.segmentindex.core.SegmentIndexRuntimeState;
@@ -172,6 +174,18 @@ public final class StorageCoordinator<K, V> {
         return walCoordinator.appendDelete(key);
     }
 
+    /**
+     * Appends many entries to the WAL with one durability wait. Entries with a
+     * {@code null} value are logged as deletes.
+     *
+     * @param entries entries to append, in LSN order
+     * @return highest appended WAL LSN or {@code 0} when WAL is disabled or
+     *         the batch is empty
+     */
+    public long appendWalBatch(final List<Entry<K, V>> entries) {
+        return walCoordinator.appendBatch(entries);
+    }
+
     /**
      * Records the highest WAL LSN already applied to durable runtime state.
      *
@@ -1,5 +1,8 @@
 package org.hestiastore.index.segmentindex.core.storage;
 
+import java.util.List;
+
+import org.hestiastore.index.Entry;
 import org.hestiastore.index.segmentindex.wal.WalRuntime;
 
 interface WalCoordinator<K, V> extends AutoCloseable {
@@ -12,6 +15,8 @@ interface WalCoordinator<K, V> extends AutoCloseable {
 
     long appendDelete(K key);
 
+    long appendBatch(List<Entry<K, V>> entries);
+
     void recordAppliedLsn(long walLsn);
 
     @Override
@@ -85,7 +85,9 @@ final class IndexRuntimeSnapshotProjection<K, V> {
                 metrics.chunkStoreCacheStats().missCount(),
                 metrics.chunkStoreCacheStats().loadCount(),
                 metrics.chunkStoreCacheStats().evictionCount(),
-                metrics.chunkStoreCacheStats().invalidationCount());
+                metrics.chunkStoreCacheStats().invalidationCount(),
+                metrics.chunkStoreCacheStats().byteLimit(),
+                metrics.chunkStoreCacheStats().weightBytes());
     }
 
     private SegmentIndexSegmentMetrics segments(
@@ -129,7 +131,9 @@ final class IndexRuntimeSnapshotProjection<K, V> {
                 segmentRuntime.getBloomFilterRequestCount(),
                 segmentRuntime.getBloomFilterRefusedCount(),
                 segmentRuntime.getBloomFilterPositiveCount(),
-                segmentRuntime.getBloomFilterFalsePositiveCount());
+                segmentRuntime.getBloomFilterFalsePositiveCount(),
+                segmentRuntime.getBloomFilterIndexSizeInBytes(),
+                segmentRuntime.getBloomFilterNumberOfHashFunctions());
     }
 
     private SegmentIndexWritePathMetrics writePath(
@@ -13,6 +13,8 @@ public final class SegmentIndexChunkStoreCacheMetrics {
     private final long loadCount;
     private final long evictionCount;
     private final long invalidationCount;
+    private final long byteLimit;
+    private final long weightBytes;
 
     /**
      * Creates chunk-store cache metrics.
@@ -31,6 +33,30 @@ public final class SegmentIndexChunkStoreCacheMetrics {
             final int pageCount, final long entryCount, final long hitCount,
             final long missCount, final long loadCount,
             final long evictionCount, final long invalidationCount) {
+        this(pageLimit, pageCount, entryCount, hitCount, missCount,
+                loadCount, evictionCount, invalidationCount, 0L, 0L);
+    }
+
+    /**
+     * Creates chunk-store cache metrics including page weights.
+     *
+     * @param pageLimit configured page limit
+     * @param pageCount current page count
+     * @param entryCount current entry count
+     * @param hitCount cache hit count
+     * @param missCount cache miss count
+     * @param loadCount cache load count
+     * @param evictionCount cache eviction count
+     * @param invalidationCount cache invalidation count
+     * @param byteLimit configured weight limit in bytes
+     * @param weightBytes current estimated weight in bytes
+     */
+    @SuppressWarnings("java:S107")
+    public SegmentIndexChunkStoreCacheMetrics(final int pageLimit,
+            final int pageCount, final long entryCount, final long hitCount,
+            final long missCount, final long loadCount,
+            final long evictionCount, final long invalidationCount,
+            final long byteLimit, final long weightBytes) {
         this.pageLimit = MetricModelValidation.nonNegative(pageLimit,
                 "pageLimit");
         this.pageCount = MetricModelValidation.nonNegative(pageCount,
@@ -47,6 +73,10 @@ public final class SegmentIndexChunkStoreCacheMetrics {
                 "evictionCount");
         this.invalidationCount = MetricModelValidation.nonNegative(
                 invalidationCount, "invalidationCount");
+        this.byteLimit = MetricModelValidation.nonNegative(byteLimit,
+                "byteLimit");
+        this.weightBytes = MetricModelValidation.nonNegative(weightBytes,
+                "weightBytes");
     }
 
     /**
@@ -120,4 +150,22 @@ public final class SegmentIndexChunkStoreCacheMetrics {
     public long invalidationCount() {
         return invalidationCount;
     }
+
+    /**
+     * Returns configured weight limit.
+     *
+     * @return byte limit, {@code 0} when bounded by page count only
+     */
+    public long byteLimit() {
+        return byteLimit;
+    }
+
+    /**
+     * Returns current estimated weight of cached pages.
+     *
+     * @return weight in bytes
+     */
+    public long weightBytes() {
+        return weightBytes;
+    }
 }
@@ -22,9 +22,11 @@ public final class SegmentIndexSegmentRuntimeMetrics {
     private final long bloomFilterRefusedCount;
     private final long bloomFilterPositiveCount;
     private final long bloomFilterFalsePositiveCount;
+    private final int bloomFilterIndexSizeInBytes;
+    private final int bloomFilterNumberOfHashFunctions;
 
     /**
-     * Creates segment runtime metrics.
+     * Creates segment runtime metrics without recorded Bloom filter sizing.
      *
      * @param segmentId segment identifier
      * @param state segment state
@@ -54,6 +56,52 @@ public final class SegmentIndexSegmentRuntimeMetrics {
             final long bloomFilterRefusedCount,
             final long bloomFilterPositiveCount,
             final long bloomFilterFalsePositiveCount) {
+        this(segmentId, state, numberOfKeysInDeltaCache,
+                numberOfKeysInSegment, numberOfKeysInScarceIndex,
+                numberOfKeysInSegmentCache, numberOfKeysInWriteCache,
+                numberOfDeltaCacheFiles, compactRequestCount,
+                flushRequestCount, bloomFilterRequestCount,
+                bloomFilterRefusedCount, bloomFilterPositiveCount,
+                bloomFilterFalsePositiveCount, 0, 0);
+    }
+
+    /**
+     * Creates segment runtime metrics.
+     *
+     * @param segmentId segment identifier
+     * @param state segment state
+     * @param numberOfKeysInDeltaCache number of keys in delta cache
+     * @param numberOfKeysInSegment number of keys in segment files
+     * @param numberOfKeysInScarceIndex number of keys in scarce index
+     * @param numberOfKeysInSegmentCache number of keys in segment cache
+     * @param numberOfKeysInWriteCache number of keys in write cache
+     * @param numberOfDeltaCacheFiles number of delta cache files
+     * @param compactRequestCount compact request count
+     * @param flushRequestCount flush request count
+     * @param bloomFilterRequestCount Bloom filter request count
+     * @param bloomFilterRefusedCount Bloom filter refused count
+     * @param bloomFilterPositiveCount Bloom filter positive count
+     * @param bloomFilterFalsePositiveCount Bloom filter false-positive count
+     * @param bloomFilterIndexSizeInBytes recorded Bloom filter size in bytes,
+     *        0 when not recorded
+     * @param bloomFilterNumberOfHashFunctions recorded Bloom filter hash
+     *        function count, 0 when not recorded
+     */
+    @SuppressWarnings("java:S107")
+    public SegmentIndexSegmentRuntimeMetrics(final String segmentId,
+            final SegmentState state, final long numberOfKeysInDeltaCache,
+            final long numberOfKeysInSegment,
+            final long numberOfKeysInScarceIndex,
+            final long numberOfKeysInSegmentCache,
+            final int numberOfKeysInWriteCache,
+            final int numberOfDeltaCacheFiles,
+            final long compactRequestCount, final long flushRequestCount,
+            final long bloomFilterRequestCount,
+            final long bloomFilterRefusedCount,
+            final long bloomFilterPositiveCount,
+            final long bloomFilterFalsePositiveCount,
+            final int bloomFilterIndexSizeInBytes,
+            final int bloomFilterNumberOfHashFunctions) {
         this.segmentId = Vldtn.requireNotBlank(segmentId, "segmentId");
         this.state = Vldtn.requireNonNull(state, "state");
         this.numberOfKeysInDeltaCache = MetricModelValidation.nonNegative(
@@ -81,6 +129,11 @@ public final class SegmentIndexSegmentRuntimeMetrics {
         this.bloomFilterFalsePositiveCount = MetricModelValidation.nonNegative(
                 bloomFilterFalsePositiveCount,
                 "bloomFilterFalsePositiveCount");
+        this.bloomFilterIndexSizeInBytes = MetricModelValidation.nonNegative(
+                bloomFilterIndexSizeInBytes, "bloomFilterIndexSizeInBytes");
+        this.bloomFilterNumberOfHashFunctions = MetricModelValidation
+                .nonNegative(bloomFilterNumberOfHashFunctions,
+                        "bloomFilterNumberOfHashFunctions");
     }
 
     /**
@@ -208,4 +261,37 @@ public final class SegmentIndexSegmentRuntimeMetrics {
     public long bloomFilterFalsePositiveCount() {
         return bloomFilterFalsePositiveCount;
     }
+
+    /**
+     * Returns Bloom filter size recorded for the segment.
+     *
+     * @return size in bytes, 0 when not recorded
+     */
+    public int bloomFilterIndexSizeInBytes() {
+        return bloomFilterIndexSizeInBytes;
+    }
+
+    /**
+     * Returns Bloom filter hash function count recorded for the segment.
+     *
+     * @return hash function count, 0 when not recorded
+     */
+    public int bloomFilterNumberOfHashFunctions() {
+        return bloomFilterNumberOfHashFunctions;
+    }
+
+    /**
+     * Returns observed Bloom filter false-positive rate, false positives
+     * divided by lookups of keys the segment does not hold.
+     *
+     * @return observed rate in range [0,1], 0 before any such lookup
+     */
+    public double bloomFilterObservedFalsePositiveRate() {
+        final long absentKeyLookups = bloomFilterRefusedCount
+                + bloomFilterFalsePositiveCount;
+        if (absentKeyLookups == 0L) {
+            return 0D;
+        }
+        return bloomFilterFalsePositiveCount / (double) absentKeyLookups;
+    }
 }
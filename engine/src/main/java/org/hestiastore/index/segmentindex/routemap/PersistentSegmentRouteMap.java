@@ -6,7 +6,6 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
-import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
@@ -23,7 +22,12 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Thread-safe persistent route-map implementation backed by a read/write lock.
+ * Thread-safe persistent route-map implementation.
+ * <p>
+ * Writers serialize on a write lock, change the mutable route tree and
+ * publish an immutable array-based {@link RouteMapSnapshot} through a volatile
+ * field. Route lookups, snapshots and version checks only read that field, so
+ * the read path takes no lock.
  *
  * @param <K> key type
  */
@@ -43,14 +47,14 @@ public final class PersistentSegmentRouteMap<K> extends AbstractCloseableResourc
     private static final SegmentId FIRST_SEGMENT_ID = SegmentId.of(0);
 
     private TreeMap<K, SegmentId> list;
-    private volatile TreeMap<K, SegmentId> snapshot;
+    private volatile RouteMapSnapshot<K> snapshot;
     private final SortedDataFile<K, SegmentId> sdf;
     private final Comparator<K> keyComparator;
     private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
     private final Lock readLock = lock.readLock();
     private final Lock writeLock = lock.writeLock();
     private boolean isDirty = false;
-    private final AtomicLong version = new AtomicLong(0);
+    private long version = 0;
 
     public PersistentSegmentRouteMap(final Directory directoryFacade,
             final TypeDescriptor<K> keyTypeDescriptor) {
@@ -73,7 +77,7 @@ public final class PersistentSegmentRouteMap<K> extends AbstractCloseableResourc
                 list.put(entry.getKey(), entry.getValue());
             }
         }
-        this.snapshot = new TreeMap<>(list);
+        this.snapshot = RouteMapSnapshot.of(list, version);
         validateUniqueSegmentIds();
     }
 
@@ -85,9 +89,8 @@ public final class PersistentSegmentRouteMap<K> extends AbstractCloseableResourc
         readLock.lock();
         try {
             ensureOpen();
-            final TreeMap<K, SegmentId> current = snapshot;
             final HashMap<SegmentId, K> seen = new HashMap<>();
-            for (final Map.Entry<K, SegmentId> entry : current.entrySet()) {
+            for (final Map.Entry<K, SegmentId> entry : list.entrySet()) {
                 final K key = entry.getKey();
                 final SegmentId segmentId = entry.getValue();
                 final K oldKey = seen.putIfAbsent(segmentId, key);
@@ -113,36 +116,18 @@ public final class PersistentSegmentRouteMap<K> extends AbstractCloseableResourc
      */
     @Override
     public SegmentId findSegmentIdForKey(final K key) {
-        readLock.lock();
-        try {
-            ensureOpen();
-            Vldtn.requireNonNull(key, "key");
-            final Entry<K, SegmentId> entry = localFindSegmentForKey(key,
-                    snapshot);
-            return entry == null ? null : entry.getValue();
-        } finally {
-            readLock.unlock();
-        }
+        ensureOpen();
+        return snapshot.findSegmentIdForKey(key);
     }
 
     @Override
     public RouteMapSnapshot<K> snapshot() {
-        readLock.lock();
-        try {
-            return new RouteMapSnapshot<>(snapshot, version.get());
-        } finally {
-            readLock.unlock();
-        }
+        return snapshot;
     }
 
     @Override
     public boolean isAtVersion(final long expectedVersion) {
-        readLock.lock();
-        try {
-            return version.get() == expectedVersion;
-        } finally {
-            readLock.unlock();
-        }
+        return snapshot.version() == expectedVersion;
     }
 
     @Override
@@ -340,6 +325,55 @@ public final class PersistentSegmentRouteMap<K> extends AbstractCloseableResourc
         }
     }
 
+    @Override
+    public boolean tryReplaceRoutesWithMerge(final RouteMergePlan<K> merge) {
+        writeLock.lock();
+        try {
+            ensureOpen();
+            Vldtn.requireNonNull(merge, "merge");
+            final RouteBoundary<K> lowerBoundary = findRouteBoundary(
+                    merge.getLowerSegmentId());
+            final RouteBoundary<K> upperBoundary = findRouteBoundary(
+                    merge.getUpperSegmentId());
+            if (lowerBoundary == null || upperBoundary == null
+                    || !isNextRoute(lowerBoundary, upperBoundary)) {
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug(
+                            "Route merge publish rejected because replaced routes are missing or no longer adjacent: lowerSegmentId='{}', upperSegmentId='{}', mergedSegmentId='{}'.",
+                            merge.getLowerSegmentId(),
+                            merge.getUpperSegmentId(),
+                            merge.getMergedSegmentId());
+                }
+                return false;
+            }
+            validateMergeSegmentIds(merge);
+            list.remove(lowerBoundary.key());
+            list.put(upperBoundary.key(), merge.getMergedSegmentId());
+            refreshSnapshot();
+            isDirty = true;
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private boolean isNextRoute(final RouteBoundary<K> lowerBoundary,
+            final RouteBoundary<K> upperBoundary) {
+        final K nextKey = list.higherKey(lowerBoundary.key());
+        return nextKey != null
+                && keyComparator.compare(nextKey, upperBoundary.key()) == 0;
+    }
+
+    private void validateMergeSegmentIds(final RouteMergePlan<K> merge) {
+        final SegmentId mergedSegmentId = merge.getMergedSegmentId();
+        if (mergedSegmentId.equals(merge.getLowerSegmentId())
+                || mergedSegmentId.equals(merge.getUpperSegmentId())
+                || list.containsValue(mergedSegmentId)) {
+            throw new IllegalArgumentException(String.format(
+                    "Segment id '%s' already exists", mergedSegmentId));
+        }
+    }
+
     private RouteBoundary<K> findRouteBoundary(final SegmentId segmentId) {
         final Map.Entry<K, SegmentId> tailEntry = list.lastEntry();
         for (final Map.Entry<K, SegmentId> entry : list.entrySet()) {
@@ -457,12 +491,7 @@ public final class PersistentSegmentRouteMap<K> extends AbstractCloseableResourc
      */
     @Override
     public List<SegmentId> getSegmentIds(final SegmentWindow segmentWindow) {
-        readLock.lock();
-        try {
-            return snapshot().getSegmentIds(segmentWindow);
-        } finally {
-            readLock.unlock();
-        }
+        return snapshot.getSegmentIds(segmentWindow);
     }
 
     /**
@@ -500,8 +529,8 @@ public final class PersistentSegmentRouteMap<K> extends AbstractCloseableResourc
     }
 
     private void refreshSnapshot() {
-        snapshot = new TreeMap<>(list);
-        version.incrementAndGet();
+        version++;
+        snapshot = RouteMapSnapshot.of(list, version);
     }
 
     private void ensureOpen() {
@@ -1,5 +1,7 @@
 package org.hestiastore.index.segmentindex.routemap;
 
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
@@ -11,39 +13,138 @@ import org.hestiastore.index.segmentindex.SegmentWindow;
 /**
  * Immutable point-in-time view of a {@link PersistentSegmentRouteMap} routing
  * topology.
+ * <p>
+ * Routes are held in two parallel arrays sorted by segment max key, so a
+ * lookup is a binary search over a flat array without locks, tree nodes or
+ * allocation. Writers publish a new snapshot after every change.
  *
  * @param <K> key type
  */
 public final class RouteMapSnapshot<K> {
 
-    private final TreeMap<K, SegmentId> map;
+    private final Object[] maxKeys;
+    private final SegmentId[] segmentIds;
+    private final Comparator<? super K> comparator;
     private final long version;
 
-    RouteMapSnapshot(final TreeMap<K, SegmentId> map, final long version) {
-        this.map = Vldtn.requireNonNull(map, "map");
+    private RouteMapSnapshot(final Object[] maxKeys,
+            final SegmentId[] segmentIds,
+            final Comparator<? super K> comparator, final long version) {
+        this.maxKeys = maxKeys;
+        this.segmentIds = segmentIds;
+        this.comparator = comparator;
         this.version = version;
     }
 
+    /**
+     * Creates a snapshot from routes sorted by segment max key.
+     *
+     * @param <K>     key type
+     * @param routes  routes keyed by segment max key
+     * @param version route map version
+     * @return immutable snapshot
+     */
+    static <K> RouteMapSnapshot<K> of(final TreeMap<K, SegmentId> routes,
+            final long version) {
+        final TreeMap<K, SegmentId> validatedRoutes = Vldtn
+                .requireNonNull(routes, "routes");
+        final Object[] maxKeys = new Object[validatedRoutes.size()];
+        final SegmentId[] segmentIds = new SegmentId[validatedRoutes.size()];
+        int index = 0;
+        for (final Map.Entry<K, SegmentId> entry : validatedRoutes
+                .entrySet()) {
+            maxKeys[index] = entry.getKey();
+            segmentIds[index] = entry.getValue();
+            index++;
+        }
+        return new RouteMapSnapshot<>(maxKeys, segmentIds,
+                Vldtn.requireNonNull(validatedRoutes.comparator(),
+                        "routes.comparator()"),
+                version);
+    }
+
+    /**
+     * Finds the segment whose max key is the smallest one greater than or
+     * equal to the key. Keys above every max key route to the last segment.
+     *
+     * @param key key to look up
+     * @return segment id or {@code null} when no route exists
+     */
     public SegmentId findSegmentIdForKey(final K key) {
         Vldtn.requireNonNull(key, "key");
-        final Map.Entry<K, SegmentId> ceilingEntry = map.ceilingEntry(key);
-        if (ceilingEntry != null) {
-            return ceilingEntry.getValue();
+        if (segmentIds.length == 0) {
+            return null;
         }
-        final Map.Entry<K, SegmentId> tailEntry = map.lastEntry();
-        return tailEntry == null ? null : tailEntry.getValue();
+        final int index = ceilingIndex(key);
+        return segmentIds[index == segmentIds.length ? index - 1 : index];
     }
 
     public List<SegmentId> getSegmentIds(final SegmentWindow segmentWindow) {
         Vldtn.requireNonNull(segmentWindow, "segmentWindow");
-        return map.entrySet().stream()//
-                .skip(segmentWindow.getIntOffset())//
-                .limit(segmentWindow.getIntLimit())//
-                .map(entry -> entry.getValue())//
-                .toList();
+        final int from = Math.min(segmentWindow.getIntOffset(),
+                segmentIds.length);
+        final int to = (int) Math.min(segmentIds.length,
+                (long) from + segmentWindow.getIntLimit());
+        return idsInRange(from, to);
+    }
+
+    /**
+     * Returns ids of the routed segments that can hold keys from the
+     * half-open range {@code [fromInclusive, toExclusive)}, in key order.
+     * Routes entirely below or above the range are pruned.
+     *
+     * @param fromInclusive lower bound, or {@code null} for no lower bound
+     * @param toExclusive   upper bound, or {@code null} for no upper bound
+     * @return overlapping segment ids, empty when the range is empty
+     */
+    public List<SegmentId> getSegmentIds(final K fromInclusive,
+            final K toExclusive) {
+        if (segmentIds.length == 0 || (fromInclusive != null
+                && toExclusive != null
+                && comparator.compare(fromInclusive, toExclusive) >= 0)) {
+            return List.of();
+        }
+        int from = 0;
+        if (fromInclusive != null) {
+            from = ceilingIndex(fromInclusive);
+            if (from == segmentIds.length) {
+                return List.of(segmentIds[segmentIds.length - 1]);
+            }
+        }
+        int to = segmentIds.length;
+        if (toExclusive != null) {
+            to = Math.min(segmentIds.length, ceilingIndex(toExclusive) + 1);
+        }
+        return idsInRange(from, to);
     }
 
     public long version() {
         return version;
     }
+
+    private List<SegmentId> idsInRange(final int from, final int to) {
+        return List.of(Arrays.copyOfRange(segmentIds, from, to));
+    }
+
+    /**
+     * Returns the index of the first max key greater than or equal to the key,
+     * or the route count when every max key is smaller.
+     */
+    @SuppressWarnings("unchecked")
+    private int ceilingIndex(final K key) {
+        int low = 0;
+        int high = maxKeys.length - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final int cmp = comparator.compare((K) maxKeys[mid], key);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return low;
+    }
 }
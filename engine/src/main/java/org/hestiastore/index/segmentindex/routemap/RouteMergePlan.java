@@ -0,0 +1,57 @@
+package org.hestiastore.index.segmentindex.routemap;
+
+import org.hestiastore.index.Vldtn;
+import org.hestiastore.index.segment.SegmentId;
+
+/**
+ * Immutable merge describing how two adjacent routed segment ranges are
+ * replaced by one segment during merge publish.
+ *
+ * @param <K> key type
+ */
+public final class RouteMergePlan<K> {
+
+    private final SegmentId lowerSegmentId;
+    private final SegmentId upperSegmentId;
+    private final SegmentId mergedSegmentId;
+
+    /**
+     * Creates an immutable merge describing how a merge outcome should be
+     * published into the route map.
+     *
+     * @param lowerSegmentId  replaced lower segment id
+     * @param upperSegmentId  replaced upper segment id, routed directly after
+     *                        the lower one
+     * @param mergedSegmentId newly created segment id covering both ranges
+     */
+    public RouteMergePlan(final SegmentId lowerSegmentId,
+            final SegmentId upperSegmentId, final SegmentId mergedSegmentId) {
+        this.lowerSegmentId = Vldtn.requireNonNull(lowerSegmentId,
+                "lowerSegmentId");
+        this.upperSegmentId = Vldtn.requireNonNull(upperSegmentId,
+                "upperSegmentId");
+        this.mergedSegmentId = Vldtn.requireNonNull(mergedSegmentId,
+                "mergedSegmentId");
+    }
+
+    /**
+     * @return id of the replaced lower segment
+     */
+    public SegmentId getLowerSegmentId() {
+        return lowerSegmentId;
+    }
+
+    /**
+     * @return id of the replaced upper segment
+     */
+    public SegmentId getUpperSegmentId() {
+        return upperSegmentId;
+    }
+
+    /**
+     * @return id of the segment produced by merge
+     */
+    public SegmentId getMergedSegmentId() {
+        return mergedSegmentId;
+    }
+}
@@ -32,6 +32,8 @@ public interface SegmentRouteMap<K> extends CloseableResource {
 
     boolean tryReplaceRouteWithSplit(RouteSplitPlan<K> split);
 
+    boolean tryReplaceRoutesWithMerge(RouteMergePlan<K> merge);
+
     void removeSegmentRoute(SegmentId segmentId);
 
     List<SegmentId> getSegmentIds();
@@ -1,7 +1,10 @@
 package org.hestiastore.index.segmentindex.wal;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
+import org.hestiastore.index.Entry;
+
 /**
  * Queued WAL append request processed by the append worker.
  *
@@ -13,6 +16,7 @@ final class WalAppendTask<K, V> {
     private final WalRuntime.Operation operation;
     private final K key;
     private final V value;
+    private final List<Entry<K, V>> entries;
     private final CompletableFuture<Long> writtenLsn =
             new CompletableFuture<>();
     private final boolean stop;
@@ -22,6 +26,15 @@ final class WalAppendTask<K, V> {
         this.operation = operation;
         this.key = key;
         this.value = value;
+        this.entries = null;
+        this.stop = false;
+    }
+
+    private WalAppendTask(final List<Entry<K, V>> entries) {
+        this.operation = null;
+        this.key = null;
+        this.value = null;
+        this.entries = entries;
         this.stop = false;
     }
 
@@ -29,9 +42,24 @@ final class WalAppendTask<K, V> {
         this.operation = null;
         this.key = null;
         this.value = null;
+        this.entries = null;
         this.stop = true;
     }
 
+    /**
+     * Creates a task that appends all entries with contiguous LSNs. The
+     * written LSN of a batch task is the highest assigned LSN.
+     *
+     * @param <K>     key type
+     * @param <V>     value type
+     * @param entries entries to append, {@code null} values are deletes
+     * @return batch task
+     */
+    static <K, V> WalAppendTask<K, V> batchTask(
+            final List<Entry<K, V>> entries) {
+        return new WalAppendTask<>(entries);
+    }
+
     static <K, V> WalAppendTask<K, V> stopTask() {
         return new WalAppendTask<>();
     }
@@ -48,6 +76,14 @@ final class WalAppendTask<K, V> {
         return value;
     }
 
+    List<Entry<K, V>> entries() {
+        return entries;
+    }
+
+    boolean batch() {
+        return entries != null;
+    }
+
     boolean stop() {
         return stop;
     }
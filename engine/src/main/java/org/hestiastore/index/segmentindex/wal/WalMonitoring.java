@@ -22,6 +22,10 @@ public final class WalMonitoring {
     private final long syncMaxNanos;
     private final long syncBatchBytesTotal;
     private final long syncBatchBytesMax;
+    private final int recoverySegmentCount;
+    private final int recoveryDecodedSegmentCount;
+    private final long recoveryReplayedRecordCount;
+    private final long recoveryNanos;
 
     /**
      * Creates WAL monitoring data.
@@ -41,6 +45,11 @@ public final class WalMonitoring {
      * @param syncMaxNanos max sync nanos
      * @param syncBatchBytesTotal total sync batch bytes
      * @param syncBatchBytesMax max sync batch bytes
+     * @param recoverySegmentCount WAL segments found by the last recovery
+     * @param recoveryDecodedSegmentCount WAL segments decoded by the last
+     *        recovery
+     * @param recoveryReplayedRecordCount records replayed by the last recovery
+     * @param recoveryNanos duration of the last completed recovery
      */
     @SuppressWarnings("java:S107")
     public WalMonitoring(final long appendCount, final long appendBytes,
@@ -50,7 +59,10 @@ public final class WalMonitoring {
             final long durableLsn, final long checkpointLsn,
             final long pendingSyncBytes, final long syncTotalNanos,
             final long syncMaxNanos, final long syncBatchBytesTotal,
-            final long syncBatchBytesMax) {
+            final long syncBatchBytesMax, final int recoverySegmentCount,
+            final int recoveryDecodedSegmentCount,
+            final long recoveryReplayedRecordCount,
+            final long recoveryNanos) {
         this.appendCount = Vldtn.requireGreaterThanOrEqualToZero(appendCount,
                 "appendCount");
         this.appendBytes = Vldtn.requireGreaterThanOrEqualToZero(appendBytes,
@@ -81,6 +93,16 @@ public final class WalMonitoring {
                 syncBatchBytesTotal, "syncBatchBytesTotal");
         this.syncBatchBytesMax = Vldtn.requireGreaterThanOrEqualToZero(
                 syncBatchBytesMax, "syncBatchBytesMax");
+        this.recoverySegmentCount = Vldtn.requireGreaterThanOrEqualToZero(
+                recoverySegmentCount, "recoverySegmentCount");
+        this.recoveryDecodedSegmentCount = Vldtn
+                .requireGreaterThanOrEqualToZero(recoveryDecodedSegmentCount,
+                        "recoveryDecodedSegmentCount");
+        this.recoveryReplayedRecordCount = Vldtn
+                .requireGreaterThanOrEqualToZero(recoveryReplayedRecordCount,
+                        "recoveryReplayedRecordCount");
+        this.recoveryNanos = Vldtn.requireGreaterThanOrEqualToZero(
+                recoveryNanos, "recoveryNanos");
     }
 
     /**
@@ -90,7 +112,7 @@ public final class WalMonitoring {
      */
     public static WalMonitoring empty() {
         return new WalMonitoring(0L, 0L, 0L, 0L, 0L, 0L, 0L, 0, 0L, 0L,
-                0L, 0L, 0L, 0L, 0L);
+                0L, 0L, 0L, 0L, 0L, 0, 0, 0L, 0L);
     }
 
     /**
@@ -227,4 +249,42 @@ public final class WalMonitoring {
     public long syncBatchBytesMax() {
         return syncBatchBytesMax;
     }
+
+    /**
+     * Returns the number of WAL segments found by the last recovery.
+     *
+     * @return recovery segment count
+     */
+    public int recoverySegmentCount() {
+        return recoverySegmentCount;
+    }
+
+    /**
+     * Returns the number of WAL segments the last recovery decoded.
+     *
+     * @return decoded recovery segment count
+     */
+    public int recoveryDecodedSegmentCount() {
+        return recoveryDecodedSegmentCount;
+    }
+
+    /**
+     * Returns the number of records the last recovery replayed into the
+     * index.
+     *
+     * @return replayed record count
+     */
+    public long recoveryReplayedRecordCount() {
+        return recoveryReplayedRecordCount;
+    }
+
+    /**
+     * Returns the duration of the last completed recovery, or {@code 0} when
+     * no recovery completed yet.
+     *
+     * @return recovery nanos
+     */
+    public long recoveryNanos() {
+        return recoveryNanos;
+    }
 }
@@ -2,8 +2,11 @@ package org.hestiastore.index.segmentindex.wal;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.channels.ClosedChannelException;
 import java.nio.channels.FileChannel;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.Comparator;
@@ -78,6 +81,19 @@ final class WalPathStorage implements WalStorage {
         }
     }
 
+    @Override
+    public synchronized void append(final String fileName,
+            final ByteBuffer buffer) {
+        Vldtn.requireNonNull(buffer, "buffer");
+        try {
+            writeToChannel(appendChannel(fileName), buffer);
+        } catch (IOException e) {
+            throw new IndexException(
+                    String.format("Unable to write WAL file '%s'.", fileName),
+                    e);
+        }
+    }
+
     @Override
     public synchronized void overwrite(final String fileName, final byte[] bytes,
             final int offset, final int length) {
@@ -197,25 +213,44 @@ final class WalPathStorage implements WalStorage {
         }
     }
 
+    /**
+     * Forces the file to stable storage.
+     *
+     * <p>
+     * The force runs outside of this storage's lock so a group-commit leader
+     * never blocks concurrent appends to the same channel. When the append
+     * channel is rotated away while being forced, the file is reopened and
+     * forced again.
+     * </p>
+     */
     @Override
-    public synchronized void sync(final String fileName) {
-        final Path path = resolve(fileName);
-        if (!Files.exists(path)) {
-            return;
-        }
-        if (fileName.equals(appendFileName) && appendChannel != null) {
+    public void sync(final String fileName) {
+        final FileChannel activeChannel = activeAppendChannelFor(fileName);
+        if (activeChannel != null) {
             try {
-                appendChannel.force(true);
+                activeChannel.force(true);
                 return;
+            } catch (ClosedByInterruptException e) {
+                throw new IndexException(
+                        String.format("Unable to sync WAL file '%s'.", fileName),
+                        e);
+            } catch (ClosedChannelException e) {
+                // Channel was rotated concurrently, sync through a new handle.
             } catch (IOException e) {
                 throw new IndexException(
                         String.format("Unable to sync WAL file '%s'.", fileName),
                         e);
             }
         }
+        final Path path = resolve(fileName);
+        if (!Files.exists(path)) {
+            return;
+        }
         try (FileChannel channel = FileChannel.open(path,
                 StandardOpenOption.WRITE)) {
             channel.force(true);
+        } catch (NoSuchFileException e) {
+            // File was deleted concurrently, nothing left to sync.
         } catch (IOException e) {
             throw new IndexException(
                     String.format("Unable to sync WAL file '%s'.", fileName),
@@ -241,8 +276,18 @@ final class WalPathStorage implements WalStorage {
         closeAppendChannel();
     }
 
+    private synchronized FileChannel activeAppendChannelFor(
+            final String fileName) {
+        if (Vldtn.requireNonNull(fileName, "fileName").equals(appendFileName)
+                && appendChannel != null && appendChannel.isOpen()) {
+            return appendChannel;
+        }
+        return null;
+    }
+
     private FileChannel appendChannel(final String fileName) throws IOException {
-        if (fileName.equals(appendFileName) && appendChannel != null) {
+        if (fileName.equals(appendFileName) && appendChannel != null
+                && appendChannel.isOpen()) {
             return appendChannel;
         }
         closeAppendChannel();
@@ -1,6 +1,6 @@
 package org.hestiastore.index.segmentindex.wal;
 
-import java.util.Arrays;
+import java.nio.ByteBuffer;
 import java.util.Objects;
 import java.util.zip.CRC32;
 
@@ -15,6 +15,9 @@ final class WalRecordCodec<K, V> {
     static final int MIN_RECORD_BODY_SIZE = 4 + 8 + 1 + 4 + 4;
     static final int MAX_RECORD_BODY_SIZE = 32 * 1024 * 1024;
 
+    private static final EncodedBytes EMPTY_VALUE = new EncodedBytes(
+            new byte[0], 0);
+
     private final TypeEncoder<K> keyEncoder;
     private final TypeDecoder<K> keyDecoder;
     private final TypeEncoder<V> valueEncoder;
@@ -32,36 +35,27 @@ final class WalRecordCodec<K, V> {
 
     byte[] encodeRecord(final WalRuntime.Operation operation, final long lsn,
             final K key, final V value) {
-        final byte[] keyBytes = encodeKey(key);
-        final byte[] valueBytes = operation == WalRuntime.Operation.PUT
-                ? encodeValue(value)
-                : new byte[0];
-        final int bodyLen = MIN_RECORD_BODY_SIZE + keyBytes.length
-                + valueBytes.length;
-        if (bodyLen > MAX_RECORD_BODY_SIZE) {
-            throw new IllegalArgumentException(String.format(
-                    "WAL record body is too large: %s", bodyLen));
-        }
-        final byte[] body = new byte[bodyLen];
-        int offset = 0;
-        offset += 4;
-        putLong(body, offset, lsn);
-        offset += 8;
-        body[offset++] = operation.code();
-        putInt(body, offset, keyBytes.length);
-        offset += 4;
-        putInt(body, offset, valueBytes.length);
-        offset += 4;
-        System.arraycopy(keyBytes, 0, body, offset, keyBytes.length);
-        offset += keyBytes.length;
-        System.arraycopy(valueBytes, 0, body, offset, valueBytes.length);
-        putInt(body, 0, computeCrc32(body, 4, body.length - 4));
-        final byte[] encoded = new byte[4 + body.length];
-        putInt(encoded, 0, body.length);
-        System.arraycopy(body, 0, encoded, 4, body.length);
+        final EncodedBytes keyBytes = encodeKey(key, new byte[0]);
+        final EncodedBytes valueBytes = operation == WalRuntime.Operation.PUT
+                ? encodeValue(value, new byte[0])
+                : EMPTY_VALUE;
+        final byte[] encoded = new byte[recordLength(keyBytes.getLength(),
+                valueBytes.getLength())];
+        writeRecord(ByteBuffer.wrap(encoded), operation, lsn, keyBytes,
+                valueBytes);
         return encoded;
     }
 
+    /**
+     * Creates encoder that stages records in reusable buffers so many records
+     * can be written into one shared {@link ByteBuffer}.
+     *
+     * @return batch encoder, not thread-safe
+     */
+    BatchEncoder newBatchEncoder() {
+        return new BatchEncoder();
+    }
+
     WalDecodedRecord<K, V> decodeBody(final byte[] body,
             final long previousLsn) {
         final int storedCrc = readInt(body, 0);
@@ -107,28 +101,59 @@ final class WalRecordCodec<K, V> {
                 && bodyLength <= MAX_RECORD_BODY_SIZE;
     }
 
-    private byte[] encodeKey(final K key) {
-        final EncodedBytes encoded = keyEncoder.encode(Objects.requireNonNull(key,
-                "key"), new byte[0]);
-        return toExactArray(encoded, "key");
+    private EncodedBytes encodeKey(final K key, final byte[] reusableBuffer) {
+        return validateEncoded(keyEncoder.encode(
+                Objects.requireNonNull(key, "key"), reusableBuffer), "key");
     }
 
-    private byte[] encodeValue(final V value) {
-        final EncodedBytes encoded = valueEncoder.encode(
-                Objects.requireNonNull(value, "value"), new byte[0]);
-        return toExactArray(encoded, "value");
+    private EncodedBytes encodeValue(final V value,
+            final byte[] reusableBuffer) {
+        return validateEncoded(valueEncoder.encode(
+                Objects.requireNonNull(value, "value"), reusableBuffer),
+                "value");
     }
 
-    private byte[] toExactArray(final EncodedBytes encoded,
+    private static EncodedBytes validateEncoded(final EncodedBytes encoded,
             final String fieldName) {
         final EncodedBytes validated = Vldtn.requireNonNull(encoded, "encoded");
-        final int length = Vldtn.requireGreaterThanOrEqualToZero(
-                validated.getLength(), fieldName + "Length");
-        final byte[] bytes = validated.getBytes();
-        if (bytes.length == length) {
-            return bytes;
+        Vldtn.requireGreaterThanOrEqualToZero(validated.getLength(),
+                fieldName + "Length");
+        return validated;
+    }
+
+    private static int recordLength(final int keyLength,
+            final int valueLength) {
+        final long bodyLen = (long) MIN_RECORD_BODY_SIZE + keyLength
+                + valueLength;
+        if (bodyLen > MAX_RECORD_BODY_SIZE) {
+            throw new IllegalArgumentException(String.format(
+                    "WAL record body is too large: %s", bodyLen));
         }
-        return Arrays.copyOf(bytes, length);
+        return 4 + (int) bodyLen;
+    }
+
+    /**
+     * Writes length prefix, CRC and body at the target's current position.
+     * The target must have at least {@link #recordLength(int, int)} bytes
+     * remaining.
+     */
+    private static void writeRecord(final ByteBuffer target,
+            final WalRuntime.Operation operation, final long lsn,
+            final EncodedBytes key, final EncodedBytes value) {
+        final int start = target.position();
+        target.putInt(recordLength(key.getLength(), value.getLength()) - 4);
+        target.putInt(0);
+        target.putLong(lsn);
+        target.put(operation.code());
+        target.putInt(key.getLength());
+        target.putInt(value.getLength());
+        target.put(key.getBytes(), 0, key.getLength());
+        target.put(value.getBytes(), 0, value.getLength());
+        final ByteBuffer crcView = target.duplicate();
+        crcView.limit(target.position()).position(start + 8);
+        final CRC32 crc32 = new CRC32();
+        crc32.update(crcView);
+        target.putInt(start + 4, (int) crc32.getValue());
     }
 
     static int computeCrc32(final byte[] data, final int offset,
@@ -173,4 +198,55 @@ final class WalRecordCodec<K, V> {
                 | ((long) (bytes[offset + 6] & 0xFF) << 8)
                 | ((long) bytes[offset + 7] & 0xFF);
     }
+
+    /**
+     * Two-step record encoder. {@link #stage} encodes key and value into
+     * reusable scratch arrays and reports the record length so the caller can
+     * pick a WAL segment and reserve buffer space before the LSN-bearing
+     * header is written by {@link #writeStaged}.
+     */
+    final class BatchEncoder {
+
+        private byte[] keyBuffer = new byte[0];
+        private byte[] valueBuffer = new byte[0];
+        private WalRuntime.Operation stagedOperation;
+        private EncodedBytes stagedKey;
+        private EncodedBytes stagedValue;
+
+        private BatchEncoder() {
+        }
+
+        /**
+         * Encodes the record payload into scratch buffers.
+         *
+         * @param operation operation kind
+         * @param key       record key
+         * @param value     record value, ignored for deletes
+         * @return encoded record length including the length prefix
+         */
+        int stage(final WalRuntime.Operation operation, final K key,
+                final V value) {
+            stagedKey = encodeKey(key, keyBuffer);
+            keyBuffer = stagedKey.getBytes();
+            if (operation == WalRuntime.Operation.PUT) {
+                stagedValue = encodeValue(value, valueBuffer);
+                valueBuffer = stagedValue.getBytes();
+            } else {
+                stagedValue = EMPTY_VALUE;
+            }
+            stagedOperation = operation;
+            return recordLength(stagedKey.getLength(),
+                    stagedValue.getLength());
+        }
+
+        /**
+         * Writes the last staged record with the given LSN.
+         *
+         * @param target target buffer with enough remaining space
+         * @param lsn    record LSN
+         */
+        void writeStaged(final ByteBuffer target, final long lsn) {
+            writeRecord(target, stagedOperation, lsn, stagedKey, stagedValue);
+        }
+    }
 }
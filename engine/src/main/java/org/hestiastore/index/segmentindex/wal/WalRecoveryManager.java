@@ -1,15 +1,37 @@
 package org.hestiastore.index.segmentindex.wal;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.hestiastore.index.IndexException;
 import org.hestiastore.index.segmentindex.configuration.api.IndexWalConfiguration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Replays WAL segments above the checkpoint and repairs an invalid tail.
+ * <p>
+ * Segments are decoded on the recovery executor a few segments ahead of
+ * replay, while replay itself walks the segments in LSN order. Each segment
+ * hands its records to the replay consumer in batches, which may apply them
+ * on the same executor.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
 final class WalRecoveryManager<K, V> {
 
-    private static final int BUFFER_SIZE = 8 * 1024;
+    /**
+     * Bounds the decoded records held in memory to a few WAL segments.
+     */
+    private static final int MAX_SEGMENTS_DECODED_AHEAD = 4;
+    private static final int REPLAY_BATCH_SIZE = 16 * 1024;
     private static final Logger LOGGER = LoggerFactory
             .getLogger(WalRecoveryManager.class);
 
@@ -34,7 +56,9 @@ final class WalRecoveryManager<K, V> {
     }
 
     WalRecoveryOutcome recover(
-            final WalRuntime.ReplayConsumer<K, V> replayConsumer) {
+            final WalRuntime.ReplayConsumer<K, V> replayConsumer,
+            final ExecutorService recoveryExecutor) {
+        final long startedNanos = System.nanoTime();
         final WalCatalogView catalogView = metadataCatalog.loadRecoveryCatalog();
         long checkpointLsn = catalogView.checkpointLsn();
         segmentCatalog.resetRecoveredSegments();
@@ -44,59 +68,75 @@ final class WalRecoveryManager<K, V> {
                 "event=wal_recovery_start checkpointLsn={} segmentCount={} corruptionPolicy={}",
                 checkpointLsn, discoveredSegments.size(),
                 wal.getCorruptionPolicy());
+        metrics.recordRecoveryStart(discoveredSegments.size());
+        final Deque<Future<DecodedSegment<K, V>>> decoding = new ArrayDeque<>();
+        int nextToDecode = 0;
         boolean truncatedTail = false;
         long maxLsn = checkpointLsn;
         long lastReplayedLsn = checkpointLsn;
         long lastSeenLsn = 0L;
-        for (int i = 0; i < discoveredSegments.size(); i++) {
-            final WalSegmentDescriptor current = discoveredSegments.get(i);
-            final ScanResult scan = scanAndReplaySegment(current.name(),
-                    checkpointLsn, lastSeenLsn, replayConsumer);
-            if (scan.maxLsn() > maxLsn) {
-                maxLsn = scan.maxLsn();
-            }
-            if (scan.lastReplayedLsn() > lastReplayedLsn) {
-                lastReplayedLsn = scan.lastReplayedLsn();
-            }
-            if (scan.lastSeenLsn() > lastSeenLsn) {
-                lastSeenLsn = scan.lastSeenLsn();
-            }
-            if (scan.invalidTail()) {
-                truncatedTail = true;
-                LOGGER.warn(
-                        "event=wal_recovery_invalid_tail segment={} validBytes={} observedMaxLsn={} policy={}",
-                        current.name(), scan.validBytes(), scan.maxLsn(),
-                        wal.getCorruptionPolicy());
-                handleInvalidTail(current.name(), scan.validBytes());
-                final int deletedAfterCorruption = segmentCatalog
-                        .deleteSegmentsAfter(discoveredSegments, i + 1);
-                if (deletedAfterCorruption > 0) {
+        try {
+            for (int i = 0; i < discoveredSegments.size(); i++) {
+                final WalSegmentDescriptor current = discoveredSegments.get(i);
+                while (nextToDecode < discoveredSegments.size()
+                        && nextToDecode <= i + MAX_SEGMENTS_DECODED_AHEAD) {
+                    decoding.addLast(submitDecode(recoveryExecutor,
+                            discoveredSegments.get(nextToDecode).name()));
+                    nextToDecode++;
+                }
+                final ScanResult scan = replaySegment(
+                        awaitDecoded(decoding.removeFirst(), current.name()),
+                        checkpointLsn, lastSeenLsn, replayConsumer,
+                        recoveryExecutor);
+                if (scan.maxLsn() > maxLsn) {
+                    maxLsn = scan.maxLsn();
+                }
+                if (scan.lastReplayedLsn() > lastReplayedLsn) {
+                    lastReplayedLsn = scan.lastReplayedLsn();
+                }
+                if (scan.lastSeenLsn() > lastSeenLsn) {
+                    lastSeenLsn = scan.lastSeenLsn();
+                }
+                if (scan.invalidTail()) {
+                    truncatedTail = true;
                     LOGGER.warn(
-                            "event=wal_recovery_drop_newer_segments deletedSegments={} fromSegmentIndex={}",
-                            deletedAfterCorruption, i + 1);
+                            "event=wal_recovery_invalid_tail segment={} validBytes={} observedMaxLsn={} policy={}",
+                            current.name(), scan.validBytes(), scan.maxLsn(),
+                            wal.getCorruptionPolicy());
+                    handleInvalidTail(current.name(), scan.validBytes());
+                    awaitPendingDecodes(decoding);
+                    final int deletedAfterCorruption = segmentCatalog
+                            .deleteSegmentsAfter(discoveredSegments, i + 1);
+                    if (deletedAfterCorruption > 0) {
+                        LOGGER.warn(
+                                "event=wal_recovery_drop_newer_segments deletedSegments={} fromSegmentIndex={}",
+                                deletedAfterCorruption, i + 1);
+                    }
+                    if (scan.validBytes() > 0L) {
+                        final long segmentMaxLsn = scan.maxLsn() > 0L
+                                ? scan.maxLsn()
+                                : current.baseLsn();
+                        segmentCatalog.addRecoveredSegment(current.name(),
+                                current.baseLsn(), scan.validBytes(),
+                                segmentMaxLsn);
+                    }
+                    break;
                 }
                 if (scan.validBytes() > 0L) {
-                    final long segmentMaxLsn = scan.maxLsn() > 0L
-                            ? scan.maxLsn()
+                    final long segmentMaxLsn = scan.maxLsn() > 0L ? scan.maxLsn()
                             : current.baseLsn();
                     segmentCatalog.addRecoveredSegment(current.name(),
-                            current.baseLsn(), scan.validBytes(),
-                            segmentMaxLsn);
+                            current.baseLsn(), scan.validBytes(), segmentMaxLsn);
+                } else {
+                    final String name = current.name();
+                    storage.delete(name);
+                    storage.syncMetadata();
+                    LOGGER.info("event=wal_recovery_drop_empty_segment segment={}",
+                            name);
                 }
-                break;
-            }
-            if (scan.validBytes() > 0L) {
-                final long segmentMaxLsn = scan.maxLsn() > 0L ? scan.maxLsn()
-                        : current.baseLsn();
-                segmentCatalog.addRecoveredSegment(current.name(),
-                        current.baseLsn(), scan.validBytes(), segmentMaxLsn);
-            } else {
-                final String name = current.name();
-                storage.delete(name);
-                storage.syncMetadata();
-                LOGGER.info("event=wal_recovery_drop_empty_segment segment={}",
-                        name);
             }
+        } finally {
+            decoding.forEach(pending -> pending.cancel(true));
         }
         if (lastSeenLsn > 0L && checkpointLsn > lastSeenLsn) {
             final long previousCheckpointLsn = checkpointLsn;
@@ -110,6 +150,7 @@ final class WalRecoveryManager<K, V> {
         if (lastReplayedLsn > maxLsn) {
             lastReplayedLsn = maxLsn;
         }
+        metrics.recordRecoveryCompleted(System.nanoTime() - startedNanos);
         LOGGER.info(
                 "event=wal_recovery_complete maxLsn={} checkpointLsn={} lastReplayedLsn={} truncatedTail={} segmentCount={}",
                 maxLsn, checkpointLsn, lastReplayedLsn, truncatedTail,
@@ -118,58 +159,131 @@ final class WalRecoveryManager<K, V> {
                 truncatedTail);
     }
 
-    private ScanResult scanAndReplaySegment(final String fileName,
-            final long replayAfterLsn, final long minimumLsnExclusive,
-            final WalRuntime.ReplayConsumer<K, V> replayConsumer) {
-        long offset = 0L;
-        long validOffset = 0L;
-        long maxLsn = 0L;
-        long lastReplayedLsn = replayAfterLsn;
-        long previousLsn = minimumLsnExclusive;
-        while (true) {
-            final byte[] lenBytes = new byte[4];
-            final int lenRead = readFullyAllowEof(fileName, offset, lenBytes, 0,
-                    4);
-            if (lenRead == -1) {
-                break;
-            }
-            if (lenRead != 4) {
-                return new ScanResult(validOffset, maxLsn, lastReplayedLsn,
-                        previousLsn, true);
-            }
-            final int bodyLen = WalRecordCodec.readInt(lenBytes, 0);
-            if (!recordCodec.isBodyLengthValid(bodyLen)) {
-                return new ScanResult(validOffset, maxLsn, lastReplayedLsn,
-                        previousLsn, true);
+    private Future<DecodedSegment<K, V>> submitDecode(
+            final ExecutorService recoveryExecutor, final String fileName) {
+        return recoveryExecutor.submit(() -> {
+            final DecodedSegment<K, V> decoded = decodeSegment(fileName);
+            metrics.recordRecoveryDecodedSegment();
+            return decoded;
+        });
+    }
+
+    /**
+     * Decodes the valid prefix of one WAL segment. Segments are decoded
+     * independently, so LSN ordering is checked only inside the segment here
+     * and against older segments in {@link #replaySegment}.
+     */
+    private DecodedSegment<K, V> decodeSegment(final String fileName) {
+        final byte[] data = storage.readAll(fileName);
+        final List<WalDecodedRecord<K, V>> records = new ArrayList<>();
+        int offset = 0;
+        long previousLsn = 0L;
+        while (offset < data.length) {
+            if (data.length - offset < 4) {
+                return new DecodedSegment<>(records, offset, true);
             }
-            final byte[] body = new byte[bodyLen];
-            if (!readFully(fileName, offset + 4L, body, 0, bodyLen)) {
-                return new ScanResult(validOffset, maxLsn, lastReplayedLsn,
-                        previousLsn, true);
+            final int bodyLen = WalRecordCodec.readInt(data, offset);
+            if (!recordCodec.isBodyLengthValid(bodyLen)
+                    || bodyLen > data.length - offset - 4) {
+                return new DecodedSegment<>(records, offset, true);
             }
             final WalDecodedRecord<K, V> decoded;
             try {
-                decoded = recordCodec.decodeBody(body, previousLsn);
+                decoded = recordCodec.decodeBody(Arrays.copyOfRange(data,
+                        offset + 4, offset + 4 + bodyLen), previousLsn);
             } catch (RuntimeException ex) {
-                return new ScanResult(validOffset, maxLsn, lastReplayedLsn,
-                        previousLsn, true);
+                return new DecodedSegment<>(records, offset, true);
             }
-            offset += 4L + bodyLen;
-            validOffset = offset;
+            records.add(decoded);
             previousLsn = decoded.lsn();
-            if (decoded.lsn() > maxLsn) {
-                maxLsn = decoded.lsn();
+            offset += 4 + bodyLen;
+        }
+        return new DecodedSegment<>(records, offset, false);
+    }
+
+    private ScanResult replaySegment(final DecodedSegment<K, V> segment,
+            final long replayAfterLsn, final long minimumLsnExclusive,
+            final WalRuntime.ReplayConsumer<K, V> replayConsumer,
+            final ExecutorService recoveryExecutor) {
+        final List<WalDecodedRecord<K, V>> records = segment.records();
+        if (!records.isEmpty()
+                && records.get(0).lsn() <= minimumLsnExclusive) {
+            return new ScanResult(0L, 0L, replayAfterLsn, minimumLsnExclusive,
+                    true);
+        }
+        long lastReplayedLsn = replayAfterLsn;
+        final List<WalRuntime.ReplayRecord<K, V>> batch = new ArrayList<>(
+                Math.min(records.size(), REPLAY_BATCH_SIZE));
+        for (final WalDecodedRecord<K, V> decoded : records) {
+            if (decoded.lsn() <= replayAfterLsn) {
+                continue;
             }
-            if (decoded.lsn() > replayAfterLsn) {
-                replayConsumer.accept(new WalRuntime.ReplayRecord<>(decoded.lsn(),
-                        decoded.operation(), decoded.key(), decoded.value()));
-                if (decoded.lsn() > lastReplayedLsn) {
-                    lastReplayedLsn = decoded.lsn();
-                }
+            batch.add(new WalRuntime.ReplayRecord<>(decoded.lsn(),
+                    decoded.operation(), decoded.key(), decoded.value()));
+            lastReplayedLsn = decoded.lsn();
+            if (batch.size() == REPLAY_BATCH_SIZE) {
+                replayBatch(batch, replayConsumer, recoveryExecutor);
+            }
+        }
+        replayBatch(batch, replayConsumer, recoveryExecutor);
+        final long lastSeenLsn = records.isEmpty() ? minimumLsnExclusive
+                : records.get(records.size() - 1).lsn();
+        final long maxLsn = records.isEmpty() ? 0L : lastSeenLsn;
+        return new ScanResult(segment.validBytes(), maxLsn, lastReplayedLsn,
+                lastSeenLsn, segment.invalidTail());
+    }
+
+    private void replayBatch(final List<WalRuntime.ReplayRecord<K, V>> batch,
+            final WalRuntime.ReplayConsumer<K, V> replayConsumer,
+            final ExecutorService recoveryExecutor) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        replayConsumer.acceptBatch(List.copyOf(batch), recoveryExecutor);
+        metrics.recordRecoveryReplayedRecords(batch.size());
+        batch.clear();
+    }
+
+    /**
+     * Waits until newer segments are no longer read, so they can be deleted.
+     */
+    private void awaitPendingDecodes(
+            final Deque<Future<DecodedSegment<K, V>>> decoding) {
+        while (!decoding.isEmpty()) {
+            try {
+                decoding.removeFirst().get();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IndexException(
+                        "Interrupted while discarding decoded WAL segments.",
+                        ex);
+            } catch (final ExecutionException ex) {
+                LOGGER.debug(
+                        "event=wal_recovery_discard_decode_failure reason={}",
+                        ex.getCause() == null ? null
+                                : ex.getCause().getMessage());
             }
         }
-        return new ScanResult(validOffset, maxLsn, lastReplayedLsn, previousLsn,
-                false);
+    }
+
+    private DecodedSegment<K, V> awaitDecoded(
+            final Future<DecodedSegment<K, V>> decoding,
+            final String fileName) {
+        try {
+            return decoding.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IndexException(String.format(
+                    "Interrupted while decoding WAL segment '%s'.", fileName),
+                    ex);
+        } catch (final ExecutionException ex) {
+            final Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IndexException(String.format(
+                    "Unable to decode WAL segment '%s'.", fileName), cause);
+        }
     }
 
     private void handleInvalidTail(final String fileName, final long validBytes) {
@@ -197,44 +311,6 @@ final class WalRecoveryManager<K, V> {
                 fileName, validBytes);
     }
 
-    private int readFullyAllowEof(final String fileName, final long position,
-            final byte[] destination, final int offset, final int length) {
-        int totalRead = 0;
-        long currentPosition = position;
-        while (totalRead < length) {
-            final int read = storage.read(fileName, currentPosition, destination,
-                    offset + totalRead, length - totalRead);
-            if (read < 0) {
-                return totalRead == 0 ? -1 : totalRead;
-            }
-            if (read == 0) {
-                continue;
-            }
-            totalRead += read;
-            currentPosition += read;
-        }
-        return totalRead;
-    }
-
-    private boolean readFully(final String fileName, final long position,
-            final byte[] destination, final int offset, final int length) {
-        int totalRead = 0;
-        long currentPosition = position;
-        while (totalRead < length) {
-            final int read = storage.read(fileName, currentPosition, destination,
-                    offset + totalRead, Math.min(length - totalRead, BUFFER_SIZE));
-            if (read < 0) {
-                return false;
-            }
-            if (read == 0) {
-                continue;
-            }
-            totalRead += read;
-            currentPosition += read;
-        }
-        return true;
-    }
-
     private static final class ScanResult {
         private final long validBytes;
         private final long maxLsn;
@@ -272,4 +348,29 @@ final class WalRecoveryManager<K, V> {
             return invalidTail;
         }
     }
+
+    private static final class DecodedSegment<K, V> {
+        private final List<WalDecodedRecord<K, V>> records;
+        private final long validBytes;
+        private final boolean invalidTail;
+
+        DecodedSegment(final List<WalDecodedRecord<K, V>> records,
+                final long validBytes, final boolean invalidTail) {
+            this.records = records;
+            this.validBytes = validBytes;
+            this.invalidTail = invalidTail;
+        }
+
+        List<WalDecodedRecord<K, V>> records() {
+            return records;
+        }
+
+        long validBytes() {
+            return validBytes;
+        }
+
+        boolean invalidTail() {
+            return invalidTail;
+        }
+    }
 }
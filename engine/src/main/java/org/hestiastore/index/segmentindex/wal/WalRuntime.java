@@ -6,6 +6,8 @@ import java.util.Objects;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
@@ -14,6 +16,7 @@ import java.util.concurrent.locks.LockSupport;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 
+import org.hestiastore.index.Entry;
 import org.hestiastore.index.IndexException;
 import org.hestiastore.index.Vldtn;
 import org.hestiastore.index.datatype.TypeDescriptor;
@@ -30,7 +33,10 @@ import org.hestiastore.index.segmentindex.configuration.api.IndexWalConfiguratio
  * <p>
  * Concurrency invariant: all stateful operations other than best-effort
  * durability reads run under {@link #monitor}. Collaborators assume the caller
- * already owns that monitor for their `...Locked()` methods.
+ * already owns that monitor for their `...Locked()` methods. The only
+ * exception is the fsync of a group commit, which {@link WalSyncPolicy} runs
+ * outside of the monitor so appends are never stalled by
+ * {@code FileChannel.force}.
  *
  * @param <K> key type
  * @param <V> value type
@@ -47,6 +53,7 @@ public final class WalRuntime<K, V> implements WalMonitoringView, AutoCloseable
     private static final String DEFAULT_INDEX_NAME = "standalone";
     private static final String POOL_NAME_WAL_APPEND = "wal-append";
     private static final String POOL_NAME_WAL_GROUP_SYNC = "wal-group-sync";
+    private static final String POOL_NAME_WAL_RECOVERY = "wal-recovery";
     private static final String ARG_THREAD_NAME_PREFIX = "threadNamePrefix";
     private static final String ARG_INDEX_NAME = "indexName";
     // ponytail: fixed internal queue; make configurable only if benchmarks need it.
@@ -197,6 +204,21 @@ public final class WalRuntime<K, V> implements WalMonitoringView, AutoCloseable
     @FunctionalInterface
     public interface ReplayConsumer<K, V> {
         void accept(ReplayRecord<K, V> replayRecord);
+
+        /**
+         * Replays a batch of records in LSN order. Recovery hands batches
+         * over one after another and never overlaps them. Implementations may
+         * apply records of different keys concurrently on the replay
+         * executor, as long as the record with the highest LSN wins for each
+         * key. The default replays the records one by one.
+         *
+         * @param replayRecords  records in LSN order
+         * @param replayExecutor executor owned by recovery
+         */
+        default void acceptBatch(final List<ReplayRecord<K, V>> replayRecords,
+                final Executor replayExecutor) {
+            replayRecords.forEach(this::accept);
+        }
     }
 
     private final Object monitor;
@@ -209,6 +231,7 @@ public final class WalRuntime<K, V> implements WalMonitoringView, AutoCloseable
     private final WalWriter<K, V> writer;
     private final WalRecoveryManager<K, V> recoveryManager;
     private final ScheduledExecutorService groupSyncExecutor;
+    private final String recoveryThreadNamePrefix;
     private final BlockingQueue<WalAppendTask<K, V>> appendQueue = new ArrayBlockingQueue<>(APPEND_QUEUE_CAPACITY);
     private final Thread appendWorker;
 
@@ -223,7 +246,8 @@ public final class WalRuntime<K, V> implements WalMonitoringView, AutoCloseable
             final WalSyncPolicy syncPolicy, final WalWriter<K, V> writer,
             final WalRecoveryManager<K, V> recoveryManager,
             final ScheduledExecutorService groupSyncExecutor,
-            final String appendThreadNamePrefix) {
+            final String appendThreadNamePrefix,
+            final String recoveryThreadNamePrefix) {
         this.monitor = Vldtn.requireNonNull(monitor, "monitor");
         this.metrics = Vldtn.requireNonNull(metrics, "metrics");
         this.closed = Vldtn.requireNonNull(closed, "closed");
@@ -234,6 +258,8 @@ public final class WalRuntime<K, V> implements WalMonitoringView, AutoCloseable
         this.writer = writer;
         this.recoveryManager = recoveryManager;
         this.groupSyncExecutor = groupSyncExecutor;
+        this.recoveryThreadNamePrefix = Vldtn.requireNotBlank(
+                recoveryThreadNamePrefix, "recoveryThreadNamePrefix");
         this.appendWorker = new NamedDaemonThreadFactory(
                 appendThreadNamePrefix).newThread(this::runAppendWorker);
         appendWorker.start();
@@ -266,7 +292,10 @@ public final class WalRuntime<K, V> implements WalMonitoringView, AutoCloseable
                         POOL_NAME_WAL_APPEND),
                 poolThreadNamePrefix(DEFAULT_THREAD_NAME_PREFIX,
                         DEFAULT_INDEX_NAME,
-                        POOL_NAME_WAL_GROUP_SYNC));
+                        POOL_NAME_WAL_GROUP_SYNC),
+                poolThreadNamePrefix(DEFAULT_THREAD_NAME_PREFIX,
+                        DEFAULT_INDEX_NAME,
+                        POOL_NAME_WAL_RECOVERY));
     }
 
     /**
@@ -300,7 +329,12 @@ public final class WalRuntime<K, V> implements WalMonitoringView, AutoCloseable
                         Vldtn.requireNotBlank(threadNamePrefix,
                                 ARG_THREAD_NAME_PREFIX),
                         Vldtn.requireNotBlank(indexName, ARG_INDEX_NAME),
-                        POOL_NAME_WAL_GROUP_SYNC));
+                        POOL_NAME_WAL_GROUP_SYNC),
+                poolThreadNamePrefix(
+                        Vldtn.requireNotBlank(threadNamePrefix,
+                                ARG_THREAD_NAME_PREFIX),
+                        Vldtn.requireNotBlank(indexName, ARG_INDEX_NAME),
+                        POOL_NAME_WAL_RECOVERY));
     }
 
     private static <K, V> WalRuntime<K, V> openWithGroupSyncThreadNamePrefix(
@@ -309,7 +343,8 @@ public final class WalRuntime<K, V> implements WalMonitoringView, AutoCloseable
             final TypeDescriptor<K> keyDescriptor,
             final TypeDescriptor<V> valueDescriptor,
             final String appendThreadNamePrefix,
-            final String groupSyncThreadNamePrefix) {
+            final String groupSyncThreadNamePrefix,
+            final String recoveryThreadNamePrefix) {
         final Directory directory = Vldtn.requireNonNull(indexDirectory,
                 "indexDirectory");
         final IndexWalConfiguration resolvedWal = requireEnabledWal(wal);
@@ -320,7 +355,9 @@ public final class WalRuntime<K, V> implements WalMonitoringView, AutoCloseable
                 Vldtn.requireNotBlank(appendThreadNamePrefix,
                         "appendThreadNamePrefix"),
                 Vldtn.requireNotBlank(groupSyncThreadNamePrefix,
-                        "groupSyncThreadNamePrefix"));
+                        "groupSyncThreadNamePrefix"),
+                Vldtn.requireNotBlank(recoveryThreadNamePrefix,
+                        "recoveryThreadNamePrefix"));
         runtime.metadataCatalog.ensureFormatMarker();
         return runtime;
     }
@@ -339,7 +376,8 @@ public final class WalRuntime<K, V> implements WalMonitoringView, AutoCloseable
             final WalStorage storage, final TypeDescriptor<K> keyDescriptor,
             final TypeDescriptor<V> valueDescriptor,
             final String appendThreadNamePrefix,
-            final String groupSyncThreadNamePrefix) {
+            final String groupSyncThreadNamePrefix,
+            final String recoveryThreadNamePrefix) {
         final Object monitor = new Object();
         final WalRuntimeMetrics metrics = new WalRuntimeMetrics();
         final AtomicBoolean closed = new AtomicBoolean();
@@ -364,7 +402,7 @@ public final class WalRuntime<K, V> implements WalMonitoringView, AutoCloseable
                 segmentCatalog, syncPolicy, writer, recoveryManager,
                 newGroupSyncExecutor(wal, syncPolicy,
                         groupSyncThreadNamePrefix),
-                appendThreadNamePrefix);
+                appendThreadNamePrefix, recoveryThreadNamePrefix);
     }
 
     private static ScheduledExecutorService newGroupSyncExecutor(
@@ -393,6 +431,11 @@ public final class WalRuntime<K, V> implements WalMonitoringView, AutoCloseable
     /**
      * Replays WAL records above checkpoint and repairs invalid tail according
      * to configured policy.
+     * <p>
+     * WAL segments are decoded in parallel on a recovery pool that lives only
+     * for this call. The same pool is handed to
+     * {@link ReplayConsumer#acceptBatch(List, Executor)}.
+     * </p>
      *
      * @param replayConsumer replay callback
      * @return recovery summary
@@ -402,8 +445,8 @@ public final class WalRuntime<K, V> implements WalMonitoringView, AutoCloseable
         synchronized (monitor) {
             syncPolicy.checkSyncFailure();
             ensureOpen();
-            final WalRecoveryOutcome outcome = recoveryManager
-                    .recover(replayConsumer);
+            final WalRecoveryOutcome outcome = recoverWithPool(
+                    replayConsumer);
             checkpointLsn = outcome.checkpointLsn();
             syncPolicy.resetAfterRecovery(outcome.maxLsn());
             writer.resetNextLsn(Math.max(1L, outcome.maxLsn() + 1L));
@@ -412,6 +455,18 @@ public final class WalRuntime<K, V> implements WalMonitoringView, AutoCloseable
         }
     }
 
+    private WalRecoveryOutcome recoverWithPool(
+            final ReplayConsumer<K, V> replayConsumer) {
+        final ExecutorService recoveryExecutor = Executors.newFixedThreadPool(
+                Math.max(1, Runtime.getRuntime().availableProcessors()),
+                new NamedDaemonThreadFactory(recoveryThreadNamePrefix));
+        try {
+            return recoveryManager.recover(replayConsumer, recoveryExecutor);
+        } finally {
+            recoveryExecutor.shutdownNow();
+        }
+    }
+
     /**
      * Appends a PUT record and returns assigned LSN.
      *
@@ -433,6 +488,36 @@ public final class WalRuntime<K, V> implements WalMonitoringView, AutoCloseable
         return append(Operation.DELETE, key, null);
     }
 
+    /**
+     * Appends a batch of PUT and DELETE records with one encode buffer, one
+     * storage write per touched WAL segment, and one durability wait.
+     *
+     * <p>
+     * Entries with a {@code null} value are logged as DELETE records. Assigned
+     * LSNs are contiguous, so the batch occupies
+     * {@code [returned - entries.size() + 1, returned]}. The batch is not
+     * atomic: when it fails, a prefix may already be logged.
+     * </p>
+     *
+     * @param entries entries to append in order
+     * @return highest assigned LSN, or {@code 0} for an empty batch
+     */
+    public long appendBatch(final List<Entry<K, V>> entries) {
+        final List<Entry<K, V>> batch = List.copyOf(
+                Vldtn.requireNonNull(entries, "entries"));
+        for (final Entry<K, V> entry : batch) {
+            Vldtn.requireNonNull(entry.getKey(), "key");
+        }
+        if (batch.isEmpty()) {
+            return 0L;
+        }
+        final WalAppendTask<K, V> task = WalAppendTask.batchTask(batch);
+        enqueueAppend(task);
+        final long lsn = awaitWrittenLsn(task);
+        syncPolicy.waitUntilDurable(lsn);
+        return lsn;
+    }
+
     /**
      * Updates checkpoint LSN and deletes eligible sealed segments.
      *
@@ -500,12 +585,10 @@ public final class WalRuntime<K, V> implements WalMonitoringView, AutoCloseable
             monitor.notifyAll();
         }
         if (groupSyncExecutor != null) {
-            groupSyncExecutor.shutdownNow();
+            groupSyncExecutor.shutdown();
         }
         stopAppendWorker();
-        synchronized (monitor) {
-            syncPolicy.closeAndFlushPending();
-        }
+        syncPolicy.closeAndFlushPending();
         storage.close();
     }
 
@@ -559,7 +642,7 @@ public final class WalRuntime<K, V> implements WalMonitoringView, AutoCloseable
             batch.clear();
             try {
                 stop = takeAppendBatch(batch);
-                appendBatch(batch);
+                writeQueuedTasks(batch);
             } catch (final InterruptedException ex) {
                 Thread.currentThread().interrupt();
                 failQueuedAppends(new IndexException(
@@ -586,7 +669,7 @@ public final class WalRuntime<K, V> implements WalMonitoringView, AutoCloseable
         return stop;
     }
 
-    private void appendBatch(final List<WalAppendTask<K, V>> batch) {
+    private void writeQueuedTasks(final List<WalAppendTask<K, V>> batch) {
         if (batch.isEmpty()) {
             return;
         }
@@ -601,6 +684,12 @@ public final class WalRuntime<K, V> implements WalMonitoringView, AutoCloseable
     private void appendTask(final WalAppendTask<K, V> task) {
         try {
             syncPolicy.checkSyncFailure();
+            if (task.batch()) {
+                task.complete(writer.appendBatch(task.entries(),
+                        result -> syncPolicy.afterAppend(result.lsn(),
+                                result.recordBytes(), result.segmentName())));
+                return;
+            }
             final WalAppendResult result = writer.append(task.operation(),
                     task.key(), task.value());
             syncPolicy.afterAppend(result.lsn(), result.recordBytes(),
@@ -15,12 +15,21 @@ final class WalRuntimeMetrics {
     private final LongAdder truncationCount = new LongAdder();
     private final AtomicLong syncMaxNanos = new AtomicLong(0L);
     private final AtomicLong syncBatchBytesMax = new AtomicLong(0L);
+    private final AtomicLong recoverySegmentCount = new AtomicLong(0L);
+    private final AtomicLong recoveryDecodedSegmentCount = new AtomicLong(0L);
+    private final AtomicLong recoveryReplayedRecordCount = new AtomicLong(0L);
+    private final AtomicLong recoveryNanos = new AtomicLong(0L);
 
     void recordAppend(final int bytes) {
         appendCount.increment();
         appendBytes.add(bytes);
     }
 
+    void recordAppends(final int records, final long bytes) {
+        appendCount.add(records);
+        appendBytes.add(bytes);
+    }
+
     void recordSyncSuccess(final long elapsedNanos, final long batchBytes) {
         syncCount.increment();
         syncTotalNanos.add(Math.max(0L, elapsedNanos));
@@ -45,6 +54,25 @@ final class WalRuntimeMetrics {
         truncationCount.increment();
     }
 
+    void recordRecoveryStart(final int segmentCount) {
+        recoverySegmentCount.set(segmentCount);
+        recoveryDecodedSegmentCount.set(0L);
+        recoveryReplayedRecordCount.set(0L);
+        recoveryNanos.set(0L);
+    }
+
+    void recordRecoveryDecodedSegment() {
+        recoveryDecodedSegmentCount.incrementAndGet();
+    }
+
+    void recordRecoveryReplayedRecords(final int records) {
+        recoveryReplayedRecordCount.addAndGet(records);
+    }
+
+    void recordRecoveryCompleted(final long elapsedNanos) {
+        recoveryNanos.set(Math.max(0L, elapsedNanos));
+    }
+
     WalMonitoring snapshot(final long retainedBytes, final int segmentCount,
             final long durableLsn, final long checkpointLsn,
             final long pendingSyncBytes) {
@@ -53,7 +81,9 @@ final class WalRuntimeMetrics {
                 truncationCount.sum(), retainedBytes, segmentCount, durableLsn,
                 checkpointLsn, pendingSyncBytes, syncTotalNanos.sum(),
                 syncMaxNanos.get(), syncBatchBytesTotal.sum(),
-                syncBatchBytesMax.get());
+                syncBatchBytesMax.get(), (int) recoverySegmentCount.get(),
+                (int) recoveryDecodedSegmentCount.get(),
+                recoveryReplayedRecordCount.get(), recoveryNanos.get());
     }
 
     static WalMonitoring emptySnapshot() {
@@ -1,5 +1,6 @@
 package org.hestiastore.index.segmentindex.wal;
 
+import java.nio.ByteBuffer;
 import java.util.stream.Stream;
 
 /**
@@ -15,6 +16,23 @@ interface WalStorage extends AutoCloseable {
 
     void append(String fileName, byte[] bytes, int offset, int length);
 
+    /**
+     * Appends the remaining bytes of the buffer and advances its position.
+     *
+     * <p>
+     * The default implementation copies the buffer into a heap array.
+     * Channel-backed implementations should write the buffer directly.
+     * </p>
+     *
+     * @param fileName target file
+     * @param buffer   bytes between position and limit are appended
+     */
+    default void append(final String fileName, final ByteBuffer buffer) {
+        final byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        append(fileName, bytes, 0, bytes.length);
+    }
+
     void overwrite(String fileName, byte[] bytes, int offset, int length);
 
     byte[] readAll(String fileName);
@@ -1,7 +1,8 @@
 package org.hestiastore.index.segmentindex.wal;
 
-import java.util.HashSet;
+import java.util.ArrayList;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
@@ -11,6 +12,18 @@ import org.hestiastore.index.segmentindex.configuration.api.IndexWalConfiguratio
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Group-commit durability policy.
+ *
+ * <p>
+ * Appends only register pending bytes under the runtime monitor. The fsync
+ * itself is executed by one elected leader (a durability waiter or the
+ * group-sync timer) after it detached the pending batch and released the
+ * monitor, so the append worker keeps writing the next batch while the
+ * previous one is being forced to stable storage. Waiters are woken whenever
+ * the durable LSN advances.
+ * </p>
+ */
 final class WalSyncPolicy {
 
     private static final Logger LOGGER = LoggerFactory
@@ -27,7 +40,8 @@ final class WalSyncPolicy {
 
     private long pendingSyncHighLsn = 0L;
     private long pendingSyncBytes = 0L;
-    private RuntimeException syncFailure;
+    private boolean syncInFlight;
+    private volatile RuntimeException syncFailure;
 
     WalSyncPolicy(final IndexWalConfiguration wal,
             final WalStorage storage, final WalRuntimeMetrics metrics,
@@ -50,6 +64,15 @@ final class WalSyncPolicy {
         syncFailure = null;
     }
 
+    /**
+     * Registers an appended record as pending durability. Caller must own the
+     * runtime monitor. No I/O is performed here; the fsync is executed later by
+     * a group-commit leader outside of the monitor.
+     *
+     * @param lsn         appended record LSN
+     * @param recordBytes appended record size
+     * @param segmentName WAL segment the record was written to
+     */
     void afterAppend(final long lsn, final int recordBytes,
             final String segmentName) {
         if (wal.isAsyncDurabilityMode()) {
@@ -58,83 +81,47 @@ final class WalSyncPolicy {
         pendingSyncHighLsn = Math.max(pendingSyncHighLsn, lsn);
         pendingSyncBytes += recordBytes;
         pendingSyncSegmentNames.add(segmentName);
-        if (wal.isSyncDurabilityMode()
-                || wal.getGroupSyncDelayMillis() <= 0
-                || pendingSyncBytes >= wal.getGroupSyncMaxBatchBytes()) {
-            syncGroupPendingLocked();
-        }
     }
 
+    /**
+     * Group-sync timer entry point. Flushes the pending batch unless another
+     * leader is already syncing. Caller must not own the runtime monitor.
+     */
     void syncGroupPendingSafely() {
+        final SyncBatch batch;
         synchronized (monitor) {
-            if (closed.get()) {
+            if (closed.get() || syncInFlight || syncFailure != null) {
                 return;
             }
-            try {
-                syncGroupPendingLocked();
-            } catch (RuntimeException ex) {
-                markSyncFailure(ex);
-            }
+            batch = takePendingBatchLocked();
         }
+        runSync(batch);
     }
 
-    void syncGroupPendingLocked() {
+    /**
+     * Waits for the in-flight group commit, if any, and synchronously flushes
+     * everything that is still pending. Caller must not own the runtime
+     * monitor.
+     */
+    void closeAndFlushPending() {
         if (wal.isAsyncDurabilityMode()) {
             return;
         }
-        checkSyncFailure();
-        if (pendingSyncHighLsn <= durableLsn.get()) {
-            pendingSyncBytes = 0L;
-            pendingSyncSegmentNames.clear();
-            return;
-        }
-        if (pendingSyncSegmentNames.isEmpty()) {
-            return;
-        }
-        final long batchBytes = pendingSyncBytes;
-        final long startedNanos = System.nanoTime();
-        try {
-            final Set<String> remaining = new HashSet<>(pendingSyncSegmentNames);
-            for (final WalSegmentDescriptor segment : segmentCatalog.segments()) {
-                if (remaining.remove(segment.name())) {
-                    storage.sync(segment.name());
-                }
-            }
-            for (final String segmentName : remaining) {
-                storage.sync(segmentName);
-            }
-            if (segmentCatalog.hasPendingMetadataSync()) {
-                storage.syncMetadata();
-                segmentCatalog.markMetadataSynced();
-            }
-            durableLsn.set(pendingSyncHighLsn);
-            pendingSyncBytes = 0L;
-            pendingSyncSegmentNames.clear();
-            metrics.recordSyncSuccess(System.nanoTime() - startedNanos,
-                    batchBytes);
-            synchronized (monitor) {
-                monitor.notifyAll();
+        final SyncBatch batch;
+        synchronized (monitor) {
+            awaitSyncNotInFlightLocked();
+            if (syncFailure != null) {
+                return;
             }
-        } catch (RuntimeException ex) {
-            markSyncFailure(ex);
-            checkSyncFailure();
-        }
-    }
-
-    void closeAndFlushPending() {
-        if (wal.isAsyncDurabilityMode() || syncFailure != null) {
-            return;
-        }
-        try {
-            syncGroupPendingLocked();
-        } catch (RuntimeException ex) {
-            markSyncFailure(ex);
+            batch = takePendingBatchLocked();
         }
+        runSync(batch);
     }
 
     void checkSyncFailure() {
-        if (syncFailure != null) {
-            throw new IndexException("WAL sync failure", syncFailure);
+        final RuntimeException failure = syncFailure;
+        if (failure != null) {
+            throw new IndexException("WAL sync failure", failure);
         }
     }
 
@@ -150,37 +137,167 @@ final class WalSyncPolicy {
         return pendingSyncBytes;
     }
 
+    /**
+     * Blocks until the given LSN is durable. When no other group commit is in
+     * flight and the pending batch is due, the caller becomes the leader and
+     * syncs the batch on behalf of all waiters. Caller must not own the
+     * runtime monitor.
+     *
+     * @param lsn LSN that must become durable
+     */
     void waitUntilDurable(final long lsn) {
         if (wal.isAsyncDurabilityMode()) {
             return;
         }
-        synchronized (monitor) {
-            while (durableLsn.get() < lsn) {
+        while (true) {
+            final SyncBatch batch;
+            synchronized (monitor) {
+                while (durableLsn.get() < lsn && !canLeadLocked()) {
+                    checkSyncFailure();
+                    awaitMonitor();
+                }
                 checkSyncFailure();
-                try {
-                    monitor.wait(Math.max(1L, wal.getGroupSyncDelayMillis()));
-                } catch (InterruptedException ex) {
-                    Thread.currentThread().interrupt();
-                    throw new IndexException(
-                            "Interrupted while waiting for WAL durability.", ex);
+                if (durableLsn.get() >= lsn) {
+                    return;
+                }
+                batch = takePendingBatchLocked();
+            }
+            runSync(batch);
+        }
+    }
+
+    private boolean canLeadLocked() {
+        if (syncInFlight || closed.get() || syncFailure != null
+                || pendingSyncSegmentNames.isEmpty()) {
+            return false;
+        }
+        return wal.isSyncDurabilityMode()
+                || wal.getGroupSyncDelayMillis() <= 0
+                || pendingSyncBytes >= wal.getGroupSyncMaxBatchBytes();
+    }
+
+    /**
+     * Detaches the pending batch and marks a group commit as in flight. Caller
+     * must own the runtime monitor.
+     *
+     * @return detached batch or null when nothing needs syncing
+     */
+    private SyncBatch takePendingBatchLocked() {
+        if (wal.isAsyncDurabilityMode()) {
+            return null;
+        }
+        checkSyncFailure();
+        if (pendingSyncHighLsn <= durableLsn.get()) {
+            pendingSyncBytes = 0L;
+            pendingSyncSegmentNames.clear();
+            return null;
+        }
+        if (pendingSyncSegmentNames.isEmpty()) {
+            return null;
+        }
+        final List<String> segmentNames = new ArrayList<>(
+                pendingSyncSegmentNames.size());
+        for (final WalSegmentDescriptor segment : segmentCatalog.segments()) {
+            if (pendingSyncSegmentNames.remove(segment.name())) {
+                segmentNames.add(segment.name());
+            }
+        }
+        segmentNames.addAll(pendingSyncSegmentNames);
+        final boolean metadataSync = segmentCatalog.hasPendingMetadataSync();
+        if (metadataSync) {
+            segmentCatalog.markMetadataSynced();
+        }
+        final SyncBatch batch = new SyncBatch(segmentNames, metadataSync,
+                pendingSyncHighLsn, pendingSyncBytes);
+        pendingSyncBytes = 0L;
+        pendingSyncSegmentNames.clear();
+        syncInFlight = true;
+        return batch;
+    }
+
+    /**
+     * Forces a detached batch to stable storage without holding the runtime
+     * monitor and publishes the new durable LSN.
+     *
+     * @param batch detached batch, may be null
+     */
+    private void runSync(final SyncBatch batch) {
+        if (batch == null) {
+            return;
+        }
+        final long startedNanos = System.nanoTime();
+        RuntimeException failure = null;
+        try {
+            for (final String segmentName : batch.segmentNames) {
+                storage.sync(segmentName);
+            }
+            if (batch.metadataSync) {
+                storage.syncMetadata();
+            }
+        } catch (RuntimeException ex) {
+            failure = ex;
+        }
+        synchronized (monitor) {
+            syncInFlight = false;
+            if (failure == null) {
+                if (batch.highLsn > durableLsn.get()) {
+                    durableLsn.set(batch.highLsn);
                 }
+                metrics.recordSyncSuccess(System.nanoTime() - startedNanos,
+                        batch.bytes);
+            } else {
+                markSyncFailure(failure, batch);
             }
-            checkSyncFailure();
+            monitor.notifyAll();
+        }
+    }
+
+    private void awaitSyncNotInFlightLocked() {
+        while (syncInFlight) {
+            awaitMonitor();
+        }
+    }
+
+    private void awaitMonitor() {
+        try {
+            monitor.wait(Math.max(1L, wal.getGroupSyncDelayMillis()));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IndexException(
+                    "Interrupted while waiting for WAL durability.", ex);
         }
     }
 
-    private void markSyncFailure(final RuntimeException ex) {
+    private void markSyncFailure(final RuntimeException ex,
+            final SyncBatch batch) {
         if (syncFailure == null) {
             syncFailure = ex;
         }
         metrics.recordSyncFailure();
         LOGGER.error(
                 "event=wal_sync_failure durableLsn={} pendingHighLsn={} pendingSyncBytes={} segmentCount={} syncFailureCount={}",
-                durableLsn.get(), pendingSyncHighLsn, pendingSyncBytes,
+                durableLsn.get(), batch.highLsn, batch.bytes,
                 segmentCatalog.segments().size(), metrics.syncFailureCount(),
                 ex);
-        synchronized (monitor) {
-            monitor.notifyAll();
+    }
+
+    /**
+     * Pending durability batch detached from the append path.
+     */
+    private static final class SyncBatch {
+
+        private final List<String> segmentNames;
+        private final boolean metadataSync;
+        private final long highLsn;
+        private final long bytes;
+
+        private SyncBatch(final List<String> segmentNames,
+                final boolean metadataSync, final long highLsn,
+                final long bytes) {
+            this.segmentNames = segmentNames;
+            this.metadataSync = metadataSync;
+            this.highLsn = highLsn;
+            this.bytes = bytes;
         }
     }
 }
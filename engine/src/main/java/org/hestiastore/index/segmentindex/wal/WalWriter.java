@@ -1,6 +1,11 @@
 package org.hestiastore.index.segmentindex.wal;
 
+import java.nio.ByteBuffer;
+import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
+
+import org.hestiastore.index.Entry;
 
 /**
  * Serial WAL record writer. Callers serialize access and handle durability.
@@ -10,10 +15,14 @@ import java.util.Objects;
  */
 final class WalWriter<K, V> {
 
+    private static final int BATCH_BUFFER_BYTES = 1024 * 1024;
+
     private final WalStorage storage;
     private final WalRecordCodec<K, V> recordCodec;
     private final WalSegmentCatalog segmentCatalog;
     private final WalRuntimeMetrics metrics;
+    private WalRecordCodec<K, V>.BatchEncoder batchEncoder;
+    private ByteBuffer batchBuffer;
     private long nextLsn = 1L;
 
     WalWriter(final WalStorage storage,
@@ -56,4 +65,124 @@ final class WalWriter<K, V> {
         return new WalAppendResult(lsn, recordBytes.length,
                 activeSegment.name());
     }
+
+    /**
+     * Appends many records with contiguous LSNs.
+     *
+     * <p>
+     * Records are encoded into one reusable direct buffer and written with one
+     * storage append per WAL segment touched by the batch (or per buffer
+     * fill). Entries with a {@code null} value are logged as deletes. Every
+     * completed storage write is reported to {@code onWritten}, so records
+     * already on disk stay accounted for even if a later record fails.
+     * </p>
+     *
+     * @param entries   records to append, in LSN order
+     * @param onWritten callback for each completed storage write
+     * @return highest assigned LSN
+     */
+    long appendBatch(final List<Entry<K, V>> entries,
+            final Consumer<WalAppendResult> onWritten) {
+        final WalRecordCodec<K, V>.BatchEncoder encoder = batchEncoder();
+        batchBuffer(BATCH_BUFFER_BYTES);
+        final BatchRun run = new BatchRun(nextLsn);
+        try {
+            for (final Entry<K, V> entry : entries) {
+                final K key = Objects.requireNonNull(entry, "entry").getKey();
+                final V value = entry.getValue();
+                final WalRuntime.Operation operation = value == null
+                        ? WalRuntime.Operation.DELETE
+                        : WalRuntime.Operation.PUT;
+                final int recordBytes = encoder.stage(operation, key, value);
+                final long lsn = run.nextLsn;
+                final WalSegmentDescriptor segment = segmentCatalog
+                        .ensureActiveSegmentFor(lsn,
+                                run.bytes + recordBytes);
+                if (run.segment != null && (run.segment != segment
+                        || batchBuffer.remaining() < recordBytes)) {
+                    flushRun(run, onWritten);
+                }
+                if (batchBuffer.remaining() < recordBytes) {
+                    batchBuffer(recordBytes);
+                }
+                encoder.writeStaged(batchBuffer, lsn);
+                run.add(segment, recordBytes);
+            }
+            flushRun(run, onWritten);
+        } finally {
+            nextLsn = run.firstLsn;
+            batchBuffer.clear();
+            releaseOversizedBuffer();
+        }
+        return nextLsn - 1L;
+    }
+
+    private void flushRun(final BatchRun run,
+            final Consumer<WalAppendResult> onWritten) {
+        if (run.segment == null) {
+            return;
+        }
+        batchBuffer.flip();
+        storage.append(run.segment.name(), batchBuffer);
+        batchBuffer.clear();
+        final long lastLsn = run.nextLsn - 1L;
+        segmentCatalog.recordAppend(run.segment, run.bytes, lastLsn);
+        metrics.recordAppends(run.records, run.bytes);
+        onWritten.accept(new WalAppendResult(lastLsn, run.bytes,
+                run.segment.name()));
+        run.reset();
+    }
+
+    private WalRecordCodec<K, V>.BatchEncoder batchEncoder() {
+        if (batchEncoder == null) {
+            batchEncoder = recordCodec.newBatchEncoder();
+        }
+        return batchEncoder;
+    }
+
+    private ByteBuffer batchBuffer(final int minCapacity) {
+        if (batchBuffer == null || batchBuffer.capacity() < minCapacity) {
+            batchBuffer = ByteBuffer.allocateDirect(
+                    Math.max(BATCH_BUFFER_BYTES, minCapacity));
+        }
+        return batchBuffer;
+    }
+
+    private void releaseOversizedBuffer() {
+        if (batchBuffer.capacity() > BATCH_BUFFER_BYTES) {
+            batchBuffer = null;
+        }
+    }
+
+    /**
+     * Records buffered for a single storage write.
+     */
+    private static final class BatchRun {
+
+        private long firstLsn;
+        private long nextLsn;
+        private WalSegmentDescriptor segment;
+        private int bytes;
+        private int records;
+
+        private BatchRun(final long firstLsn) {
+            this.firstLsn = firstLsn;
+            this.nextLsn = firstLsn;
+        }
+
+        private void add(final WalSegmentDescriptor targetSegment,
+                final int recordBytes) {
+            segment = targetSegment;
+            bytes += recordBytes;
+            records++;
+            nextLsn++;
+        }
+
+        private void reset() {
+            firstLsn = nextLsn;
+            segment = null;
+            bytes = 0;
+            records = 0;
+        }
+    }
 }
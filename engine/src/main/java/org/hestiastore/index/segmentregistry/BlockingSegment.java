@@ -1,5 +1,7 @@
 package org.hestiastore.index.segmentregistry;
 
+import java.util.List;
+
 import org.hestiastore.index.EntryIterator;
 import org.hestiastore.index.OperationResult;
 import org.hestiastore.index.segment.Segment;
@@ -62,6 +64,15 @@ public interface BlockingSegment<K, V> {
      */
     V get(K key);
 
+    /**
+     * Performs a blocking lookup of many keys in the segment.
+     *
+     * @param keys distinct keys in ascending order
+     * @return values aligned with {@code keys}, {@code null} where a key is
+     *         not present
+     */
+    List<V> getAll(List<K> keys);
+
     /**
      * Performs a single-attempt write without retrying BUSY/CLOSED.
      *
@@ -103,6 +114,54 @@ public interface BlockingSegment<K, V> {
      */
     EntryIterator<K, V> openIterator(SegmentIteratorIsolation isolation);
 
+    /**
+     * Opens a key-range iterator in a single attempt without retrying
+     * BUSY/CLOSED.
+     *
+     * @param fromInclusive lower bound, or {@code null} for no lower bound
+     * @param toExclusive   upper bound, or {@code null} for no upper bound
+     * @param isolation     iterator isolation
+     * @return raw segment result
+     */
+    OperationResult<EntryIterator<K, V>> tryOpenIterator(K fromInclusive,
+            K toExclusive, SegmentIteratorIsolation isolation);
+
+    /**
+     * Opens a blocking key-range iterator with the requested isolation.
+     *
+     * @param fromInclusive lower bound, or {@code null} for no lower bound
+     * @param toExclusive   upper bound, or {@code null} for no upper bound
+     * @param isolation     iterator isolation
+     * @return iterator over segment entries inside the key range
+     */
+    EntryIterator<K, V> openIterator(K fromInclusive, K toExclusive,
+            SegmentIteratorIsolation isolation);
+
+    /**
+     * Opens a descending key-range iterator in a single attempt without
+     * retrying BUSY/CLOSED.
+     *
+     * @param fromInclusive lower bound, or {@code null} for no lower bound
+     * @param toExclusive   upper bound, or {@code null} for no upper bound
+     * @param isolation     iterator isolation
+     * @return raw segment result
+     */
+    OperationResult<EntryIterator<K, V>> tryOpenDescendingIterator(
+            K fromInclusive, K toExclusive,
+            SegmentIteratorIsolation isolation);
+
+    /**
+     * Opens a blocking descending key-range iterator with the requested
+     * isolation.
+     *
+     * @param fromInclusive lower bound, or {@code null} for no lower bound
+     * @param toExclusive   upper bound, or {@code null} for no upper bound
+     * @param isolation     iterator isolation
+     * @return iterator over segment entries in descending key order
+     */
+    EntryIterator<K, V> openDescendingIterator(K fromInclusive,
+            K toExclusive, SegmentIteratorIsolation isolation);
+
     /**
      * Starts a flush in a single attempt without retrying BUSY/CLOSED.
      *
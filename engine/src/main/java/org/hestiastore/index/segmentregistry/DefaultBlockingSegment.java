@@ -1,5 +1,6 @@
 package org.hestiastore.index.segmentregistry;
 
+import java.util.List;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -74,6 +75,11 @@ final class DefaultBlockingSegment<K, V> implements BlockingSegment<K, V> {
         return runBlocking("get", segmentValue -> segmentValue.get(key));
     }
 
+    @Override
+    public List<V> getAll(final List<K> keys) {
+        return runBlocking("getAll", segmentValue -> segmentValue.getAll(keys));
+    }
+
     @Override
     public OperationResult<Void> tryPut(final K key, final V value) {
         return loadSegment().put(key, value);
@@ -104,6 +110,42 @@ final class DefaultBlockingSegment<K, V> implements BlockingSegment<K, V> {
                 segmentValue -> segmentValue.openIterator(isolation));
     }
 
+    @Override
+    public OperationResult<EntryIterator<K, V>> tryOpenIterator(
+            final K fromInclusive, final K toExclusive,
+            final SegmentIteratorIsolation isolation) {
+        Vldtn.requireNonNull(isolation, "isolation");
+        return loadSegment().openIterator(fromInclusive, toExclusive,
+                isolation);
+    }
+
+    @Override
+    public EntryIterator<K, V> openIterator(final K fromInclusive,
+            final K toExclusive, final SegmentIteratorIsolation isolation) {
+        Vldtn.requireNonNull(isolation, "isolation");
+        return runBlocking("openIterator",
+                segmentValue -> segmentValue.openIterator(fromInclusive,
+                        toExclusive, isolation));
+    }
+
+    @Override
+    public OperationResult<EntryIterator<K, V>> tryOpenDescendingIterator(
+            final K fromInclusive, final K toExclusive,
+            final SegmentIteratorIsolation isolation) {
+        Vldtn.requireNonNull(isolation, "isolation");
+        return loadSegment().openDescendingIterator(fromInclusive,
+                toExclusive, isolation);
+    }
+
+    @Override
+    public EntryIterator<K, V> openDescendingIterator(final K fromInclusive,
+            final K toExclusive, final SegmentIteratorIsolation isolation) {
+        Vldtn.requireNonNull(isolation, "isolation");
+        return runBlocking("openDescendingIterator",
+                segmentValue -> segmentValue.openDescendingIterator(
+                        fromInclusive, toExclusive, isolation));
+    }
+
     @Override
     public void flush() {
         runBlocking("flush", Segment::flush);
@@ -143,6 +143,9 @@ final class SegmentFactory<K, V>
                         conf.segment().chunkKeyLimit())//
                 .withMaxNumberOfDeltaCacheFiles(
                         conf.segment().deltaCacheFileLimit())//
+                .withChunkRestartInterval(
+                        conf.segment().chunkRestartInterval())//
+                .withDeltaCacheOnDisk(conf.segment().deltaCacheOnDisk())//
                 .withValueTypeDescriptor(valueTypeDescriptor)//
                 .withBloomFilterNumberOfHashFunctions(
                         conf.bloomFilter().hashFunctions())//
@@ -150,6 +153,9 @@ final class SegmentFactory<K, V>
                         conf.bloomFilter().indexSizeBytes())//
                 .withBloomFilterProbabilityOfFalsePositive(
                         conf.bloomFilter().falsePositiveProbability())//
+                .withBloomFilterBlocked(conf.bloomFilter().blocked())//
+                .withBloomFilterMemoryMapped(conf.bloomFilter().memoryMapped())//
+                .withBloomFilterAutoSized(conf.bloomFilter().autoSized())//
                 .withDiskIoBufferSize(conf.io().diskBufferSizeBytes())//
                 .withEncodingChunkFilterSuppliers(encodingChunkFilters)//
                 .withDecodingChunkFilterSuppliers(decodingChunkFilters)//
@@ -74,6 +74,15 @@ public class DiffKeyWriter<K> {
         return 2 + diff.diffByteLength;
     }
 
+    /**
+     * Forgets the previously written key bytes so the next key is written in
+     * full, with no shared prefix. Key ordering is still validated against the
+     * previous key.
+     */
+    public void restart() {
+        previousKeyBytes = ByteSequence.EMPTY;
+    }
+
     private ByteSequence encodeKey(final K key) {
         final EncodedBytes encoded = convertorToBytes.encode(key, new byte[0]);
         final int encodedKeyLength = Vldtn.requireGreaterThanOrEqualToZero(
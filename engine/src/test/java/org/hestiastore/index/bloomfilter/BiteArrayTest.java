@@ -6,6 +6,8 @@ import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.nio.ByteBuffer;
+
 import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -36,6 +38,39 @@ class BiteArrayTest {
         log(bitArray);
     }
 
+    @Test
+    void test_readOnly_reads_bits_from_buffer_window() {
+        final BitArray source = new BitArray(2);
+        source.setBit(3);
+        source.setBit(9);
+        final ByteBuffer buffer = ByteBuffer.allocate(4);
+        buffer.put(source.getByteArray()).put((byte) 0x7F).flip().limit(2);
+
+        final BitArray bitArray = BitArray.readOnly(buffer);
+
+        assertTrue(bitArray.isReadOnly());
+        assertEquals(16, bitArray.bitSize());
+        assertTrue(bitArray.get(3));
+        assertTrue(bitArray.get(9L));
+        assertFalse(bitArray.get(4));
+        assertEquals(source, bitArray);
+        assertEquals(source.hashCode(), bitArray.hashCode());
+    }
+
+    @Test
+    void test_readOnly_rejects_changes() {
+        final BitArray bitArray = BitArray.readOnly(ByteBuffer.allocate(2));
+
+        assertThrows(UnsupportedOperationException.class,
+                () -> bitArray.setBit(1));
+        assertThrows(UnsupportedOperationException.class,
+                () -> bitArray.setBit(1L));
+        assertThrows(UnsupportedOperationException.class,
+                bitArray::getByteArray);
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> bitArray.get(16));
+    }
+
     @Test
     void test_setBit_initilized_to0() {
         BitArray bitArray = new BitArray(BIT_ARRAY_SIZE);
@@ -0,0 +1,65 @@
+package org.hestiastore.index.bloomfilter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.hestiastore.index.datatype.TypeDescriptorShortString;
+import org.junit.jupiter.api.Test;
+
+class BloomFilterInMemoryTest {
+
+    private final TypeDescriptorShortString tds = new TypeDescriptorShortString();
+
+    @Test
+    void added_keys_are_never_reported_as_missing() {
+        final BloomFilterInMemory.Builder<String> builder = BloomFilterInMemory
+                .builder(tds.getTypeEncoder(), 0.01);
+        for (int i = 0; i < 1000; i++) {
+            builder.add("key-" + i);
+        }
+        final BloomFilterInMemory<String> filter = builder.build();
+
+        for (int i = 0; i < 1000; i++) {
+            assertFalse(filter.isNotStored("key-" + i));
+        }
+        int falsePositives = 0;
+        for (int i = 1000; i < 11_000; i++) {
+            if (!filter.isNotStored("key-" + i)) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 300,
+                "Too many false positives: " + falsePositives);
+    }
+
+    @Test
+    void filter_is_sized_for_added_keys() {
+        final BloomFilterInMemory.Builder<String> builder = BloomFilterInMemory
+                .builder(tds.getTypeEncoder(), 0.01);
+        for (int i = 0; i < 1000; i++) {
+            builder.add("key-" + i);
+        }
+
+        assertEquals(BloomFilterSizing.indexSizeInBytes(1000, 0.01,
+                BloomFilterFormat.BLOCKED),
+                builder.build().getIndexSizeInBytes());
+    }
+
+    @Test
+    void empty_filter_rejects_every_key() {
+        final BloomFilterInMemory<String> filter = BloomFilterInMemory
+                .builder(tds.getTypeEncoder(), 0.01).build();
+
+        assertTrue(filter.isNotStored("key"));
+    }
+
+    @Test
+    void probability_out_of_range_is_rejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> BloomFilterInMemory.builder(tds.getTypeEncoder(), 1D));
+        assertThrows(IllegalArgumentException.class,
+                () -> BloomFilterInMemory.builder(tds.getTypeEncoder(), 0D));
+    }
+}
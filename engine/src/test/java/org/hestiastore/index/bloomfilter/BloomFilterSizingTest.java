@@ -0,0 +1,41 @@
+package org.hestiastore.index.bloomfilter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+class BloomFilterSizingTest {
+
+    @Test
+    void size_follows_key_count_and_probability() {
+        // -1000 * ln(0.01) / ln(2)^2 = 9585.06 bits
+        assertEquals(1199, BloomFilterSizing.indexSizeInBytes(1000, 0.01,
+                BloomFilterFormat.STANDARD));
+        assertEquals(11982, BloomFilterSizing.indexSizeInBytes(10_000, 0.01,
+                BloomFilterFormat.STANDARD));
+        assertEquals(7, BloomFilterSizing.numberOfHashFunctions(1000, 1199));
+    }
+
+    @Test
+    void blocked_size_is_rounded_to_whole_blocks() {
+        assertEquals(1216, BloomFilterSizing.indexSizeInBytes(1000, 0.01,
+                BloomFilterFormat.BLOCKED));
+        assertEquals(2, BloomFilterSizing.indexSizeInBytes(1, 0.01,
+                BloomFilterFormat.BLOCKED));
+    }
+
+    @Test
+    void empty_filter_gets_one_byte() {
+        assertEquals(1, BloomFilterSizing.indexSizeInBytes(0, 0.01,
+                BloomFilterFormat.STANDARD));
+        assertEquals(1, BloomFilterSizing.numberOfHashFunctions(0, 1));
+    }
+
+    @Test
+    void oversized_filter_is_rejected() {
+        assertThrows(IllegalStateException.class,
+                () -> BloomFilterSizing.indexSizeInBytes(Long.MAX_VALUE / 16,
+                        0.01, BloomFilterFormat.STANDARD));
+    }
+}
@@ -5,12 +5,19 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.File;
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.IntStream;
 
 import org.hestiastore.index.datatype.TypeDescriptorShortString;
+import org.hestiastore.index.directory.FileReader;
+import org.hestiastore.index.directory.Directory;
+import org.hestiastore.index.directory.FileWriter;
+import org.hestiastore.index.directory.FsDirectory;
 import org.hestiastore.index.directory.MemDirectory;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -139,6 +146,208 @@ class BloomFilterTest {
         assertFalse(bf.isNotStored(key));
     }
 
+    @Test
+    void blocked_filter_survives_reopen_with_format_trailer() {
+        final BloomFilter<String> bf = makeBloomFilter(true);
+        writeToFilter(bf, TEST_DATA_KEYS);
+
+        assertEquals(100 + BloomFilterFormat.TRAILER_BYTES,
+                readFile(FILE_NAME).length);
+        // Reopened with the standard layout selected, the file still decides.
+        final BloomFilter<String> reopened = makeBloomFilter(false);
+        TEST_DATA_KEYS.forEach(key -> assertFalse(reopened.isNotStored(key)));
+        assertTrue(reopened.isNotStored("Milan"));
+    }
+
+    @Test
+    void standard_filter_stays_readable_when_blocked_layout_is_selected() {
+        writeToFilter(makeBloomFilter(), TEST_DATA_KEYS);
+
+        assertEquals(100, readFile(FILE_NAME).length);
+        final BloomFilter<String> reopened = makeBloomFilter(true);
+        TEST_DATA_KEYS.forEach(key -> assertFalse(reopened.isNotStored(key)));
+        assertTrue(reopened.isNotStored("Milan"));
+    }
+
+    @Test
+    void unknown_format_trailer_is_rejected() {
+        try (FileWriter writer = directory.getFileWriter(FILE_NAME)) {
+            writer.write(new byte[100]);
+            writer.write(new byte[] { 1, 2, 3 });
+        }
+
+        assertThrows(IllegalStateException.class,
+                () -> makeBloomFilter(true));
+    }
+
+    @Test
+    void memory_mapped_filter_reads_bits_from_mapped_file(
+            @TempDir final File tempDir) {
+        final Directory fsDirectory = new FsDirectory(tempDir);
+        final BloomFilterImpl<String> bf = makeBloomFilter(fsDirectory, true,
+                true);
+        writeToFilter(bf, TEST_DATA_KEYS);
+
+        // The committed file replaces the heap copy built by the writer.
+        assertTrue(bf.isMemoryMapped());
+        TEST_DATA_KEYS.forEach(key -> assertFalse(bf.isNotStored(key)));
+        assertTrue(bf.isNotStored("Milan"));
+
+        final BloomFilterImpl<String> reopened = makeBloomFilter(fsDirectory,
+                false, true);
+        assertTrue(reopened.isMemoryMapped());
+        TEST_DATA_KEYS.forEach(key -> assertFalse(reopened.isNotStored(key)));
+        assertTrue(reopened.isNotStored("Milan"));
+    }
+
+    @Test
+    void memory_mapped_filter_rejects_truncated_file() {
+        try (FileWriter writer = directory.getFileWriter(FILE_NAME)) {
+            writer.write(new byte[50]);
+        }
+
+        assertThrows(IllegalStateException.class,
+                () -> makeBloomFilter(directory, false, true));
+    }
+
+    @Test
+    void heap_filter_is_kept_when_mapping_is_disabled() {
+        final BloomFilterImpl<String> bf = makeBloomFilter(directory, false,
+                false);
+        writeToFilter(bf, TEST_DATA_KEYS);
+
+        assertFalse(bf.isMemoryMapped());
+        assertFalse(makeBloomFilter(directory, false, false).isMemoryMapped());
+    }
+
+    @Test
+    void auto_sized_filter_is_sized_by_written_keys() {
+        final BloomFilterImpl<String> bf = makeAutoSizedBloomFilter(directory,
+                false);
+        final List<String> keys = IntStream.range(0, 1000)
+                .mapToObj(i -> "key-" + i).toList();
+        writeToFilter(bf, keys);
+
+        assertEquals(1199, bf.getIndexSizeInBytes());
+        assertEquals(7, bf.getNumberOfHashFunctions());
+        keys.forEach(key -> assertFalse(bf.isNotStored(key)));
+
+        writeToFilter(bf, TEST_DATA_KEYS);
+        assertEquals(5, bf.getIndexSizeInBytes());
+        TEST_DATA_KEYS.forEach(key -> assertFalse(bf.isNotStored(key)));
+    }
+
+    @Test
+    void auto_sized_filter_is_mapped_with_written_size(
+            @TempDir final File tempDir) {
+        final Directory fsDirectory = new FsDirectory(tempDir);
+        final BloomFilterImpl<String> bf = makeAutoSizedBloomFilter(
+                fsDirectory, true);
+        final List<String> keys = IntStream.range(0, 500)
+                .mapToObj(i -> "key-" + i).toList();
+        writeToFilter(bf, keys);
+
+        assertTrue(bf.isMemoryMapped());
+        assertEquals(640, bf.getIndexSizeInBytes());
+        keys.forEach(key -> assertFalse(bf.isNotStored(key)));
+    }
+
+    @Test
+    void auto_sized_filter_file_describes_its_own_parameters() {
+        final List<String> keys = IntStream.range(0, 1000)
+                .mapToObj(i -> "key-" + i).toList();
+        writeToFilter(makeAutoSizedBloomFilter(directory, false), keys);
+
+        assertEquals(1199 + BloomFilterFormat.PARAMETERS_BYTES
+                + BloomFilterFormat.TRAILER_BYTES, readFile(FILE_NAME).length);
+        // Reopened with the configured size, the file still decides.
+        final BloomFilter<String> reopened = makeBloomFilter();
+        assertEquals(1199, reopened.getIndexSizeInBytes());
+        assertEquals(7, reopened.getNumberOfHashFunctions());
+        keys.forEach(key -> assertFalse(reopened.isNotStored(key)));
+        assertTrue(reopened.isNotStored("Milan"));
+    }
+
+    @Test
+    void auto_sized_filter_file_is_mapped_with_its_own_parameters(
+            @TempDir final File tempDir) {
+        final Directory fsDirectory = new FsDirectory(tempDir);
+        final List<String> keys = IntStream.range(0, 500)
+                .mapToObj(i -> "key-" + i).toList();
+        writeToFilter(makeAutoSizedBloomFilter(fsDirectory, true), keys);
+
+        final BloomFilterImpl<String> reopened = makeBloomFilter(fsDirectory,
+                false, true);
+        assertTrue(reopened.isMemoryMapped());
+        assertEquals(640, reopened.getIndexSizeInBytes());
+        keys.forEach(key -> assertFalse(reopened.isNotStored(key)));
+    }
+
+    @Test
+    void auto_sized_filter_rejects_certain_false_positives() {
+        final BloomFilterBuilder<String> builder = BloomFilter
+                .<String>builder()//
+                .withBloomFilterFileName(FILE_NAME)//
+                .withTypeEncoder(STD.getTypeEncoder())//
+                .withDirectory(directory)//
+                .withIndexSizeInBytes(100)//
+                .withNumberOfHashFunctions(2)//
+                .withProbabilityOfFalsePositive(1)//
+                .withAutoSized(true);
+
+        assertThrows(IllegalStateException.class, builder::build);
+    }
+
+    private BloomFilterImpl<String> makeAutoSizedBloomFilter(
+            final Directory dir, final boolean memoryMapped) {
+        return (BloomFilterImpl<String>) BloomFilter.<String>builder()//
+                .withBloomFilterFileName(FILE_NAME)//
+                .withTypeEncoder(STD.getTypeEncoder())//
+                .withDirectory(dir)//
+                .withIndexSizeInBytes(100)//
+                .withNumberOfHashFunctions(2)//
+                .withProbabilityOfFalsePositive(0.01)//
+                .withRelatedObjectName("segment-00323")//
+                .withBlocked(memoryMapped)//
+                .withMemoryMapped(memoryMapped)//
+                .withAutoSized(true)//
+                .build();
+    }
+
+    private byte[] readFile(final String fileName) {
+        final byte[] buffer = new byte[4096];
+        try (FileReader reader = directory.getFileReader(fileName)) {
+            final int read = reader.read(buffer);
+            return Arrays.copyOf(buffer, Math.max(read, 0));
+        }
+    }
+
+    private BloomFilter<String> makeBloomFilter(final boolean blocked) {
+        return BloomFilter.<String>builder()//
+                .withBloomFilterFileName(FILE_NAME)//
+                .withTypeEncoder(STD.getTypeEncoder())//
+                .withDirectory(directory)//
+                .withIndexSizeInBytes(100)//
+                .withNumberOfHashFunctions(2)//
+                .withRelatedObjectName("segment-00323")//
+                .withBlocked(blocked)//
+                .build();
+    }
+
+    private BloomFilterImpl<String> makeBloomFilter(final Directory dir,
+            final boolean blocked, final boolean memoryMapped) {
+        return (BloomFilterImpl<String>) BloomFilter.<String>builder()//
+                .withBloomFilterFileName(FILE_NAME)//
+                .withTypeEncoder(STD.getTypeEncoder())//
+                .withDirectory(dir)//
+                .withIndexSizeInBytes(100)//
+                .withNumberOfHashFunctions(2)//
+                .withRelatedObjectName("segment-00323")//
+                .withBlocked(blocked)//
+                .withMemoryMapped(memoryMapped)//
+                .build();
+    }
+
     private BloomFilter<String> makeBloomFilter() {
         return BloomFilter.<String>builder()//
                 .withBloomFilterFileName(FILE_NAME)//
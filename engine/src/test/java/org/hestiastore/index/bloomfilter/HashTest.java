@@ -1,5 +1,6 @@
 package org.hestiastore.index.bloomfilter;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -87,6 +88,59 @@ class HashTest {
         assertFalse(hash.isNotStored("j".getBytes()));
     }
 
+    @Test
+    void blocked_hasNoFalseNegatives() {
+        final Hash hash = new Hash(new BitArray(4096), 4,
+                BloomFilterFormat.BLOCKED);
+
+        for (int i = 0; i < 1_000; i++) {
+            hash.store(("key-" + i).getBytes());
+        }
+
+        for (int i = 0; i < 1_000; i++) {
+            assertFalse(hash.isNotStored(("key-" + i).getBytes()));
+        }
+        int falsePositives = 0;
+        for (int i = 0; i < 1_000; i++) {
+            if (hash.isProbablyStored(("missing-" + i).getBytes())) {
+                falsePositives++;
+            }
+        }
+        // 32 bits per key and 4 probes keep this far below 10%.
+        assertTrue(falsePositives < 100,
+                "Too many false positives: " + falsePositives);
+    }
+
+    @Test
+    void blocked_storesAllProbesInOneCacheLine() {
+        final BitArray bits = new BitArray(64 * 16);
+        final Hash hash = new Hash(bits, 8, BloomFilterFormat.BLOCKED);
+
+        assertTrue(hash.store("ahoj".getBytes()));
+
+        final byte[] data = bits.getByteArray();
+        int touchedBlocks = 0;
+        for (int block = 0; block < 16; block++) {
+            for (int i = block * 64; i < (block + 1) * 64; i++) {
+                if (data[i] != 0) {
+                    touchedBlocks++;
+                    break;
+                }
+            }
+        }
+        assertEquals(1, touchedBlocks);
+        assertFalse(hash.store("ahoj".getBytes()));
+    }
+
+    @Test
+    void blocked_worksWithArraySmallerThanOneBlock() {
+        final Hash hash = new Hash(new BitArray(10), 3,
+                BloomFilterFormat.BLOCKED);
+
+        assertTrue(hash.store("ahoj".getBytes()));
+        assertFalse(hash.isNotStored("ahoj".getBytes()));
+    }
+
     @Test
     void testConstructor_InvalidNumberOfHashFunctions() {
         final BitArray bitArray = new BitArray(10);
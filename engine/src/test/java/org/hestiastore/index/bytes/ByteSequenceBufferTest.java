@@ -0,0 +1,79 @@
+package org.hestiastore.index.bytes;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
+
+import org.junit.jupiter.api.Test;
+
+class ByteSequenceBufferTest {
+
+    private static final byte[] DATA = { 1, 2, 3, 4, 5, 6, 7, 8 };
+
+    @Test
+    void test_view_reads_remaining_bytes_without_moving_buffer() {
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(DATA.length)
+                .put(DATA);
+        buffer.position(2).limit(6);
+
+        final ByteSequence sequence = ByteSequences.viewOf(buffer);
+
+        assertTrue(sequence instanceof ByteSequenceBuffer);
+        assertEquals(4, sequence.length());
+        assertEquals(3, sequence.getByte(0));
+        assertEquals(6, sequence.getByte(3));
+        assertArrayEquals(new byte[] { 3, 4, 5, 6 }, sequence.toByteArray());
+        assertEquals(2, buffer.position());
+        assertEquals(6, buffer.limit());
+    }
+
+    @Test
+    void test_view_of_empty_buffer_is_empty_sequence() {
+        assertSame(ByteSequence.EMPTY,
+                ByteSequences.viewOf(ByteBuffer.allocate(0)));
+    }
+
+    @Test
+    void test_slice_nested_full_and_empty() {
+        final ByteSequence sequence = ByteSequences
+                .viewOf(ByteBuffer.wrap(DATA));
+
+        final ByteSequence slice = sequence.slice(2, 6).slice(1, 3);
+
+        assertArrayEquals(new byte[] { 4, 5 }, slice.toByteArray());
+        assertSame(sequence, sequence.slice(0, DATA.length));
+        assertSame(ByteSequence.EMPTY, sequence.slice(3, 3));
+        assertThrows(IllegalArgumentException.class,
+                () -> sequence.slice(-1, 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> sequence.slice(0, DATA.length + 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> sequence.getByte(DATA.length));
+    }
+
+    @Test
+    void test_copy_crc_and_equality_match_array_sequences() {
+        final ByteSequence sequence = ByteSequences
+                .viewOf(ByteBuffer.wrap(DATA)).slice(1, 7);
+        final ByteSequence expected = ByteSequences.viewOf(DATA, 1, 7);
+
+        final byte[] target = new byte[4];
+        ByteSequences.copy(sequence, 2, target, 1, 3);
+        assertArrayEquals(new byte[] { 0, 4, 5, 6 }, target);
+
+        final ByteSequenceCrc32 crc = new ByteSequenceCrc32();
+        crc.update(sequence);
+        final CRC32 reference = new CRC32();
+        reference.update(DATA, 1, 6);
+        assertEquals(reference.getValue(), crc.getValue());
+
+        assertEquals(expected, sequence);
+        assertEquals(sequence, expected);
+        assertEquals(expected.hashCode(), sequence.hashCode());
+    }
+}
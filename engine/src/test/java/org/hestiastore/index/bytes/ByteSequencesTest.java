@@ -7,6 +7,8 @@ import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -24,6 +26,29 @@ class ByteSequencesTest {
                 ByteSequences.viewOf(data, 1, 3).toByteArrayCopy());
     }
 
+    @Test
+    void test_for_each_buffer_splits_concatenation_without_copying() {
+        final byte[] first = new byte[] { 1, 2, 3 };
+        final byte[] second = new byte[] { 4, 5, 6, 7 };
+        final ByteSequence sequence = ConcatenatedByteSequence.of(
+                ByteSequences.wrap(first),
+                ByteSequences.viewOf(second, 1, 4));
+        final List<ByteBuffer> buffers = new ArrayList<>();
+
+        ByteSequences.forEachBuffer(sequence, buffers::add);
+
+        assertEquals(2, buffers.size());
+        assertSame(first, buffers.get(0).array());
+        assertEquals(3, buffers.get(0).remaining());
+        assertSame(second, buffers.get(1).array());
+        assertEquals(1, buffers.get(1).position());
+        assertEquals(3, buffers.get(1).remaining());
+
+        buffers.clear();
+        ByteSequences.forEachBuffer(ByteSequence.EMPTY, buffers::add);
+        assertTrue(buffers.isEmpty());
+    }
+
     @Test
     void test_view_of_validates_range() {
         assertThrows(IllegalArgumentException.class,
@@ -6,6 +6,8 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
@@ -226,6 +228,61 @@ class UniqueCacheTest {
         assertEquals(threads * perThread, threadSafe.size());
     }
 
+    @Test
+    void sorted_cache_keeps_keys_in_comparator_order() {
+        final UniqueCache<Integer, String> sorted = UniqueCache
+                .<Integer, String>builder()
+                .withKeyComparator(Integer::compareTo).withThreadSafe(true)
+                .withSorted(true).buildEmpty();
+        sorted.put(Entry.of(15, "dear"));
+        sorted.put(Entry.of(-199, "hello"));
+        sorted.put(Entry.of(13, "my"));
+        sorted.put(Entry.of(13, "my2"));
+
+        assertTrue(sorted.isSorted());
+        assertEquals(3, sorted.size());
+        assertEquals(List.of(Entry.of(-199, "hello"), Entry.of(13, "my2"),
+                Entry.of(15, "dear")), sorted.getAsSortedList());
+        assertEquals(List.of(-199, 13, 15),
+                toList(sorted.getSortedKeyIterator()));
+        assertEquals(List.of(15, 13, -199),
+                toList(sorted.getDescendingSortedKeyIterator()));
+        assertEquals(List.of(Entry.of(-199, "hello"), Entry.of(13, "my2"),
+                Entry.of(15, "dear")),
+                toList(sorted.getSortedEntryIterator()));
+    }
+
+    @Test
+    void sorted_key_iterator_is_a_snapshot() {
+        final UniqueCache<Integer, String> sorted = UniqueCache
+                .<Integer, String>builder()
+                .withKeyComparator(Integer::compareTo).withThreadSafe(true)
+                .withSorted(true).buildEmpty();
+        sorted.put(Entry.of(1, "a"));
+        sorted.put(Entry.of(3, "c"));
+        final Iterator<Integer> keys = sorted.getSortedKeyIterator();
+
+        sorted.put(Entry.of(2, "b"));
+
+        assertEquals(List.of(1, 3), toList(keys));
+    }
+
+    @Test
+    void unsorted_cache_entry_iterator_is_sorted() {
+        cache.put(Entry.of(15, "dear"));
+        cache.put(Entry.of(10, "hello"));
+
+        assertFalse(cache.isSorted());
+        assertEquals(List.of(Entry.of(10, "hello"), Entry.of(15, "dear")),
+                toList(cache.getSortedEntryIterator()));
+    }
+
+    private static <T> List<T> toList(final Iterator<T> iterator) {
+        final List<T> out = new ArrayList<>();
+        iterator.forEachRemaining(out::add);
+        return out;
+    }
+
     private void buildWithNullComparator() {
         UniqueCache.<Integer, String>builder().withKeyComparator(null)
                 .buildEmpty();
@@ -1,6 +1,7 @@
 package org.hestiastore.index.chunkentryfile;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.times;
@@ -55,6 +56,12 @@ class ChunkEntryFileWriterTest {
         verify(chunkStoreWriter, times(1)).close();
     }
 
+    @Test
+    void test_last_chunk_page_requires_flush() {
+        assertThrows(IllegalStateException.class,
+                () -> writer.getLastChunkPage(false));
+    }
+
     @Test
     void test_basic_write() {
         when(chunkStoreWriter.writeSequence(any(ByteSequence.class), anyInt()))
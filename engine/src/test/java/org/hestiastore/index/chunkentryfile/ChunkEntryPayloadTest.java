@@ -0,0 +1,131 @@
+package org.hestiastore.index.chunkentryfile;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hestiastore.index.Entry;
+import org.hestiastore.index.TestData;
+import org.hestiastore.index.bytes.ByteSequence;
+import org.hestiastore.index.datatype.TypeDescriptor;
+import org.junit.jupiter.api.Test;
+
+class ChunkEntryPayloadTest {
+
+    private static final TypeDescriptor<String> TD_STRING = TestData.TYPE_DESCRIPTOR_STRING;
+
+    private final List<Entry<String, String>> entries = makeEntries(10);
+
+    @Test
+    void legacyPayloadHasNoRestartPoints() {
+        final ByteSequence payload = write(
+                SingleChunkEntryWriterImpl.NO_RESTART_POINTS);
+
+        final ChunkEntryPayload chunkPayload = ChunkEntryPayload.of(payload);
+
+        assertFalse(chunkPayload.hasRestartPoints());
+        assertEquals(payload, chunkPayload.getEntries());
+        assertEquals(entries, readAll(payload));
+    }
+
+    @Test
+    void restartPointPayloadIsReadByChunkIterator() {
+        final ByteSequence payload = write(4);
+
+        assertEquals(ChunkEntryPayload.RESTART_POINTS_FORMAT,
+                payload.getByte(0));
+        assertTrue(ChunkEntryPayload.of(payload).hasRestartPoints());
+        assertEquals(entries, readAll(payload));
+    }
+
+    @Test
+    void findRestartOffsetReturnsClosestPrecedingRestartPoint() {
+        final ChunkEntryPayload chunkPayload = ChunkEntryPayload.of(write(4));
+
+        // Restart points hold keys 0, 4 and 8.
+        final int first = findRestartOffset(chunkPayload, "key-00");
+        final int second = findRestartOffset(chunkPayload, "key-04");
+        final int third = findRestartOffset(chunkPayload, "key-08");
+
+        assertEquals(0, first);
+        assertTrue(second > first);
+        assertTrue(third > second);
+        assertEquals(first, findRestartOffset(chunkPayload, "key-03"));
+        assertEquals(second, findRestartOffset(chunkPayload, "key-05"));
+        assertEquals(third, findRestartOffset(chunkPayload, "key-99"));
+        assertEquals(-1, findRestartOffset(chunkPayload, "a"));
+    }
+
+    @Test
+    void findExactRestartOffsetMatchesOnlyRestartKeys() {
+        final ChunkEntryPayload chunkPayload = ChunkEntryPayload.of(write(4));
+
+        assertEquals(3, chunkPayload.getRestartPointCount());
+        assertEquals(findRestartOffset(chunkPayload, "key-04"),
+                findExactRestartOffset(chunkPayload, "key-04"));
+        assertEquals(-1, findExactRestartOffset(chunkPayload, "key-05"));
+        assertEquals(-1, findExactRestartOffset(chunkPayload, "a"));
+        assertEquals(-1, findExactRestartOffset(chunkPayload, "key-99"));
+    }
+
+    @Test
+    void valueOffsetAtSkipsFullRestartKey() {
+        final ChunkEntryPayload chunkPayload = ChunkEntryPayload.of(write(1));
+        final int offset = findExactRestartOffset(chunkPayload, "key-03");
+
+        // Two header bytes followed by the six key bytes.
+        assertEquals(offset + 2 + "key-03".length(),
+                chunkPayload.valueOffsetAt(offset));
+    }
+
+    @Test
+    void emptyRestartPointPayloadHasNoEntries() {
+        final SingleChunkEntryWriterImpl<String, String> writer = new SingleChunkEntryWriterImpl<>(
+                TD_STRING, TD_STRING, 4);
+
+        final ByteSequence payload = writer.closeSequence();
+
+        assertFalse(ChunkEntryPayload.of(payload).hasRestartPoints());
+        assertEquals(List.of(), readAll(payload));
+    }
+
+    private ByteSequence write(final int restartInterval) {
+        final SingleChunkEntryWriterImpl<String, String> writer = new SingleChunkEntryWriterImpl<>(
+                TD_STRING, TD_STRING, restartInterval);
+        entries.forEach(writer::put);
+        return writer.closeSequence();
+    }
+
+    private static int findRestartOffset(final ChunkEntryPayload payload,
+            final String key) {
+        return payload.findRestartOffset(key, TD_STRING.getTypeDecoder(),
+                TD_STRING.getComparator());
+    }
+
+    private static int findExactRestartOffset(final ChunkEntryPayload payload,
+            final String key) {
+        return payload.findExactRestartOffset(key, TD_STRING.getTypeDecoder(),
+                TD_STRING.getComparator());
+    }
+
+    private static List<Entry<String, String>> readAll(
+            final ByteSequence payload) {
+        final List<Entry<String, String>> out = new ArrayList<>();
+        try (SingleChunkEntryIterator<String, String> iterator = new SingleChunkEntryIterator<>(
+                payload, TD_STRING, TD_STRING)) {
+            iterator.forEachRemaining(out::add);
+        }
+        return out;
+    }
+
+    private static List<Entry<String, String>> makeEntries(final int count) {
+        final List<Entry<String, String>> out = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            out.add(Entry.of(String.format("key-%02d", i), "value-" + i));
+        }
+        return out;
+    }
+}
@@ -0,0 +1,74 @@
+package org.hestiastore.index.chunkentryfile;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hestiastore.index.Entry;
+import org.hestiastore.index.TestData;
+import org.hestiastore.index.chunkstorecache.ParsedChunkPage;
+import org.junit.jupiter.api.Test;
+
+class CompactChunkPageEntriesTest {
+
+    private final List<Entry<String, String>> entries = makeEntries(20);
+
+    @Test
+    void findReturnsStoredValuesAndNullForMissingKeys() {
+        final CompactChunkPageEntries<String, String> compact = compact(
+                entries);
+
+        for (final Entry<String, String> entry : entries) {
+            assertEquals(entry.getValue(),
+                    compact.find(entry.getKey(), String::compareTo));
+        }
+        assertNull(compact.find("key-001", String::compareTo));
+        assertNull(compact.find("a", String::compareTo));
+        assertNull(compact.find("z", String::compareTo));
+    }
+
+    @Test
+    void entriesRoundTripInKeyOrder() {
+        final CompactChunkPageEntries<String, String> compact = compact(
+                entries);
+
+        assertEquals(entries.size(), compact.size());
+        assertEquals(entries, compact.entries());
+    }
+
+    @Test
+    void compactPageWeighsLessThanDecodedPage() {
+        final ParsedChunkPage<String, String> decoded = ParsedChunkPage
+                .of(entries, 20L * 20);
+        final ParsedChunkPage<String, String> compactPage = ParsedChunkPage
+                .backedBy(compact(entries));
+
+        assertEquals(decoded.size(), compactPage.size());
+        assertTrue(compactPage.weightBytes() < decoded.weightBytes());
+    }
+
+    @Test
+    void emptyEntriesProduceEmptyPage() {
+        assertSame(ParsedChunkPage.empty(),
+                ParsedChunkPage.backedBy(compact(List.of())));
+    }
+
+    private static CompactChunkPageEntries<String, String> compact(
+            final List<Entry<String, String>> entries) {
+        return CompactChunkPageEntries.of(entries,
+                TestData.TYPE_DESCRIPTOR_STRING,
+                TestData.TYPE_DESCRIPTOR_STRING);
+    }
+
+    private static List<Entry<String, String>> makeEntries(final int count) {
+        final List<Entry<String, String>> out = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            out.add(Entry.of(String.format("key-%03d", i * 2), "value-" + i));
+        }
+        return out;
+    }
+}
@@ -5,11 +5,13 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 
 import org.hestiastore.index.Entry;
 import org.hestiastore.index.TestData;
+import org.hestiastore.index.chunkstorecache.ParsedChunkPage;
 import org.hestiastore.index.chunkstore.CellPosition;
 import org.hestiastore.index.chunkstore.ChunkFilterDoNothing;
 import org.hestiastore.index.chunkstore.ChunkFilterMagicNumberWriting;
@@ -113,4 +115,110 @@ class IntegrationChunkEntryFileTest {
         }
     }
 
+    @Test
+    void for_each_chunk_reports_entries_and_positions() {
+        final ChunkEntryFileWriterTx<Integer, String> writerTx = chunkPairFile
+                .openWriterTx();
+        final List<Long> writtenPositions = new ArrayList<>();
+        try (ChunkEntryFileWriter<Integer, String> writer = writerTx
+                .openWriter()) {
+            for (int chunk = 0; chunk < 4; chunk++) {
+                for (int i = 0; i <= chunk * 7; i++) {
+                    writer.write(Entry.of(chunk * 100 + i, "v" + i));
+                }
+                writtenPositions.add(writer.flush().getValue());
+            }
+        }
+        writerTx.commit();
+
+        final List<Long> positions = new ArrayList<>();
+        final List<List<Entry<Integer, String>>> chunks = new ArrayList<>();
+        chunkPairFile.forEachChunk((entries, position) -> {
+            chunks.add(entries);
+            positions.add(position);
+        });
+
+        assertEquals(writtenPositions, positions);
+        for (int chunk = 0; chunk < 4; chunk++) {
+            assertEquals(chunk * 7 + 1, chunks.get(chunk).size());
+            assertEquals(Entry.of(chunk * 100, "v0"),
+                    chunks.get(chunk).get(0));
+            try (FileReaderSeekable seekableReader = directory
+                    .getFileReaderSeekable(FILE_NAME)) {
+                assertEquals("v" + chunk * 7, chunkPairFile.searchAtPosition(
+                        chunk * 100 + chunk * 7, positions.get(chunk),
+                        chunk * 7 + 1, Integer::compareTo, seekableReader));
+            }
+        }
+    }
+
+    @Test
+    void restart_point_chunks_support_search_iteration_and_page_load() {
+        final ChunkEntryFile<String, String> restartFile = new ChunkEntryFile<>(
+                new ChunkStoreFile(directory, FILE_NAME, BLOCK_SIZE,
+                        List.of(new ChunkFilterMagicNumberWriting(),
+                                new ChunkFilterDoNothing()),
+                        List.of(new ChunkFilterDoNothing())),
+                TestData.TYPE_DESCRIPTOR_STRING,
+                TestData.TYPE_DESCRIPTOR_STRING, BLOCK_SIZE, 8);
+        final List<Entry<String, String>> entries = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            entries.add(Entry.of(String.format("key-%03d", i * 2),
+                    "value-" + i));
+        }
+        final ChunkEntryFileWriterTx<String, String> writerTx = restartFile
+                .openWriterTx();
+        CellPosition position = null;
+        ParsedChunkPage<String, String> writtenPage = null;
+        ParsedChunkPage<String, String> writtenCompactPage = null;
+        try (ChunkEntryFileWriter<String, String> writer = writerTx
+                .openWriter()) {
+            entries.forEach(writer::write);
+            position = writer.flush();
+            writtenPage = writer.getLastChunkPage(false);
+            writtenCompactPage = writer.getLastChunkPage(true);
+        }
+        writerTx.commit();
+
+        final List<Entry<String, String>> iterated = new ArrayList<>();
+        restartFile.openIterator().forEachRemaining(iterated::add);
+        assertEquals(entries, iterated);
+
+        try (FileReaderSeekable seekableReader = directory
+                .getFileReaderSeekable(FILE_NAME)) {
+            for (final Entry<String, String> entry : entries) {
+                assertEquals(entry.getValue(),
+                        restartFile.searchAtPosition(entry.getKey(),
+                                position.getValue(), entries.size(),
+                                String::compareTo, seekableReader));
+            }
+            assertNull(restartFile.searchAtPosition("key-001",
+                    position.getValue(), entries.size(), String::compareTo,
+                    seekableReader));
+            assertNull(restartFile.searchAtPosition("a", position.getValue(),
+                    entries.size(), String::compareTo, seekableReader));
+            assertNull(restartFile.searchAtPosition("z", position.getValue(),
+                    entries.size(), String::compareTo, seekableReader));
+
+            final ParsedChunkPage<String, String> page = restartFile
+                    .loadParsedPageAtPosition(position.getValue(),
+                            entries.size(), seekableReader);
+            assertEquals(entries, page.entries());
+            assertEquals(entries, writtenPage.entries());
+            assertEquals(page.weightBytes(), writtenPage.weightBytes());
+
+            final ParsedChunkPage<String, String> compactPage = restartFile
+                    .loadCompactPageAtPosition(position.getValue(),
+                            entries.size(), seekableReader);
+            assertEquals(entries, compactPage.entries());
+            assertEquals("value-7",
+                    compactPage.find("key-014", String::compareTo));
+            assertNull(compactPage.find("key-001", String::compareTo));
+            assertTrue(compactPage.weightBytes() < page.weightBytes());
+            assertEquals(entries, writtenCompactPage.entries());
+            assertEquals(compactPage.weightBytes(),
+                    writtenCompactPage.weightBytes());
+        }
+    }
+
 }
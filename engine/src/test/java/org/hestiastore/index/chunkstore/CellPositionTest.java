@@ -18,6 +18,21 @@ class CellPositionTest {
         assertEquals(1024, position.getValue());
     }
 
+    @Test
+    void test_position_beyond_int_range() {
+        final long blockIndex = 5_000_000L;
+        final long position = blockIndex * DATA_BLOCK_SIZE.getPayloadSize()
+                + 17 * CellPosition.CELL_SIZE;
+        final CellPosition cellPosition = CellPosition.of(DATA_BLOCK_SIZE,
+                position);
+        assertEquals(position, cellPosition.getValue());
+        assertEquals(blockIndex * DATA_BLOCK_SIZE.getDataBlockSize(),
+                cellPosition.getDataBlockStartPosition().getValue());
+        assertEquals(17, cellPosition.getCellIndex());
+        assertEquals(position + DATA_BLOCK_SIZE.getDataBlockSize(),
+                cellPosition.addDataBlock().getValue());
+    }
+
     @Test
     void testAddDataBlock() {
         CellPosition position = CellPosition.of(DATA_BLOCK_SIZE, 1000)
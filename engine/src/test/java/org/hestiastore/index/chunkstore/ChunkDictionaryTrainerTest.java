@@ -0,0 +1,115 @@
+package org.hestiastore.index.chunkstore;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.hestiastore.index.bytes.ByteSequences;
+import org.junit.jupiter.api.Test;
+
+class ChunkDictionaryTrainerTest {
+
+    @Test
+    void train_should_shrink_small_similar_chunks() {
+        final ChunkDictionaryTrainer trainer = new ChunkDictionaryTrainer(
+                4 * 1024);
+        for (int chunk = 0; chunk < 40; chunk++) {
+            trainer.addSample(ByteSequences.wrap(chunk(chunk)));
+        }
+
+        final ChunkCompressionDictionary dictionary = trainer.train();
+
+        assertFalse(dictionary.isEmpty());
+        assertTrue(dictionary.length() <= 4 * 1024);
+        final byte[] payload = chunk(1000);
+        final int plain = ChunkDeflateCodec
+                .compress(ByteSequences.wrap(payload), 9, null).length;
+        final byte[] withDictionary = ChunkDeflateCodec
+                .compress(ByteSequences.wrap(payload), 9, dictionary);
+        assertTrue(withDictionary.length * 3 < plain * 2,
+                "dictionary compressed " + withDictionary.length
+                        + " bytes, plain " + plain);
+        assertArrayEquals(payload,
+                ChunkDeflateCodec.decompress(ByteSequences.wrap(withDictionary),
+                        dictionary, "Deflate dictionary"));
+    }
+
+    @Test
+    void train_should_be_deterministic() {
+        final ChunkDictionaryTrainer first = new ChunkDictionaryTrainer();
+        final ChunkDictionaryTrainer second = new ChunkDictionaryTrainer();
+        for (int chunk = 0; chunk < 10; chunk++) {
+            first.addSample(ByteSequences.wrap(chunk(chunk)));
+            second.addSample(ByteSequences.wrap(chunk(chunk)));
+        }
+
+        assertEquals(first.train(), second.train());
+    }
+
+    @Test
+    void train_should_return_empty_dictionary_for_single_sample() {
+        final ChunkDictionaryTrainer trainer = new ChunkDictionaryTrainer();
+        trainer.addSample(ByteSequences.wrap(chunk(1)));
+
+        assertTrue(trainer.train().isEmpty());
+    }
+
+    @Test
+    void train_should_return_empty_dictionary_for_unrelated_samples() {
+        final ChunkDictionaryTrainer trainer = new ChunkDictionaryTrainer();
+        final Random random = new Random(7);
+        for (int i = 0; i < 8; i++) {
+            final byte[] sample = new byte[512];
+            random.nextBytes(sample);
+            trainer.addSample(ByteSequences.wrap(sample));
+        }
+
+        assertTrue(trainer.train().isEmpty());
+    }
+
+    @Test
+    void addSample_should_ignore_empty_samples() {
+        final ChunkDictionaryTrainer trainer = new ChunkDictionaryTrainer();
+
+        trainer.addSample(ByteSequences.wrap(new byte[0]))
+                .addSample(ByteSequences.wrap(new byte[] { 1, 2, 3 }));
+
+        assertEquals(1, trainer.getSampleCount());
+        assertEquals(3L, trainer.getSampleBytes());
+    }
+
+    @Test
+    void constructor_should_reject_invalid_size() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new ChunkDictionaryTrainer(0));
+    }
+
+    /**
+     * Builds a chunk of a few JSON-like records sharing field names and value
+     * vocabulary, similar to what a value-heavy segment stores.
+     */
+    private static byte[] chunk(final int seed) {
+        final Random random = new Random(seed);
+        final String[] cities = { "Prague", "Brno", "Ostrava", "Plzen",
+                "Liberec", "Olomouc" };
+        final StringBuilder builder = new StringBuilder();
+        for (int record = 0; record < 4; record++) {
+            builder.append("{\"customerId\":").append(random.nextInt(100000))
+                    .append(",\"status\":\"")
+                    .append(random.nextBoolean() ? "ACTIVE" : "SUSPENDED")
+                    .append("\",\"address\":{\"city\":\"")
+                    .append(cities[random.nextInt(cities.length)])
+                    .append("\",\"country\":\"Czech Republic\"},")
+                    .append("\"createdAt\":\"2024-0")
+                    .append(1 + random.nextInt(9)).append("-1")
+                    .append(random.nextInt(10))
+                    .append("T10:15:30Z\",\"tags\":[\"newsletter\",\"premium\"]}");
+        }
+        return builder.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,93 @@
+package org.hestiastore.index.chunkstore;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import org.hestiastore.index.bytes.ByteSequences;
+import org.junit.jupiter.api.Test;
+
+class ChunkFilterDeflateCompressTest {
+
+    private static final byte[] PAYLOAD = ("Lorem ipsum dolor sit amet, "
+            + "consectetur adipiscing elit. Lorem ipsum dolor sit amet, "
+            + "consectetur adipiscing elit. Lorem ipsum dolor sit amet.")
+            .getBytes();
+
+    @Test
+    void apply_should_compress_payload_and_set_flag()
+            throws DataFormatException {
+        final ChunkData input = ChunkData.ofSequence(0L, 0L,
+                ChunkHeader.MAGIC_NUMBER, 1, ByteSequences.wrap(PAYLOAD));
+
+        final ChunkData result = new ChunkFilterDeflateCompress().apply(input);
+
+        final byte[] compressed = result.getPayloadSequence().toByteArrayCopy();
+        assertTrue(compressed.length < PAYLOAD.length);
+        assertEquals(PAYLOAD.length, ChunkCompressionScratch
+                .readLength(compressed, compressed.length, "Deflate"));
+        final Inflater inflater = new Inflater(true);
+        inflater.setInput(compressed,
+                ChunkCompressionScratch.LENGTH_PREFIX_BYTES,
+                compressed.length - ChunkCompressionScratch.LENGTH_PREFIX_BYTES);
+        final byte[] restored = new byte[PAYLOAD.length];
+        assertEquals(PAYLOAD.length, inflater.inflate(restored));
+        inflater.end();
+        assertArrayEquals(PAYLOAD, restored);
+        assertNotEquals(0L,
+                result.getFlags() & ChunkFilterDeflateCompress.FLAG_COMPRESSED);
+        assertEquals(input.getMagicNumber(), result.getMagicNumber());
+        assertEquals(input.getCrc(), result.getCrc());
+        assertEquals(input.getVersion(), result.getVersion());
+    }
+
+    @Test
+    void apply_should_honor_compression_level() {
+        final ChunkData input = ChunkData.ofSequence(0L, 0L,
+                ChunkHeader.MAGIC_NUMBER, 1, ByteSequences.wrap(PAYLOAD));
+
+        final int stored = new ChunkFilterDeflateCompress(0).apply(input)
+                .getPayloadSequence().length();
+        final int best = new ChunkFilterDeflateCompress(9).apply(input)
+                .getPayloadSequence().length();
+
+        assertTrue(stored > PAYLOAD.length);
+        assertTrue(best < stored);
+    }
+
+    @Test
+    void apply_should_grow_output_for_incompressible_payload() {
+        final byte[] payload = new byte[64 * 1024];
+        new Random(11).nextBytes(payload);
+        final ChunkData input = ChunkData.ofSequence(0L, 0L,
+                ChunkHeader.MAGIC_NUMBER, 1,
+                ByteSequences.concat(List.of(
+                        ByteSequences.wrap(Arrays.copyOf(payload, 1000)),
+                        ByteSequences.wrap(Arrays.copyOfRange(payload, 1000,
+                                payload.length)))));
+
+        final ChunkData compressed = new ChunkFilterDeflateCompress(9)
+                .apply(input);
+        final ChunkData result = new ChunkFilterDeflateDecompress()
+                .apply(compressed);
+
+        assertArrayEquals(payload,
+                result.getPayloadSequence().toByteArrayCopy());
+    }
+
+    @Test
+    void constructor_should_reject_invalid_level() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new ChunkFilterDeflateCompress(10));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ChunkFilterDeflateCompress(-2));
+    }
+}
@@ -0,0 +1,61 @@
+package org.hestiastore.index.chunkstore;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+
+import org.hestiastore.index.IndexException;
+import org.hestiastore.index.bytes.ByteSequence;
+import org.hestiastore.index.bytes.ByteSequences;
+import org.junit.jupiter.api.Test;
+
+class ChunkFilterDeflateDecompressTest {
+
+    private static final ByteSequence PAYLOAD = ByteSequences
+            .wrap(new byte[] { 10, 20, 30, 40, 50, 60, 70, 80 });
+
+    @Test
+    void apply_should_decompress_payload_and_clear_flag() {
+        final ChunkData input = new ChunkFilterDeflateCompress(1)
+                .apply(ChunkData.ofSequence(
+                        ChunkFilterMagicNumberWriting.FLAG_MASK, 0L,
+                        ChunkHeader.MAGIC_NUMBER, 1, PAYLOAD));
+
+        final ChunkData result = new ChunkFilterDeflateDecompress()
+                .apply(input);
+
+        assertArrayEquals(PAYLOAD.toByteArrayCopy(),
+                result.getPayloadSequence().toByteArrayCopy());
+        assertEquals(ChunkFilterMagicNumberWriting.FLAG_MASK,
+                result.getFlags());
+    }
+
+    @Test
+    void apply_should_throw_when_flag_not_set() {
+        final ChunkData input = ChunkData.ofSequence(0L, 0L,
+                ChunkHeader.MAGIC_NUMBER, 1, PAYLOAD);
+
+        final Exception exception = assertThrows(IllegalStateException.class,
+                () -> new ChunkFilterDeflateDecompress().apply(input));
+
+        assertEquals("Chunk payload is not marked as Deflate compressed.",
+                exception.getMessage());
+    }
+
+    @Test
+    void apply_should_reject_truncated_stream() {
+        final byte[] compressed = new ChunkFilterDeflateCompress()
+                .apply(ChunkData.ofSequence(0L, 0L, ChunkHeader.MAGIC_NUMBER,
+                        1, PAYLOAD))
+                .getPayloadSequence().toByteArrayCopy();
+        final ChunkData input = ChunkData.ofSequence(
+                ChunkFilterDeflateCompress.FLAG_COMPRESSED, 0L,
+                ChunkHeader.MAGIC_NUMBER, 1, ByteSequences
+                        .wrap(Arrays.copyOf(compressed, compressed.length - 2)));
+
+        assertThrows(IndexException.class,
+                () -> new ChunkFilterDeflateDecompress().apply(input));
+    }
+}
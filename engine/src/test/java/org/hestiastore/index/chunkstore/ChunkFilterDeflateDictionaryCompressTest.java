@@ -0,0 +1,87 @@
+package org.hestiastore.index.chunkstore;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import org.hestiastore.index.bytes.ByteSequences;
+import org.junit.jupiter.api.Test;
+
+class ChunkFilterDeflateDictionaryCompressTest {
+
+    private static final byte[] PAYLOAD = "{\"city\":\"Prague\",\"zip\":11000}"
+            .getBytes(StandardCharsets.UTF_8);
+
+    private static final ChunkCompressionDictionary DICTIONARY = ChunkCompressionDictionary
+            .of("{\"city\":\"Prague\",\"zip\":".getBytes(StandardCharsets.UTF_8));
+
+    @Test
+    void apply_should_compress_with_dictionary_and_set_flag()
+            throws DataFormatException {
+        final ChunkData input = ChunkData.ofSequence(0L, 0L,
+                ChunkHeader.MAGIC_NUMBER, 1, ByteSequences.wrap(PAYLOAD));
+
+        final ChunkData result = new ChunkFilterDeflateDictionaryCompress(9,
+                DICTIONARY).apply(input);
+
+        final byte[] compressed = result.getPayloadSequence().toByteArrayCopy();
+        final Inflater inflater = new Inflater();
+        inflater.setInput(compressed,
+                ChunkCompressionScratch.LENGTH_PREFIX_BYTES,
+                compressed.length - ChunkCompressionScratch.LENGTH_PREFIX_BYTES);
+        final byte[] restored = new byte[PAYLOAD.length];
+        assertEquals(0, inflater.inflate(restored));
+        assertTrue(inflater.needsDictionary());
+        assertEquals(DICTIONARY.getId(), inflater.getAdler());
+        inflater.setDictionary(DICTIONARY.toByteArray());
+        assertEquals(PAYLOAD.length, inflater.inflate(restored));
+        inflater.end();
+        assertArrayEquals(PAYLOAD, restored);
+        assertNotEquals(0L, result.getFlags()
+                & ChunkFilterDeflateDictionaryCompress.FLAG_COMPRESSED);
+    }
+
+    @Test
+    void dictionary_should_shrink_payload() {
+        final ChunkData input = ChunkData.ofSequence(0L, 0L,
+                ChunkHeader.MAGIC_NUMBER, 1, ByteSequences.wrap(PAYLOAD));
+
+        final int unbound = new ChunkFilterDeflateDictionaryCompress(9)
+                .apply(input).getPayloadSequence().length();
+        final int bound = new ChunkFilterDeflateDictionaryCompress(9)
+                .withDictionary(DICTIONARY).apply(input).getPayloadSequence()
+                .length();
+
+        assertTrue(bound < unbound);
+    }
+
+    @Test
+    void withDictionary_should_keep_level() {
+        final ChunkFilterDeflateDictionaryCompress filter = new ChunkFilterDeflateDictionaryCompress(
+                3);
+
+        final ChunkFilterDeflateDictionaryCompress bound = assertInstanceOf(
+                ChunkFilterDeflateDictionaryCompress.class,
+                filter.withDictionary(DICTIONARY));
+
+        assertEquals(3, bound.getLevel());
+        assertSame(DICTIONARY, bound.getDictionary());
+        assertTrue(filter.getDictionary().isEmpty());
+    }
+
+    @Test
+    void constructor_should_reject_invalid_arguments() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new ChunkFilterDeflateDictionaryCompress(10));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ChunkFilterDeflateDictionaryCompress(1, null));
+    }
+}
@@ -0,0 +1,92 @@
+package org.hestiastore.index.chunkstore;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+
+import org.hestiastore.index.IndexException;
+import org.hestiastore.index.bytes.ByteSequence;
+import org.hestiastore.index.bytes.ByteSequences;
+import org.junit.jupiter.api.Test;
+
+class ChunkFilterDeflateDictionaryDecompressTest {
+
+    private static final ByteSequence PAYLOAD = ByteSequences.wrap(
+            "{\"city\":\"Brno\",\"zip\":60200}".getBytes(StandardCharsets.UTF_8));
+
+    private static final ChunkCompressionDictionary DICTIONARY = ChunkCompressionDictionary
+            .of("{\"city\":\"Brno\",\"zip\":".getBytes(StandardCharsets.UTF_8));
+
+    @Test
+    void apply_should_decompress_payload_and_clear_flag() {
+        final ChunkData input = compress(DICTIONARY);
+
+        final ChunkData result = new ChunkFilterDeflateDictionaryDecompress(
+                DICTIONARY).apply(input);
+
+        assertArrayEquals(PAYLOAD.toByteArrayCopy(),
+                result.getPayloadSequence().toByteArrayCopy());
+        assertEquals(ChunkFilterMagicNumberWriting.FLAG_MASK,
+                result.getFlags());
+    }
+
+    @Test
+    void apply_should_decompress_payload_written_without_dictionary() {
+        final ChunkData input = compress(ChunkCompressionDictionary.empty());
+
+        final ChunkData result = new ChunkFilterDeflateDictionaryDecompress(
+                DICTIONARY).apply(input);
+
+        assertArrayEquals(PAYLOAD.toByteArrayCopy(),
+                result.getPayloadSequence().toByteArrayCopy());
+    }
+
+    @Test
+    void apply_should_reject_missing_dictionary() {
+        final ChunkData input = compress(DICTIONARY);
+
+        final IndexException exception = assertThrows(IndexException.class,
+                () -> new ChunkFilterDeflateDictionaryDecompress()
+                        .apply(input));
+
+        assertEquals(String.format(
+                "Deflate dictionary chunk payload requires dictionary %08x "
+                        + "but no dictionary is available",
+                DICTIONARY.getId()), exception.getMessage());
+    }
+
+    @Test
+    void apply_should_reject_different_dictionary() {
+        final ChunkData input = compress(DICTIONARY);
+        final ChunkCompressionDictionary other = ChunkCompressionDictionary
+                .of("something else".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(IndexException.class,
+                () -> new ChunkFilterDeflateDictionaryDecompress()
+                        .withDictionary(other).apply(input));
+    }
+
+    @Test
+    void apply_should_throw_when_flag_not_set() {
+        final ChunkData input = ChunkData.ofSequence(0L, 0L,
+                ChunkHeader.MAGIC_NUMBER, 1, PAYLOAD);
+
+        final Exception exception = assertThrows(IllegalStateException.class,
+                () -> new ChunkFilterDeflateDictionaryDecompress()
+                        .apply(input));
+
+        assertEquals(
+                "Chunk payload is not marked as Deflate dictionary compressed.",
+                exception.getMessage());
+    }
+
+    private static ChunkData compress(
+            final ChunkCompressionDictionary dictionary) {
+        return new ChunkFilterDeflateDictionaryCompress(6, dictionary)
+                .apply(ChunkData.ofSequence(
+                        ChunkFilterMagicNumberWriting.FLAG_MASK, 0L,
+                        ChunkHeader.MAGIC_NUMBER, 1, PAYLOAD));
+    }
+}
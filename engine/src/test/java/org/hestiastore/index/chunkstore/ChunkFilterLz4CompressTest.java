@@ -0,0 +1,65 @@
+package org.hestiastore.index.chunkstore;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.hestiastore.index.bytes.ByteSequence;
+import org.hestiastore.index.bytes.ByteSequences;
+import org.junit.jupiter.api.Test;
+
+class ChunkFilterLz4CompressTest {
+
+    private static final byte[] PAYLOAD = new byte[1000];
+
+    static {
+        for (int i = 0; i < PAYLOAD.length; i++) {
+            PAYLOAD[i] = (byte) (i % 10);
+        }
+    }
+
+    @Test
+    void apply_should_compress_payload_and_set_flag() {
+        final ChunkData input = ChunkData.ofSequence(0L, 0L,
+                ChunkHeader.MAGIC_NUMBER, 1, ByteSequences.wrap(PAYLOAD));
+
+        final ChunkData result = new ChunkFilterLz4Compress().apply(input);
+
+        final byte[] compressed = result.getPayloadSequence().toByteArrayCopy();
+        assertTrue(compressed.length < PAYLOAD.length / 4);
+        assertEquals(PAYLOAD.length,
+                ChunkCompressionScratch.readLength(compressed,
+                        compressed.length, "LZ4"));
+        final byte[] restored = new byte[PAYLOAD.length];
+        ChunkLz4Codec.decompress(compressed,
+                ChunkCompressionScratch.LENGTH_PREFIX_BYTES, compressed.length,
+                restored);
+        assertArrayEquals(PAYLOAD, restored);
+        assertNotEquals(0L,
+                result.getFlags() & ChunkFilterLz4Compress.FLAG_COMPRESSED);
+        assertEquals(input.getMagicNumber(), result.getMagicNumber());
+        assertEquals(input.getCrc(), result.getCrc());
+        assertEquals(input.getVersion(), result.getVersion());
+    }
+
+    @Test
+    void apply_should_read_concatenated_payload() {
+        final ByteSequence payload = ByteSequences.concat(List.of(
+                ByteSequences.wrap(Arrays.copyOf(PAYLOAD, 300)),
+                ByteSequences.wrap(
+                        Arrays.copyOfRange(PAYLOAD, 300, PAYLOAD.length))));
+        final ChunkData input = ChunkData.ofSequence(0L, 0L,
+                ChunkHeader.MAGIC_NUMBER, 1, payload);
+
+        final ChunkData compressed = new ChunkFilterLz4Compress().apply(input);
+        final ChunkData result = new ChunkFilterLz4Decompress()
+                .apply(compressed);
+
+        assertArrayEquals(PAYLOAD,
+                result.getPayloadSequence().toByteArrayCopy());
+    }
+}
@@ -0,0 +1,57 @@
+package org.hestiastore.index.chunkstore;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.hestiastore.index.IndexException;
+import org.hestiastore.index.bytes.ByteSequence;
+import org.hestiastore.index.bytes.ByteSequences;
+import org.junit.jupiter.api.Test;
+
+class ChunkFilterLz4DecompressTest {
+
+    private static final ByteSequence PAYLOAD = ByteSequences
+            .wrap(new byte[] { 10, 20, 30, 40, 50, 60, 70, 80 });
+
+    @Test
+    void apply_should_decompress_payload_and_clear_flag() {
+        final ChunkData input = new ChunkFilterLz4Compress()
+                .apply(ChunkData.ofSequence(
+                        ChunkFilterMagicNumberWriting.FLAG_MASK, 0L,
+                        ChunkHeader.MAGIC_NUMBER, 1, PAYLOAD));
+
+        final ChunkData result = new ChunkFilterLz4Decompress().apply(input);
+
+        assertArrayEquals(PAYLOAD.toByteArrayCopy(),
+                result.getPayloadSequence().toByteArrayCopy());
+        assertEquals(ChunkFilterMagicNumberWriting.FLAG_MASK,
+                result.getFlags());
+    }
+
+    @Test
+    void apply_should_throw_when_flag_not_set() {
+        final ChunkData input = ChunkData.ofSequence(0L, 0L,
+                ChunkHeader.MAGIC_NUMBER, 1, PAYLOAD);
+
+        final Exception exception = assertThrows(IllegalStateException.class,
+                () -> new ChunkFilterLz4Decompress().apply(input));
+
+        assertEquals("Chunk payload is not marked as LZ4 compressed.",
+                exception.getMessage());
+    }
+
+    @Test
+    void apply_should_reject_payload_without_length_prefix() {
+        final ChunkData input = ChunkData.ofSequence(
+                ChunkFilterLz4Compress.FLAG_COMPRESSED, 0L,
+                ChunkHeader.MAGIC_NUMBER, 1,
+                ByteSequences.wrap(new byte[] { 1, 2 }));
+
+        final Exception exception = assertThrows(IndexException.class,
+                () -> new ChunkFilterLz4Decompress().apply(input));
+
+        assertEquals("LZ4 chunk payload is too short: 2 bytes",
+                exception.getMessage());
+    }
+}
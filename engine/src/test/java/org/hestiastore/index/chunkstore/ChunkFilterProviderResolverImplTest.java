@@ -24,6 +24,32 @@ class ChunkFilterProviderResolverImplTest {
                 resolver.createDecodingSupplier(magicNumberSpec).get());
     }
 
+    @Test
+    void defaultResolverResolvesCompressionProviders() {
+        final ChunkFilterProviderResolver resolver = ChunkFilterProviderResolverImpl
+                .defaultResolver();
+
+        final ChunkFilterDeflateCompress deflate = assertInstanceOf(
+                ChunkFilterDeflateCompress.class, resolver
+                        .createEncodingSupplier(ChunkFilterSpecs.deflate(1))
+                        .get());
+        assertEquals(1, deflate.getLevel());
+        assertInstanceOf(ChunkFilterDeflateDecompress.class, resolver
+                .createDecodingSupplier(ChunkFilterSpecs.deflate(1)).get());
+        assertInstanceOf(ChunkFilterLz4Compress.class,
+                resolver.createEncodingSupplier(ChunkFilterSpecs.lz4()).get());
+        assertInstanceOf(ChunkFilterLz4Decompress.class,
+                resolver.createDecodingSupplier(ChunkFilterSpecs.lz4()).get());
+        final ChunkFilterDeflateDictionaryCompress dictionary = assertInstanceOf(
+                ChunkFilterDeflateDictionaryCompress.class,
+                resolver.createEncodingSupplier(
+                        ChunkFilterSpecs.deflateDictionary(7)).get());
+        assertEquals(7, dictionary.getLevel());
+        assertInstanceOf(ChunkFilterDeflateDictionaryDecompress.class,
+                resolver.createDecodingSupplier(
+                        ChunkFilterSpecs.deflateDictionary()).get());
+    }
+
     @Test
     void withProviderReturnsExtendedCopyWithoutMutatingOriginal() {
         final ChunkFilterProviderResolverImpl baseResolver = ChunkFilterProviderResolverImpl
@@ -57,6 +57,39 @@ class ChunkFilterSpecsTest {
                 ChunkFilterSpecs.forDecodingFilter(new CustomChunkFilter()));
     }
 
+    @Test
+    void compressionFiltersMapToBuiltInProviders() {
+        assertEquals(ChunkFilterSpecs.deflate(),
+                ChunkFilterSpecs.forEncodingFilter(
+                        ChunkFilterDeflateCompress.class));
+        assertEquals(ChunkFilterSpecs.deflate(),
+                ChunkFilterSpecs.forDecodingFilter(
+                        new ChunkFilterDeflateDecompress()));
+        assertEquals(ChunkFilterSpecs.deflate(9),
+                ChunkFilterSpecs.forEncodingFilter(
+                        new ChunkFilterDeflateCompress(9)));
+        assertEquals(ChunkFilterSpecs.deflate(),
+                ChunkFilterSpecs.deflate(
+                        ChunkFilterDeflateCompress.DEFAULT_LEVEL));
+        assertEquals("9", ChunkFilterSpecs.deflate(9)
+                .getParameter(ChunkFilterProviderResolver.PARAM_LEVEL));
+        assertEquals(ChunkFilterSpecs.lz4(),
+                ChunkFilterSpecs.forEncodingFilter(
+                        new ChunkFilterLz4Compress()));
+        assertEquals(ChunkFilterSpecs.lz4(),
+                ChunkFilterSpecs.fromPersistedClassName(
+                        ChunkFilterLz4Decompress.class.getName()));
+        assertEquals(ChunkFilterSpecs.deflateDictionary(5),
+                ChunkFilterSpecs.forEncodingFilter(
+                        new ChunkFilterDeflateDictionaryCompress(5)));
+        assertEquals(ChunkFilterSpecs.deflateDictionary(),
+                ChunkFilterSpecs.forDecodingFilter(
+                        ChunkFilterDeflateDictionaryDecompress.class));
+        assertEquals(ChunkFilterSpecs.deflateDictionary(),
+                ChunkFilterSpecs.fromPersistedClassName(
+                        ChunkFilterDeflateDictionaryCompress.class.getName()));
+    }
+
     @Test
     void javaClassSpecStoresClassNameParameter() {
         final ChunkFilterSpec spec = ChunkFilterSpecs
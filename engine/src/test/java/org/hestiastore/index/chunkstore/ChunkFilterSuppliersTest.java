@@ -1,9 +1,11 @@
 package org.hestiastore.index.chunkstore;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -56,6 +58,39 @@ class ChunkFilterSuppliersTest {
         assertNotSame(first, second);
     }
 
+    @Test
+    void withDictionaryBindsOnlyDictionaryAwareFilters() {
+        final ChunkCompressionDictionary dictionary = ChunkCompressionDictionary
+                .of(new byte[] { 1, 2, 3 });
+        final ChunkFilterDoNothing plain = new ChunkFilterDoNothing();
+        final AtomicInteger lookups = new AtomicInteger();
+
+        final List<ChunkFilter> filters = ChunkFilterSuppliers
+                .materialize(ChunkFilterSuppliers.withDictionary(
+                        List.of(() -> plain,
+                                ChunkFilterDeflateDictionaryCompress::new),
+                        () -> {
+                            lookups.incrementAndGet();
+                            return dictionary;
+                        }));
+
+        assertSame(plain, filters.get(0));
+        assertSame(dictionary,
+                ((ChunkFilterDeflateDictionaryCompress) filters.get(1))
+                        .getDictionary());
+        assertEquals(1, lookups.get());
+    }
+
+    @Test
+    void usesDictionaryDetectsDictionaryAwareFilters() {
+        assertTrue(ChunkFilterSuppliers.usesDictionary(List.of(
+                ChunkFilterCrc32Writing::new,
+                ChunkFilterDeflateDictionaryDecompress::new)));
+        assertFalse(ChunkFilterSuppliers.usesDictionary(
+                List.of(ChunkFilterCrc32Writing::new,
+                        ChunkFilterDeflateCompress::new)));
+    }
+
     private static final class TrackingChunkFilter implements ChunkFilter {
 
         private final int id;
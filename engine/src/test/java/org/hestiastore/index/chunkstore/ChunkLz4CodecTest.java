@@ -0,0 +1,104 @@
+package org.hestiastore.index.chunkstore;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.hestiastore.index.IndexException;
+import org.junit.jupiter.api.Test;
+
+class ChunkLz4CodecTest {
+
+    @Test
+    void roundTripsEmptyAndShortInputs() {
+        for (int length = 0; length < 20; length++) {
+            final byte[] source = new byte[length];
+            Arrays.fill(source, (byte) 7);
+            assertRoundTrip(source);
+        }
+    }
+
+    @Test
+    void roundTripsRandomInput() {
+        final byte[] source = new byte[10_000];
+        new Random(42).nextBytes(source);
+
+        final byte[] compressed = assertRoundTrip(source);
+
+        assertTrue(compressed.length <= ChunkLz4Codec
+                .maxCompressedLength(source.length));
+    }
+
+    @Test
+    void roundTripsLongRunsAndOverlappingMatches() {
+        final byte[] source = new byte[100_000];
+        Arrays.fill(source, 0, 40_000, (byte) 1);
+        for (int i = 40_000; i < source.length; i++) {
+            source[i] = (byte) (i % 3);
+        }
+
+        final byte[] compressed = assertRoundTrip(source);
+
+        assertTrue(compressed.length < source.length / 50);
+    }
+
+    @Test
+    void roundTripsMatchesBeyondMaximumOffset() {
+        final byte[] block = new byte[1_000];
+        new Random(7).nextBytes(block);
+        final byte[] filler = new byte[70_000];
+        new Random(8).nextBytes(filler);
+        final byte[] source = new byte[block.length * 2 + filler.length];
+        System.arraycopy(block, 0, source, 0, block.length);
+        System.arraycopy(filler, 0, source, block.length, filler.length);
+        System.arraycopy(block, 0, source, block.length + filler.length,
+                block.length);
+
+        assertRoundTrip(source);
+    }
+
+    @Test
+    void rejectsTruncatedAndInconsistentBlocks() {
+        final byte[] source = "abcabcabcabcabcabcabcabcabc-tail".getBytes();
+        final byte[] compressed = compress(source);
+
+        assertThrows(IndexException.class,
+                () -> ChunkLz4Codec.decompress(compressed, 0,
+                        compressed.length - 3, new byte[source.length]));
+        assertThrows(IndexException.class,
+                () -> ChunkLz4Codec.decompress(compressed, 0,
+                        compressed.length, new byte[source.length + 1]));
+        assertThrows(IndexException.class,
+                () -> ChunkLz4Codec.decompress(compressed, 0,
+                        compressed.length, new byte[source.length - 1]));
+    }
+
+    @Test
+    void rejectsOffsetBeforeOutputStart() {
+        // one literal, then a match with offset 2
+        final byte[] block = { 0x10, 'a', 0x02, 0x00, 0x00 };
+
+        assertThrows(IndexException.class,
+                () -> ChunkLz4Codec.decompress(block, 0, block.length,
+                        new byte[5]));
+    }
+
+    private static byte[] assertRoundTrip(final byte[] source) {
+        final byte[] compressed = compress(source);
+        final byte[] restored = new byte[source.length];
+        ChunkLz4Codec.decompress(compressed, 0, compressed.length, restored);
+        assertArrayEquals(source, restored);
+        return compressed;
+    }
+
+    private static byte[] compress(final byte[] source) {
+        final byte[] target = new byte[ChunkLz4Codec
+                .maxCompressedLength(source.length)];
+        final int written = ChunkLz4Codec.compress(source, source.length,
+                target, 0, new int[ChunkLz4Codec.HASH_TABLE_SIZE]);
+        return Arrays.copyOf(target, written);
+    }
+}
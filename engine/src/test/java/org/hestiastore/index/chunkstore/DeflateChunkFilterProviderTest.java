@@ -0,0 +1,86 @@
+package org.hestiastore.index.chunkstore;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class DeflateChunkFilterProviderTest {
+
+    private final DeflateChunkFilterProvider provider = new DeflateChunkFilterProvider();
+
+    @Test
+    void encodingSupplierUsesDefaultLevelWithoutParameter() {
+        final ChunkFilterDeflateCompress filter = assertInstanceOf(
+                ChunkFilterDeflateCompress.class,
+                provider.createEncodingSupplier(ChunkFilterSpecs.deflate())
+                        .get());
+
+        assertEquals(ChunkFilterDeflateCompress.DEFAULT_LEVEL,
+                filter.getLevel());
+    }
+
+    @Test
+    void encodingSupplierUsesConfiguredLevel() {
+        final ChunkFilterDeflateCompress filter = assertInstanceOf(
+                ChunkFilterDeflateCompress.class,
+                provider.createEncodingSupplier(ChunkFilterSpecs.deflate(9))
+                        .get());
+
+        assertEquals(9, filter.getLevel());
+    }
+
+    @Test
+    void decodingSupplierIgnoresLevel() {
+        assertInstanceOf(ChunkFilterDeflateDecompress.class,
+                provider.createDecodingSupplier(ChunkFilterSpecs.deflate(3))
+                        .get());
+    }
+
+    @Test
+    void rejectsInvalidLevelParameter() {
+        final ChunkFilterSpec notANumber = ChunkFilterSpecs.deflate()
+                .withParameter(ChunkFilterProviderResolver.PARAM_LEVEL,
+                        "best");
+        final ChunkFilterSpec outOfRange = ChunkFilterSpecs.deflate()
+                .withParameter(ChunkFilterProviderResolver.PARAM_LEVEL, "12");
+
+        final IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> provider.createEncodingSupplier(notANumber));
+        assertEquals("Invalid deflate level 'best' for provider 'deflate'",
+                exception.getMessage());
+        assertThrows(IllegalArgumentException.class,
+                () -> provider.createEncodingSupplier(outOfRange));
+    }
+
+    @Test
+    void dictionaryProviderCreatesUnboundDictionaryFilters() {
+        final DeflateChunkFilterProvider dictionaryProvider = DeflateChunkFilterProvider
+                .deflateDictionary();
+
+        final ChunkFilterDeflateDictionaryCompress filter = assertInstanceOf(
+                ChunkFilterDeflateDictionaryCompress.class,
+                dictionaryProvider.createEncodingSupplier(
+                        ChunkFilterSpecs.deflateDictionary(2)).get());
+
+        assertEquals(ChunkFilterProviderResolver.PROVIDER_ID_DEFLATE_DICTIONARY,
+                dictionaryProvider.getProviderId());
+        assertEquals(2, filter.getLevel());
+        assertTrue(filter.getDictionary().isEmpty());
+        assertInstanceOf(ChunkFilterDeflateDictionaryDecompress.class,
+                dictionaryProvider.createDecodingSupplier(
+                        ChunkFilterSpecs.deflateDictionary()).get());
+        assertThrows(IllegalArgumentException.class,
+                () -> dictionaryProvider
+                        .createEncodingSupplier(ChunkFilterSpecs.deflate()));
+    }
+
+    @Test
+    void rejectsSpecOfDifferentProvider() {
+        assertThrows(IllegalArgumentException.class,
+                () -> provider.createEncodingSupplier(ChunkFilterSpecs.lz4()));
+    }
+}
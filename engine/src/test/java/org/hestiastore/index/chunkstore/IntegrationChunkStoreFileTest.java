@@ -87,6 +87,38 @@ class IntegrationChunkStoreFileTest {
         verifyReadChunk(positions[2], TestData.CHUNK_PAYLOAD_1008);
     }
 
+    @Test
+    void test_write_and_read_compressed_chunks() {
+        for (final List<ChunkFilter> codec : List.of(
+                List.of(new ChunkFilterDeflateCompress(9),
+                        new ChunkFilterDeflateDecompress()),
+                List.of(new ChunkFilterLz4Compress(),
+                        new ChunkFilterLz4Decompress()))) {
+            chunkStoreFile = new ChunkStoreFile(directory,
+                    FILE_NAME + codec.get(0).getClass().getSimpleName(),
+                    DATABLOCK_SIZE,
+                    List.of(new ChunkFilterCrc32Writing(),
+                            new ChunkFilterMagicNumberWriting(),
+                            codec.get(0)),
+                    List.of(new ChunkFilterMagicNumberValidation(),
+                            codec.get(1), new ChunkFilterCrc32Validation()));
+            final ChunkStoreWriterTx writerTx = chunkStoreFile.openWriteTx();
+            final CellPosition[] positions = new CellPosition[2];
+            try (ChunkStoreWriter writer = writerTx.open()) {
+                positions[0] = writer.writeSequence(
+                        TestData.CHUNK_PAYLOAD_1008.getBytesSequence(),
+                        VERSION);
+                positions[1] = writer.writeSequence(
+                        TestData.CHUNK_PAYLOAD_154.getBytesSequence(),
+                        VERSION);
+            }
+            writerTx.commit();
+
+            verifyReadChunk(positions[0], TestData.CHUNK_PAYLOAD_1008);
+            verifyReadChunk(positions[1], TestData.CHUNK_PAYLOAD_154);
+        }
+    }
+
     private final void verifyReadChunk(final CellPosition position,
             final ChunkPayload expectedPayload) {
         try (ChunkStoreReader reader = chunkStoreFile.openReader(position)) {
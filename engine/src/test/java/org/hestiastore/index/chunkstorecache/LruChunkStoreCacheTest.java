@@ -1,9 +1,19 @@
 package org.hestiastore.index.chunkstorecache;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.hestiastore.index.Entry;
@@ -35,6 +45,16 @@ class LruChunkStoreCacheTest {
         assertEquals(0L, stats.loadCount());
     }
 
+    @Test
+    void compactPagesAreOptIn() {
+        assertFalse(new LruChunkStoreCache<Integer, String>(2)
+                .isCompactPages());
+        assertFalse(new LruChunkStoreCache<Integer, String>(2, 1024L, false,
+                false).isCompactPages());
+        assertTrue(new LruChunkStoreCache<Integer, String>(2, 0L, true,
+                false).isCompactPages());
+    }
+
     @Test
     void missLoadsOnceAndFollowingReadHits() {
         final LruChunkStoreCache<Integer, String> cache =
@@ -55,6 +75,25 @@ class LruChunkStoreCacheTest {
         assertEquals(1L, stats.loadCount());
     }
 
+    @Test
+    void getPageSharesCachedPageWithFind() {
+        final LruChunkStoreCache<Integer, String> cache =
+                new LruChunkStoreCache<>(2);
+        final AtomicInteger loads = new AtomicInteger();
+
+        final ParsedChunkPage<Integer, String> page = cache.getPage(
+                "segment-1", 1L, 10L, () -> loadedPage(loads, 1, "one"));
+        assertSame(page, cache.getPage("segment-1", 1L, 10L,
+                () -> loadedPage(loads, 1, "unexpected")));
+        assertEquals("one", cache.find("segment-1", 1L, 10L, 1, COMPARATOR,
+                () -> loadedPage(loads, 1, "unexpected")));
+
+        final ChunkStoreCacheStats stats = cache.stats();
+        assertEquals(1, loads.get());
+        assertEquals(2L, stats.hitCount());
+        assertEquals(1L, stats.missCount());
+    }
+
     @Test
     void lruEvictionRespectsPageLimit() {
         final LruChunkStoreCache<Integer, String> cache =
@@ -77,6 +116,255 @@ class LruChunkStoreCacheTest {
         assertEquals(1L, stats.hitCount());
     }
 
+    @Test
+    void byteLimitEvictsPagesByWeight() {
+        final long pageWeight = weightedPage(new AtomicInteger(), 1, "one")
+                .weightBytes();
+        final LruChunkStoreCache<Integer, String> cache =
+                new LruChunkStoreCache<>(10, 2 * pageWeight,
+                        false, false);
+        final AtomicInteger loads = new AtomicInteger();
+
+        cache.find("segment-1", 1L, 10L, 1, COMPARATOR,
+                () -> weightedPage(loads, 1, "one"));
+        cache.find("segment-1", 1L, 20L, 2, COMPARATOR,
+                () -> weightedPage(loads, 2, "two"));
+        cache.find("segment-1", 1L, 30L, 3, COMPARATOR,
+                () -> weightedPage(loads, 3, "three"));
+
+        final ChunkStoreCacheStats stats = cache.stats();
+        assertEquals(3, loads.get());
+        assertEquals(2, stats.pageCount());
+        assertEquals(1L, stats.evictionCount());
+        assertEquals(2 * pageWeight, stats.byteLimit());
+        assertEquals(2 * pageWeight, stats.weightBytes());
+    }
+
+    @Test
+    void updateByteLimitShrinksCacheAndZeroRemovesWeightBound() {
+        final LruChunkStoreCache<Integer, String> cache =
+                new LruChunkStoreCache<>(10);
+        final AtomicInteger loads = new AtomicInteger();
+        for (int i = 1; i <= 4; i++) {
+            final int key = i;
+            cache.find("segment-1", 1L, key * 10L, key, COMPARATOR,
+                    () -> weightedPage(loads, key, "value"));
+        }
+        final long pageWeight = cache.stats().weightBytes() / 4;
+
+        cache.updateByteLimit(pageWeight);
+        assertEquals(1, cache.stats().pageCount());
+        assertEquals(pageWeight, cache.stats().weightBytes());
+
+        cache.updateByteLimit(0L);
+        cache.find("segment-1", 1L, 50L, 5, COMPARATOR,
+                () -> weightedPage(loads, 5, "value"));
+        assertEquals(2, cache.stats().pageCount());
+        assertEquals(3L, cache.stats().evictionCount());
+    }
+
+    @Test
+    void pageHeavierThanByteLimitIsReturnedButNotRetained() {
+        final LruChunkStoreCache<Integer, String> cache =
+                new LruChunkStoreCache<>(10, 1L, false, false);
+        final AtomicInteger loads = new AtomicInteger();
+
+        assertEquals("one", cache.find("segment-1", 1L, 10L, 1, COMPARATOR,
+                () -> weightedPage(loads, 1, "one")));
+
+        final ChunkStoreCacheStats stats = cache.stats();
+        assertEquals(0, stats.pageCount());
+        assertEquals(0L, stats.weightBytes());
+        assertEquals(0L, stats.evictionCount());
+    }
+
+    @Test
+    void pageHeavierThanByteLimitKeepsExistingPages() {
+        final long pageWeight = weightedPage(new AtomicInteger(), 1, "one")
+                .weightBytes();
+        final LruChunkStoreCache<Integer, String> cache =
+                new LruChunkStoreCache<>(10, 2 * pageWeight,
+                        false, false);
+        final AtomicInteger loads = new AtomicInteger();
+        cache.find("segment-1", 1L, 10L, 1, COMPARATOR,
+                () -> weightedPage(loads, 1, "one"));
+        cache.find("segment-1", 1L, 20L, 2, COMPARATOR,
+                () -> weightedPage(loads, 2, "two"));
+
+        assertEquals("big", cache.find("segment-1", 1L, 30L, 3, COMPARATOR,
+                () -> {
+                    loads.incrementAndGet();
+                    return ParsedChunkPage.of(List.of(Entry.of(3, "big")),
+                            3 * pageWeight);
+                }));
+        assertEquals("one", cache.find("segment-1", 1L, 10L, 1, COMPARATOR,
+                () -> weightedPage(loads, 1, "unexpected")));
+        assertEquals("two", cache.find("segment-1", 1L, 20L, 2, COMPARATOR,
+                () -> weightedPage(loads, 2, "unexpected")));
+
+        final ChunkStoreCacheStats stats = cache.stats();
+        assertEquals(3, loads.get());
+        assertEquals(2, stats.pageCount());
+        assertEquals(0L, stats.evictionCount());
+        assertEquals(2 * pageWeight, stats.weightBytes());
+    }
+
+    @Test
+    void concurrentMissesOnSameKeyShareOneLoad() throws Exception {
+        final LruChunkStoreCache<Integer, String> cache =
+                new LruChunkStoreCache<>(4);
+        final AtomicInteger loads = new AtomicInteger();
+        final CountDownLatch loadStarted = new CountDownLatch(1);
+        final CountDownLatch releaseLoad = new CountDownLatch(1);
+        final int readers = 8;
+        final ExecutorService executor = Executors.newFixedThreadPool(readers);
+        try {
+            final List<Future<ParsedChunkPage<Integer, String>>> results =
+                    new ArrayList<>();
+            for (int i = 0; i < readers; i++) {
+                results.add(executor.submit(() -> cache.getPage("segment-1",
+                        1L, 10L, () -> {
+                            loadStarted.countDown();
+                            awaitQuietly(releaseLoad);
+                            return loadedPage(loads, 1, "one");
+                        })));
+            }
+            assertTrue(loadStarted.await(5, TimeUnit.SECONDS));
+            // Give the other readers time to reach the in-flight load.
+            Thread.sleep(50L);
+            releaseLoad.countDown();
+
+            final ParsedChunkPage<Integer, String> first = results.get(0)
+                    .get(5, TimeUnit.SECONDS);
+            for (final Future<ParsedChunkPage<Integer, String>> result : results) {
+                assertSame(first, result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        final ChunkStoreCacheStats stats = cache.stats();
+        assertEquals(1, loads.get());
+        assertEquals(1L, stats.loadCount());
+        assertEquals(1, stats.pageCount());
+        assertEquals((long) readers, stats.hitCount() + stats.missCount());
+    }
+
+    @Test
+    void failedLoadIsNotCachedAndIsRetried() {
+        final LruChunkStoreCache<Integer, String> cache =
+                new LruChunkStoreCache<>(2);
+        final AtomicInteger loads = new AtomicInteger();
+
+        assertThrows(IllegalStateException.class,
+                () -> cache.getPage("segment-1", 1L, 10L, () -> {
+                    throw new IllegalStateException("read failed");
+                }));
+        assertEquals("one", cache.find("segment-1", 1L, 10L, 1, COMPARATOR,
+                () -> loadedPage(loads, 1, "one")));
+
+        final ChunkStoreCacheStats stats = cache.stats();
+        assertEquals(1, loads.get());
+        assertEquals(1, stats.pageCount());
+        assertEquals(2L, stats.missCount());
+    }
+
+    @Test
+    void invalidateOwnerRemovesOnlyOwnerPages() {
+        final LruChunkStoreCache<Integer, String> cache =
+                new LruChunkStoreCache<>(4);
+        final AtomicInteger loads = new AtomicInteger();
+
+        cache.find("segment-1", 1L, 10L, 1, COMPARATOR,
+                () -> loadedPage(loads, 1, "one"));
+        cache.find("segment-2", 1L, 10L, 2, COMPARATOR,
+                () -> loadedPage(loads, 2, "two"));
+        cache.invalidateOwner("segment-1");
+        cache.find("segment-2", 1L, 10L, 2, COMPARATOR,
+                () -> loadedPage(loads, 2, "unexpected"));
+
+        final ChunkStoreCacheStats stats = cache.stats();
+        assertEquals(2, loads.get());
+        assertEquals(1, stats.pageCount());
+        assertEquals(1L, stats.entryCount());
+        assertEquals(1L, stats.invalidationCount());
+    }
+
+    @Test
+    void invalidateOwnerExceptVersionKeepsOnlyThatVersion() {
+        final LruChunkStoreCache<Integer, String> cache =
+                new LruChunkStoreCache<>(4);
+        final AtomicInteger loads = new AtomicInteger();
+
+        cache.find("segment-1", 1L, 10L, 1, COMPARATOR,
+                () -> loadedPage(loads, 1, "old"));
+        cache.find("segment-1", 2L, 10L, 1, COMPARATOR,
+                () -> loadedPage(loads, 1, "new"));
+        cache.find("segment-2", 1L, 10L, 2, COMPARATOR,
+                () -> loadedPage(loads, 2, "two"));
+        cache.invalidateOwnerExceptVersion("segment-1", 2L);
+
+        assertTrue(cache.getCachedPages("segment-1", 1L).isEmpty());
+        assertEquals(1, cache.getCachedPages("segment-1", 2L).size());
+        assertEquals(1, cache.getCachedPages("segment-2", 1L).size());
+        assertEquals(1L, cache.stats().invalidationCount());
+    }
+
+    @Test
+    void getCachedPagesReturnsOwnerVersionPagesWithoutHits() {
+        final LruChunkStoreCache<Integer, String> cache =
+                new LruChunkStoreCache<>(4);
+        final AtomicInteger loads = new AtomicInteger();
+
+        cache.find("segment-1", 1L, 10L, 1, COMPARATOR,
+                () -> loadedPage(loads, 1, "one"));
+        cache.find("segment-1", 1L, 20L, 2, COMPARATOR,
+                () -> loadedPage(loads, 2, "two"));
+        cache.find("segment-1", 2L, 10L, 3, COMPARATOR,
+                () -> loadedPage(loads, 3, "three"));
+
+        final List<ParsedChunkPage<Integer, String>> pages = cache
+                .getCachedPages("segment-1", 1L);
+
+        assertEquals(2, pages.size());
+        assertTrue(cache.getCachedPages("segment-2", 1L).isEmpty());
+        assertEquals(0L, cache.stats().hitCount());
+    }
+
+    @Test
+    void putPageCachesAndReplacesPageWithoutLoad() {
+        final LruChunkStoreCache<Integer, String> cache =
+                new LruChunkStoreCache<>(4);
+        final ChunkStoreCacheKey key = ChunkStoreCacheKey.of("segment-1", 2L,
+                10L);
+
+        cache.putPage(key, ParsedChunkPage.of(List.of(Entry.of(1, "stale"))));
+        cache.putPage(key, ParsedChunkPage.of(List.of(Entry.of(1, "warm"))));
+
+        assertEquals("warm", cache.find(key, 1, COMPARATOR, () -> {
+            throw new AssertionError("page must not be loaded");
+        }));
+        final ChunkStoreCacheStats stats = cache.stats();
+        assertEquals(1, stats.pageCount());
+        assertEquals(1L, stats.entryCount());
+        assertEquals(0L, stats.loadCount());
+        assertEquals(1L, stats.hitCount());
+    }
+
+    @Test
+    void putPageIsIgnoredWhenDisabled() {
+        final LruChunkStoreCache<Integer, String> cache =
+                new LruChunkStoreCache<>(0, 0L, false, true);
+
+        cache.putPage(ChunkStoreCacheKey.of("segment-1", 1L, 10L),
+                ParsedChunkPage.of(List.of(Entry.of(1, "one"))));
+
+        assertEquals(0, cache.stats().pageCount());
+        assertTrue(cache.isWarmOnCompaction());
+        assertFalse(new LruChunkStoreCache<Integer, String>(2, 0L, true,
+                false).isWarmOnCompaction());
+    }
+
     @Test
     void updateLimitZeroClearsAndDisablesCache() {
         final LruChunkStoreCache<Integer, String> cache =
@@ -114,9 +402,23 @@ class LruChunkStoreCacheTest {
         assertEquals(2L, stats.loadCount());
     }
 
+    private static void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     private static ParsedChunkPage<Integer, String> loadedPage(
             final AtomicInteger loads, final int key, final String value) {
         loads.incrementAndGet();
         return ParsedChunkPage.of(List.of(Entry.of(key, value)));
     }
+
+    private static ParsedChunkPage<Integer, String> weightedPage(
+            final AtomicInteger loads, final int key, final String value) {
+        loads.incrementAndGet();
+        return ParsedChunkPage.of(List.of(Entry.of(key, value)), 100L);
+    }
 }
@@ -50,6 +50,21 @@ class ParsedChunkPageTest {
         assertEquals("thirty", page.find(30, COMPARATOR));
     }
 
+    @Test
+    void weightBytes_includesEncodedSizeAndEntryOverhead() {
+        final ParsedChunkPage<Integer, String> page = ParsedChunkPage.of(
+                List.of(Entry.of(10, "ten"), Entry.of(20, "twenty")), 40L);
+
+        assertEquals(ParsedChunkPage.PAGE_OVERHEAD_BYTES + 40L
+                + 2L * ParsedChunkPage.ENTRY_OVERHEAD_BYTES,
+                page.weightBytes());
+    }
+
+    @Test
+    void weightBytes_isZeroForEmptyPage() {
+        assertEquals(0L, ParsedChunkPage.of(List.of(), 40L).weightBytes());
+    }
+
     private static ParsedChunkPage<Integer, String> page() {
         return ParsedChunkPage.of(List.of(Entry.of(10, "ten"),
                 Entry.of(20, "twenty"), Entry.of(30, "thirty")));
@@ -7,6 +7,7 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.when;
 
 import org.hestiastore.index.IndexException;
@@ -37,6 +38,8 @@ class DataBlockReaderImplTest {
 
     @BeforeEach
     void beforeEach() {
+        lenient().when(fileReader.readSequence(anyInt()))
+                .thenCallRealMethod();
         reader = new DataBlockReaderImpl(fileReader, BLOCK_POSITION,
                 BLOCK_SIZE, true);
     }
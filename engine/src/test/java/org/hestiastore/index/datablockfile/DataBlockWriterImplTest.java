@@ -6,6 +6,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
 
 import org.hestiastore.index.TestData;
+import org.hestiastore.index.bytes.ByteSequence;
 import org.hestiastore.index.directory.FileWriter;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -38,7 +39,8 @@ class DataBlockWriterImplTest {
     @Test
     void test_write() {
         doAnswer(invocation -> {
-            final byte[] blockData = invocation.getArgument(0);
+            final ByteSequence blockSequence = invocation.getArgument(0);
+            final byte[] blockData = blockSequence.toByteArray();
             assertEquals(1024, blockData.length);
 
             // Verify the magic number
@@ -55,7 +57,7 @@ class DataBlockWriterImplTest {
             assertEquals(TestData.PAYLOAD_1008.calculateCrc(), crc);
 
             return null;
-        }).when(fileWriter).write(any(byte[].class));
+        }).when(fileWriter).write(any(ByteSequence.class));
         writer.writeSequence(TestData.PAYLOAD_1008.getBytesSequence());
     }
 
@@ -0,0 +1,70 @@
+package org.hestiastore.index.directory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.Test;
+
+class ByteBufferPoolTest {
+
+    @Test
+    void acquire_reusesReleasedBufferOfSameCapacity() {
+        final ByteBufferPool pool = new ByteBufferPool(false);
+        final ByteBuffer buffer = pool.acquire(16);
+        buffer.put((byte) 1).limit(4);
+
+        pool.release(buffer);
+        assertEquals(1, pool.idleCount(16));
+
+        final ByteBuffer reused = pool.acquire(16);
+        assertSame(buffer, reused);
+        assertEquals(0, reused.position());
+        assertEquals(16, reused.limit());
+        assertEquals(0, pool.idleCount(16));
+    }
+
+    @Test
+    void acquire_allocatesNewBufferForOtherCapacity() {
+        final ByteBufferPool pool = new ByteBufferPool(false);
+        final ByteBuffer buffer = pool.acquire(16);
+        pool.release(buffer);
+
+        final ByteBuffer other = pool.acquire(32);
+
+        assertNotSame(buffer, other);
+        assertEquals(32, other.capacity());
+        assertEquals(1, pool.idleCount(16));
+    }
+
+    @Test
+    void acquire_honoursDirectFlag() {
+        assertTrue(new ByteBufferPool(true).acquire(8).isDirect());
+        assertFalse(new ByteBufferPool(false).acquire(8).isDirect());
+    }
+
+    @Test
+    void release_ignoresBufferOfOtherKind() {
+        final ByteBufferPool pool = new ByteBufferPool(true);
+
+        pool.release(ByteBuffer.allocate(8));
+
+        assertEquals(0, pool.idleCount(8));
+    }
+
+    @Test
+    void release_keepsBoundedNumberOfIdleBuffers() {
+        final ByteBufferPool pool = new ByteBufferPool(false);
+        for (int i = 0; i < ByteBufferPool.MAX_POOLED_BUFFERS_PER_CAPACITY
+                + 5; i++) {
+            pool.release(ByteBuffer.allocate(8));
+        }
+
+        assertEquals(ByteBufferPool.MAX_POOLED_BUFFERS_PER_CAPACITY,
+                pool.idleCount(8));
+    }
+}
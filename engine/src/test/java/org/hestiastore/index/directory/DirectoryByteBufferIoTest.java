@@ -0,0 +1,117 @@
+package org.hestiastore.index.directory;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.hestiastore.index.bytes.ByteSequence;
+import org.hestiastore.index.bytes.ByteSequences;
+import org.hestiastore.index.bytes.ConcatenatedByteSequence;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class DirectoryByteBufferIoTest {
+
+    private static final String FILE_NAME = "data";
+
+    private static final byte[] DATA = buildData(20_000);
+
+    @TempDir
+    private File tempDir;
+
+    static Stream<Arguments> directories() {
+        return Stream.of(
+                Arguments.of("mem",
+                        (Function<File, Directory>) dir -> new MemDirectory()),
+                Arguments.of("fs",
+                        (Function<File, Directory>) FsDirectory::new),
+                Arguments.of("nio",
+                        (Function<File, Directory>) FsNioDirectory::new),
+                Arguments.of("nio-heap",
+                        (Function<File, Directory>) dir -> new FsNioDirectory(
+                                dir, false)),
+                Arguments.of("mmap",
+                        (Function<File, Directory>) FsMmapDirectory::new));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("directories")
+    void write_sequence_and_buffer_then_read_into_buffers(final String name,
+            final Function<File, Directory> factory) {
+        final Directory directory = factory.apply(tempDir);
+        writeData(directory);
+
+        try (FileReader reader = directory.getFileReader(FILE_NAME, 1024)) {
+            final ByteBuffer small = ByteBuffer.allocate(10);
+            assertEquals(10, reader.read(small));
+            final ByteBuffer large = ByteBuffer.allocateDirect(DATA.length);
+            large.put(small.flip());
+            while (large.hasRemaining()) {
+                if (reader.read(large) < 0) {
+                    break;
+                }
+            }
+            assertEquals(DATA.length, large.position());
+            final byte[] read = new byte[DATA.length];
+            large.flip().get(read);
+            assertArrayEquals(DATA, read);
+            assertEquals(-1, reader.read(ByteBuffer.allocate(1)));
+            assertEquals(0, reader.read(ByteBuffer.allocate(0)));
+        }
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("directories")
+    void positional_read_keeps_reader_position(final String name,
+            final Function<File, Directory> factory) {
+        final Directory directory = factory.apply(tempDir);
+        writeData(directory);
+
+        try (FileReaderSeekable reader = directory
+                .getFileReaderSeekable(FILE_NAME)) {
+            reader.seek(100);
+            final ByteBuffer positional = ByteBuffer.allocate(8_000);
+            assertEquals(8_000, reader.read(5_000, positional));
+            assertArrayEquals(Arrays.copyOfRange(DATA, 5_000, 13_000),
+                    positional.array());
+            assertEquals(DATA[100] & 0xFF, reader.read());
+
+            final ByteBuffer tail = ByteBuffer.allocateDirect(64);
+            assertEquals(10, reader.read(DATA.length - 10, tail));
+            assertEquals(DATA[DATA.length - 1], tail.get(9));
+            assertEquals(-1, reader.read(DATA.length, tail));
+        }
+    }
+
+    private static void writeData(final Directory directory) {
+        final ByteSequence head = ByteSequences.viewOf(DATA, 0, 12_000);
+        final ByteSequence middle = ByteSequences.viewOf(DATA, 12_000,
+                19_000);
+        final ByteBuffer tail = ByteBuffer.allocateDirect(1_000)
+                .put(DATA, 19_000, 1_000).flip();
+        try (FileWriter writer = directory.getFileWriter(FILE_NAME,
+                Directory.Access.OVERWRITE, 1024)) {
+            writer.write(ConcatenatedByteSequence.of(head.slice(0, 100),
+                    head.slice(100, 12_000)));
+            writer.write(middle.slice(0, 500));
+            writer.write(middle.slice(500, 7_000));
+            writer.write(tail);
+            assertEquals(0, tail.remaining());
+        }
+    }
+
+    private static byte[] buildData(final int length) {
+        final byte[] data = new byte[length];
+        for (int i = 0; i < length; i++) {
+            data[i] = (byte) (i * 7 + i / 256);
+        }
+        return data;
+    }
+}
@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
+import java.nio.ByteBuffer;
 
 import org.hestiastore.index.IndexException;
 import org.junit.jupiter.api.AfterEach;
@@ -77,4 +78,26 @@ class FsDirectoryTest {
         assertEquals(String.format("Unable to list directory '%s'.",
                 tempDir.getAbsolutePath()), exception.getMessage());
     }
+
+    @Test
+    void test_mapReadOnly_maps_whole_file() {
+        try (FileWriter fw = directory.getFileWriter("data")) {
+            fw.write(new byte[] { 1, 2, 3 });
+        }
+
+        final ByteBuffer mapped = directory.mapReadOnly("data").orElseThrow();
+
+        assertTrue(mapped.isReadOnly());
+        assertEquals(3, mapped.capacity());
+        assertEquals(3, mapped.get(2));
+        // The mapping outlives the file it was taken from.
+        assertTrue(directory.deleteFile("data"));
+        assertEquals(1, mapped.get(0));
+    }
+
+    @Test
+    void test_mapReadOnly_rejects_missing_file() {
+        assertThrows(IndexException.class,
+                () -> directory.mapReadOnly("missing"));
+    }
 }
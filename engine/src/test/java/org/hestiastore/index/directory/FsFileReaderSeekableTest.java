@@ -81,6 +81,29 @@ class FsFileReaderSeekableTest {
         test_create_empty_file_file(dir);
     }
 
+    @Test
+    void test_buffered_reads_follow_seek_and_skip_fs() {
+        final Directory dir = new FsDirectory(tempDir);
+        try (FileWriter fw = dir.getFileWriter(FILE_NAME)) {
+            fw.write(TEXT_LONG);
+        }
+
+        try (FileReaderSeekable fr = dir.getFileReaderSeekable(FILE_NAME)) {
+            for (int i = 0; i < 5; i++) {
+                assertEquals(TEXT_LONG[i], (byte) fr.read());
+            }
+            fr.skip(10);
+            assertEquals(TEXT_LONG[15], (byte) fr.read());
+            fr.seek(TEXT_LONG.length - 3);
+            final byte[] tail = new byte[10];
+            assertEquals(3, fr.read(tail));
+            assertEquals(TEXT_LONG[TEXT_LONG.length - 1], tail[2]);
+            assertEquals(-1, fr.read());
+            fr.seek(1);
+            assertEquals(TEXT_LONG[1], (byte) fr.read());
+        }
+    }
+
     private void test_overwrite_file(final Directory dir) {
         // Write data
         try (FileWriter fw = dir.getFileWriter(FILE_NAME)) {
@@ -0,0 +1,113 @@
+package org.hestiastore.index.directory;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+
+import org.hestiastore.index.IndexException;
+import org.hestiastore.index.bytes.ByteSequence;
+import org.hestiastore.index.bytes.ByteSequenceBuffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FsMmapDirectoryTest {
+
+    private static final String FILE_NAME = "index.sst";
+
+    private static final byte[] DATA = "abcdefghij"
+            .getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    private File tempDir;
+
+    private FsMmapDirectory directory;
+
+    @BeforeEach
+    void setUp() {
+        directory = new FsMmapDirectory(tempDir);
+        try (FileWriter writer = directory.getFileWriter(FILE_NAME)) {
+            writer.write(DATA);
+        }
+    }
+
+    @Test
+    void test_seekable_reader_reads_seeks_and_skips() {
+        try (FileReaderSeekable reader = directory
+                .getFileReaderSeekable(FILE_NAME)) {
+            assertTrue(reader instanceof FsMmapFileReaderSeekable);
+            assertEquals('a', reader.read());
+            reader.skip(2);
+            final byte[] bytes = new byte[3];
+            assertEquals(3, reader.read(bytes));
+            assertArrayEquals("def".getBytes(StandardCharsets.UTF_8), bytes);
+            reader.seek(8);
+            assertEquals(2, reader.read(new byte[5]));
+            assertEquals(-1, reader.read());
+            assertEquals(-1, reader.read(bytes));
+            assertThrows(IndexException.class, () -> reader.skip(1));
+        }
+    }
+
+    @Test
+    void test_read_sequence_returns_view_of_mapping() {
+        try (FileReaderSeekable reader = directory
+                .getFileReaderSeekable(FILE_NAME)) {
+            reader.seek(2);
+            final ByteSequence sequence = reader.readSequence(4);
+            assertTrue(sequence instanceof ByteSequenceBuffer);
+            assertArrayEquals("cdef".getBytes(StandardCharsets.UTF_8),
+                    sequence.toByteArray());
+
+            assertEquals(4, reader.readSequence(100).length());
+            assertTrue(reader.readSequence(1).isEmpty());
+        }
+    }
+
+    @Test
+    void test_supplier_cursors_share_mapping_and_outlive_close() {
+        final FileReaderSeekableSupplier supplier = directory
+                .getFileReaderSeekableSupplier(FILE_NAME);
+        final FileReaderSeekable first = supplier.get();
+        final FileReaderSeekable second = supplier.get();
+        second.seek(5);
+        assertEquals('a', first.read());
+        assertEquals('f', second.read());
+        final ByteSequence sequence = first.readSequence(3);
+
+        supplier.close();
+
+        assertThrows(IllegalStateException.class, supplier::get);
+        assertEquals('g', second.read());
+        assertArrayEquals("bcd".getBytes(StandardCharsets.UTF_8),
+                sequence.toByteArray());
+        first.close();
+        second.close();
+    }
+
+    @Test
+    void test_reader_of_missing_file_fails() {
+        assertThrows(IndexException.class,
+                () -> directory.getFileReaderSeekable("missing"));
+        assertThrows(IndexException.class,
+                () -> directory.getFileReaderSeekableSupplier("missing"));
+    }
+
+    @Test
+    void test_empty_file_and_subdirectory() {
+        final Directory subDirectory = directory.openSubDirectory("child");
+        subDirectory.touch("empty");
+
+        try (FileReaderSeekable reader = subDirectory
+                .getFileReaderSeekable("empty")) {
+            assertTrue(reader instanceof FsMmapFileReaderSeekable);
+            assertEquals(-1, reader.read());
+            assertTrue(reader.readSequence(10).isEmpty());
+        }
+        assertTrue(subDirectory.mapReadOnly("empty").isPresent());
+    }
+}
@@ -1,12 +1,17 @@
 package org.hestiastore.index.directory;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
+import java.nio.file.Files;
+import java.util.Arrays;
 
 import org.hestiastore.index.IndexException;
+import org.hestiastore.index.directory.Directory.Access;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -56,6 +61,79 @@ class FsNioDirectoryTest {
         assertFalse(directory.rmdir("sub"));
     }
 
+    @Test
+    void test_buffered_writer_and_reader_round_trip() throws Exception {
+        final byte[] data = sampleData(1000);
+        try (FileWriter fw = directory.getFileWriter("data",
+                Access.OVERWRITE, 64)) {
+            for (int i = 0; i < 100; i++) {
+                fw.write(data[i]);
+            }
+            fw.write(data, 100, 20);
+            fw.write(Arrays.copyOfRange(data, 120, 500));
+            fw.write(data, 500, 500);
+        }
+        assertArrayEquals(data,
+                Files.readAllBytes(new File(tempDir, "data").toPath()));
+
+        try (FileReader fr = directory.getFileReader("data", 64)) {
+            final byte[] read = new byte[data.length + 100];
+            for (int i = 0; i < 10; i++) {
+                read[i] = (byte) fr.read();
+            }
+            assertEquals(30, fr.read(read, 10, 30));
+            fr.skip(60);
+            Arrays.fill(read, 40, 100, (byte) 0);
+            System.arraycopy(data, 40, read, 40, 60);
+            assertEquals(200, fr.read(read, 100, 200));
+            assertEquals(700, fr.read(read, 300, 800));
+            assertArrayEquals(data, Arrays.copyOf(read, data.length));
+            assertEquals(-1, fr.read());
+            assertEquals(-1, fr.read(read));
+        }
+    }
+
+    @Test
+    void test_append_keeps_existing_content() throws Exception {
+        try (FileWriter fw = directory.getFileWriter("data")) {
+            fw.write("abc".getBytes());
+        }
+        try (FileWriter fw = directory.getFileWriter("data", Access.APPEND,
+                2)) {
+            fw.write("defg".getBytes());
+            fw.write((byte) 'h');
+        }
+
+        assertArrayEquals("abcdefgh".getBytes(),
+                Files.readAllBytes(new File(tempDir, "data").toPath()));
+    }
+
+    @Test
+    void test_heap_buffers_round_trip_through_subdirectory() {
+        final Directory subDirectory = new FsNioDirectory(tempDir, false)
+                .openSubDirectory("child");
+        final byte[] data = sampleData(10_000);
+        try (FileWriter fw = subDirectory.getFileWriter("data")) {
+            fw.write(data);
+        }
+
+        try (FileReaderSeekable reader = subDirectory
+                .getFileReaderSeekable("data")) {
+            reader.seek(9_000);
+            final byte[] tail = new byte[1_000];
+            assertEquals(1_000, reader.read(tail));
+            assertArrayEquals(Arrays.copyOfRange(data, 9_000, 10_000), tail);
+        }
+    }
+
+    private static byte[] sampleData(final int length) {
+        final byte[] data = new byte[length];
+        for (int i = 0; i < length; i++) {
+            data[i] = (byte) (i * 31);
+        }
+        return data;
+    }
+
     @Test
     void test_open_subdirectory_rejects_file_conflict() {
         try (FileWriter fw = directory.getFileWriter("sub")) {
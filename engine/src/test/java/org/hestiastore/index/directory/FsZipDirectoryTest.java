@@ -29,6 +29,15 @@ class FsZipDirectoryTest {
         directory = null;
     }
 
+    @Test
+    void test_mapReadOnly_is_not_supported_for_compressed_files() {
+        try (FileWriter fw = directory.getFileWriter("data")) {
+            fw.write("x".getBytes());
+        }
+
+        assertTrue(directory.mapReadOnly("data").isEmpty());
+    }
+
     @Test
     void test_open_subdirectory_creates_when_missing() {
         final Directory subDirectory = directory.openSubDirectory("child");
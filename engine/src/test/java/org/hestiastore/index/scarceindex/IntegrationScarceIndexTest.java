@@ -1,38 +1,43 @@
 package org.hestiastore.index.scarceindex;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Collections;
 import java.util.List;
 
 import org.hestiastore.index.Entry;
+import org.hestiastore.index.datatype.TypeDescriptorInteger;
 import org.hestiastore.index.datatype.TypeDescriptorShortString;
 import org.hestiastore.index.directory.MemDirectory;
+import org.hestiastore.index.sorteddatafile.SortedDataFile;
 import org.junit.jupiter.api.Test;
 
 class IntegrationScarceIndexTest {
 
     private static final String FILE_NAME = "pok.dat";
+    private static final String LEGACY_FILE_NAME = "pok-legacy.dat";
     private final TypeDescriptorShortString stringTd = new TypeDescriptorShortString();
 
-    private static final Entry<String, Integer> P_BBB_1 = Entry.of("bbb", 13);
-    private static final Entry<String, Integer> P_BBB_2 = Entry.of("bbb", 1);
-    private static final Entry<String, Integer> P_CCC_1 = Entry.of("ccc", 2);
-    private static final Entry<String, Integer> P_CCC_2 = Entry.of("ccc", 3);
-    private static final Entry<String, Integer> P_DDD = Entry.of("ddd", 3);
-    private static final Entry<String, Integer> P_EEE = Entry.of("eee", 4);
-    private static final Entry<String, Integer> P_FFF_1 = Entry.of("fff", 4);
-    private static final Entry<String, Integer> P_FFF_2 = Entry.of("fff", 5);
+    private static final Entry<String, Long> P_BBB_1 = Entry.of("bbb", 13L);
+    private static final Entry<String, Long> P_BBB_2 = Entry.of("bbb", 1L);
+    private static final Entry<String, Long> P_CCC_1 = Entry.of("ccc", 2L);
+    private static final Entry<String, Long> P_CCC_2 = Entry.of("ccc", 3L);
+    private static final Entry<String, Long> P_DDD = Entry.of("ddd", 3L);
+    private static final Entry<String, Long> P_EEE = Entry.of("eee", 4L);
+    private static final Entry<String, Long> P_FFF_1 = Entry.of("fff", 4L);
+    private static final Entry<String, Long> P_FFF_2 = Entry.of("fff", 5L);
 
     @Test
     void test_one_key() {
         final ScarceSegmentIndex<String> index = makeIndex(List.of(P_BBB_1));
 
-        assertEquals(13, index.get("bbb"));
-        assertNull(index.get("ddd"));
-        assertNull(index.get("ccc"));
+        assertEquals(13L, index.findPosition("bbb"));
+        assertEquals(ScarceSegmentIndex.NOT_FOUND, index.findPosition("ddd"));
+        assertEquals(ScarceSegmentIndex.NOT_FOUND, index.findPosition("ccc"));
 
         assertEquals("bbb", index.getMinKey());
         assertEquals("bbb", index.getMaxKey());
@@ -43,9 +48,9 @@ class IntegrationScarceIndexTest {
         final ScarceSegmentIndex<String> index = makeIndex(
                 Collections.emptyList());
 
-        assertNull(index.get("aaa"));
-        assertNull(index.get("bbb"));
-        assertNull(index.get("ccc"));
+        assertEquals(ScarceSegmentIndex.NOT_FOUND, index.findPosition("aaa"));
+        assertEquals(ScarceSegmentIndex.NOT_FOUND, index.findPosition("bbb"));
+        assertEquals(ScarceSegmentIndex.NOT_FOUND, index.findPosition("ccc"));
 
         assertNull(index.getMinKey());
         assertNull(index.getMaxKey());
@@ -56,27 +61,27 @@ class IntegrationScarceIndexTest {
         final ScarceSegmentIndex<String> index = makeIndex(
                 List.of(P_BBB_2, P_CCC_1, P_DDD, P_EEE, P_FFF_2));
 
-        assertEquals(1, index.get("aaa"));
-        assertEquals(1, index.get("bbb"));
-        assertEquals(2, index.get("ccc"));
-        assertEquals(3, index.get("ccd"));
-        assertEquals(3, index.get("cee"));
-        assertEquals(5, index.get("fff"));
-        assertNull(index.get("ggg"));
+        assertEquals(1L, index.findPosition("aaa"));
+        assertEquals(1L, index.findPosition("bbb"));
+        assertEquals(2L, index.findPosition("ccc"));
+        assertEquals(3L, index.findPosition("ccd"));
+        assertEquals(3L, index.findPosition("cee"));
+        assertEquals(5L, index.findPosition("fff"));
+        assertEquals(ScarceSegmentIndex.NOT_FOUND, index.findPosition("ggg"));
         assertEquals("bbb", index.getMinKey());
         assertEquals("fff", index.getMaxKey());
     }
 
     @Test
     void test_insert_duplicite_keys() {
-        final List<Entry<String, Integer>> entries = List.of(P_BBB_2, P_CCC_1,
+        final List<Entry<String, Long>> entries = List.of(P_BBB_2, P_CCC_1,
                 P_CCC_2, P_EEE, P_FFF_2);
         assertThrows(IllegalArgumentException.class, () -> makeIndex(entries));
     }
 
     @Test
     void test_sanity_check() {
-        final List<Entry<String, Integer>> entries = List.of(P_BBB_2, P_CCC_1,
+        final List<Entry<String, Long>> entries = List.of(P_BBB_2, P_CCC_1,
                 P_DDD, P_EEE, P_FFF_1);
         assertThrows(IllegalStateException.class, () -> makeIndex(entries));
     }
@@ -90,13 +95,56 @@ class IntegrationScarceIndexTest {
             writer.write(P_BBB_2);
         });
 
-        assertEquals(1, index.get("aaa"));
-        assertEquals(1, index.get("bbb"));
-        assertNull(index.get("ccc"));
+        assertEquals(1L, index.findPosition("aaa"));
+        assertEquals(1L, index.findPosition("bbb"));
+        assertEquals(ScarceSegmentIndex.NOT_FOUND, index.findPosition("ccc"));
+    }
+
+    @Test
+    void test_positions_beyond_int_range() {
+        final long position = 5L * Integer.MAX_VALUE;
+        final ScarceSegmentIndex<String> index = makeIndex(List
+                .of(Entry.of("bbb", 0L), Entry.of("ccc", position)));
+
+        assertEquals(position, index.findPosition("bbc"));
+        assertEquals(List.of(Entry.of("ccc", position)),
+                index.getChunks("ccc", null));
+    }
+
+    @Test
+    void test_legacy_int_positions_are_read_until_rewritten() {
+        final MemDirectory directory = new MemDirectory();
+        final SortedDataFile<String, Integer> legacyFile = SortedDataFile
+                .<String, Integer>builder()//
+                .withDirectory(directory)//
+                .withFileName(LEGACY_FILE_NAME)//
+                .withKeyTypeDescriptor(stringTd)//
+                .withValueTypeDescriptor(new TypeDescriptorInteger())//
+                .build();
+        legacyFile.openWriterTx().execute(writer -> {
+            writer.write(Entry.of("bbb", 0));
+            writer.write(Entry.of("ddd", 4096));
+        });
+
+        final ScarceSegmentIndex<String> index = ScarceSegmentIndex
+                .<String>builder()//
+                .withDirectory(directory)//
+                .withFileName(FILE_NAME)//
+                .withLegacyFileName(LEGACY_FILE_NAME)//
+                .withKeyTypeDescriptor(stringTd)//
+                .build();
+        assertEquals(4096L, index.findPosition("ccc"));
+
+        index.openWriterTx().execute(writer -> writer.write(P_BBB_2));
+
+        assertFalse(directory.isFileExists(LEGACY_FILE_NAME));
+        assertTrue(directory.isFileExists(FILE_NAME));
+        assertEquals(1L, index.findPosition("aaa"));
+        assertEquals(ScarceSegmentIndex.NOT_FOUND, index.findPosition("ccc"));
     }
 
     private ScarceSegmentIndex<String> makeIndex(
-            final List<Entry<String, Integer>> entries) {
+            final List<Entry<String, Long>> entries) {
         final MemDirectory directory = new MemDirectory();
         final ScarceSegmentIndex<String> index = ScarceSegmentIndex
                 .<String>builder()
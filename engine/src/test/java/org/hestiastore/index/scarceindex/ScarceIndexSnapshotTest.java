@@ -17,60 +17,79 @@ class ScarceIndexSnapshotTest {
             .naturalOrder();
 
     @Test
-    void test_findSegmentId_returnsMatchingValue() {
+    void test_findPosition_returnsMatchingValue() {
         final ScarceIndexSnapshot<String> snapshot = snapshot(List
-                .of(Entry.of("bbb", 1), Entry.of("ccc", 2), Entry.of("ddd", 3)));
+                .of(Entry.of("bbb", 1L), Entry.of("ccc", 2L), Entry.of("ddd", 3L)));
 
-        assertEquals(1, snapshot.findSegmentId("bbb"));
-        assertEquals(2, snapshot.findSegmentId("ccc"));
-        assertEquals(3, snapshot.findSegmentId("ddd"));
-        assertEquals(3, snapshot.findSegmentId("ccc-suffix"));
+        assertEquals(1L, snapshot.findPosition("bbb"));
+        assertEquals(2L, snapshot.findPosition("ccc"));
+        assertEquals(3L, snapshot.findPosition("ddd"));
+        assertEquals(3L, snapshot.findPosition("ccc-suffix"));
     }
 
     @Test
-    void test_findSegmentId_betweenKeys_returnsUpperSegmentId() {
+    void test_findPosition_betweenKeys_returnsUpperSegmentId() {
         final ScarceIndexSnapshot<String> snapshot = snapshot(List
-                .of(Entry.of("bbb", 1), Entry.of("ddd", 2), Entry.of("fff", 3)));
+                .of(Entry.of("bbb", 1L), Entry.of("ddd", 2L), Entry.of("fff", 3L)));
 
-        assertEquals(2, snapshot.findSegmentId("ccc"));
-        assertEquals(3, snapshot.findSegmentId("eee"));
+        assertEquals(2L, snapshot.findPosition("ccc"));
+        assertEquals(3L, snapshot.findPosition("eee"));
     }
 
     @Test
-    void test_findSegmentId_outOfRange() {
+    void test_findPosition_outOfRange() {
         final ScarceIndexSnapshot<String> snapshot = snapshot(
-                List.of(Entry.of("bbb", 1), Entry.of("ccc", 2)));
+                List.of(Entry.of("bbb", 1L), Entry.of("ccc", 2L)));
 
-        assertEquals(1, snapshot.findSegmentId("aaa"));
-        assertNull(snapshot.findSegmentId("ddd"));
+        assertEquals(1L, snapshot.findPosition("aaa"));
+        assertEquals(ScarceSegmentIndex.NOT_FOUND, snapshot.findPosition("ddd"));
     }
 
     @Test
-    void test_findSegmentId_emptySnapshot() {
+    void test_findPosition_emptySnapshot() {
         final ScarceIndexSnapshot<String> snapshot = snapshot(List.of());
-        assertNull(snapshot.findSegmentId("aaa"));
+        assertEquals(ScarceSegmentIndex.NOT_FOUND, snapshot.findPosition("aaa"));
     }
 
     @Test
-    void test_findSegmentId_singleEntry() {
+    void test_findPosition_singleEntry() {
         final ScarceIndexSnapshot<String> snapshot = snapshot(
-                List.of(Entry.of("bbb", 1)));
+                List.of(Entry.of("bbb", 1L)));
 
-        assertEquals(1, snapshot.findSegmentId("aaa"));
-        assertEquals(1, snapshot.findSegmentId("bbb"));
-        assertNull(snapshot.findSegmentId("ccc"));
+        assertEquals(1L, snapshot.findPosition("aaa"));
+        assertEquals(1L, snapshot.findPosition("bbb"));
+        assertEquals(ScarceSegmentIndex.NOT_FOUND, snapshot.findPosition("ccc"));
     }
 
     @Test
-    void test_findSegmentId_usesProvidedComparator() {
+    void test_findPosition_usesProvidedComparator() {
         final ScarceIndexSnapshot<String> snapshot = new ScarceIndexSnapshot<>(
                 String.CASE_INSENSITIVE_ORDER,
-                List.of(Entry.of("BBB", 1), Entry.of("CCC", 2),
-                        Entry.of("DDD", 3)));
+                List.of(Entry.of("BBB", 1L), Entry.of("CCC", 2L),
+                        Entry.of("DDD", 3L)));
 
-        assertEquals(2, snapshot.findSegmentId("ccc"));
-        assertEquals(1, snapshot.findSegmentId("aaa"));
-        assertNull(snapshot.findSegmentId("zzz"));
+        assertEquals(2L, snapshot.findPosition("ccc"));
+        assertEquals(1L, snapshot.findPosition("aaa"));
+        assertEquals(ScarceSegmentIndex.NOT_FOUND, snapshot.findPosition("zzz"));
+    }
+
+    @Test
+    void test_findChunks_returnsChunksOverlappingRange() {
+        final ScarceIndexSnapshot<String> snapshot = snapshot(List.of(
+                Entry.of("bbb", 0L), Entry.of("ddd", 10L), Entry.of("fff", 20L),
+                Entry.of("hhh", 30L)));
+
+        assertEquals(List.of(Entry.of("ddd", 10L), Entry.of("fff", 20L)),
+                snapshot.findChunks("ccc", "eee"));
+        assertEquals(List.of(Entry.of("ddd", 10L)),
+                snapshot.findChunks("ccc", "ddd"));
+        assertEquals(List.of(Entry.of("bbb", 0L), Entry.of("ddd", 10L)),
+                snapshot.findChunks(null, "ccc"));
+        assertEquals(List.of(Entry.of("fff", 20L), Entry.of("hhh", 30L)),
+                snapshot.findChunks("eee", "zzz"));
+        assertEquals(4, snapshot.findChunks(null, null).size());
+        assertEquals(List.of(), snapshot.findChunks("iii", null));
+        assertEquals(List.of(), snapshot(List.of()).findChunks(null, null));
     }
 
     @Test
@@ -85,18 +104,18 @@ class ScarceIndexSnapshotTest {
 
     @Test
     void test_constructor_copiesInputEntries() {
-        final List<Entry<String, Integer>> source = new ArrayList<>();
-        source.add(Entry.of("bbb", 1));
-        source.add(Entry.of("ccc", 2));
+        final List<Entry<String, Long>> source = new ArrayList<>();
+        source.add(Entry.of("bbb", 1L));
+        source.add(Entry.of("ccc", 2L));
         final ScarceIndexSnapshot<String> snapshot = snapshot(source);
 
         source.clear();
-        source.add(Entry.of("aaa", 999));
+        source.add(Entry.of("aaa", 999L));
 
         assertEquals(2, snapshot.getKeyCount());
         assertEquals("bbb", snapshot.getMinKey());
         assertEquals("ccc", snapshot.getMaxKey());
-        assertEquals(List.of(Entry.of("bbb", 1), Entry.of("ccc", 2)),
+        assertEquals(List.of(Entry.of("bbb", 1L), Entry.of("ccc", 2L)),
                 snapshot.getSegments().toList());
     }
 
@@ -108,23 +127,23 @@ class ScarceIndexSnapshotTest {
 
     @Test
     void test_constructor_requiresComparator() {
-        final List<Entry<String, Integer>> entries = List.of();
+        final List<Entry<String, Long>> entries = List.of();
 
         assertThrows(IllegalArgumentException.class,
                 () -> new ScarceIndexSnapshot<>(null, entries));
     }
 
     @Test
-    void test_findSegmentId_nullKey() {
+    void test_findPosition_nullKey() {
         final ScarceIndexSnapshot<String> snapshot = snapshot(
-                List.of(Entry.of("bbb", 1)));
+                List.of(Entry.of("bbb", 1L)));
 
         assertThrows(IllegalArgumentException.class,
-                () -> snapshot.findSegmentId(null));
+                () -> snapshot.findPosition(null));
     }
 
     private ScarceIndexSnapshot<String> snapshot(
-            final List<Entry<String, Integer>> entries) {
+            final List<Entry<String, Long>> entries) {
         return new ScarceIndexSnapshot<>(COMPARATOR, entries);
     }
 
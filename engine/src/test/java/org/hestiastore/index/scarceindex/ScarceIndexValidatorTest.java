@@ -21,7 +21,7 @@ class ScarceIndexValidatorTest {
                 COMPARATOR);
         final ScarceIndexSnapshot<String> snapshot = new ScarceIndexSnapshot<>(
                 COMPARATOR,
-                List.of(Entry.of("a", 1), Entry.of("b", 2), Entry.of("c", 3)));
+                List.of(Entry.of("a", 1L), Entry.of("b", 2L), Entry.of("c", 3L)));
 
         final List<String> messages = new ArrayList<>();
         final boolean result = validator.validate(snapshot, messages::add);
@@ -36,7 +36,7 @@ class ScarceIndexValidatorTest {
                 COMPARATOR);
         final ScarceIndexSnapshot<String> snapshot = new ScarceIndexSnapshot<>(
                 COMPARATOR,
-                List.of(Entry.of("b", 2), Entry.of("a", 3), Entry.of("c", 1)));
+                List.of(Entry.of("b", 2L), Entry.of("a", 3L), Entry.of("c", 1L)));
 
         final List<String> messages = new ArrayList<>();
         final boolean result = validator.validate(snapshot, messages::add);
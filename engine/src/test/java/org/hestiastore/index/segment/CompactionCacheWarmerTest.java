@@ -0,0 +1,99 @@
+package org.hestiastore.index.segment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Comparator;
+import java.util.List;
+
+import org.hestiastore.index.Entry;
+import org.hestiastore.index.chunkentryfile.ChunkEntryFileWriter;
+import org.hestiastore.index.chunkstorecache.ChunkStoreCacheKey;
+import org.hestiastore.index.chunkstorecache.LruChunkStoreCache;
+import org.hestiastore.index.chunkstorecache.ParsedChunkPage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CompactionCacheWarmerTest {
+
+    private static final String OWNER_ID = "segment-00001";
+    private static final Comparator<Integer> COMPARATOR = Integer::compareTo;
+
+    @Mock
+    private ChunkEntryFileWriter<Integer, String> indexWriter;
+
+    @Test
+    void capture_is_inactive_when_warming_is_off() {
+        final LruChunkStoreCache<Integer, String> cache = new LruChunkStoreCache<>(
+                10, 0L, false, false);
+        cache.putPage(ChunkStoreCacheKey.of(OWNER_ID, 1L, 0L), page(1, 2));
+
+        assertFalse(CompactionCacheWarmer
+                .capture(cache, OWNER_ID, 1L, 2L, COMPARATOR).isActive());
+    }
+
+    @Test
+    void capture_is_inactive_without_cached_pages() {
+        final LruChunkStoreCache<Integer, String> cache = new LruChunkStoreCache<>(
+                10, 0L, false, true);
+        cache.putPage(ChunkStoreCacheKey.of("segment-00002", 1L, 0L),
+                page(1, 2));
+        cache.putPage(ChunkStoreCacheKey.of(OWNER_ID, 0L, 0L), page(1, 2));
+
+        assertFalse(CompactionCacheWarmer
+                .capture(cache, OWNER_ID, 1L, 2L, COMPARATOR).isActive());
+    }
+
+    @Test
+    void onChunkWritten_caches_only_chunks_overlapping_hot_pages() {
+        final LruChunkStoreCache<Integer, String> cache = new LruChunkStoreCache<>(
+                10, 0L, false, true);
+        cache.putPage(ChunkStoreCacheKey.of(OWNER_ID, 1L, 300L),
+                page(40, 45));
+        cache.putPage(ChunkStoreCacheKey.of(OWNER_ID, 1L, 0L), page(10, 15));
+        final CompactionCacheWarmer<Integer, String> warmer = CompactionCacheWarmer
+                .capture(cache, OWNER_ID, 1L, 2L, COMPARATOR);
+        final ParsedChunkPage<Integer, String> written = page(12, 20);
+        when(indexWriter.getLastChunkPage(false)).thenReturn(written);
+
+        assertTrue(warmer.isActive());
+        warmer.onChunkWritten(1, 9, 0L, indexWriter);
+        warmer.onChunkWritten(12, 20, 100L, indexWriter);
+        warmer.onChunkWritten(21, 39, 200L, indexWriter);
+        warmer.onChunkWritten(46, 50, 300L, indexWriter);
+
+        assertEquals(1L, warmer.getWarmedPageCount());
+        final List<ParsedChunkPage<Integer, String>> warmed = cache
+                .getCachedPages(OWNER_ID, 2L);
+        assertEquals(1, warmed.size());
+        assertSame(written, warmed.get(0));
+        assertSame(written, cache.getPage(
+                ChunkStoreCacheKey.of(OWNER_ID, 2L, 100L), () -> {
+                    throw new AssertionError("Page should be cached");
+                }));
+    }
+
+    @Test
+    void disabled_warmer_caches_nothing() {
+        final CompactionCacheWarmer<Integer, String> warmer = CompactionCacheWarmer
+                .disabled();
+
+        assertFalse(warmer.isActive());
+        assertEquals(0L, warmer.getWarmedPageCount());
+        verify(indexWriter, never()).getLastChunkPage(false);
+    }
+
+    private static ParsedChunkPage<Integer, String> page(final int firstKey,
+            final int lastKey) {
+        return ParsedChunkPage.of(List.of(Entry.of(firstKey, "v" + firstKey),
+                Entry.of(lastKey, "v" + lastKey)));
+    }
+}
@@ -0,0 +1,69 @@
+package org.hestiastore.index.segment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.hestiastore.index.Entry;
+import org.hestiastore.index.chunkstorecache.ParsedChunkPage;
+import org.hestiastore.index.datatype.TypeDescriptorInteger;
+import org.junit.jupiter.api.Test;
+
+class DescendingIndexIteratorTest {
+
+    private static final TypeDescriptorInteger TD_INTEGER = new TypeDescriptorInteger();
+
+    private final Map<Long, ParsedChunkPage<Integer, String>> pages = Map.of(
+            0L, ParsedChunkPage.of(List.of(Entry.of(1, "a"), Entry.of(2, "b"))),
+            100L, ParsedChunkPage.of(List.of(Entry.of(3, "c"), Entry.of(4, "d"),
+                    // spill-over from the following chunk must be ignored
+                    Entry.of(5, "e"))),
+            200L, ParsedChunkPage.of(List.of(Entry.of(5, "e"))));
+
+    @Test
+    void returnsChunksFromLastToFirstWithEntriesReversed() {
+        final List<Long> loaded = new ArrayList<>();
+        try (DescendingIndexIterator<Integer, String> iterator = new DescendingIndexIterator<>(
+                List.of(Entry.of(2, 0L), Entry.of(4, 100L), Entry.of(5, 200L)),
+                position -> {
+                    loaded.add(position);
+                    return pages.get(position);
+                }, TD_INTEGER.getComparator())) {
+            final List<Entry<Integer, String>> out = new ArrayList<>();
+            while (iterator.hasNext()) {
+                out.add(iterator.next());
+            }
+
+            assertEquals(List.of(Entry.of(5, "e"), Entry.of(4, "d"),
+                    Entry.of(3, "c"), Entry.of(2, "b"), Entry.of(1, "a")), out);
+            assertEquals(List.of(200L, 100L, 0L), loaded);
+        }
+    }
+
+    @Test
+    void loadsChunksLazily() {
+        final List<Long> loaded = new ArrayList<>();
+        try (DescendingIndexIterator<Integer, String> iterator = new DescendingIndexIterator<>(
+                List.of(Entry.of(2, 0L), Entry.of(4, 100L)), position -> {
+                    loaded.add(position);
+                    return pages.get(position);
+                }, TD_INTEGER.getComparator())) {
+            assertEquals(Entry.of(4, "d"), iterator.next());
+            assertEquals(List.of(100L), loaded);
+        }
+    }
+
+    @Test
+    void emptyChunkListHasNoEntries() {
+        try (DescendingIndexIterator<Integer, String> iterator = new DescendingIndexIterator<>(
+                List.of(), pages::get, TD_INTEGER.getComparator())) {
+            assertFalse(iterator.hasNext());
+            assertThrows(NoSuchElementException.class, iterator::next);
+        }
+    }
+}
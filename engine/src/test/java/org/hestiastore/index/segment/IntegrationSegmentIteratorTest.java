@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -88,6 +89,30 @@ class IntegrationSegmentIteratorTest extends AbstractSegmentTest {
         verifySegmentSearch(segment, resultData);
     }
 
+    @Test
+    void test_descending_iterator_merges_index_and_delta_cache_in_reverse() {
+        assertEquals(Arrays.asList(Entry.of("e", 28), Entry.of("c", 40),
+                Entry.of("a", 25)), readDescending(null, null));
+        assertEquals(Arrays.asList(Entry.of("c", 40), Entry.of("a", 25)),
+                readDescending("a", "d"));
+        assertEquals(Arrays.asList(Entry.of("e", 28)),
+                readDescending("d", null));
+        assertEquals(List.of(), readDescending("f", "z"));
+    }
+
+    private List<Entry<String, Integer>> readDescending(final String from,
+            final String to) {
+        final OperationResult<EntryIterator<String, Integer>> result = segment
+                .openDescendingIterator(from, to,
+                        SegmentIteratorIsolation.FAIL_FAST);
+        assertEquals(OperationStatus.OK, result.getStatus());
+        final List<Entry<String, Integer>> out = new ArrayList<>();
+        try (EntryIterator<String, Integer> iterator = result.getValue()) {
+            iterator.forEachRemaining(out::add);
+        }
+        return out;
+    }
+
     @Test
     void test_case_5_compact_after_addding_entry() {
         final OperationResult<EntryIterator<String, Integer>> result = segment
@@ -16,9 +16,12 @@ import org.hestiastore.index.AbstractDataTest;
 import org.hestiastore.index.Entry;
 import org.hestiastore.index.chunkstore.ChunkFilterCrc32Validation;
 import org.hestiastore.index.chunkstore.ChunkFilterCrc32Writing;
+import org.hestiastore.index.chunkstore.ChunkFilterDeflateDictionaryCompress;
+import org.hestiastore.index.chunkstore.ChunkFilterDeflateDictionaryDecompress;
 import org.hestiastore.index.chunkstore.ChunkFilterDoNothing;
 import org.hestiastore.index.chunkstore.ChunkFilterMagicNumberValidation;
 import org.hestiastore.index.chunkstore.ChunkFilterMagicNumberWriting;
+import org.hestiastore.index.chunkstorecache.LruChunkStoreCache;
 import org.hestiastore.index.datatype.TypeDescriptorInteger;
 import org.hestiastore.index.datatype.TypeDescriptorShortString;
 import org.hestiastore.index.directory.Directory;
@@ -571,6 +574,282 @@ class IntegrationSegmentTest extends AbstractSegmentTest {
         }
     }
 
+    @Test
+    void auto_sized_bloom_filter_parameters_are_recorded_by_compaction() {
+        final Directory directory = new MemDirectory();
+        final SegmentId id = SegmentId.of(27);
+        final Segment<Integer, String> seg = newAutoSizedSegment(directory,
+                id);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(OperationStatus.OK,
+                    seg.put(i * 2, "Ahoj").getStatus());
+        }
+        assertEquals(OperationStatus.OK, seg.flush().getStatus());
+        assertEquals(OperationStatus.OK, seg.compact().getStatus());
+
+        final SegmentPropertiesManager properties = new SegmentPropertiesManager(
+                directory, id);
+        assertEquals(1199, properties.getBloomFilterIndexSizeInBytes());
+        assertEquals(7, properties.getBloomFilterNumberOfHashFunctions());
+        assertEquals(1199,
+                seg.getRuntimeSnapshot().getBloomFilterIndexSizeInBytes());
+        seg.close();
+
+        final Segment<Integer, String> reopened = newAutoSizedSegment(
+                directory, id);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals("Ahoj", reopened.get(i * 2).getValue());
+        }
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(null, reopened.get(i * 2 + 1).getValue());
+        }
+        final SegmentRuntimeSnapshot snapshot = reopened.getRuntimeSnapshot();
+        assertEquals(7, snapshot.getBloomFilterNumberOfHashFunctions());
+        assertTrue(snapshot.getBloomFilterObservedFalsePositiveRate() < 0.05);
+        reopened.close();
+    }
+
+    @Test
+    void compaction_keeps_hot_chunks_cached_when_warming() {
+        final Directory directory = new MemDirectory();
+        final LruChunkStoreCache<Integer, String> cache = new LruChunkStoreCache<>(
+                100, 0L, false, true);
+        final Segment<Integer, String> seg = Segment
+                .<Integer, String>builder(directory)//
+                .withId(SegmentId.of(29))//
+                .withKeyTypeDescriptor(tdi)//
+                .withValueTypeDescriptor(tds)//
+                .withBloomFilterIndexSizeInBytes(0)//
+                .withMaxNumberOfKeysInSegmentChunk(16)//
+                .withChunkStoreCache(cache)//
+                .withMaintenancePolicy(SegmentMaintenancePolicy.none())//
+                .withEncodingChunkFilters(
+                        List.of(new ChunkFilterMagicNumberWriting(), //
+                                new ChunkFilterCrc32Writing()))//
+                .withDecodingChunkFilters(
+                        List.of(new ChunkFilterMagicNumberValidation(), //
+                                new ChunkFilterCrc32Validation()))//
+                .build().getValue();
+        for (int i = 0; i < 200; i++) {
+            assertEquals(OperationStatus.OK,
+                    seg.put(i * 2, "Ahoj").getStatus());
+        }
+        assertEquals(OperationStatus.OK, seg.flush().getStatus());
+        assertEquals(OperationStatus.OK, seg.compact().getStatus());
+        assertEquals("Ahoj", seg.get(100).getValue());
+        final long loadsBeforeCompaction = cache.stats().loadCount();
+
+        assertEquals(OperationStatus.OK, seg.put(301, "Cau").getStatus());
+        assertEquals(OperationStatus.OK, seg.flush().getStatus());
+        assertEquals(OperationStatus.OK, seg.compact().getStatus());
+
+        assertEquals("Ahoj", seg.get(100).getValue());
+        assertEquals(loadsBeforeCompaction, cache.stats().loadCount());
+        assertEquals("Cau", seg.get(301).getValue());
+        seg.close();
+    }
+
+    @Test
+    void delta_cache_on_disk_serves_reads_without_loading_deltas() {
+        final Directory directory = new MemDirectory();
+        final SegmentId id = SegmentId.of(30);
+        final Segment<Integer, String> seg = newDeltaCacheOnDiskSegment(
+                directory, id);
+        final List<Entry<Integer, String>> first = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            first.add(Entry.of(i, "a" + i));
+        }
+        writeEntries(seg, first);
+        writeEntries(seg, Arrays.asList(//
+                Entry.of(10, "b10"), //
+                Entry.of(20, tds.getTombstone()), //
+                Entry.of(150, "b150")));
+
+        verifySegmentSearch(seg, Arrays.asList(//
+                Entry.of(5, "a5"), //
+                Entry.of(10, "b10"), //
+                Entry.of(20, null), //
+                Entry.of(150, "b150"), //
+                Entry.of(151, null)));
+        assertEquals(2, seg.getRuntimeSnapshot().getNumberOfDeltaCacheFiles());
+        seg.close();
+
+        final Segment<Integer, String> reopened = newDeltaCacheOnDiskSegment(
+                directory, id);
+        final List<Entry<Integer, String>> expected = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            if (i == 10) {
+                expected.add(Entry.of(i, "b10"));
+            } else if (i != 20) {
+                expected.add(Entry.of(i, "a" + i));
+            }
+        }
+        expected.add(Entry.of(150, "b150"));
+        verifySegmentSearch(reopened, Arrays.asList(//
+                Entry.of(10, "b10"), //
+                Entry.of(20, null), //
+                Entry.of(99, "a99")));
+        verifySegmentData(reopened, expected);
+
+        assertEquals(OperationStatus.OK, reopened.compact().getStatus());
+        assertEquals(0,
+                reopened.getRuntimeSnapshot().getNumberOfDeltaCacheFiles());
+        verifySegmentData(reopened, expected);
+        verifySegmentSearch(reopened, Arrays.asList(//
+                Entry.of(10, "b10"), //
+                Entry.of(20, null), //
+                Entry.of(150, "b150")));
+        reopened.close();
+    }
+
+    private Segment<Integer, String> newDeltaCacheOnDiskSegment(
+            final Directory directory, final SegmentId id) {
+        return Segment.<Integer, String>builder(directory)//
+                .withId(id)//
+                .withKeyTypeDescriptor(tdi)//
+                .withValueTypeDescriptor(tds)//
+                .withBloomFilterIndexSizeInBytes(0)//
+                .withMaxNumberOfKeysInSegmentChunk(8)//
+                .withDeltaCacheOnDisk(true)//
+                .withMaintenancePolicy(SegmentMaintenancePolicy.none())//
+                .withEncodingChunkFilters(
+                        List.of(new ChunkFilterMagicNumberWriting(), //
+                                new ChunkFilterCrc32Writing()))//
+                .withDecodingChunkFilters(
+                        List.of(new ChunkFilterMagicNumberValidation(), //
+                                new ChunkFilterCrc32Validation()))//
+                .build().getValue();
+    }
+
+    private Segment<Integer, String> newAutoSizedSegment(
+            final Directory directory, final SegmentId id) {
+        return Segment.<Integer, String>builder(directory)//
+                .withId(id)//
+                .withKeyTypeDescriptor(tdi)//
+                .withValueTypeDescriptor(tds)//
+                .withBloomFilterIndexSizeInBytes(100)//
+                .withBloomFilterNumberOfHashFunctions(2)//
+                .withBloomFilterProbabilityOfFalsePositive(0.01)//
+                .withBloomFilterAutoSized(true)//
+                .withMaxNumberOfKeysInSegmentChunk(16)//
+                .withMaintenancePolicy(SegmentMaintenancePolicy.none())//
+                .withEncodingChunkFilters(
+                        List.of(new ChunkFilterMagicNumberWriting(), //
+                                new ChunkFilterCrc32Writing()))//
+                .withDecodingChunkFilters(
+                        List.of(new ChunkFilterMagicNumberValidation(), //
+                                new ChunkFilterCrc32Validation()))//
+                .build().getValue();
+    }
+
+    @Test
+    void compaction_trains_compression_dictionary_per_version() {
+        final Directory directory = new MemDirectory();
+        final SegmentId id = SegmentId.of(31);
+        final Segment<Integer, String> seg = newDictionarySegment(directory,
+                id);
+        for (int i = 0; i < 600; i++) {
+            assertEquals(OperationStatus.OK,
+                    seg.put(i, dictionaryValue(i)).getStatus());
+        }
+        assertEquals(OperationStatus.OK, seg.flush().getStatus());
+        assertEquals(OperationStatus.OK, seg.compact().getStatus());
+        assertEquals(1L, countDictionaryFiles(directory));
+
+        assertEquals(OperationStatus.OK, seg.put(600, "Cau").getStatus());
+        assertEquals(OperationStatus.OK, seg.flush().getStatus());
+        assertEquals(OperationStatus.OK, seg.compact().getStatus());
+
+        assertEquals(1L, countDictionaryFiles(directory));
+        assertEquals("Cau", seg.get(600).getValue());
+        assertEquals(dictionaryValue(17), seg.get(17).getValue());
+        seg.close();
+
+        final Segment<Integer, String> reopened = newDictionarySegment(
+                directory, id);
+        for (int i = 0; i < 600; i++) {
+            assertEquals(dictionaryValue(i), reopened.get(i).getValue(),
+                    "Invalid value for key " + i);
+        }
+        reopened.close();
+    }
+
+    private Segment<Integer, String> newDictionarySegment(
+            final Directory directory, final SegmentId id) {
+        return Segment.<Integer, String>builder(directory)//
+                .withId(id)//
+                .withKeyTypeDescriptor(tdi)//
+                .withValueTypeDescriptor(tds)//
+                .withBloomFilterIndexSizeInBytes(0)//
+                .withMaxNumberOfKeysInSegmentChunk(16)//
+                .withMaintenancePolicy(SegmentMaintenancePolicy.none())//
+                .withEncodingChunkFilters(
+                        List.of(new ChunkFilterMagicNumberWriting(), //
+                                new ChunkFilterCrc32Writing(), //
+                                new ChunkFilterDeflateDictionaryCompress()))//
+                .withDecodingChunkFilters(
+                        List.of(new ChunkFilterMagicNumberValidation(), //
+                                new ChunkFilterDeflateDictionaryDecompress(), //
+                                new ChunkFilterCrc32Validation()))//
+                .build().getValue();
+    }
+
+    private static String dictionaryValue(final int i) {
+        return "{\"status\":\"ACTIVE\",\"country\":\"CZ\",\"id\":" + i
+                + "}";
+    }
+
+    private static long countDictionaryFiles(final Directory directory) {
+        try (Stream<String> files = directory.getFileNames()) {
+            return files.filter(name -> name.endsWith("-dictionary.bin"))
+                    .count();
+        }
+    }
+
+    @Test
+    void test_search_on_disk_with_chunk_restart_points() {
+        final Directory directory = new MemDirectory();
+        final Segment<Integer, String> seg = Segment
+                .<Integer, String>builder(directory)//
+                .withId(SegmentId.of(28))//
+                .withKeyTypeDescriptor(tdi)//
+                .withBloomFilterIndexSizeInBytes(0)//
+                .withMaxNumberOfKeysInSegmentChunk(100)//
+                .withChunkRestartInterval(16)//
+                .withValueTypeDescriptor(tds)//
+                .withMaintenancePolicy(SegmentMaintenancePolicy.none())//
+                .withEncodingChunkFilters(//
+                        List.of(new ChunkFilterMagicNumberWriting(), //
+                                new ChunkFilterCrc32Writing(), //
+                                new ChunkFilterDoNothing()//
+                        ))//
+                .withDecodingChunkFilters(//
+                        List.of(new ChunkFilterMagicNumberValidation(), //
+                                new ChunkFilterCrc32Validation(), //
+                                new ChunkFilterDoNothing()//
+                        ))//
+                .build().getValue();
+
+        final List<Entry<Integer, String>> entries = new ArrayList<>();
+        for (int i = 0; i < 1000; i += 2) {
+            final Entry<Integer, String> p = Entry.of(i, "value-" + i);
+            assertEquals(OperationStatus.OK,
+                    seg.put(p.getKey(), p.getValue()).getStatus());
+            entries.add(p);
+        }
+        assertEquals(OperationStatus.OK, seg.flush().getStatus());
+        assertEquals(OperationStatus.OK, seg.compact().getStatus());
+
+        AbstractDataTest.verifyIteratorData(entries, seg.openIterator());
+        for (int i = 0; i < 1000; i++) {
+            final OperationResult<String> result = seg.get(i);
+            assertEquals(OperationStatus.OK, result.getStatus(),
+                    "Invalid result status for key " + i);
+            assertEquals(i % 2 == 0 ? "value-" + i : null, result.getValue(),
+                    "Invalid value for key " + i);
+        }
+    }
+
     /**
      * Prepare data for tests. Directory object is shared between parameterized
      * tests.
@@ -0,0 +1,92 @@
+package org.hestiastore.index.segment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.hestiastore.index.Entry;
+import org.hestiastore.index.EntryIterator;
+import org.hestiastore.index.EntryIteratorList;
+import org.hestiastore.index.datatype.TypeDescriptorInteger;
+import org.junit.jupiter.api.Test;
+
+class KeyRangeIteratorTest {
+
+    private static final TypeDescriptorInteger TD_INTEGER = new TypeDescriptorInteger();
+
+    private final List<Entry<Integer, String>> data = List.of(
+            Entry.of(1, "a"), Entry.of(3, "c"), Entry.of(5, "e"),
+            Entry.of(7, "g"), Entry.of(9, "i"));
+
+    @Test
+    void returnsOnlyEntriesInsideHalfOpenRange() {
+        assertEquals(List.of(Entry.of(3, "c"), Entry.of(5, "e")),
+                drain(newIterator(2, 7)));
+    }
+
+    @Test
+    void nullBoundsAreUnbounded() {
+        assertEquals(data, drain(newIterator(null, null)));
+        assertEquals(List.of(Entry.of(7, "g"), Entry.of(9, "i")),
+                drain(newIterator(7, null)));
+        assertEquals(List.of(Entry.of(1, "a")), drain(newIterator(null, 3)));
+    }
+
+    @Test
+    void stopsReadingDelegateAtUpperBound() {
+        final EntryIteratorList<Integer, String> delegate = new EntryIteratorList<>(
+                data);
+        try (KeyRangeIterator<Integer, String> iterator = new KeyRangeIterator<>(
+                delegate, TD_INTEGER.getComparator(), null, 4)) {
+            assertEquals(List.of(Entry.of(1, "a"), Entry.of(3, "c")),
+                    drain(iterator));
+            assertFalse(iterator.hasNext());
+            assertTrue(delegate.hasNext());
+            assertEquals(Entry.of(7, "g"), delegate.next());
+        }
+    }
+
+    @Test
+    void descendingDelegateIsBoundedFromUpperToLowerKey() {
+        final List<Entry<Integer, String>> descendingData = new ArrayList<>(
+                data);
+        Collections.reverse(descendingData);
+        final EntryIteratorList<Integer, String> delegate = new EntryIteratorList<>(
+                descendingData);
+        try (KeyRangeIterator<Integer, String> iterator = new KeyRangeIterator<>(
+                delegate, TD_INTEGER.getComparator(), 3, 9, true)) {
+            assertEquals(List.of(Entry.of(7, "g"), Entry.of(5, "e"),
+                    Entry.of(3, "c")), drain(iterator));
+        }
+    }
+
+    @Test
+    void nextPastEndThrows() {
+        try (KeyRangeIterator<Integer, String> iterator = newIterator(10,
+                20)) {
+            assertFalse(iterator.hasNext());
+            assertThrows(NoSuchElementException.class, iterator::next);
+        }
+    }
+
+    private KeyRangeIterator<Integer, String> newIterator(final Integer from,
+            final Integer to) {
+        return new KeyRangeIterator<>(new EntryIteratorList<>(data),
+                TD_INTEGER.getComparator(), from, to);
+    }
+
+    private static List<Entry<Integer, String>> drain(
+            final EntryIterator<Integer, String> iterator) {
+        final List<Entry<Integer, String>> out = new ArrayList<>();
+        while (iterator.hasNext()) {
+            out.add(iterator.next());
+        }
+        return out;
+    }
+}
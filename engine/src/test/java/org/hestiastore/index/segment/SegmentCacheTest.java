@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
@@ -227,6 +228,23 @@ class SegmentCacheTest {
         assertEquals(3, cache.size());
     }
 
+    @Test
+    void frozenWriteCacheIterator_streams_entries_in_key_order() {
+        final SegmentCache<Integer, String> cache = new SegmentCache<>(
+                keyType.getComparator(), valueType, null, DEFAULT_MAX_BUFFERED,
+                DEFAULT_MAX_DURING_MAINTENANCE, DEFAULT_MAX_SEGMENT_CACHE);
+        for (final int key : new int[] { 42, 7, 19, 3, 7 }) {
+            cache.putToWriteCache(Entry.of(key, "v" + key));
+        }
+        cache.freezeWriteCache();
+
+        final List<Entry<Integer, String>> flushed = new ArrayList<>();
+        cache.frozenWriteCacheIterator().forEachRemaining(flushed::add);
+
+        assertEquals(List.of(Entry.of(3, "v3"), Entry.of(7, "v7"),
+                Entry.of(19, "v19"), Entry.of(42, "v42")), flushed);
+    }
+
     @Test
     void frozenWriteCacheIterator_keeps_snapshot_after_field_is_cleared() {
         final SegmentCache<Integer, String> cache = new SegmentCache<>(
@@ -268,6 +286,28 @@ class SegmentCacheTest {
                 cache.getAsSortedList());
     }
 
+    @Test
+    void mergedDescendingIterator_returns_overridden_entries_in_reverse() {
+        final SegmentCache<Integer, String> cache = new SegmentCache<>(
+                keyType.getComparator(), valueType,
+                List.of(Entry.of(1, "A"), Entry.of(2, "B")),
+                DEFAULT_MAX_BUFFERED, DEFAULT_MAX_DURING_MAINTENANCE,
+                DEFAULT_MAX_SEGMENT_CACHE);
+        cache.putToWriteCache(Entry.of(2, "B2"));
+        cache.putToWriteCache(Entry.of(3, "C"));
+        cache.freezeWriteCache();
+        cache.putToWriteCache(Entry.of(3, "C2"));
+        cache.putToWriteCache(Entry.of(4, "D"));
+
+        final List<Entry<Integer, String>> entries = new ArrayList<>();
+        cache.mergedDescendingIterator().forEachRemaining(entries::add);
+
+        assertEquals(
+                List.of(Entry.of(4, "D"), Entry.of(3, "C2"),
+                        Entry.of(2, "B2"), Entry.of(1, "A")),
+                entries);
+    }
+
     @Test
     void sizeWithoutTombstones_ignores_tombstones_in_frozen_and_write() {
         final SegmentCache<Integer, String> cache = new SegmentCache<>(
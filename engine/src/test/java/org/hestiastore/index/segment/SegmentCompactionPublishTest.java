@@ -70,6 +70,58 @@ class SegmentCompactionPublishTest {
         }
     }
 
+    @Test
+    void read_between_compaction_write_and_publish_uses_active_bloom_filter()
+            throws Exception {
+        final Segment<Integer, String> segment = Segment
+                .<Integer, String>builder(new MemDirectory())//
+                .withId(SegmentId.of(2))//
+                .withKeyTypeDescriptor(KEY_DESCRIPTOR)//
+                .withValueTypeDescriptor(VALUE_DESCRIPTOR)//
+                .withMaxNumberOfKeysInSegmentChunk(16)//
+                .withBloomFilterIndexSizeInBytes(100)//
+                .withBloomFilterNumberOfHashFunctions(2)//
+                .withBloomFilterProbabilityOfFalsePositive(0.01)//
+                .withBloomFilterAutoSized(true)//
+                .withEncodingChunkFilters(
+                        List.of(new ChunkFilterDoNothing()))//
+                .withDecodingChunkFilters(
+                        List.of(new ChunkFilterDoNothing()))//
+                .withMaintenancePolicy(SegmentMaintenancePolicy.none())//
+                .build().getValue();
+        try {
+            for (int i = 0; i < 1000; i++) {
+                assertEquals(OperationStatus.OK,
+                        segment.put(i, "old").getStatus());
+            }
+            assertEquals(OperationStatus.OK, segment.compact().getStatus());
+            for (int i = 1000; i < 3000; i++) {
+                assertEquals(OperationStatus.OK,
+                        segment.put(i, "new").getStatus());
+            }
+
+            final SegmentImpl<Integer, String> impl = (SegmentImpl<Integer, String>) segment;
+            final SegmentCompacter<Integer, String> compacter = getField(impl,
+                    "segmentCompacter");
+            final SegmentCore<Integer, String> core = getField(impl, "core");
+            final SegmentCompacter.CompactionPlan<Integer, String> plan = compacter
+                    .prepareCompactionPlan(core);
+            compacter.writeCompaction(plan);
+
+            // The new filter is committed, the old version is still active.
+            for (int i = 0; i < 1000; i++) {
+                assertEquals("old", segment.get(i).getValue());
+            }
+            compacter.publishCompaction(plan);
+            for (int i = 0; i < 3000; i++) {
+                assertEquals(i < 1000 ? "old" : "new",
+                        segment.get(i).getValue());
+            }
+        } finally {
+            closeAndAssertClosed(segment);
+        }
+    }
+
     @SuppressWarnings("unchecked")
     private static <T> T getField(final Object target, final String fieldName)
             throws Exception {
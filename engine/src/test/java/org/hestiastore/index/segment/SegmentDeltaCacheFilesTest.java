@@ -0,0 +1,365 @@
+package org.hestiastore.index.segment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.hestiastore.index.Entry;
+import org.hestiastore.index.chunkentryfile.ChunkEntryFile;
+import org.hestiastore.index.chunkentryfile.ChunkEntryFileWriter;
+import org.hestiastore.index.chunkentryfile.ChunkEntryFileWriterTx;
+import org.hestiastore.index.chunkstore.ChunkFilterDoNothing;
+import org.hestiastore.index.chunkstore.ChunkStoreFile;
+import org.hestiastore.index.datablockfile.DataBlockSize;
+import org.hestiastore.index.datatype.TypeDescriptorInteger;
+import org.hestiastore.index.datatype.TypeDescriptorShortString;
+import org.hestiastore.index.directory.Directory;
+import org.hestiastore.index.directory.FileReaderSeekable;
+import org.hestiastore.index.directory.FileReaderSeekableSupplier;
+import org.hestiastore.index.directory.FsDirectory;
+import org.hestiastore.index.directory.MemDirectory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class SegmentDeltaCacheFilesTest {
+
+    private static final DataBlockSize BLOCK_SIZE = DataBlockSize
+            .ofDataBlockSize(1024);
+
+    private final TypeDescriptorInteger tdi = new TypeDescriptorInteger();
+    private final TypeDescriptorShortString tds = new TypeDescriptorShortString();
+
+    @Mock
+    private SegmentFiles<Integer, String> segmentFiles;
+
+    @Mock
+    private SegmentPropertiesManager propertiesManager;
+
+    @Mock
+    private SegmentConf segmentConf;
+
+    private Directory directory;
+
+    private SegmentDeltaCacheFile.Lookup<Integer> lastWrittenLookup;
+
+    @BeforeEach
+    void setUp() {
+        directory = new MemDirectory();
+        when(segmentFiles.getDirectory()).thenReturn(directory);
+        when(segmentFiles.getKeyTypeDescriptor()).thenReturn(tdi);
+    }
+
+    @Test
+    void get_returns_value_from_newest_file() {
+        writeDelta("d1", List.of(Entry.of(1, "A"), Entry.of(2, "B"),
+                Entry.of(3, "C"), Entry.of(5, "E"), Entry.of(6, "F"),
+                Entry.of(7, "G"), Entry.of(8, "H")));
+        writeDelta("d2", List.of(Entry.of(2, "B2"),
+                Entry.of(5, tds.getTombstone())));
+        when(propertiesManager.getCacheDeltaFileNames())
+                .thenReturn(List.of("d1", "d2"));
+
+        final SegmentDeltaCacheFiles<Integer, String> files = newFiles();
+
+        assertEquals("A", files.get(1));
+        assertEquals("B2", files.get(2));
+        assertEquals(tds.getTombstone(), files.get(5));
+        assertEquals("H", files.get(8));
+        assertNull(files.get(0));
+        assertNull(files.get(4));
+        assertNull(files.get(9));
+    }
+
+    @Test
+    void openIterators_returns_sorted_files_from_newest() {
+        writeDelta("d1", List.of(Entry.of(1, "A"), Entry.of(2, "B"),
+                Entry.of(4, "D")));
+        writeDelta("d2", List.of(Entry.of(2, "B2"), Entry.of(3, "C")));
+        when(propertiesManager.getCacheDeltaFileNames())
+                .thenReturn(List.of("d1", "d2"));
+        final SegmentDeltaCacheFiles<Integer, String> files = newFiles();
+
+        final List<Iterator<Entry<Integer, String>>> ascending = files
+                .openIterators(false);
+        assertEquals(List.of(Entry.of(2, "B2"), Entry.of(3, "C")),
+                toList(ascending.get(0)));
+        assertEquals(List.of(Entry.of(1, "A"), Entry.of(2, "B"),
+                Entry.of(4, "D")), toList(ascending.get(1)));
+
+        final List<Iterator<Entry<Integer, String>>> descending = files
+                .openIterators(true);
+        assertEquals(List.of(Entry.of(4, "D"), Entry.of(2, "B"),
+                Entry.of(1, "A")), toList(descending.get(1)));
+    }
+
+    @Test
+    void segment_cache_merges_delta_files_without_loading_them() {
+        writeDelta("d1", List.of(Entry.of(1, "A"), Entry.of(2, "B"),
+                Entry.of(4, "D")));
+        writeDelta("d2", List.of(Entry.of(2, "B2"),
+                Entry.of(4, tds.getTombstone())));
+        when(propertiesManager.getCacheDeltaFileNames())
+                .thenReturn(List.of("d1", "d2"));
+        final SegmentCache<Integer, String> cache = new SegmentCache<>(
+                tdi.getComparator(), tds, null, 10, 20, 10, newFiles());
+        cache.putToWriteCache(Entry.of(3, "C"));
+        cache.putToWriteCache(Entry.of(1, "A3"));
+
+        assertEquals(List.of(Entry.of(1, "A3"), Entry.of(2, "B2"),
+                Entry.of(3, "C"), Entry.of(4, tds.getTombstone())),
+                cache.getAsSortedList());
+        assertEquals(List.of(Entry.of(4, tds.getTombstone()),
+                Entry.of(3, "C"), Entry.of(2, "B2"), Entry.of(1, "A3")),
+                toList(cache.mergedDescendingIterator()));
+        assertEquals(4, cache.size());
+        assertEquals(3, cache.sizeWithoutTombstones());
+    }
+
+    @Test
+    void written_lookup_is_used_without_reading_the_file() {
+        final ChunkEntryFile<Integer, String> file = writeDelta("d1",
+                List.of(Entry.of(1, "A"), Entry.of(3, "C"), Entry.of(5, "E")));
+        when(propertiesManager.getCacheDeltaFileNames())
+                .thenReturn(List.of());
+        final SegmentDeltaCacheFiles<Integer, String> files = newFiles();
+        final ChunkEntryFile<Integer, String> spiedFile = spy(file);
+        when(segmentFiles.getDeltaCacheChunkEntryFile("d1"))
+                .thenReturn(spiedFile);
+
+        files.addWrittenFile("d1", lastWrittenLookup);
+        when(propertiesManager.getCacheDeltaFileNames())
+                .thenReturn(List.of("d1"));
+        files.refresh();
+
+        assertEquals("A", files.get(1));
+        assertEquals("E", files.get(5));
+        assertNull(files.get(4));
+        assertEquals(List.of(Entry.of(1, "A"), Entry.of(3, "C"),
+                Entry.of(5, "E")), toList(files.openIterators(false).get(0)));
+        verify(spiedFile, never()).forEachChunk(any());
+    }
+
+    @Test
+    void lookups_share_one_reader_per_file_until_cleared() {
+        directory = spy(new MemDirectory());
+        when(segmentFiles.getDirectory()).thenReturn(directory);
+        writeDelta("d1", List.of(Entry.of(1, "A"), Entry.of(2, "B"),
+                Entry.of(3, "C")));
+        when(propertiesManager.getCacheDeltaFileNames())
+                .thenReturn(List.of("d1"));
+        final SegmentDeltaCacheFiles<Integer, String> files = newFiles();
+
+        assertEquals("A", files.get(1));
+        assertEquals("C", files.get(3));
+        assertEquals("B", files.get(2));
+        verify(directory, times(1)).getFileReaderSeekableSupplier("d1");
+
+        files.clear();
+        files.refresh();
+        assertEquals("A", files.get(1));
+        verify(directory, times(2)).getFileReaderSeekableSupplier("d1");
+    }
+
+    @Test
+    void retired_file_reads_as_empty_and_never_reopens_its_reader() {
+        directory = spy(new MemDirectory());
+        when(segmentFiles.getDirectory()).thenReturn(directory);
+        writeDelta("d1", List.of(Entry.of(1, "A"), Entry.of(2, "B")));
+        when(propertiesManager.getCacheDeltaFileNames())
+                .thenReturn(List.of("d1"));
+        final SegmentDeltaCacheFiles<Integer, String> files = newFiles();
+        final Iterator<Entry<Integer, String>> iterator = files
+                .openIterators(false).get(0);
+        assertEquals("A", files.get(1));
+
+        files.clear();
+
+        assertFalse(iterator.hasNext());
+        assertNull(files.get(1));
+        verify(directory, times(1)).getFileReaderSeekableSupplier("d1");
+    }
+
+    @Test
+    void get_runs_concurrently_with_clear(@TempDir final Path tempDir)
+            throws Exception {
+        final List<TrackingSupplier> suppliers = new CopyOnWriteArrayList<>();
+        directory = spy(new FsDirectory(tempDir.toFile()));
+        doAnswer(invocation -> {
+            final TrackingSupplier supplier = new TrackingSupplier(
+                    (FileReaderSeekableSupplier) invocation.callRealMethod());
+            suppliers.add(supplier);
+            return supplier;
+        }).when(directory).getFileReaderSeekableSupplier("d1");
+        when(segmentFiles.getDirectory()).thenReturn(directory);
+        final List<Entry<Integer, String>> entries = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            entries.add(Entry.of(i, "v" + i));
+        }
+        writeDelta("d1", entries);
+        when(propertiesManager.getCacheDeltaFileNames())
+                .thenReturn(List.of("d1"));
+        final SegmentDeltaCacheFiles<Integer, String> files = newFiles();
+
+        final int readers = 4;
+        final AtomicBoolean running = new AtomicBoolean(true);
+        final ExecutorService executor = Executors
+                .newFixedThreadPool(readers);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < readers; t++) {
+                futures.add(executor.submit(() -> {
+                    int key = 0;
+                    while (running.get()) {
+                        final String value = files.get(key);
+                        if (value != null) {
+                            assertEquals("v" + key, value);
+                        }
+                        key = (key + 7) % 200;
+                    }
+                }));
+            }
+            for (int round = 0; round < 200; round++) {
+                files.clear();
+                files.refresh();
+            }
+            running.set(false);
+            for (final Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            running.set(false);
+            executor.shutdownNow();
+        }
+        files.clear();
+
+        assertFalse(suppliers.isEmpty());
+        assertTrue(suppliers.stream().allMatch(supplier -> supplier.closed));
+    }
+
+    @Test
+    void refresh_keeps_lookups_of_known_files() {
+        writeDelta("d1", List.of(Entry.of(1, "A")));
+        when(propertiesManager.getCacheDeltaFileNames())
+                .thenReturn(List.of("d1"));
+        final SegmentDeltaCacheFiles<Integer, String> files = newFiles();
+        assertEquals("A", files.get(1));
+
+        writeDelta("d2", List.of(Entry.of(1, "A2")));
+        when(propertiesManager.getCacheDeltaFileNames())
+                .thenReturn(List.of("d1", "d2"));
+        files.refresh();
+
+        assertEquals("A2", files.get(1));
+        when(propertiesManager.getNumberOfKeysInDeltaCache()).thenReturn(2L);
+        assertEquals(2, files.getNumberOfKeys());
+    }
+
+    @Test
+    void clear_forgets_all_files() {
+        writeDelta("d1", List.of(Entry.of(1, "A")));
+        when(propertiesManager.getCacheDeltaFileNames())
+                .thenReturn(List.of("d1"));
+        final SegmentDeltaCacheFiles<Integer, String> files = newFiles();
+        assertFalse(files.isEmpty());
+
+        files.clear();
+
+        assertTrue(files.isEmpty());
+        assertNull(files.get(1));
+        assertEquals(0, files.getNumberOfKeys());
+    }
+
+    private SegmentDeltaCacheFiles<Integer, String> newFiles() {
+        return new SegmentDeltaCacheFiles<>(segmentFiles, propertiesManager,
+                segmentConf);
+    }
+
+    /**
+     * Reader supplier recording whether it was closed.
+     */
+    private static final class TrackingSupplier
+            implements FileReaderSeekableSupplier {
+
+        private final FileReaderSeekableSupplier delegate;
+        private volatile boolean closed;
+
+        private TrackingSupplier(final FileReaderSeekableSupplier delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public FileReaderSeekable get() {
+            return delegate.get();
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+            delegate.close();
+        }
+    }
+
+    private static <T> List<T> toList(final Iterator<T> iterator) {
+        final List<T> out = new ArrayList<>();
+        iterator.forEachRemaining(out::add);
+        return out;
+    }
+
+    private ChunkEntryFile<Integer, String> writeDelta(final String fileName,
+            final List<Entry<Integer, String>> entries) {
+        final ChunkEntryFile<Integer, String> file = new ChunkEntryFile<>(
+                new ChunkStoreFile(directory, fileName, BLOCK_SIZE,
+                        List.of(new ChunkFilterDoNothing()),
+                        List.of(new ChunkFilterDoNothing())),
+                tdi, tds, BLOCK_SIZE);
+        final ChunkEntryFileWriterTx<Integer, String> writerTx = file
+                .openWriterTx();
+        final SegmentDeltaCacheFile.Lookup.Builder<Integer> lookup = SegmentDeltaCacheFile.Lookup
+                .builder(tdi.getTypeEncoder(), 0.01);
+        try (ChunkEntryFileWriter<Integer, String> writer = writerTx
+                .openWriter()) {
+            int inChunk = 0;
+            for (final Entry<Integer, String> entry : entries) {
+                writer.write(entry);
+                lookup.addKey(entry.getKey());
+                if (++inChunk == 2) {
+                    lookup.endChunk(writer.flush().getValue());
+                    inChunk = 0;
+                }
+            }
+            if (inChunk > 0) {
+                lookup.endChunk(writer.flush().getValue());
+            }
+        }
+        lastWrittenLookup = lookup.build();
+        writerTx.commit();
+        lenient().when(segmentFiles.getDeltaCacheChunkEntryFile(fileName))
+                .thenReturn(file);
+        return file;
+    }
+}
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -13,6 +14,8 @@ import org.hestiastore.index.Entry;
 import org.hestiastore.index.chunkentryfile.ChunkEntryFile;
 import org.hestiastore.index.chunkentryfile.ChunkEntryFileWriter;
 import org.hestiastore.index.chunkentryfile.ChunkEntryFileWriterTx;
+import org.hestiastore.index.chunkstore.CellPosition;
+import org.hestiastore.index.datablockfile.DataBlockSize;
 import org.hestiastore.index.datatype.TypeDescriptorInteger;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -137,6 +140,32 @@ class SegmentDeltaCacheWriterTest {
         verify(writerTx).commit();
     }
 
+    @Test
+    void close_hands_lookup_of_written_file_to_delta_files(
+            @Mock final SegmentDeltaCacheFiles<Integer, String> deltaCacheFiles) {
+        stubWriteTransactionToCaptureWrites(new java.util.ArrayList<>());
+        when(chunkWriter.flush()).thenReturn(CellPosition.of(
+                DataBlockSize.ofDataBlockSize(1024), 0));
+        when(propertiesManager.getNextDeltaFileName())
+                .thenReturn("delta-name");
+        when(propertiesManager.startTx()).thenReturn(propertiesTx);
+        when(propertiesTx.setDeltaFileCount(1)).thenReturn(propertiesTx);
+        when(propertiesTx.setNumberOfKeysInCache(2)).thenReturn(propertiesTx);
+        final SegmentDeltaCacheFile.Lookup.Builder<Integer> lookup = SegmentDeltaCacheFile.Lookup
+                .builder(new TypeDescriptorInteger().getTypeEncoder(), 0.01);
+        when(deltaCacheFiles.newLookupBuilder()).thenReturn(lookup);
+        when(segmentFiles.getKeyTypeDescriptor())
+                .thenReturn(new TypeDescriptorInteger());
+
+        try (SegmentDeltaCacheWriter<Integer, String> writer = new SegmentDeltaCacheWriter<>(
+                segmentFiles, propertiesManager, 10, 3, deltaCacheFiles)) {
+            writer.write(Entry.of(2, "B"));
+            writer.write(Entry.of(1, "A"));
+        }
+
+        verify(deltaCacheFiles).addWrittenFile(eq("delta-name"), any());
+    }
+
     @Test
     void close_does_nothing_when_cache_is_empty() {
         final SegmentDeltaCacheWriter<Integer, String> writer = newWriter(10);
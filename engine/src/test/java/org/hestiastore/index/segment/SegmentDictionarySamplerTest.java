@@ -0,0 +1,62 @@
+package org.hestiastore.index.segment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.hestiastore.index.Entry;
+import org.hestiastore.index.datatype.TypeDescriptorInteger;
+import org.hestiastore.index.datatype.TypeDescriptorShortString;
+import org.junit.jupiter.api.Test;
+
+class SegmentDictionarySamplerTest {
+
+    @Test
+    void add_should_complete_after_max_sample_chunks() {
+        final SegmentDictionarySampler<Integer, String> sampler = newSampler(
+                2);
+
+        for (int i = 0; i < SegmentDictionarySampler.MAX_SAMPLE_CHUNKS * 2
+                - 1; i++) {
+            sampler.add(Entry.of(i, "customer-status-active-" + i));
+        }
+        assertFalse(sampler.isComplete());
+
+        sampler.add(Entry.of(10_000, "customer-status-active-last"));
+
+        assertTrue(sampler.isComplete());
+        assertEquals(SegmentDictionarySampler.MAX_SAMPLE_CHUNKS * 2,
+                sampler.getEntries().size());
+    }
+
+    @Test
+    void train_should_use_shared_content_of_sample_chunks() {
+        final SegmentDictionarySampler<Integer, String> sampler = newSampler(
+                4);
+        for (int i = 0; i < 40; i++) {
+            sampler.add(Entry.of(i, "{\"status\":\"ACTIVE\",\"country\":"
+                    + "\"Czech Republic\",\"id\":" + i + "}"));
+        }
+
+        assertFalse(sampler.train().isEmpty());
+        assertEquals(40, sampler.getEntries().size());
+    }
+
+    @Test
+    void train_should_return_empty_dictionary_without_entries() {
+        assertTrue(newSampler(4).train().isEmpty());
+    }
+
+    @Test
+    void constructor_should_reject_invalid_chunk_size() {
+        assertThrows(IllegalArgumentException.class,
+                () -> newSampler(0));
+    }
+
+    private static SegmentDictionarySampler<Integer, String> newSampler(
+            final int keysPerChunk) {
+        return new SegmentDictionarySampler<>(new TypeDescriptorInteger(),
+                new TypeDescriptorShortString(), keysPerChunk);
+    }
+}
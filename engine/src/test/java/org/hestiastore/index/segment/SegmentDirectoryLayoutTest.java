@@ -24,10 +24,13 @@ class SegmentDirectoryLayoutTest {
     void test_file_name_mapping() {
         assertEquals("v01-index.sst", layout.getIndexFileName());
         assertEquals("v02-index.sst", layout.getIndexFileName(2));
-        assertEquals("v01-scarce.sst", layout.getScarceFileName());
-        assertEquals("v02-scarce.sst", layout.getScarceFileName(2));
+        assertEquals("v01-scarce64.sst", layout.getScarceFileName());
+        assertEquals("v02-scarce64.sst", layout.getScarceFileName(2));
+        assertEquals("v02-scarce.sst", layout.getLegacyScarceFileName(2));
         assertEquals("v01-bloom-filter.bin", layout.getBloomFilterFileName());
         assertEquals("v02-bloom-filter.bin", layout.getBloomFilterFileName(2));
+        assertEquals("v02-dictionary.bin",
+                layout.getCompressionDictionaryFileName(2));
         assertEquals("manifest.txt", layout.getPropertiesFileName());
         assertEquals(".lock", layout.getLockFileName());
         assertEquals("v01-delta-0000.cache",
@@ -26,10 +26,14 @@ class SegmentFilesRenamerTest {
     private static final String TARGET_SEGMENT_ID = "segment-00099";
     private static final String SOURCE_INDEX = "v01-index.sst";
     private static final String TARGET_INDEX = "v02-index.sst";
-    private static final String SOURCE_SCARCE = "v01-scarce.sst";
-    private static final String TARGET_SCARCE = "v02-scarce.sst";
+    private static final String SOURCE_SCARCE = "v01-scarce64.sst";
+    private static final String TARGET_SCARCE = "v02-scarce64.sst";
+    private static final String SOURCE_LEGACY_SCARCE = "v01-scarce.sst";
+    private static final String TARGET_LEGACY_SCARCE = "v02-scarce.sst";
     private static final String SOURCE_BLOOM = "v01-bloom-filter.bin";
     private static final String TARGET_BLOOM = "v02-bloom-filter.bin";
+    private static final String SOURCE_DICTIONARY = "v01-dictionary.bin";
+    private static final String TARGET_DICTIONARY = "v02-dictionary.bin";
     private static final String SOURCE_PROPERTIES = "manifest.txt";
     private static final String TARGET_PROPERTIES = "manifest.txt";
 
@@ -86,8 +90,10 @@ class SegmentFilesRenamerTest {
         renamer.renameFiles(sourceFiles, targetFiles, propertiesManager);
 
         verify(asyncDirectory).renameFile(SOURCE_INDEX, TARGET_INDEX);
+        verify(asyncDirectory).isFileExists(SOURCE_LEGACY_SCARCE);
         verify(asyncDirectory).renameFile(SOURCE_SCARCE, TARGET_SCARCE);
         verify(asyncDirectory).renameFile(SOURCE_BLOOM, TARGET_BLOOM);
+        verify(asyncDirectory).isFileExists(SOURCE_DICTIONARY);
         verify(asyncDirectory).renameFile(SOURCE_PROPERTIES,
                 TARGET_PROPERTIES);
         verifyNoMoreInteractions(asyncDirectory);
@@ -108,8 +114,10 @@ class SegmentFilesRenamerTest {
         verify(asyncDirectory).renameFile("v01-delta-0042.cache",
                 "v01-delta-0042.cache");
         verify(asyncDirectory).renameFile(SOURCE_INDEX, TARGET_INDEX);
+        verify(asyncDirectory).isFileExists(SOURCE_LEGACY_SCARCE);
         verify(asyncDirectory).renameFile(SOURCE_SCARCE, TARGET_SCARCE);
         verify(asyncDirectory).renameFile(SOURCE_BLOOM, TARGET_BLOOM);
+        verify(asyncDirectory).isFileExists(SOURCE_DICTIONARY);
         verify(asyncDirectory).renameFile(SOURCE_PROPERTIES,
                 TARGET_PROPERTIES);
         verifyNoMoreInteractions(asyncDirectory);
@@ -130,13 +138,63 @@ class SegmentFilesRenamerTest {
         verify(asyncDirectory).renameFile("v01-delta-0007.cache",
                 "v01-delta-0007.cache");
         verify(asyncDirectory).renameFile(SOURCE_INDEX, TARGET_INDEX);
+        verify(asyncDirectory).isFileExists(SOURCE_LEGACY_SCARCE);
         verify(asyncDirectory).renameFile(SOURCE_SCARCE, TARGET_SCARCE);
         verify(asyncDirectory).renameFile(SOURCE_BLOOM, TARGET_BLOOM);
+        verify(asyncDirectory).isFileExists(SOURCE_DICTIONARY);
         verify(asyncDirectory).renameFile(SOURCE_PROPERTIES,
                 TARGET_PROPERTIES);
         verifyNoMoreInteractions(asyncDirectory);
     }
 
+    @Test
+    void renameFiles_renames_compression_dictionary_when_present() {
+        stubBaseFileNames();
+        when(targetFiles.getCompressionDictionaryFileName())
+                .thenReturn(TARGET_DICTIONARY);
+        when(asyncDirectory.isFileExists(SOURCE_LEGACY_SCARCE))
+                .thenReturn(false);
+        when(asyncDirectory.isFileExists(SOURCE_DICTIONARY)).thenReturn(true);
+        when(propertiesManager.getCacheDeltaFileNames()).thenReturn(List.of());
+
+        renamer.renameFiles(sourceFiles, targetFiles, propertiesManager);
+
+        verify(asyncDirectory).renameFile(SOURCE_BLOOM, TARGET_BLOOM);
+        verify(asyncDirectory).renameFile(SOURCE_DICTIONARY,
+                TARGET_DICTIONARY);
+        verify(asyncDirectory).renameFile(SOURCE_PROPERTIES,
+                TARGET_PROPERTIES);
+    }
+
+    @Test
+    void renameFiles_keeps_legacy_scarce_file_name() {
+        stubDirectory();
+        stubSegmentIds();
+        when(sourceFiles.getIndexFileName()).thenReturn(SOURCE_INDEX);
+        when(targetFiles.getIndexFileName()).thenReturn(TARGET_INDEX);
+        when(sourceFiles.getScarceFileName()).thenReturn(SOURCE_SCARCE);
+        when(sourceFiles.getLegacyScarceFileName())
+                .thenReturn(SOURCE_LEGACY_SCARCE);
+        when(sourceFiles.getBloomFilterFileName()).thenReturn(SOURCE_BLOOM);
+        when(targetFiles.getBloomFilterFileName()).thenReturn(TARGET_BLOOM);
+        when(sourceFiles.getPropertiesFilename()).thenReturn(SOURCE_PROPERTIES);
+        when(targetFiles.getPropertiesFilename()).thenReturn(TARGET_PROPERTIES);
+        when(targetFiles.getLegacyScarceFileName())
+                .thenReturn(TARGET_LEGACY_SCARCE);
+        when(asyncDirectory.isFileExists(SOURCE_LEGACY_SCARCE))
+                .thenReturn(true);
+        when(propertiesManager.getCacheDeltaFileNames()).thenReturn(List.of());
+
+        renamer.renameFiles(sourceFiles, targetFiles, propertiesManager);
+
+        verify(asyncDirectory).renameFile(SOURCE_LEGACY_SCARCE,
+                TARGET_LEGACY_SCARCE);
+        verify(asyncDirectory).isFileExists(SOURCE_SCARCE);
+        verify(asyncDirectory, never()).renameFile(SOURCE_SCARCE,
+                TARGET_SCARCE);
+        verify(asyncDirectory).renameFile(SOURCE_INDEX, TARGET_INDEX);
+    }
+
     @Test
     void renameFiles_stops_when_delta_rename_fails() {
         stubDirectory();
@@ -171,8 +229,12 @@ class SegmentFilesRenamerTest {
         when(targetFiles.getIndexFileName()).thenReturn(TARGET_INDEX);
         when(sourceFiles.getScarceFileName()).thenReturn(SOURCE_SCARCE);
         when(targetFiles.getScarceFileName()).thenReturn(TARGET_SCARCE);
+        when(sourceFiles.getLegacyScarceFileName())
+                .thenReturn(SOURCE_LEGACY_SCARCE);
         when(sourceFiles.getBloomFilterFileName()).thenReturn(SOURCE_BLOOM);
         when(targetFiles.getBloomFilterFileName()).thenReturn(TARGET_BLOOM);
+        when(sourceFiles.getCompressionDictionaryFileName())
+                .thenReturn(SOURCE_DICTIONARY);
         when(sourceFiles.getPropertiesFilename()).thenReturn(SOURCE_PROPERTIES);
         when(targetFiles.getPropertiesFilename()).thenReturn(TARGET_PROPERTIES);
     }
@@ -1,15 +1,20 @@
 package org.hestiastore.index.segment;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
+import org.hestiastore.index.chunkstore.ChunkCompressionDictionary;
 import org.hestiastore.index.chunkstore.ChunkFilter;
+import org.hestiastore.index.chunkstore.ChunkFilterDeflateDictionaryCompress;
+import org.hestiastore.index.chunkstore.ChunkFilterDeflateDictionaryDecompress;
 import org.hestiastore.index.chunkstore.ChunkFilterDoNothing;
 import org.hestiastore.index.datatype.TypeDescriptorInteger;
 import org.hestiastore.index.datatype.TypeDescriptorShortString;
@@ -27,7 +32,8 @@ class SegmentFilesTest {
                 List.of(new ChunkFilterDoNothing()), 2L);
 
         assertEquals("v02-index.sst", files.getIndexFileName());
-        assertEquals("v02-scarce.sst", files.getScarceFileName());
+        assertEquals("v02-scarce64.sst", files.getScarceFileName());
+        assertEquals("v02-scarce.sst", files.getLegacyScarceFileName());
         assertEquals("v02-bloom-filter.bin", files.getBloomFilterFileName());
     }
 
@@ -160,6 +166,46 @@ class SegmentFilesTest {
         assertEquals(2, copiedFilter.getId());
     }
 
+    @Test
+    void compressionDictionaryIsStoredPerVersion() {
+        final MemDirectory directory = new MemDirectory();
+        final SegmentFiles<Integer, String> files = new SegmentFiles<>(
+                directory, SegmentId.of(1), new TypeDescriptorInteger(),
+                new TypeDescriptorShortString(), 1024,
+                List.of(new ChunkFilterDeflateDictionaryCompress()),
+                List.of(new ChunkFilterDeflateDictionaryDecompress()), 1L);
+        final ChunkCompressionDictionary dictionary = ChunkCompressionDictionary
+                .of(new byte[] { 7, 8, 9, 10 });
+
+        files.writeCompressionDictionary(dictionary);
+
+        assertTrue(files.isCompressionDictionaryUsed());
+        assertEquals("v01-dictionary.bin",
+                files.getCompressionDictionaryFileName());
+        assertTrue(directory.isFileExists("v01-dictionary.bin"));
+        assertFalse(directory.isFileExists("v01-dictionary.bin.tmp"));
+        assertEquals(dictionary, files.copyWithVersion(1L)
+                .readCompressionDictionary());
+        assertTrue(files.copyWithVersion(2L).readCompressionDictionary()
+                .isEmpty());
+
+        files.writeCompressionDictionary(ChunkCompressionDictionary.empty());
+
+        assertFalse(directory.isFileExists("v01-dictionary.bin"));
+        assertTrue(files.readCompressionDictionary().isEmpty());
+    }
+
+    @Test
+    void compressionDictionaryIsNotUsedWithoutDictionaryFilters() {
+        final SegmentFiles<Integer, String> files = new SegmentFiles<>(
+                new MemDirectory(), SegmentId.of(1),
+                new TypeDescriptorInteger(), new TypeDescriptorShortString(),
+                1024, List.of(new ChunkFilterDoNothing()),
+                List.of(new ChunkFilterDoNothing()), 1L);
+
+        assertFalse(files.isCompressionDictionaryUsed());
+    }
+
     private static final class TrackingChunkFilter implements ChunkFilter {
 
         private final int id;
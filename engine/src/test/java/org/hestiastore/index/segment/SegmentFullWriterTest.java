@@ -1,9 +1,13 @@
 package org.hestiastore.index.segment;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.concurrent.atomic.AtomicReference;
+
 import org.hestiastore.index.Entry;
 import org.hestiastore.index.EntryWriter;
 import org.hestiastore.index.bloomfilter.BloomFilter;
@@ -11,6 +15,9 @@ import org.hestiastore.index.bloomfilter.BloomFilterWriter;
 import org.hestiastore.index.bloomfilter.BloomFilterWriterTx;
 import org.hestiastore.index.chunkentryfile.ChunkEntryFileWriter;
 import org.hestiastore.index.chunkstore.CellPosition;
+import org.hestiastore.index.chunkstore.ChunkCompressionDictionary;
+import org.hestiastore.index.datatype.TypeDescriptorInteger;
+import org.hestiastore.index.datatype.TypeDescriptorShortString;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -32,7 +39,7 @@ class SegmentFullWriterTest {
     @Mock
     private ChunkEntryFileWriter<Integer, String> indexWriter;
     @Mock
-    private EntryWriter<Integer, Integer> scarceWriter;
+    private EntryWriter<Integer, Long> scarceWriter;
     @Mock
     private CellPosition position;
 
@@ -44,7 +51,7 @@ class SegmentFullWriterTest {
         when(bloomFilter.openWriteTx()).thenReturn(bloomTx);
         when(bloomTx.open()).thenReturn(bloomWriter);
         when(indexWriter.flush()).thenReturn(position);
-        when(position.getValue()).thenReturn(42);
+        when(position.getValue()).thenReturn(42L);
         subject = new SegmentFullWriter<>(2, resources, indexWriter,
                 scarceWriter);
     }
@@ -62,7 +69,7 @@ class SegmentFullWriterTest {
         subject.write(Entry.of(2, "two"));
 
         verify(indexWriter).flush();
-        verify(scarceWriter).write(Entry.of(2, 42));
+        verify(scarceWriter).write(Entry.of(2, 42L));
     }
 
     @Test
@@ -80,4 +87,31 @@ class SegmentFullWriterTest {
 
         verify(bloomTx).commit();
     }
+
+    @Test
+    void dictionaryWriter_defersIndexWritesUntilDictionaryIsTrained() {
+        subject.close();
+        final AtomicReference<ChunkCompressionDictionary> dictionary = new AtomicReference<>();
+        subject = new SegmentFullWriter<>(2, resources,
+                new SegmentDictionarySampler<>(new TypeDescriptorInteger(),
+                        new TypeDescriptorShortString(), 2),
+                trained -> {
+                    dictionary.set(trained);
+                    return indexWriter;
+                }, scarceWriter, CompactionCacheWarmer.disabled());
+
+        subject.write(Entry.of(1, "one"));
+        subject.write(Entry.of(2, "two"));
+
+        verify(bloomWriter).write(2);
+        verify(indexWriter, never()).write(Entry.of(1, "one"));
+
+        subject.close();
+
+        assertSame(dictionary.get(), subject.getCompressionDictionary());
+        verify(indexWriter).write(Entry.of(1, "one"));
+        verify(indexWriter).write(Entry.of(2, "two"));
+        verify(scarceWriter).write(Entry.of(2, 42L));
+        assertEquals(2L, subject.getNumberKeys());
+    }
 }
@@ -35,7 +35,7 @@ class SegmentFullWriterTxTest {
     @Mock
     private ChunkEntryFileWriter<Integer, String> indexWriter;
     @Mock
-    private EntryWriter<Integer, Integer> scarceWriter;
+    private EntryWriter<Integer, Long> scarceWriter;
     @Mock
     private SegmentResources<Integer> resources;
     @Mock
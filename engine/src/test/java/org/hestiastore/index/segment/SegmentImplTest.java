@@ -100,7 +100,7 @@ class SegmentImplTest {
     @Mock
     private ScarceIndexWriterTx<Integer> scarceWriterTx;
     @Mock
-    private EntryWriter<Integer, Integer> scarceEntryWriter;
+    private EntryWriter<Integer, Long> scarceEntryWriter;
     @Mock
     private ChunkEntryFileWriter<Integer, String> chunkEntryWriter;
     @Mock
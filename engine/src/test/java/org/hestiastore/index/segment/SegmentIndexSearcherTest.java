@@ -10,7 +10,12 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.Arrays;
+import java.util.List;
+
+import org.hestiastore.index.Entry;
 import org.hestiastore.index.chunkentryfile.ChunkEntryFile;
+import org.hestiastore.index.chunkstorecache.ParsedChunkPage;
 import org.hestiastore.index.directory.FileReaderSeekable;
 import org.hestiastore.index.directory.FileReaderSeekableSupplier;
 import org.junit.jupiter.api.BeforeEach;
@@ -101,6 +106,23 @@ class SegmentIndexSearcherTest {
         verify(seekableReader, times(1)).close();
     }
 
+    @Test
+    void searchAll_decodes_chunk_once_for_all_keys() {
+        when(seekableReaderSupplier.get()).thenReturn(seekableReader);
+        when(chunkEntryFile.loadParsedPageAtPosition(eq(5L), eq(3),
+                same(seekableReader))).thenReturn(ParsedChunkPage.of(List.of(
+                        Entry.of("a", "v1"), Entry.of("b", "v2"),
+                        Entry.of("d", "v4"))));
+
+        final List<String> out = searcher.searchAll(List.of("a", "c", "d"),
+                5L);
+
+        assertEquals(Arrays.asList("v1", null, "v4"), out);
+        verify(chunkEntryFile, times(1)).loadParsedPageAtPosition(eq(5L),
+                eq(3), same(seekableReader));
+        verify(seekableReader, times(1)).close();
+    }
+
     @Test
     void search_propagates_factory_exception() {
         when(seekableReaderSupplier.get())
@@ -0,0 +1,77 @@
+package org.hestiastore.index.segment;
+
+import static org.hestiastore.index.segment.SegmentTestHelper.closeAndAssertClosed;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.File;
+import java.util.List;
+
+import org.hestiastore.index.OperationStatus;
+import org.hestiastore.index.chunkstore.ChunkFilterCrc32Validation;
+import org.hestiastore.index.chunkstore.ChunkFilterCrc32Writing;
+import org.hestiastore.index.chunkstore.ChunkFilterDoNothing;
+import org.hestiastore.index.chunkstore.ChunkFilterMagicNumberValidation;
+import org.hestiastore.index.chunkstore.ChunkFilterMagicNumberWriting;
+import org.hestiastore.index.datatype.TypeDescriptorInteger;
+import org.hestiastore.index.datatype.TypeDescriptorShortString;
+import org.hestiastore.index.directory.Directory;
+import org.hestiastore.index.directory.FsMmapDirectory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SegmentMmapDirectoryTest {
+
+    private static final TypeDescriptorInteger KEY_DESCRIPTOR = new TypeDescriptorInteger();
+    private static final TypeDescriptorShortString VALUE_DESCRIPTOR = new TypeDescriptorShortString();
+    private static final int NUMBER_OF_KEYS = 200;
+
+    @TempDir
+    private File tempDir;
+
+    @Test
+    void get_reads_compacted_segment_through_mapped_files() {
+        final SegmentId segmentId = SegmentId.of(1);
+        final Directory segmentDirectory = new FsMmapDirectory(tempDir)
+                .openSubDirectory(segmentId.getName());
+        final Segment<Integer, String> segment = Segment
+                .<Integer, String>builder(segmentDirectory)//
+                .withId(segmentId)//
+                .withKeyTypeDescriptor(KEY_DESCRIPTOR)//
+                .withValueTypeDescriptor(VALUE_DESCRIPTOR)//
+                .withBloomFilterIndexSizeInBytes(1024)//
+                .withBloomFilterNumberOfHashFunctions(2)//
+                .withMaxNumberOfKeysInSegmentChunk(8)//
+                .withDiskIoBufferSize(1024)//
+                .withMaintenancePolicy(SegmentMaintenancePolicy.none())//
+                .withEncodingChunkFilters(
+                        List.of(new ChunkFilterMagicNumberWriting(),
+                                new ChunkFilterCrc32Writing(),
+                                new ChunkFilterDoNothing()))//
+                .withDecodingChunkFilters(
+                        List.of(new ChunkFilterMagicNumberValidation(),
+                                new ChunkFilterCrc32Validation(),
+                                new ChunkFilterDoNothing()))//
+                .build().getValue();
+        try {
+            for (int key = 0; key < NUMBER_OF_KEYS; key++) {
+                assertEquals(OperationStatus.OK,
+                        segment.put(key, "value-" + key).getStatus());
+            }
+            assertEquals(OperationStatus.OK, segment.compact().getStatus());
+
+            for (int key = 0; key < NUMBER_OF_KEYS; key++) {
+                assertEquals("value-" + key, segment.get(key).getValue());
+            }
+            assertNull(segment.get(NUMBER_OF_KEYS + 1).getValue());
+
+            assertEquals(OperationStatus.OK,
+                    segment.put(3, "updated").getStatus());
+            assertEquals(OperationStatus.OK, segment.compact().getStatus());
+            assertEquals("updated", segment.get(3).getValue());
+            assertEquals("value-4", segment.get(4).getValue());
+        } finally {
+            closeAndAssertClosed(segment);
+        }
+    }
+}
@@ -65,6 +65,18 @@ class SegmentPropertiesManagerTest {
         assertEquals(0, props.getCacheDeltaFileNames().size());
     }
 
+    @Test
+    void bloomFilterParameters_round_trip_and_clear() {
+        assertTrue(props.getBloomFilterNumberOfHashFunctions() <= 0);
+
+        props.startTx().setBloomFilterParameters(1199, 7).commit();
+        assertEquals(1199, props.getBloomFilterIndexSizeInBytes());
+        assertEquals(7, props.getBloomFilterNumberOfHashFunctions());
+
+        props.startTx().clearBloomFilterParameters().commit();
+        assertTrue(props.getBloomFilterNumberOfHashFunctions() <= 0);
+    }
+
     @Test
     void test_deltaFileNames_are_sorted() {
         assertEquals("v01-delta-0000.cache",
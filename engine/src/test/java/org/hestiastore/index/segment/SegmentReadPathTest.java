@@ -8,16 +8,21 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.intThat;
 import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.hestiastore.index.Entry;
 import org.hestiastore.index.EntryIterator;
+import org.hestiastore.index.EntryIteratorList;
 import org.hestiastore.index.EntryIteratorWithCurrent;
 import org.hestiastore.index.EntryIteratorWithLock;
 import org.hestiastore.index.chunkentryfile.ChunkEntryFile;
@@ -26,6 +31,7 @@ import org.hestiastore.index.datatype.TypeDescriptorInteger;
 import org.hestiastore.index.datatype.TypeDescriptorShortString;
 import org.hestiastore.index.directory.Directory;
 import org.hestiastore.index.directory.FileReaderSeekable;
+import org.hestiastore.index.scarceindex.ScarceSegmentIndex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -56,6 +62,8 @@ class SegmentReadPathTest {
     private EntryIteratorWithCurrent<Integer, String> baseIterator;
     @Mock
     private FileReaderSeekable seekableReader;
+    @Mock
+    private ScarceSegmentIndex<Integer> scarceIndex;
 
     private SegmentReadPath<Integer, String> subject;
     private final TypeDescriptorInteger keyDescriptor = new TypeDescriptorInteger();
@@ -96,6 +104,18 @@ class SegmentReadPathTest {
                 segmentSearcher, segmentCache, versionController);
     }
 
+    @Test
+    void getAll_resolves_cache_hits_and_searches_only_misses() {
+        when(segmentCache.get(1)).thenReturn("one");
+        when(segmentCache.get(2))
+                .thenReturn(TypeDescriptorShortString.TOMBSTONE_VALUE);
+        when(segmentSearcher.getAll(eq(List.of(3, 4)), same(segmentResources),
+                any())).thenReturn(Arrays.asList("three", null));
+
+        assertEquals(Arrays.asList("one", null, "three", null),
+                subject.getAll(List.of(1, 2, 3, 4)));
+    }
+
     @Test
     void openIterator_failFast_wraps_with_lock() {
         try (EntryIterator<Integer, String> iterator = subject
@@ -104,6 +124,50 @@ class SegmentReadPathTest {
         }
     }
 
+    @Test
+    void openIterator_keyRange_seeks_to_scarce_index_position() {
+        when(segmentResources.getScarceIndex()).thenReturn(scarceIndex);
+        when(scarceIndex.findPosition(3)).thenReturn(4096L);
+        when(chunkEntryFile.openIteratorAtPosition(4096L))
+                .thenReturn(new EntryIteratorList<>(List.of(Entry.of(2, "b"),
+                        Entry.of(3, "c"), Entry.of(4, "d"), Entry.of(6, "f"))));
+        when(segmentCache.mergedIterator()).thenReturn(List.of(
+                Entry.of(1, "a"), Entry.of(5, "e"), Entry.of(7, "g"))
+                .iterator());
+
+        try (EntryIterator<Integer, String> iterator = subject.openIterator(3,
+                6, SegmentIteratorIsolation.FAIL_FAST)) {
+            assertEquals(List.of(Entry.of(3, "c"), Entry.of(4, "d"),
+                    Entry.of(5, "e")), drain(iterator));
+        }
+        verify(chunkEntryFile, never()).openIterator();
+    }
+
+    @Test
+    void openIterator_keyRange_past_index_max_key_reads_only_cache() {
+        when(segmentResources.getScarceIndex()).thenReturn(scarceIndex);
+        when(scarceIndex.findPosition(10))
+                .thenReturn(ScarceSegmentIndex.NOT_FOUND);
+        when(segmentCache.mergedIterator()).thenReturn(List.of(
+                Entry.of(9, "i"), Entry.of(11, "k")).iterator());
+
+        try (EntryIterator<Integer, String> iterator = subject.openIterator(10,
+                null, SegmentIteratorIsolation.FULL_ISOLATION)) {
+            assertEquals(List.of(Entry.of(11, "k")), drain(iterator));
+        }
+        verify(chunkEntryFile, never()).openIterator();
+        verify(chunkEntryFile, never()).openIteratorAtPosition(anyLong());
+    }
+
+    private static List<Entry<Integer, String>> drain(
+            final EntryIterator<Integer, String> iterator) {
+        final List<Entry<Integer, String>> out = new ArrayList<>();
+        while (iterator.hasNext()) {
+            out.add(iterator.next());
+        }
+        return out;
+    }
+
     @Test
     void openIterator_fullIsolation_returns_merged_iterator() {
         try (EntryIterator<Integer, String> iterator = subject
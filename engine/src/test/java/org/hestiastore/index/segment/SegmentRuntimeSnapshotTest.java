@@ -29,6 +29,24 @@ class SegmentRuntimeSnapshotTest {
         assertEquals(11L, snapshot.getBloomFilterRefusedCount());
         assertEquals(12L, snapshot.getBloomFilterPositiveCount());
         assertEquals(13L, snapshot.getBloomFilterFalsePositiveCount());
+        assertEquals(0, snapshot.getBloomFilterIndexSizeInBytes());
+        assertEquals(0, snapshot.getBloomFilterNumberOfHashFunctions());
+    }
+
+    @Test
+    void reportsRecordedBloomFilterSizingAndObservedRate() {
+        final SegmentRuntimeSnapshot snapshot = new SegmentRuntimeSnapshot(
+                SegmentId.of(7), SegmentState.READY,
+                0L, 0L, 0L, 0L, 0, 0, 0L, 0L,
+                100L, 95L, 5L, 1L, 1199, 7);
+
+        assertEquals(1199, snapshot.getBloomFilterIndexSizeInBytes());
+        assertEquals(7, snapshot.getBloomFilterNumberOfHashFunctions());
+        assertEquals(1D / 96D,
+                snapshot.getBloomFilterObservedFalsePositiveRate(), 1e-12);
+        assertEquals(0D, new SegmentRuntimeSnapshot(SegmentId.of(7),
+                SegmentState.READY, 0L, 0L, 0L, 0L, 0, 0, 0L, 0L, 0L, 0L, 0L,
+                0L).getBloomFilterObservedFalsePositiveRate());
     }
 
     @Test
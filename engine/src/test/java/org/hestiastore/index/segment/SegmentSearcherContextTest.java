@@ -56,10 +56,10 @@ class SegmentSearcherContextTest {
     @Test
     void delegates_position_lookup_and_search() {
         when(dataProvider.getScarceIndex()).thenReturn(scarceIndex);
-        when(scarceIndex.get("k")).thenReturn(5);
+        when(scarceIndex.findPosition("k")).thenReturn(5L);
         when(indexSearcher.search("k", 5)).thenReturn(42L);
 
-        assertEquals(5, ctx.getPositionFromScarceIndex());
+        assertEquals(5L, ctx.getPositionFromScarceIndex());
         assertEquals(42L, ctx.searchInIndex(5));
     }
 
@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import org.hestiastore.index.scarceindex.ScarceSegmentIndex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -26,7 +27,8 @@ class SegmentSearcherStepIndexFileTest {
 
     @Test
     void stops_when_position_missing() {
-        when(ctx.getPositionFromScarceIndex()).thenReturn(null);
+        when(ctx.getPositionFromScarceIndex())
+                .thenReturn(ScarceSegmentIndex.NOT_FOUND);
         final var res = new SegmentSearcherResult<Long>();
 
         final boolean cont = step.filter(ctx, res);
@@ -37,7 +39,7 @@ class SegmentSearcherStepIndexFileTest {
 
     @Test
     void stops_and_marks_false_positive_when_not_found_in_index() {
-        when(ctx.getPositionFromScarceIndex()).thenReturn(10);
+        when(ctx.getPositionFromScarceIndex()).thenReturn(10L);
         when(ctx.searchInIndex(10)).thenReturn(null);
         final var res = new SegmentSearcherResult<Long>();
 
@@ -50,7 +52,7 @@ class SegmentSearcherStepIndexFileTest {
 
     @Test
     void sets_value_when_found_and_stops() {
-        when(ctx.getPositionFromScarceIndex()).thenReturn(5);
+        when(ctx.getPositionFromScarceIndex()).thenReturn(5L);
         when(ctx.searchInIndex(5)).thenReturn(77L);
         final var res = new SegmentSearcherResult<Long>();
 
@@ -2,10 +2,14 @@ package org.hestiastore.index.segment;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.hestiastore.index.bloomfilter.BloomFilter;
 import org.hestiastore.index.scarceindex.ScarceSegmentIndex;
 import org.junit.jupiter.api.AfterEach;
@@ -49,7 +53,8 @@ class SegmentSearcherTest {
     @Test
     void test_get_inBloomFilter_notInScarceIndex() {
         when(bloomFilter.isNotStored("key")).thenReturn(false);
-        when(scarceIndex.get("key")).thenReturn(null);
+        when(scarceIndex.findPosition("key"))
+                .thenReturn(ScarceSegmentIndex.NOT_FOUND);
         when(segmentDataProvider.getBloomFilter()).thenReturn(bloomFilter);
         when(segmentDataProvider.getScarceIndex()).thenReturn(scarceIndex);
 
@@ -60,7 +65,7 @@ class SegmentSearcherTest {
     @Test
     void test_get_inBloomFilter_inScarceIndex_notInIndex() {
         when(bloomFilter.isNotStored("key")).thenReturn(false);
-        when(scarceIndex.get("key")).thenReturn(123);
+        when(scarceIndex.findPosition("key")).thenReturn(123L);
         when(segmentIndexSearcher.search("key", 123)).thenReturn(null);
         when(segmentDataProvider.getBloomFilter()).thenReturn(bloomFilter);
         when(segmentDataProvider.getScarceIndex()).thenReturn(scarceIndex);
@@ -73,7 +78,7 @@ class SegmentSearcherTest {
     @Test
     void test_get_inBloomFilter_inScarceIndex_inIndex() {
         when(bloomFilter.isNotStored("key")).thenReturn(false);
-        when(scarceIndex.get("key")).thenReturn(123);
+        when(scarceIndex.findPosition("key")).thenReturn(123L);
         when(segmentIndexSearcher.search("key", 123)).thenReturn(8633L);
         when(segmentDataProvider.getBloomFilter()).thenReturn(bloomFilter);
         when(segmentDataProvider.getScarceIndex()).thenReturn(scarceIndex);
@@ -82,6 +87,29 @@ class SegmentSearcherTest {
                 segmentIndexSearcher));
     }
 
+    @Test
+    void test_getAll_groupsSurvivingKeysByChunkPosition() {
+        when(bloomFilter.isNotStored("a")).thenReturn(false);
+        when(bloomFilter.isNotStored("b")).thenReturn(true);
+        when(bloomFilter.isNotStored("c")).thenReturn(false);
+        when(bloomFilter.isNotStored("d")).thenReturn(false);
+        when(scarceIndex.findPosition("a")).thenReturn(10L);
+        when(scarceIndex.findPosition("c")).thenReturn(10L);
+        when(scarceIndex.findPosition("d")).thenReturn(20L);
+        when(segmentIndexSearcher.searchAll(List.of("a", "c"), 10))
+                .thenReturn(Arrays.asList(1L, null));
+        when(segmentIndexSearcher.searchAll(List.of("d"), 20))
+                .thenReturn(Arrays.asList(4L));
+        when(segmentDataProvider.getBloomFilter()).thenReturn(bloomFilter);
+        when(segmentDataProvider.getScarceIndex()).thenReturn(scarceIndex);
+
+        assertEquals(Arrays.asList(1L, null, null, 4L),
+                segmentSearcher.getAll(List.of("a", "b", "c", "d"),
+                        segmentDataProvider, segmentIndexSearcher));
+        verify(scarceIndex, never()).findPosition("b");
+        verify(bloomFilter, times(1)).incrementFalsePositive();
+    }
+
     @AfterEach
     void tearDown() {
         segmentSearcher = null;
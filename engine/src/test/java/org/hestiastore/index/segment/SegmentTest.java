@@ -58,6 +58,20 @@ class SegmentTest {
                     .make(List.<Entry<Integer, String>>of().iterator()));
         }
 
+        @Override
+        public OperationResult<EntryIterator<Integer, String>> openIterator(
+                final Integer fromInclusive, final Integer toExclusive,
+                final SegmentIteratorIsolation isolation) {
+            return openIterator(isolation);
+        }
+
+        @Override
+        public OperationResult<EntryIterator<Integer, String>> openDescendingIterator(
+                final Integer fromInclusive, final Integer toExclusive,
+                final SegmentIteratorIsolation isolation) {
+            return openIterator(isolation);
+        }
+
         @Override
         public OperationResult<Void> put(final Integer key, final String value) {
             return OperationResult.ok();
@@ -8,6 +8,7 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -241,6 +242,111 @@ class IntegrationSegmentIndexIteratorTest {
         }
     }
 
+    @Test
+    void keyRangeStreamReturnsOnlyKeysInsideRangeAcrossSplitSegments() {
+        try (SegmentIndex<Integer, String> index = makeAutonomousSplitIndex()) {
+            for (int i = 0; i < 48; i++) {
+                index.put(i, "stable-" + i);
+            }
+            final long revision = index.runtimeTuning().current().revision();
+            assertTrue(index.runtimeTuning()
+                    .apply(RuntimeTuningPatch.builder()
+                            .expectedRevision(revision)
+                            .segmentSplitKeyThreshold(16)
+                            .build())
+                    .applied());
+            index.maintenance().flushAndWait();
+            awaitCondition(() -> {
+                final SegmentIndexRuntimeSnapshot snapshot = index.runtimeMonitoring().snapshot();
+                return snapshot.segments().count() > 1
+                        && snapshot.split().inFlightCount() == 0;
+            }, SPLIT_REMAPPING_TIMEOUT_MILLIS);
+            index.delete(13);
+            index.put(20, "overlay-20");
+
+            final List<Entry<Integer, String>> expected = IntStream
+                    .range(10, 30).filter(key -> key != 13)
+                    .mapToObj(key -> Entry.of(key,
+                            key == 20 ? "overlay-20" : "stable-" + key))
+                    .toList();
+            try (var stream = index.getStream(10, 30,
+                    SegmentIteratorIsolation.FULL_ISOLATION)) {
+                assertEquals(expected, stream.toList());
+            }
+            try (var stream = index.getStream(45, null,
+                    SegmentIteratorIsolation.FULL_ISOLATION)) {
+                assertEquals(List.of(Entry.of(45, "stable-45"),
+                        Entry.of(46, "stable-46"), Entry.of(47, "stable-47")),
+                        stream.toList());
+            }
+            try (var stream = index.getStream(null, 2,
+                    SegmentIteratorIsolation.FULL_ISOLATION)) {
+                assertEquals(List.of(Entry.of(0, "stable-0"),
+                        Entry.of(1, "stable-1")), stream.toList());
+            }
+            try (var stream = index.getStream(100, 200,
+                    SegmentIteratorIsolation.FULL_ISOLATION)) {
+                assertEquals(0, stream.count());
+            }
+            try (var stream = index.getStream(30, 10)) {
+                assertEquals(0, stream.count());
+            }
+        }
+    }
+
+    @Test
+    void descendingStreamWalksSplitSegmentsFromHighestKey() {
+        try (SegmentIndex<Integer, String> index = makeAutonomousSplitIndex()) {
+            for (int i = 0; i < 48; i++) {
+                index.put(i, "stable-" + i);
+            }
+            final long revision = index.runtimeTuning().current().revision();
+            assertTrue(index.runtimeTuning()
+                    .apply(RuntimeTuningPatch.builder()
+                            .expectedRevision(revision)
+                            .segmentSplitKeyThreshold(16)
+                            .build())
+                    .applied());
+            index.maintenance().flushAndWait();
+            awaitCondition(() -> {
+                final SegmentIndexRuntimeSnapshot snapshot = index.runtimeMonitoring().snapshot();
+                return snapshot.segments().count() > 1
+                        && snapshot.split().inFlightCount() == 0;
+            }, SPLIT_REMAPPING_TIMEOUT_MILLIS);
+            index.delete(46);
+            index.put(20, "overlay-20");
+            index.put(48, "overlay-48");
+
+            final List<Entry<Integer, String>> ascending;
+            try (var stream = index.getStream(
+                    SegmentIteratorIsolation.FULL_ISOLATION)) {
+                ascending = new ArrayList<>(stream.toList());
+            }
+            Collections.reverse(ascending);
+            try (var stream = index.getDescendingStream(null, null,
+                    SegmentIteratorIsolation.FULL_ISOLATION)) {
+                assertEquals(ascending, stream.toList());
+            }
+            try (var stream = index.getDescendingStream(null, null,
+                    SegmentIteratorIsolation.FULL_ISOLATION)) {
+                assertEquals(List.of(Entry.of(48, "overlay-48"),
+                        Entry.of(47, "stable-47"), Entry.of(45, "stable-45")),
+                        stream.limit(3).toList());
+            }
+            try (var stream = index.getDescendingStream(18, 22,
+                    SegmentIteratorIsolation.FULL_ISOLATION)) {
+                assertEquals(List.of(Entry.of(21, "stable-21"),
+                        Entry.of(20, "overlay-20"), Entry.of(19, "stable-19"),
+                        Entry.of(18, "stable-18")), stream.toList());
+            }
+            try (var stream = index.getDescendingStream(null, 2,
+                    SegmentIteratorIsolation.FULL_ISOLATION)) {
+                assertEquals(List.of(Entry.of(1, "stable-1"),
+                        Entry.of(0, "stable-0")), stream.toList());
+            }
+        }
+    }
+
     @Test
     void failFastStreamOpenedBeforeSplitRemapKeepsStablePrefix() {
         try (SegmentIndex<Integer, String> index = makeAutonomousSplitIndex()) {
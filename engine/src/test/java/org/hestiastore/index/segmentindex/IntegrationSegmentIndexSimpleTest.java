@@ -182,6 +182,27 @@ class IntegrationSegmentIndexSimpleTest {
         assertEquals(1, list1.size());
     }
 
+    @Test
+    void test_getAll_matches_point_reads_from_cache_and_disk() {
+        final SegmentIndex<Integer, String> index1 = makeSegmentIndex();
+        testData.forEach(index1::put);
+        index1.maintenance().flushAndWait();
+        index1.delete(4);
+        index1.put(12, "new");
+        final List<Integer> keys = List.of(11, 0, 4, 1, 12, 7, 6, 13, 1);
+        final List<String> expected = keys.stream().map(index1::get)
+                .toList();
+        assertEquals(expected, index1.getAll(keys));
+        index1.close();
+
+        final SegmentIndex<Integer, String> index2 = openSegmentIndex();
+        try {
+            assertEquals(expected, index2.getAll(keys));
+        } finally {
+            index2.close();
+        }
+    }
+
     @Test
     void test_reopen_after_flush_and_split_materialization() {
         final SegmentIndex<Integer, String> index1 = makeSegmentIndex();
@@ -74,6 +74,33 @@ class IntegrationSegmentIndexWalRecoveryTest {
         }
     }
 
+    @Test
+    void crashReopenRecoversBatchWritesFromWal() {
+        final MemDirectory directory = new MemDirectory();
+        final IndexConfiguration<Integer, String> conf = integerWalRecoveryConfig(
+                "wal-batch-crash-recovery-it", false);
+        final List<Entry<Integer, String>> expected = expectedStableOverlayEntries();
+
+        final MemDirectory crashSnapshot;
+        try (SegmentIndex<Integer, String> index = SegmentIndex.create(directory,
+                conf)) {
+            index.putAll(IntStream.range(0, 48).map(i -> 47 - i)
+                    .mapToObj(i -> Entry.of(i, "stable-" + i)).toList());
+            index.putAll(List.of(Entry.of(49, "stale-49"),
+                    Entry.of(5, "overlay-5"), Entry.of(44, "overlay-44"),
+                    Entry.of(49, "overlay-49"), Entry.of(18, "stale-18")));
+            index.deleteAll(List.of(18));
+            assertIntegerIndexSnapshot(index, expected);
+
+            crashSnapshot = copyDirectoryWithoutLocks(directory);
+        }
+
+        try (SegmentIndex<Integer, String> reopened = SegmentIndex
+                .open(crashSnapshot)) {
+            assertIntegerIndexSnapshot(reopened, expected);
+        }
+    }
+
     @Test
     void crashReopenCleansUnpublishedSplitChildrenAndReplaysWalIntoParentRoute() {
         final MemDirectory directory = new MemDirectory();
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.hestiastore.index.segmentindex.configuration.api.IndexConfiguration;
 import org.hestiastore.index.segmentindex.configuration.api.IndexConfigurationBuilder;
@@ -57,6 +58,59 @@ class EffectiveIndexConfigurationResolverTest {
         assertFalse(effective.logging().contextEnabled());
     }
 
+    @Test
+    void mergeWithStoredAllowsSwitchingBloomFilterLayout() {
+        final EffectiveIndexConfiguration<Integer, String> stored = EffectiveIndexConfigurationResolver
+                .resolveForCreate(baseRequest().build());
+        assertFalse(stored.bloomFilter().blocked());
+
+        final EffectiveIndexConfiguration<Integer, String> effective = EffectiveIndexConfigurationResolver
+                .mergeWithStored(stored, IndexConfiguration
+                        .<Integer, String>builder()
+                        .bloomFilter(bloom -> bloom.blocked(true)).build());
+
+        assertTrue(effective.bloomFilter().blocked());
+        assertEquals(stored.bloomFilter().indexSizeBytes(),
+                effective.bloomFilter().indexSizeBytes());
+        assertFalse(EffectiveIndexConfigurationResolver
+                .mergeWithStored(stored,
+                        IndexConfiguration.<Integer, String>builder().build())
+                .bloomFilter().blocked());
+    }
+
+    @Test
+    void mergeWithStoredAllowsSwitchingBloomFilterMemoryMapping() {
+        final EffectiveIndexConfiguration<Integer, String> stored = EffectiveIndexConfigurationResolver
+                .resolveForCreate(baseRequest().build());
+        assertFalse(stored.bloomFilter().memoryMapped());
+
+        final EffectiveIndexConfiguration<Integer, String> effective = EffectiveIndexConfigurationResolver
+                .mergeWithStored(stored, IndexConfiguration
+                        .<Integer, String>builder()
+                        .bloomFilter(bloom -> bloom.memoryMapped(true))
+                        .build());
+
+        assertTrue(effective.bloomFilter().memoryMapped());
+        assertEquals(stored.bloomFilter().blocked(),
+                effective.bloomFilter().blocked());
+    }
+
+    @Test
+    void mergeWithStoredAllowsEnablingBloomFilterAutoSizing() {
+        final EffectiveIndexConfiguration<Integer, String> stored = EffectiveIndexConfigurationResolver
+                .resolveForCreate(baseRequest().build());
+        assertFalse(stored.bloomFilter().autoSized());
+
+        final EffectiveIndexConfiguration<Integer, String> effective = EffectiveIndexConfigurationResolver
+                .mergeWithStored(stored, IndexConfiguration
+                        .<Integer, String>builder()
+                        .bloomFilter(bloom -> bloom.autoSized(true))
+                        .build());
+
+        assertTrue(effective.bloomFilter().autoSized());
+        assertFalse(effective.bloomFilter().memoryMapped());
+    }
+
     @Test
     void mergeWithStoredRejectsFixedPropertyOverride() {
         final EffectiveIndexConfiguration<Integer, String> stored = EffectiveIndexConfigurationResolver
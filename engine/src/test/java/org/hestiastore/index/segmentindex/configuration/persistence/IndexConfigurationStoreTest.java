@@ -64,6 +64,26 @@ class IndexConfigurationStoreTest {
         assertEquals(10, loaded.writePath().segmentSplitKeyThreshold());
         assertFalse(loaded.maintenance().backgroundAutoEnabled());
         assertEquals(128, loaded.chunkStoreCache().pageLimit());
+        assertEquals(0, loaded.chunkStoreCache().byteLimit());
+        assertFalse(loaded.chunkStoreCache().compactPages());
+        assertFalse(loaded.chunkStoreCache().warmOnCompaction());
+        assertFalse(loaded.bloomFilter().blocked());
+        assertFalse(loaded.bloomFilter().memoryMapped());
+        assertFalse(loaded.bloomFilter().autoSized());
+        assertFalse(loaded.segment().deltaCacheOnDisk());
+    }
+
+    @Test
+    void chunkStoreCacheByteLimitAboveIntegerRangeRoundTrips() {
+        final MemDirectory directory = new MemDirectory();
+        final IndexConfigurationStore<String, String> storage = new IndexConfigurationStore<>(
+                directory);
+        final long byteLimit = 6L * 1024 * 1024 * 1024;
+
+        storage.save(effective(buildConf(byteLimit)));
+
+        assertTrue(byteLimit > Integer.MAX_VALUE);
+        assertEquals(byteLimit, storage.load().chunkStoreCache().byteLimit());
     }
 
     @Test
@@ -82,7 +102,9 @@ class IndexConfigurationStoreTest {
                         .segment(segment -> segment.maxKeys(100)
                                 .chunkKeyLimit(10).cacheKeyLimit(20)
                                 .cachedSegmentLimit(4)
-                                .deltaCacheFileLimit(3))
+                                .deltaCacheFileLimit(3)
+                                .chunkRestartInterval(16)
+                                .deltaCacheOnDisk(true))
                         .writePath(writePath -> writePath
                                 .segmentWriteCacheKeyLimit(7)
                                 .maintenanceWriteCacheKeyLimit(9)
@@ -90,7 +112,9 @@ class IndexConfigurationStoreTest {
                                 .segmentSplitKeyThreshold(80))
                         .bloomFilter(bloom -> bloom.hashFunctions(2)
                                 .indexSizeBytes(1024)
-                                .falsePositiveProbability(0.05D))
+                                .falsePositiveProbability(0.05D)
+                                .blocked(true).memoryMapped(true)
+                                .autoSized(true))
                         .maintenance(maintenance -> maintenance
                                 .indexThreads(3)
                                 .registryLifecycleThreads(4)
@@ -99,7 +123,9 @@ class IndexConfigurationStoreTest {
                                 .backgroundAutoEnabled(false))
                         .io(io -> io.diskBufferSizeBytes(2048))
                         .logging(logging -> logging.contextEnabled(false))
-                        .chunkStoreCache(cache -> cache.pageLimit(5))
+                        .chunkStoreCache(cache -> cache.pageLimit(5)
+                                .byteLimit(65_536L).compactPages(true)
+                                .warmOnCompaction(true))
                         .filters(filters -> filters
                                 .encodingFilterSpecs(
                                         List.of(ChunkFilterSpecs.doNothing()))
@@ -113,14 +139,22 @@ class IndexConfigurationStoreTest {
 
         assertEquals("grouped-storage", loaded.identity().name());
         assertEquals(Integer.valueOf(100), loaded.segment().maxKeys());
+        assertEquals(16, loaded.segment().chunkRestartInterval());
+        assertTrue(loaded.segment().deltaCacheOnDisk());
         assertEquals(Integer.valueOf(7),
                 loaded.writePath().segmentWriteCacheKeyLimit());
         assertEquals(Integer.valueOf(1024),
                 loaded.bloomFilter().indexSizeBytes());
+        assertTrue(loaded.bloomFilter().blocked());
+        assertTrue(loaded.bloomFilter().memoryMapped());
+        assertTrue(loaded.bloomFilter().autoSized());
         assertFalse(loaded.maintenance().backgroundAutoEnabled());
         assertEquals(Integer.valueOf(2048), loaded.io().diskBufferSizeBytes());
         assertFalse(loaded.logging().contextEnabled());
         assertEquals(5, loaded.chunkStoreCache().pageLimit());
+        assertEquals(65_536L, loaded.chunkStoreCache().byteLimit());
+        assertTrue(loaded.chunkStoreCache().compactPages());
+        assertTrue(loaded.chunkStoreCache().warmOnCompaction());
         assertEquals(List.of(ChunkFilterSpecs.doNothing()),
                 loaded.filters().encodingChunkFilterSpecs());
     }
@@ -521,6 +555,11 @@ class IndexConfigurationStoreTest {
     }
 
     private IndexConfiguration<String, String> buildConf() {
+        return buildConf(null);
+    }
+
+    private IndexConfiguration<String, String> buildConf(
+            final Long chunkStoreCacheByteLimit) {
         final TypeDescriptorShortString typeDescriptor = new TypeDescriptorShortString();
         return IndexConfiguration.<String, String>builder()//
                 .identity(identity -> identity.keyClass(String.class))//
@@ -542,6 +581,7 @@ class IndexConfigurationStoreTest {
                 .io(io -> io.diskBufferSizeBytes(1024))//
                 .logging(logging -> logging.contextEnabled(false))//
                 .maintenance(maintenance -> maintenance.backgroundAutoEnabled(false))//
+                .chunkStoreCache(cache -> cache.byteLimit(chunkStoreCacheByteLimit))//
                 .filters(filters -> filters.encodingFilters(
                         List.of(new ChunkFilterDoNothing())))//
                 .filters(filters -> filters.decodingFilters(
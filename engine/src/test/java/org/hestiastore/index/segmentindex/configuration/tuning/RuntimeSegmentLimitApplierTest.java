@@ -88,10 +88,11 @@ class RuntimeSegmentLimitApplierTest {
                 "segment-runtime-limit-applier-cache-test", 0L, Instant.now(),
                 new RuntimeSegmentTuningSnapshot(10, 3),
                 new RuntimeWritePathTuningSnapshot(5, 7, 9, 50),
-                new RuntimeChunkStoreCacheTuningSnapshot(6));
+                new RuntimeChunkStoreCacheTuningSnapshot(6, 4096));
 
         cacheApplier.apply(effective);
 
         verify(chunkStoreCache).updateLimit(6);
+        verify(chunkStoreCache).updateByteLimit(4096L);
     }
 }
@@ -90,6 +90,40 @@ class RuntimeTuningPatchValidatorTest {
                 validation.issues().get(0).field());
     }
 
+    @Test
+    void validateAcceptsZeroAndRejectsNegativeChunkStoreCacheByteLimit() {
+        final RuntimeTuningValidation accepted = validator
+                .validate(RuntimeTuningPatch.builder()
+                        .chunkStoreCacheByteLimit(0)
+                        .build());
+        final RuntimeTuningValidation rejected = validator
+                .validate(RuntimeTuningPatch.builder()
+                        .chunkStoreCacheByteLimit(-1)
+                        .build());
+
+        assertTrue(accepted.valid());
+        assertEquals(RuntimeTuningValue.ofInt(0),
+                accepted.normalizedValues().get(
+                        RuntimeTuningKey.CHUNK_STORE_CACHE_BYTE_LIMIT));
+        assertFalse(rejected.valid());
+        assertEquals(RuntimeTuningKey.CHUNK_STORE_CACHE_BYTE_LIMIT,
+                rejected.issues().get(0).field());
+    }
+
+    @Test
+    void validateAcceptsChunkStoreCacheByteLimitAboveIntegerRange() {
+        final long byteLimit = 6L * 1024 * 1024 * 1024;
+        final RuntimeTuningValidation validation = validator
+                .validate(RuntimeTuningPatch.builder()
+                        .chunkStoreCacheByteLimit(byteLimit)
+                        .build());
+
+        assertTrue(validation.valid());
+        assertEquals(RuntimeTuningValue.ofLong(byteLimit),
+                validation.normalizedValues().get(
+                        RuntimeTuningKey.CHUNK_STORE_CACHE_BYTE_LIMIT));
+    }
+
     private static IndexConfiguration<Integer, String> buildConf() {
         return IndexConfiguration.<Integer, String>builder()
                 .identity(identity -> identity.keyClass(Integer.class))
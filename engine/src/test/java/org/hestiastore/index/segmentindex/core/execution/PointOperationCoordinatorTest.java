@@ -3,9 +3,19 @@ package org.hestiastore.index.segmentindex.core.execution;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import java.util.List;
+
+import org.hestiastore.index.Entry;
+import org.hestiastore.index.datatype.TypeDescriptorInteger;
 import org.hestiastore.index.datatype.TypeDescriptorShortString;
 import org.hestiastore.index.segmentindex.core.routing.MappedSegmentLease;
 import org.hestiastore.index.segmentindex.core.routing.MappedSegmentLeaseService;
@@ -15,6 +25,7 @@ import org.hestiastore.index.segmentregistry.BlockingSegment;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -42,8 +53,8 @@ class PointOperationCoordinatorTest {
     @BeforeEach
     void setUp() {
         statsRecorder = new IndexOperationStatsRecorder();
-        coordinator = new PointOperationCoordinator<>(typeDescriptor,
-                statsRecorder, segmentLeaseService, storageService);
+        coordinator = new PointOperationCoordinator<>(
+                new TypeDescriptorInteger(), typeDescriptor, statsRecorder, segmentLeaseService, storageService);
     }
 
     @Test
@@ -73,6 +84,30 @@ class PointOperationCoordinatorTest {
         verify(segmentLease).close();
     }
 
+    @Test
+    void getAllReadsEachRoutedSegmentOnceAndKeepsRequestOrder() {
+        when(segmentLeaseService.acquireForRead(1)).thenReturn(segmentLease);
+        when(segmentLeaseService.routedRunEnd(segmentLease, List.of(1, 2, 5),
+                0)).thenReturn(3);
+        when(segmentLease.segment()).thenReturn(blockingSegment);
+        when(blockingSegment.getAll(List.of(1, 2, 5)))
+                .thenReturn(java.util.Arrays.asList("one", null, "five"));
+
+        assertEquals(java.util.Arrays.asList("five", "one", null, "five"),
+                coordinator.getAll(List.of(5, 1, 2, 5)));
+
+        assertEquals(4L, statsRecorder.statsSnapshot().getGetCount());
+        verify(segmentLease).close();
+    }
+
+    @Test
+    void getAllReturnsNullsWhenIndexHasNoRoutes() {
+        when(segmentLeaseService.acquireForRead(1)).thenReturn(null);
+
+        assertEquals(java.util.Arrays.asList(null, null),
+                coordinator.getAll(List.of(2, 1)));
+    }
+
     @Test
     void getReturnsNullWhenKeyHasNoRoute() {
         when(segmentLeaseService.acquireForRead(1)).thenReturn(null);
@@ -118,10 +153,127 @@ class PointOperationCoordinatorTest {
         verify(storageService).recordAppliedWalLsn(11L);
     }
 
+    @Test
+    void replayWalRecordsWritesNewestRecordPerKeyInRoutedPartitions() {
+        @SuppressWarnings("unchecked")
+        final MappedSegmentLease<Integer, String> secondLease = org.mockito.Mockito
+                .mock(MappedSegmentLease.class);
+        final List<Integer> keys = List.of(1, 2, 5);
+        when(segmentLeaseService.currentRoutedRunEnd(keys, 0)).thenReturn(2);
+        when(segmentLeaseService.currentRoutedRunEnd(keys, 2)).thenReturn(3);
+        when(segmentLeaseService.acquireForWrite(1)).thenReturn(segmentLease);
+        when(segmentLeaseService.acquireForWrite(5)).thenReturn(secondLease);
+        when(segmentLeaseService.routedRunEnd(segmentLease, keys, 0))
+                .thenReturn(2);
+        when(segmentLeaseService.routedRunEnd(secondLease, keys, 2))
+                .thenReturn(3);
+        when(segmentLease.segment()).thenReturn(blockingSegment);
+        when(secondLease.segment()).thenReturn(blockingSegment);
+        final List<Runnable> partitions = new java.util.ArrayList<>();
+
+        coordinator.replayWalRecords(List.of(
+                replayRecord(5L, WalRuntime.Operation.PUT, 5, "five"),
+                replayRecord(6L, WalRuntime.Operation.PUT, 2, "two-a"),
+                replayRecord(7L, WalRuntime.Operation.PUT, 1, "one"),
+                replayRecord(8L, WalRuntime.Operation.DELETE, 2, null)),
+                partition -> {
+                    partitions.add(partition);
+                    partition.run();
+                });
+
+        assertEquals(2, partitions.size());
+        final InOrder order = inOrder(blockingSegment, storageService);
+        order.verify(blockingSegment).put(1, "one");
+        order.verify(blockingSegment).put(2,
+                TypeDescriptorShortString.TOMBSTONE_VALUE);
+        order.verify(blockingSegment).put(5, "five");
+        order.verify(storageService).recordAppliedWalLsn(8L);
+        verify(blockingSegment, never()).put(2, "two-a");
+        verify(segmentLease).close();
+        verify(secondLease).close();
+    }
+
     @Test
     void putRejectsTombstoneValues() {
         assertThrows(IllegalArgumentException.class,
                 () -> coordinator.put(1,
                         TypeDescriptorShortString.TOMBSTONE_VALUE));
     }
+
+    @Test
+    void putAllSortsBatchLogsOneWalBatchAndWritesOneLeasePerSegment() {
+        final List<Entry<Integer, String>> sorted = List.of(
+                Entry.of(1, "one"), Entry.of(2, "two-b"),
+                Entry.of(3, "three"));
+        when(storageService.appendWalBatch(sorted)).thenReturn(9L);
+        when(segmentLeaseService.acquireForWrite(1)).thenReturn(segmentLease);
+        when(segmentLeaseService.routedRunEnd(segmentLease,
+                List.of(1, 2, 3), 0)).thenReturn(3);
+        when(segmentLease.segment()).thenReturn(blockingSegment);
+
+        coordinator.putAll(List.of(Entry.of(3, "three"), Entry.of(2, "two-a"),
+                Entry.of(1, "one"), Entry.of(2, "two-b")));
+
+        assertEquals(4L, statsRecorder.statsSnapshot().getPutCount());
+        final InOrder order = inOrder(blockingSegment, storageService);
+        order.verify(blockingSegment).put(1, "one");
+        order.verify(blockingSegment).put(2, "two-b");
+        order.verify(blockingSegment).put(3, "three");
+        order.verify(storageService).recordAppliedWalLsn(9L);
+        verify(blockingSegment, never()).put(2, "two-a");
+        verify(segmentLeaseService).acquireForWrite(1);
+        verify(segmentLease).close();
+    }
+
+    @Test
+    void deleteAllLogsDeletesAndWritesTombstonesPerRoutedSegment() {
+        @SuppressWarnings("unchecked")
+        final MappedSegmentLease<Integer, String> secondLease = org.mockito.Mockito
+                .mock(MappedSegmentLease.class);
+        final List<Entry<Integer, String>> walBatch = List.of(
+                Entry.of(4, null), Entry.of(8, null));
+        when(storageService.appendWalBatch(walBatch)).thenReturn(12L);
+        when(segmentLeaseService.acquireForWrite(4)).thenReturn(segmentLease);
+        when(segmentLeaseService.acquireForWrite(8)).thenReturn(secondLease);
+        when(segmentLeaseService.routedRunEnd(any(), anyList(), anyInt()))
+                .thenAnswer(invocation -> (int) invocation.getArgument(2) + 1);
+        when(segmentLease.segment()).thenReturn(blockingSegment);
+        when(secondLease.segment()).thenReturn(blockingSegment);
+
+        coordinator.deleteAll(List.of(8, 4));
+
+        assertEquals(2L, statsRecorder.statsSnapshot().getDeleteCount());
+        verify(blockingSegment).put(4,
+                TypeDescriptorShortString.TOMBSTONE_VALUE);
+        verify(blockingSegment).put(8,
+                TypeDescriptorShortString.TOMBSTONE_VALUE);
+        verify(segmentLease).close();
+        verify(secondLease).close();
+        verify(storageService).recordAppliedWalLsn(12L);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static WalRuntime.ReplayRecord<Integer, String> replayRecord(
+            final long lsn, final WalRuntime.Operation operation,
+            final Integer key, final String value) {
+        final WalRuntime.ReplayRecord<Integer, String> replayRecord =
+                (WalRuntime.ReplayRecord<Integer, String>) org.mockito.Mockito
+                        .mock(WalRuntime.ReplayRecord.class);
+        when(replayRecord.getLsn()).thenReturn(lsn);
+        when(replayRecord.getOperation()).thenReturn(operation);
+        when(replayRecord.getKey()).thenReturn(key);
+        if (operation == WalRuntime.Operation.PUT) {
+            when(replayRecord.getValue()).thenReturn(value);
+        }
+        return replayRecord;
+    }
+
+    @Test
+    void putAllRejectsTombstoneValuesBeforeLogging() {
+        assertThrows(IllegalArgumentException.class,
+                () -> coordinator.putAll(List.of(Entry.of(1, "one"),
+                        Entry.of(2, TypeDescriptorShortString.TOMBSTONE_VALUE))));
+
+        verifyNoInteractions(storageService, segmentLeaseService);
+    }
 }
@@ -171,6 +171,24 @@ class MappedSegmentLeaseServiceBehaviorTest {
         assertFalse(service.isCurrent(snapshot));
     }
 
+    @Test
+    void routedRunEndStopsAtFirstKeyRoutedToAnotherSegment() {
+        keyToSegmentMap.extendMaxKeyIfNeeded(10);
+        assertTrue(keyToSegmentMap.tryReplaceRouteWithSplit(
+                new RouteSplitPlan<>(SegmentId.of(0), SegmentId.of(1),
+                        SegmentId.of(2), 5, 10)));
+        segmentTopology.reconcile(keyToSegmentMap.snapshot());
+        when(segmentRegistry.loadSegment(SegmentId.of(1)))
+                .thenReturn(blockingSegment);
+        final List<Integer> sortedKeys = List.of(2, 4, 5, 6, 20);
+
+        try (MappedSegmentLease<Integer, String> lease = service
+                .acquireForWrite(2)) {
+            assertEquals(3, service.routedRunEnd(lease, sortedKeys, 0));
+            assertEquals(3, service.routedRunEnd(lease, sortedKeys, 1));
+        }
+    }
+
     @Test
     void acquireMappedSegmentReturnsLoadedLeaseAndClosesRouteLease() {
         keyToSegmentMap.extendMaxKeyIfNeeded(10);
@@ -31,17 +31,17 @@ class IndexMemoryEstimatorTest {
         printReport("complete", estimate);
 
         assertTrue(estimate.isComplete());
-        assertEquals(98_460L, estimate.totalEstimatedBytes().orElseThrow());
+        assertEquals(85_710L, estimate.totalEstimatedBytes().orElseThrow());
         final String log = estimate.text();
         assertTrue(log.contains("Estimated memory use at startup"));
-        assertTrue(log.contains("Estimated active heap: 96.15 KiB"));
+        assertTrue(log.contains("Estimated active heap: 83.70 KiB"));
         assertTrue(log.contains(
-                "steady state: 76.92 KiB (memory expected after startup caches are loaded)"));
+                "steady state: 66.96 KiB (memory expected after startup caches are loaded)"));
         assertTrue(log.contains(
-                "temporary margin: 19.23 KiB (extra headroom for short-lived objects and snapshots)"));
-        assertLineAppearsBefore(log, "Estimated active heap: 96.15 KiB",
+                "temporary margin: 16.74 KiB (extra headroom for short-lived objects and snapshots)"));
+        assertLineAppearsBefore(log, "Estimated active heap: 83.70 KiB",
                 "Notes:");
-        assertLineAppearsBefore(log, "Estimated active heap: 96.15 KiB",
+        assertLineAppearsBefore(log, "Estimated active heap: 83.70 KiB",
                 "Per-entry size assumptions:");
         assertTrue(log.contains(
                 "Rough estimate only; not a JVM cap or measured allocation."));
@@ -55,7 +55,7 @@ class IndexMemoryEstimatorTest {
         assertTrue(log.contains(
                 "loaded segment infrastructure: 48.00 KiB"));
         assertTrue(log.contains(
-                "scarce indexes if loaded: 15.23 KiB"));
+                "scarce indexes if loaded: 5.27 KiB"));
         assertTrue(log.contains("Configuration used for this estimate:"));
         assertTrue(log.contains(
                 "cached segments=3, segment cache keys=10, maintenance keys=6"));
@@ -86,13 +86,32 @@ class IndexMemoryEstimatorTest {
                 new TypeDescriptorShortString(), 0);
         printReport("chunk-store-cache", estimate);
 
-        assertEquals(103_010L, estimate.totalEstimatedBytes().orElseThrow());
+        assertEquals(90_260L, estimate.totalEstimatedBytes().orElseThrow());
         assertTrue(estimate.text().contains(
                 "chunk-store cache: 3.55 KiB"));
         assertTrue(estimate.text().contains(
                 "inputs: 7 pages, 2 chunk keys, page overhead 64 B, entry 228 B"));
     }
 
+    @Test
+    void estimateCapsChunkStoreCacheAtByteLimit() {
+        final EffectiveIndexConfiguration<Integer, String> configuration =
+                effectiveConfiguration("memory-estimate-chunk-cache-bytes",
+                        String.class, new TypeDescriptorShortString(), 10, 6,
+                        2, 3, 7, 1024);
+
+        final MemoryEstimateReport estimate = IndexMemoryEstimator.estimate(
+                configuration, new TypeDescriptorInteger(),
+                new TypeDescriptorShortString(), 0);
+        printReport("chunk-store-cache-bytes", estimate);
+
+        assertEquals(86_990L, estimate.totalEstimatedBytes().orElseThrow());
+        assertTrue(estimate.text().contains(
+                "chunk-store cache: 1.00 KiB"));
+        assertTrue(estimate.text().contains(
+                "inputs: 7 pages, 2 chunk keys, page overhead 64 B, entry 228 B, byte limit 1.00 KiB"));
+    }
+
     @Test
     void estimateScalesCachedSegmentLimit() {
         final EffectiveIndexConfiguration<Integer, String> configuration =
@@ -105,7 +124,7 @@ class IndexMemoryEstimatorTest {
                 new TypeDescriptorShortString(), 0);
         printReport("cached-segment-limit", estimate);
 
-        assertEquals(164_100L, estimate.totalEstimatedBytes().orElseThrow());
+        assertEquals(142_850L, estimate.totalEstimatedBytes().orElseThrow());
         assertTrue(estimate.text().contains(
                 "loaded segment cache: 17.81 KiB"));
         assertTrue(estimate.text().contains(
@@ -125,7 +144,7 @@ class IndexMemoryEstimatorTest {
                 new TypeDescriptorShortString(), 4);
         printReport("route-count", estimate);
 
-        assertEquals(99_220L, estimate.totalEstimatedBytes().orElseThrow());
+        assertEquals(86_470L, estimate.totalEstimatedBytes().orElseThrow());
         assertTrue(estimate.text().contains(
                 "route map: 608 B"));
         assertTrue(estimate.text().contains(
@@ -144,15 +163,15 @@ class IndexMemoryEstimatorTest {
                 new TypeDescriptorShortString(), 0);
         printReport("cache-key-limits", estimate);
 
-        assertEquals(110_430L, estimate.totalEstimatedBytes().orElseThrow());
+        assertEquals(97_680L, estimate.totalEstimatedBytes().orElseThrow());
         assertTrue(estimate.text().contains(
                 "loaded segment cache: 20.04 KiB"));
         assertTrue(estimate.text().contains(
                 "inputs: 3 segments, 20 read keys, 10 maintenance keys, entry 228 B"));
         assertTrue(estimate.text().contains(
-                "temporary memory margin: 21.57 KiB"));
+                "temporary memory margin: 19.08 KiB"));
         assertTrue(estimate.text().contains(
-                "inputs: max(25% of steady state = 86.27 KiB, one segment cache = 6.68 KiB)"));
+                "inputs: max(25% of steady state = 76.31 KiB, one segment cache = 6.68 KiB)"));
     }
 
     @Test
@@ -167,7 +186,7 @@ class IndexMemoryEstimatorTest {
                 new TypeDescriptorShortString(), 0);
         printReport("segment-cache-gib", estimate);
 
-        assertEquals(1_995_282_600L,
+        assertEquals(1_995_240_100L,
                 estimate.totalEstimatedBytes().orElseThrow());
         assertTrue(estimate.text().contains(
                 "Estimated active heap: 1.86 GiB"));
@@ -191,7 +210,7 @@ class IndexMemoryEstimatorTest {
                 new TypeDescriptorShortString(), 0);
         printReport("chunk-store-gib", estimate);
 
-        assertEquals(1_429_079_350L,
+        assertEquals(1_429_079_095L,
                 estimate.totalEstimatedBytes().orElseThrow());
         assertTrue(estimate.text().contains(
                 "Estimated active heap: 1.33 GiB"));
@@ -256,6 +275,21 @@ class IndexMemoryEstimatorTest {
             final int chunkKeyLimit,
             final int cachedSegmentLimit,
             final int chunkStorePageLimit) {
+        return effectiveConfiguration(name, valueClass, valueTypeDescriptor,
+                cacheKeyLimit, maintenanceWriteCacheKeyLimit, chunkKeyLimit,
+                cachedSegmentLimit, chunkStorePageLimit, 0);
+    }
+
+    @SuppressWarnings("java:S107")
+    private static <V> EffectiveIndexConfiguration<Integer, V> effectiveConfiguration(
+            final String name, final Class<V> valueClass,
+            final TypeDescriptor<V> valueTypeDescriptor,
+            final int cacheKeyLimit,
+            final int maintenanceWriteCacheKeyLimit,
+            final int chunkKeyLimit,
+            final int cachedSegmentLimit,
+            final int chunkStorePageLimit,
+            final long chunkStoreByteLimit) {
         return EffectiveIndexConfigurationResolver.resolveForCreate(
                 IndexConfiguration.<Integer, V>builder()
                         .identity(identity -> identity.keyClass(Integer.class))
@@ -285,6 +319,8 @@ class IndexMemoryEstimatorTest {
                                 .falsePositiveProbability(0.01D))
                         .chunkStoreCache(cache -> cache
                                 .pageLimit(chunkStorePageLimit))
+                        .chunkStoreCache(cache -> cache
+                                .byteLimit(chunkStoreByteLimit))
                         .build());
     }
 
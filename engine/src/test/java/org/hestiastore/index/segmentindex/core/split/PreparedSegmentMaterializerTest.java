@@ -33,6 +33,7 @@ import org.hestiastore.index.segment.SegmentFullWriterTx;
 import org.hestiastore.index.segment.SegmentId;
 import org.hestiastore.index.segment.SegmentIteratorIsolation;
 import org.hestiastore.index.segmentindex.configuration.api.IndexConfiguration;
+import org.hestiastore.index.segmentindex.routemap.RouteMergePlan;
 import org.hestiastore.index.segmentindex.routemap.RouteSplitPlan;
 import org.hestiastore.index.segmentregistry.SegmentRegistry;
 import org.junit.jupiter.api.Test;
@@ -323,6 +324,78 @@ class PreparedSegmentMaterializerTest {
         verify(upperWriter, atLeastOnce()).close();
     }
 
+    @Test
+    void materializeRouteMergeCreatesReadableMergedSegment() {
+        final Directory directory = new MemDirectory();
+        final ExecutorService stableSegmentMaintenancePool = Executors
+                .newSingleThreadExecutor();
+        final ExecutorService registryMaintenancePool = Executors
+                .newSingleThreadExecutor();
+        final IndexConfiguration<Integer, String> conf = newConfiguration();
+        final SegmentRegistry<Integer, String> registry = openRegistry(
+                directory, conf, stableSegmentMaintenancePool,
+                registryMaintenancePool);
+        final PreparedSegmentMaterializer<Integer, String> service = new PreparedSegmentMaterializer<>(
+                directory, registry.materialization());
+
+        try {
+            final List<Entry<Integer, String>> lowerEntries = entries(3);
+            final List<Entry<Integer, String>> upperEntries = entries(6)
+                    .subList(3, 6);
+            final Segment<Integer, String> lowerSegment = registry
+                    .loadSegment(openSourceSegment(registry, lowerEntries))
+                    .getSegment();
+            final Segment<Integer, String> upperSegment = registry
+                    .loadSegment(openSourceSegment(registry, upperEntries))
+                    .getSegment();
+            final RouteMergePlan<Integer> mergePlan = service
+                    .materializeRouteMerge(lowerSegment, upperSegment,
+                            EntryIterator.make(lowerEntries.iterator()),
+                            EntryIterator.make(upperEntries.iterator()));
+
+            assertEquals(lowerSegment.getId(), mergePlan.getLowerSegmentId());
+            assertEquals(upperSegment.getId(), mergePlan.getUpperSegmentId());
+            try {
+                assertEquals(entries(6), readEntries(registry
+                        .loadSegment(mergePlan.getMergedSegmentId())
+                        .getSegment()));
+            } finally {
+                registry.close();
+            }
+        } finally {
+            registryMaintenancePool.shutdownNow();
+            stableSegmentMaintenancePool.shutdownNow();
+        }
+    }
+
+    @Test
+    void materializeRouteMergeDeletesPreparedSegmentWhenWriteFails() {
+        final Directory directory = new MemDirectory();
+        @SuppressWarnings("unchecked")
+        final SegmentRegistry.Materialization<Integer, String> materialization = mock(
+                SegmentRegistry.Materialization.class);
+        final SegmentFullWriterTx<Integer, String> mergedTx = writerTx();
+        final EntryWriter<Integer, String> mergedWriter = writer();
+        when(materialization.nextSegmentId()).thenReturn(SegmentId.of(4));
+        when(materialization.openWriterTx(SegmentId.of(4)))
+                .thenReturn(mergedTx);
+        when(mergedTx.open()).thenReturn(mergedWriter);
+        doThrow(new IllegalStateException("write failed"))
+                .when(mergedWriter).write(any());
+        final PreparedSegmentMaterializer<Integer, String> service = new PreparedSegmentMaterializer<>(directory,
+                materialization);
+
+        assertThrows(IllegalStateException.class,
+                () -> service.materializeRouteMerge(mockSegment(),
+                        mockSegment(),
+                        EntryIterator.make(entries(3).iterator()),
+                        EntryIterator.make(List.<Entry<Integer, String>>of()
+                                .iterator())));
+
+        assertFalse(directory.isFileExists(SegmentId.of(4).getName()));
+        verify(mergedWriter).close();
+    }
+
     @Test
     void deletePreparedSegmentFailsWhenDirectoryRemainsOnDisk() {
         final Directory directory = mock(Directory.class);
@@ -0,0 +1,69 @@
+package org.hestiastore.index.segmentindex.core.split;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import org.hestiastore.index.segment.SegmentId;
+import org.junit.jupiter.api.Test;
+
+class SegmentMergePolicyTest {
+
+    private static final List<SegmentId> ROUTED = List.of(SegmentId.of(1),
+            SegmentId.of(2), SegmentId.of(3), SegmentId.of(4),
+            SegmentId.of(5));
+
+    @Test
+    void selectCandidates_pairsAdjacentSegmentsGreedily() {
+        final List<SegmentMergePolicy.Candidate> candidates = SegmentMergePolicy
+                .selectCandidates(ROUTED, id -> 2L, 10L);
+
+        assertEquals(2, candidates.size());
+        assertEquals(SegmentId.of(1), candidates.get(0).lowerSegmentId());
+        assertEquals(SegmentId.of(2), candidates.get(0).upperSegmentId());
+        assertEquals(4L, candidates.get(0).combinedKeyCount());
+        assertEquals(SegmentId.of(3), candidates.get(1).lowerSegmentId());
+        assertEquals(SegmentId.of(4), candidates.get(1).upperSegmentId());
+    }
+
+    @Test
+    void selectCandidates_skipsSegmentsWithUnknownKeyCount() {
+        final Map<SegmentId, Long> counts = Map.of(SegmentId.of(1), 1L,
+                SegmentId.of(2), SegmentMergePolicy.UNKNOWN_KEY_COUNT,
+                SegmentId.of(3), 1L, SegmentId.of(4), 1L, SegmentId.of(5),
+                1L);
+
+        final List<SegmentMergePolicy.Candidate> candidates = SegmentMergePolicy
+                .selectCandidates(ROUTED, counts::get, 10L);
+
+        assertEquals(1, candidates.size());
+        assertEquals(SegmentId.of(3), candidates.get(0).lowerSegmentId());
+        assertEquals(SegmentId.of(4), candidates.get(0).upperSegmentId());
+    }
+
+    @Test
+    void selectCandidates_thresholdIsExclusive() {
+        final Map<SegmentId, Long> counts = Map.of(SegmentId.of(1), 5L,
+                SegmentId.of(2), 5L, SegmentId.of(3), 4L, SegmentId.of(4),
+                9L, SegmentId.of(5), 9L);
+
+        final List<SegmentMergePolicy.Candidate> candidates = SegmentMergePolicy
+                .selectCandidates(ROUTED, counts::get, 10L);
+
+        assertEquals(1, candidates.size());
+        assertEquals(SegmentId.of(2), candidates.get(0).lowerSegmentId());
+        assertEquals(SegmentId.of(3), candidates.get(0).upperSegmentId());
+        assertEquals(9L, candidates.get(0).combinedKeyCount());
+    }
+
+    @Test
+    void selectCandidates_returnsNothingWhenDisabled() {
+        assertTrue(SegmentMergePolicy.selectCandidates(ROUTED, id -> 0L, 0L)
+                .isEmpty());
+        assertTrue(SegmentMergePolicy
+                .selectCandidates(List.of(SegmentId.of(1)), id -> 0L, 10L)
+                .isEmpty());
+    }
+}
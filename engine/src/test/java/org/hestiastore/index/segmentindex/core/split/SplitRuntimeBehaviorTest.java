@@ -33,6 +33,7 @@ import org.hestiastore.index.segment.SegmentId;
 import org.hestiastore.index.segmentindex.SegmentIndexState;
 import org.hestiastore.index.segmentindex.configuration.effective.EffectiveIndexConfiguration;
 import org.hestiastore.index.segmentindex.configuration.effective.EffectiveIndexMaintenanceConfiguration;
+import org.hestiastore.index.segmentindex.configuration.effective.EffectiveIndexWritePathConfiguration;
 import org.hestiastore.index.segmentindex.configuration.tuning.RuntimeTuningState;
 import org.hestiastore.index.segmentindex.core.SegmentIndexRuntimeState;
 import org.hestiastore.index.segmentindex.core.routing.MappedSegmentLease;
@@ -77,6 +78,9 @@ class SplitRuntimeBehaviorTest {
     @Mock
     private SplitTaskCoordinator<String, String> splitExecutionCoordinator;
 
+    @Mock
+    private MergeTaskCoordinator<String, String> mergeExecutionCoordinator;
+
     @Mock
     private BlockingSegment<String, String> segmentHandle;
 
@@ -89,6 +93,7 @@ class SplitRuntimeBehaviorTest {
         lenient().when(maintenance.busyTimeoutMillis()).thenReturn(50);
         lenient().when(maintenance.busyBackoffMillis()).thenReturn(1);
         lenient().when(maintenance.indexThreads()).thenReturn(1);
+        lenient().when(conf.writePath()).thenReturn(writePath(0));
         synchronizedKeyToSegmentMap = keyToSegmentMap;
     }
 
@@ -318,6 +323,43 @@ class SplitRuntimeBehaviorTest {
         runtimeUnderTest.close();
     }
 
+    @Test
+    void requestFullSplitScan_schedulesMergeOfAdjacentUnderfilledSegments() {
+        final SegmentId lowerSegmentId = SegmentId.of(12);
+        final SegmentId upperSegmentId = SegmentId.of(13);
+        final BlockingSegment.Runtime runtime = mock(BlockingSegment.Runtime.class);
+        when(conf.maintenance().backgroundAutoEnabled()).thenReturn(Boolean.TRUE);
+        when(conf.writePath()).thenReturn(writePath(8));
+        when(splitPolicyScheduler.schedule(any(Runnable.class), eq(250L),
+                eq(TimeUnit.MILLISECONDS)))
+                .thenReturn(mockScheduledFuture());
+        when(runtimeTuningState.segmentSplitKeyThreshold()).thenReturn(10);
+        when(keyToSegmentMap.getSegmentIds())
+                .thenReturn(List.of(lowerSegmentId, upperSegmentId));
+        when(segmentLeaseService.getLoadedMappedSegmentIds())
+                .thenReturn(List.of(lowerSegmentId, upperSegmentId));
+        when(segmentLeaseService.tryAcquireLoadedMappedSegment(any()))
+                .thenReturn(Optional.of(segmentLease));
+        when(segmentLease.segment()).thenReturn(segmentHandle);
+        when(segmentHandle.getRuntime()).thenReturn(runtime);
+        when(runtime.getNumberOfKeysInCache()).thenReturn(3L);
+        final ArgumentCaptor<SegmentMergePolicy.Candidate> candidate = ArgumentCaptor
+                .forClass(SegmentMergePolicy.Candidate.class);
+        final SplitRuntime<String, String> runtimeUnderTest = newRuntime(
+                directExecutor(), () -> SegmentIndexState.READY,
+                new SplitWorkerState());
+
+        runtimeUnderTest.requestFullSplitScan();
+
+        verify(mergeExecutionCoordinator).scheduleMerge(candidate.capture());
+        assertEquals(lowerSegmentId, candidate.getValue().lowerSegmentId());
+        assertEquals(upperSegmentId, candidate.getValue().upperSegmentId());
+        assertEquals(6L, candidate.getValue().combinedKeyCount());
+        verify(splitExecutionCoordinator, never()).scheduleEligibleSplit(any(),
+                anyLong(), anyLong());
+        runtimeUnderTest.close();
+    }
+
     @Test
     void closeIsIdempotent() {
         when(conf.maintenance().busyTimeoutMillis()).thenReturn(25);
@@ -462,6 +504,12 @@ class SplitRuntimeBehaviorTest {
         }
     }
 
+    private static EffectiveIndexWritePathConfiguration writePath(
+            final int segmentMergeKeyThreshold) {
+        return new EffectiveIndexWritePathConfiguration(1, 2, 2, 10,
+                segmentMergeKeyThreshold);
+    }
+
     private Executor directExecutor() {
         return Runnable::run;
     }
@@ -476,7 +524,8 @@ class SplitRuntimeBehaviorTest {
         return new SplitRuntime<>(splitExecutionCoordinator,
                 new SplitPolicyScheduler<>(conf, runtimeTuningState,
                         synchronizedKeyToSegmentMap, segmentLeaseService,
-                        splitExecutionCoordinator, workerExecutor,
+                        splitExecutionCoordinator, mergeExecutionCoordinator,
+                        workerExecutor,
                         splitPolicyScheduler, runtimeState, statsRecorder,
                         policyState,
                         new SplitCandidateQueue()),
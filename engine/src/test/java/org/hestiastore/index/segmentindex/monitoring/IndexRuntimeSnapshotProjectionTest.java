@@ -61,7 +61,7 @@ class IndexRuntimeSnapshotProjectionTest {
                         new SegmentRegistryCacheStats(11L, 12L, 13L, 14L, 2,
                                 9),
                         new ChunkStoreCacheStats(5, 2, 4L, 6L, 7L, 8L, 9L,
-                                10L),
+                                10L, 4096L, 1024L),
                         stableSegmentRuntime,
                         executorRegistry.executorRegistry().statsSnapshot(),
                         new SplitStats(3L, 2, 0, 0L, 0L), WalMonitoring.empty(),
@@ -75,6 +75,8 @@ class IndexRuntimeSnapshotProjectionTest {
         assertEquals(11L, snapshot.registryCache().hitCount());
         assertEquals(5, snapshot.chunkStoreCache().pageLimit());
         assertEquals(6L, snapshot.chunkStoreCache().hitCount());
+        assertEquals(4096L, snapshot.chunkStoreCache().byteLimit());
+        assertEquals(1024L, snapshot.chunkStoreCache().weightBytes());
         assertEquals(1, snapshot.segments().count());
         final SegmentIndexSegmentRuntimeMetrics segmentRuntime =
                 snapshot.segments().runtimeMetrics().get(0);
@@ -50,6 +50,94 @@ class SegmentRouteMapTest {
                 cache.snapshot().findSegmentIdForKey(31));
     }
 
+    @Test
+    void findSegmentIdForKeyUsesCeilingBoundary() {
+        final PersistentSegmentRouteMap<Integer> cache = newCacheWithEntries(List.of(
+                Entry.of(10, SegmentId.of(1)),
+                Entry.of(20, SegmentId.of(2)),
+                Entry.of(30, SegmentId.of(3))));
+
+        assertEquals(SegmentId.of(1), cache.findSegmentIdForKey(-5));
+        assertEquals(SegmentId.of(1), cache.findSegmentIdForKey(10));
+        assertEquals(SegmentId.of(2), cache.findSegmentIdForKey(11));
+        assertEquals(SegmentId.of(2), cache.findSegmentIdForKey(20));
+        assertEquals(SegmentId.of(3), cache.findSegmentIdForKey(30));
+        assertEquals(List.of(SegmentId.of(2)),
+                cache.getSegmentIds(SegmentWindow.of(1, 1)));
+        assertEquals(List.of(SegmentId.of(3)),
+                cache.getSegmentIds(SegmentWindow.ofOffset(2)));
+        assertEquals(List.of(), cache.getSegmentIds(SegmentWindow.ofOffset(5)));
+    }
+
+    @Test
+    void findSegmentIdForKeyOnEmptyMapReturnsNull() {
+        final PersistentSegmentRouteMap<Integer> cache = newCacheWithEntries(
+                List.of());
+
+        assertEquals(null, cache.findSegmentIdForKey(1));
+        assertEquals(List.of(), cache.snapshot().getSegmentIds(1, 5));
+    }
+
+    @Test
+    void lookupsStayRoutedWhileSplitsArePublished() throws Exception {
+        final PersistentSegmentRouteMap<Integer> cache = newCacheWithEntries(List.of(
+                Entry.of(1_000, SegmentId.of(0)),
+                Entry.of(2_000, SegmentId.of(99))));
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final var reader = executor.submit(() -> {
+                for (int i = 0; i < 20_000; i++) {
+                    final int key = i % 1_000;
+                    final RouteMapSnapshot<Integer> snapshot = cache
+                            .snapshot();
+                    assertEquals(snapshot.findSegmentIdForKey(key),
+                            snapshot.getSegmentIds(key, key + 1).get(0));
+                    assertTrue(cache.findSegmentIdForKey(key) != null);
+                }
+            });
+            final var writer = executor.submit(() -> {
+                int replaced = 0;
+                int nextId = 1;
+                for (int lower = 500; lower > 1; lower /= 2) {
+                    final int lowerId = nextId++;
+                    assertTrue(cache.tryReplaceRouteWithSplit(
+                            new RouteSplitPlan<>(SegmentId.of(replaced),
+                                    SegmentId.of(lowerId),
+                                    SegmentId.of(nextId++), lower, null)));
+                    replaced = lowerId;
+                }
+            });
+            writer.get(10, TimeUnit.SECONDS);
+            reader.get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void snapshotGetSegmentIdsForKeyRangePrunesNonOverlappingRoutes() {
+        final PersistentSegmentRouteMap<Integer> cache = newCacheWithEntries(List.of(
+                Entry.of(10, SegmentId.of(1)),
+                Entry.of(20, SegmentId.of(2)),
+                Entry.of(30, SegmentId.of(3)),
+                Entry.of(40, SegmentId.of(4))));
+        final RouteMapSnapshot<Integer> snapshot = cache.snapshot();
+
+        assertEquals(List.of(SegmentId.of(2), SegmentId.of(3)),
+                snapshot.getSegmentIds(15, 25));
+        assertEquals(List.of(SegmentId.of(2)), snapshot.getSegmentIds(11, 20));
+        assertEquals(List.of(SegmentId.of(3), SegmentId.of(4)),
+                snapshot.getSegmentIds(21, null));
+        assertEquals(List.of(SegmentId.of(1), SegmentId.of(2)),
+                snapshot.getSegmentIds(null, 12));
+        assertEquals(List.of(SegmentId.of(4)), snapshot.getSegmentIds(50, 60));
+        assertEquals(List.of(SegmentId.of(3), SegmentId.of(4)),
+                snapshot.getSegmentIds(25, 60));
+        assertEquals(cache.getSegmentIds(), snapshot.getSegmentIds(null, null));
+        assertEquals(List.of(), snapshot.getSegmentIds(25, 25));
+        assertEquals(List.of(), snapshot.getSegmentIds(30, 10));
+    }
+
     @Test
     void extendMaxKeyIfNeededDoesNotMutateNonEmptyTailBoundary() {
         final PersistentSegmentRouteMap<Integer> cache = newCacheWithEntries(
@@ -162,6 +250,68 @@ class SegmentRouteMapTest {
         assertTrue(cache.isAtVersion(before.version()));
     }
 
+    @Test
+    void tryReplaceRoutesWithMerge_replacesAdjacentRoutesWithMergedSegment() {
+        final PersistentSegmentRouteMap<Integer> cache = newCacheWithEntries(List.of(
+                Entry.of(10, SegmentId.of(1)),
+                Entry.of(20, SegmentId.of(2)),
+                Entry.of(30, SegmentId.of(3))));
+
+        assertTrue(cache.tryReplaceRoutesWithMerge(new RouteMergePlan<>(
+                SegmentId.of(1), SegmentId.of(2), SegmentId.of(4))));
+
+        assertEquals(List.of(SegmentId.of(4), SegmentId.of(3)),
+                cache.getSegmentIds());
+        assertEquals(SegmentId.of(4), cache.findSegmentIdForKey(5));
+        assertEquals(SegmentId.of(4), cache.findSegmentIdForKey(20));
+        assertEquals(SegmentId.of(3), cache.findSegmentIdForKey(21));
+    }
+
+    @Test
+    void tryReplaceRoutesWithMergeKeepsTailOpenEnded() {
+        final PersistentSegmentRouteMap<Integer> cache = newCacheWithEntries(List.of(
+                Entry.of(10, SegmentId.of(1)),
+                Entry.of(20, SegmentId.of(2))));
+
+        assertTrue(cache.tryReplaceRoutesWithMerge(new RouteMergePlan<>(
+                SegmentId.of(1), SegmentId.of(2), SegmentId.of(3))));
+
+        assertEquals(List.of(SegmentId.of(3)), cache.getSegmentIds());
+        assertEquals(SegmentId.of(3), cache.findSegmentIdForKey(50));
+    }
+
+    @Test
+    void tryReplaceRoutesWithMergeReturnsFalseWithoutMutationWhenRoutesNotAdjacent() {
+        final PersistentSegmentRouteMap<Integer> cache = newCacheWithEntries(List.of(
+                Entry.of(10, SegmentId.of(1)),
+                Entry.of(20, SegmentId.of(2)),
+                Entry.of(30, SegmentId.of(3))));
+        final RouteMapSnapshot<Integer> before = cache.snapshot();
+
+        assertFalse(cache.tryReplaceRoutesWithMerge(new RouteMergePlan<>(
+                SegmentId.of(1), SegmentId.of(3), SegmentId.of(4))));
+        assertFalse(cache.tryReplaceRoutesWithMerge(new RouteMergePlan<>(
+                SegmentId.of(2), SegmentId.of(1), SegmentId.of(4))));
+        assertFalse(cache.tryReplaceRoutesWithMerge(new RouteMergePlan<>(
+                SegmentId.of(3), SegmentId.of(9), SegmentId.of(4))));
+
+        assertEquals(before.getSegmentIds(SegmentWindow.unbounded()),
+                cache.getSegmentIds());
+        assertTrue(cache.isAtVersion(before.version()));
+    }
+
+    @Test
+    void tryReplaceRoutesWithMergeRejectsExistingMergedSegmentId() {
+        final PersistentSegmentRouteMap<Integer> cache = newCacheWithEntries(List.of(
+                Entry.of(10, SegmentId.of(1)),
+                Entry.of(20, SegmentId.of(2)),
+                Entry.of(30, SegmentId.of(3))));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> cache.tryReplaceRoutesWithMerge(new RouteMergePlan<>(
+                        SegmentId.of(1), SegmentId.of(2), SegmentId.of(3))));
+    }
+
     @Test
     void mapAppliesDirectMutations() {
         final PersistentSegmentRouteMap<Integer> adapter = newCacheWithEntries(
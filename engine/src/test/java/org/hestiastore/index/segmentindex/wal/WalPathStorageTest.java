@@ -3,6 +3,7 @@ package org.hestiastore.index.segmentindex.wal;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -58,6 +59,21 @@ class WalPathStorageTest {
         }
     }
 
+    @Test
+    void appendByteBufferWritesRemainingBytesToActiveChannel() {
+        try (WalPathStorage storage = new WalPathStorage(tempDir)) {
+            final ByteBuffer buffer = ByteBuffer.allocateDirect(8);
+            buffer.put(bytes("xyz"));
+            buffer.flip();
+            buffer.get();
+            storage.append("active.wal", bytes("a"), 0, 1);
+            storage.append("active.wal", buffer);
+
+            assertFalse(buffer.hasRemaining());
+            assertEquals("ayz", readString(storage, "active.wal"));
+        }
+    }
+
     private static byte[] bytes(final String value) {
         return value.getBytes(StandardCharsets.UTF_8);
     }
@@ -1,8 +1,11 @@
 package org.hestiastore.index.segmentindex.wal;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.nio.ByteBuffer;
+
 import org.hestiastore.index.IndexException;
 import org.hestiastore.index.datatype.TypeDescriptorString;
 import org.junit.jupiter.api.Test;
@@ -50,4 +53,37 @@ class WalRecordCodecTest {
 
         assertThrows(IndexException.class, () -> codec.decodeBody(body, 3L));
     }
+
+    @Test
+    void batchEncoderWritesSameBytesAsSingleRecordEncoding() {
+        final WalRecordCodec<String, String> codec = new WalRecordCodec<>(
+                STRING_DESCRIPTOR.getTypeEncoder(),
+                STRING_DESCRIPTOR.getTypeDecoder(),
+                STRING_DESCRIPTOR.getTypeEncoder(),
+                STRING_DESCRIPTOR.getTypeDecoder());
+        final WalRecordCodec<String, String>.BatchEncoder encoder = codec
+                .newBatchEncoder();
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(256);
+
+        final int putLength = encoder.stage(WalRuntime.Operation.PUT,
+                "longer-key", "value");
+        encoder.writeStaged(buffer, 1L);
+        final int deleteLength = encoder.stage(WalRuntime.Operation.DELETE,
+                "k", null);
+        encoder.writeStaged(buffer, 2L);
+
+        final byte[] put = codec.encodeRecord(WalRuntime.Operation.PUT, 1L,
+                "longer-key", "value");
+        final byte[] delete = codec.encodeRecord(WalRuntime.Operation.DELETE,
+                2L, "k", null);
+        assertEquals(put.length, putLength);
+        assertEquals(delete.length, deleteLength);
+        buffer.flip();
+        final byte[] written = new byte[buffer.remaining()];
+        buffer.get(written);
+        final byte[] expected = new byte[put.length + delete.length];
+        System.arraycopy(put, 0, expected, 0, put.length);
+        System.arraycopy(delete, 0, expected, put.length, delete.length);
+        assertArrayEquals(expected, written);
+    }
 }
@@ -17,6 +17,7 @@ import java.util.Map;
 import java.util.Random;
 import java.util.Set;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -36,6 +37,7 @@ import org.apache.logging.log4j.core.config.Configuration;
 import org.apache.logging.log4j.core.config.LoggerConfig;
 import org.apache.logging.log4j.core.config.Property;
 import org.apache.logging.log4j.core.layout.PatternLayout;
+import org.hestiastore.index.Entry;
 import org.hestiastore.index.IndexException;
 import org.hestiastore.index.bytes.ByteSequence;
 import org.hestiastore.index.bytes.ByteSequences;
@@ -192,6 +194,56 @@ class WalRuntimeTest {
         assertEquals("k2", replayed.get(1).getKey());
     }
 
+    @Test
+    void recoverReplaysSegmentBatchesInLsnOrderAndRecordsProgress() {
+        final MemDirectory root = new MemDirectory();
+        final IndexWalConfiguration wal = IndexWalConfiguration.builder()//
+                .segmentSizeBytes(128L)//
+                .build();
+        final List<Long> written = new ArrayList<>();
+        try (WalRuntime<String, String> runtime = WalRuntime.open(root,
+                effective(wal), STRING_DESCRIPTOR, STRING_DESCRIPTOR)) {
+            for (int i = 0; i < 40; i++) {
+                written.add(runtime.appendPut("k" + i, "v" + i));
+            }
+        }
+
+        final List<Long> replayed = new ArrayList<>();
+        final List<Executor> executors = new ArrayList<>();
+        try (WalRuntime<String, String> runtime = WalRuntime.open(root,
+                effective(wal), STRING_DESCRIPTOR, STRING_DESCRIPTOR)) {
+            final WalRuntime.RecoveryResult result = runtime
+                    .recover(new WalRuntime.ReplayConsumer<>() {
+                        @Override
+                        public void accept(
+                                final WalRuntime.ReplayRecord<String, String> replayRecord) {
+                            throw new AssertionError("expected batch replay");
+                        }
+
+                        @Override
+                        public void acceptBatch(
+                                final List<WalRuntime.ReplayRecord<String, String>> replayRecords,
+                                final Executor replayExecutor) {
+                            executors.add(replayExecutor);
+                            replayRecords.forEach(
+                                    record -> replayed.add(record.getLsn()));
+                        }
+                    });
+            final WalMonitoring stats = runtime.statsSnapshot();
+
+            assertFalse(result.truncatedTail());
+            assertEquals(written.get(written.size() - 1), result.maxLsn());
+            assertTrue(stats.recoverySegmentCount() > 1);
+            assertEquals(stats.recoverySegmentCount(),
+                    stats.recoveryDecodedSegmentCount());
+            assertEquals(40L, stats.recoveryReplayedRecordCount());
+            assertTrue(stats.recoveryNanos() > 0L);
+        }
+        assertEquals(written, replayed);
+        assertTrue(executors.size() > 1);
+        assertTrue(executors.stream().allMatch(executor -> executor != null));
+    }
+
     @Test
     void recoverFailFastThrowsWhenTailIsCorrupted() {
         final MemDirectory root = new MemDirectory();
@@ -353,6 +405,70 @@ class WalRuntimeTest {
         }
     }
 
+    @Test
+    void appendBatchWritesSameSegmentsAsSequentialAppends() {
+        final IndexWalConfiguration wal = IndexWalConfiguration.builder()//
+                .segmentSizeBytes(96L)//
+                .build();
+        final MemDirectory sequentialRoot = new MemDirectory();
+        final MemDirectory batchRoot = new MemDirectory();
+        final List<Entry<String, String>> entries = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            entries.add(Entry.of("k-" + i, i % 5 == 0 ? null : "v-" + i));
+        }
+        try (WalRuntime<String, String> runtime = WalRuntime.open(
+                sequentialRoot, effective(wal), STRING_DESCRIPTOR,
+                STRING_DESCRIPTOR)) {
+            runtime.appendPut("first", "value");
+            for (final Entry<String, String> entry : entries) {
+                if (entry.getValue() == null) {
+                    runtime.appendDelete(entry.getKey());
+                } else {
+                    runtime.appendPut(entry.getKey(), entry.getValue());
+                }
+            }
+            runtime.appendPut("last", "value");
+        }
+        try (WalRuntime<String, String> runtime = WalRuntime.open(batchRoot,
+                effective(wal), STRING_DESCRIPTOR, STRING_DESCRIPTOR)) {
+            assertEquals(1L, runtime.appendPut("first", "value"));
+            assertEquals(31L, runtime.appendBatch(entries));
+            assertEquals(0L, runtime.appendBatch(List.of()));
+            assertEquals(32L, runtime.appendPut("last", "value"));
+            assertEquals(32L, runtime.statsSnapshot().appendCount());
+        }
+
+        assertTrue(countWalSegments(batchRoot) > 1);
+        assertWalSnapshotsEqual(walSegmentSnapshot(sequentialRoot),
+                walSegmentSnapshot(batchRoot));
+    }
+
+    @Test
+    void appendBatchRecoversDeletesAndPuts() {
+        final MemDirectory root = new MemDirectory();
+        final IndexWalConfiguration wal = IndexWalConfiguration.builder()
+                .durability(WalDurabilityMode.SYNC).build();
+        try (WalRuntime<String, String> runtime = WalRuntime.open(root,
+                effective(wal), STRING_DESCRIPTOR, STRING_DESCRIPTOR)) {
+            assertEquals(3L, runtime.appendBatch(List.of(Entry.of("a", "1"),
+                    Entry.of("b", null), Entry.of("c", "3"))));
+            assertEquals(3L, runtime.durableLsn());
+        }
+
+        final List<WalRuntime.ReplayRecord<String, String>> replayed =
+                new ArrayList<>();
+        try (WalRuntime<String, String> runtime = WalRuntime.open(root,
+                effective(wal), STRING_DESCRIPTOR, STRING_DESCRIPTOR)) {
+            assertEquals(3L, runtime.recover(replayed::add).maxLsn());
+        }
+        assertEquals(3, replayed.size());
+        assertEquals(WalRuntime.Operation.PUT, replayed.get(0).getOperation());
+        assertEquals(WalRuntime.Operation.DELETE,
+                replayed.get(1).getOperation());
+        assertEquals("b", replayed.get(1).getKey());
+        assertEquals("3", replayed.get(2).getValue());
+    }
+
     @Test
     void checkpointCleanupIsIdempotentForRepeatedCheckpointLsn() {
         final MemDirectory root = new MemDirectory();
@@ -1955,6 +2071,9 @@ class WalRuntimeTest {
 
         @Override
         public byte[] readAll(final String fileName) {
+            if (failRead.test(fileName)) {
+                throw new IndexException("simulated read failure");
+            }
             return delegate.readAll(fileName);
         }
 
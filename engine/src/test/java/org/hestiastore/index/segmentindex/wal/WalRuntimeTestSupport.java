@@ -69,7 +69,8 @@ final class WalRuntimeTestSupport {
         final WalRuntime<K, V> runtime = new WalRuntime<>(monitor, metrics,
                 closed, storage, metadataCatalog, segmentCatalog, syncPolicy,
                 writer, recoveryManager, newGroupSyncExecutor(wal, syncPolicy),
-                "hestia-wal-runtime-test-wal-append");
+                "hestia-wal-runtime-test-wal-append",
+                "hestia-wal-runtime-test-wal-recovery");
         metadataCatalog.ensureFormatMarker();
         return runtime;
     }
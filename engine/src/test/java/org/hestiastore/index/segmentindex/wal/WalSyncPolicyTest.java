@@ -2,10 +2,19 @@ package org.hestiastore.index.segmentindex.wal;
 
 import static org.hestiastore.index.segmentindex.wal.WalRuntimeTestSupport.effective;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.hestiastore.index.directory.MemDirectory;
 import org.hestiastore.index.segmentindex.configuration.api.IndexWalConfiguration;
@@ -22,7 +31,7 @@ class WalSyncPolicyTest {
     private WalStorage storage;
 
     @Test
-    void syncModeFlushesPendingBytesImmediately() {
+    void syncModeDefersFsyncToDurabilityWaiter() {
         final IndexWalConfiguration wal = IndexWalConfiguration.builder()
                 .durability(WalDurabilityMode.SYNC)
                 .build();
@@ -42,6 +51,10 @@ class WalSyncPolicyTest {
                     .ensureActiveSegmentFor(1L, 16);
             syncPolicy.afterAppend(1L, 16, segment.name());
         }
+        assertEquals(0L, syncPolicy.durableLsn());
+        assertEquals(16L, syncPolicy.pendingSyncBytes());
+
+        syncPolicy.waitUntilDurable(1L);
 
         assertEquals(1L, syncPolicy.durableLsn());
         assertEquals(0L, syncPolicy.pendingSyncBytes());
@@ -66,10 +79,67 @@ class WalSyncPolicyTest {
         synchronized (monitor) {
             segment = segmentCatalog.ensureActiveSegmentFor(1L, 16);
             syncPolicy.afterAppend(1L, 16, segment.name());
+        }
+        syncPolicy.waitUntilDurable(1L);
+        synchronized (monitor) {
             syncPolicy.afterAppend(2L, 16, segment.name());
         }
+        syncPolicy.waitUntilDurable(2L);
 
         verify(storage, times(2)).sync(segment.name());
         verify(storage).syncMetadata();
     }
+
+    @Test
+    void groupCommitLeaderSyncsOutsideMonitorAndCoversFollowers()
+            throws Exception {
+        final IndexWalConfiguration wal = IndexWalConfiguration.builder()
+                .durability(WalDurabilityMode.SYNC)
+                .build();
+        final CountDownLatch syncStarted = new CountDownLatch(1);
+        final CountDownLatch releaseSync = new CountDownLatch(1);
+        final AtomicInteger syncCalls = new AtomicInteger();
+        doAnswer(invocation -> {
+            syncCalls.incrementAndGet();
+            syncStarted.countDown();
+            assertTrue(releaseSync.await(5, TimeUnit.SECONDS));
+            return null;
+        }).when(storage).sync(anyString());
+        final WalMetadataCatalog metadataCatalog = new WalMetadataCatalog(
+                storage);
+        final WalSegmentCatalog segmentCatalog = new WalSegmentCatalog(
+                effective(wal), storage, metadataCatalog);
+        final Object monitor = new Object();
+        final WalSyncPolicy syncPolicy = new WalSyncPolicy(effective(wal),
+                storage, new WalRuntimeMetrics(), monitor, segmentCatalog,
+                new AtomicBoolean(false));
+        final WalSegmentDescriptor segment;
+        synchronized (monitor) {
+            segment = segmentCatalog.ensureActiveSegmentFor(1L, 16);
+            syncPolicy.afterAppend(1L, 16, segment.name());
+        }
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final Future<?> leader = executor
+                    .submit(() -> syncPolicy.waitUntilDurable(1L));
+            assertTrue(syncStarted.await(5, TimeUnit.SECONDS));
+
+            synchronized (monitor) {
+                syncPolicy.afterAppend(2L, 16, segment.name());
+                syncPolicy.afterAppend(3L, 16, segment.name());
+            }
+            final Future<?> follower = executor
+                    .submit(() -> syncPolicy.waitUntilDurable(3L));
+            assertEquals(0L, syncPolicy.durableLsn());
+
+            releaseSync.countDown();
+            leader.get(5, TimeUnit.SECONDS);
+            follower.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(3L, syncPolicy.durableLsn());
+        assertEquals(2, syncCalls.get());
+    }
 }
@@ -16,7 +16,10 @@ class IndexConfigurationManifest {
     private Integer indexBufferedWriteKeyLimit;
     private Integer maxNumberOfKeysInSegmentChunk;
     private Integer maxNumberOfDeltaCacheFiles;
+    private Integer chunkRestartInterval;
+    private Boolean deltaCacheOnDisk;
     private Integer segmentSplitKeyThreshold;
+    private Integer segmentMergeKeyThreshold;
     private Integer maxNumberOfKeysInSegment;
     private Integer maxNumberOfSegmentsInCache;
     private Integer numberOfIndexMaintenanceThreads;
@@ -27,6 +30,9 @@ class IndexConfigurationManifest {
     private Integer bloomFilterNumberOfHashFunctions;
     private Integer bloomFilterIndexSizeInBytes;
     private Double bloomFilterProbabilityOfFalsePositive;
+    private Boolean bloomFilterBlocked;
+    private Boolean bloomFilterMemoryMapped;
+    private Boolean bloomFilterAutoSized;
     private Integer diskIoBufferSize;
     private Boolean contextLoggingEnabled;
     private WalManifest wal;
@@ -128,6 +134,22 @@ class IndexConfigurationManifest {
         this.maxNumberOfDeltaCacheFiles = maxNumberOfDeltaCacheFiles;
     }
 
+    public Integer getChunkRestartInterval() {
+        return chunkRestartInterval;
+    }
+
+    public void setChunkRestartInterval(final Integer chunkRestartInterval) {
+        this.chunkRestartInterval = chunkRestartInterval;
+    }
+
+    public Boolean getDeltaCacheOnDisk() {
+        return deltaCacheOnDisk;
+    }
+
+    public void setDeltaCacheOnDisk(final Boolean deltaCacheOnDisk) {
+        this.deltaCacheOnDisk = deltaCacheOnDisk;
+    }
+
     public Integer getSegmentSplitKeyThreshold() {
         return segmentSplitKeyThreshold;
     }
@@ -137,6 +159,15 @@ class IndexConfigurationManifest {
         this.segmentSplitKeyThreshold = segmentSplitKeyThreshold;
     }
 
+    public Integer getSegmentMergeKeyThreshold() {
+        return segmentMergeKeyThreshold;
+    }
+
+    public void setSegmentMergeKeyThreshold(
+            final Integer segmentMergeKeyThreshold) {
+        this.segmentMergeKeyThreshold = segmentMergeKeyThreshold;
+    }
+
     public Integer getMaxNumberOfKeysInSegment() {
         return maxNumberOfKeysInSegment;
     }
@@ -225,6 +256,31 @@ class IndexConfigurationManifest {
         this.bloomFilterProbabilityOfFalsePositive = bloomFilterProbabilityOfFalsePositive;
     }
 
+    public Boolean getBloomFilterBlocked() {
+        return bloomFilterBlocked;
+    }
+
+    public void setBloomFilterBlocked(final Boolean bloomFilterBlocked) {
+        this.bloomFilterBlocked = bloomFilterBlocked;
+    }
+
+    public Boolean getBloomFilterMemoryMapped() {
+        return bloomFilterMemoryMapped;
+    }
+
+    public void setBloomFilterMemoryMapped(
+            final Boolean bloomFilterMemoryMapped) {
+        this.bloomFilterMemoryMapped = bloomFilterMemoryMapped;
+    }
+
+    public Boolean getBloomFilterAutoSized() {
+        return bloomFilterAutoSized;
+    }
+
+    public void setBloomFilterAutoSized(final Boolean bloomFilterAutoSized) {
+        this.bloomFilterAutoSized = bloomFilterAutoSized;
+    }
+
     public Integer getDiskIoBufferSize() {
         return diskIoBufferSize;
     }
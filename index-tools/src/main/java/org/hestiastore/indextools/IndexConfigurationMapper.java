@@ -47,8 +47,12 @@ final class IndexConfigurationMapper {
                 segment.chunkKeyLimit());
         manifest.setMaxNumberOfDeltaCacheFiles(
                 segment.deltaCacheFileLimit());
+        manifest.setChunkRestartInterval(segment.chunkRestartInterval());
+        manifest.setDeltaCacheOnDisk(segment.deltaCacheOnDisk());
         manifest.setSegmentSplitKeyThreshold(
                 writePath.segmentSplitKeyThreshold());
+        manifest.setSegmentMergeKeyThreshold(
+                writePath.segmentMergeKeyThreshold());
         manifest.setMaxNumberOfKeysInSegment(
                 segment.maxKeys());
         manifest.setMaxNumberOfSegmentsInCache(
@@ -69,6 +73,9 @@ final class IndexConfigurationMapper {
                 bloomFilter.indexSizeBytes());
         manifest.setBloomFilterProbabilityOfFalsePositive(
                 bloomFilter.falsePositiveProbability());
+        manifest.setBloomFilterBlocked(bloomFilter.blocked());
+        manifest.setBloomFilterMemoryMapped(bloomFilter.memoryMapped());
+        manifest.setBloomFilterAutoSized(bloomFilter.autoSized());
         manifest.setDiskIoBufferSize(configuration.io().diskBufferSizeBytes());
         manifest.setContextLoggingEnabled(
                 configuration.logging().contextEnabled());
@@ -102,6 +109,9 @@ final class IndexConfigurationMapper {
                                 manifest.getMaxNumberOfKeysInSegmentChunk())
                         .deltaCacheFileLimit(
                                 manifest.getMaxNumberOfDeltaCacheFiles())
+                        .chunkRestartInterval(
+                                manifest.getChunkRestartInterval())
+                        .deltaCacheOnDisk(manifest.getDeltaCacheOnDisk())
                         .maxKeys(manifest.getMaxNumberOfKeysInSegment())
                         .cachedSegmentLimit(
                                 manifest.getMaxNumberOfSegmentsInCache()))
@@ -114,7 +124,9 @@ final class IndexConfigurationMapper {
                         .indexBufferedWriteKeyLimit(
                                 manifest.getIndexBufferedWriteKeyLimit())
                         .segmentSplitKeyThreshold(manifest
-                                .getSegmentSplitKeyThreshold()))
+                                .getSegmentSplitKeyThreshold())
+                        .segmentMergeKeyThreshold(manifest
+                                .getSegmentMergeKeyThreshold()))
                 .maintenance(maintenance -> maintenance
                         .indexThreads(
                                 manifest.getNumberOfIndexMaintenanceThreads())
@@ -130,7 +142,10 @@ final class IndexConfigurationMapper {
                         .indexSizeBytes(
                                 manifest.getBloomFilterIndexSizeInBytes())
                         .falsePositiveProbability(manifest
-                                .getBloomFilterProbabilityOfFalsePositive()))
+                                .getBloomFilterProbabilityOfFalsePositive())
+                        .blocked(manifest.getBloomFilterBlocked())
+                        .memoryMapped(manifest.getBloomFilterMemoryMapped())
+                        .autoSized(manifest.getBloomFilterAutoSized()))
                 .io(io -> io.diskBufferSizeBytes(manifest.getDiskIoBufferSize()))
                 .logging(logging -> logging
                         .contextEnabled(manifest.getContextLoggingEnabled()))
@@ -1075,11 +1075,11 @@ public class ConsoleBackendClient {
         return Math.max(0, value);
     }
 
-    private Map<String, Integer> parseConfigMap(final JsonNode node) {
+    private Map<String, Long> parseConfigMap(final JsonNode node) {
         if (node == null || !node.isObject()) {
             return Map.of();
         }
-        final Map<String, Integer> values = new LinkedHashMap<>();
+        final Map<String, Long> values = new LinkedHashMap<>();
         final TreeSet<String> sortedKeys = new TreeSet<>();
         node.fieldNames().forEachRemaining(sortedKeys::add);
         for (final String key : sortedKeys) {
@@ -1087,7 +1087,7 @@ public class ConsoleBackendClient {
             if (valueNode == null || !valueNode.isNumber()) {
                 continue;
             }
-            values.put(key, Integer.valueOf(valueNode.asInt()));
+            values.put(key, Long.valueOf(valueNode.asLong()));
         }
         return Map.copyOf(values);
     }
@@ -1778,7 +1778,7 @@ public class ConsoleBackendClient {
      * Runtime configuration snapshot shown in node detail editor.
      */
     public record RuntimeConfigView(String indexName,
-            Map<String, Integer> original, Map<String, Integer> current,
+            Map<String, Long> original, Map<String, Long> current,
             List<String> supportedKeys, long revision, String capturedAt) {
     }
 }
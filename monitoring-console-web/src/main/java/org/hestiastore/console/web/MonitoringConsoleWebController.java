@@ -342,8 +342,8 @@ public class MonitoringConsoleWebController {
         allKeys.addAll(configView.original().keySet());
         allKeys.addAll(configView.current().keySet());
         final List<RuntimeConfigRow> rows = allKeys.stream().map(key -> {
-            final Integer original = configView.original().get(key);
-            final Integer current = configView.current().get(key);
+            final Long original = configView.original().get(key);
+            final Long current = configView.current().get(key);
             final boolean editable = supportedKeys.contains(key);
             final boolean overridden = original != null && current != null
                     && !original.equals(current);
@@ -403,7 +403,7 @@ public class MonitoringConsoleWebController {
     /**
      * Runtime config row model for node detail table.
      */
-    public record RuntimeConfigRow(String key, Integer original, Integer current,
+    public record RuntimeConfigRow(String key, Long original, Long current,
             boolean editable, boolean overridden) {
 
         /**
@@ -15,8 +15,8 @@ import java.util.Objects;
 public class ConfigViewResponse {
 
     private String indexName;
-    private Map<String, Integer> original;
-    private Map<String, Integer> current;
+    private Map<String, Long> original;
+    private Map<String, Long> current;
     private List<String> supportedKeys;
     private long revision;
     private Instant capturedAt;
@@ -32,8 +32,8 @@ public class ConfigViewResponse {
      * Creates validated config view payload.
      */
     public ConfigViewResponse(final String indexName,
-            final Map<String, Integer> original,
-            final Map<String, Integer> current, final long revision,
+            final Map<String, Long> original,
+            final Map<String, Long> current, final long revision,
             final Instant capturedAt) {
         this(indexName, original, current, List.of(), revision, capturedAt);
     }
@@ -42,8 +42,8 @@ public class ConfigViewResponse {
      * Creates validated config view payload.
      */
     public ConfigViewResponse(final String indexName,
-            final Map<String, Integer> original,
-            final Map<String, Integer> current,
+            final Map<String, Long> original,
+            final Map<String, Long> current,
             final List<String> supportedKeys, final long revision,
             final Instant capturedAt) {
         setIndexName(indexName);
@@ -62,19 +62,19 @@ public class ConfigViewResponse {
         this.indexName = normalize(indexName, "indexName");
     }
 
-    public Map<String, Integer> getOriginal() {
+    public Map<String, Long> getOriginal() {
         return original;
     }
 
-    public void setOriginal(final Map<String, Integer> original) {
+    public void setOriginal(final Map<String, Long> original) {
         this.original = Map.copyOf(Objects.requireNonNull(original, "original"));
     }
 
-    public Map<String, Integer> getCurrent() {
+    public Map<String, Long> getCurrent() {
         return current;
     }
 
-    public void setCurrent(final Map<String, Integer> current) {
+    public void setCurrent(final Map<String, Long> current) {
         this.current = Map.copyOf(Objects.requireNonNull(current, "current"));
     }
 
@@ -112,12 +112,12 @@ public class ConfigViewResponse {
     }
 
     // Backward-compatible accessor style for existing call sites.
-    public Map<String, Integer> original() {
+    public Map<String, Long> original() {
         return original;
     }
 
     // Backward-compatible accessor style for existing call sites.
-    public Map<String, Integer> current() {
+    public Map<String, Long> current() {
         return current;
     }
 
@@ -116,7 +116,9 @@ public final class ManagementAgentServer
                     RuntimeTuningKey.SEGMENT_SPLIT_KEY_THRESHOLD,
                     "segmentSplitKeyThreshold",
                     RuntimeTuningKey.CHUNK_STORE_CACHE_PAGE_LIMIT,
-                    "chunkStoreCachePageLimit");
+                    "chunkStoreCachePageLimit",
+                    RuntimeTuningKey.CHUNK_STORE_CACHE_BYTE_LIMIT,
+                    "chunkStoreCacheByteLimit");
     private static final Map<String, RuntimeTuningKey> RUNTIME_FIELD_BY_API_NAME = buildRuntimeFieldByApiName();
     private static final List<String> SUPPORTED_RUNTIME_CONFIG_KEYS = API_NAME_BY_RUNTIME_FIELD
             .values().stream().sorted().toList();
@@ -1098,14 +1100,14 @@ public final class ManagementAgentServer
                 throw new ConfigKeyNotSupportedException("Config key '" + key
                         + "' is not supported for runtime tuning.");
             }
-            final int value;
+            final long value;
             try {
-                value = Integer.parseInt(entry.getValue().trim());
+                value = Long.parseLong(entry.getValue().trim());
             } catch (final NumberFormatException e) {
                 throw new IllegalArgumentException(
                         "Config key '" + key + "' requires integer value.");
             }
-            applyRuntimePatchValue(builder, runtimeField, value);
+            applyRuntimePatchValue(builder, runtimeField, key, value);
         }
         return builder.build();
     }
@@ -1116,25 +1118,37 @@ public final class ManagementAgentServer
 
     private static void applyRuntimePatchValue(
             final RuntimeTuningPatchBuilder builder,
-            final RuntimeTuningKey field, final int value) {
+            final RuntimeTuningKey field, final String key,
+            final long value) {
         switch (field) {
             case MAX_NUMBER_OF_SEGMENTS_IN_CACHE -> builder
-                    .cachedSegmentLimit(value);
+                    .cachedSegmentLimit(intValue(key, value));
             case MAX_NUMBER_OF_KEYS_IN_SEGMENT_CACHE -> builder
-                    .cacheKeyLimit(value);
+                    .cacheKeyLimit(intValue(key, value));
             case SEGMENT_WRITE_CACHE_KEY_LIMIT -> builder
-                    .segmentWriteCacheKeyLimit(value);
+                    .segmentWriteCacheKeyLimit(intValue(key, value));
             case SEGMENT_WRITE_CACHE_KEY_LIMIT_DURING_MAINTENANCE -> builder
-                    .segmentWriteCacheKeyLimitDuringMaintenance(value);
+                    .segmentWriteCacheKeyLimitDuringMaintenance(
+                            intValue(key, value));
             case INDEX_BUFFERED_WRITE_KEY_LIMIT -> builder
-                    .indexBufferedWriteKeyLimit(value);
+                    .indexBufferedWriteKeyLimit(intValue(key, value));
             case SEGMENT_SPLIT_KEY_THRESHOLD -> builder
-                    .segmentSplitKeyThreshold(value);
+                    .segmentSplitKeyThreshold(intValue(key, value));
             case CHUNK_STORE_CACHE_PAGE_LIMIT -> builder
-                    .chunkStoreCachePageLimit(value);
+                    .chunkStoreCachePageLimit(intValue(key, value));
+            case CHUNK_STORE_CACHE_BYTE_LIMIT -> builder
+                    .chunkStoreCacheByteLimit(value);
         }
     }
 
+    private static int intValue(final String key, final long value) {
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                    "Config key '" + key + "' requires integer value.");
+        }
+        return (int) value;
+    }
+
     private String formatValidationIssues(
             final RuntimeTuningValidation validation) {
         return validation.issues().stream().map(issue -> {
@@ -1183,18 +1197,18 @@ public final class ManagementAgentServer
         return Optional.empty();
     }
 
-    private static Map<String, Integer> toApiConfigMap(
+    private static Map<String, Long> toApiConfigMap(
             final RuntimeTuningSnapshot runtimeValues) {
-        final LinkedHashMap<String, Integer> values = new LinkedHashMap<>();
+        final LinkedHashMap<String, Long> values = new LinkedHashMap<>();
         for (final Map.Entry<RuntimeTuningKey, String> entry : API_NAME_BY_RUNTIME_FIELD
                 .entrySet()) {
             values.put(entry.getValue(),
-                    Integer.valueOf(value(runtimeValues, entry.getKey())));
+                    Long.valueOf(value(runtimeValues, entry.getKey())));
         }
         return Map.copyOf(values);
     }
 
-    private static int value(final RuntimeTuningSnapshot snapshot,
+    private static long value(final RuntimeTuningSnapshot snapshot,
             final RuntimeTuningKey field) {
         return switch (field) {
             case MAX_NUMBER_OF_SEGMENTS_IN_CACHE -> snapshot.segment()
@@ -1212,6 +1226,8 @@ public final class ManagementAgentServer
                     .segmentSplitKeyThreshold();
             case CHUNK_STORE_CACHE_PAGE_LIMIT -> snapshot.chunkStoreCache()
                     .pageLimit();
+            case CHUNK_STORE_CACHE_BYTE_LIMIT -> snapshot.chunkStoreCache()
+                    .byteLimit();
         };
     }
 
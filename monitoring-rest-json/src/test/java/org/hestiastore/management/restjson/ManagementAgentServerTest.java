@@ -379,6 +379,27 @@ class ManagementAgentServerTest {
                 .contains("segment.cachedSegmentLimit: value must be >= 3"));
     }
 
+    @Test
+    void configPatchAcceptsByteLimitAboveIntegerRange() throws Exception {
+        final HttpResponse<String> response = send("PATCH",
+                ManagementApiPaths.CONFIG + "?indexName=" + INDEX_1,
+                "{\"values\":{\"chunkStoreCacheByteLimit\":\"6442450944\"},\"dryRun\":true}");
+
+        assertEquals(204, response.statusCode());
+    }
+
+    @Test
+    void configPatchRejectsKeyLimitAboveIntegerRange() throws Exception {
+        final HttpResponse<String> response = send("PATCH",
+                ManagementApiPaths.CONFIG + "?indexName=" + INDEX_1,
+                "{\"values\":{\"chunkStoreCachePageLimit\":\"6442450944\"},\"dryRun\":true}");
+
+        assertEquals(400, response.statusCode());
+        final ErrorResponse payload = objectMapper.readValue(response.body(),
+                ErrorResponse.class);
+        assertEquals("INVALID_REQUEST", payload.code());
+    }
+
     @Test
     void actionRejectsOversizedBody() throws Exception {
         final String oversized = "x".repeat(1_100_000);